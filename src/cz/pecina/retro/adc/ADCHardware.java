@@ -102,15 +102,15 @@ public class ADCHardware implements IOElement {
 
   // connect to ports
   private void connect() {
-    Parameters.cpu.addIOInput(basePort, this);
-    Parameters.cpu.addIOOutput(basePort, this);
+    Parameters.getCPU().addIOInput(basePort, this);
+    Parameters.getCPU().addIOOutput(basePort, this);
     log.fine("Ports connected");
   }
 
   // disconnect from ports
   private void disconnect() {
-    Parameters.cpu.removeIOInput(basePort, this);
-    Parameters.cpu.removeIOOutput(basePort, this);
+    Parameters.getCPU().removeIOInput(basePort, this);
+    Parameters.getCPU().removeIOOutput(basePort, this);
     log.fine("Ports disconnected");
   }
 
@@ -0,0 +1,871 @@
+/* BatchJob.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.batch;
+
+import java.util.logging.Logger;
+
+import java.util.Locale;
+import java.util.List;
+import java.util.ArrayList;
+
+import java.util.function.LongSupplier;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.ParseException;
+
+import cz.pecina.retro.cpu.Hardware;
+
+import cz.pecina.retro.memory.Raw;
+import cz.pecina.retro.memory.IntelHEX;
+import cz.pecina.retro.memory.Snapshot;
+import cz.pecina.retro.memory.MemorySearch;
+
+import cz.pecina.retro.trec.Tape;
+import cz.pecina.retro.trec.TapeRecorderHardware;
+import cz.pecina.retro.trec.TapeRecorderInterface;
+import cz.pecina.retro.trec.XML;
+import cz.pecina.retro.trec.PMT;
+import cz.pecina.retro.trec.PMITAPE;
+import cz.pecina.retro.trec.SAM;
+import cz.pecina.retro.trec.PTP;
+import cz.pecina.retro.trec.PMD;
+import cz.pecina.retro.trec.PMDTAPE;
+import cz.pecina.retro.trec.WAV;
+
+import cz.pecina.retro.gui.FrameBuffer;
+import cz.pecina.retro.gui.FrameCapture;
+
+/**
+ * One job of a batch.  The job is specified by a list of options,
+ * similar to the command line options of the emulators:
+ * <pre>
+ * -n,--name NAME                 name of the job
+ * -s,--snapshot FILE             read a snapshot
+ * -b,--binary FILE,ADDR          read binary data
+ * -h,--intel-hex FILE            read Intel HEX file
+ * -a,--address ADDR              set program counter
+ * -t,--tape FILE                 insert a tape and start replay
+ * -c,--cycles N                  stop after N clock cycles
+ * -P,--stop-pc ADDR              stop when PC reaches ADDR
+ * -M,--stop-memory ADDR,VALUE    stop when (ADDR) equals VALUE
+ * -Y,--stop-screen HASH          stop when the screen hash is HASH
+ * -H,--screen-hashes FILE,N      check every N-th frame's screen hash
+ * -R,--record-hashes FILE,N      write every N-th frame's screen hash
+ * -d,--dump FILE,ADDR,LENGTH     dump memory to a binary file
+ * -f,--find BYTES,FILE           list addresses of a byte pattern
+ * -D,--diff FILE,ADDR,OUTPUT     list differences from a binary file
+ * -C,--changes FILE              list bytes changed during the job
+ * -i,--screenshot FILE           write a screenshot
+ * -r,--record FILE,N             record every N-th frame
+ * -T,--write-tape FILE           record and write the tape
+ * -w,--write-snapshot FILE       write a snapshot
+ * </pre>
+ * Addresses, values and lengths are in hex, the number of cycles
+ * is decimal.  At least one of the stop conditions must be given.
+ * If a PC, memory or screen condition is given without the number
+ * of cycles, the job times out after {@code DEFAULT_CYCLES} cycles.
+ * The pattern searched for consists of pairs of hex digits, {@code ??}
+ * matches any byte.  Lists are written as text files, one address per
+ * line; differences and changes are followed by the old and the new
+ * value.
+ * Frames are recorded as numbered PNG files, or as a raw 24-bit RGB
+ * stream if the file name ends with {@code .rgb}; see
+ * {@link FrameCapture}.  One frame is one timer period.
+ * Screen hashes are hashes of the logical screen contents, in the
+ * format described in {@link ScreenOracle}; the job fails as soon as
+ * a checked hash differs from the expected one, or, after writing
+ * its files, if the expected sequence has not been exhausted at
+ * the end of the job.
+ * Screen and memory conditions and the number of cycles are checked
+ * at the end of each timer period, PC conditions after every
+ * instruction.
+ * <p>
+ * The tape format is determined by the file extension.
+ * <p>
+ * In a batch file, the options are separated by white space.
+ * An argument containing white space must be enclosed in double
+ * quotes; within or outside quotes, a backslash followed by
+ * a double quote, a backslash or white space stands for that
+ * character, any other backslash is taken literally.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class BatchJob {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(BatchJob.class.getName());
+
+  // job options
+  private static final Options options = new Options();
+  static {
+    options.addOption(
+      Option.builder("n")
+      .longOpt("name")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("s")
+      .longOpt("snapshot")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("b")
+      .longOpt("binary")
+      .hasArgs()
+      .numberOfArgs(2)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("h")
+      .longOpt("intel-hex")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("a")
+      .longOpt("address")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("t")
+      .longOpt("tape")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("c")
+      .longOpt("cycles")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("P")
+      .longOpt("stop-pc")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("M")
+      .longOpt("stop-memory")
+      .hasArgs()
+      .numberOfArgs(2)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("Y")
+      .longOpt("stop-screen")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("H")
+      .longOpt("screen-hashes")
+      .hasArgs()
+      .numberOfArgs(2)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("R")
+      .longOpt("record-hashes")
+      .hasArgs()
+      .numberOfArgs(2)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("d")
+      .longOpt("dump")
+      .hasArgs()
+      .numberOfArgs(3)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("f")
+      .longOpt("find")
+      .hasArgs()
+      .numberOfArgs(2)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("D")
+      .longOpt("diff")
+      .hasArgs()
+      .numberOfArgs(3)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("C")
+      .longOpt("changes")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("i")
+      .longOpt("screenshot")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("r")
+      .longOpt("record")
+      .hasArgs()
+      .numberOfArgs(2)
+      .valueSeparator(',')
+      .build());
+    options.addOption(
+      Option.builder("T")
+      .longOpt("write-tape")
+      .hasArg()
+      .build());
+    options.addOption(
+      Option.builder("w")
+      .longOpt("write-snapshot")
+      .hasArg()
+      .build());
+  }
+
+  /**
+   * Number of clock cycles after which a job with a stop condition
+   * times out if not specified otherwise.
+   */
+  public static final long DEFAULT_CYCLES = 1_000_000_000L;
+
+  // name of the job
+  private String name;
+
+  // files to be read
+  private File snapshotFile, binaryFile, hexFile, tapeFile;
+
+  // binary data destination address
+  private int binaryAddress;
+
+  // initial program counter, -1 if not set
+  private int startAddress = -1;
+
+  // maximum number of clock cycles, -1 if not set
+  private long cycles = -1;
+
+  // stop address, -1 if not set
+  private int stopAddress = -1;
+
+  // memory condition, stopMemoryAddress is -1 if not set
+  private int stopMemoryAddress = -1, stopMemoryValue;
+
+  // true if the screen condition is set
+  private boolean stopScreen;
+
+  // the screen condition
+  private long stopScreenHash;
+
+  // file with the expected screen hashes
+  private File screenHashesFile;
+
+  // file the screen hashes are written to
+  private File recordHashesFile;
+
+  // checking and recording intervals of screen hashes in frames
+  private int screenHashesInterval, recordHashesInterval;
+
+  // the screen oracles, while running
+  private ScreenOracle checkOracle, recordOracle;
+
+  // files to be written
+  private File dumpFile, screenShotFile, writeTapeFile, writeSnapshotFile;
+
+  // memory dump range
+  private int dumpAddress, dumpLength;
+
+  // pattern searched for
+  private MemorySearch.Pattern findPattern;
+
+  // files with the results of memory searches
+  private File findFile, diffFile, diffOutputFile, changesFile;
+
+  // address the diff file is compared at
+  private int diffAddress;
+
+  // memory at the start of the job, if changes are listed
+  private byte[] mark;
+
+  // file the frames are recorded to
+  private File recordFile;
+
+  // recording interval in frames
+  private int recordInterval;
+
+  // the frame capture, while recording
+  private FrameCapture capture;
+
+  // parses a positive number of frames
+  private static int parseInterval(final String value) {
+    final int n = Integer.parseInt(value);
+    if (n <= 0) {
+      throw new IllegalArgumentException("Interval must be positive");
+    }
+    return n;
+  }
+
+  // parses a 16-bit hex number
+  private static int parseHex(final String value, final int limit) {
+    final int n = Integer.parseInt(value, 16);
+    if ((n < 0) || (n >= limit)) {
+      throw new IllegalArgumentException("Value out of range: " + value);
+    }
+    return n;
+  }
+
+  /**
+   * Splits a line of a batch file into arguments, as described
+   * above.
+   *
+   * @param  line the line
+   * @return      the arguments
+   * @throws IllegalArgumentException if a quote is not closed
+   */
+  public static String[] split(final String line) {
+    final List<String> arguments = new ArrayList<>();
+    final StringBuilder argument = new StringBuilder();
+    boolean inArgument = false;
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      final char c = line.charAt(i);
+      if ((c == '\\') && ((i + 1) < line.length())) {
+	final char next = line.charAt(i + 1);
+	if ((next == '"') || (next == '\\') ||
+	    Character.isWhitespace(next)) {
+	  argument.append(next);
+	  inArgument = true;
+	  i++;
+	  continue;
+	}
+      }
+      if (c == '"') {
+	quoted = !quoted;
+	inArgument = true;
+      } else if (!quoted && Character.isWhitespace(c)) {
+	if (inArgument) {
+	  arguments.add(argument.toString());
+	  argument.setLength(0);
+	  inArgument = false;
+	}
+      } else {
+	argument.append(c);
+	inArgument = true;
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("Unterminated quote");
+    }
+    if (inArgument) {
+      arguments.add(argument.toString());
+    }
+    return arguments.toArray(new String[arguments.size()]);
+  }
+
+  /**
+   * Creates a job from its specification.
+   *
+   * @param defaultName the name of the job if not specified
+   * @param arguments   the job options
+   * @throws IllegalArgumentException if the specification is invalid
+   */
+  public BatchJob(final String defaultName, final String[] arguments) {
+    log.fine("New BatchJob creation started: " + defaultName);
+    final CommandLineParser parser = new DefaultParser();
+    final CommandLine line;
+    try {
+      line = parser.parse(options, arguments);
+    } catch (final ParseException exception) {
+      throw new IllegalArgumentException(exception.getMessage());
+    }
+    if (!line.getArgList().isEmpty()) {
+      throw new IllegalArgumentException(
+        "Unexpected argument: " + line.getArgList().get(0));
+    }
+    name = line.getOptionValue("n", defaultName);
+    if (line.hasOption("s")) {
+      snapshotFile = new File(line.getOptionValue("s"));
+    }
+    if (line.hasOption("b")) {
+      final String[] values = line.getOptionValues("b");
+      binaryFile = new File(values[0]);
+      binaryAddress = parseHex(values[1], 0x10000);
+    }
+    if (line.hasOption("h")) {
+      hexFile = new File(line.getOptionValue("h"));
+    }
+    if (line.hasOption("a")) {
+      startAddress = parseHex(line.getOptionValue("a"), 0x10000);
+    }
+    if (line.hasOption("t")) {
+      tapeFile = new File(line.getOptionValue("t"));
+    }
+    if (line.hasOption("c")) {
+      cycles = Long.parseLong(line.getOptionValue("c"));
+      if (cycles <= 0) {
+	throw new IllegalArgumentException(
+	  "Number of cycles must be positive");
+      }
+    }
+    if (line.hasOption("P")) {
+      stopAddress = parseHex(line.getOptionValue("P"), 0x10000);
+    }
+    if (line.hasOption("M")) {
+      final String[] values = line.getOptionValues("M");
+      stopMemoryAddress = parseHex(values[0], 0x10000);
+      stopMemoryValue = parseHex(values[1], 0x100);
+    }
+    if (line.hasOption("Y")) {
+      stopScreen = true;
+      stopScreenHash = ScreenOracle.parse(line.getOptionValue("Y"));
+    }
+    if (line.hasOption("H")) {
+      final String[] values = line.getOptionValues("H");
+      screenHashesFile = new File(values[0]);
+      screenHashesInterval = parseInterval(values[1]);
+    }
+    if (line.hasOption("R")) {
+      final String[] values = line.getOptionValues("R");
+      recordHashesFile = new File(values[0]);
+      recordHashesInterval = parseInterval(values[1]);
+    }
+    if (line.hasOption("d")) {
+      final String[] values = line.getOptionValues("d");
+      dumpFile = new File(values[0]);
+      dumpAddress = parseHex(values[1], 0x10000);
+      dumpLength = parseHex(values[2], 0x10001);
+    }
+    if (line.hasOption("f")) {
+      final String[] values = line.getOptionValues("f");
+      findPattern = new MemorySearch.Pattern(values[0]);
+      findFile = new File(values[1]);
+    }
+    if (line.hasOption("D")) {
+      final String[] values = line.getOptionValues("D");
+      diffFile = new File(values[0]);
+      diffAddress = parseHex(values[1], 0x10000);
+      diffOutputFile = new File(values[2]);
+    }
+    if (line.hasOption("C")) {
+      changesFile = new File(line.getOptionValue("C"));
+    }
+    if (line.hasOption("i")) {
+      screenShotFile = new File(line.getOptionValue("i"));
+    }
+    if (line.hasOption("r")) {
+      final String[] values = line.getOptionValues("r");
+      recordFile = new File(values[0]);
+      recordInterval = parseInterval(values[1]);
+    }
+    if (line.hasOption("T")) {
+      writeTapeFile = new File(line.getOptionValue("T"));
+    }
+    if (line.hasOption("w")) {
+      writeSnapshotFile = new File(line.getOptionValue("w"));
+    }
+    if (cycles == -1) {
+      if (!hasCondition()) {
+	throw new IllegalArgumentException("No stop condition specified");
+      }
+      cycles = DEFAULT_CYCLES;
+    }
+    log.fine("New BatchJob created: " + name);
+  }
+
+  /**
+   * Gets the name of the job.
+   *
+   * @return the name of the job
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the maximum number of clock cycles.
+   *
+   * @return the maximum number of clock cycles
+   */
+  public long getCycles() {
+    return cycles;
+  }
+
+  /**
+   * Checks whether a PC, memory or screen stop condition is set.
+   *
+   * @return {@code true} if a stop condition is set
+   */
+  public boolean hasCondition() {
+    return (stopAddress != -1) || (stopMemoryAddress != -1) || stopScreen;
+  }
+
+  /**
+   * Gets the stop address.
+   *
+   * @return the stop address, or -1 if not set
+   */
+  public int getStopAddress() {
+    return stopAddress;
+  }
+
+  /**
+   * Gets the address of the memory condition.
+   *
+   * @return the address, or -1 if not set
+   */
+  public int getStopMemoryAddress() {
+    return stopMemoryAddress;
+  }
+
+  /**
+   * Gets the value of the memory condition.
+   *
+   * @return the value
+   */
+  public int getStopMemoryValue() {
+    return stopMemoryValue;
+  }
+
+  /**
+   * Loads the initial state into the machine.
+   *
+   * @param machine the machine
+   */
+  public void load(final BatchMachine machine) {
+    log.fine("Loading job: " + name);
+    final Hardware hardware = machine.getHardware();
+    if (snapshotFile != null) {
+
+      // snapshots are not validated, malformed files still fail
+      // when parsed
+      final Snapshot snapshot = new Snapshot(hardware);
+      snapshot.setValidating(false);
+      snapshot.read(snapshotFile);
+    }
+    if (binaryFile != null) {
+      new Raw(hardware, machine.getMemoryBank(), machine.getMemoryBank())
+	.read(binaryFile, binaryAddress);
+    }
+    if (hexFile != null) {
+      new IntelHEX(hardware, machine.getMemoryBank(), machine.getMemoryBank())
+	.read(hexFile);
+    }
+    if (startAddress != -1) {
+      machine.getCPU().setPC(startAddress);
+    }
+    final TapeRecorderHardware tapeRecorderHardware =
+      machine.getTapeRecorderHardware();
+    if (tapeFile != null) {
+      readTape(tapeRecorderHardware, tapeFile);
+      tapeRecorderHardware.resetTape();
+      tapeRecorderHardware.play();
+    } else if (writeTapeFile != null) {
+      tapeRecorderHardware.record();
+    }
+    if (changesFile != null) {
+      mark = getMemorySearch(machine).mark();
+    }
+    if (recordFile != null) {
+      final FrameBuffer frameBuffer = machine.getFrameBuffer();
+      if (frameBuffer == null) {
+	throw new IllegalArgumentException("Recording not supported");
+      }
+      capture = new FrameCapture(recordFile,
+				 recordInterval,
+				 frameBuffer.getFrameWidth(),
+				 frameBuffer.getFrameHeight());
+      frameBuffer.setCapture(capture);
+    }
+    if ((screenHashesFile != null) || stopScreen) {
+      checkOracle = new ScreenOracle(
+        (screenHashesFile == null) ? 1 : screenHashesInterval);
+      if (screenHashesFile != null) {
+	checkOracle.setExpected(ScreenOracle.read(screenHashesFile));
+      }
+      if (stopScreen) {
+	checkOracle.setStopHash(stopScreenHash);
+      }
+    }
+    if (recordHashesFile != null) {
+      recordOracle = new ScreenOracle(recordHashesInterval);
+      recordOracle.setRecording(true);
+    }
+  }
+
+  /**
+   * Checks the screen at the end of a frame.
+   *
+   * @param  machine the machine
+   * @return         {@code true} if the screen condition is met
+   * @throws IllegalStateException if a screen hash differs from
+   *                               the expected one
+   */
+  public boolean frame(final BatchMachine machine) {
+    if ((checkOracle == null) && (recordOracle == null)) {
+      return false;
+    }
+    final LongSupplier screen = new LongSupplier() {
+	  @Override
+	  public long getAsLong() {
+	    return machine.getScreenHash();
+	  }
+	};
+    if (recordOracle != null) {
+      recordOracle.frame(screen);
+    }
+    return (checkOracle != null) &&
+      (checkOracle.frame(screen) == ScreenOracle.State.FOUND);
+  }
+
+  /**
+   * Saves the final state of the machine.
+   *
+   * @param machine the machine
+   */
+  public void save(final BatchMachine machine) {
+    log.fine("Saving job: " + name);
+    final Hardware hardware = machine.getHardware();
+    if (capture != null) {
+      machine.getFrameBuffer().setCapture(null);
+      final FrameCapture capture = this.capture;
+      this.capture = null;
+      capture.close();
+    }
+    if (recordOracle != null) {
+      ScreenOracle.write(recordHashesFile, recordOracle.getRecorded());
+      recordOracle = null;
+    }
+    if (dumpFile != null) {
+      new Raw(hardware, machine.getMemoryBank(), machine.getMemoryBank())
+	.write(dumpFile, dumpAddress, dumpLength);
+    }
+    if (findFile != null) {
+      final MemorySearch memorySearch = getMemorySearch(machine);
+      writeAddresses(findFile,
+		     memorySearch.find(0, 0xffff, findPattern),
+		     null,
+		     null);
+    }
+    if (diffFile != null) {
+      writeDiff(getMemorySearch(machine));
+    }
+    if (changesFile != null) {
+      final MemorySearch memorySearch = getMemorySearch(machine);
+      writeAddresses(changesFile,
+		     memorySearch.changes(mark,
+					  0,
+					  0xffff,
+					  MemorySearch.Relation.CHANGED),
+		     mark,
+		     memorySearch.mark());
+    }
+    if (screenShotFile != null) {
+      machine.writeScreenShot(screenShotFile);
+    }
+    if (writeTapeFile != null) {
+      machine.getTapeRecorderHardware().stop();
+      writeTape(machine.getTapeRecorderHardware(), writeTapeFile);
+    }
+    if (writeSnapshotFile != null) {
+      new Snapshot(hardware).write(writeSnapshotFile);
+    }
+
+    // reported last, so that the other files are written for
+    // the failed job too
+    if (checkOracle != null) {
+      final boolean complete = checkOracle.isComplete();
+      checkOracle = null;
+      if (!complete) {
+	throw new IllegalStateException("Screen hash sequence incomplete");
+      }
+    }
+  }
+
+  /**
+   * Releases the resources held by the job.  Called after the job,
+   * whether it succeeded or failed; errors are only logged, so that
+   * they do not mask the original failure.
+   *
+   * @param machine the machine
+   */
+  public void close(final BatchMachine machine) {
+    if (capture != null) {
+      log.fine("Closing frame capture of job: " + name);
+      machine.getFrameBuffer().setCapture(null);
+      try {
+	capture.close();
+      } catch (final RuntimeException exception) {
+	log.fine("Error closing frame capture, exception: " +
+		 exception.getMessage());
+      }
+      capture = null;
+    }
+  }
+
+  // creates a search engine for the memory bank
+  private static MemorySearch getMemorySearch(final BatchMachine machine) {
+    return new MemorySearch(machine.getHardware(),
+			    machine.getMemoryBank(),
+			    machine.getMemoryBank());
+  }
+
+  // compares the memory with the diff file and writes the differences
+  private void writeDiff(final MemorySearch memorySearch) {
+    final byte[] data;
+    try {
+      data = Files.readAllBytes(diffFile.toPath());
+    } catch (final IOException exception) {
+      throw new IllegalArgumentException("Error reading file: " + diffFile);
+    }
+    final byte[] memory = memorySearch.mark();
+    if ((data.length == 0) || (data.length > memory.length)) {
+      throw new IllegalArgumentException("Wrong size: " + diffFile);
+    }
+
+    // the file is compared as a mark of the memory with the range
+    // replaced by its contents
+    final byte[] reference = memory.clone();
+    for (int i = 0; i < data.length; i++) {
+      reference[(diffAddress + i) % reference.length] = data[i];
+    }
+    writeAddresses(diffOutputFile,
+		   memorySearch.changes(reference,
+					diffAddress,
+					diffAddress + data.length - 1,
+					MemorySearch.Relation.CHANGED),
+		   reference,
+		   memory);
+  }
+
+  // writes a list of addresses, optionally with the old and the new
+  // values
+  private static void writeAddresses(final File file,
+				     final int[] addresses,
+				     final byte[] oldMemory,
+				     final byte[] newMemory) {
+    final List<String> lines = new ArrayList<>();
+    for (int address: addresses) {
+      if (oldMemory == null) {
+	lines.add(String.format("%04x", address));
+      } else {
+	lines.add(String.format("%04x %02x %02x",
+				address,
+				oldMemory[address] & 0xff,
+				newMemory[address] & 0xff));
+      }
+    }
+    try {
+      Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    } catch (final IOException exception) {
+      throw new IllegalArgumentException("Error writing file: " + file);
+    }
+  }
+
+  // gets the tape format from the file extension
+  private static String getTapeFormat(final File file) {
+    final String fileName = file.getName();
+    final String format =
+      fileName.substring(fileName.lastIndexOf('.') + 1)
+      .toUpperCase(Locale.ROOT);
+    if (!TapeRecorderInterface.tapeFormats.contains(format)) {
+      throw new IllegalArgumentException("Unsupported tape format: " + file);
+    }
+    return format;
+  }
+
+  // reads the tape
+  private static void readTape(final TapeRecorderHardware hardware,
+			       final File file) {
+    final Tape tape = hardware.getTape();
+    final TapeRecorderInterface tapeRecorderInterface =
+      hardware.getTapeRecorderInterface();
+    switch (getTapeFormat(file)) {
+      case "XML":
+	new XML(tape, tapeRecorderInterface).read(file);
+	break;
+      case "PMT":
+	new PMT(tape, tapeRecorderInterface).read(file);
+	break;
+      case "PMITAPE":
+	new PMITAPE(tape, tapeRecorderInterface).read(file);
+	break;
+      case "SAM":
+	new SAM(tape, tapeRecorderInterface).read(file);
+	break;
+      case "PTP":
+	new PTP(tape, tapeRecorderInterface).read(file);
+	break;
+      case "PMD":
+	new PMD(tape, tapeRecorderInterface).read(file);
+	break;
+      case "PMDTAPE":
+	new PMDTAPE(tape, tapeRecorderInterface).read(file);
+	break;
+      default:
+	new WAV(tape, tapeRecorderInterface).read(file);
+	break;
+    }
+  }
+
+  // writes the tape
+  private static void writeTape(final TapeRecorderHardware hardware,
+				final File file) {
+    final Tape tape = hardware.getTape();
+    final TapeRecorderInterface tapeRecorderInterface =
+      hardware.getTapeRecorderInterface();
+    switch (getTapeFormat(file)) {
+      case "XML":
+	new XML(tape, tapeRecorderInterface).write(file);
+	break;
+      case "PMT":
+	new PMT(tape, tapeRecorderInterface).write(file);
+	break;
+      case "PMITAPE":
+	new PMITAPE(tape, tapeRecorderInterface).write(file);
+	break;
+      case "SAM":
+	new SAM(tape, tapeRecorderInterface).write(file);
+	break;
+      case "PTP":
+	new PTP(tape, tapeRecorderInterface).write(file);
+	break;
+      case "PMD":
+	new PMD(tape, tapeRecorderInterface).write(file);
+	break;
+      case "PMDTAPE":
+	new PMDTAPE(tape, tapeRecorderInterface).write(file);
+	break;
+      default:
+	new WAV(tape, tapeRecorderInterface).write(file);
+	break;
+    }
+  }
+
+  // for description see Object
+  @Override
+  public String toString() {
+    return "BatchJob(" + name + ")";
+  }
+}
@@ -0,0 +1,103 @@
+/* BatchMachine.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.batch;
+
+import java.io.File;
+
+import cz.pecina.retro.cpu.Hardware;
+import cz.pecina.retro.cpu.Processor;
+import cz.pecina.retro.cpu.Breakpoints;
+
+import cz.pecina.retro.trec.TapeRecorderHardware;
+
+import cz.pecina.retro.gui.FrameBuffer;
+
+/**
+ * Emulated machine without any user interface, as driven by
+ * the {@link BatchRunner}.  The machine must be created in the
+ * machine context it is going to run in.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public interface BatchMachine {
+
+  /**
+   * Gets the general hardware.
+   *
+   * @return the general hardware object
+   */
+  public abstract Hardware getHardware();
+
+  /**
+   * Gets the CPU.
+   *
+   * @return the CPU
+   */
+  public abstract Processor getCPU();
+
+  /**
+   * Gets the tape recorder hardware.
+   *
+   * @return the tape recorder hardware object
+   */
+  public abstract TapeRecorderHardware getTapeRecorderHardware();
+
+  /**
+   * Gets the name of the memory bank used for loading and dumping
+   * binary data.
+   *
+   * @return the name of the memory bank
+   */
+  public abstract String getMemoryBank();
+
+  /**
+   * Runs the machine for one timer period, as fast as possible.
+   * The end of the period is the frame boundary of the framebuffer,
+   * if any.
+   *
+   * @param breakpoints set of breakpoints (may be {@code null});
+   *                    the execution stops as soon as the program
+   *                    counter reaches one of them
+   */
+  public abstract void exec(Breakpoints breakpoints);
+
+  /**
+   * Writes a screenshot to a PNG file.
+   *
+   * @param file output file
+   */
+  public abstract void writeScreenShot(File file);
+
+  /**
+   * Gets the framebuffer of the display.
+   *
+   * @return the framebuffer, or {@code null} if the machine has none
+   */
+  public abstract FrameBuffer getFrameBuffer();
+
+  /**
+   * Gets the hash of the logical screen.
+   *
+   * @return the 64-bit hash of the screen contents
+   */
+  public abstract long getScreenHash();
+}
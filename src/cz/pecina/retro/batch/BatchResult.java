@@ -0,0 +1,184 @@
+/* BatchResult.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.batch;
+
+/**
+ * Result of one batch job.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class BatchResult {
+
+  /**
+   * Reasons for the termination of a job.
+   */
+  public enum Status {
+
+    /**
+     * The program counter reached the stop address.
+     */
+    PC,
+
+    /**
+     * The memory condition was met.
+     */
+    MEMORY,
+
+    /**
+     * The stop hash appeared on the screen.
+     */
+    SCREEN,
+
+    /**
+     * The number of cycles was reached, with no stop condition set.
+     */
+    CYCLES,
+
+    /**
+     * The number of cycles was reached before the stop condition was met.
+     */
+    TIMEOUT,
+
+    /**
+     * The job failed.
+     */
+    ERROR
+  };
+
+  // name of the job
+  private final String name;
+
+  // the status
+  private final Status status;
+
+  // number of clock cycles executed
+  private final long cycles;
+
+  // final program counter
+  private final int pc;
+
+  // error message
+  private final String message;
+
+  /**
+   * Creates a result of a completed job.
+   *
+   * @param name   name of the job
+   * @param status the status
+   * @param cycles number of clock cycles executed
+   * @param pc     final program counter
+   */
+  public BatchResult(final String name,
+		     final Status status,
+		     final long cycles,
+		     final int pc) {
+    assert status != Status.ERROR;
+    this.name = name;
+    this.status = status;
+    this.cycles = cycles;
+    this.pc = pc;
+    this.message = null;
+  }
+
+  /**
+   * Creates a result of a failed job.
+   *
+   * @param name    name of the job
+   * @param message error message
+   */
+  public BatchResult(final String name, final String message) {
+    this.name = name;
+    this.status = Status.ERROR;
+    this.cycles = 0;
+    this.pc = -1;
+    this.message = message;
+  }
+
+  /**
+   * Gets the name of the job.
+   *
+   * @return the name of the job
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the status.
+   *
+   * @return the status
+   */
+  public Status getStatus() {
+    return status;
+  }
+
+  /**
+   * Checks whether the job succeeded, i.e., it neither failed
+   * nor timed out.
+   *
+   * @return {@code true} on success
+   */
+  public boolean isSuccess() {
+    return (status != Status.ERROR) && (status != Status.TIMEOUT);
+  }
+
+  /**
+   * Gets the number of clock cycles executed.
+   *
+   * @return the number of clock cycles
+   */
+  public long getCycles() {
+    return cycles;
+  }
+
+  /**
+   * Gets the final program counter.
+   *
+   * @return the final program counter, or -1 if the job failed
+   */
+  public int getPC() {
+    return pc;
+  }
+
+  /**
+   * Gets the error message.
+   *
+   * @return the error message, or {@code null} if the job did not fail
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  // for description see Object
+  @Override
+  public String toString() {
+    if (status == Status.ERROR) {
+      return name + ": " + status + " " + message;
+    } else {
+      return String.format("%s: %s cycles=%d pc=%04x",
+			   name,
+			   status,
+			   cycles,
+			   pc);
+    }
+  }
+}
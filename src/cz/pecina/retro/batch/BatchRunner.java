@@ -0,0 +1,284 @@
+/* BatchRunner.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.batch;
+
+import java.util.logging.Logger;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+
+import java.util.function.Supplier;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import cz.pecina.retro.common.Parameters;
+import cz.pecina.retro.common.MachineContext;
+
+import cz.pecina.retro.cpu.Processor;
+import cz.pecina.retro.cpu.Breakpoints;
+import cz.pecina.retro.cpu.Trace;
+
+/**
+ * Runner of batch jobs.  Each job runs on its own headless machine,
+ * in its own machine context; the jobs are executed, unthrottled,
+ * on a pool of threads.
+ * <p>
+ * The batch file contains one job per line, in the format described
+ * in {@link BatchJob}, including the quoting of arguments.  Empty
+ * lines and lines starting with {@code #} are ignored.  The results are written to the standard output, one
+ * line per job, in the order of the batch file.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class BatchRunner {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(BatchRunner.class.getName());
+
+  // lock serializing the creation of machines, as the hardware
+  // constructors use shared caches and preferences
+  private static final Object creationLock = new Object();
+
+  // the machine factory
+  private final Supplier<BatchMachine> factory;
+
+  // number of threads
+  private final int numberThreads;
+
+  /**
+   * Creates a batch runner.
+   *
+   * @param factory       the factory creating a new machine in the current
+   *                      machine context
+   * @param numberThreads number of threads to run the jobs on
+   */
+  public BatchRunner(final Supplier<BatchMachine> factory,
+		     final int numberThreads) {
+    assert factory != null;
+    assert numberThreads > 0;
+    this.factory = factory;
+    this.numberThreads = numberThreads;
+    log.fine("New BatchRunner created, threads: " + numberThreads);
+  }
+
+  /**
+   * Runs all jobs from a batch file and writes the results to
+   * the standard output.
+   *
+   * @param  file the batch file
+   * @return      number of jobs that failed or timed out
+   * @throws IOException if the batch file cannot be read
+   */
+  public int run(final File file) throws IOException {
+    log.fine("Running batch file: " + file);
+    final List<String> lines =
+      Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    final List<BatchJob> jobs = new ArrayList<>();
+    final List<BatchResult> results = new ArrayList<>();
+    for (int i = 0; i < lines.size(); i++) {
+      final String line = lines.get(i).trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+	continue;
+      }
+      final String defaultName = file.getName() + ":" + (i + 1);
+      try {
+	jobs.add(new BatchJob(defaultName, BatchJob.split(line)));
+	results.add(null);
+      } catch (final IllegalArgumentException exception) {
+	results.add(new BatchResult(defaultName, exception.getMessage()));
+      }
+    }
+    final Iterator<BatchResult> jobResults = run(jobs).iterator();
+    for (int i = 0; i < results.size(); i++) {
+      if (results.get(i) == null) {
+	results.set(i, jobResults.next());
+      }
+    }
+    int failed = 0;
+    for (BatchResult result: results) {
+      System.out.println(result);
+      if (!result.isSuccess()) {
+	failed++;
+      }
+    }
+    System.out.println(String.format("%d jobs, %d failed",
+				     results.size(),
+				     failed));
+    log.fine("Batch file completed, failed jobs: " + failed);
+    return failed;
+  }
+
+  /**
+   * Runs jobs in parallel.
+   *
+   * @param  jobs the jobs
+   * @return      list of results, in the order of the jobs
+   */
+  public List<BatchResult> run(final List<BatchJob> jobs) {
+    final ExecutorService executor =
+      Executors.newFixedThreadPool(numberThreads);
+    final List<Future<BatchResult>> futures = new ArrayList<>();
+    try {
+      for (BatchJob job: jobs) {
+	futures.add(executor.submit(new Task(job)));
+      }
+      final List<BatchResult> results = new ArrayList<>();
+      for (int i = 0; i < jobs.size(); i++) {
+	BatchResult result;
+	try {
+	  result = futures.get(i).get();
+	} catch (final ExecutionException exception) {
+	  result = new BatchResult(jobs.get(i).getName(),
+				   String.valueOf(exception.getCause()));
+	} catch (final InterruptedException exception) {
+	  Thread.currentThread().interrupt();
+	  result = new BatchResult(jobs.get(i).getName(), "Interrupted");
+	}
+	results.add(result);
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  // one job, run in a new headless context
+  private class Task implements Callable<BatchResult> {
+
+    // the job
+    private final BatchJob job;
+
+    // the context of the job, created with the task, so that
+    // the context ids follow the order of the jobs
+    private final MachineContext context;
+
+    // main constructor
+    private Task(final BatchJob job) {
+      this.job = job;
+      context = new MachineContext(job.getName());
+      context.setHeadless(true);
+      if (Trace.ENABLED) {
+	log.info("Job " + job.getName() + " traced as machine context " +
+		 context.getId());
+      }
+    }
+
+    // for description see Callable
+    @Override
+    public BatchResult call() {
+      context.bind();
+      try {
+	return execute();
+      } catch (final RuntimeException exception) {
+	log.fine("Job " + job.getName() + " failed, exception: " +
+		 exception.getMessage());
+	return new BatchResult(job.getName(), exception.getMessage());
+      } finally {
+	MachineContext.unbind();
+      }
+    }
+
+    // creates the machine and runs the job
+    private BatchResult execute() {
+      log.fine("Job started: " + job.getName());
+      final BatchMachine machine;
+      synchronized (creationLock) {
+	machine = factory.get();
+      }
+      try {
+	return execute(machine);
+      } finally {
+	job.close(machine);
+      }
+    }
+
+    // runs the job on the machine
+    private BatchResult execute(final BatchMachine machine) {
+      job.load(machine);
+
+      final Processor cpu = machine.getCPU();
+      final int stopAddress = job.getStopAddress();
+      final Breakpoints breakpoints = (stopAddress == -1) ?
+	null :
+	new Breakpoints(stopAddress);
+      final int stopMemoryAddress = job.getStopMemoryAddress();
+      final long startTime = getTime();
+      final long endTime = startTime + job.getCycles();
+
+      BatchResult.Status status;
+      while (true) {
+	machine.exec(breakpoints);
+	if ((stopAddress != -1) && (cpu.getPC() == stopAddress)) {
+	  status = BatchResult.Status.PC;
+	  break;
+	}
+	if (job.frame(machine)) {
+	  status = BatchResult.Status.SCREEN;
+	  break;
+	}
+	if ((stopMemoryAddress != -1) &&
+	    (Parameters.getMemoryObject().getByte(stopMemoryAddress) ==
+	     job.getStopMemoryValue())) {
+	  status = BatchResult.Status.MEMORY;
+	  break;
+	}
+	if (getTime() >= endTime) {
+	  status = job.hasCondition() ?
+	    BatchResult.Status.TIMEOUT :
+	    BatchResult.Status.CYCLES;
+	  break;
+	}
+      }
+
+      job.save(machine);
+      final BatchResult result = new BatchResult(job.getName(),
+						 status,
+						 getTime() - startTime,
+						 cpu.getPC());
+      log.fine("Job completed: " + result);
+      return result;
+    }
+
+    // gets the system clock
+    private long getTime() {
+      return Parameters.getSystemClockSource().getSystemClock();
+    }
+  }
+
+  // for description see Object
+  @Override
+  public String toString() {
+    return "BatchRunner";
+  }
+}
@@ -0,0 +1,381 @@
+/* ScreenOracle.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.batch;
+
+import java.util.logging.Logger;
+
+import java.util.List;
+import java.util.ArrayList;
+
+import java.util.function.LongSupplier;
+
+import java.awt.EventQueue;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import cz.pecina.retro.common.Application;
+
+/**
+ * Regression oracle comparing hashes of the screen with expected
+ * values at frame boundaries.
+ * <p>
+ * Every {@code interval}-th frame is sampled: its hash is compared with
+ * the next value of the expected sequence, if any, and recorded, if
+ * requested.  Independently, every frame may be checked for a stop
+ * hash.  The hash is computed at most once per frame and only if
+ * needed.  Hash files are text files with one hash per line,
+ * as 16 hex digits; empty lines and lines starting with {@code #} are
+ * ignored.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class ScreenOracle {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(ScreenOracle.class.getName());
+
+  /**
+   * Results of checking one frame.
+   */
+  public enum State {
+
+    /**
+     * No condition has been met yet.
+     */
+    RUNNING,
+
+    /**
+     * The expected sequence has just been matched completely.
+     */
+    MATCHED,
+
+    /**
+     * The stop hash appeared on the screen.
+     */
+    FOUND
+  }
+
+  // sampling interval in frames
+  private final int interval;
+
+  // the expected sequence, null if none
+  private long[] expected;
+
+  // number of expected hashes matched so far
+  private int matched;
+
+  // true if the sampled hashes are recorded
+  private boolean recording;
+
+  // the recorded hashes
+  private final List<Long> recorded = new ArrayList<>();
+
+  // true if the stop hash is set
+  private boolean stop;
+
+  // the stop hash
+  private long stopHash;
+
+  // number of frames checked
+  private int frame;
+
+  // the last sampled hash
+  private long sampledHash;
+
+  // true if the interactive session has been ended
+  private boolean over;
+
+  /**
+   * Creates a screen oracle.
+   *
+   * @param interval sampling interval in frames
+   */
+  public ScreenOracle(final int interval) {
+    assert interval > 0;
+    this.interval = interval;
+    log.fine("New ScreenOracle created, interval: " + interval);
+  }
+
+  /**
+   * Sets the expected sequence of hashes.
+   *
+   * @param expected the expected hashes
+   */
+  public void setExpected(final long[] expected) {
+    assert expected != null;
+    this.expected = expected;
+    matched = 0;
+  }
+
+  /**
+   * Sets the recording of the sampled hashes.
+   *
+   * @param recording {@code true} if the hashes are to be recorded
+   */
+  public void setRecording(final boolean recording) {
+    this.recording = recording;
+  }
+
+  /**
+   * Sets the stop hash, checked on every frame.
+   *
+   * @param stopHash the stop hash
+   */
+  public void setStopHash(final long stopHash) {
+    this.stopHash = stopHash;
+    stop = true;
+  }
+
+  /**
+   * Checks whether the stop hash is set.
+   *
+   * @return {@code true} if the stop hash is set
+   */
+  public boolean hasStopHash() {
+    return stop;
+  }
+
+  /**
+   * Checks the screen at the end of a frame.
+   *
+   * @param  screen the supplier of the hash of the screen
+   * @return        the result
+   * @throws IllegalStateException if the hash differs from
+   *                               the expected one
+   */
+  public State frame(final LongSupplier screen) {
+    frame++;
+    boolean known = false;
+    long hash = 0;
+    State state = State.RUNNING;
+    if ((frame % interval) == 0) {
+      final boolean checked =
+	(expected != null) && (matched < expected.length);
+      if (checked || recording) {
+	hash = sampledHash = screen.getAsLong();
+	known = true;
+      }
+      if (recording) {
+	recorded.add(hash);
+      }
+      if (checked) {
+	if (hash != expected[matched]) {
+	  log.fine("Screen hash mismatch, frame: " + frame);
+	  throw new IllegalStateException(String.format(
+	    "Screen hash mismatch at frame %d: %s, expected %s",
+	    frame,
+	    format(hash),
+	    format(expected[matched])));
+	}
+	if (++matched == expected.length) {
+	  log.fine("Screen hashes matched, frame: " + frame);
+	  state = State.MATCHED;
+	}
+      }
+    }
+    if (stop) {
+      if (!known) {
+	hash = screen.getAsLong();
+      }
+      if (hash == stopHash) {
+	log.fine("Stop hash found, frame: " + frame);
+	state = State.FOUND;
+      }
+    }
+    return state;
+  }
+
+  /**
+   * Checks the screen at the end of a frame of an interactive session
+   * and ends the session on a mismatch, when the expected sequence
+   * has been matched and no stop hash is set, or when the stop hash
+   * appears.  The result is reported using the
+   * {@code screenHash.*} strings of {@code bundle}.  The application
+   * is not exited from within the frame; the exit is posted to
+   * the event dispatch thread, so that the current tick completes
+   * first.  The exit status is 1 on a mismatch and 0 otherwise.
+   * Frames following the end of the session are ignored.
+   *
+   * @param  screen the supplier of the hash of the screen
+   * @param  bundle the object identifying the resource bundle
+   * @return        {@code true} if the session has been ended
+   */
+  public boolean checkSession(final LongSupplier screen,
+			      final Object bundle) {
+    if (over) {
+      return true;
+    }
+    final State state;
+    try {
+      state = frame(screen);
+    } catch (final IllegalStateException exception) {
+      System.out.println(String.format(
+        Application.getString(bundle, "screenHash.mismatch"),
+	frame,
+	format(sampledHash),
+	format(expected[matched])));
+      exit(1);
+      return true;
+    }
+    if ((state == State.FOUND) ||
+	((state == State.MATCHED) && !stop)) {
+      System.out.println(String.format(
+        Application.getString(bundle, (state == State.FOUND) ?
+			      "screenHash.found" :
+			      "screenHash.matched"),
+	frame));
+      exit(0);
+      return true;
+    }
+    return false;
+  }
+
+  // ends the session, exiting the application after the current event
+  private void exit(final int status) {
+    over = true;
+    log.fine("Session ended, exit status: " + status);
+    EventQueue.invokeLater(new Runnable() {
+	@Override
+	public void run() {
+	  System.exit(status);
+	}
+      });
+  }
+
+  /**
+   * Gets the number of frames checked.
+   *
+   * @return the number of frames
+   */
+  public int getFrame() {
+    return frame;
+  }
+
+  /**
+   * Checks whether the expected sequence has been matched completely.
+   *
+   * @return {@code true} if matched, or if there is no expected
+   *         sequence
+   */
+  public boolean isComplete() {
+    return (expected == null) || (matched == expected.length);
+  }
+
+  /**
+   * Gets the recorded hashes.
+   *
+   * @return the recorded hashes
+   */
+  public long[] getRecorded() {
+    final long[] hashes = new long[recorded.size()];
+    for (int i = 0; i < hashes.length; i++) {
+      hashes[i] = recorded.get(i);
+    }
+    return hashes;
+  }
+
+  /**
+   * Formats a hash as 16 hex digits.
+   *
+   * @param  hash the hash
+   * @return      the formatted hash
+   */
+  public static String format(final long hash) {
+    return String.format("%016x", hash);
+  }
+
+  /**
+   * Parses a hash.
+   *
+   * @param  value up to 16 hex digits
+   * @return       the hash
+   * @throws IllegalArgumentException if {@code value} is not a valid hash
+   */
+  public static long parse(final String value) {
+    try {
+      return Long.parseUnsignedLong(value, 16);
+    } catch (final NumberFormatException exception) {
+      throw new IllegalArgumentException("Invalid screen hash: " + value);
+    }
+  }
+
+  /**
+   * Reads hashes from a file.
+   *
+   * @param  file the file
+   * @return      the hashes
+   * @throws IllegalArgumentException if the file cannot be read
+   *                                  or contains invalid hashes
+   */
+  public static long[] read(final File file) {
+    final List<String> lines;
+    try {
+      lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    } catch (final IOException exception) {
+      throw new IllegalArgumentException("Error reading file: " + file);
+    }
+    final List<Long> hashes = new ArrayList<>();
+    for (String line: lines) {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith("#")) {
+	hashes.add(parse(line));
+      }
+    }
+    final long[] array = new long[hashes.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = hashes.get(i);
+    }
+    log.fine("Screen hashes read: " + array.length);
+    return array;
+  }
+
+  /**
+   * Writes hashes to a file.
+   *
+   * @param file   the file
+   * @param hashes the hashes
+   * @throws IllegalArgumentException if the file cannot be written
+   */
+  public static void write(final File file, final long[] hashes) {
+    final List<String> lines = new ArrayList<>();
+    for (long hash: hashes) {
+      lines.add(format(hash));
+    }
+    try {
+      Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    } catch (final IOException exception) {
+      throw new IllegalArgumentException("Error writing file: " + file);
+    }
+    log.fine("Screen hashes written: " + hashes.length);
+  }
+
+  // for description see Object
+  @Override
+  public String toString() {
+    return "ScreenOracle";
+  }
+}
@@ -1,4 +1,4 @@
-/* Executable.java
+/* package-info.java
  *
  * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
  *
@@ -18,20 +18,10 @@
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
-package cz.pecina.retro.cpu;
-
 /**
- * Interface representing an instruction that can be executed by a CPU.
+ * Headless batch execution of emulated machines.
  *
  * @author @AUTHOR@
  * @version @VERSION@
  */
-public interface Executable {
-
-  /**
-   * Executes the instruction.
-   *
-   * @return the duration of the instruction in system clock units
-   */
-  public abstract int exec();
-}
+package cz.pecina.retro.batch;
@@ -127,11 +127,15 @@ public final class Application {
 
   /**
    * Adds an item to the list of objects that must be redrawn
-   * on a locale change.
+   * on a locale change.  Items created for headless machines
+   * are ignored.
    *
    * @param item item to be added
    */
   public static void addLocalized(final Localized item) {
+    if (MachineContext.getCurrent().isHeadless()) {
+      return;
+    }
     localized.add(item);
     log.finer("Localized added: " + item);
   }
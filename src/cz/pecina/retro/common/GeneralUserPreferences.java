@@ -87,7 +87,10 @@ public abstract class GeneralUserPreferences {
 				      "backingStore");
       }
       pixelSize = Parameters.preferences.getInt("pixelSize", 0);
-      if (pixelSize == 0) {
+      if ((pixelSize == 0) && GraphicsEnvironment.isHeadless()) {
+	// no screen, use the minimum pixelSize without storing it
+	pixelSize = GeneralConstants.PIXEL_SIZES[0];
+      } else if (pixelSize == 0) {
 	// use maximum pixelSize reasonably fitting the screen
 	final Rectangle r =
 	  GraphicsEnvironment.getLocalGraphicsEnvironment()
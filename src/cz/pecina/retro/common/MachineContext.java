@@ -0,0 +1,312 @@
+/* MachineContext.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.common;
+
+import java.util.logging.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cz.pecina.retro.cpu.SystemClockSource;
+import cz.pecina.retro.cpu.Processor;
+import cz.pecina.retro.cpu.Device;
+import cz.pecina.retro.cpu.AbstractMemory;
+import cz.pecina.retro.cpu.CPUEventQueue;
+
+/**
+ * Per-machine context, holding the objects shared by the hardware
+ * of one emulated computer: the event schedule, the system clock source,
+ * the CPU, the main memory and the sound interface.
+ * <p>
+ * Every thread has a current context, which is the default context
+ * unless another one has been bound to the thread.  The GUI emulators
+ * run a single machine in the default context; several machines can be
+ * run in one JVM by binding a separate context to each thread
+ * running a machine, before the machine is created.  The static
+ * accessors in {@link Parameters} and {@link cz.pecina.retro.cpu.CPUScheduler}
+ * operate on the current context.
+ * <p>
+ * A context may be marked as headless, meaning that the machine
+ * running in it has no user interface: no sound is produced, no
+ * timers are started and the command line is not processed.
+ * <p>
+ * Each context has a numeric id, assigned in the order of creation,
+ * the default context being 0; the id identifies the machine in
+ * the binary trace.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public final class MachineContext {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(MachineContext.class.getName());
+
+  // the next context id
+  private static final AtomicInteger nextId = new AtomicInteger();
+
+  // the default context
+  private static final MachineContext defaultContext =
+    new MachineContext("default");
+
+  // the context bound to the thread, if any
+  private static final ThreadLocal<MachineContext> boundContext =
+    new ThreadLocal<>();
+
+  // name of the context
+  private final String name;
+
+  // id of the context
+  private final int id = nextId.getAndIncrement();
+
+  // true if the machine runs without any user interface
+  private volatile boolean headless;
+
+  // the event schedule
+  private final CPUEventQueue scheduler = new CPUEventQueue();
+
+  // system clock source
+  private SystemClockSource systemClockSource;
+
+  // the CPU
+  private Processor cpu;
+
+  // the device holding the main memory
+  private Device memoryDevice;
+
+  // the main memory object
+  private AbstractMemory memoryObject;
+
+  // the sound interface
+  private Sound sound;
+
+  /**
+   * Creates a new machine context.
+   *
+   * @param name name of the context, used for logging
+   */
+  public MachineContext(final String name) {
+    assert name != null;
+    this.name = name;
+    log.fine("New machine context created: " + name + ", id: " + id);
+  }
+
+  /**
+   * Gets the current context of the calling thread.
+   *
+   * @return the context bound to the thread, or the default context
+   *         if none has been bound
+   */
+  public static MachineContext getCurrent() {
+    final MachineContext context = boundContext.get();
+    return (context != null) ? context : defaultContext;
+  }
+
+  /**
+   * Gets the default context.
+   *
+   * @return the default context
+   */
+  public static MachineContext getDefault() {
+    return defaultContext;
+  }
+
+  /**
+   * Binds the context to the calling thread, making it the thread's
+   * current context.
+   */
+  public void bind() {
+    boundContext.set(this);
+    log.finer("Machine context bound: " + name);
+  }
+
+  /**
+   * Unbinds any context from the calling thread, making the default
+   * context current.
+   */
+  public static void unbind() {
+    boundContext.remove();
+  }
+
+  /**
+   * Runs a task with the context bound to the calling thread, then
+   * restores the previously bound context.
+   *
+   * @param task the task to be run
+   */
+  public void run(final Runnable task) {
+    final MachineContext previous = boundContext.get();
+    boundContext.set(this);
+    try {
+      task.run();
+    } finally {
+      if (previous != null) {
+	boundContext.set(previous);
+      } else {
+	boundContext.remove();
+      }
+    }
+  }
+
+  /**
+   * Gets the id of the context.
+   *
+   * @return the id of the context
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the context.
+   *
+   * @return the name of the context
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Sets the headless flag.
+   *
+   * @param headless {@code true} if the machine runs without any
+   *                 user interface
+   */
+  public void setHeadless(final boolean headless) {
+    this.headless = headless;
+    log.fine("Headless flag of context " + name + " set to: " + headless);
+  }
+
+  /**
+   * Gets the headless flag.
+   *
+   * @return {@code true} if the machine runs without any user interface
+   */
+  public boolean isHeadless() {
+    return headless;
+  }
+
+  /**
+   * Gets the event schedule.
+   *
+   * @return the event schedule
+   */
+  public CPUEventQueue getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * Gets the system clock source.
+   *
+   * @return the system clock source
+   */
+  public SystemClockSource getSystemClockSource() {
+    return systemClockSource;
+  }
+
+  /**
+   * Sets the system clock source.
+   *
+   * @param systemClockSource the system clock source
+   */
+  public void setSystemClockSource(
+    final SystemClockSource systemClockSource) {
+    this.systemClockSource = systemClockSource;
+  }
+
+  /**
+   * Gets the CPU.
+   *
+   * @return the CPU
+   */
+  public Processor getCPU() {
+    return cpu;
+  }
+
+  /**
+   * Sets the CPU.
+   *
+   * @param cpu the CPU
+   */
+  public void setCPU(final Processor cpu) {
+    this.cpu = cpu;
+  }
+
+  /**
+   * Gets the device holding the main memory.
+   *
+   * @return the memory device
+   */
+  public Device getMemoryDevice() {
+    return memoryDevice;
+  }
+
+  /**
+   * Sets the device holding the main memory.
+   *
+   * @param memoryDevice the memory device
+   */
+  public void setMemoryDevice(final Device memoryDevice) {
+    this.memoryDevice = memoryDevice;
+  }
+
+  /**
+   * Gets the main memory object.
+   *
+   * @return the main memory object
+   */
+  public AbstractMemory getMemoryObject() {
+    return memoryObject;
+  }
+
+  /**
+   * Sets the main memory object.
+   *
+   * @param memoryObject the main memory object
+   */
+  public void setMemoryObject(final AbstractMemory memoryObject) {
+    this.memoryObject = memoryObject;
+  }
+
+  /**
+   * Gets the sound interface.
+   *
+   * @return the sound interface, or {@code null} if none
+   */
+  public Sound getSound() {
+    return sound;
+  }
+
+  /**
+   * Sets the sound interface.
+   *
+   * @param sound the sound interface
+   */
+  public void setSound(final Sound sound) {
+    this.sound = sound;
+  }
+
+  // for description see Object
+  @Override
+  public String toString() {
+    return "MachineContext(" + name + ")";
+  }
+}
@@ -32,6 +32,11 @@ import cz.pecina.retro.cpu.AbstractMemory;
 /**
  * General parameters.  These are supposed to by filled in by the emulator
  * and read by separately packaged hardware module, specific or general.
+ * <p>
+ * The objects specific to one emulated machine (the CPU, the system
+ * clock source, the main memory and the sound interface) are held in
+ * the {@link MachineContext} current for the calling thread and are
+ * accessed via static methods.
  *
  * @author @AUTHOR@
  * @version @VERSION@
@@ -60,49 +65,107 @@ public final class Parameters {
   public static long timerCycles;
 
   /**
-   * The CPU controlling the port system.
+   * The root node of the current user preferences.
    */
-  public static Processor cpu;
+  public static Preferences preferences;
 
   /**
-   * System clock source.
+   * The processor speed-up factor.
    */
-  public static SystemClockSource systemClockSource;
+  public static int speedUp = 1;
 
   /**
-   * The device holding the main memory.
+   * Use of OpenGL.
    */
-  public static Device memoryDevice;
+  public static boolean openGL = true;
 
   /**
-   * The main memory object.
+   * The charset used by the emulated computer.
    */
-  public static AbstractMemory memoryObject;
+  public static Charset charset;
 
   /**
-   * The root node of the current user preferences.
+   * Gets the CPU controlling the port system.
+   *
+   * @return the CPU of the current machine
    */
-  public static Preferences preferences;
+  public static Processor getCPU() {
+    return MachineContext.getCurrent().getCPU();
+  }
 
   /**
-   * The processor speed-up factor.
+   * Sets the CPU controlling the port system.
+   *
+   * @param cpu the CPU of the current machine
    */
-  public static int speedUp = 1;
+  public static void setCPU(final Processor cpu) {
+    MachineContext.getCurrent().setCPU(cpu);
+  }
 
   /**
-   * Use of OpenGL.
+   * Gets the system clock source.
+   *
+   * @return the system clock source of the current machine
    */
-  public static boolean openGL = true;
+  public static SystemClockSource getSystemClockSource() {
+    return MachineContext.getCurrent().getSystemClockSource();
+  }
 
   /**
-   * The Sound object.
+   * Sets the system clock source.
+   *
+   * @param systemClockSource the system clock source of the current machine
    */
-  public static Sound sound;
+  public static void setSystemClockSource(
+    final SystemClockSource systemClockSource) {
+    MachineContext.getCurrent().setSystemClockSource(systemClockSource);
+  }
 
   /**
-   * The charset used by the emulated computer.
+   * Gets the device holding the main memory.
+   *
+   * @return the memory device of the current machine
    */
-  public static Charset charset;
+  public static Device getMemoryDevice() {
+    return MachineContext.getCurrent().getMemoryDevice();
+  }
+
+  /**
+   * Sets the device holding the main memory.
+   *
+   * @param memoryDevice the memory device of the current machine
+   */
+  public static void setMemoryDevice(final Device memoryDevice) {
+    MachineContext.getCurrent().setMemoryDevice(memoryDevice);
+  }
+
+  /**
+   * Gets the main memory object.
+   *
+   * @return the main memory object of the current machine
+   */
+  public static AbstractMemory getMemoryObject() {
+    return MachineContext.getCurrent().getMemoryObject();
+  }
+
+  /**
+   * Sets the main memory object.
+   *
+   * @param memoryObject the main memory object of the current machine
+   */
+  public static void setMemoryObject(final AbstractMemory memoryObject) {
+    MachineContext.getCurrent().setMemoryObject(memoryObject);
+  }
+
+  /**
+   * Gets the Sound object.
+   *
+   * @return the Sound object of the current machine, or {@code null}
+   *         if none
+   */
+  public static Sound getSound() {
+    return MachineContext.getCurrent().getSound();
+  }
 
   // default constructor disabled
   private Parameters() {}
@@ -103,9 +103,12 @@ public class Sound {
   // update cycle counter
   private long counter;
 
+  // the machine context the sound belongs to
+  private final MachineContext context;
+
   // get system clock
   private long getTime() {
-    return Parameters.systemClockSource.getSystemClock();
+    return context.getSystemClockSource().getSystemClock();
   }
 
   /**
@@ -126,11 +129,12 @@ public class Sound {
     assert ((samplingRate * Parameters.timerPeriod) % 1000) == 0;
     
     // check for existence of Sound object
-    if (Parameters.sound != null) {
+    context = MachineContext.getCurrent();
+    if (context.getSound() != null) {
       log.fine("Error, Sound already exists");
       throw Application.createError(this, "sound.exists");
      }
-    Parameters.sound = this;
+    context.setSound(this);
 
     // update fields
     this.samplingRate = samplingRate;
@@ -142,6 +146,12 @@ public class Sound {
     overlap = Math.round(samplesPerPeriod * OVERLAP);
     log.fine("Overlap: " + overlap);
     
+    // no sound on headless machines
+    if (context.isHeadless()) {
+      log.fine("Headless machine, no sound");
+      return;
+    }
+
     // set up audio format
     final AudioFormat format = new AudioFormat(samplingRate, 8, 1, true, false);
     final DataLine.Info info = new DataLine.Info(SourceDataLine.class, format);
@@ -339,7 +349,9 @@ public class Sound {
 		 ", at: " + time);
     }
     assert (channel >= 0) && (channel < numberChannels);
-    queues.get(channel).put(time, level);
+    if (lines != null) {
+      queues.get(channel).put(time, level);
+    }
   }
 
   /**
@@ -349,6 +361,9 @@ public class Sound {
    * @param mute    the new mute setting for the channel
    */
   public void setMute(final int channel, final boolean mute) {
+    if (lines == null) {
+      return;
+    }
     muteControls[channel].setValue(mute);
     log.fine("Mute on channel " + channel + " set to: " + mute);
   }
@@ -360,6 +375,9 @@ public class Sound {
    * @return         the mute setting for the channel
    */
   public boolean getMute(final int channel) {
+    if (lines == null) {
+      return true;
+    }
     final boolean mute = muteControls[channel].getValue();
     log.finer("Mute on channel " + channel + " is: " + mute);
     return mute;
@@ -372,6 +390,9 @@ public class Sound {
    * @param volume  the new volume (gain) setting for the channel, 0.0-1.0
    */
   public void setVolume(final int channel, final float volume) {
+    if (lines == null) {
+      return;
+    }
     gainControls[channel].setValue(gainMinima[channel] +
       (volume * (gainMaxima[channel] - gainMinima[channel])));
     log.fine("Volume on channel " + channel + " set to: " + volume);
@@ -384,6 +405,9 @@ public class Sound {
    * @return         the volume (gain) setting for the channel
    */
   public float getVolume(final int channel) {
+    if (lines == null) {
+      return 0f;
+    }
     final float volume = gainMinima[channel] +
       (gainControls[channel].getValue() * (gainMaxima[channel] -
       gainMinima[channel]));
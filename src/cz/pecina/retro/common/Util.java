@@ -218,6 +218,35 @@ public final class Util {
     return list;
   }
 
+  /**
+   * Initial value of the 64-bit hash.
+   */
+  public static final long HASH_SEED = 0xcbf29ce484222325L;
+
+  // multiplier of the 64-bit hash
+  private static final long HASH_PRIME = 0x100000001b3L;
+
+  /**
+   * Updates a 64-bit FNV-1a hash with a range of bytes.  Hashes of
+   * consecutive ranges may be chained, starting with
+   * {@code HASH_SEED}.
+   *
+   * @param  hash   the hash so far
+   * @param  data   the data
+   * @param  offset index of the first byte
+   * @param  length number of bytes
+   * @return        the updated hash
+   */
+  public static long hash(long hash,
+			  final byte[] data,
+			  final int offset,
+			  final int length) {
+    for (int i = offset; i < (offset + length); i++) {
+      hash = (hash ^ (data[i] & 0xff)) * HASH_PRIME;
+    }
+    return hash;
+  }
+
   // default constructor disabled
   private Util() {}
 }
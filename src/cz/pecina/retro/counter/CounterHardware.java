@@ -304,13 +304,13 @@ public class CounterHardware implements IOElement, CPUEventOwner {
 
   // connect to port
   private void connect() {
-    Parameters.cpu.addIOOutput(basePort, this);
+    Parameters.getCPU().addIOOutput(basePort, this);
     log.fine("Port connected");
   }
 
   // disconnect from port
   private void disconnect() {
-    Parameters.cpu.removeIOOutput(basePort, this);
+    Parameters.getCPU().removeIOOutput(basePort, this);
     log.fine("Port disconnected");
   }
 
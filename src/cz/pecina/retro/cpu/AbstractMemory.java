@@ -44,4 +44,59 @@ public interface AbstractMemory {
    * @param data    byte to be written
    */
   public abstract void setByte(final int address, final int data);
+
+  /**
+   * Reads a block of bytes from memory.  Addresses wrap around
+   * at {@code 0x10000}.  The default implementation calls
+   * {@link #getByte} for every byte.
+   *
+   * @param address     the first address in memory
+   * @param destination the destination array
+   * @param offset      the offset in {@code destination}
+   * @param length      the number of bytes
+   */
+  public default void read(final int address,
+			   final byte[] destination,
+			   final int offset,
+			   final int length) {
+    for (int i = 0; i < length; i++) {
+      destination[offset + i] = (byte)getByte((address + i) & 0xffff);
+    }
+  }
+
+  /**
+   * Writes a block of bytes to memory.  Addresses wrap around
+   * at {@code 0x10000}.  The default implementation calls
+   * {@link #setByte} for every byte.
+   *
+   * @param address the first address in memory
+   * @param source  the source array
+   * @param offset  the offset in {@code source}
+   * @param length  the number of bytes
+   */
+  public default void write(final int address,
+			    final byte[] source,
+			    final int offset,
+			    final int length) {
+    for (int i = 0; i < length; i++) {
+      setByte((address + i) & 0xffff, source[offset + i] & 0xff);
+    }
+  }
+
+  /**
+   * Fills a block of memory with a byte.  Addresses wrap around
+   * at {@code 0x10000}.  The default implementation calls
+   * {@link #setByte} for every byte.
+   *
+   * @param address the first address in memory
+   * @param data    the byte to fill with
+   * @param length  the number of bytes
+   */
+  public default void fill(final int address,
+			   final int data,
+			   final int length) {
+    for (int i = 0; i < length; i++) {
+      setByte((address + i) & 0xffff, data);
+    }
+  }
 }
@@ -22,6 +22,8 @@ package cz.pecina.retro.cpu;
 
 import java.util.logging.Logger;
 
+import java.util.Arrays;
+
 import org.jdom2.Element;
 
 /**
@@ -36,13 +38,29 @@ public abstract class Block extends Descriptor {
   private static final Logger log =
     Logger.getLogger(Block.class.getName());
 
+  // the dirty map, null if changes are not tracked
+  private final DirtyMap dirtyMap;
+
   /**
    * Creates an instance of the block.
    *
    * @param name name of the block
    */
   public Block(final String name) {
+    this(name, null);
+  }
+
+  /**
+   * Creates an instance of the block with changes tracked by
+   * a dirty map.
+   *
+   * @param name     name of the block
+   * @param dirtyMap the dirty map of the block data, or {@code null}
+   *                 if changes are not tracked
+   */
+  public Block(final String name, final DirtyMap dirtyMap) {
     super(name, "block");
+    this.dirtyMap = dirtyMap;
     log.fine("Block '" + name + "' created");
   }
 
@@ -61,15 +79,90 @@ public abstract class Block extends Descriptor {
   public void unmarshal(final Element block) {
     assert block.getName().equals(tagName);
     processContent(block);
+    markDirty();
     log.fine("Block '" + name + "' processed");
   }
+
+  /**
+   * Gets the dirty map.
+   *
+   * @return the dirty map of the block data, or {@code null}
+   *         if changes are not tracked
+   */
+  public DirtyMap getDirtyMap() {
+    return dirtyMap;
+  }
+
+  /**
+   * Marks all block data as dirty.  Must be called by any code
+   * modifying the array returned by {@link #getMemory} directly.
+   */
+  public void markDirty() {
+    if (dirtyMap != null) {
+      dirtyMap.markAll();
+    }
+  }
 	
   /**
-   * Gets block data as a byte array.
+   * Fills all block data with a value and marks it dirty.
+   *
+   * @param value the value
+   */
+  public void fill(final byte value) {
+    Arrays.fill(getMemory(), value);
+    markDirty();
+    log.finer("Block '" + name + "' filled");
+  }
+
+  /**
+   * Gets block data as a byte array.  The array may be modified;
+   * blocks backed by a shared image make a private copy first.
    *
    * @return the block data as a byte array
    */
   public abstract byte[] getMemory();
+
+  /**
+   * Gets block data as a byte array for reading only.  The array
+   * may be shared with other devices and must not be modified.
+   * The default implementation returns {@link #getMemory}.
+   *
+   * @return the block data as a byte array
+   */
+  public byte[] getReadOnlyMemory() {
+    return getMemory();
+  }
+
+  /**
+   * Sets block data from a byte array.  Only the pages that differ
+   * are written and marked dirty, so unchanged data, in particular
+   * a shared image, is left alone.
+   *
+   * @param data   the new data
+   * @param length the number of bytes to be set, from the start
+   *               of the block
+   */
+  public void update(final byte[] data, final int length) {
+    final byte[] current = getReadOnlyMemory();
+    assert (length <= data.length) && (length <= current.length);
+    byte[] memory = null;
+    for (int start = 0; start < length; start += PagedMemory.PAGE_SIZE) {
+      final int end = Math.min(start + PagedMemory.PAGE_SIZE, length);
+      int i = start;
+      while ((i < end) && (current[i] == data[i])) {
+	i++;
+      }
+      if (i < end) {
+	if (memory == null) {
+	  memory = getMemory();
+	}
+	System.arraycopy(data, start, memory, start, end - start);
+	if (dirtyMap != null) {
+	  dirtyMap.mark(start, end - start);
+	}
+      }
+    }
+  }
     
   /**
    * Gets block data in XML.
@@ -0,0 +1,365 @@
+/* Breakpoints.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+/**
+ * Set of execution breakpoints and memory and I/O watchpoints.
+ * <p>
+ * Breakpoints and watchpoints are kept as per-address flags, so that
+ * the processor can test them with a single array load after every
+ * instruction.  Execution stops after an instruction located at an
+ * execution breakpoint, and after an instruction that accessed
+ * a watched memory location or I/O port.
+ * <p>
+ * Memory watchpoints are implemented by a memory wrapper the processor
+ * uses for the duration of {@link Processor#exec}, I/O watchpoints
+ * by an {@link IOElement} connected to the watched ports.  If there
+ * are no watchpoints, neither costs anything.  As the processor
+ * fetches instructions through the same memory, a read watchpoint
+ * is triggered by the execution of code at the watched address, as
+ * well as by data reads.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class Breakpoints {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(Breakpoints.class.getName());
+
+  /**
+   * Flag of an execution breakpoint.
+   */
+  public static final int EXECUTE = 1;
+
+  /**
+   * Flag of a read (input) watchpoint.  Memory reads include
+   * instruction fetches.
+   */
+  public static final int READ = 2;
+
+  /**
+   * Flag of a write (output) watchpoint.
+   */
+  public static final int WRITE = 4;
+
+  // per-address memory flags
+  private final byte[] memoryFlags = new byte[0x10000];
+
+  // per-port I/O flags
+  private final byte[] portFlags = new byte[0x100];
+
+  // number of memory watchpoints
+  private int numberMemoryWatchpoints;
+
+  // number of I/O watchpoints
+  private int numberPortWatchpoints;
+
+  // true if a watchpoint has been triggered
+  private boolean triggered;
+
+  // address or port of the last triggered watchpoint
+  private int triggerAddress = -1;
+
+  // the memory being watched and its wrapper
+  private AbstractMemory watchedMemory;
+  private WatchingMemory watchingMemory;
+
+  // the I/O element watching ports
+  private final IOElement portWatcher = new PortWatcher();
+
+  /**
+   * Creates an empty set of breakpoints.
+   */
+  public Breakpoints() {
+    log.finer("New Breakpoints created");
+  }
+
+  /**
+   * Creates a set of execution breakpoints.
+   *
+   * @param addresses addresses of the breakpoints
+   */
+  public Breakpoints(final int... addresses) {
+    this();
+    for (int address: addresses) {
+      add(address);
+    }
+  }
+
+  /**
+   * Adds an execution breakpoint.
+   *
+   * @param address address of the breakpoint
+   */
+  public void add(final int address) {
+    addMemoryFlags(address, EXECUTE);
+  }
+
+  /**
+   * Removes an execution breakpoint.
+   *
+   * @param address address of the breakpoint
+   */
+  public void remove(final int address) {
+    removeMemoryFlags(address, EXECUTE);
+  }
+
+  /**
+   * Checks if there is an execution breakpoint at the address.
+   *
+   * @param  address the address
+   * @return         {@code true} if there is an execution breakpoint
+   */
+  public boolean contains(final int address) {
+    return (memoryFlags[address] & EXECUTE) != 0;
+  }
+
+  /**
+   * Adds a memory watchpoint.
+   *
+   * @param address address of the watchpoint
+   * @param flags   type of the watchpoint, {@link #READ} and/or
+   *                {@link #WRITE}
+   */
+  public void addMemoryWatchpoint(final int address, final int flags) {
+    assert (flags & ~(READ | WRITE)) == 0;
+    addMemoryFlags(address, flags);
+  }
+
+  /**
+   * Removes a memory watchpoint.
+   *
+   * @param address address of the watchpoint
+   * @param flags   type of the watchpoint, {@link #READ} and/or
+   *                {@link #WRITE}
+   */
+  public void removeMemoryWatchpoint(final int address, final int flags) {
+    assert (flags & ~(READ | WRITE)) == 0;
+    removeMemoryFlags(address, flags);
+  }
+
+  /**
+   * Adds an I/O watchpoint.
+   *
+   * @param port  the port number
+   * @param flags type of the watchpoint, {@link #READ} (input)
+   *              and/or {@link #WRITE} (output)
+   */
+  public void addPortWatchpoint(final int port, final int flags) {
+    assert (port >= 0) && (port < 0x100);
+    assert (flags & ~(READ | WRITE)) == 0;
+    if ((portFlags[port] == 0) && (flags != 0)) {
+      numberPortWatchpoints++;
+    }
+    portFlags[port] |= flags;
+  }
+
+  /**
+   * Removes an I/O watchpoint.
+   *
+   * @param port  the port number
+   * @param flags type of the watchpoint, {@link #READ} (input)
+   *              and/or {@link #WRITE} (output)
+   */
+  public void removePortWatchpoint(final int port, final int flags) {
+    assert (port >= 0) && (port < 0x100);
+    assert (flags & ~(READ | WRITE)) == 0;
+    if (portFlags[port] != 0) {
+      portFlags[port] &= ~flags;
+      if (portFlags[port] == 0) {
+	numberPortWatchpoints--;
+      }
+    }
+  }
+
+  /**
+   * Removes all breakpoints and watchpoints.
+   */
+  public void clear() {
+    for (int address = 0; address < memoryFlags.length; address++) {
+      memoryFlags[address] = 0;
+    }
+    for (int port = 0; port < portFlags.length; port++) {
+      portFlags[port] = 0;
+    }
+    numberMemoryWatchpoints = numberPortWatchpoints = 0;
+    triggered = false;
+    triggerAddress = -1;
+  }
+
+  // sets memory flags
+  private void addMemoryFlags(final int address, final int flags) {
+    assert (address >= 0) && (address < 0x10000);
+    if (((memoryFlags[address] & (READ | WRITE)) == 0) &&
+	((flags & (READ | WRITE)) != 0)) {
+      numberMemoryWatchpoints++;
+    }
+    memoryFlags[address] |= flags;
+  }
+
+  // clears memory flags
+  private void removeMemoryFlags(final int address, final int flags) {
+    assert (address >= 0) && (address < 0x10000);
+    final boolean watched = (memoryFlags[address] & (READ | WRITE)) != 0;
+    memoryFlags[address] &= ~flags;
+    if (watched && ((memoryFlags[address] & (READ | WRITE)) == 0)) {
+      numberMemoryWatchpoints--;
+    }
+  }
+
+  /**
+   * Checks if execution should stop after an instruction, i.e., if
+   * the Program Counter is at an execution breakpoint or a watchpoint
+   * has been triggered.
+   *
+   * @param  pc the Program Counter (PC)
+   * @return    {@code true} if execution should stop
+   */
+  public boolean isHit(final int pc) {
+    return triggered || ((memoryFlags[pc] & EXECUTE) != 0);
+  }
+
+  /**
+   * Checks if a watchpoint has been triggered since the last
+   * call to {@link #attach}.
+   *
+   * @return {@code true} if a watchpoint has been triggered
+   */
+  public boolean isTriggered() {
+    return triggered;
+  }
+
+  /**
+   * Gets the address or port of the last triggered watchpoint.
+   *
+   * @return the address or port, or {@code -1} if none
+   */
+  public int getTriggerAddress() {
+    return triggerAddress;
+  }
+
+  /**
+   * Prepares the watchpoints for a run of the processor.  Clears
+   * the triggered state and connects the I/O watcher to the watched
+   * ports.
+   *
+   * @param  processor the processor
+   * @param  memory    the memory the processor is using
+   * @return           the memory the processor should use during
+   *                   the run
+   */
+  public AbstractMemory attach(final Processor processor,
+			       final AbstractMemory memory) {
+    triggered = false;
+    for (int port = 0; (numberPortWatchpoints > 0) && (port < 0x100);
+	 port++) {
+      if ((portFlags[port] & READ) != 0) {
+	processor.addIOInput(port, portWatcher);
+      }
+      if ((portFlags[port] & WRITE) != 0) {
+	processor.addIOOutput(port, portWatcher);
+      }
+    }
+    if (numberMemoryWatchpoints == 0) {
+      return memory;
+    }
+    if (watchedMemory != memory) {
+      watchedMemory = memory;
+      watchingMemory = new WatchingMemory(memory);
+    }
+    return watchingMemory;
+  }
+
+  /**
+   * Disconnects the I/O watcher after a run of the processor.
+   *
+   * @param processor the processor
+   */
+  public void detach(final Processor processor) {
+    for (int port = 0; (numberPortWatchpoints > 0) && (port < 0x100);
+	 port++) {
+      if ((portFlags[port] & READ) != 0) {
+	processor.removeIOInput(port, portWatcher);
+      }
+      if ((portFlags[port] & WRITE) != 0) {
+	processor.removeIOOutput(port, portWatcher);
+      }
+    }
+  }
+
+  // records a triggered watchpoint
+  private void trigger(final int address) {
+    triggered = true;
+    triggerAddress = address;
+    log.finer(String.format("Watchpoint triggered: %04x", address));
+  }
+
+  // memory wrapper checking the watchpoints
+  private class WatchingMemory implements AbstractMemory {
+
+    // the wrapped memory
+    private final AbstractMemory memory;
+
+    // creates the wrapper
+    private WatchingMemory(final AbstractMemory memory) {
+      this.memory = memory;
+    }
+
+    // for description see AbstractMemory
+    @Override
+    public int getByte(final int address) {
+      if ((memoryFlags[address] & READ) != 0) {
+	trigger(address);
+      }
+      return memory.getByte(address);
+    }
+
+    // for description see AbstractMemory
+    @Override
+    public void setByte(final int address, final int data) {
+      if ((memoryFlags[address] & WRITE) != 0) {
+	trigger(address);
+      }
+      memory.setByte(address, data);
+    }
+  }
+
+  // I/O element checking the watchpoints
+  private class PortWatcher implements IOElement {
+
+    // for description see IOElement
+    @Override
+    public int portInput(final int port) {
+      trigger(port & 0xff);
+      return 0xff;
+    }
+
+    // for description see IOElement
+    @Override
+    public void portOutput(final int port, final int data) {
+      trigger(port & 0xff);
+    }
+  }
+}
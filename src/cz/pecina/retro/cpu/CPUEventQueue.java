@@ -0,0 +1,382 @@
+/* CPUEventQueue.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.IdentityHashMap;
+
+/**
+ * Event queue of the CPU scheduler.
+ * <p>
+ * Events are held in slots of parallel primitive arrays, the slots
+ * being reused once their events have been fired or removed.  The queue
+ * itself is a binary min-heap of slot numbers, ordered by the scheduled
+ * time and, for events scheduled for the same time, by the order in
+ * which they were added.  No objects are allocated per event.  The time
+ * of the earliest event is cached, so that checking the queue when
+ * nothing is due costs one comparison.
+ * <p>
+ * In addition, the slots of every owner are chained in a doubly linked
+ * list, whose head is kept in an owner-indexed side table.  Removing
+ * the events of an owner and finding its earliest event thus only
+ * visit the owner's own events, rather than the whole queue.
+ * <p>
+ * The queue is not thread-safe, it must only be accessed from
+ * the emulation thread.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public final class CPUEventQueue {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(CPUEventQueue.class.getName());
+
+  // initial capacity of the queue
+  private static final int INITIAL_CAPACITY = 64;
+
+  // value of the next deadline if the queue is empty
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+  // end-of-chain marker
+  private static final int NIL = -1;
+
+  // slot arrays: scheduled time, sequence number, parameter, owner,
+  // position in the heap and links in the owner's chain
+  private long[] times = new long[INITIAL_CAPACITY];
+  private long[] sequences = new long[INITIAL_CAPACITY];
+  private int[] parameters = new int[INITIAL_CAPACITY];
+  private CPUEventOwner[] owners = new CPUEventOwner[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int[] nextLinks = new int[INITIAL_CAPACITY];
+  private int[] previousLinks = new int[INITIAL_CAPACITY];
+
+  // the heap, holding slot numbers
+  private int[] heap = new int[INITIAL_CAPACITY];
+
+  // number of events in the queue
+  private int size;
+
+  // head of the list of free slots, chained through nextLinks
+  private int freeSlot;
+
+  // next sequence number
+  private long nextSequence;
+
+  // time of the earliest event
+  private long nextDeadline = NO_DEADLINE;
+
+  // per-owner record, holding the head of the owner's chain of slots;
+  // records are kept for the lifetime of the queue and reused
+  private static final class OwnerRecord {
+    int head = NIL;
+  }
+
+  // the side table of owners
+  private final Map<CPUEventOwner, OwnerRecord> ownerRecords =
+    new IdentityHashMap<>();
+
+  // the most recently used owner and its record
+  private CPUEventOwner lastOwner;
+  private OwnerRecord lastRecord;
+
+  /**
+   * Creates a new, empty event queue.
+   */
+  public CPUEventQueue() {
+    chainFreeSlots(0);
+  }
+
+  /**
+   * Gets the time of the earliest event.
+   *
+   * @return the time of the earliest event, or {@code Long.MAX_VALUE}
+   *         if the queue is empty
+   */
+  public long getNextDeadline() {
+    return nextDeadline;
+  }
+
+  /**
+   * Gets the number of events in the queue.
+   *
+   * @return the number of events in the queue
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Adds an event to the queue.
+   *
+   * @param owner     the owner of the event
+   * @param time      time when the event will be fired, in system
+   *                  clock units
+   * @param parameter numeric parameter the event will provide to the owner
+   */
+  public void add(final CPUEventOwner owner,
+		  final long time,
+		  final int parameter) {
+    assert owner != null;
+    if (freeSlot == NIL) {
+      grow();
+    }
+    final int slot = freeSlot;
+    freeSlot = nextLinks[slot];
+    times[slot] = time;
+    sequences[slot] = nextSequence++;
+    parameters[slot] = parameter;
+    owners[slot] = owner;
+    final OwnerRecord record = getRecord(owner);
+    final int head = record.head;
+    nextLinks[slot] = head;
+    previousLinks[slot] = NIL;
+    if (head != NIL) {
+      previousLinks[head] = slot;
+    }
+    record.head = slot;
+    final int i = size++;
+    heap[i] = slot;
+    positions[slot] = i;
+    siftUp(i);
+    nextDeadline = times[heap[0]];
+  }
+
+  /**
+   * Removes all events of a particular owner.
+   *
+   * @param owner the owner whose events will be removed
+   */
+  public void removeAll(final CPUEventOwner owner) {
+    final OwnerRecord record = findRecord(owner);
+    if ((record == null) || (record.head == NIL)) {
+      return;
+    }
+    for (int slot = record.head; slot != NIL;) {
+      final int next = nextLinks[slot];
+      removeAt(positions[slot]);
+      freeSlot(slot);
+      slot = next;
+    }
+    record.head = NIL;
+    updateDeadline();
+  }
+
+  /**
+   * Gets the time of the earliest event of a particular owner.
+   *
+   * @param  owner the owner whose events will be evaluated
+   * @return       the time of the earliest event or {@code -1}
+   *               if no event is scheduled
+   */
+  public long getNextTime(final CPUEventOwner owner) {
+    final OwnerRecord record = findRecord(owner);
+    if (record == null) {
+      return -1;
+    }
+    int k = NIL;
+    for (int slot = record.head; slot != NIL; slot = nextLinks[slot]) {
+      if ((k == NIL) || less(slot, k)) {
+	k = slot;
+      }
+    }
+    return (k == NIL) ? -1 : times[k];
+  }
+
+  /**
+   * Fires all events scheduled for {@code time} or earlier,
+   * in the order of their scheduled time.
+   *
+   * @param time the current system clock
+   */
+  public void run(final long time) {
+    if (time < nextDeadline) {
+      return;
+    }
+    while ((size > 0) && (times[heap[0]] <= time)) {
+      final int slot = heap[0];
+      final long scheduledTime = times[slot];
+      final int parameter = parameters[slot];
+      final CPUEventOwner owner = owners[slot];
+      removeAt(0);
+      unlink(slot);
+      freeSlot(slot);
+      updateDeadline();
+      if (Trace.ENABLED) {
+	Trace.event(parameter);
+      }
+      owner.performEvent(parameter, time - scheduledTime);
+    }
+  }
+
+  /**
+   * Removes all events from the queue.
+   */
+  public void clear() {
+    Arrays.fill(owners, null);
+    size = 0;
+    chainFreeSlots(0);
+    ownerRecords.clear();
+    lastOwner = null;
+    lastRecord = null;
+    nextDeadline = NO_DEADLINE;
+  }
+
+  // gets the record of an owner, creating it if necessary
+  private OwnerRecord getRecord(final CPUEventOwner owner) {
+    OwnerRecord record = findRecord(owner);
+    if (record == null) {
+      record = new OwnerRecord();
+      ownerRecords.put(owner, record);
+      lastOwner = owner;
+      lastRecord = record;
+    }
+    return record;
+  }
+
+  // finds the record of an owner, returns null if none exists
+  private OwnerRecord findRecord(final CPUEventOwner owner) {
+    if (owner != lastOwner) {
+      final OwnerRecord record = ownerRecords.get(owner);
+      if (record == null) {
+	return null;
+      }
+      lastOwner = owner;
+      lastRecord = record;
+    }
+    return lastRecord;
+  }
+
+  // removes a slot from its owner's chain
+  private void unlink(final int slot) {
+    final int next = nextLinks[slot];
+    final int previous = previousLinks[slot];
+    if (next != NIL) {
+      previousLinks[next] = previous;
+    }
+    if (previous != NIL) {
+      nextLinks[previous] = next;
+    } else {
+      findRecord(owners[slot]).head = next;
+    }
+  }
+
+  // returns a slot to the list of free slots
+  private void freeSlot(final int slot) {
+    owners[slot] = null;
+    nextLinks[slot] = freeSlot;
+    freeSlot = slot;
+  }
+
+  // chains slots from the first one up to the capacity as free
+  private void chainFreeSlots(final int first) {
+    final int capacity = times.length;
+    for (int slot = first; slot < (capacity - 1); slot++) {
+      nextLinks[slot] = slot + 1;
+    }
+    nextLinks[capacity - 1] = NIL;
+    freeSlot = first;
+  }
+
+  // removes the event at heap position i
+  private void removeAt(final int i) {
+    final int last = --size;
+    if (i != last) {
+      final int moved = heap[last];
+      heap[i] = moved;
+      positions[moved] = i;
+      siftDown(i);
+      if (heap[i] == moved) {
+	siftUp(i);
+      }
+    }
+  }
+
+  // updates the cached deadline
+  private void updateDeadline() {
+    nextDeadline = (size > 0) ? times[heap[0]] : NO_DEADLINE;
+  }
+
+  // true if the event in slot i precedes the event in slot j
+  private boolean less(final int i, final int j) {
+    return (times[i] < times[j]) ||
+      ((times[i] == times[j]) && (sequences[i] < sequences[j]));
+  }
+
+  // swaps heap positions i and j
+  private void swap(final int i, final int j) {
+    final int slot = heap[i];
+    heap[i] = heap[j];
+    heap[j] = slot;
+    positions[heap[i]] = i;
+    positions[heap[j]] = j;
+  }
+
+  // restores the heap property upwards from position i
+  private void siftUp(int i) {
+    while (i > 0) {
+      final int parent = (i - 1) >> 1;
+      if (!less(heap[i], heap[parent])) {
+	break;
+      }
+      swap(i, parent);
+      i = parent;
+    }
+  }
+
+  // restores the heap property downwards from position i
+  private void siftDown(int i) {
+    for (;;) {
+      final int left = (i << 1) + 1;
+      if (left >= size) {
+	break;
+      }
+      final int right = left + 1;
+      final int child =
+	((right < size) && less(heap[right], heap[left])) ? right : left;
+      if (!less(heap[child], heap[i])) {
+	break;
+      }
+      swap(i, child);
+      i = child;
+    }
+  }
+
+  // doubles the capacity of the queue
+  private void grow() {
+    final int oldCapacity = times.length;
+    final int capacity = oldCapacity << 1;
+    times = Arrays.copyOf(times, capacity);
+    sequences = Arrays.copyOf(sequences, capacity);
+    parameters = Arrays.copyOf(parameters, capacity);
+    owners = Arrays.copyOf(owners, capacity);
+    positions = Arrays.copyOf(positions, capacity);
+    nextLinks = Arrays.copyOf(nextLinks, capacity);
+    previousLinks = Arrays.copyOf(previousLinks, capacity);
+    heap = Arrays.copyOf(heap, capacity);
+    chainFreeSlots(oldCapacity);
+    log.finer("Event queue capacity increased to: " + capacity);
+  }
+}
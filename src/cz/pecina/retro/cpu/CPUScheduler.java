@@ -23,16 +23,13 @@ package cz.pecina.retro.cpu;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
-import java.util.TreeSet;
-import java.util.SortedSet;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
-
-import cz.pecina.retro.common.Parameters;
+import cz.pecina.retro.common.MachineContext;
 
 /**
  * CPU clock-driven event scheduler.
+ * <p>
+ * The static methods operate on the event schedule and the system
+ * clock source of the machine context current for the calling thread.
  *
  * @author @AUTHOR@
  * @version @VERSION@
@@ -43,26 +40,17 @@ public final class CPUScheduler {
   private static final Logger log =
     Logger.getLogger(CPUScheduler.class.getName());
 
-  // event schedule, held in a synchronized TreeSet
-  private static final SortedSet<CPUScheduledEvent> schedule =
-    Collections.synchronizedSortedSet(
-      new TreeSet<>(new CPUScheduledEventComparator()));
-
-  // event comparator
-  private static class CPUScheduledEventComparator
-    implements Comparator<CPUScheduledEvent> {
-
-    // for description see Comparator
-    @Override
-    public int compare(final CPUScheduledEvent event1,
-		       final CPUScheduledEvent event2) {
-      final int tc = Long.compare(event1.getTime(), event2.getTime());
-      if (tc != 0) {
-	return tc;
-      } else {
-	return Integer.compare(event1.hashCode(), event2.hashCode());
-      }
-    }
+  /**
+   * Gets the event schedule of the current machine context.
+   * <p>
+   * CPUs should get the schedule once per {@code exec} call and run
+   * it directly, rather than calling {@link #runSchedule} before every
+   * instruction.
+   *
+   * @return the event schedule
+   */
+  public static CPUEventQueue getSchedule() {
+    return MachineContext.getCurrent().getScheduler();
   }
 
   /**
@@ -79,8 +67,11 @@ public final class CPUScheduler {
 				      final int parameter) {
     assert owner != null;
     assert time >= 0;
-    schedule.add(new CPUScheduledEvent(
-      owner, Parameters.systemClockSource.getSystemClock() + time, parameter));
+    final MachineContext context = MachineContext.getCurrent();
+    context.getScheduler().add(
+      owner,
+      context.getSystemClockSource().getSystemClock() + time,
+      parameter);
     if (log.isLoggable(Level.FINER)) {
       log.finer("New event added for (relative time): " + time +
 		", owner: " + owner.getString() + ", parameter: " + parameter);
@@ -115,7 +106,7 @@ public final class CPUScheduler {
 			      final int parameter) {
     assert owner != null;
     assert time > 0;
-    schedule.add(new CPUScheduledEvent(owner, time, parameter));
+    getSchedule().add(owner, time, parameter);
     if (log.isLoggable(Level.FINER)) {
       log.finer("New event added for: " + time +
 		", owner: " + owner.getString() + ", parameter: " + parameter);
@@ -146,12 +137,7 @@ public final class CPUScheduler {
       log.finer("Removing all scheduled events for owner: " +
 		owner.getString());
     }
-    for (Iterator<CPUScheduledEvent> iter =
-	   schedule.iterator(); iter.hasNext();) {
-      if (iter.next().getOwner() == owner) {
-	iter.remove();
-      }
-    }
+    getSchedule().removeAll(owner);
   }
 
   /**
@@ -162,14 +148,10 @@ public final class CPUScheduler {
    *               if no event scheduled
    */
   public static long getRemainingTime(final CPUEventOwner owner) {
-    final long time = Parameters.systemClockSource.getSystemClock();
-    long r = -1;
-    for (CPUScheduledEvent event: schedule) {
-      if (event.getOwner() == owner) {
-	r = event.getTime() - time;
-	break;
-      }
-    }
+    final MachineContext context = MachineContext.getCurrent();
+    final long time = context.getSystemClockSource().getSystemClock();
+    final long next = context.getScheduler().getNextTime(owner);
+    final long r = (next < 0) ? -1 : (next - time);
     if (log.isLoggable(Level.FINER)) {
       log.finer("Remaining time: " + r + " at: " + time +
 		", owner: " + owner.getString());
@@ -186,22 +168,25 @@ public final class CPUScheduler {
    * the schedule should be run before each step.  It is critical
    * that the schedule is run BEFORE the instruction as peripheral
    * devices such as 8253/4 rely on this for precise timing.
+   * <p>
+   * If no event is due, the call amounts to a single comparison
+   * against the cached time of the earliest event.  Events scheduled
+   * for the same time are fired in the order in which they were added.
    *
    * @param time the current system clock
    */
   public static void runSchedule(final long time) {
-    if (log.isLoggable(Level.FINEST)) {
-      log.finest("Running schedule at: " + time);
-    }
-    while (!schedule.isEmpty()) {
-      final CPUScheduledEvent event = schedule.first();
-      final long scheduledTime = event.getTime();
-      if (scheduledTime > time) {
-	break;
-      }
-      schedule.remove(event);
-      event.getOwner().performEvent(event.getParameter(), time - scheduledTime);
-    }
+    getSchedule().run(time);
+  }
+
+  /**
+   * Gets the time of the earliest scheduled event.
+   *
+   * @return the time of the earliest event, or {@code Long.MAX_VALUE}
+   *         if no event is scheduled
+   */
+  public static long getNextDeadline() {
+    return getSchedule().getNextDeadline();
   }
 
   // default constructor disabled
@@ -24,6 +24,8 @@ import java.util.logging.Logger;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
 
 import org.jdom2.Element;
 
@@ -51,6 +53,11 @@ public abstract class Device extends ArrayList<Descriptor> {
    */
   protected String name;
 
+  // index of descriptors by name, valid if the modification count
+  // of the list has not changed since it was built
+  private Map<String,Descriptor> index;
+  private int indexModCount;
+
   /**
    * Constructor storing the name of the element.
    *
@@ -90,16 +97,38 @@ public abstract class Device extends ArrayList<Descriptor> {
   public Block getBlockByName(final String name) {
     log.finer("Requesting Block '" + name + "' from Device '" +
 	      this.name + "'");
-    for (Descriptor descriptor: this) {
-      if ((descriptor instanceof Block) &&
-	  descriptor.getName().equals(name)) {
-	return (Block)descriptor;
-      }
+    final Descriptor descriptor = getDescriptorByName(name);
+    if (descriptor instanceof Block) {
+      return (Block)descriptor;
     }
     log.finer("Block '" + name + "' not found");
     return null;
   }
 
+  /**
+   * Gets the {@code Descriptor} object identified by name.  The lookup
+   * uses a hash index, rebuilt after the list of descriptors has been
+   * modified.
+   *
+   * @param  name name of the {@code Descriptor} object
+   * @return      the {@code Descriptor} object or {@code null}
+   *              if not found
+   */
+  public synchronized Descriptor getDescriptorByName(final String name) {
+    if ((index == null) || (indexModCount != modCount)) {
+      final Map<String,Descriptor> newIndex = new HashMap<>();
+      for (Descriptor descriptor: this) {
+	if (!newIndex.containsKey(descriptor.getName())) {
+	  newIndex.put(descriptor.getName(), descriptor);
+	}
+      }
+      index = newIndex;
+      indexModCount = modCount;
+      log.finer("Descriptor index of Device '" + this.name + "' built");
+    }
+    return index.get(name);
+  }
+
   /**
    * Gets a list of all {@code Block} objects.
    *
@@ -158,26 +187,35 @@ public abstract class Device extends ArrayList<Descriptor> {
    * @param hardware {@code Element} to be loaded
    */
   public void unmarshal(final Element hardware) {
-    log.fine("Unmarshalling device: " + name);
     for (Element device: hardware.getChildren()) {
       if (device.getAttributeValue("name").equals(name)) {
-	preUnmarshal();
-	for (Element descriptorTag: device.getChildren()) {
-	  for (Descriptor descriptor: this) {
-	    if (descriptor.getName().equals(descriptorTag
-					    .getAttributeValue("name"))) {
-	      log.finest("Unmarshalling '" + descriptor.getName() + "'");
-	      descriptor.unmarshal(descriptorTag);
-	      break;
-	    }
-	  }
-	}
-	postUnmarshal();
+	unmarshalDevice(device);
 	break;
       }
     }
   }
 
+  /**
+   * Loads a representation of the {@code Device} from its own
+   * JDOM {@code Element}.  Descriptors the device does not have
+   * are ignored.
+   *
+   * @param device {@code Element} to be loaded
+   */
+  public void unmarshalDevice(final Element device) {
+    log.fine("Unmarshalling device: " + name);
+    preUnmarshal();
+    for (Element descriptorTag: device.getChildren()) {
+      final Descriptor descriptor =
+	getDescriptorByName(descriptorTag.getAttributeValue("name"));
+      if (descriptor != null) {
+	log.finest("Unmarshalling '" + descriptor.getName() + "'");
+	descriptor.unmarshal(descriptorTag);
+      }
+    }
+    postUnmarshal();
+  }
+
   /**
    * Method called before unmarshalling.
    */
@@ -0,0 +1,147 @@
+/* DirtyMap.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Record of modified pages of a memory array.
+ * <p>
+ * The array is divided into pages of {@link PagedMemory#PAGE_SIZE}
+ * bytes.  Instead of a single dirty bit, every page holds the number
+ * of the epoch in which it was last written.  A consumer starts a new
+ * epoch with {@link #newEpoch}, remembers the number returned and
+ * later asks which pages have been written since, so any number of
+ * consumers can track changes independently and starting an epoch,
+ * i.e., clearing all dirty flags for the consumer, takes constant time.
+ * Pages that have never been written are dirty relative to epoch
+ * {@code 0}.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class DirtyMap {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(DirtyMap.class.getName());
+
+  // the current epoch
+  private int epoch = 1;
+
+  // the epochs of the last writes, per page
+  private final int[] stamps;
+
+  /**
+   * Creates a dirty map for a memory array.
+   *
+   * @param size size of the array (in bytes)
+   */
+  public DirtyMap(final int size) {
+    assert size >= 0;
+    stamps =
+      new int[(size + PagedMemory.PAGE_MASK) >> PagedMemory.PAGE_SHIFT];
+    log.fine("New DirtyMap created, pages: " + stamps.length);
+  }
+
+  /**
+   * Gets the number of pages.
+   *
+   * @return the number of pages
+   */
+  public int getNumberPages() {
+    return stamps.length;
+  }
+
+  /**
+   * Marks the page containing an offset as dirty.
+   *
+   * @param offset offset in the array
+   */
+  public void mark(final int offset) {
+    stamps[offset >> PagedMemory.PAGE_SHIFT] = epoch;
+  }
+
+  /**
+   * Marks the pages overlapping a range of offsets as dirty.
+   *
+   * @param offset the first offset in the array
+   * @param length the length of the range (in bytes)
+   */
+  public void mark(final int offset, final int length) {
+    assert (offset >= 0) && (length >= 0);
+    if (length > 0) {
+      Arrays.fill(stamps,
+		  offset >> PagedMemory.PAGE_SHIFT,
+		  ((offset + length - 1) >> PagedMemory.PAGE_SHIFT) + 1,
+		  epoch);
+    }
+  }
+
+  /**
+   * Marks all pages as dirty.
+   */
+  public void markAll() {
+    Arrays.fill(stamps, epoch);
+  }
+
+  /**
+   * Starts a new epoch.  Pages written from now on will be dirty
+   * relative to the returned epoch, older writes will not.
+   *
+   * @return the new epoch
+   */
+  public int newEpoch() {
+    return ++epoch;
+  }
+
+  /**
+   * Checks if a page has been written since an epoch.
+   *
+   * @param  page  the page number
+   * @param  since the epoch, as returned by {@link #newEpoch},
+   *               or {@code 0}
+   * @return       {@code true} if the page has been written
+   *               in {@code since} or later
+   */
+  public boolean isDirty(final int page, final int since) {
+    return stamps[page] >= since;
+  }
+
+  /**
+   * Counts the pages written since an epoch.
+   *
+   * @param  since the epoch, as returned by {@link #newEpoch},
+   *               or {@code 0}
+   * @return       the number of dirty pages
+   */
+  public int countDirty(final int since) {
+    int number = 0;
+    for (int stamp: stamps) {
+      if (stamp >= since) {
+	number++;
+      }
+    }
+    return number;
+  }
+}
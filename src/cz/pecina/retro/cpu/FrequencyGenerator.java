@@ -79,7 +79,7 @@ public class FrequencyGenerator extends Device implements CPUEventOwner {
     counter = 0;
     output = 0;
     outPin.notifyChangeNode();
-    nextEvent = Parameters.systemClockSource.getSystemClock() + offPeriod;
+    nextEvent = Parameters.getSystemClockSource().getSystemClock() + offPeriod;
     CPUScheduler.addEvent(this, nextEvent);
     log.finer("Frequency generator reset");
   }
@@ -162,7 +162,7 @@ public class FrequencyGenerator extends Device implements CPUEventOwner {
     CPUScheduler.removeAllEvents(this);
     CPUScheduler.addEvent(
       this,
-      Parameters.systemClockSource.getSystemClock() + counter);
+      Parameters.getSystemClockSource().getSystemClock() + counter);
     outPin.notifyChangeNode();
     log.fine("Post-unmarshal on frequency counter completed");
   }
@@ -176,7 +176,8 @@ public class FrequencyGenerator extends Device implements CPUEventOwner {
     CPUScheduler.addEvent(this, nextEvent);
     if (log.isLoggable(Level.FINEST)) {
       log.finest(
-        "Event performed at " + Parameters.systemClockSource.getSystemClock() +
+        "Event performed at " +
+	Parameters.getSystemClockSource().getSystemClock() +
 	", parameter: " + parameter + ", output is now: " + output);
       log.finest("New event scheduled for: " + nextEvent);
     }
@@ -23,6 +23,8 @@ package cz.pecina.retro.cpu;
 import java.util.logging.Logger;
 
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
 
 import org.jdom2.Element;
 
@@ -45,6 +47,11 @@ public class Hardware extends ArrayList<Device> {
   // suspension level
   private int suspension;
 
+  // index of devices by name, valid if the modification count
+  // of the list has not changed since it was built
+  private Map<String,Device> index;
+  private int indexModCount;
+
   /**
    * Creates a new set of {@code Device} objects.
    *
@@ -71,16 +78,25 @@ public class Hardware extends ArrayList<Device> {
    * @return      the {@code Device} object or {@code null}
    *              if not found
    */
-  public Device getDeviceByName(final String name) {
+  public synchronized Device getDeviceByName(final String name) {
     log.finer("Requesting Device '" + name + "' from Hardware '" +
 	      this.name + "'");
-    for (Device device: this) {
-      if (device.getName().equals(name)) {
-	return device;
+    if ((index == null) || (indexModCount != modCount)) {
+      final Map<String,Device> newIndex = new HashMap<>();
+      for (Device device: this) {
+	if (!newIndex.containsKey(device.getName())) {
+	  newIndex.put(device.getName(), device);
+	}
       }
+      index = newIndex;
+      indexModCount = modCount;
+      log.finer("Device index of Hardware '" + this.name + "' built");
     }
-    log.finer("Device '" + name + "' not found");
-    return null;
+    final Device device = index.get(name);
+    if (device == null) {
+      log.finer("Device '" + name + "' not found");
+    }
+    return device;
   }
 
   /**
@@ -106,11 +122,44 @@ public class Hardware extends ArrayList<Device> {
    */
   public void unmarshal(final Element hardware) {
     log.fine("Unmarshalling hardware");
+    final Map<String,Element> devices = new HashMap<>();
+    for (Element device: hardware.getChildren()) {
+      final String deviceName = device.getAttributeValue("name");
+      if (!devices.containsKey(deviceName)) {
+	devices.put(deviceName, device);
+      }
+    }
     for (Device device: this) {
-      device.unmarshal(hardware);
+      final Element element = devices.get(device.getName());
+      if (element != null) {
+	device.unmarshalDevice(element);
+      }
     }
   }
 
+  /**
+   * Captures the state of all {@code Device}s in memory.
+   *
+   * @return the save state
+   */
+  public SaveState saveState() {
+    log.fine("Saving state");
+    final SaveState state = new SaveState(this);
+    state.capture();
+    return state;
+  }
+
+  /**
+   * Restores the state of all {@code Device}s from memory.
+   *
+   * @param state the save state, captured on this hardware set
+   */
+  public void restoreState(final SaveState state) {
+    log.fine("Restoring state");
+    assert state.getHardware() == this;
+    state.restore();
+  }
+
   /**
    * Suspends operation of all {@code Device}s.
    */
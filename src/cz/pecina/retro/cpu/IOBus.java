@@ -0,0 +1,196 @@
+/* IOBus.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+
+/**
+ * I/O port bus of a processor with 256 input and 256 output ports.
+ * <p>
+ * The elements connected to each port are kept in plain arrays, which
+ * are rebuilt whenever an element is connected or disconnected, so
+ * that a port access neither searches nor allocates anything.
+ * An element is connected to a port at most once.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class IOBus {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(IOBus.class.getName());
+
+  /**
+   * Number of ports in each direction.
+   */
+  public static final int NUMBER_PORTS = 0x100;
+
+  // empty port
+  private static final IOElement[] EMPTY = new IOElement[0];
+
+  // elements connected to the input ports
+  private final IOElement[][] inputPorts = new IOElement[NUMBER_PORTS][];
+
+  // elements connected to the output ports
+  private final IOElement[][] outputPorts = new IOElement[NUMBER_PORTS][];
+
+  /**
+   * Creates a new bus with no elements connected.
+   */
+  public IOBus() {
+    Arrays.fill(inputPorts, EMPTY);
+    Arrays.fill(outputPorts, EMPTY);
+    log.finer("New I/O bus created");
+  }
+
+  // returns the port with the element appended
+  private static IOElement[] add(final IOElement[] elements,
+				 final IOElement element) {
+    for (IOElement e: elements) {
+      if (e == element) {
+	return elements;
+      }
+    }
+    final IOElement[] newElements =
+      Arrays.copyOf(elements, elements.length + 1);
+    newElements[elements.length] = element;
+    return newElements;
+  }
+
+  // returns the port with the element removed
+  private static IOElement[] remove(final IOElement[] elements,
+				    final IOElement element) {
+    for (int i = 0; i < elements.length; i++) {
+      if (elements[i] == element) {
+	if (elements.length == 1) {
+	  return EMPTY;
+	}
+	final IOElement[] newElements = new IOElement[elements.length - 1];
+	System.arraycopy(elements, 0, newElements, 0, i);
+	System.arraycopy(elements, i + 1, newElements, i,
+			 elements.length - i - 1);
+	return newElements;
+      }
+    }
+    return elements;
+  }
+
+  /**
+   * Connects an element to an input port.
+   *
+   * @param port    the port number
+   * @param element the element
+   */
+  public void addInput(final int port, final IOElement element) {
+    assert (port >= 0) && (port < NUMBER_PORTS);
+    assert element != null;
+    inputPorts[port] = add(inputPorts[port], element);
+  }
+
+  /**
+   * Disconnects an element from an input port.
+   *
+   * @param port    the port number
+   * @param element the element
+   */
+  public void removeInput(final int port, final IOElement element) {
+    assert (port >= 0) && (port < NUMBER_PORTS);
+    assert element != null;
+    inputPorts[port] = remove(inputPorts[port], element);
+  }
+
+  /**
+   * Disconnects all elements from an input port.
+   *
+   * @param port the port number
+   */
+  public void clearInput(final int port) {
+    assert (port >= 0) && (port < NUMBER_PORTS);
+    inputPorts[port] = EMPTY;
+  }
+
+  /**
+   * Connects an element to an output port.
+   *
+   * @param port    the port number
+   * @param element the element
+   */
+  public void addOutput(final int port, final IOElement element) {
+    assert (port >= 0) && (port < NUMBER_PORTS);
+    assert element != null;
+    outputPorts[port] = add(outputPorts[port], element);
+  }
+
+  /**
+   * Disconnects an element from an output port.
+   *
+   * @param port    the port number
+   * @param element the element
+   */
+  public void removeOutput(final int port, final IOElement element) {
+    assert (port >= 0) && (port < NUMBER_PORTS);
+    assert element != null;
+    outputPorts[port] = remove(outputPorts[port], element);
+  }
+
+  /**
+   * Disconnects all elements from an output port.
+   *
+   * @param port the port number
+   */
+  public void clearOutput(final int port) {
+    assert (port >= 0) && (port < NUMBER_PORTS);
+    outputPorts[port] = EMPTY;
+  }
+
+  /**
+   * Reads from a port.  The port is selected by the lower eight bits
+   * of the address, the full address is passed to the elements.
+   * The elements' responses are combined by wired AND.
+   *
+   * @param  address the port address
+   * @return         the byte read, {@code 0xff} if there are
+   *                 no elements connected to the port
+   */
+  public int input(final int address) {
+    int data = 0xff;
+    for (IOElement element: inputPorts[address & 0xff]) {
+      data &= element.portInput(address);
+    }
+    return data;
+  }
+
+  /**
+   * Writes to a port.  The port is selected by the lower eight bits
+   * of the address, the full address is passed to the elements.
+   *
+   * @param address the port address
+   * @param data    the byte written
+   */
+  public void output(final int address, final int data) {
+    for (IOElement element: outputPorts[address & 0xff]) {
+      element.portOutput(address, data);
+    }
+  }
+}
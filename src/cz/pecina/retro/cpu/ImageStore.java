@@ -0,0 +1,122 @@
+/* ImageStore.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.HashMap;
+
+/**
+ * Store of immutable memory images (e.g., ROM contents) shared by all
+ * emulator instances in the JVM.
+ * <p>
+ * Images are interned by contents, so machines loading the same ROM
+ * share a single array regardless of where the contents came from.
+ * The arrays returned must never be modified; a memory device holding
+ * a shared image has to copy it before the first write.  Images are
+ * kept for the lifetime of the JVM, which is acceptable as there is
+ * only a handful of distinct ROMs.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public final class ImageStore {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(ImageStore.class.getName());
+
+  // the interned images
+  private static final Map<Key,byte[]> images = new HashMap<>();
+
+  /**
+   * Gets the shared instance of an image.  If no image with the same
+   * contents is present, {@code image} is added to the store, so it
+   * must not be modified afterwards.
+   *
+   * @param  image the image
+   * @return       the shared image with the same contents
+   */
+  public static synchronized byte[] intern(final byte[] image) {
+    assert image != null;
+    final Key key = new Key(image);
+    final byte[] shared = images.get(key);
+    if (shared != null) {
+      log.finer("Shared image found, size: " + image.length);
+      return shared;
+    }
+    images.put(key, image);
+    log.fine("New image added to the store, size: " + image.length);
+    return image;
+  }
+
+  /**
+   * Pads an image with {@code 0xff} to the required size and gets its
+   * shared instance.
+   *
+   * @param  data the contents, not longer than {@code size}
+   * @param  size the size of the image
+   * @return      the shared image
+   */
+  public static byte[] intern(final byte[] data, final int size) {
+    assert data.length <= size;
+    final byte[] image = Arrays.copyOf(data, size);
+    Arrays.fill(image, data.length, size, (byte)0xff);
+    return intern(image);
+  }
+
+  /**
+   * Gets the number of images in the store.
+   *
+   * @return the number of images
+   */
+  public static synchronized int size() {
+    return images.size();
+  }
+
+  // key comparing images by contents
+  private static class Key {
+
+    private final byte[] image;
+    private final int hash;
+
+    private Key(final byte[] image) {
+      this.image = image;
+      hash = Arrays.hashCode(image);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return (o instanceof Key) && (((Key)o).hash == hash) &&
+	Arrays.equals(((Key)o).image, image);
+    }
+  }
+
+  // default constructor disabled
+  private ImageStore() {}
+}
@@ -781,7 +781,7 @@ public class Intel8251A extends Device implements IOElement {
 	@Override
 	public void processValue(final String value) {
 	  sync1 = Integer.parseInt(value, 16);
-	  log.finer(String.format("Sync character 1: 0x%02", sync1));
+	  log.finer(String.format("Sync character 1: 0x%02x", sync1));
 	}
       });
     add(new Register("SYNC2") {
@@ -792,7 +792,7 @@ public class Intel8251A extends Device implements IOElement {
 	@Override
 	public void processValue(final String value) {
 	  sync2 = Integer.parseInt(value, 16);
-	  log.finer(String.format("Sync character 2: 0x%02", sync2));
+	  log.finer(String.format("Sync character 2: 0x%02x", sync2));
 	}
       });
     add(new Register("TXEN") {
@@ -924,7 +924,7 @@ public class Intel8251A extends Device implements IOElement {
 	@Override
 	public void processValue(final String value) {
 	  tbr = Integer.parseInt(value, 16);
-	  log.finer(String.format("Transmit buffer register: 0x%02", tbr));
+	  log.finer(String.format("Transmit buffer register: 0x%02x", tbr));
 	}
       });
     add(new Register("RBR") {
@@ -935,7 +935,7 @@ public class Intel8251A extends Device implements IOElement {
 	@Override
 	public void processValue(final String value) {
 	  rbr = Integer.parseInt(value, 16);
-	  log.finer(String.format("Receive buffer register: 0x%02", rbr));
+	  log.finer(String.format("Receive buffer register: 0x%02x", rbr));
 	}
       });
     add(new Register("RXRDY") {
@@ -1023,7 +1023,7 @@ public class Intel8251A extends Device implements IOElement {
 	@Override
 	public void processValue(final String value) {
 	  tsr = Integer.parseInt(value, 16);
-	  log.finer(String.format("Transmitter shift register: 0x%02", tsr));
+	  log.finer(String.format("Transmitter shift register: 0x%02x", tsr));
 	}
       });
     add(new Register("TSR_LENGTH") {
@@ -1045,7 +1045,7 @@ public class Intel8251A extends Device implements IOElement {
 	@Override
 	public void processValue(final String value) {
 	  rsr = Integer.parseInt(value, 16);
-	  log.finer(String.format("Receiver shift regisrer: 0x%02", rsr));
+	  log.finer(String.format("Receiver shift regisrer: 0x%02x", rsr));
 	}
       });
     add(new Register("RSR_LENGTH") {
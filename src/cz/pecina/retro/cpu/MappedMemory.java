@@ -21,7 +21,6 @@
 package cz.pecina.retro.cpu;
 
 import java.util.logging.Logger;
-import java.util.logging.Level;
 
 import org.jdom2.Element;
 
@@ -106,15 +105,13 @@ public class MappedMemory extends SimpleMemory {
   @Override
   public int getByte(final int address) {
     assert (address >= 0) && (address < 0x10000);
-    if (log.isLoggable(Level.FINEST))
-      log.finest(String.format("Memory '%s' read: (%04x) -> %02x",
-			       name,
-			       address,
-			       memory[address] & 0xff));
     int data = super.getByte(address) & 0xff;
     if (readListener != null) {
       data = readListener.getByte(address, data);
     }
+    if (Trace.ENABLED) {
+      Trace.read(address, data);
+    }
     return data;
   }
 
@@ -123,23 +120,60 @@ public class MappedMemory extends SimpleMemory {
   public void setByte(final int address, final int data) {
     assert (address >= 0) && (address < 0x10000);
     assert (data >= 0) && (data < 0x100);
-    if ((address < (startROM * 0x0400)) ||
-	(address >= (startRAM * 0x0400))) {
+    if (isWritable(address)) {
       final int oldData = memory[address] & 0xff;
       memory[address] = (byte)data;
+      dirtyMap.mark(address);
       if (writeListener != null) {
 	writeListener.setByte(address, oldData, data);
       }
-      if (log.isLoggable(Level.FINEST)) {
-	log.finest(String.format("Memory '%s' written: %02x -> (%04x)",
-				 name,
-				 (byte)data,
-				 address));
+      if (Trace.ENABLED) {
+	Trace.write(address, data);
+      }
+    } else if (Trace.ENABLED) {
+      Trace.writeDenied(address, data);
+    }
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public void read(final int address,
+		   final byte[] destination,
+		   final int offset,
+		   final int length) {
+    if (readListener == null) {
+      super.read(address, destination, offset, length);
+    } else {
+      for (int i = 0; i < length; i++) {
+	destination[offset + i] = (byte)getByte((address + i) & 0xffff);
+      }
+    }
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public void write(final int address,
+		    final byte[] source,
+		    final int offset,
+		    final int length) {
+    if (writeListener == null) {
+      super.write(address, source, offset, length);
+    } else {
+      for (int i = 0; i < length; i++) {
+	setByte((address + i) & 0xffff, source[offset + i] & 0xff);
+      }
+    }
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public void fill(final int address, final int data, final int length) {
+    if (writeListener == null) {
+      super.fill(address, data, length);
+    } else {
+      for (int i = 0; i < length; i++) {
+	setByte((address + i) & 0xffff, data);
       }
-    } else if (log.isLoggable(Level.FINER)) {
-      log.finer(String.format("Memory '%s' write denied, address: %04x",
-			      name,
-			      address));
     }
   }
 }
@@ -21,7 +21,6 @@
 package cz.pecina.retro.cpu;
 
 import java.util.logging.Logger;
-import java.util.logging.Level;
 
 /**
  * A CPU instruction.
@@ -47,33 +46,29 @@ public class Opcode {
   // type of the instruction as defined in Processor
   private int type;
 
-  // the Executable object of the instruction
-  private Executable exec;
-
   /**
-   * Creates a new CPU instruction.
+   * Creates a new CPU instruction descriptor, used for disassembly
+   * and instruction type checks only.  The instruction is executed
+   * directly by the processor.
    *
    * @param mnemo      the string representation of the instruction code
    * @param parameters the template for the instruction's parameters
    * @param length     the number of bytes the instruction takes up in memory
    * @param type       the type of the instruction as defined
    *                   in {@link Processor}
-   * @param exec       the {@link Executable} object of the instruction
    */
   public Opcode(final String mnemo,
 		final String parameters,
 		final int length,
-		final int type,
-		final Executable exec) {
+		final int type) {
     this.mnemo = mnemo;
     this.parameters = parameters;
     this.length = length;
     this.type = type;
-    this.exec = exec;
     log.fine("New Opcode object created, mnemo: " + mnemo +
 	     ", parameers: " + parameters + ", length: " + length +
 	     ", type: " + type);
-  };
+  }
 
   /**
    * Gets the string representation of the instruction code.
@@ -110,17 +105,4 @@ public class Opcode {
   public int getType() {
     return type;
   }
-
-  /**
-   * Executes the instruction.
-   *
-   * @return the duration of the instruction in system clock units
-   */
-  public int exec() {
-    final int duration = exec.exec();
-    if (log.isLoggable(Level.FINEST))
-      log.finest("Instruction executed, mnemo: " + mnemo +
-		 ", parameters: " + parameters + ", duration: " + duration);
-    return duration;
-  }
 }
@@ -0,0 +1,359 @@
+/* PagedMemory.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+
+/**
+ * 64KB memory space mapped onto backing byte arrays in 1KB pages.
+ * <p>
+ * Every page has a read and a write mapping, each consisting of
+ * a backing array and an offset into it.  Unmapped pages read as
+ * {@code 0xff} and discard writes.  A page may also be marked as
+ * having side effects: reads from such a page are delegated to
+ * {@link #readSideEffects}, and writes to it are followed by a call
+ * to {@link #writeSideEffects}.
+ * <p>
+ * Subclasses set up the mappings and rebuild them whenever the memory
+ * configuration changes (e.g., on bank switching), so that an ordinary
+ * access is just one table lookup and one array access, and a block
+ * transfer is one array copy per page.  Writes
+ * through a mapping may be recorded in the {@link DirtyMap} of
+ * the backing array.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public abstract class PagedMemory extends Device implements AbstractMemory {
+
+  // dynamic logger, per device
+  private Logger log;
+
+  /**
+   * The number of address bits within a page.
+   */
+  public static final int PAGE_SHIFT = 10;
+
+  /**
+   * The size of a page (in bytes).
+   */
+  public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+  /**
+   * The mask of the address bits within a page.
+   */
+  public static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  /**
+   * The number of pages.
+   */
+  public static final int NUMBER_PAGES = 0x10000 >> PAGE_SHIFT;
+
+  // page returned by unmapped reads
+  private static final byte[] UNMAPPED = new byte[PAGE_SIZE];
+
+  static {
+    Arrays.fill(UNMAPPED, (byte)0xff);
+  }
+
+  // page receiving unmapped writes
+  private final byte[] discarded = new byte[PAGE_SIZE];
+
+  // read mappings
+  private final byte[][] readPages = new byte[NUMBER_PAGES][];
+  private final int[] readOffsets = new int[NUMBER_PAGES];
+
+  // write mappings
+  private final byte[][] writePages = new byte[NUMBER_PAGES][];
+  private final int[] writeOffsets = new int[NUMBER_PAGES];
+  private final DirtyMap[] writeDirtyMaps = new DirtyMap[NUMBER_PAGES];
+
+  // side-effect flags
+  private final boolean[] readSideEffectFlags = new boolean[NUMBER_PAGES];
+  private final boolean[] writeSideEffectFlags = new boolean[NUMBER_PAGES];
+
+  /**
+   * Creates a memory with all pages unmapped and without side
+   * effects.
+   *
+   * @param name device name
+   */
+  protected PagedMemory(final String name) {
+    super(name);
+    log = Logger.getLogger(getClass().getName() + "." + name);
+    for (int page = 0; page < NUMBER_PAGES; page++) {
+      unmapRead(page);
+      unmapWrite(page);
+    }
+    log.fine(String.format("New PagedMemory created, name: %s", name));
+  }
+
+  /**
+   * Maps a page for reading.
+   *
+   * @param page   the page number
+   * @param memory the backing array
+   * @param offset the offset of the page in {@code memory}
+   */
+  protected void mapRead(final int page,
+			 final byte[] memory,
+			 final int offset) {
+    assert (page >= 0) && (page < NUMBER_PAGES);
+    assert (offset >= 0) && ((offset + PAGE_SIZE) <= memory.length);
+    readPages[page] = memory;
+    readOffsets[page] = offset;
+  }
+
+  /**
+   * Maps a page for writing.
+   *
+   * @param page   the page number
+   * @param memory the backing array
+   * @param offset the offset of the page in {@code memory}
+   */
+  protected void mapWrite(final int page,
+			  final byte[] memory,
+			  final int offset) {
+    mapWrite(page, memory, offset, null);
+  }
+
+  /**
+   * Maps a page for writing, tracking the writes in a dirty map.
+   *
+   * @param page     the page number
+   * @param memory   the backing array
+   * @param offset   the offset of the page in {@code memory}
+   * @param dirtyMap the dirty map of {@code memory}, or {@code null}
+   *                 if writes are not tracked
+   */
+  protected void mapWrite(final int page,
+			  final byte[] memory,
+			  final int offset,
+			  final DirtyMap dirtyMap) {
+    assert (page >= 0) && (page < NUMBER_PAGES);
+    assert (offset >= 0) && ((offset + PAGE_SIZE) <= memory.length);
+    writePages[page] = memory;
+    writeOffsets[page] = offset;
+    writeDirtyMaps[page] = dirtyMap;
+  }
+
+  /**
+   * Unmaps a page for reading; the page will read as {@code 0xff}.
+   *
+   * @param page the page number
+   */
+  protected void unmapRead(final int page) {
+    mapRead(page, UNMAPPED, 0);
+  }
+
+  /**
+   * Unmaps a page for writing; writes to the page will be ignored.
+   *
+   * @param page the page number
+   */
+  protected void unmapWrite(final int page) {
+    mapWrite(page, discarded, 0);
+  }
+
+  /**
+   * Sets the read side-effect flag of a page.
+   *
+   * @param page  the page number
+   * @param flag  {@code true} if reads from the page are to be
+   *              delegated to {@link #readSideEffects}
+   */
+  protected void setReadSideEffects(final int page, final boolean flag) {
+    assert (page >= 0) && (page < NUMBER_PAGES);
+    readSideEffectFlags[page] = flag;
+  }
+
+  /**
+   * Sets the write side-effect flag of a page.
+   *
+   * @param page  the page number
+   * @param flag  {@code true} if writes to the page are to be
+   *              followed by a call to {@link #writeSideEffects}
+   */
+  protected void setWriteSideEffects(final int page, final boolean flag) {
+    assert (page >= 0) && (page < NUMBER_PAGES);
+    writeSideEffectFlags[page] = flag;
+  }
+
+  /**
+   * Reads a byte from a page with read side effects.
+   *
+   * @param  address address in memory
+   * @return         byte in memory
+   */
+  protected int readSideEffects(final int address) {
+    return 0xff;
+  }
+
+  /**
+   * Processes a byte written to a page with write side effects.
+   * The byte has already been stored according to the write mapping.
+   *
+   * @param address address in memory
+   * @param data    byte written
+   */
+  protected void writeSideEffects(final int address, final int data) {
+  }
+
+  /**
+   * Checks if an address is mapped for writing.
+   *
+   * @param  address address in memory
+   * @return         {@code true} if writes to {@code address}
+   *                 are stored
+   */
+  public boolean isWritable(final int address) {
+    assert (address >= 0) && (address < 0x10000);
+    return writePages[address >> PAGE_SHIFT] != discarded;
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public int getByte(final int address) {
+    assert (address >= 0) && (address < 0x10000);
+    final int page = address >> PAGE_SHIFT;
+    final int data = readSideEffectFlags[page] ?
+      readSideEffects(address) :
+      (readPages[page][readOffsets[page] + (address & PAGE_MASK)] & 0xff);
+    if (Trace.ENABLED) {
+      Trace.read(address, data);
+    }
+    return data;
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public void setByte(final int address, final int data) {
+    assert (address >= 0) && (address < 0x10000);
+    assert (data >= 0) && (data < 0x100);
+    final int page = address >> PAGE_SHIFT;
+    final int offset = writeOffsets[page] + (address & PAGE_MASK);
+    writePages[page][offset] = (byte)data;
+    if (writeDirtyMaps[page] != null) {
+      writeDirtyMaps[page].mark(offset);
+    }
+    if (writeSideEffectFlags[page]) {
+      writeSideEffects(address, data);
+    }
+    if (Trace.ENABLED) {
+      if (writePages[page] != discarded) {
+	Trace.write(address, data);
+      } else {
+	Trace.writeDenied(address, data);
+      }
+    }
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public void read(int address,
+		   final byte[] destination,
+		   int offset,
+		   int length) {
+    assert (address >= 0) && (address < 0x10000);
+    if (Trace.ENABLED) {
+      AbstractMemory.super.read(address, destination, offset, length);
+      return;
+    }
+    while (length > 0) {
+      final int page = address >> PAGE_SHIFT;
+      final int inPage = address & PAGE_MASK;
+      final int number = Math.min(length, PAGE_SIZE - inPage);
+      if (readSideEffectFlags[page]) {
+	for (int i = 0; i < number; i++) {
+	  destination[offset + i] = (byte)readSideEffects(address + i);
+	}
+      } else {
+	System.arraycopy(readPages[page], readOffsets[page] + inPage,
+			 destination, offset, number);
+      }
+      address = (address + number) & 0xffff;
+      offset += number;
+      length -= number;
+    }
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public void write(int address,
+		    final byte[] source,
+		    int offset,
+		    int length) {
+    assert (address >= 0) && (address < 0x10000);
+    if (Trace.ENABLED) {
+      AbstractMemory.super.write(address, source, offset, length);
+      return;
+    }
+    while (length > 0) {
+      final int page = address >> PAGE_SHIFT;
+      final int inPage = address & PAGE_MASK;
+      final int number = Math.min(length, PAGE_SIZE - inPage);
+      final int pageOffset = writeOffsets[page] + inPage;
+      System.arraycopy(source, offset, writePages[page], pageOffset, number);
+      if (writeDirtyMaps[page] != null) {
+	writeDirtyMaps[page].mark(pageOffset, number);
+      }
+      if (writeSideEffectFlags[page]) {
+	for (int i = 0; i < number; i++) {
+	  writeSideEffects(address + i, source[offset + i] & 0xff);
+	}
+      }
+      address = (address + number) & 0xffff;
+      offset += number;
+      length -= number;
+    }
+  }
+
+  // for description see AbstractMemory
+  @Override
+  public void fill(int address, final int data, int length) {
+    assert (address >= 0) && (address < 0x10000);
+    assert (data >= 0) && (data < 0x100);
+    if (Trace.ENABLED) {
+      AbstractMemory.super.fill(address, data, length);
+      return;
+    }
+    while (length > 0) {
+      final int page = address >> PAGE_SHIFT;
+      final int inPage = address & PAGE_MASK;
+      final int number = Math.min(length, PAGE_SIZE - inPage);
+      final int pageOffset = writeOffsets[page] + inPage;
+      Arrays.fill(writePages[page], pageOffset, pageOffset + number,
+		  (byte)data);
+      if (writeDirtyMaps[page] != null) {
+	writeDirtyMaps[page].mark(pageOffset, number);
+      }
+      if (writeSideEffectFlags[page]) {
+	for (int i = 0; i < number; i++) {
+	  writeSideEffects(address + i, data);
+	}
+      }
+      address = (address + number) & 0xffff;
+      length -= number;
+    }
+  }
+}
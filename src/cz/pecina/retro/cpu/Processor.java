@@ -20,8 +20,6 @@
 
 package cz.pecina.retro.cpu;
 
-import java.util.List;
-
 /**
  * CPU capable of maintaining memory, I/O space, reset condition,
  * interrupts and CPU-clock driven scheduler.
@@ -216,11 +214,11 @@ public interface Processor {
    *
    * @param minCycles   minimum number of program cycles to execute
    * @param mask        execution stops if the instruction matches mask
-   * @param breakpoints list of breakpoints (may be {@code null})
+   * @param breakpoints breakpoints and watchpoints (may be {@code null})
    */
   public abstract void exec(long minCycles,
 			    int mask,
-			    List<Integer> breakpoints);
+			    Breakpoints breakpoints);
 
   /**
    * Executes one instruction or a divisible part of it.
@@ -75,7 +75,7 @@ public class ProportionMeter extends Device {
    * Resets the measurement.
    */
   public void reset() {
-    final long time = Parameters.systemClockSource.getSystemClock();
+    final long time = Parameters.getSystemClockSource().getSystemClock();
     offCounter = onCounter = 0;
     lastEdgeTime = time;
     level = (IONode.normalize(inPin.queryNode()) == 1);
@@ -92,7 +92,7 @@ public class ProportionMeter extends Device {
    */
   public double getProportionAndReset() {
     
-    final long time = Parameters.systemClockSource.getSystemClock();
+    final long time = Parameters.getSystemClockSource().getSystemClock();
     if (level) {
       onCounter += time - lastEdgeTime;
     } else {
@@ -124,7 +124,7 @@ public class ProportionMeter extends Device {
       final boolean newLevel = (IONode.normalize(inPin.queryNode()) == 1);
       if (newLevel != level) {
 	level = newLevel;
-	final long time = Parameters.systemClockSource.getSystemClock();
+	final long time = Parameters.getSystemClockSource().getSystemClock();
 	if (level) {
 	  onCounter += time - lastEdgeTime;
 	} else {
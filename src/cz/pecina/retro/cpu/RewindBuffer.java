@@ -0,0 +1,286 @@
+/* RewindBuffer.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer of recent states of a {@code Hardware} set, allowing
+ * the emulation to be rewound.
+ * <p>
+ * A state is captured every {@code interval} calls to {@link #frame}.
+ * Only the newest state is kept in full; each older state is kept as
+ * a delta against its successor, holding the bytes of blocks that
+ * differ and the values of registers.  When the buffer is full,
+ * the oldest state is dropped.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class RewindBuffer {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(RewindBuffer.class.getName());
+
+  // differences shorter than this are merged into one run
+  private static final int GAP = 8;
+
+  // maximum number of states
+  private final int numberStates;
+
+  // number of frames between states
+  private final int interval;
+
+  // the newest state
+  private SaveState current;
+
+  // the state being captured
+  private SaveState next;
+
+  // ring of deltas, the newest at head
+  private final Delta[] deltas;
+  private int head;
+  private int numberDeltas;
+
+  // frames since the last capture
+  private int frameCounter;
+
+  /**
+   * Creates a rewind buffer.
+   *
+   * @param hardware     the hardware set
+   * @param numberStates maximum number of states kept
+   * @param interval     number of frames between states
+   */
+  public RewindBuffer(final Hardware hardware,
+		      final int numberStates,
+		      final int interval) {
+    assert numberStates > 0;
+    assert interval > 0;
+    this.numberStates = numberStates;
+    this.interval = interval;
+    current = new SaveState(hardware);
+    next = new SaveState(hardware);
+    deltas = new Delta[numberStates - 1];
+    for (int i = 0; i < deltas.length; i++) {
+      deltas[i] = new Delta(current.descriptors.length);
+    }
+    log.fine(String.format(
+      "New RewindBuffer created, states: %d, interval: %d",
+      numberStates,
+      interval));
+  }
+
+  /**
+   * Counts a frame; captures a state if the interval has elapsed.
+   */
+  public void frame() {
+    if (++frameCounter >= interval) {
+      capture();
+    }
+  }
+
+  /**
+   * Captures a state immediately.
+   */
+  public void capture() {
+    frameCounter = 0;
+    next.capture();
+    if (current.isCaptured() && (deltas.length > 0)) {
+      head = (head + 1) % deltas.length;
+      deltas[head].encode(next, current);
+      if (numberDeltas < deltas.length) {
+	numberDeltas++;
+      }
+    }
+    final SaveState state = current;
+    current = next;
+    next = state;
+    log.finer("State captured, states: " + getNumberStates());
+  }
+
+  /**
+   * Gets the number of states available.
+   *
+   * @return the number of states available
+   */
+  public int getNumberStates() {
+    return current.isCaptured() ? (numberDeltas + 1) : 0;
+  }
+
+  /**
+   * Gets the maximum number of states.
+   *
+   * @return the maximum number of states
+   */
+  public int getCapacity() {
+    return numberStates;
+  }
+
+  /**
+   * Gets the number of frames between states.
+   *
+   * @return the number of frames between states
+   */
+  public int getInterval() {
+    return interval;
+  }
+
+  /**
+   * Rewinds the hardware set to an earlier state.  The states newer
+   * than the restored one are discarded.
+   *
+   * @param  steps number of states to go back, {@code 0} restores
+   *               the newest state
+   * @return       {@code true} if successful, {@code false} if
+   *               not enough states are available
+   */
+  public boolean rewind(final int steps) {
+    assert steps >= 0;
+    if (steps >= getNumberStates()) {
+      log.fine("Not enough states to rewind by: " + steps);
+      return false;
+    }
+    for (int i = 0; i < steps; i++) {
+      deltas[head].apply(current);
+      head = (head + deltas.length - 1) % deltas.length;
+      numberDeltas--;
+    }
+    current.restore();
+    frameCounter = 0;
+    log.fine("Rewound by: " + steps);
+    return true;
+  }
+
+  /**
+   * Discards all states.
+   */
+  public void clear() {
+    current = new SaveState(current.getHardware());
+    numberDeltas = 0;
+    frameCounter = 0;
+  }
+
+  // difference of a state against its successor
+  private static class Delta {
+
+    // register values of the older state
+    private final String[] values;
+
+    // runs of differing bytes, triplets (descriptor, offset, length)
+    private int[] runs = new int[48];
+    private int numberRuns;
+
+    // the bytes of the older state, concatenated
+    private byte[] bytes = new byte[1024];
+    private int numberBytes;
+
+    // creates an empty delta
+    private Delta(final int numberDescriptors) {
+      values = new String[numberDescriptors];
+    }
+
+    // records the differences between newer and older; for blocks
+    // with a dirty map, only pages written in between are compared
+    private void encode(final SaveState newer, final SaveState older) {
+      numberRuns = numberBytes = 0;
+      for (int i = 0; i < values.length; i++) {
+	final byte[] newerBuffer = newer.buffers[i];
+	if (newerBuffer == null) {
+	  values[i] = older.values[i];
+	  continue;
+	}
+	final byte[] olderBuffer = older.buffers[i];
+	final DirtyMap dirtyMap = newer.dirtyMaps[i];
+	for (int page = 0, start = 0;
+	     start < newerBuffer.length;
+	     page++, start += PagedMemory.PAGE_SIZE) {
+	  if ((dirtyMap == null) || dirtyMap.isDirty(page, older.epochs[i])) {
+	    encodeRange(i, newerBuffer, olderBuffer, start,
+			Math.min(start + PagedMemory.PAGE_SIZE,
+				 newerBuffer.length));
+	  }
+	}
+      }
+    }
+
+    // records the differences within a range of a block
+    private void encodeRange(final int descriptor,
+			     final byte[] newerBuffer,
+			     final byte[] olderBuffer,
+			     final int from,
+			     final int to) {
+      int j = from;
+      while (j < to) {
+	if (newerBuffer[j] == olderBuffer[j]) {
+	  j++;
+	  continue;
+	}
+	final int start = j;
+	int end = ++j;
+	while ((j < to) && ((j - end) < GAP)) {
+	  if (newerBuffer[j] != olderBuffer[j]) {
+	    end = j + 1;
+	  }
+	  j++;
+	}
+	addRun(descriptor, start, end - start, olderBuffer);
+	j = end;
+      }
+    }
+
+    // appends a run
+    private void addRun(final int descriptor,
+			final int offset,
+			final int length,
+			final byte[] buffer) {
+      if ((numberRuns + 3) > runs.length) {
+	runs = Arrays.copyOf(runs, runs.length * 2);
+      }
+      runs[numberRuns++] = descriptor;
+      runs[numberRuns++] = offset;
+      runs[numberRuns++] = length;
+      if ((numberBytes + length) > bytes.length) {
+	bytes = Arrays.copyOf(bytes,
+			      Math.max(bytes.length * 2, numberBytes + length));
+      }
+      System.arraycopy(buffer, offset, bytes, numberBytes, length);
+      numberBytes += length;
+    }
+
+    // turns the newer state into the older one
+    private void apply(final SaveState state) {
+      for (int i = 0; i < values.length; i++) {
+	if (state.buffers[i] == null) {
+	  state.values[i] = values[i];
+	}
+      }
+      for (int i = 0, position = 0; i < numberRuns; i += 3) {
+	System.arraycopy(bytes, position,
+			 state.buffers[runs[i]], runs[i + 1], runs[i + 2]);
+	position += runs[i + 2];
+      }
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/* SaveState.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+/**
+ * In-memory state of a {@code Hardware} set.
+ * <p>
+ * A save state holds the values of all {@code Register}s and
+ * the contents of all {@code Block}s of the hardware set, i.e.,
+ * the same information as a snapshot, but without any conversion.
+ * The buffers for block contents are allocated when the save state
+ * is created, so an instance can be captured repeatedly without
+ * allocating memory for the blocks.  For blocks with a dirty map,
+ * only the pages written since the previous capture are copied.
+ * Restoring a state follows the same protocol as unmarshalling
+ * a snapshot.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class SaveState {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(SaveState.class.getName());
+
+  // the hardware set
+  private final Hardware hardware;
+
+  // the devices and the index of their first descriptor
+  private final Device[] devices;
+  private final int[] deviceStarts;
+
+  // all descriptors, flattened
+  final Descriptor[] descriptors;
+
+  // register values, null for blocks
+  final String[] values;
+
+  // block contents, null for registers
+  final byte[][] buffers;
+
+  // dirty maps of blocks, null if not tracked
+  final DirtyMap[] dirtyMaps;
+
+  // epochs started by the last capture, per block
+  final int[] epochs;
+
+  // true if the state has been captured
+  private boolean captured;
+
+  /**
+   * Creates an empty save state for a hardware set.  The structure
+   * of the hardware set must not change afterwards.
+   *
+   * @param hardware the hardware set
+   */
+  public SaveState(final Hardware hardware) {
+    assert hardware != null;
+    this.hardware = hardware;
+    devices = hardware.toArray(new Device[hardware.size()]);
+    deviceStarts = new int[devices.length + 1];
+    int number = 0;
+    for (int i = 0; i < devices.length; i++) {
+      deviceStarts[i] = number;
+      number += devices[i].size();
+    }
+    deviceStarts[devices.length] = number;
+    descriptors = new Descriptor[number];
+    values = new String[number];
+    buffers = new byte[number][];
+    dirtyMaps = new DirtyMap[number];
+    epochs = new int[number];
+    int size = 0;
+    for (int i = 0, j = 0; i < devices.length; i++) {
+      for (Descriptor descriptor: devices[i]) {
+	descriptors[j] = descriptor;
+	if (descriptor instanceof Block) {
+	  buffers[j] =
+	    new byte[((Block)descriptor).getReadOnlyMemory().length];
+	  dirtyMaps[j] = ((Block)descriptor).getDirtyMap();
+	  size += buffers[j].length;
+	}
+	j++;
+      }
+    }
+    log.fine(String.format(
+      "New SaveState created for '%s', descriptors: %d, bytes: %d",
+      hardware.getName(),
+      number,
+      size));
+  }
+
+  /**
+   * Gets the hardware set.
+   *
+   * @return the hardware set
+   */
+  public Hardware getHardware() {
+    return hardware;
+  }
+
+  /**
+   * Checks if the state has been captured.
+   *
+   * @return {@code true} if the state has been captured
+   */
+  public boolean isCaptured() {
+    return captured;
+  }
+
+  /**
+   * Captures the current state of the hardware set.
+   */
+  public void capture() {
+    for (int i = 0; i < devices.length; i++) {
+      devices[i].preMarshal();
+      for (int j = deviceStarts[i]; j < deviceStarts[i + 1]; j++) {
+	if (buffers[j] != null) {
+	  copyBlock(j);
+	} else {
+	  values[j] = ((Register)descriptors[j]).getValue();
+	}
+      }
+      devices[i].postMarshal();
+    }
+    captured = true;
+    log.finer("State captured");
+  }
+
+  /**
+   * Sets the hardware set to the captured state.
+   */
+  public void restore() {
+    assert captured;
+    for (int i = 0; i < devices.length; i++) {
+      devices[i].preUnmarshal();
+      for (int j = deviceStarts[i]; j < deviceStarts[i + 1]; j++) {
+	if (buffers[j] != null) {
+	  ((Block)descriptors[j]).update(buffers[j], buffers[j].length);
+	} else {
+	  ((Register)descriptors[j]).processValue(values[j]);
+	}
+      }
+      devices[i].postUnmarshal();
+    }
+    log.finer("State restored");
+  }
+
+  // copies the contents of a block
+  private void copyBlock(final int descriptor) {
+    final byte[] memory =
+      ((Block)descriptors[descriptor]).getReadOnlyMemory();
+    final byte[] buffer = buffers[descriptor];
+    final DirtyMap dirtyMap = dirtyMaps[descriptor];
+    if (dirtyMap == null) {
+      System.arraycopy(memory, 0, buffer, 0, buffer.length);
+      return;
+    }
+    final int since = epochs[descriptor];
+    for (int page = 0, offset = 0;
+	 offset < buffer.length;
+	 page++, offset += PagedMemory.PAGE_SIZE) {
+      if (dirtyMap.isDirty(page, since)) {
+	System.arraycopy(memory, offset, buffer, offset,
+			 Math.min(PagedMemory.PAGE_SIZE, buffer.length - offset));
+      }
+    }
+    epochs[descriptor] = dirtyMap.newEpoch();
+  }
+}
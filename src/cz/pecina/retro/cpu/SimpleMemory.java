@@ -21,7 +21,6 @@
 package cz.pecina.retro.cpu;
 
 import java.util.logging.Logger;
-import java.util.logging.Level;
 
 import org.jdom2.Element;
 
@@ -30,11 +29,12 @@ import cz.pecina.retro.memory.Info;
 
 /**
  * Contiguous block of 64KB RAM with one optional ROM (non-writeable) block.
+ * The block is mapped by the page tables of {@link PagedMemory}.
  *
  * @author @AUTHOR@
  * @version @VERSION@
  */
-public class SimpleMemory extends Device implements AbstractMemory {
+public class SimpleMemory extends PagedMemory {
 
   // dynamic logger, per device
   private Logger log;
@@ -44,6 +44,11 @@ public class SimpleMemory extends Device implements AbstractMemory {
    */
   protected final byte[] memory = new byte[0x10000];
 
+  /**
+   * The dirty map of the memory.
+   */
+  protected final DirtyMap dirtyMap = new DirtyMap(0x10000);
+
   /**
    * The start of non-writeable memory (in KiB).
    */
@@ -78,6 +83,7 @@ public class SimpleMemory extends Device implements AbstractMemory {
 	@Override
 	public void processValue(final String value) {
 	  SimpleMemory.this.startROM = Integer.parseInt(value);
+	  remap();
 	}
       });
     add(new Register("RAM") {
@@ -88,9 +94,10 @@ public class SimpleMemory extends Device implements AbstractMemory {
 	@Override
 	public void processValue(final String value) {
 	  SimpleMemory.this.startRAM = Integer.parseInt(value);
+	  remap();
 	}
       });
-    add(new Block("COMBINED") {
+    add(new Block("COMBINED", dirtyMap) {
 	@Override
 	public byte[] getMemory() {
 	  return memory;
@@ -104,9 +111,25 @@ public class SimpleMemory extends Device implements AbstractMemory {
 	  Snapshot.processBlockElement(memory, block, 0);
 	}
       });
+    remap();
     log.fine(String.format("New SimpleMemory created, name: %s", name));
   }
 
+  // rebuilds the page tables
+  private void remap() {
+    assert (startROM >= 0) && (startROM <= NUMBER_PAGES);
+    assert (startRAM >= 0) && (startRAM <= NUMBER_PAGES);
+    for (int page = 0; page < NUMBER_PAGES; page++) {
+      mapRead(page, memory, page * PAGE_SIZE);
+      if ((page < startROM) || (page >= startRAM)) {
+	mapWrite(page, memory, page * PAGE_SIZE, dirtyMap);
+      } else {
+	unmapWrite(page);
+      }
+    }
+    log.finer("Page tables rebuilt");
+  }
+
   /**
    * Gets start of non-writeable memory.
    *
@@ -124,6 +147,7 @@ public class SimpleMemory extends Device implements AbstractMemory {
   public void setStartROM(final int startROM) {
     assert (startROM >= 0) && (startROM <= 64);
     this.startROM = startROM;
+    remap();
   }
 
   /**
@@ -143,38 +167,6 @@ public class SimpleMemory extends Device implements AbstractMemory {
   public void setStartRAM(final int startRAM) {
     assert (startRAM >= 0) && (startRAM <= 64);
     this.startRAM = startRAM;
-  }
-
-  // for description see AbstractMemory
-  @Override
-  public int getByte(final int address) {
-    assert (address >= 0) && (address < 0x10000);
-    if (log.isLoggable(Level.FINEST))
-      log.finest(String.format("Memory '%s' read: (%04x) -> %02x",
-			       name,
-			       address,
-			       memory[address] & 0xff));
-    return memory[address] & 0xff;
-  }
-
-  // for description see AbstractMemory
-  @Override
-  public void setByte(final int address, final int data) {
-    assert (address >= 0) && (address < 0x10000);
-    assert (data >= 0) && (data < 0x100);
-    if ((address < (startROM * 0x0400)) ||
-	(address >= (startRAM * 0x0400))) {
-      memory[address] = (byte)data;
-      if (log.isLoggable(Level.FINEST)) {
-	log.finest(String.format("Memory '%s' written: %02x -> (%04x)",
-				 name,
-				 (byte)data,
-				 address));
-      }
-    } else if (log.isLoggable(Level.FINER)) {
-      log.finer(String.format("Memory '%s' write denied, address: %04x",
-			      name,
-			      address));
-    }
+    remap();
   }
 }
@@ -0,0 +1,213 @@
+/* Trace.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.logging.Logger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import cz.pecina.retro.common.MachineContext;
+
+/**
+ * Binary trace of CPU and memory activity.
+ * <p>
+ * Tracing is enabled by setting the system property
+ * {@code cz.pecina.retro.trace} to the name of the trace file.
+ * The switch is read once, when the class is initialized; trace points
+ * must be guarded by {@link #ENABLED}, so that with tracing disabled
+ * the JIT compiler removes them altogether.
+ * <p>
+ * The trace file is a sequence of 20-byte big-endian records:
+ * <pre>
+ *   byte  type       (one of the TYPE_* constants)
+ *   byte  value      (data byte or instruction opcode)
+ *   short address    (memory address or PC)
+ *   int   parameter  (event parameter or opcode page, otherwise 0)
+ *   int   context    (id of the machine context)
+ *   long  clock      (system clock of the machine context)
+ * </pre>
+ * There is one trace file per JVM; when several machines are run,
+ * e.g., by the batch runner, their records are interleaved and told
+ * apart by the id of the machine context (see
+ * {@link MachineContext#getId}).
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public final class Trace {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(Trace.class.getName());
+
+  /**
+   * The name of the system property holding the trace file name.
+   */
+  public static final String PROPERTY = "cz.pecina.retro.trace";
+
+  /**
+   * {@code true} if tracing is enabled.
+   */
+  public static final boolean ENABLED = (System.getProperty(PROPERTY) != null);
+
+  /**
+   * Record type: instruction about to be executed.
+   */
+  public static final int TYPE_INSTRUCTION = 1;
+
+  /**
+   * Record type: memory read.
+   */
+  public static final int TYPE_READ = 2;
+
+  /**
+   * Record type: memory write.
+   */
+  public static final int TYPE_WRITE = 3;
+
+  /**
+   * Record type: memory write denied.
+   */
+  public static final int TYPE_WRITE_DENIED = 4;
+
+  /**
+   * Record type: scheduled event fired.
+   */
+  public static final int TYPE_EVENT = 5;
+
+  // the trace stream, null if not open
+  private static DataOutputStream stream;
+
+  static {
+    if (ENABLED) {
+      final File file = new File(System.getProperty(PROPERTY));
+      try {
+	stream = new DataOutputStream(new BufferedOutputStream(
+	  new FileOutputStream(file)));
+	Runtime.getRuntime().addShutdownHook(new Thread() {
+	    @Override
+	    public void run() {
+	      close();
+	    }
+	  });
+	log.info("Tracing to: " + file);
+      } catch (final IOException exception) {
+	log.warning("Trace file cannot be opened: " + file);
+      }
+    }
+  }
+
+  // default constructor disabled
+  private Trace() {
+  }
+
+  // writes one record
+  private static synchronized void write(final int type,
+					 final int value,
+					 final int address,
+					 final int parameter) {
+    if (stream != null) {
+      final MachineContext context = MachineContext.getCurrent();
+      final SystemClockSource clock = context.getSystemClockSource();
+      try {
+	stream.writeByte(type);
+	stream.writeByte(value);
+	stream.writeShort(address);
+	stream.writeInt(parameter);
+	stream.writeInt(context.getId());
+	stream.writeLong((clock == null) ? 0 : clock.getSystemClock());
+      } catch (final IOException exception) {
+	log.warning("Error writing trace, tracing stopped");
+	stream = null;
+      }
+    }
+  }
+
+  /**
+   * Flushes and closes the trace file.
+   */
+  public static synchronized void close() {
+    if (stream != null) {
+      try {
+	stream.close();
+      } catch (final IOException exception) {
+	log.warning("Error closing trace");
+      }
+      stream = null;
+    }
+  }
+
+  /**
+   * Records an instruction about to be executed.
+   *
+   * @param address the address of the instruction
+   * @param opcode  the opcode of the instruction
+   * @param page    the opcode page (prefix), zero if none
+   */
+  public static void instruction(final int address,
+				 final int opcode,
+				 final int page) {
+    write(TYPE_INSTRUCTION, opcode, address, page);
+  }
+
+  /**
+   * Records a memory read.
+   *
+   * @param address the address
+   * @param data    the byte read
+   */
+  public static void read(final int address, final int data) {
+    write(TYPE_READ, data, address, 0);
+  }
+
+  /**
+   * Records a memory write.
+   *
+   * @param address the address
+   * @param data    the byte written
+   */
+  public static void write(final int address, final int data) {
+    write(TYPE_WRITE, data, address, 0);
+  }
+
+  /**
+   * Records a denied memory write.
+   *
+   * @param address the address
+   * @param data    the byte that was not written
+   */
+  public static void writeDenied(final int address, final int data) {
+    write(TYPE_WRITE_DENIED, data, address, 0);
+  }
+
+  /**
+   * Records a fired scheduled event.
+   *
+   * @param parameter the event parameter
+   */
+  public static void event(final int parameter) {
+    write(TYPE_EVENT, 0, 0, parameter);
+  }
+}
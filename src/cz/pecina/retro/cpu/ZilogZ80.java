@@ -21,12 +21,6 @@
 package cz.pecina.retro.cpu;
 
 import java.util.logging.Logger;
-import java.util.logging.Level;
-
-import java.util.List;
-import java.util.ArrayList;
-import java.util.Set;
-import java.util.HashSet;
 
 /**
  * Zilog Z80 CPU.
@@ -39,6 +33,17 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
   // dynamic logger, per device
   private Logger log;
 
+  // pages of the flat decode table
+  private static final int
+    PAGE_MAIN = 0,
+    PAGE_CB = 1,
+    PAGE_DD = 2,
+    PAGE_ED = 3,
+    PAGE_FD = 4,
+    PAGE_DDCB = 5,
+    PAGE_FDCB = 6,
+    NUMBER_PAGES = 7;
+
   /**
    * Mask of the Sign (S) flag.
    */
@@ -85,14 +90,9 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
   protected AbstractMemory memory;
 
   /**
-   * List of input ports.
-   */
-  protected final List<Set<IOElement>> inputPorts = new ArrayList<>();
-
-  /**
-   * List of output ports.
+   * The I/O port bus.
    */
-  protected final List<Set<IOElement>> outputPorts = new ArrayList<>();
+  protected final IOBus ioBus = new IOBus();
 
   /**
    * CPU register A (Accumulator).
@@ -665,10 +665,6 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
 	}
       });
 
-    for (int i = 0; i < 0x100; i++) {
-      inputPorts.add(new HashSet<IOElement>());
-      outputPorts.add(new HashSet<IOElement>());
-    }
     log.fine(String.format("New Intel 8080A created, name: %s", name));
   }
 
@@ -682,47 +678,37 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
   // for description see Processor
   @Override
   public void addIOInput(final int port, final IOElement element) {
-    assert (port >= 0) && (port < 0x100);
-    assert element != null;
-    inputPorts.get(port).add(element);
+    ioBus.addInput(port, element);
   }
 
   // for description see Processor
   @Override
   public void removeIOInput(final int port, final IOElement element) {
-    assert (port >= 0) && (port < 0x100);
-    assert element != null;
-    inputPorts.get(port).remove(element);
+    ioBus.removeInput(port, element);
   }
 
   // for description see Processor
   @Override
   public void clearIOInput(final int port) {
-    assert (port >= 0) && (port < 0x100);
-    inputPorts.get(port).clear();
+    ioBus.clearInput(port);
   }
 
   // for description see Processor
   @Override
   public void addIOOutput(final int port, final IOElement element) {
-    assert (port >= 0) && (port < 0x100);
-    assert element != null;
-    outputPorts.get(port).add(element);
+    ioBus.addOutput(port, element);
   }
 
   // for description see Processor
   @Override
   public void removeIOOutput(final int port, final IOElement element) {
-    assert (port >= 0) && (port < 0x100);
-    assert element != null;
-    outputPorts.get(port).remove(element);
+    ioBus.removeOutput(port, element);
   }
 
   // for description see Processor
   @Override
   public void clearIOOutput(final int port) {
-    assert (port >= 0) && (port < 0x100);
-    outputPorts.get(port).clear();
+    ioBus.clearOutput(port);
   }
 
   /**
@@ -1728,3580 +1714,628 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
   protected final Opcode[] opcodes = new Opcode[] {
 
     // 00
-    new Opcode("NOP", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("NOP", "", 1, 0),
 
     // 01
-    new Opcode("LD", "BC,<nn>", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  C = memory.getByte(PC);
-	  incPC();
-	  B = memory.getByte(PC);
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("LD", "BC,<nn>", 3, 0),
 
     // 02
-    new Opcode("LD", "(BC),A", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(BC(), A);
-	  WZ = ((C + 1) & 0xff) + (A << 8);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(BC),A", 1, Processor.INS_MW),
 
     // 03
-    new Opcode("INC", "BC", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = (C + 1) & 0xff;
-	  if (C == 0) {
-	    B = (B + 1) & 0xff;
-	  }
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("INC", "BC", 1, 0),
 
     // 04
-    new Opcode("INC", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = (B + 1) & 0xff;
-	  F4(B);
-	  if (B == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((B & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "B", 1, 0),
 
     // 05
-    new Opcode("DEC", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = (B - 1) & 0xff;
-	  F4(B);
-	  if (B == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((B & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "B", 1, 0),
 
     // 06
-    new Opcode("LD", "B,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  B = memory.getByte(PC);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "B,<n>", 2, 0),
 
     // 07
-    new Opcode("RLCA", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = ((A << 1) | (F & 1)) & 0xff;
-	  F2(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("RLCA", "", 1, 0),
 
     // 08
-    new Opcode("EX", "AF,AF'", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  int tb = A;
-	  A = Aa;
-	  Aa = tb;
-	  tb = F;
-	  F = Fa;
-	  Fa = tb;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("EX", "AF,AF'", 1, 0),
 
     // 09
-    new Opcode("ADD", "HL,BC", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int ti = (H << 8) + L + (B << 8) + C;
-	  if (((H ^ B ^ (ti >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  F2(H);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "HL,BC", 1, 0),
 
     // 0a
-    new Opcode("LD", "A,(BC)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A = memory.getByte(BC());
-	  WZ = (BC() + 1) & 0xffff;
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "A,(BC)", 1, Processor.INS_MR),
 
     // 0b
-    new Opcode("DEC", "BC", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (--C < 0) {
-	    C = 0xff;
-	    B = (B - 1) & 0xff;
-	  }
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("DEC", "BC", 1, 0),
 
     // 0c
-    new Opcode("INC", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = (C + 1) & 0xff;
-	  F4(C);
-	  if (C == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((C & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "C", 1, 0),
 
     // 0d
-    new Opcode("DEC", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = (C - 1) & 0xff;
-	  F4(C);
-	  if (C == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((C & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "C", 1, 0),
 
     // 0e
-    new Opcode("LD", "C,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  C = memory.getByte(PC);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "C,<n>", 2, 0),
 
     // 0f
-    new Opcode("RRCA", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = ((A >> 1) | (F << 7)) & 0xff;
-	  F2(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("RRCA", "", 1, 0),
 
     // 10
-    new Opcode("DJNZ", "<e>", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  B = (B - 1) & 0xff;
-	  if (B == 0) {
-	    incPC(2);
-	    return 8;
-	  } else {
-	    incPC();
-	    PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
-	    return 13;
-	  }
-	}
-      }
-      ),
+    new Opcode("DJNZ", "<e>", 1, Processor.INS_JMP),
 
     // 11
-    new Opcode("LD", "DE,<nn>", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  E = memory.getByte(PC);
-	  incPC();
-	  D = memory.getByte(PC);
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("LD", "DE,<nn>", 3, 0),
 
     // 12
-    new Opcode("LD", "(DE),A", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(DE(), A);
-	  WZ = ((E + 1) & 0xff) + (A << 8);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(DE),A", 1, Processor.INS_MW),
 
     // 13
-    new Opcode("INC", "DE", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = (E + 1) & 0xff;
-	  if (E == 0) {
-	    D = (D + 1) & 0xff;
-	  }
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("INC", "DE", 1, 0),
 
     // 14
-    new Opcode("INC", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = (D + 1) & 0xff;
-	  F4(D);
-	  if (D == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((D & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "D", 1, 0),
 
     // 15
-    new Opcode("DEC", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = (D - 1) & 0xff;
-	  F4(D);
-	  if (D == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((D & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "D", 1, 0),
 
     // 16
-    new Opcode("LD", "D,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  D = memory.getByte(PC);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "D,<n>", 2, 0),
 
     // 17
-    new Opcode("RLA", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = A;
-	  A = ((A << 1) | (F & 1)) & 0xff;
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F2(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("RLA", "", 1, 0),
 
     // 18
-    new Opcode("JR", "<e>", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("JR", "<e>", 1, Processor.INS_JMP),
 
     // 19
-    new Opcode("ADD", "HL,DE", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int ti = (H << 8) + L + (D << 8) + E;
-	  if (((H ^ D ^ (ti >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  F2(H);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "HL,DE", 1, 0),
 
     // 1a
-    new Opcode("LD", "A,(DE)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A = memory.getByte(DE());
-	  WZ = (DE() + 1) & 0xffff;
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "A,(DE)", 1, Processor.INS_MR),
 
     // 1b
-    new Opcode("DEC", "DE", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (--E < 0) {
-	    E = 0xff;
-	    D = (D - 1) & 0xff;
-	  }
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("DEC", "DE", 1, 0),
 
     // 1c
-    new Opcode("INC", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = (E + 1) & 0xff;
-	  F4(E);
-	  if (E == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((E & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "E", 1, 0),
 
     // 1d
-    new Opcode("DEC", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = (E - 1) & 0xff;
-	  F4(E);
-	  if (E == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((E & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "E", 1, 0),
 
     // 1e
-    new Opcode("LD", "E,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  E = memory.getByte(PC);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "E,<n>", 2, 0),
 
     // 1f
-    new Opcode("RRA", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = A;
-	  A = ((A >> 1) | (F << 7)) & 0xff;
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F2(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("RRA", "", 1, 0),
 
     // 20
-    new Opcode("JR", "NZ,<e>", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    incPC(2);
-	    return 7;
-	  } else {
-	    incPC();
-	    PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
-	    return 12;
-	  }
-	}
-      }
-      ),
+    new Opcode("JR", "NZ,<e>", 1, Processor.INS_JMP),
 
     // 21
-    new Opcode("LD", "HL,<nn>", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  L = memory.getByte(PC);
-	  incPC();
-	  H = memory.getByte(PC);
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("LD", "HL,<nn>", 3, 0),
 
     // 22
-    new Opcode("LD", "(<nn>),HL", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  memory.setByte(WZ, L);
-	  incWZ();
-	  memory.setByte(WZ, H);
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),HL", 3, Processor.INS_MW),
 
     // 23
-    new Opcode("INC", "HL", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = (L + 1) & 0xff;
-	  if (L == 0) {
-	    H = (H + 1) & 0xff;
-	  }
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("INC", "HL", 1, 0),
 
     // 24
-    new Opcode("INC", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = (H + 1) & 0xff;
-	  F4(H);
-	  if (H == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((H & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "H", 1, 0),
 
     // 25
-    new Opcode("DEC", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = (H - 1) & 0xff;
-	  F4(H);
-	  if (H == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((H & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "H", 1, 0),
 
     // 26
-    new Opcode("LD", "H,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  H = memory.getByte(PC);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "H,<n>", 2, 0),
 
     // 27
-    new Opcode("DAA", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ld = A & 0x0f;
-	  if (NFSET()) {
-	    final boolean hd = CFSET() || (A > 0x99);
-	    if (HFSET() || (ld > 9)) {
-	      if (ld > 5) {
-		CLEARHF();
-	      }
-	      A = (A - 6) & 0xff;
-	    }
-	    if (hd) {
-	      A -= 0x0160;
-	    }
-	  } else {
-	    if (HFSET() || (ld > 9)) {
-	      if (ld > 9) {
-		SETHF();
-	      } else {
-		CLEARHF();
-	      }
-	      A += 6;
-	    }
-	    if (CFSET() || ((A & 0x01f0) > 0x90)) {
-	      A += 0x60;
-	    }
-	  }
-	  if (((A >> 8) & 1) == 1) {
-	    SETCF();
-	  }
-	  A &= 0xff;
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DAA", "", 1, 0),
 
     // 28
-    new Opcode("JR", "Z,<e>", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (!ZFSET()) {
-	    incPC(2);
-	    return 7;
-	  } else {
-	    incPC();
-	    PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
-	    return 12;
-	  }
-	}
-      }
-      ),
+    new Opcode("JR", "Z,<e>", 1, Processor.INS_JMP),
 
     // 29
-    new Opcode("ADD", "HL,HL", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int ti = HL() << 1;
-	  if (((ti >> 8) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  F2(H);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "HL,HL", 1, 0),
 
     // 2a
-    new Opcode("LD", "HL,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  L = memory.getByte(WZ);
-	  incWZ();
-	  H = memory.getByte(WZ);
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("LD", "HL,(<nn>)", 3, Processor.INS_MR),
 
     // 2b
-    new Opcode("DEC", "HL", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (--L < 0) {
-	    L = 0xff;
-	    H = (H - 1) & 0xff;
-	  }
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("DEC", "HL", 1, 0),
 
     // 2c
-    new Opcode("INC", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = (L + 1) & 0xff;
-	  F4(L);
-	  if (L == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((L & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "L", 1, 0),
 
     // 2d
-    new Opcode("DEC", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = (L - 1) & 0xff;
-	  F4(L);
-	  if (L == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((L & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "L", 1, 0),
 
     // 2e
-    new Opcode("LD", "L,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  L = memory.getByte(PC);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "L,<n>", 2, 0),
 
     // 2f
-    new Opcode("CPL", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (~A) & 0xff;
-	  F2(A);
-	  SETHF();
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CPL", "", 1, 0),
 
     // 30
-    new Opcode("JR", "NC,<e>", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    incPC(2);
-	    return 7;
-	  } else {
-	    incPC();
-	    PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
-	    return 12;
-	  }
-	}
-      }
-      ),
+    new Opcode("JR", "NC,<e>", 1, Processor.INS_JMP),
 
     // 31
-    new Opcode("LD", "SP,<nn>", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  incPC();
-	  SP = tb + (memory.getByte(PC) << 8);
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("LD", "SP,<nn>", 3, 0),
 
     // 32
-    new Opcode("LD", "(<nn>),A", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  memory.setByte(WZ + (memory.getByte(PC) << 8), A);
-	  WZ += A << 8;
-	  incPC();
-	  return 13;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),A", 3, Processor.INS_MW),
 
     // 33
-    new Opcode("INC", "SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incSP();
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("INC", "SP", 1, 0),
 
     // 34
     new Opcode("INC", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  final int tb = (memory.getByte(tw) + 1) & 0xff;
-	  memory.setByte(tw, tb);
-	  F4(tb);
-	  if (tb == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // 35
     new Opcode("DEC", "M",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  final int tb = (memory.getByte(tw) - 1) & 0xff;
-	  memory.setByte(tw, tb);
-	  F4(tb);
-	  if (tb == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // 36
-    new Opcode("LD", "(HL),<n>", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  incPC();
-	  memory.setByte(tw, memory.getByte(PC));
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),<n>", 2, Processor.INS_MW),
 
     // 37
-    new Opcode("SCF", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  SETCF();
-	  F2(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SCF", "", 1, 0),
 
     // 38
-    new Opcode("JR", "C,<e>", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (!CFSET()) {
-	    incPC(2);
-	    return 7;
-	  } else {
-	    incPC();
-	    PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
-	    return 12;
-	  }
-	}
-      }
-      ),
+    new Opcode("JR", "C,<e>", 1, Processor.INS_JMP),
 
     // 39
-    new Opcode("ADD", "HL,SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int ti = (H << 8) + L + SP;
-	  if (((H ^ ((SP ^ ti) >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  F2(H);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "HL,SP", 1, 0),
 
     // 3a
-    new Opcode("LD", "A,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  A = memory.getByte(WZ);
-	  incWZ();
-	  incPC();
-	  return 13;
-	}
-      }
-      ),
+    new Opcode("LD", "A,(<nn>)", 3, Processor.INS_MR),
 
     // 3b
-    new Opcode("DEC", "SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("DEC", "SP", 1, 0),
 
     // 3c
-    new Opcode("INC", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (A + 1) & 0xff;
-	  F4(A);
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((A & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "A", 1, 0),
 
     // 3d
-    new Opcode("DEC", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (A - 1) & 0xff;
-	  F4(A);
-	  if (A == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((A & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "A", 1, 0),
 
     // 3e
-    new Opcode("LD", "A,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  A = memory.getByte(PC);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "A,<n>", 2, 0),
 
     // 3f
-    new Opcode("CCF", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F ^= CF;
-	  F2(A);
-	  if (CFSET()) {
-	    CLEARHF();
-	  } else {
-	    SETHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CCF", "", 1, 0),
 
     // 40
-    new Opcode("LD", "B,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,B", 1, 0),
 
     // 41
-    new Opcode("LD", "B,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,C", 1, 0),
 
     // 42
-    new Opcode("LD", "B,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,D", 1, 0),
 
     // 43
-    new Opcode("LD", "B,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,E", 1, 0),
 
     // 44
-    new Opcode("LD", "B,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = H;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,H", 1, 0),
 
     // 45
-    new Opcode("LD", "B,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = L;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,L", 1, 0),
 
     // 46
-    new Opcode("LD", "B,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  B = memory.getByte(HL());
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "B,(HL)", 1, Processor.INS_MR),
 
     // 47
-    new Opcode("LD", "B,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,A", 1, 0),
 
     // 48
-    new Opcode("LD", "C,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,B", 1, 0),
 
     // 49
-    new Opcode("LD", "C,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,C", 1, 0),
 
     // 4a
-    new Opcode("LD", "C,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,D", 1, 0),
 
     // 4b
-    new Opcode("LD", "C,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,E", 1, 0),
 
     // 4c
-    new Opcode("LD", "C,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = H;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,H", 1, 0),
 
     // 4d
-    new Opcode("LD", "C,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = L;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,L", 1, 0),
 
 
     // 4e
-    new Opcode("LD", "C,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  C = memory.getByte(HL());
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "C,(HL)", 1, Processor.INS_MR),
 
     // 4f
-    new Opcode("LD", "C,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,A", 1, 0),
 
     // 50
-    new Opcode("LD", "D,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,B", 1, 0),
 
     // 51
-    new Opcode("LD", "D,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,C", 1, 0),
 
     // 52
-    new Opcode("LD", "D,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,D", 1, 0),
 
     // 53
-    new Opcode("LD", "D,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,E", 1, 0),
 
     // 54
-    new Opcode("LD", "D,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = H;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,H", 1, 0),
 
     // 55
-    new Opcode("LD", "D,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = L;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,L", 1, 0),
 
     // 56
-    new Opcode("LD", "D,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  D = memory.getByte(HL());
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "D,(HL)", 1, Processor.INS_MR),
 
     // 57
-    new Opcode("LD", "D,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,A", 1, 0),
 
     // 58
-    new Opcode("LD", "E,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,B", 1, 0),
 
     // 59
-    new Opcode("LD", "E,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,C", 1, 0),
 
     // 5a
-    new Opcode("LD", "E,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,D", 1, 0),
 
     // 5b
-    new Opcode("LD", "E,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,E", 1, 0),
 
     // 5c
-    new Opcode("LD", "E,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = H;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,H", 1, 0),
 
     // 5d
-    new Opcode("LD", "E,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = L;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,L", 1, 0),
 
     // 5e
-    new Opcode("LD", "E,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  E = memory.getByte(HL());
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "E,(HL)", 1, Processor.INS_MR),
 
     // 5f
-    new Opcode("LD", "E,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,A", 1, 0),
 
     // 60
-    new Opcode("LD", "H,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "H,B", 1, 0),
 
     // 61
-    new Opcode("LD", "H,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "H,C", 1, 0),
 
     // 62
-    new Opcode("LD", "H,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "H,D", 1, 0),
 
     // 63
-    new Opcode("LD", "H,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "H,E", 1, 0),
 
     // 64
-    new Opcode("LD", "H,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "H,H", 1, 0),
 
     // 65
-    new Opcode("LD", "H,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = L;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "H,L", 1, 0),
 
     // 66
-    new Opcode("LD", "H,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  H = memory.getByte(HL());
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "H,(HL)", 1, Processor.INS_MR),
 
     // 67
-    new Opcode("LD", "H,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "H,A", 1, 0),
 
     // 68
-    new Opcode("LD", "L,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "L,B", 1, 0),
 
     // 69
-    new Opcode("LD", "L,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "L,C", 1, 0),
 
     // 6a
-    new Opcode("LD", "L,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "L,D", 1, 0),
 
     // 6b
-    new Opcode("LD", "L,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "L,E", 1, 0),
 
     // 6c
-    new Opcode("LD", "L,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = H;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "L,H", 1, 0),
 
     // 6d
-    new Opcode("LD", "L,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "L,L", 1, 0),
 
     // 6e
-    new Opcode("LD", "L,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  L = memory.getByte(HL());
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "L,(HL)", 1, Processor.INS_MR),
 
     // 6f
-    new Opcode("LD", "L,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "L,A", 1, 0),
 
     // 70
-    new Opcode("LD", "(HL),B", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, B);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),B", 1, Processor.INS_MW),
 
     // 71
-    new Opcode("LD", "(HL),C", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, C);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),C", 1, Processor.INS_MW),
 
     // 72
-    new Opcode("LD", "(HL),D", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, D);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),D", 1, Processor.INS_MW),
 
     // 73
-    new Opcode("LD", "(HL),E", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, E);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),E", 1, Processor.INS_MW),
 
     // 74
-    new Opcode("LD", "(HL),H", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, H);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),H", 1, Processor.INS_MW),
 
     // 75
-    new Opcode("LD", "(HL),L", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, L);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),L", 1, Processor.INS_MW),
 
     // 76
-    new Opcode("HALT", "", 1, Processor.INS_HLT, new Executable() {
-	@Override
-	public int exec() {
-	  HALTED = true;
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("HALT", "", 1, Processor.INS_HLT),
 
     // 77
-    new Opcode("LD", "(HL),A", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, A);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "(HL),A", 1, Processor.INS_MW),
 
     // 78
-    new Opcode("LD", "A,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,B", 1, 0),
 
     // 79
-    new Opcode("LD", "A,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,C", 1, 0),
 
     // 7a
-    new Opcode("LD", "A,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,D", 1, 0),
 
     // 7b
-    new Opcode("LD", "A,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,E", 1, 0),
 
     // 7c
-    new Opcode("LD", "A,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = H;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,H", 1, 0),
 
     // 7d
-    new Opcode("LD", "A,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = L;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,L", 1, 0),
 
     // 7e
-    new Opcode("LD", "A,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A = memory.getByte(HL());
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "A,(HL)", 1, Processor.INS_MR),
 
     // 7f
-    new Opcode("LD", "A,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,A", 1, 0),
 
     // 80
-    new Opcode("ADD", "A,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + B;
-	  final int cb = A ^ B ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,B", 1, 0),
 
     // 81
-    new Opcode("ADD", "A,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + C;
-	  final int cb = A ^ C ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,C", 1, 0),
 
     // 82
-    new Opcode("ADD", "A,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + D;
-	  final int cb = A ^ D ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,D", 1, 0),
 
     // 83
-    new Opcode("ADD", "A,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + E;
-	  final int cb = A ^ E ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,E", 1, 0),
 
     // 84
-    new Opcode("ADD", "A,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + H;
-	  final int cb = A ^ H ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,H", 1, 0),
 
     // 85
-    new Opcode("ADD", "A,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + L;
-	  final int cb = A ^ L ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,L", 1, 0),
 
     // 86
-    new Opcode("ADD", "A,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A + tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,(HL)", 1, Processor.INS_MR),
 
     // 87
-    new Opcode("ADD", "A,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A << 1;
-	  if ((tw & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((tw ^ (tw >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,A", 1, 0),
 
     // 88
-    new Opcode("ADC", "A,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + B + (F & CF);
-	  final int cb = A ^ B ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,B", 1, 0),
 
     // 89
-    new Opcode("ADC", "A,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + C + (F & CF);
-	  final int cb = A ^ C ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,C", 1, 0),
 
     // 8a
-    new Opcode("ADC", "A,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + D + (F & CF);
-	  final int cb = A ^ D ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,D", 1, 0),
 
     // 8b
-    new Opcode("ADC", "A,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + E + (F & CF);
-	  final int cb = A ^ E ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,E", 1, 0),
 
     // 8c
-    new Opcode("ADC", "A,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + H + (F & CF);
-	  final int cb = A ^ H ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,H", 1, 0),
 
     // 8d
-    new Opcode("ADC", "A,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + L + (F & CF);
-	  final int cb = A ^ L ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,L", 1, 0),
 
     // 8e
-    new Opcode("ADC", "A,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A + tb + (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,(HL)", 1, Processor.INS_MR),
 
     // 8f
-    new Opcode("ADC", "A,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = (A << 1) + (F & CF);
-	  if ((tw & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((tw ^ (tw >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,A", 1, 0),
 
     // 90
-    new Opcode("SUB", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - B;
-	  final int cb = A ^ B ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "B", 1, 0),
 
     // 91
-    new Opcode("SUB", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - C;
-	  final int cb = A ^ C ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "C", 1, 0),
 
     // 92
-    new Opcode("SUB", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - D;
-	  final int cb = A ^ D ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "D", 1, 0),
 
     // 93
-    new Opcode("SUB", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - E;
-	  final int cb = A ^ E ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "E", 1, 0),
 
     // 94
-    new Opcode("SUB", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - H;
-	  final int cb = A ^ H ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "H", 1, 0),
 
     // 95
-    new Opcode("SUB", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - L;
-	  final int cb = A ^ L ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "L", 1, 0),
 
     // 96
-    new Opcode("SUB", "(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("SUB", "(HL)", 1, Processor.INS_MR),
 
     // 97
-    new Opcode("SUB", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARPF();
-	  A = 0;
-	  F4(0);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "A", 1, 0),
 
     // 98
-    new Opcode("SBC", "A,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - B - (F & CF);
-	  final int cb = A ^ B ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,B", 1, 0),
 
     // 99
-    new Opcode("SBC", "A,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - C - (F & CF);
-	  final int cb = A ^ C ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,C", 1, 0),
 
     // 9a
-    new Opcode("SBC", "A,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - D - (F & CF);
-	  final int cb = A ^ D ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,D", 1, 0),
 
     // 9b
-    new Opcode("SBC", "A,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - E - (F & CF);
-	  final int cb = A ^ E ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,E", 1, 0),
 
     // 9c
-    new Opcode("SBC", "A,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - H - (F & CF);
-	  final int cb = A ^ H ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,H", 1, 0),
 
     // 9d
-    new Opcode("SBC", "A,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - L - (F & CF);
-	  final int cb = A ^ L ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,L", 1, 0),
 
     // 9e
-    new Opcode("SBC", "A,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A - tb - (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,(HL)", 1, Processor.INS_MR),
 
     // 9f
-    new Opcode("SBC", "A,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = -(F & CF);
-	  if ((tw & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((tw ^ (tw >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,A", 1, 0),
 
     // a0
-    new Opcode("AND", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= B;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "B", 1, 0),
 
     // a1
-    new Opcode("AND", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= C;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "C", 1, 0),
 
     // a2
-    new Opcode("AND", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= D;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "D", 1, 0),
 
     // a3
-    new Opcode("AND", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= E;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "E", 1, 0),
 
     // a4
-    new Opcode("AND", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= H;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "H", 1, 0),
 
     // a5
-    new Opcode("AND", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= L;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "L", 1, 0),
 
     // a6
-    new Opcode("AND", "(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A &= memory.getByte(HL());
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("AND", "(HL)", 1, Processor.INS_MR),
 
     // a7
-    new Opcode("AND", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "A", 1, 0),
 
     // a8
-    new Opcode("XOR", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= B;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "B", 1, 0),
 
     // a9
-    new Opcode("XOR", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= C;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "C", 1, 0),
 
     // aa
-    new Opcode("XOR", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= D;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "D", 1, 0),
 
     // ab
-    new Opcode("XOR", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= E;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "E", 1, 0),
 
     // ac
-    new Opcode("XOR", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= H;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "H", 1, 0),
 
     // ad
-    new Opcode("XOR", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= L;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "L", 1, 0),
 
     // ae
-    new Opcode("XOR", "(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= memory.getByte(HL());
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("XOR", "(HL)", 1, Processor.INS_MR),
 
     // af
-    new Opcode("XOR", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = 0;
-	  F = ZF | PF;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "A", 1, 0),
 
     // b0
-    new Opcode("OR", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= B;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "B", 1, 0),
 
     // b1
-    new Opcode("OR", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= C;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "C", 1, 0),
 
     // b2
-    new Opcode("OR", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= D;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "D", 1, 0),
 
     // b3
-    new Opcode("OR", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= E;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "E", 1, 0),
 
     // b4
-    new Opcode("OR", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= H;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "H", 1, 0),
 
     // b5
-    new Opcode("OR", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= L;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "L", 1, 0),
 
     // b6
-    new Opcode("OR", "(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A |= memory.getByte(HL());
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("OR", "(HL)", 1, Processor.INS_MR),
 
     // b7
-    new Opcode("OR", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "A", 1, 0),
 
     // b8
-    new Opcode("CP", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - B;
-	  final int cb = A ^ B ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, B);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "B", 1, 0),
 
     // b9
-    new Opcode("CP", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - C;
-	  final int cb = A ^ C ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, C);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "C", 1, 0),
 
     // ba
-    new Opcode("CP", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - D;
-	  final int cb = A ^ D ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, D);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "D", 1, 0),
 
     // bb
-    new Opcode("CP", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - E;
-	  final int cb = A ^ E ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, E);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "E", 1, 0),
 
     // bc
-    new Opcode("CP", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - H;
-	  final int cb = A ^ H ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, H);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "H", 1, 0),
 
     // bd
-    new Opcode("CP", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - L;
-	  final int cb = A ^ L ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, L);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "L", 1, 0),
 
     // be
-    new Opcode("CP", "(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, tb);
-	  SETNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("CP", "(HL)", 1, Processor.INS_MR),
 
     // bf
-    new Opcode("CP", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARPF();
-	  F22(0, A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "A", 1, 0),
 
     // c0
     new Opcode("RET", "NZ",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // c1
-    new Opcode("POP", "BC", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  C = memory.getByte(SP);
-	  incSP();
-	  B = memory.getByte(SP);
-	  incSP();
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("POP", "BC", 1, Processor.INS_MR),
 
     // c2
-    new Opcode("JP", "NZ,<nn>", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (ZFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("JP", "NZ,<nn>", 3, Processor.INS_JMP),
 
     // c3
-    new Opcode("JP", "<nn>", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  PC = WZ;
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("JP", "<nn>", 3, Processor.INS_JMP),
 
     // c4
     new Opcode("CALL", "NZ,<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (ZFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // c5
-    new Opcode("PUSH", "BC", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, B);
-	  decSP();
-	  memory.setByte(SP, C);
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("PUSH", "BC", 1, Processor.INS_MW),
 
     // c6
-    new Opcode("ADD", "A,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A + tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,<n>", 2, 0),
 
     // c7
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0000;
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // c8
     new Opcode("RET", "Z",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (!ZFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // c9
     new Opcode("RET", "",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 10;
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // ca
-    new Opcode("JP", "Z,<nn>", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (!ZFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("JP", "Z,<nn>", 3, Processor.INS_JMP),
 
     // cb
     null,
@@ -5309,992 +2343,206 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // cc
     new Opcode("CALL", "Z,<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (!ZFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // cd
     new Opcode("CALL", "<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ;
-	  return 17;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // ce
-    new Opcode("ADC", "A,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A + tb + (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,<n>", 2, 0),
 
     // cf
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0008;
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // d0
     new Opcode("RET", "NC",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // d1
-    new Opcode("POP", "DE", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  E = memory.getByte(SP);
-	  incSP();
-	  D = memory.getByte(SP);
-	  incSP();
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("POP", "DE", 1, Processor.INS_MR),
 
     // d2
-    new Opcode("JP", "NC,<nn>", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (CFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("JP", "NC,<nn>", 3, Processor.INS_JMP),
 
     // d3
-    new Opcode("OUT", "(<n>),A", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int port = memory.getByte(PC);
-	  for (IOElement t: outputPorts.get(port)) {
-	    t.portOutput((A << 8) + port, A);
-	  }
-	  WZ = ((port + 1) & 0xff) + (A << 8);
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("OUT", "(<n>),A", 2, Processor.INS_IOW),
 
     // d4
     new Opcode("CALL", "NC,<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (CFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // d5
-    new Opcode("PUSH", "DE", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, D);
-	  decSP();
-	  memory.setByte(SP, E);
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("PUSH", "DE", 1, Processor.INS_MW),
 
     // d6
-    new Opcode("SUB", "<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("SUB", "<n>", 2, 0),
 
     // d7
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0010;
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // d8
     new Opcode("RET", "C",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (!CFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // d9
-    new Opcode("EXX", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  int tb = B;
-	  B = Ba;
-	  Ba = tb;
-	  tb = C;
-	  C = Ca;
-	  Ca = tb;
-	  tb = D;
-	  D = Da;
-	  Da = tb;
-	  tb = E;
-	  E = Ea;
-	  Ea = tb;
-	  tb = H;
-	  H = Ha;
-	  Ha = tb;
-	  tb = L;
-	  L = La;
-	  La = tb;
-	  tb = WZ;
-	  WZ = WZa;
-	  WZa = tb;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("EXX", "", 1, 0),
 
     // da
     new Opcode("JP", "C,<nn>",
 	       3,
-	       Processor.INS_JMP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (!CFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+	       Processor.INS_JMP),
 
     // db
-    new Opcode("IN", "A,(<n>)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int port = memory.getByte(PC);
-	  WZ = ((A << 8) + port + 1) & 0xffff;
-	  int tb = 0xff;
-	  for (IOElement t: inputPorts.get(port)) {
-	    tb &= t.portInput((A << 8) + port);
-	  }
-	  A = tb;
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("IN", "A,(<n>)", 2, Processor.INS_IOR),
 
     // dc
     new Opcode("CALL", "C,<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (!CFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // dd
     null,
 
     // de
-    new Opcode("SBC", "A,<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A - tb - (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,<n>", 2, 0),
 
     // df
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0018;
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // e0
     new Opcode("RET", "PO",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (PFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // e1
-    new Opcode("POP", "HL", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  L = memory.getByte(SP);
-	  incSP();
-	  H = memory.getByte(SP);
-	  incSP();
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("POP", "HL", 1, Processor.INS_MR),
 
     // e2
     new Opcode("JP", "PO,<nn>",
 	       3,
-	       Processor.INS_JMP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (PFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+	       Processor.INS_JMP),
 
     // e3
     new Opcode("EX", "(SP),HL",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(SP);
-	  memory.setByte(SP, L);
-	  L = tb;
-	  final int tw = (SP + 1) & 0xffff;
-	  tb = memory.getByte(tw);
-	  memory.setByte(tw, H);
-	  H = tb;
-	  WZ = HL();
-	  incPC();
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // e4
     new Opcode("CALL", "PO,<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (PFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // e5
-    new Opcode("PUSH", "HL", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, H);
-	  decSP();
-	  memory.setByte(SP, L);
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("PUSH", "HL", 1, Processor.INS_MW),
 
     // e6
-    new Opcode("AND", "<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  A &= tb;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("AND", "<n>", 2, 0),
 
     // e7
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0020;
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // e8
     new Opcode("RET", "PE",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (!PFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // e9
-    new Opcode("JP", "(HL)", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  PC = HL();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("JP", "(HL)", 1, Processor.INS_JMP),
 
     // ea
-    new Opcode("JP", "PE,<nn>", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (!PFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("JP", "PE,<nn>", 3, Processor.INS_JMP),
 
     // eb
-    new Opcode("EX", "DE,HL", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  int tb = H;
-	  H = D;
-	  D = tb;
-	  tb = L;
-	  L = E;
-	  E = tb;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("EX", "DE,HL", 1, 0),
 
     // ec
     new Opcode("CALL", "PE,<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (!PFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // ed
     null,
 
     // ee
-    new Opcode("XOR", "<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  A ^= memory.getByte(PC);
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("XOR", "<n>", 2, 0),
 
     // ef
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0028;
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // f0
     new Opcode("RET", "P",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (SFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // f1
-    new Opcode("POP", "AF", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  F = memory.getByte(SP);
-	  incSP();
-	  A = memory.getByte(SP);
-	  incSP();
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("POP", "AF", 1, Processor.INS_MR),
 
     // f2
-    new Opcode("JP", "P,<nn>", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (SFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("JP", "P,<nn>", 3, Processor.INS_JMP),
 
     // f3
-    new Opcode("DI", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2 = false;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DI", "", 1, 0),
 
     // f4
     new Opcode("CALL", "P,<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (SFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // f5
-    new Opcode("PUSH", "AF", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, A);
-	  decSP();
-	  memory.setByte(SP, F);
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("PUSH", "AF", 1, Processor.INS_MW),
 
     // f6
-    new Opcode("OR", "<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  A |= memory.getByte(PC);
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("OR", "<n>", 2, 0),
 
     // f7
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0030;
-	  return 11;
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // f8
     new Opcode("RET", "M",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (!SFSET()) {
-	    incPC();
-	    return 5;
-	  } else {
-	    WZ = memory.getByte(SP);
-	    incSP();
-	    WZ += memory.getByte(SP) << 8;
-	    incSP();
-	    PC = WZ;
-	    return 11;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // f9
-    new Opcode("LD", "SP,HL", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  SP = HL();
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("LD", "SP,HL", 1, 0),
 
     // fa
-    new Opcode("JP", "(HL),<nn>", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  if (!SFSET()) {
-	    incPC();
-	  } else {
-	    PC = WZ;
-	  }
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("JP", "(HL),<nn>", 3, Processor.INS_JMP),
 
     // fb
-    new Opcode("EI", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2 = TID = true;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("EI", "", 1, 0),
 
     // fc
     new Opcode("CALL", "(HL),<nn>",
 	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  incPC();
-	  if (!SFSET()) {
-	    return 10;
-	  } else {
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ;
-	    return 17;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_CALL | Processor.INS_MW),
 
     // fd
     null,
 
     // fe
-    new Opcode("CP", "<n>", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, tb);
-	  SETNF();
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("CP", "<n>", 2, 0),
 
     // ff
     new Opcode("RST", "<p>",
 	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = WZ = 0x0038;
-	  return 11;
-	}
-      }
-      )
+	       Processor.INS_CALL | Processor.INS_MW)
   };
 
   /**
@@ -6303,4116 +2551,820 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
   protected final Opcode[] opcodesCB = new Opcode[] {
 
     // cb 00
-    new Opcode("RLC", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((B & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  B = ((B << 1) | (F & 1)) & 0xff;
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RLC", "B", 1, 0),
 
     // cb 01
-    new Opcode("RLC", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((C & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  C = ((C << 1) | (F & 1)) & 0xff;
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RLC", "C", 1, 0),
 
     // cb 02
-    new Opcode("RLC", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((D & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  D = ((D << 1) | (F & 1)) & 0xff;
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RLC", "D", 1, 0),
 
     // cb 03
-    new Opcode("RLC", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((E & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  E = ((E << 1) | (F & 1)) & 0xff;
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RLC", "E", 1, 0),
 
     // cb 04
-    new Opcode("RLC", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((H & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  H = ((H << 1) | (F & 1)) & 0xff;
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RLC", "H", 1, 0),
 
     // cb 05
-    new Opcode("RLC", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((L & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  L = ((L << 1) | (F & 1)) & 0xff;
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RLC", "L", 1, 0),
 
     // cb 06
     new Opcode("RLC", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(HL(), tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 07
-    new Opcode("RLC", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = ((A << 1) | (F & 1)) & 0xff;
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RLC", "A", 1, 0),
 
     // cb 08
-    new Opcode("RRC", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((B & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  B = ((B >> 1) | (F << 7)) & 0xff;
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RRC", "B", 1, 0),
 
     // cb 09
-    new Opcode("RRC", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((C & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  C = ((C >> 1) | (F << 7)) & 0xff;
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RRC", "C", 1, 0),
 
     // cb 0a
-    new Opcode("RRC", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((D & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  D = ((D >> 1) | (F << 7)) & 0xff;
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RRC", "D", 1, 0),
 
     // cb 0b
-    new Opcode("RRC", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((E & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  E = ((E >> 1) | (F << 7)) & 0xff;
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RRC", "E", 1, 0),
 
     // cb 0c
-    new Opcode("RRC", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((H & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  H = ((H >> 1) | (F << 7)) & 0xff;
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RRC", "H", 1, 0),
 
     // cb 0d
-    new Opcode("RRC", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((L & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  L = ((L >> 1) | (F << 7)) & 0xff;
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RRC", "L", 1, 0),
 
     // cb 0e
     new Opcode("RRC", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(HL(), tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 0f
-    new Opcode("RRC", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = ((A >> 1) | (F << 7)) & 0xff;
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RRC", "A", 1, 0),
 
     // cb 10
-    new Opcode("RL", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = (B << 1) | (F & 1);
-	  if ((B & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  B &= 0xff;
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RL", "B", 1, 0),
 
     // cb 11
-    new Opcode("RL", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = (C << 1) | (F & 1);
-	  if ((C & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  C &= 0xff;
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RL", "C", 1, 0),
 
     // cb 12
-    new Opcode("RL", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = (D << 1) | (F & 1);
-	  if ((D & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  D &= 0xff;
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RL", "D", 1, 0),
 
     // cb 13
-    new Opcode("RL", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = (E << 1) | (F & 1);
-	  if ((E & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  E &= 0xff;
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RL", "E", 1, 0),
 
     // cb 14
-    new Opcode("RL", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = (H << 1) | (F & 1);
-	  if ((H & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  H &= 0xff;
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RL", "H", 1, 0),
 
     // cb 15
-    new Opcode("RL", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = (L << 1) | (F & 1);
-	  if ((L & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  L &= 0xff;
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RL", "L", 1, 0),
 
     // cb 16
     new Opcode("RL", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(HL(), tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 17
-    new Opcode("RL", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (A << 1) | (F & 1);
-	  if ((A & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A &= 0xff;
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RL", "A", 1, 0),
 
     // cb 18
-    new Opcode("RR", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = B;
-	  B = (B >> 1) | ((F & 1) << 7);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RR", "B", 1, 0),
 
     // cb 19
-    new Opcode("RR", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = C;
-	  C = (C >> 1) | ((F & 1) << 7);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RR", "C", 1, 0),
 
     // cb 1a
-    new Opcode("RR", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = D;
-	  D = (D >> 1) | ((F & 1) << 7);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RR", "D", 1, 0),
 
     // cb 1b
-    new Opcode("RR", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = E;
-	  E = (E >> 1) | ((F & 1) << 7);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RR", "E", 1, 0),
 
     // cb 1c
-    new Opcode("RR", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = H;
-	  H = (H >> 1) | ((F & 1) << 7);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RR", "H", 1, 0),
 
     // cb 1d
-    new Opcode("RR", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = L;
-	  L = (L >> 1) | ((F & 1) << 7);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RR", "L", 1, 0),
 
     // cb 1e
     new Opcode("RR", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(HL(), tb);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 1f
-    new Opcode("RR", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = A;
-	  A = (A >> 1) | ((F & 1) << 7);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RR", "A", 1, 0),
 
     // cb 20
-    new Opcode("SLA", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((B & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  B = (B << 1) & 0xff;
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLA", "B", 1, 0),
 
     // cb 21
-    new Opcode("SLA", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((C & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  C = (C << 1) & 0xff;
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLA", "C", 1, 0),
 
     // cb 22
-    new Opcode("SLA", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((D & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  D = (D << 1) & 0xff;
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLA", "D", 1, 0),
 
     // cb 23
-    new Opcode("SLA", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((E & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  E = (E << 1) & 0xff;
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLA", "E", 1, 0),
 
     // cb 24
-    new Opcode("SLA", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((H & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  H = (H << 1) & 0xff;
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLA", "H", 1, 0),
 
     // cb 25
-    new Opcode("SLA", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((L & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  L = (L << 1) & 0xff;
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLA", "L", 1, 0),
 
     // cb 26
     new Opcode("SLA", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(HL(), tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 27
-    new Opcode("SLA", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = (A << 1) & 0xff;
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLA", "A", 1, 0),
 
     // cb 28
-    new Opcode("SRA", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((B & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  B = (B & 0x80) | (B >> 1);
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRA", "B", 1, 0),
 
     // cb 29
-    new Opcode("SRA", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((C & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  C = (C & 0x80) | (C >> 1);
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRA", "C", 1, 0),
 
     // cb 2a
-    new Opcode("SRA", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((D & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  D = (D & 0x80) | (D >> 1);
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRA", "D", 1, 0),
 
     // cb 2b
-    new Opcode("SRA", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((E & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  E = (E & 0x80) | (E >> 1);
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRA", "E", 1, 0),
 
     // cb 2c
-    new Opcode("SRA", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((H & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  H = (H & 0x80) | (H >> 1);
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRA", "H", 1, 0),
 
     // cb 2d
-    new Opcode("SRA", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((L & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  L = (L & 0x80) | (L >> 1);
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRA", "L", 1, 0),
 
     // cb 2e
     new Opcode("SRA", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(HL(), tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 2f
-    new Opcode("SRA", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = (A & 0x80) | (A >> 1);
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRA", "A", 1, 0),
 
     // cb 30
-    new Opcode("SLL", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((B & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  B = ((B << 1) & 0xff) | 1;
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLL", "B", 1, 0),
 
     // cb 31
-    new Opcode("SLL", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((C & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  C = ((C << 1) & 0xff) | 1;
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLL", "C", 1, 0),
 
     // cb 32
-    new Opcode("SLL", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((D & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  D = ((D << 1) & 0xff) | 1;
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLL", "D", 1, 0),
 
     // cb 33
-    new Opcode("SLL", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((E & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  E = ((E << 1) & 0xff) | 1;
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLL", "E", 1, 0),
 
     // cb 34
-    new Opcode("SLL", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((H & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  H = ((H << 1) & 0xff) | 1;
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLL", "H", 1, 0),
 
     // cb 35
-    new Opcode("SLL", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((L & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  L = ((L << 1) & 0xff) | 1;
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLL", "L", 1, 0),
 
     // cb 36
     new Opcode("SLL", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(HL(), tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 37
-    new Opcode("SLL", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = ((A << 1) & 0xff) | 1;
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SLL", "A", 1, 0),
 
     // cb 38
-    new Opcode("SRL", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((B & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  B >>= 1;
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRL", "B", 1, 0),
 
     // cb 39
-    new Opcode("SRL", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((C & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  C >>= 1;
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRL", "C", 1, 0),
 
     // cb 3a
-    new Opcode("SRL", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((D & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  D >>= 1;
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRL", "D", 1, 0),
 
     // cb 3b
-    new Opcode("SRL", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((E & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  E >>= 1;
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRL", "E", 1, 0),
 
     // cb 3c
-    new Opcode("SRL", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((H & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  H >>= 1;
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRL", "H", 1, 0),
 
     // cb 3d
-    new Opcode("SRL", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((L & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  L >>= 1;
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRL", "L", 1, 0),
 
     // cb 3e
     new Opcode("SRL", "(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(HL(), tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 3f
-    new Opcode("SRL", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A >>= 1;
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SRL", "A", 1, 0),
 
     // cb 40
-    new Opcode("BIT", "0,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,B", 1, 0),
 
     // cb 41
-    new Opcode("BIT", "0,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,C", 1, 0),
 
     // cb 42
-    new Opcode("BIT", "0,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,D", 1, 0),
 
     // cb 43
-    new Opcode("BIT", "0,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,E", 1, 0),
 
     // cb 44
-    new Opcode("BIT", "0,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,H", 1, 0),
 
     // cb 45
-    new Opcode("BIT", "0,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,L", 1, 0),
 
     // cb 46
-    new Opcode("BIT", "0,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,(HL)", 1, Processor.INS_MR),
 
     // cb 47
-    new Opcode("BIT", "0,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,A", 1, 0),
 
     // cb 48
-    new Opcode("BIT", "1,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,B", 1, 0),
 
     // cb 49
-    new Opcode("BIT", "1,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,C", 1, 0),
 
     // cb 4a
-    new Opcode("BIT", "1,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,D", 1, 0),
 
     // cb 4b
-    new Opcode("BIT", "1,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,E", 1, 0),
 
     // cb 4c
-    new Opcode("BIT", "1,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,H", 1, 0),
 
     // cb 4d
-    new Opcode("BIT", "1,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,L", 1, 0),
 
     // cb 4e
-    new Opcode("BIT", "1,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,(HL)", 1, Processor.INS_MR),
 
     // cb 4f
-    new Opcode("BIT", "1,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,A", 1, 0),
 
     // cb 50
-    new Opcode("BIT", "2,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,B", 1, 0),
 
     // cb 51
-    new Opcode("BIT", "2,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,C", 1, 0),
 
     // cb 52
-    new Opcode("BIT", "2,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,D", 1, 0),
 
     // cb 53
-    new Opcode("BIT", "2,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,E", 1, 0),
 
     // cb 54
-    new Opcode("BIT", "2,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,H", 1, 0),
 
     // cb 55
-    new Opcode("BIT", "2,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,L", 1, 0),
 
     // cb 56
-    new Opcode("BIT", "2,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,(HL)", 1, Processor.INS_MR),
 
     // cb 57
-    new Opcode("BIT", "2,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,A", 1, 0),
 
     // cb 58
-    new Opcode("BIT", "3,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,B", 1, 0),
 
     // cb 59
-    new Opcode("BIT", "3,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,C", 1, 0),
 
     // cb 5a
-    new Opcode("BIT", "3,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,D", 1, 0),
 
     // cb 5b
-    new Opcode("BIT", "3,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,E", 1, 0),
 
     // cb 5c
-    new Opcode("BIT", "3,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,H", 1, 0),
 
     // cb 5d
-    new Opcode("BIT", "3,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,L", 1, 0),
 
     // cb 5e
-    new Opcode("BIT", "3,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,(HL)", 1, Processor.INS_MR),
 
     // cb 5f
-    new Opcode("BIT", "3,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,A", 1, 0),
 
     // cb 60
-    new Opcode("BIT", "4,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,B", 1, 0),
 
     // cb 61
-    new Opcode("BIT", "4,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,C", 1, 0),
 
     // cb 62
-    new Opcode("BIT", "4,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,D", 1, 0),
 
     // cb 63
-    new Opcode("BIT", "4,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,E", 1, 0),
 
     // cb 64
-    new Opcode("BIT", "4,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,H", 1, 0),
 
     // cb 65
-    new Opcode("BIT", "4,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,L", 1, 0),
 
     // cb 66
-    new Opcode("BIT", "4,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,(HL)", 1, Processor.INS_MR),
 
     // cb 67
-    new Opcode("BIT", "4,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,A", 1, 0),
 
     // cb 68
-    new Opcode("BIT", "5,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,B", 1, 0),
 
     // cb 69
-    new Opcode("BIT", "5,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,C", 1, 0),
 
     // cb 6a
-    new Opcode("BIT", "5,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,D", 1, 0),
 
     // cb 6b
-    new Opcode("BIT", "5,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,E", 1, 0),
 
     // cb 6c
-    new Opcode("BIT", "5,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,H", 1, 0),
 
     // cb 6d
-    new Opcode("BIT", "5,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,L", 1, 0),
 
     // cb 6e
-    new Opcode("BIT", "5,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,(HL)", 1, Processor.INS_MR),
 
     // cb 6f
-    new Opcode("BIT", "5,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,A", 1, 0),
 
     // cb 70
-    new Opcode("BIT", "6,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,B", 1, 0),
 
     // cb 71
-    new Opcode("BIT", "6,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,C", 1, 0),
 
     // cb 72
-    new Opcode("BIT", "6,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,D", 1, 0),
 
     // cb 73
-    new Opcode("BIT", "6,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,E", 1, 0),
 
     // cb 74
-    new Opcode("BIT", "6,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,H", 1, 0),
 
     // cb 75
-    new Opcode("BIT", "6,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,L", 1, 0),
 
     // cb 76
-    new Opcode("BIT", "6,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,(HL)", 1, Processor.INS_MR),
 
     // cb 77
-    new Opcode("BIT", "6,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,A", 1, 0),
 
     // cb 78
-    new Opcode("BIT", "7,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(B);
-	  if ((B & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,B", 1, 0),
 
     // cb 79
-    new Opcode("BIT", "7,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(C);
-	  if ((C & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,C", 1, 0),
 
     // cb 7a
-    new Opcode("BIT", "7,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(D);
-	  if ((D & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,D", 1, 0),
 
     // cb 7b
-    new Opcode("BIT", "7,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(E);
-	  if ((E & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,E", 1, 0),
 
     // cb 7c
-    new Opcode("BIT", "7,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(H);
-	  if ((H & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,H", 1, 0),
 
     // cb 7d
-    new Opcode("BIT", "7,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(L);
-	  if ((L & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,L", 1, 0),
 
     // cb 7e
-    new Opcode("BIT", "7,(HL)", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,(HL)", 1, Processor.INS_MR),
 
     // cb 7f
-    new Opcode("BIT", "7,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F4(A);
-	  if ((A & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,A", 1, 0),
 
     // cb 80
-    new Opcode("RES", "0,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0xfe;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "0,B", 1, 0),
 
     // cb 81
-    new Opcode("RES", "0,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0xfe;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "0,C", 1, 0),
 
     // cb 82
-    new Opcode("RES", "0,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0xfe;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "0,D", 1, 0),
 
     // cb 83
-    new Opcode("RES", "0,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0xfe;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "0,E", 1, 0),
 
     // cb 84
-    new Opcode("RES", "0,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0xfe;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "0,H", 1, 0),
 
     // cb 85
-    new Opcode("RES", "0,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0xfe;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "0,L", 1, 0),
 
     // cb 86
     new Opcode("RES", "0,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0xfe);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 87
-    new Opcode("RES", "0,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0xfe;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "0,A", 1, 0),
 
     // cb 88
-    new Opcode("RES", "1,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0xfd;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "1,B", 1, 0),
 
     // cb 89
-    new Opcode("RES", "1,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0xfd;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "1,C", 1, 0),
 
     // cb 8a
-    new Opcode("RES", "1,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0xfd;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "1,D", 1, 0),
 
     // cb 8b
-    new Opcode("RES", "1,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0xfd;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "1,E", 1, 0),
 
     // cb 8c
-    new Opcode("RES", "1,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0xfd;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "1,H", 1, 0),
 
     // cb 8d
-    new Opcode("RES", "1,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0xfd;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "1,L", 1, 0),
 
     // cb 8e
     new Opcode("RES", "1,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0xfd);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 8f
-    new Opcode("RES", "1,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0xfd;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "1,A", 1, 0),
 
     // cb 90
-    new Opcode("RES", "2,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0xfb;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "2,B", 1, 0),
 
     // cb 91
-    new Opcode("RES", "2,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0xfb;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "2,C", 1, 0),
 
     // cb 92
-    new Opcode("RES", "2,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0xfb;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "2,D", 1, 0),
 
     // cb 93
-    new Opcode("RES", "2,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0xfb;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "2,E", 1, 0),
 
     // cb 94
-    new Opcode("RES", "2,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0xfb;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "2,H", 1, 0),
 
     // cb 95
-    new Opcode("RES", "2,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0xfb;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "2,L", 1, 0),
 
     // cb 96
     new Opcode("RES", "2,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0xfb);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 97
-    new Opcode("RES", "2,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0xfb;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "2,A", 1, 0),
 
     // cb 98
-    new Opcode("RES", "3,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0xf7;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "3,B", 1, 0),
 
     // cb 99
-    new Opcode("RES", "3,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0xf7;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "3,C", 1, 0),
 
     // cb 9a
-    new Opcode("RES", "3,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0xf7;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "3,D", 1, 0),
 
     // cb 9b
-    new Opcode("RES", "3,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0xf7;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "3,E", 1, 0),
 
     // cb 9c
-    new Opcode("RES", "3,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0xf7;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "3,H", 1, 0),
 
     // cb 9d
-    new Opcode("RES", "3,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0xf7;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "3,L", 1, 0),
 
     // cb 9e
     new Opcode("RES", "3,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0xf7);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb 9f
-    new Opcode("RES", "3,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0xf7;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "3,A", 1, 0),
 
     // cb a0
-    new Opcode("RES", "4,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0xef;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "4,B", 1, 0),
 
     // cb a1
-    new Opcode("RES", "4,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0xef;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "4,C", 1, 0),
 
     // cb a2
-    new Opcode("RES", "4,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0xef;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "4,D", 1, 0),
 
     // cb a3
-    new Opcode("RES", "4,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0xef;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "4,E", 1, 0),
 
     // cb a4
-    new Opcode("RES", "4,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0xef;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "4,H", 1, 0),
 
     // cb a5
-    new Opcode("RES", "4,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0xef;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "4,L", 1, 0),
 
     // cb a6
     new Opcode("RES", "4,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0xef);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb a7
-    new Opcode("RES", "4,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0xef;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "4,A", 1, 0),
 
     // cb a8
-    new Opcode("RES", "5,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0xdf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "5,B", 1, 0),
 
     // cb a9
-    new Opcode("RES", "5,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0xdf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "5,C", 1, 0),
 
     // cb aa
-    new Opcode("RES", "5,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0xdf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "5,D", 1, 0),
 
     // cb ab
-    new Opcode("RES", "5,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0xdf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "5,E", 1, 0),
 
     // cb ac
-    new Opcode("RES", "5,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0xdf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "5,H", 1, 0),
 
     // cb ad
-    new Opcode("RES", "5,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0xdf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "5,L", 1, 0),
 
     // cb ae
     new Opcode("RES", "5,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0xdf);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb af
-    new Opcode("RES", "5,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0xdf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "5,A", 1, 0),
 
     // cb b0
-    new Opcode("RES", "6,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0xbf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "6,B", 1, 0),
 
     // cb b1
-    new Opcode("RES", "6,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0xbf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "6,C", 1, 0),
 
     // cb b2
-    new Opcode("RES", "6,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0xbf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "6,D", 1, 0),
 
     // cb b3
-    new Opcode("RES", "6,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0xbf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "6,E", 1, 0),
 
     // cb b4
-    new Opcode("RES", "6,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0xbf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "6,H", 1, 0),
 
     // cb b5
-    new Opcode("RES", "6,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0xbf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "6,L", 1, 0),
 
     // cb b6
     new Opcode("RES", "6,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0xbf);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb b7
-    new Opcode("RES", "6,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0xbf;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "6,A", 1, 0),
 
     // cb b8
-    new Opcode("RES", "7,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B &= 0x7f;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "7,B", 1, 0),
 
     // cb b9
-    new Opcode("RES", "7,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C &= 0x7f;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "7,C", 1, 0),
 
     // cb ba
-    new Opcode("RES", "7,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D &= 0x7f;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "7,D", 1, 0),
 
     // cb bb
-    new Opcode("RES", "7,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E &= 0x7f;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "7,E", 1, 0),
 
     // cb bc
-    new Opcode("RES", "7,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H &= 0x7f;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "7,H", 1, 0),
 
     // cb bd
-    new Opcode("RES", "7,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L &= 0x7f;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "7,L", 1, 0),
 
     // cb be
     new Opcode("RES", "7,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) & 0x7f);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb bf
-    new Opcode("RES", "7,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A &= 0x7f;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("RES", "7,A", 1, 0),
 
     // cb c0
-    new Opcode("SET", "0,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x01;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "0,B", 1, 0),
 
     // cb c1
-    new Opcode("SET", "0,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x01;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "0,C", 1, 0),
 
     // cb c2
-    new Opcode("SET", "0,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x01;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "0,D", 1, 0),
 
     // cb c3
-    new Opcode("SET", "0,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x01;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "0,E", 1, 0),
 
     // cb c4
-    new Opcode("SET", "0,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x01;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "0,H", 1, 0),
 
     // cb c5
-    new Opcode("SET", "0,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x01;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "0,L", 1, 0),
 
     // cb c6
     new Opcode("SET", "0,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x01);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb c7
-    new Opcode("SET", "0,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x01;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "0,A", 1, 0),
 
     // cb c8
-    new Opcode("SET", "1,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x02;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "1,B", 1, 0),
 
     // cb c9
-    new Opcode("SET", "1,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x02;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "1,C", 1, 0),
 
     // cb ca
-    new Opcode("SET", "1,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x02;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "1,D", 1, 0),
 
     // cb cb
-    new Opcode("SET", "1,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x02;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "1,E", 1, 0),
 
     // cb cc
-    new Opcode("SET", "1,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x02;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "1,H", 1, 0),
 
     // cb cd
-    new Opcode("SET", "1,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x02;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "1,L", 1, 0),
 
     // cb ce
     new Opcode("SET", "1,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x02);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb cf
-    new Opcode("SET", "1,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x02;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "1,A", 1, 0),
 
     // cb d0
-    new Opcode("SET", "2,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x04;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "2,B", 1, 0),
 
     // cb d1
-    new Opcode("SET", "2,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x04;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "2,C", 1, 0),
 
     // cb d2
-    new Opcode("SET", "2,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x04;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "2,D", 1, 0),
 
     // cb d3
-    new Opcode("SET", "2,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x04;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "2,E", 1, 0),
 
     // cb d4
-    new Opcode("SET", "2,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x04;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "2,H", 1, 0),
 
     // cb d5
-    new Opcode("SET", "2,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x04;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "2,L", 1, 0),
 
     // cb d6
     new Opcode("SET", "2,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x04);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb d7
-    new Opcode("SET", "2,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x04;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "2,A", 1, 0),
 
     // cb d8
-    new Opcode("SET", "3,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x08;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "3,B", 1, 0),
 
     // cb d9
-    new Opcode("SET", "3,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x08;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "3,C", 1, 0),
 
     // cb da
-    new Opcode("SET", "3,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x08;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "3,D", 1, 0),
 
     // cb db
-    new Opcode("SET", "3,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x08;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "3,E", 1, 0),
 
     // cb dc
-    new Opcode("SET", "3,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x08;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "3,H", 1, 0),
 
     // cb dd
-    new Opcode("SET", "3,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x08;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "3,L", 1, 0),
 
     // cb de
     new Opcode("SET", "3,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x08);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb df
-    new Opcode("SET", "3,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x08;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "3,A", 1, 0),
 
     // cb e0
-    new Opcode("SET", "4,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x10;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "4,B", 1, 0),
 
     // cb e1
-    new Opcode("SET", "4,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x10;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "4,C", 1, 0),
 
     // cb e2
-    new Opcode("SET", "4,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x10;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "4,D", 1, 0),
 
     // cb e3
-    new Opcode("SET", "4,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x10;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "4,E", 1, 0),
 
     // cb e4
-    new Opcode("SET", "4,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x10;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "4,H", 1, 0),
 
     // cb e5
-    new Opcode("SET", "4,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x10;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "4,L", 1, 0),
 
     // cb e6
     new Opcode("SET", "4,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x10);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb e7
-    new Opcode("SET", "4,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x10;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "4,A", 1, 0),
 
     // cb e8
-    new Opcode("SET", "5,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x20;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "5,B", 1, 0),
 
     // cb e9
-    new Opcode("SET", "5,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x20;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "5,C", 1, 0),
 
     // cb ea
-    new Opcode("SET", "5,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x20;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "5,D", 1, 0),
 
     // cb eb
-    new Opcode("SET", "5,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x20;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "5,E", 1, 0),
 
     // cb ec
-    new Opcode("SET", "5,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x20;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "5,H", 1, 0),
 
     // cb ed
-    new Opcode("SET", "5,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x20;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "5,L", 1, 0),
 
     // cb ee
     new Opcode("SET", "5,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x20);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb ef
-    new Opcode("SET", "5,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x20;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "5,A", 1, 0),
 
     // cb f0
-    new Opcode("SET", "6,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x40;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "6,B", 1, 0),
 
     // cb f1
-    new Opcode("SET", "6,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x40;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "6,C", 1, 0),
 
     // cb f2
-    new Opcode("SET", "6,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x40;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "6,D", 1, 0),
 
     // cb f3
-    new Opcode("SET", "6,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x40;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "6,E", 1, 0),
 
     // cb f4
-    new Opcode("SET", "6,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x40;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "6,H", 1, 0),
 
     // cb f5
-    new Opcode("SET", "6,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x40;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "6,L", 1, 0),
 
     // cb f6
     new Opcode("SET", "6,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x40);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb f7
-    new Opcode("SET", "6,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x40;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "6,A", 1, 0),
 
     // cb f8
-    new Opcode("SET", "7,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B |= 0x80;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "7,B", 1, 0),
 
     // cb f9
-    new Opcode("SET", "7,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C |= 0x80;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "7,C", 1, 0),
 
     // cb fa
-    new Opcode("SET", "7,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D |= 0x80;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "7,D", 1, 0),
 
     // cb fb
-    new Opcode("SET", "7,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E |= 0x80;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "7,E", 1, 0),
 
     // cb fc
-    new Opcode("SET", "7,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H |= 0x80;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "7,H", 1, 0),
 
     // cb fd
-    new Opcode("SET", "7,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L |= 0x80;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("SET", "7,L", 1, 0),
 
     // cb fe
     new Opcode("SET", "7,(HL)",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(HL(), memory.getByte(HL()) | 0x80);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // cb ff
-    new Opcode("SET", "7,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= 0x80;
-	  incPC();
-	  return 8;
-	}
-      }
-      )
+    new Opcode("SET", "7,A", 1, 0)
   };
 
   /**
@@ -10425,29 +3377,7 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
     
     // dd 09
-    new Opcode("ADD", "IX,BC", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IX + 1) & 0xffff;
-	  final int ti = IX + BC();
-	  if ((((IX >> 8) ^ B ^ (ti >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IX = ti & 0xffff;
-	  F2(IX >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IX,BC", 1, 0),
 
     // dd 0a - dd 18
     null, null, null, null, null, null,
@@ -10455,251 +3385,50 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
 
     // dd 19
-    new Opcode("ADD", "IX,DE", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IX + 1) & 0xffff;
-	  final int ti = IX + DE();
-	  if ((((IX >> 8) ^ D ^ (ti >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IX = ti & 0xffff;
-	  F2(IX >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IX,DE", 1, 0),
 
     // dd 1a - dd 20
     null, null, null, null, null, null,
     null,
 
     // dd 21
-    new Opcode("LD", "IX,<nn>", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  IX = memory.getByte(PC);
-	  incPC();
-	  IX += memory.getByte(PC) << 8;
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("LD", "IX,<nn>", 3, 0),
 
     // dd 22
-    new Opcode("LD", "(<nn>),IX", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  memory.setByte(WZ, IX & 0xff);
-	  incWZ();
-	  memory.setByte(WZ, IX >> 8);
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),IX", 3, Processor.INS_MW),
 
     // dd 23
-    new Opcode("INC", "IX", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX + 1) & 0xffff;
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("INC", "IX", 1, 0),
 
     // dd 24
-    new Opcode("INC", "IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = ((IX >> 8) + 1) & 0xff;
-	  IX = (tb << 8) + (IX & 0xff);
-	  F4(tb);
-	  if (tb == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "IXH", 1, Processor.INS_UND),
 
     // dd 25
-    new Opcode("DEC", "IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = ((IX >> 8) - 1) & 0xff;
-	  IX = (tb << 8) + (IX & 0xff);
-	  F4(tb);
-	  if (tb == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "IXH", 1, Processor.INS_UND),
 
     // dd 26
-    new Opcode("LD", "IXH,<n>", 2, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  IX = (memory.getByte(PC) << 8) + (IX & 0xff);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,<n>", 2, Processor.INS_UND),
 
     // dd 27 - dd 28
     null, null,
 
     // dd 29
-    new Opcode("ADD", "IX,IX", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IX + 1) & 0xffff;
-	  final int ti = IX << 1;
-	  if (((ti >> 8) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IX = ti & 0xffff;
-	  F2(IX >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IX,IX", 1, 0),
 
     // dd 2a
-    new Opcode("LD", "IX,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  IX = memory.getByte(WZ);
-	  incWZ();
-	  IX += memory.getByte(WZ) << 8;
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("LD", "IX,(<nn>)", 3, Processor.INS_MR),
 
     // dd 2b
-    new Opcode("DEC", "IX", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX - 1) & 0xffff;
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("DEC", "IX", 1, 0),
 
     // dd 2c
-    new Opcode("INC", "IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = (IX + 1) & 0xff;
-	  IX = tb + (IX & 0xff00);
-	  F4(tb);
-	  if (tb == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "IXL", 1, Processor.INS_UND),
 
     // dd 2d
-    new Opcode("DEC", "IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = (IX - 1) & 0xff;
-	  IX = tb + (IX & 0xff00);
-	  F4(tb);
-	  if (tb == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "IXL", 1, Processor.INS_UND),
 
     // dd 2e
-    new Opcode("LD", "IXL,<n>", 2, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  IX = memory.getByte(PC) + (IX & 0xff00);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,<n>", 2, Processor.INS_UND),
 
     // dd 2f - dd 33
     null,
@@ -10708,1196 +3437,254 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // dd 34
     new Opcode("INC", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = (memory.getByte(WZ) + 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F4(tb);
-	  if (tb == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd 35
     new Opcode("DEC", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = (memory.getByte(WZ) - 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F4(tb);
-	  if (tb == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd 36
-    new Opcode("LD", "(IX<d>),<n>", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  incPC();
-	  memory.setByte(WZ, memory.getByte(PC));
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),<n>", 3, Processor.INS_MW),
 
     // dd 37 - dd 38
     null, null,
 
     // dd 39
-    new Opcode("ADD", "IX,SP", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IX + 1) & 0xffff;
-	  final int ti = IX + SP;
-	  if ((((IX >> 8) ^ ((SP ^ ti) >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IX = ti & 0xffff;
-	  F2(IX >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IX,SP", 2, 0),
 
     // dd 3a - 43
     null, null, null, null, null, null,
     null, null, null, null,
 
     // dd 44 (undocumented)
-    new Opcode("LD", "B,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  B = IX >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,IXH", 1, Processor.INS_UND),
 
     // dd 45 (undocumented)
-    new Opcode("LD", "B,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  B = IX & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,IXL", 1, Processor.INS_UND),
 
     // dd 46
-    new Opcode("LD", "B,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "B,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 47 - dd 4b
     null, null, null, null, null,
     
     
     // dd 4c (undocumented)
-    new Opcode("LD", "C,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  C = IX >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,IXH", 1, Processor.INS_UND),
 
     // dd 4d (undocumented)
-    new Opcode("LD", "C,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  C = IX & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,IXL", 1, Processor.INS_UND),
 
     // dd 4e
-    new Opcode("LD", "C,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "C,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 4f - dd 53
     null, null, null, null, null,
 
     // dd 54 (undocumented)
-    new Opcode("LD", "D,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  D = IX >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,IXH", 1, Processor.INS_UND),
 
     // dd 55 (undocumented)
-    new Opcode("LD", "D,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  D = IX & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,IXL", 1, Processor.INS_UND),
 
     // dd 56
-    new Opcode("LD", "D,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "D,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 57 - dd 5b
     null, null, null, null, null,
     
     // dd 5c (undocumented)
-    new Opcode("LD", "E,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  E = IX >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,IXH", 1, Processor.INS_UND),
 
     // dd 5d (undocumented)
-    new Opcode("LD", "E,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  E = IX & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,IXL", 1, Processor.INS_UND),
 
     // dd 5e
-    new Opcode("LD", "E,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "E,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 5f
     null,
 
     // dd 60 (undocumented)
-    new Opcode("LD", "IXH,B", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (B << 8) + (IX & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,B", 1, Processor.INS_UND),
 
     // dd 61 (undocumented)
-    new Opcode("LD", "IXH,C", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (C << 8) + (IX & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,C", 1, Processor.INS_UND),
 
     // dd 62 (undocumented)
-    new Opcode("LD", "IXH,D", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (D << 8) + (IX & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,D", 1, Processor.INS_UND),
 
     // dd 63 (undocumented)
-    new Opcode("LD", "IXH,E", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (E << 8) + (IX & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,E", 1, Processor.INS_UND),
 
     // dd 64 (undocumented)
-    new Opcode("LD", "IXH,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,IXH", 1, Processor.INS_UND),
 
     // dd 65 (undocumented)
-    new Opcode("LD", "IXH,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = ((IX & 0xff) << 8) + (IX & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,IXL", 1, Processor.INS_UND),
 
     // dd 66
-    new Opcode("LD", "H,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "H,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 67 (undocumented)
-    new Opcode("LD", "IXH,A", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (A << 8) + (IX & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXH,A", 1, Processor.INS_UND),
 
     // dd 68 (undocumented)
-    new Opcode("LD", "IXL,B", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX & 0xff00) + B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,B", 1, Processor.INS_UND),
 
     // dd 69 (undocumented)
-    new Opcode("LD", "IXL,C", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX & 0xff00) + C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,C", 1, Processor.INS_UND),
 
     // dd 6a (undocumented)
-    new Opcode("LD", "IXL,D", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX & 0xff00) + D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,D", 1, Processor.INS_UND),
 
     // dd 6b (undocumented)
-    new Opcode("LD", "IXL,E", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX & 0xff00) + E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,E", 1, Processor.INS_UND),
 
     // dd 6c (undocumented)
-    new Opcode("LD", "IXL,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX & 0xff00) + (IX >> 8);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,IXH", 1, Processor.INS_UND),
 
     // dd 6d (undocumented)
-    new Opcode("LD", "IXL,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,IXL", 1, Processor.INS_UND),
 
     // dd 6e
-    new Opcode("LD", "L,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "L,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 6f (undocumented)
-    new Opcode("LD", "IXL,A", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IX = (IX & 0xff00) + A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IXL,A", 1, Processor.INS_UND),
 
     // dd 70
-    new Opcode("LD", "(IX<d>),B", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, B);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),B", 2, Processor.INS_MW),
 
     // dd 71
-    new Opcode("LD", "(IX<d>),C", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, C);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),C", 2, Processor.INS_MW),
 
     // dd 72
-    new Opcode("LD", "(IX<d>),D", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, D);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),D", 2, Processor.INS_MW),
 
     // dd 73
-    new Opcode("LD", "(IX<d>),E", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, E);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),E", 2, Processor.INS_MW),
 
     // dd 74
-    new Opcode("LD", "(IX<d>),H", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, H);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),H", 2, Processor.INS_MW),
 
     // dd 75
-    new Opcode("LD", "(IX<d>),L", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, L);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),L", 2, Processor.INS_MW),
 
     // dd 76
     null,
 
     // dd 77
-    new Opcode("LD", "(IX<d>),A", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IX<d>),A", 2, Processor.INS_MW),
 
     // dd 78 - dd 7b
     null, null, null, null,
     
     // dd 7c (undocumented)
-    new Opcode("LD", "A,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A = IX >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,IXH", 1, Processor.INS_UND),
 
     // dd 7d (undocumented)
-    new Opcode("LD", "A,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A = IX & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,IXL", 1, Processor.INS_UND),
 
     // dd 7e
-    new Opcode("LD", "A,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "A,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 7f - dd 83
     null, null, null, null, null,
 
     // dd 84 (undocumented)
-    new Opcode("ADD", "A,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IX >> 8);
-	  final int cb = A ^ (IX >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,IXH", 1, Processor.INS_UND),
 
     // dd 85 (undocumented)
-    new Opcode("ADD", "A,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IX & 0xff);
-	  final int cb = A ^ (IX & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,IXL", 1, Processor.INS_UND),
 
     // dd 86
-    new Opcode("ADD", "A,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A + tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 87 - dd 8b
     null, null, null, null, null,
     
     // dd 8c (undocumented)
-    new Opcode("ADC", "A,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IX >> 8) + (F & CF);
-	  final int cb = A ^ (IX >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,IXH", 1, Processor.INS_UND),
 
     // dd 8d (undocumented)
-    new Opcode("ADC", "A,L", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IX & 0xff) + (F & CF);
-	  final int cb = A ^ (IX & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,L", 1, Processor.INS_UND),
 
     // dd 8e
-    new Opcode("ADC", "A,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A + tb + (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 8f - dd 93
     null, null, null, null, null,
 
     // dd 94 (undocumented)
-    new Opcode("SUB", "IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IX >> 8);
-	  final int cb = A ^ (IX >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "IXH", 1, Processor.INS_UND),
 
     // dd 95 (undocumented)
-    new Opcode("SUB", "IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IX & 0xff);
-	  final int cb = A ^ (IX & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "IXL", 1, Processor.INS_UND),
 
     // dd 96
-    new Opcode("SUB", "(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SUB", "(IX<d>)", 2, Processor.INS_MR),
 
     // dd 97 - dd 9b
     null, null, null, null, null,
     
     // dd 9c (undocumented)
-    new Opcode("SBC", "A,IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IX >> 8) - (F & CF);
-	  final int cb = A ^ (IX >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,IXH", 1, Processor.INS_UND),
 
     // dd 9d (undocumented)
-    new Opcode("SBC", "A,IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IX & 0xff) - (F & CF);
-	  final int cb = A ^ (IX & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,IXL", 1, Processor.INS_UND),
 
     // dd 9e
-    new Opcode("SBC", "A,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A - tb - (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,(IX<d>)", 2, Processor.INS_MR),
 
     // dd 9f - dd a3
     null, null, null, null, null,
 
     // dd a4 (undocumented)
-    new Opcode("AND", "IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A &= IX >> 8;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "IXH", 1, Processor.INS_UND),
 
     // dd a5 (undocumented)
-    new Opcode("AND", "L", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A &= IX & 0xff;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "L", 1, Processor.INS_UND),
 
     // dd a6
-    new Opcode("AND", "(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A &= memory.getByte(WZ);
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("AND", "(IX<d>)", 2, Processor.INS_MR),
 
     // dd a7 - dd db
     null, null, null, null, null,
 
     // dd ac (undocumented)
-    new Opcode("XOR", "IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= IX >> 8;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "IXH", 1, Processor.INS_UND),
 
     // dd ad (undocumented)
-    new Opcode("XOR", "IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= IX & 0xff;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "IXL", 1, Processor.INS_UND),
 
     // dd ae
-    new Opcode("XOR", "(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A ^= memory.getByte(WZ);
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("XOR", "(IX<d>)", 2, Processor.INS_MR),
 
     // dd af - dd b3
     null, null, null, null, null,
 
     // dd b4 (undocumented)
-    new Opcode("OR", "IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A |= IX >> 8;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "IXH", 1, Processor.INS_UND),
 
     // dd b5 (undocumented)
-    new Opcode("OR", "IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A |= IX & 0xff;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "IXL", 1, Processor.INS_UND),
 
     // dd b6
-    new Opcode("OR", "(HL)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A |= memory.getByte(WZ);
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("OR", "(HL)", 2, Processor.INS_MR),
 
     // dd b7 - dd bb
     null, null, null, null, null,
 
     // dd bc (undocumented)
-    new Opcode("CP", "IXH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IX >> 8);
-	  final int cb = A ^ (IX >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, IX >> 8);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "IXH", 1, Processor.INS_UND),
 
     // dd bd (undocumented)
-    new Opcode("CP", "IXL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IX & 0xff);
-	  final int cb = A ^ (IX & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, IX & 0xff);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "IXL", 1, Processor.INS_UND),
 
     // dd be
-    new Opcode("CP", "(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, tb);
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("CP", "(IX<d>)", 2, Processor.INS_MR),
 
     // dd bf - e0
     null,
@@ -11908,18 +3695,7 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
     
     // dd e1
-    new Opcode("POP", "IX", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  IX = memory.getByte(SP);
-	  incSP();
-	  IX |= memory.getByte(SP) << 8;
-	  incSP();
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("POP", "IX", 1, Processor.INS_MR),
 
     // dd e2
     null,
@@ -11927,51 +3703,19 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // dd e3
     new Opcode("EX", "(SP),IX",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(SP);
-	  memory.setByte(SP, IX & 0xff);
-	  final int tw = (SP + 1) & 0xffff;
-	  final int ti = memory.getByte(tw);
-	  memory.setByte(tw, IX >> 8);
-	  WZ = IX = tb + (ti << 8);
-	  incPC();
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd e4
     null,
 
     // dd e5
-    new Opcode("PUSH", "IX", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, IX >> 8);
-	  decSP();
-	  memory.setByte(SP, IX & 0xff);
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("PUSH", "IX", 1, Processor.INS_MW),
 
     // dd e6 - dd e8
     null, null, null,
 
     // dd e9
-    new Opcode("JP", "(IX)", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  PC = IX;
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("JP", "(IX)", 1, Processor.INS_JMP),
 
     // dd ea - dd e8
     null, null, null, null, null, null,
@@ -11979,15 +3723,7 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
     
     // dd f9
-    new Opcode("LD", "SP,IX", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  SP = IX;
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("LD", "SP,IX", 1, 0),
 
     // dd fa - dd ff
     null, null, null, null, null, null
@@ -12009,1237 +3745,214 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null, null, null, null, null, null, null, null,
 
     // ed 40
-    new Opcode("IN", "B,(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  B = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    B &= t.portInput((B << 8) + C);
-	  }
-	  F5(B);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "B,(C)", 2, Processor.INS_IOR),
 
     // ed 41
-    new Opcode("OUT", "(C),B", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, B);
-	  }
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),B", 2, Processor.INS_IOW),
 
     // ed 42
-    new Opcode("SBC", "HL,BC", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = (H << 8) + L - (B << 8) - C - (F & CF);
-	  final int cb = H ^ B ^ (tw >> 8);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((cb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SBC", "HL,BC", 1, 0),
 
     // ed 43
-    new Opcode("LD", "(<nn>),BC", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  memory.setByte(WZ, C);
-	  incWZ();
-	  memory.setByte(WZ, B);
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),BC", 3, Processor.INS_MW),
 
     // ed 44
-    new Opcode("NEG", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, 0),
 
     // ed 45
     new Opcode("RETN", "",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // ed 46
-    new Opcode("IM", "0", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 0;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "0", 1, 0),
 
     // ed 47
-    new Opcode("LD", "I,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  I = A;
-	  incPC();
-	  return 9;
-	}
-      }
-      ),
+    new Opcode("LD", "I,A", 1, 0),
 
 
     // ed 48
-    new Opcode("IN", "C,(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = C;
-	  C = 0xff;
-	  for (IOElement t: inputPorts.get(tb)) {
-	    C &= t.portInput((B << 8) + tb);
-	  }
-	  F5(C);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "C,(C)", 2, Processor.INS_IOR),
 
     // ed 49
-    new Opcode("OUT", "(C),C", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, C);
-	  }
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),C", 2, Processor.INS_IOW),
 
     // ed 4a
-    new Opcode("ADC", "HL,BC", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = (H << 8) + L + (B << 8) + C + (F & CF);
-	  final int cb = H ^ B ^ (tw >> 8);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((cb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADC", "HL,BC", 1, 0),
 
     // ed 4b
-    new Opcode("LD", "BC,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  C = memory.getByte(WZ);
-	  incWZ();
-	  B = memory.getByte(WZ);
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "BC,(<nn>)", 3, Processor.INS_MR),
 
     // ed 4c (undocumented)
-    new Opcode("NEG", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, Processor.INS_UND),
 
     // ed 4d
     new Opcode("RETI", "",
 	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_RET | Processor.INS_MR),
 
     // ed 4e (undocumented)
-    new Opcode("IM", "0", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 0;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "0", 1, Processor.INS_UND),
 
     // ed 4f
-    new Opcode("LD", "R,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  R = R7 = A;
-	  incPC();
-	  return 9;
-	}
-      }
-      ),
+    new Opcode("LD", "R,A", 1, 0),
 
     // ed 50
-    new Opcode("IN", "D,(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  D = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    D &= t.portInput((B << 8) + C);
-	  }
-	  F5(D);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "D,(C)", 2, Processor.INS_IOR),
 
     // ed 51
-    new Opcode("OUT", "(C),D", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, D);
-	  }
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),D", 2, Processor.INS_IOW),
 
     // ed 52
-    new Opcode("SBC", "HL,DE", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = (H << 8) + L - (D << 8) - E - (F & CF);
-	  final int cb = H ^ D ^ (tw >> 8);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((cb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SBC", "HL,DE", 1, 0),
 
     // ed 53
-    new Opcode("LD", "(<nn>),DE", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  memory.setByte(WZ, E);
-	  incWZ();
-	  memory.setByte(WZ, D);
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),DE", 3, Processor.INS_MW),
 
     // ed 54 (undocumented)
-    new Opcode("NEG", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, Processor.INS_UND),
 
     // ed 55 (undocumented)
     new Opcode("RETN", "",
 	       1,
-	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR),
 
     // ed 56
-    new Opcode("IM", "1", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 1;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "1", 1, 0),
 
     // ed 57
-    new Opcode("LD", "A,I", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = I;
-	  F4(A);
-	  if (IFF2) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 9;
-	}
-      }
-      ),
+    new Opcode("LD", "A,I", 1, 0),
 
     // ed 58
-    new Opcode("IN", "E,(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  E = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    E &= t.portInput((B << 8) + C);
-	  }
-	  F5(E);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "E,(C)", 2, Processor.INS_IOR),
 
     // ed 59
-    new Opcode("OUT", "(C),E", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, E);
-	  }
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),E", 2, Processor.INS_IOW),
 
     // ed 5a
-    new Opcode("ADC", "HL,DE", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = (H << 8) + L + (D << 8) + E + (F & CF);
-	  final int cb = H ^ D ^ (tw >> 8);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((cb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADC", "HL,DE", 1, 0),
 
     // ed 5b
-    new Opcode("LD", "DE,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  E = memory.getByte(WZ);
-	  incWZ();
-	  D = memory.getByte(WZ);
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "DE,(<nn>)", 3, Processor.INS_MR),
 
     // ed 5c (undocumented)
-    new Opcode("NEG", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, Processor.INS_UND),
 
     // ed 5d (undocumented)
     new Opcode("RETN", "",
 	       1,
-	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR),
 
     // ed 5e
-    new Opcode("IM", "2", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 2;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "2", 1, 0),
 
     // ed 5f
-    new Opcode("LD", "A,R", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (R & 0x7f) | (R7 & 0x80);
-	  F4(A);
-	  if (IFF2) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 9;
-	}
-      }
-      ),
+    new Opcode("LD", "A,R", 1, 0),
 
     // ed 60
-    new Opcode("IN", "H,(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  H = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    H &= t.portInput((B << 8) + C);
-	  }
-	  F5(H);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "H,(C)", 2, Processor.INS_IOR),
 
     // ed 61
-    new Opcode("OUT", "(C),H", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, H);
-	  }
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),H", 2, Processor.INS_IOW),
 
     // ed 62
-    new Opcode("SBC", "HL,HL", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = -(F & CF);
-	  if ((tw & 0x1000) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x10000) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((tw ^ (tw >> 1)) & 0x8000) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SBC", "HL,HL", 1, 0),
 
     // ed 63
-    new Opcode("LD", "(<nn>),HL", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  memory.setByte(WZ, L);
-	  incWZ();
-	  memory.setByte(WZ, H);
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),HL", 3, Processor.INS_MW),
 
     // ed 64 (undocumented)
-    new Opcode("NEG", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, Processor.INS_UND),
 
     // ed 65 (undocumented)
     new Opcode("RETN", "",
 	       1,
-	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR),
 
     // ed 66 (undocumented)
-    new Opcode("IM", "0", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 0;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "0", 1, Processor.INS_UND),
 
     // ed 67
     new Opcode("RRD", "",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  memory.setByte(HL(), (tb >> 4) | ((A & 0x0f) << 4));
-	  A = (A & 0xf0) | (tb & 0x0f);
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  WZ = (HL() + 1) & 0xffff;
-	  incPC();
-	  return 18;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // ed 68
-    new Opcode("IN", "L,(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  L = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    L &= t.portInput((B << 8) + C);
-	  }
-	  F5(L);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "L,(C)", 2, Processor.INS_IOR),
 
     // ed 69
-    new Opcode("OUT", "(C),L", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, L);
-	  }
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),L", 2, Processor.INS_IOW),
 
     // ed 6a
-    new Opcode("ADC", "HL,HL", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = (H << 9) + (L << 1) + (F & CF);
-	  if ((tw & 0x1000) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x10000) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((tw ^ (tw >> 1)) & 0x8000) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADC", "HL,HL", 1, 0),
 
     // ed 6b
-    new Opcode("LD", "HL,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  L = memory.getByte(WZ);
-	  incWZ();
-	  H = memory.getByte(WZ);
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "HL,(<nn>)", 3, Processor.INS_MR),
 
     // ed 6c (undocumented)
-    new Opcode("NEG", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, Processor.INS_UND),
 
     // ed 6d (undocumented)
     new Opcode("RETN", "",
 	       1,
-	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR),
 
     // ed 6e (undocumented)
-    new Opcode("IM", "0", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 0;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "0", 1, Processor.INS_UND),
 
     // ed 6f
     new Opcode("RLD", "",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  memory.setByte(HL(), ((tb & 0x0f) << 4) | (A & 0x0f));
-	  A = (A & 0xf0) | ((tb >> 4) & 0x0f);
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  WZ = (HL() + 1) & 0xffff;
-	  incPC();
-	  return 18;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // ed 70
-    new Opcode("IN", "(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  int tb = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    tb &= t.portInput((B << 8) + C);
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "(C)", 2, Processor.INS_IOR),
 
     // ed 71
-    new Opcode("OUT", "(C),0", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, 0);
-	  }
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),0", 2, Processor.INS_IOW),
 
     // ed 72
-    new Opcode("SBC", "HL,SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = (H << 8) + L - SP - (F & CF);
-	  final int cb = H ^ (SP >> 8) ^ (tw >> 8);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((cb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SBC", "HL,SP", 1, 0),
 
     // ed 73
-    new Opcode("LD", "(<nn>),SP", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  memory.setByte(WZ, SP & 0xff);
-	  incWZ();
-	  memory.setByte(WZ, SP >> 8);
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),SP", 3, Processor.INS_MW),
 
     // ed 74 (undocumented)
-    new Opcode("NEG", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, Processor.INS_UND),
 
     // ed 75 (undocumented)
     new Opcode("RETN", "",
 	       1,
-	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR),
 
     // ed 76 (undocumented)
-    new Opcode("IM", "1", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 1;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "1", 1, Processor.INS_UND),
 
     // ed 77
     null,
 
     // ed 78
-    new Opcode("IN", "A,(C)", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  A = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    A &= t.portInput((B << 8) + C);
-	  }
-	  F5(A);
-	  CLEARHF();
-	  CLEARNF();
-	  WZ = (BC() + 1) & 0xffff;
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("IN", "A,(C)", 2, Processor.INS_IOR),
 
     // ed 79
-    new Opcode("OUT", "(C),A", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, A);
-	  }
-	  WZ = (BC() + 1) & 0xffff;
-	  incPC();
-	  return 12;
-	}
-      }
-      ),
+    new Opcode("OUT", "(C),A", 2, Processor.INS_IOW),
 
     // ed 7a
-    new Opcode("ADC", "HL,SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (HL() + 1) & 0xffff;
-	  final int tw = (H << 8) + L + SP + (F & CF);
-	  final int cb = H ^ (SP >> 8) ^ (tw >> 8);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((cb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  L = tw & 0xff;
-	  H = (tw >> 8) & 0xff;
-	  F4(H);
-	  if ((H | L) == 0) {
-	    SETZF();
-	  } else {
-	    CLEARZF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADC", "HL,SP", 1, 0),
 
     // ed 7b
-    new Opcode("LD", "SP,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  final int tb = memory.getByte(WZ);
-	  incWZ();
-	  SP = (memory.getByte(WZ) << 8) + tb;
-	  incPC();
-	  return 20;
-	}
-      }
-      ),
+    new Opcode("LD", "SP,(<nn>)", 3, Processor.INS_MR),
 
     // ed 7c (undocumented)
-    new Opcode("NEG", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  if (A != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if ((A & 0x0f) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if (A == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = (-A) & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("NEG", "", 1, Processor.INS_UND),
 
     // ed 7d (undocumented)
     new Opcode("RETN", "",
 	       1,
-	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  IFF1 = IFF2;
-	  WZ = memory.getByte(SP);
-	  incSP();
-	  WZ += memory.getByte(SP) << 8;
-	  incSP();
-	  PC = WZ;
-	  return 14;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR),
 
     // ed 7e (undocumented)
-    new Opcode("IM", "2", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IM = 2;
-	  incPC();
-	  return 8;
-	}
-      }
-      ),
+    new Opcode("IM", "2", 1, Processor.INS_UND),
 
     // ed 7f
     null,
@@ -13252,159 +3965,22 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
 
     // ed a0
     new Opcode("LDI", "", 1,
-	       Processor.INS_MR | Processor.INS_MW | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  memory.setByte(DE(), tb);
-	  incHL();
-	  incDE();
-	  decBC();
-	  tb += A;
-	  if ((tb & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tb & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  if ((B | C) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW | Processor.INS_BLK),
 
     // ed a1
     new Opcode("CPI", "",
 	       1,
-	       Processor.INS_MR | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incWZ();
-	  final int tb = memory.getByte(HL());
-	  int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  incHL();
-	  decBC();
-	  F4(tw & 0xff);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	    tw--;
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tw & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  if ((B | C) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_BLK),
 
     // ed a2
     new Opcode("INI", "",
 	       1,
-	       Processor.INS_IOR | Processor.INS_MW | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (BC() + 1) & 0xffff;
-	  B--;
-	  int tb = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    tb &= t.portInput((B << 8) + C);
-	  }
-	  memory.setByte(HL(), tb);
-	  incHL();
-	  F4(B);
-	  final int tw = ((C + 1) & 0xff) + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_IOR | Processor.INS_MW | Processor.INS_BLK),
 
     // ed a3
     new Opcode("OUTI", "",
 	       1,
-	       Processor.INS_IOW | Processor.INS_MR | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, tb);
-	  }
-	  incHL();
-	  B--;
-	  WZ = (BC() + 1) & 0xffff;
-	  F4(B);
-	  final int tw = L + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_IOW | Processor.INS_MR | Processor.INS_BLK),
 
     // ed a4 - ed a7
     null, null, null, null,
@@ -13412,159 +3988,22 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // ed a8
     new Opcode("LDD", "",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  memory.setByte(DE(), tb);
-	  decHL();
-	  decDE();
-	  decBC();
-	  tb += A;
-	  if ((tb & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tb & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  if ((B | C) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  CLEARHF();
-	  CLEARNF();
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW | Processor.INS_BLK),
 
     // ed a9
     new Opcode("CPD", "",
 	       1,
-	       Processor.INS_MR | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  decWZ();
-	  final int tb = memory.getByte(HL());
-	  int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  decHL();
-	  decBC();
-	  F4(tw & 0xff);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	    tw--;
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tw & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  if ((B | C) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_BLK),
 
     // ed aa
     new Opcode("IND", "",
 	       1,
-	       Processor.INS_IOW | Processor.INS_MW | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (BC() - 1) & 0xffff;
-	  B--;
-	  int tb = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    tb &= t.portInput((B << 8) + C);
-	  }
-	  memory.setByte(HL(), tb);
-	  decHL();
-	  F4(B);
-	  final int tw = ((C - 1) & 0xff) + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_IOW | Processor.INS_MW | Processor.INS_BLK),
 
     // ed ab
     new Opcode("OUTD", "",
 	       1,
-	       Processor.INS_IOW | Processor.INS_MR | Processor.INS_BLK,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, tb);
-	  }
-	  decHL();
-	  B--;
-	  WZ = (BC() - 1) & 0xffff;
-	  F4(B);
-	  final int tw = L + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_IOW | Processor.INS_MR | Processor.INS_BLK),
 
     // ed ac - ed af
     null, null, null, null,
@@ -13573,179 +4012,23 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     new Opcode("LDIR", "",
 	       1,
 	       Processor.INS_MR | Processor.INS_MW |
-	       Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  memory.setByte(DE(), tb);
-	  incHL();
-	  incDE();
-	  decBC();
-	  tb += A;
-	  if ((tb & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tb & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  CLEARHF();
-	  CLEARNF();
-	  if ((B | C) != 0) {
-	    SETPF();
-	    WZ = PC;
-	    decPC();
-	    return 21;
-	  } else {
-	    CLEARPF();
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_BLK | Processor.INS_REP),
 
     // ed b1
     new Opcode("CPIR", "",
 	       1,
-	       Processor.INS_MR | Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incWZ();
-	  final int tb = memory.getByte(HL());
-	  int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  incHL();
-	  decBC();
-	  F4(tw & 0xff);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	    tw--;
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tw & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  SETNF();
-	  if ((B | C) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if (!ZFSET() && PFSET()) {
-	    WZ = PC;
-	    decPC();
-	    return 21;
-	  } else {
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_BLK | Processor.INS_REP),
 
     // ed b2
     new Opcode("INIR", "", 1,
 	       Processor.INS_IOW | Processor.INS_MW |
-	       Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (BC() + 1) & 0xffff;
-	  B--;
-	  int tb = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    tb &= t.portInput((B << 8) + C);
-	  }
-	  memory.setByte(HL(), tb);
-	  incHL();
-	  F4(B);
-	  final int tw = ((C + 1) & 0xff) + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if (B != 0) {
-	    decPC();
-	    return 21;
-	  } else {
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_BLK | Processor.INS_REP),
 
     // ed b3
     new Opcode("OTIR", "",
 	       1,
 	       Processor.INS_IOW | Processor.INS_MR |
-	       Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, tb);
-	  }
-	  incHL();
-	  B--;
-	  WZ = (BC() + 1) & 0xffff;
-	  F4(B);
-	  final int tw = L + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if (B != 0) {
-	    decPC();
-	    return 21;
-	  } else {
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_BLK | Processor.INS_REP),
 
     // ed b4 - ed b7
     null, null, null, null,
@@ -13754,180 +4037,24 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     new Opcode("LDDR", "",
 	       1,
 	       Processor.INS_MR | Processor.INS_MW |
-	       Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  memory.setByte(DE(), tb);
-	  decHL();
-	  decDE();
-	  decBC();
-	  tb += A;
-	  if ((tb & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tb & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  CLEARHF();
-	  CLEARNF();
-	  if ((B | C) != 0) {
-	    SETPF();
-	    WZ = PC;
-	    decPC();
-	    return 21;
-	  } else {
-	    CLEARPF();
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_BLK | Processor.INS_REP),
 
     // ed b9
     new Opcode("CPDR", "",
 	       1,
-	       Processor.INS_MR | Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  decWZ();
-	  final int tb = memory.getByte(HL());
-	  int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  decHL();
-	  decBC();
-	  F4(tw & 0xff);
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	    tw--;
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x02) != 0) {
-	    SETYF();
-	  } else {
-	    CLEARYF();
-	  }
-	  if ((tw & 0x08) != 0) {
-	    SETXF();
-	  } else {
-	    CLEARXF();
-	  }
-	  SETNF();
-	  if ((B | C) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if (!ZFSET() && PFSET()) {
-	    WZ = PC;
-	    decPC();
-	    return 21;
-	  } else {
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_BLK | Processor.INS_REP),
 
     // ed ba
     new Opcode("INDR", "",
 	       1,
 	       Processor.INS_IOR | Processor.INS_MW |
-	       Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (BC() - 1) & 0xffff;
-	  B--;
-	  int tb = 0xff;
-	  for (IOElement t: inputPorts.get(C)) {
-	    tb &= t.portInput((B << 8) + C);
-	  }
-	  memory.setByte(HL(), tb);
-	  decHL();
-	  F4(B);
-	  final int tw = ((C - 1) & 0xff) + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if (B != 0) {
-	    decPC();
-	    return 21;
-	  } else {
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_BLK | Processor.INS_REP),
 
     // ed bb
     new Opcode("OTDR", "",
 	       1,
 	       Processor.INS_IOW | Processor.INS_MR |
-	       Processor.INS_BLK | Processor.INS_REP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(HL());
-	  for (IOElement t: outputPorts.get(C)) {
-	    t.portOutput((B << 8) + C, tb);
-	  }
-	  decHL();
-	  B--;
-	  WZ = (BC() - 1) & 0xffff;
-	  F4(B);
-	  final int tw = L + tb;
-	  if ((tb & SF) != 0) {
-	    SETNF();
-	  } else {
-	    CLEARNF();
-	  }
-	  if ((tw & 0x100) != 0) {
-	    SETHF();
-	    SETCF();
-	  } else {
-	    CLEARHF();
-	    CLEARCF();
-	  }
-	  if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if (B != 0) {
-	    decPC();
-	    return 21;
-	  } else {
-	    incPC();
-	    return 16;
-	  }
-	}
-      }
-      ),
+	       Processor.INS_BLK | Processor.INS_REP),
 
     // ed bc - ed bf
     null, null, null, null,
@@ -13953,29 +4080,7 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
     
     // fd 09
-    new Opcode("ADD", "IY,BC", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IY + 1) & 0xffff;
-	  final int ti = IY + BC();
-	  if ((((IY >> 8) ^ B ^ (ti >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IY = ti & 0xffff;
-	  F2(IY >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IY,BC", 1, 0),
 
     // fd 0a - fd 18
     null, null, null, null, null, null,
@@ -13983,251 +4088,50 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
 
     // fd 19
-    new Opcode("ADD", "IY,DE", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IY + 1) & 0xffff;
-	  final int ti = IY + DE();
-	  if ((((IY >> 8) ^ D ^ (ti >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IY = ti & 0xffff;
-	  F2(IY >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IY,DE", 1, 0),
 
     // fd 1a - fd 20
     null, null, null, null, null, null,
     null,
 
     // fd 21
-    new Opcode("LD", "IY,<nn>", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  IY = memory.getByte(PC);
-	  incPC();
-	  IY += memory.getByte(PC) << 8;
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("LD", "IY,<nn>", 3, 0),
 
     // fd 22
-    new Opcode("LD", "(<nn>),IY", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  memory.setByte(WZ, IY & 0xff);
-	  incWZ();
-	  memory.setByte(WZ, IY >> 8);
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("LD", "(<nn>),IY", 3, Processor.INS_MW),
 
     // fd 23
-    new Opcode("INC", "IY", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY + 1) & 0xffff;
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("INC", "IY", 1, 0),
 
     // fd 24
-    new Opcode("INC", "IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = ((IY >> 8) + 1) & 0xff;
-	  IY = (tb << 8) + (IY & 0xff);
-	  F4(tb);
-	  if (tb == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "IYH", 1, Processor.INS_UND),
 
     // fd 25
-    new Opcode("DEC", "IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = ((IY >> 8) - 1) & 0xff;
-	  IY = (tb << 8) + (IY & 0xff);
-	  F4(tb);
-	  if (tb == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "IYH", 1, Processor.INS_UND),
 
     // fd 26
-    new Opcode("LD", "IYH,<n>", 2, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  IY = (memory.getByte(PC) << 8) + (IY & 0xff);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,<n>", 2, Processor.INS_UND),
 
     // fd 27 - fd 28
     null, null,
 
     // fd 29
-    new Opcode("ADD", "IY,IY", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IY + 1) & 0xffff;
-	  final int ti = IY << 1;
-	  if (((ti >> 8) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IY = ti & 0xffff;
-	  F2(IY >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IY,IY", 1, 0),
 
     // fd 2a
-    new Opcode("LD", "IY,(<nn>)", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = memory.getByte(PC);
-	  incPC();
-	  WZ += memory.getByte(PC) << 8;
-	  IY = memory.getByte(WZ);
-	  incWZ();
-	  IY += memory.getByte(WZ) << 8;
-	  incPC();
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("LD", "IY,(<nn>)", 3, Processor.INS_MR),
 
     // fd 2b
-    new Opcode("DEC", "IY", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY - 1) & 0xffff;
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("DEC", "IY", 1, 0),
 
     // fd 2c
-    new Opcode("INC", "IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = (IY + 1) & 0xff;
-	  IY = tb + (IY & 0xff00);
-	  F4(tb);
-	  if (tb == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("INC", "IYL", 1, Processor.INS_UND),
 
     // fd 2d
-    new Opcode("DEC", "IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = (IY - 1) & 0xff;
-	  IY = tb + (IY & 0xff00);
-	  F4(tb);
-	  if (tb == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("DEC", "IYL", 1, Processor.INS_UND),
 
     // fd 2e
-    new Opcode("LD", "IYL,<n>", 2, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  IY = memory.getByte(PC) + (IY & 0xff00);
-	  incPC();
-	  return 7;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,<n>", 2, Processor.INS_UND),
 
     // fd 2f - fd 33
     null,
@@ -14236,1196 +4140,254 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // fd 34
     new Opcode("INC", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = (memory.getByte(WZ) + 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F4(tb);
-	  if (tb == 0x80) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd 35
     new Opcode("DEC", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = (memory.getByte(WZ) - 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F4(tb);
-	  if (tb == 0x7f) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  if ((tb & 0x0f) == 0x0f) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  SETNF();
-	  incPC();
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd 36
-    new Opcode("LD", "(IY<d>),<n>", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  incPC();
-	  memory.setByte(WZ, memory.getByte(PC));
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),<n>", 3, Processor.INS_MW),
 
     // fd 37 - fd 38
     null, null,
 
     // fd 39
-    new Opcode("ADD", "IY,SP", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  WZ = (IY + 1) & 0xffff;
-	  final int ti = IY + SP;
-	  if ((((IY >> 8) ^ ((SP ^ ti) >> 8)) & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  IY = ti & 0xffff;
-	  F2(IY >> 8);
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  CLEARNF();
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("ADD", "IY,SP", 2, 0),
 
     // fd 3a - 43
     null, null, null, null, null, null,
     null, null, null, null,
 
     // fd 44 (undocumented)
-    new Opcode("LD", "B,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  B = IY >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,IYH", 1, Processor.INS_UND),
 
     // fd 45 (undocumented)
-    new Opcode("LD", "B,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  B = IY & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "B,IYL", 1, Processor.INS_UND),
 
     // fd 46
-    new Opcode("LD", "B,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "B,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 47 - fd 4b
     null, null, null, null, null,
     
     
     // fd 4c (undocumented)
-    new Opcode("LD", "C,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  C = IY >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,IYH", 1, Processor.INS_UND),
 
     // fd 4d (undocumented)
-    new Opcode("LD", "C,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  C = IY & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "C,IYL", 1, Processor.INS_UND),
 
     // fd 4e
-    new Opcode("LD", "C,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "C,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 4f - fd 53
     null, null, null, null, null,
 
     // fd 54 (undocumented)
-    new Opcode("LD", "D,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  D = IY >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,IYH", 1, Processor.INS_UND),
 
     // fd 55 (undocumented)
-    new Opcode("LD", "D,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  D = IY & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "D,IYL", 1, Processor.INS_UND),
 
     // fd 56
-    new Opcode("LD", "D,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "D,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 57 - fd 5b
     null, null, null, null, null,
     
     // fd 5c (undocumented)
-    new Opcode("LD", "E,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  E = IY >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,IYH", 1, Processor.INS_UND),
 
     // fd 5d (undocumented)
-    new Opcode("LD", "E,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  E = IY & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "E,IYL", 1, Processor.INS_UND),
 
     // fd 5e
-    new Opcode("LD", "E,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "E,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 5f
     null,
 
     // fd 60 (undocumented)
-    new Opcode("LD", "IYH,B", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (B << 8) + (IY & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,B", 1, Processor.INS_UND),
 
     // fd 61 (undocumented)
-    new Opcode("LD", "IYH,C", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (C << 8) + (IY & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,C", 1, Processor.INS_UND),
 
     // fd 62 (undocumented)
-    new Opcode("LD", "IYH,D", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (D << 8) + (IY & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,D", 1, Processor.INS_UND),
 
     // fd 63 (undocumented)
-    new Opcode("LD", "IYH,E", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (E << 8) + (IY & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,E", 1, Processor.INS_UND),
 
     // fd 64 (undocumented)
-    new Opcode("LD", "IYH,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,IYH", 1, Processor.INS_UND),
 
     // fd 65 (undocumented)
-    new Opcode("LD", "IYH,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = ((IY & 0xff) << 8) + (IY & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,IYL", 1, Processor.INS_UND),
 
     // fd 66
-    new Opcode("LD", "H,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "H,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 67 (undocumented)
-    new Opcode("LD", "IYH,A", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (A << 8) + (IY & 0xff);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYH,A", 1, Processor.INS_UND),
 
     // fd 68 (undocumented)
-    new Opcode("LD", "IYL,B", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY & 0xff00) + B;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,B", 1, Processor.INS_UND),
 
     // fd 69 (undocumented)
-    new Opcode("LD", "IYL,C", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY & 0xff00) + C;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,C", 1, Processor.INS_UND),
 
     // fd 6a (undocumented)
-    new Opcode("LD", "IYL,D", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY & 0xff00) + D;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,D", 1, Processor.INS_UND),
 
     // fd 6b (undocumented)
-    new Opcode("LD", "IYL,E", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY & 0xff00) + E;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,E", 1, Processor.INS_UND),
 
     // fd 6c (undocumented)
-    new Opcode("LD", "IYL,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY & 0xff00) + (IY >> 8);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,IYH", 1, Processor.INS_UND),
 
     // fd 6d (undocumented)
-    new Opcode("LD", "IYL,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,IYL", 1, Processor.INS_UND),
 
     // fd 6e
-    new Opcode("LD", "L,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "L,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 6f (undocumented)
-    new Opcode("LD", "IYL,A", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  IY = (IY & 0xff00) + A;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "IYL,A", 1, Processor.INS_UND),
 
     // fd 70
-    new Opcode("LD", "(IY<d>),B", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, B);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),B", 2, Processor.INS_MW),
 
     // fd 71
-    new Opcode("LD", "(IY<d>),C", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, C);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),C", 2, Processor.INS_MW),
 
     // fd 72
-    new Opcode("LD", "(IY<d>),D", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, D);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),D", 2, Processor.INS_MW),
 
     // fd 73
-    new Opcode("LD", "(IY<d>),E", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, E);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),E", 2, Processor.INS_MW),
 
     // fd 74
-    new Opcode("LD", "(IY<d>),H", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, H);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),H", 2, Processor.INS_MW),
 
     // fd 75
-    new Opcode("LD", "(IY<d>),L", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, L);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),L", 2, Processor.INS_MW),
 
     // fd 76
     null,
 
     // fd 77
-    new Opcode("LD", "(IY<d>),A", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "(IY<d>),A", 2, Processor.INS_MW),
 
     // fd 78 - fd 7b
     null, null, null, null,
     
     // fd 7c (undocumented)
-    new Opcode("LD", "A,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A = IY >> 8;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,IYH", 1, Processor.INS_UND),
 
     // fd 7d (undocumented)
-    new Opcode("LD", "A,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A = IY & 0xff;
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("LD", "A,IYL", 1, Processor.INS_UND),
 
     // fd 7e
-    new Opcode("LD", "A,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("LD", "A,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 7f - fd 83
     null, null, null, null, null,
 
     // fd 84 (undocumented)
-    new Opcode("ADD", "A,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IY >> 8);
-	  final int cb = A ^ (IY >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,IYH", 1, Processor.INS_UND),
 
     // fd 85 (undocumented)
-    new Opcode("ADD", "A,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IY & 0xff);
-	  final int cb = A ^ (IY & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,IYL", 1, Processor.INS_UND),
 
     // fd 86
-    new Opcode("ADD", "A,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A + tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADD", "A,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 87 - fd 8b
     null, null, null, null, null,
     
     // fd 8c (undocumented)
-    new Opcode("ADC", "A,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IY >> 8) + (F & CF);
-	  final int cb = A ^ (IY >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,IYH", 1, Processor.INS_UND),
 
     // fd 8d (undocumented)
-    new Opcode("ADC", "A,L", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + (IY & 0xff) + (F & CF);
-	  final int cb = A ^ (IY & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,L", 1, Processor.INS_UND),
 
     // fd 8e
-    new Opcode("ADC", "A,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A + tb + (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  CLEARNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("ADC", "A,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 8f - fd 93
     null, null, null, null, null,
 
     // fd 94 (undocumented)
-    new Opcode("SUB", "IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IY >> 8);
-	  final int cb = A ^ (IY >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "IYH", 1, Processor.INS_UND),
 
     // fd 95 (undocumented)
-    new Opcode("SUB", "IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IY & 0xff);
-	  final int cb = A ^ (IY & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SUB", "IYL", 1, Processor.INS_UND),
 
     // fd 96
-    new Opcode("SUB", "(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SUB", "(IY<d>)", 2, Processor.INS_MR),
 
     // fd 97 - fd 9b
     null, null, null, null, null,
     
     // fd 9c (undocumented)
-    new Opcode("SBC", "A,IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IY >> 8) - (F & CF);
-	  final int cb = A ^ (IY >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,IYH", 1, Processor.INS_UND),
 
     // fd 9d (undocumented)
-    new Opcode("SBC", "A,IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IY & 0xff) - (F & CF);
-	  final int cb = A ^ (IY & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,IYL", 1, Processor.INS_UND),
 
     // fd 9e
-    new Opcode("SBC", "A,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A - tb - (F & CF);
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  A = tw & 0xff;
-	  F4(A);
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("SBC", "A,(IY<d>)", 2, Processor.INS_MR),
 
     // fd 9f - fd a3
     null, null, null, null, null,
 
     // fd a4 (undocumented)
-    new Opcode("AND", "IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A &= IY >> 8;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "IYH", 1, Processor.INS_UND),
 
     // fd a5 (undocumented)
-    new Opcode("AND", "L", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A &= IY & 0xff;
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("AND", "L", 1, Processor.INS_UND),
 
     // fd a6
-    new Opcode("AND", "(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A &= memory.getByte(WZ);
-	  SETHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("AND", "(IY<d>)", 2, Processor.INS_MR),
 
     // fd a7 - fd db
     null, null, null, null, null,
 
     // fd ac (undocumented)
-    new Opcode("XOR", "IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= IY >> 8;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "IYH", 1, Processor.INS_UND),
 
     // fd ad (undocumented)
-    new Opcode("XOR", "IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= IY & 0xff;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("XOR", "IYL", 1, Processor.INS_UND),
 
     // fd ae
-    new Opcode("XOR", "(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A ^= memory.getByte(WZ);
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("XOR", "(IY<d>)", 2, Processor.INS_MR),
 
     // fd af - fd b3
     null, null, null, null, null,
 
     // fd b4 (undocumented)
-    new Opcode("OR", "IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A |= IY >> 8;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "IYH", 1, Processor.INS_UND),
 
     // fd b5 (undocumented)
-    new Opcode("OR", "IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  A |= IY & 0xff;
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("OR", "IYL", 1, Processor.INS_UND),
 
     // fd b6
-    new Opcode("OR", "(HL)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A |= memory.getByte(WZ);
-	  CLEARHF();
-	  CLEARCF();
-	  CLEARNF();
-	  F5(A);
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("OR", "(HL)", 2, Processor.INS_MR),
 
     // fd b7 - fd bb
     null, null, null, null, null,
 
     // fd bc (undocumented)
-    new Opcode("CP", "IYH", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IY >> 8);
-	  final int cb = A ^ (IY >> 8) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, IY >> 8);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "IYH", 1, Processor.INS_UND),
 
     // fd bd (undocumented)
-    new Opcode("CP", "IYL", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - (IY & 0xff);
-	  final int cb = A ^ (IY & 0xff) ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, IY & 0xff);
-	  SETNF();
-	  incPC();
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("CP", "IYL", 1, Processor.INS_UND),
 
     // fd be
-    new Opcode("CP", "(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  final int tw = A - tb;
-	  final int cb = A ^ tb ^ tw;
-	  if ((cb & 0x10) != 0) {
-	    SETHF();
-	  } else {
-	    CLEARHF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  if (((cb ^ (cb >> 1)) & 0x80) != 0) {
-	    SETPF();
-	  } else {
-	    CLEARPF();
-	  }
-	  F22(tw & 0xff, tb);
-	  SETNF();
-	  incPC();
-	  return 15;
-	}
-      }
-      ),
+    new Opcode("CP", "(IY<d>)", 2, Processor.INS_MR),
 
     // fd bf - e0
     null,
@@ -15436,18 +4398,7 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
     
     // fd e1
-    new Opcode("POP", "IY", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  IY = memory.getByte(SP);
-	  incSP();
-	  IY |= memory.getByte(SP) << 8;
-	  incSP();
-	  incPC();
-	  return 10;
-	}
-      }
-      ),
+    new Opcode("POP", "IY", 1, Processor.INS_MR),
 
     // fd e2
     null,
@@ -15455,51 +4406,19 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // fd e3
     new Opcode("EX", "(SP),IY",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(SP);
-	  memory.setByte(SP, IY & 0xff);
-	  final int tw = (SP + 1) & 0xffff;
-	  final int ti = memory.getByte(tw);
-	  memory.setByte(tw, IY >> 8);
-	  WZ = IY = tb + (ti << 8);
-	  incPC();
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd e4
     null,
 
     // fd e5
-    new Opcode("PUSH", "IY", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, IY >> 8);
-	  decSP();
-	  memory.setByte(SP, IY & 0xff);
-	  incPC();
-	  return 11;
-	}
-      }
-      ),
+    new Opcode("PUSH", "IY", 1, Processor.INS_MW),
 
     // fd e6 - fd e8
     null, null, null,
 
     // fd e9
-    new Opcode("JP", "(IY)", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  PC = IY;
-	  return 4;
-	}
-      }
-      ),
+    new Opcode("JP", "(IY)", 1, Processor.INS_JMP),
 
     // fd ea - fd e8
     null, null, null, null, null, null,
@@ -15507,15 +4426,7 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     null,
     
     // fd f9
-    new Opcode("LD", "SP,IY", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  SP = IY;
-	  incPC();
-	  return 6;
-	}
-      }
-      ),
+    new Opcode("LD", "SP,IY", 1, 0),
 
     // fd fa - fd ff
     null, null, null, null, null, null
@@ -15529,5634 +4440,1266 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // dd cb 00 (undocumented)
     new Opcode("RLC", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 01 (undocumented)
     new Opcode("RLC", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 02 (undocumented)
     new Opcode("RLC", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 03 (undocumented)
     new Opcode("RLC", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 04 (undocumented)
     new Opcode("RLC", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 05 (undocumented)
     new Opcode("RLC", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 06
     new Opcode("RLC", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 07 (undocumented)
     new Opcode("RLC", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 08 (undocumented)
     new Opcode("RRC", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 09 (undocumented)
     new Opcode("RRC", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 0a (undocumented)
     new Opcode("RRC", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 0b (undocumented)
     new Opcode("RRC", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 0c (undocumented)
     new Opcode("RRC", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 0d (undocumented)
     new Opcode("RRC", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 0e
     new Opcode("RRC", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 0f (undocumented)
     new Opcode("RRC", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 10 (undocumented)
     new Opcode("RL", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 11 (undocumented)
     new Opcode("RL", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 12 (undocumented)
     new Opcode("RL", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 13 (undocumented)
     new Opcode("RL", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 14 (undocumented)
     new Opcode("RL", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 15 (undocumented)
     new Opcode("RL", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 16
     new Opcode("RL", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 17 (undocumented)
     new Opcode("RL", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 18 (undocumented)
     new Opcode("RR", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 19 (undocumented)
     new Opcode("RR", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 1a (undocumented)
     new Opcode("RR", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 1b (undocumented)
     new Opcode("RR", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 1c (undocumented)
     new Opcode("RR", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 1d (undocumented)
     new Opcode("RR", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 1e
     new Opcode("RR", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 1f (undocumented)
     new Opcode("RR", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 20 (undocumented)
     new Opcode("SLA", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 21 (undocumented)
     new Opcode("SLA", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 22 (undocumented)
     new Opcode("SLA", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 23 (undocumented)
     new Opcode("SLA", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 24 (undocumented)
     new Opcode("SLA", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 25 (undocumented)
     new Opcode("SLA", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 26
     new Opcode("SLA", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 27 (undocumented)
     new Opcode("SLA", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 28 (undocumented)
     new Opcode("SRA", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 29 (undocumented)
     new Opcode("SRA", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 2a (undocumented)
     new Opcode("SRA", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 2b (undocumented)
     new Opcode("SRA", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 2c (undocumented)
     new Opcode("SRA", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 2d (undocumented)
     new Opcode("SRA", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 2e
     new Opcode("SRA", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 2f (undocumented)
     new Opcode("SRA", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 30 (undocumented)
     new Opcode("SLL", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 31 (undocumented)
     new Opcode("SLL", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 32 (undocumented)
     new Opcode("SLL", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 33 (undocumented)
     new Opcode("SLL", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 34 (undocumented)
     new Opcode("SLL", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 35 (undocumented)
     new Opcode("SLL", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 36
     new Opcode("SLL", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 37 (undocumented)
     new Opcode("SLL", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 38 (undocumented)
     new Opcode("SRL", "(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 39 (undocumented)
     new Opcode("SRL", "(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 3a (undocumented)
     new Opcode("SRL", "(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 3b (undocumented)
     new Opcode("SRL", "(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 3c (undocumented)
     new Opcode("SRL", "(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 3d (undocumented)
     new Opcode("SRL", "(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 3e
     new Opcode("SRL", "(IX<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 3f (undocumented)
     new Opcode("SRL", "(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 40 (undocumented)
     new Opcode("BIT", "0,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 41 (undocumented)
     new Opcode("BIT", "0,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 42 (undocumented)
     new Opcode("BIT", "0,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 43 (undocumented)
     new Opcode("BIT", "0,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 44 (undocumented)
     new Opcode("BIT", "0,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 45 (undocumented)
     new Opcode("BIT", "0,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 46
-    new Opcode("BIT", "0,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 47 (undocumented)
     new Opcode("BIT", "0,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 48 (undocumented)
     new Opcode("BIT", "1,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 49 (undocumented)
     new Opcode("BIT", "1,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 4a (undocumented)
     new Opcode("BIT", "1,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 4b (undocumented)
     new Opcode("BIT", "1,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 4c (undocumented)
     new Opcode("BIT", "1,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 4d (undocumented)
     new Opcode("BIT", "1,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 4e
-    new Opcode("BIT", "1,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 4f (undocumented)
     new Opcode("BIT", "1,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 50 (undocumented)
     new Opcode("BIT", "2,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 51 (undocumented)
     new Opcode("BIT", "2,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 52 (undocumented)
     new Opcode("BIT", "2,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 53 (undocumented)
     new Opcode("BIT", "2,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 54 (undocumented)
     new Opcode("BIT", "2,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 55 (undocumented)
     new Opcode("BIT", "2,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 56
-    new Opcode("BIT", "2,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 57 (undocumented)
     new Opcode("BIT", "2,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 58 (undocumented)
     new Opcode("BIT", "3,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 59 (undocumented)
     new Opcode("BIT", "3,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 5a (undocumented)
     new Opcode("BIT", "3,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 5b (undocumented)
     new Opcode("BIT", "3,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 5c (undocumented)
     new Opcode("BIT", "3,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 5d (undocumented)
     new Opcode("BIT", "3,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 5e
-    new Opcode("BIT", "3,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 5f (undocumented)
     new Opcode("BIT", "3,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 60 (undocumented)
     new Opcode("BIT", "4,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 61 (undocumented)
     new Opcode("BIT", "4,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 62 (undocumented)
     new Opcode("BIT", "4,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 63 (undocumented)
     new Opcode("BIT", "4,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 64 (undocumented)
     new Opcode("BIT", "4,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 65 (undocumented)
     new Opcode("BIT", "4,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 66
-    new Opcode("BIT", "4,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 67 (undocumented)
     new Opcode("BIT", "4,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 68 (undocumented)
     new Opcode("BIT", "5,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 69 (undocumented)
     new Opcode("BIT", "5,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 6a (undocumented)
     new Opcode("BIT", "5,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 6b (undocumented)
     new Opcode("BIT", "5,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 6c (undocumented)
     new Opcode("BIT", "5,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 6d (undocumented)
     new Opcode("BIT", "5,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 6e
-    new Opcode("BIT", "5,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 6f (undocumented)
     new Opcode("BIT", "5,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 70 (undocumented)
     new Opcode("BIT", "6,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 71 (undocumented)
     new Opcode("BIT", "6,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 72 (undocumented)
     new Opcode("BIT", "6,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 73 (undocumented)
     new Opcode("BIT", "6,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 74 (undocumented)
     new Opcode("BIT", "6,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 75 (undocumented)
     new Opcode("BIT", "6,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 76
-    new Opcode("BIT", "6,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 77 (undocumented)
     new Opcode("BIT", "6,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 78 (undocumented)
     new Opcode("BIT", "7,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 79 (undocumented)
     new Opcode("BIT", "7,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 7a (undocumented)
     new Opcode("BIT", "7,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 7b (undocumented)
     new Opcode("BIT", "7,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 7c (undocumented)
     new Opcode("BIT", "7,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 7d (undocumented)
     new Opcode("BIT", "7,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 7e
-    new Opcode("BIT", "7,(IX<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,(IX<d>)", 2, Processor.INS_MR),
 
     // dd cb 7f (undocumented)
     new Opcode("BIT", "7,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // dd cb 80 (undocumented)
     new Opcode("RES", "0,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 81 (undocumented)
     new Opcode("RES", "0,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 82 (undocumented)
     new Opcode("RES", "0,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 83 (undocumented)
     new Opcode("RES", "0,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 84 (undocumented)
     new Opcode("RES", "0,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 85 (undocumented)
     new Opcode("RES", "0,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 86
     new Opcode("RES", "0,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xfe);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb 87 (undocumented)
     new Opcode("RES", "0,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 88 (undocumented)
     new Opcode("RES", "1,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 89 (undocumented)
     new Opcode("RES", "1,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 8a (undocumented)
     new Opcode("RES", "1,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 8b (undocumented)
     new Opcode("RES", "1,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 8c (undocumented)
     new Opcode("RES", "1,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 8d (undocumented)
     new Opcode("RES", "1,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 8e
     new Opcode("RES", "1,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xfd);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb 8f (undocumented)
     new Opcode("RES", "1,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 90 (undocumented)
     new Opcode("RES", "2,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 91 (undocumented)
     new Opcode("RES", "2,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 92 (undocumented)
     new Opcode("RES", "2,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 93 (undocumented)
     new Opcode("RES", "2,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 94 (undocumented)
     new Opcode("RES", "2,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 95 (undocumented)
     new Opcode("RES", "2,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 96
     new Opcode("RES", "2,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xfb);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb 97 (undocumented)
     new Opcode("RES", "2,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 98 (undocumented)
     new Opcode("RES", "3,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 99 (undocumented)
     new Opcode("RES", "3,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 9a (undocumented)
     new Opcode("RES", "3,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 9b (undocumented)
     new Opcode("RES", "3,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 9c (undocumented)
     new Opcode("RES", "3,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 9d (undocumented)
     new Opcode("RES", "3,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb 9e
     new Opcode("RES", "3,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xf7);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb 9f (undocumented)
     new Opcode("RES", "3,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a0 (undocumented)
     new Opcode("RES", "4,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a1 (undocumented)
     new Opcode("RES", "4,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a2 (undocumented)
     new Opcode("RES", "4,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a3 (undocumented)
     new Opcode("RES", "4,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a4 (undocumented)
     new Opcode("RES", "4,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a5 (undocumented)
     new Opcode("RES", "4,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a6
     new Opcode("RES", "4,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xef);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb a7 (undocumented)
     new Opcode("RES", "4,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a8 (undocumented)
     new Opcode("RES", "5,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb a9 (undocumented)
     new Opcode("RES", "5,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb aa (undocumented)
     new Opcode("RES", "5,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ab (undocumented)
     new Opcode("RES", "5,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ac (undocumented)
     new Opcode("RES", "5,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ad (undocumented)
     new Opcode("RES", "5,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ae
     new Opcode("RES", "5,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xdf);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb af (undocumented)
     new Opcode("RES", "5,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b0 (undocumented)
     new Opcode("RES", "6,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b1 (undocumented)
     new Opcode("RES", "6,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b2 (undocumented)
     new Opcode("RES", "6,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b3 (undocumented)
     new Opcode("RES", "6,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b4 (undocumented)
     new Opcode("RES", "6,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b5 (undocumented)
     new Opcode("RES", "6,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b6
     new Opcode("RES", "6,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xbf);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb b7 (undocumented)
     new Opcode("RES", "6,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b8 (undocumented)
     new Opcode("RES", "7,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb b9 (undocumented)
     new Opcode("RES", "7,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ba (undocumented)
     new Opcode("RES", "7,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb bb (undocumented)
     new Opcode("RES", "7,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb bc (undocumented)
     new Opcode("RES", "7,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb bd (undocumented)
     new Opcode("RES", "7,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb be
     new Opcode("RES", "7,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0x7f);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb bf (undocumented)
     new Opcode("RES", "7,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c0 (undocumented)
     new Opcode("SET", "0,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c1 (undocumented)
     new Opcode("SET", "0,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c2 (undocumented)
     new Opcode("SET", "0,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c3 (undocumented)
     new Opcode("SET", "0,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c4 (undocumented)
     new Opcode("SET", "0,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c5 (undocumented)
     new Opcode("SET", "0,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c6
     new Opcode("SET", "0,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x01);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb c7 (undocumented)
     new Opcode("SET", "0,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c8 (undocumented)
     new Opcode("SET", "1,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb c9 (undocumented)
     new Opcode("SET", "1,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ca (undocumented)
     new Opcode("SET", "1,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb cb (undocumented)
     new Opcode("SET", "1,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb cc (undocumented)
     new Opcode("SET", "1,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb cd (undocumented)
     new Opcode("SET", "1,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ce
     new Opcode("SET", "1,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x02);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb cf (undocumented)
     new Opcode("SET", "1,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d0 (undocumented)
     new Opcode("SET", "2,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d1 (undocumented)
     new Opcode("SET", "2,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d2 (undocumented)
     new Opcode("SET", "2,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d3 (undocumented)
     new Opcode("SET", "2,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d4 (undocumented)
     new Opcode("SET", "2,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d5 (undocumented)
     new Opcode("SET", "2,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d6
     new Opcode("SET", "2,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x04);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb d7 (undocumented)
     new Opcode("SET", "2,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d8 (undocumented)
     new Opcode("SET", "3,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb d9 (undocumented)
     new Opcode("SET", "3,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb da (undocumented)
     new Opcode("SET", "3,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb db (undocumented)
     new Opcode("SET", "3,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb dc (undocumented)
     new Opcode("SET", "3,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb dd (undocumented)
     new Opcode("SET", "3,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb de
     new Opcode("SET", "3,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x08);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb df (undocumented)
     new Opcode("SET", "3,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e0 (undocumented)
     new Opcode("SET", "4,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e1 (undocumented)
     new Opcode("SET", "4,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e2 (undocumented)
     new Opcode("SET", "4,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e3 (undocumented)
     new Opcode("SET", "4,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e4 (undocumented)
     new Opcode("SET", "4,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e5 (undocumented)
     new Opcode("SET", "4,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e6
     new Opcode("SET", "4,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x10);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb e7 (undocumented)
     new Opcode("SET", "4,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e8 (undocumented)
     new Opcode("SET", "5,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb e9 (undocumented)
     new Opcode("SET", "5,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ea (undocumented)
     new Opcode("SET", "5,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb eb (undocumented)
     new Opcode("SET", "5,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ec (undocumented)
     new Opcode("SET", "5,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ed (undocumented)
     new Opcode("SET", "5,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb ee
     new Opcode("SET", "5,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x20);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb ef (undocumented)
     new Opcode("SET", "5,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f0 (undocumented)
     new Opcode("SET", "6,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f1 (undocumented)
     new Opcode("SET", "6,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f2 (undocumented)
     new Opcode("SET", "6,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f3 (undocumented)
     new Opcode("SET", "6,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f4 (undocumented)
     new Opcode("SET", "6,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f5 (undocumented)
     new Opcode("SET", "6,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f6
     new Opcode("SET", "6,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x40);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb f7 (undocumented)
     new Opcode("SET", "6,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f8 (undocumented)
     new Opcode("SET", "7,(IX<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb f9 (undocumented)
     new Opcode("SET", "7,(IX<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb fa (undocumented)
     new Opcode("SET", "7,(IX<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb fb (undocumented)
     new Opcode("SET", "7,(IX<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb fc (undocumented)
     new Opcode("SET", "7,(IX<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb fd (undocumented)
     new Opcode("SET", "7,(IX<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // dd cb fe
     new Opcode("SET", "7,(IX<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x80);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // dd cb ff (undocumented)
     new Opcode("SET", "7,(IX<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IX + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      )
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW)
   };
 
   /**
@@ -21167,5635 +5710,19492 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
     // fd cb 00 (undocumented)
     new Opcode("RLC", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 01 (undocumented)
     new Opcode("RLC", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 02 (undocumented)
     new Opcode("RLC", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 03 (undocumented)
     new Opcode("RLC", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 04 (undocumented)
     new Opcode("RLC", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 05 (undocumented)
     new Opcode("RLC", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 06
     new Opcode("RLC", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 07 (undocumented)
     new Opcode("RLC", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) | (F & 1)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 08 (undocumented)
     new Opcode("RRC", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 09 (undocumented)
     new Opcode("RRC", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 0a (undocumented)
     new Opcode("RRC", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 0b (undocumented)
     new Opcode("RRC", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 0c (undocumented)
     new Opcode("RRC", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 0d (undocumented)
     new Opcode("RRC", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 0e
     new Opcode("RRC", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 0f (undocumented)
     new Opcode("RRC", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb >> 1) | (F << 7)) & 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 10 (undocumented)
     new Opcode("RL", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 11 (undocumented)
     new Opcode("RL", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 12 (undocumented)
     new Opcode("RL", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 13 (undocumented)
     new Opcode("RL", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 14 (undocumented)
     new Opcode("RL", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 15 (undocumented)
     new Opcode("RL", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 16
     new Opcode("RL", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 17 (undocumented)
     new Opcode("RL", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  tb = (tb << 1) | (F & 1);
-	  if ((tb & 0x100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb &= 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 18 (undocumented)
     new Opcode("RR", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 19 (undocumented)
     new Opcode("RR", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 1a (undocumented)
     new Opcode("RR", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 1b (undocumented)
     new Opcode("RR", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 1c (undocumented)
     new Opcode("RR", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 1d (undocumented)
     new Opcode("RR", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 1e
     new Opcode("RR", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 1f (undocumented)
     new Opcode("RR", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  final int ti = tb;
-	  tb = (tb >> 1) | ((F & 1) << 7);
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  if ((ti & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 20 (undocumented)
     new Opcode("SLA", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 21 (undocumented)
     new Opcode("SLA", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 22 (undocumented)
     new Opcode("SLA", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 23 (undocumented)
     new Opcode("SLA", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 24 (undocumented)
     new Opcode("SLA", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 25 (undocumented)
     new Opcode("SLA", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 26
     new Opcode("SLA", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 27 (undocumented)
     new Opcode("SLA", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb << 1) & 0xff;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 28 (undocumented)
     new Opcode("SRA", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 29 (undocumented)
     new Opcode("SRA", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 2a (undocumented)
     new Opcode("SRA", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 2b (undocumented)
     new Opcode("SRA", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 2c (undocumented)
     new Opcode("SRA", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 2d (undocumented)
     new Opcode("SRA", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 2e
     new Opcode("SRA", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 2f (undocumented)
     new Opcode("SRA", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = (tb & 0x80) | (tb >> 1);
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 30 (undocumented)
     new Opcode("SLL", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 31 (undocumented)
     new Opcode("SLL", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 32 (undocumented)
     new Opcode("SLL", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 33 (undocumented)
     new Opcode("SLL", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 34 (undocumented)
     new Opcode("SLL", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 35 (undocumented)
     new Opcode("SLL", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 36
     new Opcode("SLL", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 37 (undocumented)
     new Opcode("SLL", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb = ((tb << 1) & 0xff) | 1;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 38 (undocumented)
     new Opcode("SRL", "(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  B = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 39 (undocumented)
     new Opcode("SRL", "(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  C = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 3a (undocumented)
     new Opcode("SRL", "(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  D = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 3b (undocumented)
     new Opcode("SRL", "(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  E = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 3c (undocumented)
     new Opcode("SRL", "(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  H = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 3d (undocumented)
     new Opcode("SRL", "(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  L = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 3e
     new Opcode("SRL", "(IY<d>)",
 	       2,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 3f (undocumented)
     new Opcode("SRL", "(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  int tb = memory.getByte(WZ);
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  tb >>= 1;
-	  memory.setByte(WZ, tb);
-	  A = tb;
-	  F5(tb);
-	  CLEARHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 40 (undocumented)
     new Opcode("BIT", "0,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 41 (undocumented)
     new Opcode("BIT", "0,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 42 (undocumented)
     new Opcode("BIT", "0,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 43 (undocumented)
     new Opcode("BIT", "0,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 44 (undocumented)
     new Opcode("BIT", "0,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 45 (undocumented)
     new Opcode("BIT", "0,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 46
-    new Opcode("BIT", "0,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "0,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 47 (undocumented)
     new Opcode("BIT", "0,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x01) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 48 (undocumented)
     new Opcode("BIT", "1,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 49 (undocumented)
     new Opcode("BIT", "1,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 4a (undocumented)
     new Opcode("BIT", "1,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 4b (undocumented)
     new Opcode("BIT", "1,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 4c (undocumented)
     new Opcode("BIT", "1,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 4d (undocumented)
     new Opcode("BIT", "1,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 4e
-    new Opcode("BIT", "1,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "1,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 4f (undocumented)
     new Opcode("BIT", "1,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x02) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 50 (undocumented)
     new Opcode("BIT", "2,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 51 (undocumented)
     new Opcode("BIT", "2,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 52 (undocumented)
     new Opcode("BIT", "2,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 53 (undocumented)
     new Opcode("BIT", "2,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 54 (undocumented)
     new Opcode("BIT", "2,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 55 (undocumented)
     new Opcode("BIT", "2,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 56
-    new Opcode("BIT", "2,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "2,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 57 (undocumented)
     new Opcode("BIT", "2,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x04) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 58 (undocumented)
     new Opcode("BIT", "3,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 59 (undocumented)
     new Opcode("BIT", "3,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 5a (undocumented)
     new Opcode("BIT", "3,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 5b (undocumented)
     new Opcode("BIT", "3,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 5c (undocumented)
     new Opcode("BIT", "3,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 5d (undocumented)
     new Opcode("BIT", "3,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 5e
-    new Opcode("BIT", "3,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "3,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 5f (undocumented)
     new Opcode("BIT", "3,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x08) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 60 (undocumented)
     new Opcode("BIT", "4,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 61 (undocumented)
     new Opcode("BIT", "4,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 62 (undocumented)
     new Opcode("BIT", "4,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 63 (undocumented)
     new Opcode("BIT", "4,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 64 (undocumented)
     new Opcode("BIT", "4,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 65 (undocumented)
     new Opcode("BIT", "4,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 66
-    new Opcode("BIT", "4,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "4,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 67 (undocumented)
     new Opcode("BIT", "4,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x10) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 68 (undocumented)
     new Opcode("BIT", "5,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 69 (undocumented)
     new Opcode("BIT", "5,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 6a (undocumented)
     new Opcode("BIT", "5,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 6b (undocumented)
     new Opcode("BIT", "5,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 6c (undocumented)
     new Opcode("BIT", "5,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 6d (undocumented)
     new Opcode("BIT", "5,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 6e
-    new Opcode("BIT", "5,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "5,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 6f (undocumented)
     new Opcode("BIT", "5,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x20) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 70 (undocumented)
     new Opcode("BIT", "6,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 71 (undocumented)
     new Opcode("BIT", "6,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 72 (undocumented)
     new Opcode("BIT", "6,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 73 (undocumented)
     new Opcode("BIT", "6,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 74 (undocumented)
     new Opcode("BIT", "6,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 75 (undocumented)
     new Opcode("BIT", "6,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 76
-    new Opcode("BIT", "6,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "6,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 77 (undocumented)
     new Opcode("BIT", "6,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x40) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  CLEARSF();
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 78 (undocumented)
     new Opcode("BIT", "7,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 79 (undocumented)
     new Opcode("BIT", "7,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 7a (undocumented)
     new Opcode("BIT", "7,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 7b (undocumented)
     new Opcode("BIT", "7,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 7c (undocumented)
     new Opcode("BIT", "7,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 7d (undocumented)
     new Opcode("BIT", "7,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 7e
-    new Opcode("BIT", "7,(IY<d>)", 2, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F22(tb, WZ >> 8);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+    new Opcode("BIT", "7,(IY<d>)", 2, Processor.INS_MR),
 
     // fd cb 7f (undocumented)
     new Opcode("BIT", "7,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  final int tb = memory.getByte(WZ);
-	  F4(tb);
-	  if ((tb & 0x80) == 0) {
-	    SETZF();
-	    SETPF();
-	  } else {
-	    CLEARZF();
-	    CLEARPF();
-	  }
-	  if (ZFSET()) {
-	    CLEARSF();
-	  } else {
-	    SETSF();
-	  }
-	  SETHF();
-	  CLEARNF();
-	  incPC(2);
-	  return 16;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR),
 
     // fd cb 80 (undocumented)
     new Opcode("RES", "0,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 81 (undocumented)
     new Opcode("RES", "0,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 82 (undocumented)
     new Opcode("RES", "0,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 83 (undocumented)
     new Opcode("RES", "0,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 84 (undocumented)
     new Opcode("RES", "0,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 85 (undocumented)
     new Opcode("RES", "0,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 86
     new Opcode("RES", "0,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xfe);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb 87 (undocumented)
     new Opcode("RES", "0,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xfe;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 88 (undocumented)
     new Opcode("RES", "1,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 89 (undocumented)
     new Opcode("RES", "1,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 8a (undocumented)
     new Opcode("RES", "1,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 8b (undocumented)
     new Opcode("RES", "1,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 8c (undocumented)
     new Opcode("RES", "1,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 8d (undocumented)
     new Opcode("RES", "1,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 8e
     new Opcode("RES", "1,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xfd);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb 8f (undocumented)
     new Opcode("RES", "1,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xfd;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 90 (undocumented)
     new Opcode("RES", "2,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 91 (undocumented)
     new Opcode("RES", "2,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 92 (undocumented)
     new Opcode("RES", "2,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 93 (undocumented)
     new Opcode("RES", "2,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 94 (undocumented)
     new Opcode("RES", "2,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 95 (undocumented)
     new Opcode("RES", "2,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 96
     new Opcode("RES", "2,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xfb);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb 97 (undocumented)
     new Opcode("RES", "2,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xfb;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 98 (undocumented)
     new Opcode("RES", "3,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 99 (undocumented)
     new Opcode("RES", "3,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 9a (undocumented)
     new Opcode("RES", "3,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 9b (undocumented)
     new Opcode("RES", "3,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 9c (undocumented)
     new Opcode("RES", "3,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 9d (undocumented)
     new Opcode("RES", "3,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb 9e
     new Opcode("RES", "3,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xf7);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb 9f (undocumented)
     new Opcode("RES", "3,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xf7;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a0 (undocumented)
     new Opcode("RES", "4,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a1 (undocumented)
     new Opcode("RES", "4,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a2 (undocumented)
     new Opcode("RES", "4,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a3 (undocumented)
     new Opcode("RES", "4,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a4 (undocumented)
     new Opcode("RES", "4,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a5 (undocumented)
     new Opcode("RES", "4,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a6
     new Opcode("RES", "4,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xef);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb a7 (undocumented)
     new Opcode("RES", "4,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xef;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a8 (undocumented)
     new Opcode("RES", "5,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb a9 (undocumented)
     new Opcode("RES", "5,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb aa (undocumented)
     new Opcode("RES", "5,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ab (undocumented)
     new Opcode("RES", "5,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ac (undocumented)
     new Opcode("RES", "5,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ad (undocumented)
     new Opcode("RES", "5,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ae
     new Opcode("RES", "5,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xdf);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb af (undocumented)
     new Opcode("RES", "5,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xdf;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b0 (undocumented)
     new Opcode("RES", "6,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b1 (undocumented)
     new Opcode("RES", "6,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b2 (undocumented)
     new Opcode("RES", "6,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b3 (undocumented)
     new Opcode("RES", "6,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b4 (undocumented)
     new Opcode("RES", "6,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b5 (undocumented)
     new Opcode("RES", "6,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b6
     new Opcode("RES", "6,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0xbf);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb b7 (undocumented)
     new Opcode("RES", "6,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0xbf;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b8 (undocumented)
     new Opcode("RES", "7,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb b9 (undocumented)
     new Opcode("RES", "7,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ba (undocumented)
     new Opcode("RES", "7,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb bb (undocumented)
     new Opcode("RES", "7,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb bc (undocumented)
     new Opcode("RES", "7,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb bd (undocumented)
     new Opcode("RES", "7,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb be
     new Opcode("RES", "7,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) & 0x7f);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb bf (undocumented)
     new Opcode("RES", "7,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) & 0x7f;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c0 (undocumented)
     new Opcode("SET", "0,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c1 (undocumented)
     new Opcode("SET", "0,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c2 (undocumented)
     new Opcode("SET", "0,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c3 (undocumented)
     new Opcode("SET", "0,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c4 (undocumented)
     new Opcode("SET", "0,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c5 (undocumented)
     new Opcode("SET", "0,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c6
     new Opcode("SET", "0,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x01);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb c7 (undocumented)
     new Opcode("SET", "0,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x01;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c8 (undocumented)
     new Opcode("SET", "1,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb c9 (undocumented)
     new Opcode("SET", "1,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ca (undocumented)
     new Opcode("SET", "1,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb cb (undocumented)
     new Opcode("SET", "1,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb cc (undocumented)
     new Opcode("SET", "1,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb cd (undocumented)
     new Opcode("SET", "1,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ce
     new Opcode("SET", "1,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x02);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb cf (undocumented)
     new Opcode("SET", "1,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x02;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d0 (undocumented)
     new Opcode("SET", "2,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d1 (undocumented)
     new Opcode("SET", "2,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d2 (undocumented)
     new Opcode("SET", "2,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d3 (undocumented)
     new Opcode("SET", "2,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d4 (undocumented)
     new Opcode("SET", "2,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d5 (undocumented)
     new Opcode("SET", "2,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d6
     new Opcode("SET", "2,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x04);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb d7 (undocumented)
     new Opcode("SET", "2,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x04;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d8 (undocumented)
     new Opcode("SET", "3,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb d9 (undocumented)
     new Opcode("SET", "3,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb da (undocumented)
     new Opcode("SET", "3,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb db (undocumented)
     new Opcode("SET", "3,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb dc (undocumented)
     new Opcode("SET", "3,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb dd (undocumented)
     new Opcode("SET", "3,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb de
     new Opcode("SET", "3,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x08);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb df (undocumented)
     new Opcode("SET", "3,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x08;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e0 (undocumented)
     new Opcode("SET", "4,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e1 (undocumented)
     new Opcode("SET", "4,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e2 (undocumented)
     new Opcode("SET", "4,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e3 (undocumented)
     new Opcode("SET", "4,(IY<d>),E",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e4 (undocumented)
     new Opcode("SET", "4,(IY<d>),H",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e5 (undocumented)
     new Opcode("SET", "4,(IY<d>),L",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e6
     new Opcode("SET", "4,(IY<d>)",
 	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x10);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_MW | Processor.INS_MW),
 
     // fd cb e7 (undocumented)
     new Opcode("SET", "4,(IY<d>),A",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x10;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e8 (undocumented)
     new Opcode("SET", "5,(IY<d>),B",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb e9 (undocumented)
     new Opcode("SET", "5,(IY<d>),C",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
-	}
-      }
-      ),
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
 
     // fd cb ea (undocumented)
     new Opcode("SET", "5,(IY<d>),D",
 	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb eb (undocumented)
+    new Opcode("SET", "5,(IY<d>),E",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb ec (undocumented)
+    new Opcode("SET", "5,(IY<d>),H",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb ed (undocumented)
+    new Opcode("SET", "5,(IY<d>),L",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb ee
+    new Opcode("SET", "5,(IY<d>)",
+	       2,
+	       Processor.INS_MW | Processor.INS_MW),
+
+    // fd cb ef (undocumented)
+    new Opcode("SET", "5,(IY<d>),A",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f0 (undocumented)
+    new Opcode("SET", "6,(IY<d>),B",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f1 (undocumented)
+    new Opcode("SET", "6,(IY<d>),C",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f2 (undocumented)
+    new Opcode("SET", "6,(IY<d>),D",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f3 (undocumented)
+    new Opcode("SET", "6,(IY<d>),E",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f4 (undocumented)
+    new Opcode("SET", "6,(IY<d>),H",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f5 (undocumented)
+    new Opcode("SET", "6,(IY<d>),L",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f6
+    new Opcode("SET", "6,(IY<d>)",
+	       2,
+	       Processor.INS_MW | Processor.INS_MW),
+
+    // fd cb f7 (undocumented)
+    new Opcode("SET", "6,(IY<d>),A",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f8 (undocumented)
+    new Opcode("SET", "7,(IY<d>),B",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb f9 (undocumented)
+    new Opcode("SET", "7,(IY<d>),C",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb fa (undocumented)
+    new Opcode("SET", "7,(IY<d>),D",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb fb (undocumented)
+    new Opcode("SET", "7,(IY<d>),E",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb fc (undocumented)
+    new Opcode("SET", "7,(IY<d>),H",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb fd (undocumented)
+    new Opcode("SET", "7,(IY<d>),L",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW),
+
+    // fd cb fe
+    new Opcode("SET", "7,(IY<d>)",
+	       2,
+	       Processor.INS_MW | Processor.INS_MW),
+
+    // fd cb ff (undocumented)
+    new Opcode("SET", "7,(IY<d>),A",
+	       2,
+	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW)
+  };
+
+  // the flat decode table, indexed by (page << 8) + opcode
+  private final Opcode[] decodeTable = flatten(opcodes,
+					       opcodesCB,
+					       opcodesDD,
+					       opcodesED,
+					       opcodesFD,
+					       opcodesDDCB,
+					       opcodesFDCB);
+
+  // concatenates the opcode tables into the flat decode table
+  private static Opcode[] flatten(final Opcode[]... pages) {
+    assert pages.length == NUMBER_PAGES;
+    final Opcode[] table = new Opcode[NUMBER_PAGES << 8];
+    for (int page = 0; page < NUMBER_PAGES; page++) {
+      System.arraycopy(pages[page], 0, table, page << 8, 0x100);
+    }
+    return table;
+  }
+
+  // resolves a prefixed instruction, starting at the first prefix byte,
+  // and returns its flat decode table index
+  private int decodePrefixed(int tb) {
+    int prefix = 0;
+    for (;;) {
+      if ((tb == 0xdd) || (tb == 0xfd)) {
+	prefix = tb;
+	cycleCounter += 4;
+	incPC();
+	R++;
+	tb = memory.getByte(PC);
+	continue;
+      }
+      if (tb == 0xcb) {
+	final int page;
+	if (prefix == 0xdd) {
+	  incPC();
+	  page = PAGE_DDCB;
+	} else if (prefix == 0xfd) {
+	  incPC();
+	  page = PAGE_FDCB;
+	} else {
+	  R++;
+	  page = PAGE_CB;
+	}
+	incPC();
+	return (page << 8) + memory.getByte(PC);
+      }
+      if (tb == 0xed) {
+	R++;
+	incPC();
+	return (PAGE_ED << 8) + memory.getByte(PC);
+      }
+      if ((prefix == 0xdd) && (opcodesDD[tb] != null)) {
+	return (PAGE_DD << 8) + tb;
+      } else if ((prefix == 0xfd) && (opcodesFD[tb] != null)) {
+	return (PAGE_FD << 8) + tb;
+      } else {
+	return tb;
+      }
+    }
+  }
+
+  // executes the instruction at the flat decode table index
+  private int execute(final int index) {
+    final int opcode = index & 0xff;
+    switch (index >> 6) {
+      case 0:
+	return executeMain0(opcode);
+      case 1:
+	return executeMain1(opcode);
+      case 2:
+	return executeMain2(opcode);
+      case 3:
+	return executeMain3(opcode);
+      case 4:
+	return executeCB0(opcode);
+      case 5:
+	return executeCB1(opcode);
+      case 6:
+	return executeCB2(opcode);
+      case 7:
+	return executeCB3(opcode);
+      case 8:
+	return executeDD0(opcode);
+      case 9:
+	return executeDD1(opcode);
+      case 10:
+	return executeDD2(opcode);
+      case 11:
+	return executeDD3(opcode);
+      case 13:
+	return executeED1(opcode);
+      case 14:
+	return executeED2(opcode);
+      case 16:
+	return executeFD0(opcode);
+      case 17:
+	return executeFD1(opcode);
+      case 18:
+	return executeFD2(opcode);
+      case 19:
+	return executeFD3(opcode);
+      case 20:
+	return executeDDCB0(opcode);
+      case 21:
+	return executeDDCB1(opcode);
+      case 22:
+	return executeDDCB2(opcode);
+      case 23:
+	return executeDDCB3(opcode);
+      case 24:
+	return executeFDCB0(opcode);
+      case 25:
+	return executeFDCB1(opcode);
+      case 26:
+	return executeFDCB2(opcode);
+      case 27:
+	return executeFDCB3(opcode);
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid index: 0x%03x", index));
+  }
+
+  // executes instructions 00-3f
+  private int executeMain0(final int opcode) {
+    switch (opcode) {
+
+      // 00
+      case 0x00: {
+	incPC();
+	return 4;
+      }
+
+      // 01
+      case 0x01: {
+	incPC();
+	C = memory.getByte(PC);
+	incPC();
+	B = memory.getByte(PC);
+	incPC();
+	return 10;
+      }
+
+      // 02
+      case 0x02: {
+	memory.setByte(BC(), A);
+	WZ = ((C + 1) & 0xff) + (A << 8);
+	incPC();
+	return 7;
+      }
+
+      // 03
+      case 0x03: {
+	C = (C + 1) & 0xff;
+	if (C == 0) {
+	  B = (B + 1) & 0xff;
+	}
+	incPC();
+	return 6;
+      }
+
+      // 04
+      case 0x04: {
+	B = (B + 1) & 0xff;
+	F4(B);
+	if (B == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((B & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 05
+      case 0x05: {
+	B = (B - 1) & 0xff;
+	F4(B);
+	if (B == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((B & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 06
+      case 0x06: {
+	incPC();
+	B = memory.getByte(PC);
+	incPC();
+	return 7;
+      }
+
+      // 07
+      case 0x07: {
+	if ((A & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = ((A << 1) | (F & 1)) & 0xff;
+	F2(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 08
+      case 0x08: {
+	int tb = A;
+	A = Aa;
+	Aa = tb;
+	tb = F;
+	F = Fa;
+	Fa = tb;
+	incPC();
+	return 4;
+      }
+
+      // 09
+      case 0x09: {
+	WZ = (HL() + 1) & 0xffff;
+	final int ti = (H << 8) + L + (B << 8) + C;
+	if (((H ^ B ^ (ti >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	F2(H);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // 0a
+      case 0x0a: {
+	A = memory.getByte(BC());
+	WZ = (BC() + 1) & 0xffff;
+	incPC();
+	return 7;
+      }
+
+      // 0b
+      case 0x0b: {
+	if (--C < 0) {
+	  C = 0xff;
+	  B = (B - 1) & 0xff;
+	}
+	incPC();
+	return 6;
+      }
+
+      // 0c
+      case 0x0c: {
+	C = (C + 1) & 0xff;
+	F4(C);
+	if (C == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((C & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 0d
+      case 0x0d: {
+	C = (C - 1) & 0xff;
+	F4(C);
+	if (C == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((C & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 0e
+      case 0x0e: {
+	incPC();
+	C = memory.getByte(PC);
+	incPC();
+	return 7;
+      }
+
+      // 0f
+      case 0x0f: {
+	if ((A & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = ((A >> 1) | (F << 7)) & 0xff;
+	F2(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 10
+      case 0x10: {
+	B = (B - 1) & 0xff;
+	if (B == 0) {
+	  incPC(2);
+	  return 8;
+	} else {
+	  incPC();
+	  PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
+	  return 13;
+	}
+      }
+
+      // 11
+      case 0x11: {
+	incPC();
+	E = memory.getByte(PC);
+	incPC();
+	D = memory.getByte(PC);
+	incPC();
+	return 10;
+      }
+
+      // 12
+      case 0x12: {
+	memory.setByte(DE(), A);
+	WZ = ((E + 1) & 0xff) + (A << 8);
+	incPC();
+	return 7;
+      }
+
+      // 13
+      case 0x13: {
+	E = (E + 1) & 0xff;
+	if (E == 0) {
+	  D = (D + 1) & 0xff;
+	}
+	incPC();
+	return 6;
+      }
+
+      // 14
+      case 0x14: {
+	D = (D + 1) & 0xff;
+	F4(D);
+	if (D == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((D & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 15
+      case 0x15: {
+	D = (D - 1) & 0xff;
+	F4(D);
+	if (D == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((D & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 16
+      case 0x16: {
+	incPC();
+	D = memory.getByte(PC);
+	incPC();
+	return 7;
+      }
+
+      // 17
+      case 0x17: {
+	final int tb = A;
+	A = ((A << 1) | (F & 1)) & 0xff;
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F2(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 18
+      case 0x18: {
+	incPC();
+	PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
+	return 12;
+      }
+
+      // 19
+      case 0x19: {
+	WZ = (HL() + 1) & 0xffff;
+	final int ti = (H << 8) + L + (D << 8) + E;
+	if (((H ^ D ^ (ti >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	F2(H);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // 1a
+      case 0x1a: {
+	A = memory.getByte(DE());
+	WZ = (DE() + 1) & 0xffff;
+	incPC();
+	return 7;
+      }
+
+      // 1b
+      case 0x1b: {
+	if (--E < 0) {
+	  E = 0xff;
+	  D = (D - 1) & 0xff;
+	}
+	incPC();
+	return 6;
+      }
+
+      // 1c
+      case 0x1c: {
+	E = (E + 1) & 0xff;
+	F4(E);
+	if (E == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((E & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 1d
+      case 0x1d: {
+	E = (E - 1) & 0xff;
+	F4(E);
+	if (E == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((E & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 1e
+      case 0x1e: {
+	incPC();
+	E = memory.getByte(PC);
+	incPC();
+	return 7;
+      }
+
+      // 1f
+      case 0x1f: {
+	final int tb = A;
+	A = ((A >> 1) | (F << 7)) & 0xff;
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F2(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 20
+      case 0x20: {
+	if (ZFSET()) {
+	  incPC(2);
+	  return 7;
+	} else {
+	  incPC();
+	  PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
+	  return 12;
+	}
+      }
+
+      // 21
+      case 0x21: {
+	incPC();
+	L = memory.getByte(PC);
+	incPC();
+	H = memory.getByte(PC);
+	incPC();
+	return 10;
+      }
+
+      // 22
+      case 0x22: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	memory.setByte(WZ, L);
+	incWZ();
+	memory.setByte(WZ, H);
+	incPC();
+	return 16;
+      }
+
+      // 23
+      case 0x23: {
+	L = (L + 1) & 0xff;
+	if (L == 0) {
+	  H = (H + 1) & 0xff;
+	}
+	incPC();
+	return 6;
+      }
+
+      // 24
+      case 0x24: {
+	H = (H + 1) & 0xff;
+	F4(H);
+	if (H == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((H & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 25
+      case 0x25: {
+	H = (H - 1) & 0xff;
+	F4(H);
+	if (H == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((H & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 26
+      case 0x26: {
+	incPC();
+	H = memory.getByte(PC);
+	incPC();
+	return 7;
+      }
+
+      // 27
+      case 0x27: {
+	final int ld = A & 0x0f;
+	if (NFSET()) {
+	  final boolean hd = CFSET() || (A > 0x99);
+	  if (HFSET() || (ld > 9)) {
+	    if (ld > 5) {
+	      CLEARHF();
+	    }
+	    A = (A - 6) & 0xff;
+	  }
+	  if (hd) {
+	    A -= 0x0160;
+	  }
+	} else {
+	  if (HFSET() || (ld > 9)) {
+	    if (ld > 9) {
+	      SETHF();
+	    } else {
+	      CLEARHF();
+	    }
+	    A += 6;
+	  }
+	  if (CFSET() || ((A & 0x01f0) > 0x90)) {
+	    A += 0x60;
+	  }
+	}
+	if (((A >> 8) & 1) == 1) {
+	  SETCF();
+	}
+	A &= 0xff;
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // 28
+      case 0x28: {
+	if (!ZFSET()) {
+	  incPC(2);
+	  return 7;
+	} else {
+	  incPC();
+	  PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
+	  return 12;
+	}
+      }
+
+      // 29
+      case 0x29: {
+	WZ = (HL() + 1) & 0xffff;
+	final int ti = HL() << 1;
+	if (((ti >> 8) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	F2(H);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // 2a
+      case 0x2a: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	L = memory.getByte(WZ);
+	incWZ();
+	H = memory.getByte(WZ);
+	incPC();
+	return 16;
+      }
+
+      // 2b
+      case 0x2b: {
+	if (--L < 0) {
+	  L = 0xff;
+	  H = (H - 1) & 0xff;
+	}
+	incPC();
+	return 6;
+      }
+
+      // 2c
+      case 0x2c: {
+	L = (L + 1) & 0xff;
+	F4(L);
+	if (L == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((L & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 2d
+      case 0x2d: {
+	L = (L - 1) & 0xff;
+	F4(L);
+	if (L == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((L & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 2e
+      case 0x2e: {
+	incPC();
+	L = memory.getByte(PC);
+	incPC();
+	return 7;
+      }
+
+      // 2f
+      case 0x2f: {
+	A = (~A) & 0xff;
+	F2(A);
+	SETHF();
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 30
+      case 0x30: {
+	if (CFSET()) {
+	  incPC(2);
+	  return 7;
+	} else {
+	  incPC();
+	  PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
+	  return 12;
+	}
+      }
+
+      // 31
+      case 0x31: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	incPC();
+	SP = tb + (memory.getByte(PC) << 8);
+	incPC();
+	return 10;
+      }
+
+      // 32
+      case 0x32: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	memory.setByte(WZ + (memory.getByte(PC) << 8), A);
+	WZ += A << 8;
+	incPC();
+	return 13;
+      }
+
+      // 33
+      case 0x33: {
+	incSP();
+	incPC();
+	return 6;
+      }
+
+      // 34
+      case 0x34: {
+	final int tw = HL();
+	final int tb = (memory.getByte(tw) + 1) & 0xff;
+	memory.setByte(tw, tb);
+	F4(tb);
+	if (tb == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // 35
+      case 0x35: {
+	final int tw = HL();
+	final int tb = (memory.getByte(tw) - 1) & 0xff;
+	memory.setByte(tw, tb);
+	F4(tb);
+	if (tb == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 11;
+      }
+
+      // 36
+      case 0x36: {
+	final int tw = HL();
+	incPC();
+	memory.setByte(tw, memory.getByte(PC));
+	incPC();
+	return 10;
+      }
+
+      // 37
+      case 0x37: {
+	SETCF();
+	F2(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 38
+      case 0x38: {
+	if (!CFSET()) {
+	  incPC(2);
+	  return 7;
+	} else {
+	  incPC();
+	  PC = WZ = (PC + 1 + (byte)(memory.getByte(PC))) & 0xffff;
+	  return 12;
+	}
+      }
+
+      // 39
+      case 0x39: {
+	WZ = (HL() + 1) & 0xffff;
+	final int ti = (H << 8) + L + SP;
+	if (((H ^ ((SP ^ ti) >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	F2(H);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // 3a
+      case 0x3a: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	A = memory.getByte(WZ);
+	incWZ();
+	incPC();
+	return 13;
+      }
+
+      // 3b
+      case 0x3b: {
+	decSP();
+	incPC();
+	return 6;
+      }
+
+      // 3c
+      case 0x3c: {
+	A = (A + 1) & 0xff;
+	F4(A);
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((A & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 3d
+      case 0x3d: {
+	A = (A - 1) & 0xff;
+	F4(A);
+	if (A == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((A & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 3e
+      case 0x3e: {
+	incPC();
+	A = memory.getByte(PC);
+	incPC();
+	return 7;
+      }
+
+      // 3f
+      case 0x3f: {
+	F ^= CF;
+	F2(A);
+	if (CFSET()) {
+	  CLEARHF();
+	} else {
+	  SETHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions 40-7f
+  private int executeMain1(final int opcode) {
+    switch (opcode) {
+
+      // 40
+      case 0x40: {
+	incPC();
+	return 4;
+      }
+
+      // 41
+      case 0x41: {
+	B = C;
+	incPC();
+	return 4;
+      }
+
+      // 42
+      case 0x42: {
+	B = D;
+	incPC();
+	return 4;
+      }
+
+      // 43
+      case 0x43: {
+	B = E;
+	incPC();
+	return 4;
+      }
+
+      // 44
+      case 0x44: {
+	B = H;
+	incPC();
+	return 4;
+      }
+
+      // 45
+      case 0x45: {
+	B = L;
+	incPC();
+	return 4;
+      }
+
+      // 46
+      case 0x46: {
+	B = memory.getByte(HL());
+	incPC();
+	return 7;
+      }
+
+      // 47
+      case 0x47: {
+	B = A;
+	incPC();
+	return 4;
+      }
+
+      // 48
+      case 0x48: {
+	C = B;
+	incPC();
+	return 4;
+      }
+
+      // 49
+      case 0x49: {
+	incPC();
+	return 4;
+      }
+
+      // 4a
+      case 0x4a: {
+	C = D;
+	incPC();
+	return 4;
+      }
+
+      // 4b
+      case 0x4b: {
+	C = E;
+	incPC();
+	return 4;
+      }
+
+      // 4c
+      case 0x4c: {
+	C = H;
+	incPC();
+	return 4;
+      }
+
+      // 4d
+      case 0x4d: {
+	C = L;
+	incPC();
+	return 4;
+      }
+
+      // 4e
+      case 0x4e: {
+	C = memory.getByte(HL());
+	incPC();
+	return 7;
+      }
+
+      // 4f
+      case 0x4f: {
+	C = A;
+	incPC();
+	return 4;
+      }
+
+      // 50
+      case 0x50: {
+	D = B;
+	incPC();
+	return 4;
+      }
+
+      // 51
+      case 0x51: {
+	D = C;
+	incPC();
+	return 4;
+      }
+
+      // 52
+      case 0x52: {
+	incPC();
+	return 4;
+      }
+
+      // 53
+      case 0x53: {
+	D = E;
+	incPC();
+	return 4;
+      }
+
+      // 54
+      case 0x54: {
+	D = H;
+	incPC();
+	return 4;
+      }
+
+      // 55
+      case 0x55: {
+	D = L;
+	incPC();
+	return 4;
+      }
+
+      // 56
+      case 0x56: {
+	D = memory.getByte(HL());
+	incPC();
+	return 7;
+      }
+
+      // 57
+      case 0x57: {
+	D = A;
+	incPC();
+	return 4;
+      }
+
+      // 58
+      case 0x58: {
+	E = B;
+	incPC();
+	return 4;
+      }
+
+      // 59
+      case 0x59: {
+	E = C;
+	incPC();
+	return 4;
+      }
+
+      // 5a
+      case 0x5a: {
+	E = D;
+	incPC();
+	return 4;
+      }
+
+      // 5b
+      case 0x5b: {
+	incPC();
+	return 4;
+      }
+
+      // 5c
+      case 0x5c: {
+	E = H;
+	incPC();
+	return 4;
+      }
+
+      // 5d
+      case 0x5d: {
+	E = L;
+	incPC();
+	return 4;
+      }
+
+      // 5e
+      case 0x5e: {
+	E = memory.getByte(HL());
+	incPC();
+	return 7;
+      }
+
+      // 5f
+      case 0x5f: {
+	E = A;
+	incPC();
+	return 4;
+      }
+
+      // 60
+      case 0x60: {
+	H = B;
+	incPC();
+	return 4;
+      }
+
+      // 61
+      case 0x61: {
+	H = C;
+	incPC();
+	return 4;
+      }
+
+      // 62
+      case 0x62: {
+	H = D;
+	incPC();
+	return 4;
+      }
+
+      // 63
+      case 0x63: {
+	H = E;
+	incPC();
+	return 4;
+      }
+
+      // 64
+      case 0x64: {
+	incPC();
+	return 4;
+      }
+
+      // 65
+      case 0x65: {
+	H = L;
+	incPC();
+	return 4;
+      }
+
+      // 66
+      case 0x66: {
+	H = memory.getByte(HL());
+	incPC();
+	return 7;
+      }
+
+      // 67
+      case 0x67: {
+	H = A;
+	incPC();
+	return 4;
+      }
+
+      // 68
+      case 0x68: {
+	L = B;
+	incPC();
+	return 4;
+      }
+
+      // 69
+      case 0x69: {
+	L = C;
+	incPC();
+	return 4;
+      }
+
+      // 6a
+      case 0x6a: {
+	L = D;
+	incPC();
+	return 4;
+      }
+
+      // 6b
+      case 0x6b: {
+	L = E;
+	incPC();
+	return 4;
+      }
+
+      // 6c
+      case 0x6c: {
+	L = H;
+	incPC();
+	return 4;
+      }
+
+      // 6d
+      case 0x6d: {
+	incPC();
+	return 4;
+      }
+
+      // 6e
+      case 0x6e: {
+	L = memory.getByte(HL());
+	incPC();
+	return 7;
+      }
+
+      // 6f
+      case 0x6f: {
+	L = A;
+	incPC();
+	return 4;
+      }
+
+      // 70
+      case 0x70: {
+	final int tw = HL();
+	memory.setByte(tw, B);
+	incPC();
+	return 7;
+      }
+
+      // 71
+      case 0x71: {
+	final int tw = HL();
+	memory.setByte(tw, C);
+	incPC();
+	return 7;
+      }
+
+      // 72
+      case 0x72: {
+	final int tw = HL();
+	memory.setByte(tw, D);
+	incPC();
+	return 7;
+      }
+
+      // 73
+      case 0x73: {
+	final int tw = HL();
+	memory.setByte(tw, E);
+	incPC();
+	return 7;
+      }
+
+      // 74
+      case 0x74: {
+	final int tw = HL();
+	memory.setByte(tw, H);
+	incPC();
+	return 7;
+      }
+
+      // 75
+      case 0x75: {
+	final int tw = HL();
+	memory.setByte(tw, L);
+	incPC();
+	return 7;
+      }
+
+      // 76
+      case 0x76: {
+	HALTED = true;
+	return 4;
+      }
+
+      // 77
+      case 0x77: {
+	final int tw = HL();
+	memory.setByte(tw, A);
+	incPC();
+	return 7;
+      }
+
+      // 78
+      case 0x78: {
+	A = B;
+	incPC();
+	return 4;
+      }
+
+      // 79
+      case 0x79: {
+	A = C;
+	incPC();
+	return 4;
+      }
+
+      // 7a
+      case 0x7a: {
+	A = D;
+	incPC();
+	return 4;
+      }
+
+      // 7b
+      case 0x7b: {
+	A = E;
+	incPC();
+	return 4;
+      }
+
+      // 7c
+      case 0x7c: {
+	A = H;
+	incPC();
+	return 4;
+      }
+
+      // 7d
+      case 0x7d: {
+	A = L;
+	incPC();
+	return 4;
+      }
+
+      // 7e
+      case 0x7e: {
+	A = memory.getByte(HL());
+	incPC();
+	return 7;
+      }
+
+      // 7f
+      case 0x7f: {
+	incPC();
+	return 4;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions 80-bf
+  private int executeMain2(final int opcode) {
+    switch (opcode) {
+
+      // 80
+      case 0x80: {
+	final int tw = A + B;
+	final int cb = A ^ B ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 81
+      case 0x81: {
+	final int tw = A + C;
+	final int cb = A ^ C ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 82
+      case 0x82: {
+	final int tw = A + D;
+	final int cb = A ^ D ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 83
+      case 0x83: {
+	final int tw = A + E;
+	final int cb = A ^ E ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 84
+      case 0x84: {
+	final int tw = A + H;
+	final int cb = A ^ H ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 85
+      case 0x85: {
+	final int tw = A + L;
+	final int cb = A ^ L ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 86
+      case 0x86: {
+	final int tb = memory.getByte(HL());
+	final int tw = A + tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 7;
+      }
+
+      // 87
+      case 0x87: {
+	final int tw = A << 1;
+	if ((tw & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((tw ^ (tw >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 88
+      case 0x88: {
+	final int tw = A + B + (F & CF);
+	final int cb = A ^ B ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 89
+      case 0x89: {
+	final int tw = A + C + (F & CF);
+	final int cb = A ^ C ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 8a
+      case 0x8a: {
+	final int tw = A + D + (F & CF);
+	final int cb = A ^ D ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 8b
+      case 0x8b: {
+	final int tw = A + E + (F & CF);
+	final int cb = A ^ E ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 8c
+      case 0x8c: {
+	final int tw = A + H + (F & CF);
+	final int cb = A ^ H ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 8d
+      case 0x8d: {
+	final int tw = A + L + (F & CF);
+	final int cb = A ^ L ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 8e
+      case 0x8e: {
+	final int tb = memory.getByte(HL());
+	final int tw = A + tb + (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 7;
+      }
+
+      // 8f
+      case 0x8f: {
+	final int tw = (A << 1) + (F & CF);
+	if ((tw & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((tw ^ (tw >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // 90
+      case 0x90: {
+	final int tw = A - B;
+	final int cb = A ^ B ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 91
+      case 0x91: {
+	final int tw = A - C;
+	final int cb = A ^ C ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 92
+      case 0x92: {
+	final int tw = A - D;
+	final int cb = A ^ D ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 93
+      case 0x93: {
+	final int tw = A - E;
+	final int cb = A ^ E ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 94
+      case 0x94: {
+	final int tw = A - H;
+	final int cb = A ^ H ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 95
+      case 0x95: {
+	final int tw = A - L;
+	final int cb = A ^ L ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 96
+      case 0x96: {
+	final int tb = memory.getByte(HL());
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 7;
+      }
+
+      // 97
+      case 0x97: {
+	CLEARHF();
+	CLEARCF();
+	CLEARPF();
+	A = 0;
+	F4(0);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 98
+      case 0x98: {
+	final int tw = A - B - (F & CF);
+	final int cb = A ^ B ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 99
+      case 0x99: {
+	final int tw = A - C - (F & CF);
+	final int cb = A ^ C ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 9a
+      case 0x9a: {
+	final int tw = A - D - (F & CF);
+	final int cb = A ^ D ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 9b
+      case 0x9b: {
+	final int tw = A - E - (F & CF);
+	final int cb = A ^ E ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 9c
+      case 0x9c: {
+	final int tw = A - H - (F & CF);
+	final int cb = A ^ H ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 9d
+      case 0x9d: {
+	final int tw = A - L - (F & CF);
+	final int cb = A ^ L ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // 9e
+      case 0x9e: {
+	final int tb = memory.getByte(HL());
+	final int tw = A - tb - (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 7;
+      }
+
+      // 9f
+      case 0x9f: {
+	final int tw = -(F & CF);
+	if ((tw & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((tw ^ (tw >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // a0
+      case 0xa0: {
+	A &= B;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a1
+      case 0xa1: {
+	A &= C;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a2
+      case 0xa2: {
+	A &= D;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a3
+      case 0xa3: {
+	A &= E;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a4
+      case 0xa4: {
+	A &= H;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a5
+      case 0xa5: {
+	A &= L;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a6
+      case 0xa6: {
+	A &= memory.getByte(HL());
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 7;
+      }
+
+      // a7
+      case 0xa7: {
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a8
+      case 0xa8: {
+	A ^= B;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // a9
+      case 0xa9: {
+	A ^= C;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // aa
+      case 0xaa: {
+	A ^= D;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // ab
+      case 0xab: {
+	A ^= E;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // ac
+      case 0xac: {
+	A ^= H;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // ad
+      case 0xad: {
+	A ^= L;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // ae
+      case 0xae: {
+	A ^= memory.getByte(HL());
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 7;
+      }
+
+      // af
+      case 0xaf: {
+	A = 0;
+	F = ZF | PF;
+	incPC();
+	return 4;
+      }
+
+      // b0
+      case 0xb0: {
+	A |= B;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // b1
+      case 0xb1: {
+	A |= C;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // b2
+      case 0xb2: {
+	A |= D;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // b3
+      case 0xb3: {
+	A |= E;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // b4
+      case 0xb4: {
+	A |= H;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // b5
+      case 0xb5: {
+	A |= L;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // b6
+      case 0xb6: {
+	A |= memory.getByte(HL());
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 7;
+      }
+
+      // b7
+      case 0xb7: {
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // b8
+      case 0xb8: {
+	final int tw = A - B;
+	final int cb = A ^ B ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, B);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // b9
+      case 0xb9: {
+	final int tw = A - C;
+	final int cb = A ^ C ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, C);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // ba
+      case 0xba: {
+	final int tw = A - D;
+	final int cb = A ^ D ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, D);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // bb
+      case 0xbb: {
+	final int tw = A - E;
+	final int cb = A ^ E ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, E);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // bc
+      case 0xbc: {
+	final int tw = A - H;
+	final int cb = A ^ H ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, H);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // bd
+      case 0xbd: {
+	final int tw = A - L;
+	final int cb = A ^ L ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, L);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // be
+      case 0xbe: {
+	final int tb = memory.getByte(HL());
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, tb);
+	SETNF();
+	incPC();
+	return 7;
+      }
+
+      // bf
+      case 0xbf: {
+	CLEARHF();
+	CLEARCF();
+	CLEARPF();
+	F22(0, A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions c0-ff
+  private int executeMain3(final int opcode) {
+    switch (opcode) {
+
+      // c0
+      case 0xc0: {
+	if (ZFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // c1
+      case 0xc1: {
+	C = memory.getByte(SP);
+	incSP();
+	B = memory.getByte(SP);
+	incSP();
+	incPC();
+	return 10;
+      }
+
+      // c2
+      case 0xc2: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (ZFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // c3
+      case 0xc3: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	PC = WZ;
+	return 10;
+      }
+
+      // c4
+      case 0xc4: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (ZFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // c5
+      case 0xc5: {
+	decSP();
+	memory.setByte(SP, B);
+	decSP();
+	memory.setByte(SP, C);
+	incPC();
+	return 11;
+      }
+
+      // c6
+      case 0xc6: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A + tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 7;
+      }
+
+      // c7
+      case 0xc7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0000;
+	return 11;
+      }
+
+      // c8
+      case 0xc8: {
+	if (!ZFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // c9
+      case 0xc9: {
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 10;
+      }
+
+      // ca
+      case 0xca: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (!ZFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // cc
+      case 0xcc: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (!ZFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // cd
+      case 0xcd: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ;
+	return 17;
+      }
+
+      // ce
+      case 0xce: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A + tb + (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 7;
+      }
+
+      // cf
+      case 0xcf: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0008;
+	return 11;
+      }
+
+      // d0
+      case 0xd0: {
+	if (CFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // d1
+      case 0xd1: {
+	E = memory.getByte(SP);
+	incSP();
+	D = memory.getByte(SP);
+	incSP();
+	incPC();
+	return 10;
+      }
+
+      // d2
+      case 0xd2: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (CFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // d3
+      case 0xd3: {
+	incPC();
+	final int port = memory.getByte(PC);
+	ioBus.output((A << 8) + port, A);
+	WZ = ((port + 1) & 0xff) + (A << 8);
+	incPC();
+	return 11;
+      }
+
+      // d4
+      case 0xd4: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (CFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // d5
+      case 0xd5: {
+	decSP();
+	memory.setByte(SP, D);
+	decSP();
+	memory.setByte(SP, E);
+	incPC();
+	return 11;
+      }
+
+      // d6
+      case 0xd6: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 7;
+      }
+
+      // d7
+      case 0xd7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0010;
+	return 11;
+      }
+
+      // d8
+      case 0xd8: {
+	if (!CFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // d9
+      case 0xd9: {
+	int tb = B;
+	B = Ba;
+	Ba = tb;
+	tb = C;
+	C = Ca;
+	Ca = tb;
+	tb = D;
+	D = Da;
+	Da = tb;
+	tb = E;
+	E = Ea;
+	Ea = tb;
+	tb = H;
+	H = Ha;
+	Ha = tb;
+	tb = L;
+	L = La;
+	La = tb;
+	tb = WZ;
+	WZ = WZa;
+	WZa = tb;
+	incPC();
+	return 4;
+      }
+
+      // da
+      case 0xda: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (!CFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // db
+      case 0xdb: {
+	incPC();
+	final int port = memory.getByte(PC);
+	WZ = ((A << 8) + port + 1) & 0xffff;
+	int tb = ioBus.input((A << 8) + port);
+	A = tb;
+	incPC();
+	return 11;
+      }
+
+      // dc
+      case 0xdc: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (!CFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // de
+      case 0xde: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A - tb - (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 7;
+      }
+
+      // df
+      case 0xdf: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0018;
+	return 11;
+      }
+
+      // e0
+      case 0xe0: {
+	if (PFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // e1
+      case 0xe1: {
+	L = memory.getByte(SP);
+	incSP();
+	H = memory.getByte(SP);
+	incSP();
+	incPC();
+	return 10;
+      }
+
+      // e2
+      case 0xe2: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (PFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // e3
+      case 0xe3: {
+	int tb = memory.getByte(SP);
+	memory.setByte(SP, L);
+	L = tb;
+	final int tw = (SP + 1) & 0xffff;
+	tb = memory.getByte(tw);
+	memory.setByte(tw, H);
+	H = tb;
+	WZ = HL();
+	incPC();
+	return 19;
+      }
+
+      // e4
+      case 0xe4: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (PFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // e5
+      case 0xe5: {
+	decSP();
+	memory.setByte(SP, H);
+	decSP();
+	memory.setByte(SP, L);
+	incPC();
+	return 11;
+      }
+
+      // e6
+      case 0xe6: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	A &= tb;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 7;
+      }
+
+      // e7
+      case 0xe7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0020;
+	return 11;
+      }
+
+      // e8
+      case 0xe8: {
+	if (!PFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // e9
+      case 0xe9: {
+	PC = HL();
+	return 4;
+      }
+
+      // ea
+      case 0xea: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (!PFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // eb
+      case 0xeb: {
+	int tb = H;
+	H = D;
+	D = tb;
+	tb = L;
+	L = E;
+	E = tb;
+	incPC();
+	return 4;
+      }
+
+      // ec
+      case 0xec: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (!PFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // ee
+      case 0xee: {
+	incPC();
+	A ^= memory.getByte(PC);
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 7;
+      }
+
+      // ef
+      case 0xef: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0028;
+	return 11;
+      }
+
+      // f0
+      case 0xf0: {
+	if (SFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // f1
+      case 0xf1: {
+	F = memory.getByte(SP);
+	incSP();
+	A = memory.getByte(SP);
+	incSP();
+	incPC();
+	return 10;
+      }
+
+      // f2
+      case 0xf2: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (SFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // f3
+      case 0xf3: {
+	IFF1 = IFF2 = false;
+	incPC();
+	return 4;
+      }
+
+      // f4
+      case 0xf4: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (SFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // f5
+      case 0xf5: {
+	decSP();
+	memory.setByte(SP, A);
+	decSP();
+	memory.setByte(SP, F);
+	incPC();
+	return 11;
+      }
+
+      // f6
+      case 0xf6: {
+	incPC();
+	A |= memory.getByte(PC);
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 7;
+      }
+
+      // f7
+      case 0xf7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0030;
+	return 11;
+      }
+
+      // f8
+      case 0xf8: {
+	if (!SFSET()) {
+	  incPC();
+	  return 5;
+	} else {
+	  WZ = memory.getByte(SP);
+	  incSP();
+	  WZ += memory.getByte(SP) << 8;
+	  incSP();
+	  PC = WZ;
+	  return 11;
+	}
+      }
+
+      // f9
+      case 0xf9: {
+	SP = HL();
+	incPC();
+	return 6;
+      }
+
+      // fa
+      case 0xfa: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	if (!SFSET()) {
+	  incPC();
+	} else {
+	  PC = WZ;
+	}
+	return 10;
+      }
+
+      // fb
+      case 0xfb: {
+	IFF1 = IFF2 = TID = true;
+	incPC();
+	return 4;
+      }
+
+      // fc
+      case 0xfc: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	incPC();
+	if (!SFSET()) {
+	  return 10;
+	} else {
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ;
+	  return 17;
+	}
+      }
+
+      // fe
+      case 0xfe: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, tb);
+	SETNF();
+	incPC();
+	return 7;
+      }
+
+      // ff
+      case 0xff: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = WZ = 0x0038;
+	return 11;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions cb 00-cb 3f
+  private int executeCB0(final int opcode) {
+    switch (opcode) {
+
+      // cb 00
+      case 0x00: {
+	if ((B & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	B = ((B << 1) | (F & 1)) & 0xff;
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 01
+      case 0x01: {
+	if ((C & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	C = ((C << 1) | (F & 1)) & 0xff;
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 02
+      case 0x02: {
+	if ((D & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	D = ((D << 1) | (F & 1)) & 0xff;
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 03
+      case 0x03: {
+	if ((E & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	E = ((E << 1) | (F & 1)) & 0xff;
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 04
+      case 0x04: {
+	if ((H & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	H = ((H << 1) | (F & 1)) & 0xff;
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 05
+      case 0x05: {
+	if ((L & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	L = ((L << 1) | (F & 1)) & 0xff;
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 06
+      case 0x06: {
+	int tb = memory.getByte(HL());
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(HL(), tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 07
+      case 0x07: {
+	if ((A & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = ((A << 1) | (F & 1)) & 0xff;
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 08
+      case 0x08: {
+	if ((B & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	B = ((B >> 1) | (F << 7)) & 0xff;
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 09
+      case 0x09: {
+	if ((C & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	C = ((C >> 1) | (F << 7)) & 0xff;
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 0a
+      case 0x0a: {
+	if ((D & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	D = ((D >> 1) | (F << 7)) & 0xff;
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 0b
+      case 0x0b: {
+	if ((E & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	E = ((E >> 1) | (F << 7)) & 0xff;
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 0c
+      case 0x0c: {
+	if ((H & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	H = ((H >> 1) | (F << 7)) & 0xff;
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 0d
+      case 0x0d: {
+	if ((L & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	L = ((L >> 1) | (F << 7)) & 0xff;
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 0e
+      case 0x0e: {
+	int tb = memory.getByte(HL());
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(HL(), tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 0f
+      case 0x0f: {
+	if ((A & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = ((A >> 1) | (F << 7)) & 0xff;
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 10
+      case 0x10: {
+	B = (B << 1) | (F & 1);
+	if ((B & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	B &= 0xff;
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 11
+      case 0x11: {
+	C = (C << 1) | (F & 1);
+	if ((C & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	C &= 0xff;
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 12
+      case 0x12: {
+	D = (D << 1) | (F & 1);
+	if ((D & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	D &= 0xff;
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 13
+      case 0x13: {
+	E = (E << 1) | (F & 1);
+	if ((E & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	E &= 0xff;
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 14
+      case 0x14: {
+	H = (H << 1) | (F & 1);
+	if ((H & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	H &= 0xff;
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 15
+      case 0x15: {
+	L = (L << 1) | (F & 1);
+	if ((L & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	L &= 0xff;
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 16
+      case 0x16: {
+	int tb = memory.getByte(HL());
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(HL(), tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 17
+      case 0x17: {
+	A = (A << 1) | (F & 1);
+	if ((A & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A &= 0xff;
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 18
+      case 0x18: {
+	final int ti = B;
+	B = (B >> 1) | ((F & 1) << 7);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 19
+      case 0x19: {
+	final int ti = C;
+	C = (C >> 1) | ((F & 1) << 7);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 1a
+      case 0x1a: {
+	final int ti = D;
+	D = (D >> 1) | ((F & 1) << 7);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 1b
+      case 0x1b: {
+	final int ti = E;
+	E = (E >> 1) | ((F & 1) << 7);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 1c
+      case 0x1c: {
+	final int ti = H;
+	H = (H >> 1) | ((F & 1) << 7);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 1d
+      case 0x1d: {
+	final int ti = L;
+	L = (L >> 1) | ((F & 1) << 7);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 1e
+      case 0x1e: {
+	int tb = memory.getByte(HL());
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(HL(), tb);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 1f
+      case 0x1f: {
+	final int ti = A;
+	A = (A >> 1) | ((F & 1) << 7);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 20
+      case 0x20: {
+	if ((B & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	B = (B << 1) & 0xff;
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 21
+      case 0x21: {
+	if ((C & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	C = (C << 1) & 0xff;
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 22
+      case 0x22: {
+	if ((D & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	D = (D << 1) & 0xff;
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 23
+      case 0x23: {
+	if ((E & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	E = (E << 1) & 0xff;
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 24
+      case 0x24: {
+	if ((H & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	H = (H << 1) & 0xff;
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 25
+      case 0x25: {
+	if ((L & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	L = (L << 1) & 0xff;
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 26
+      case 0x26: {
+	int tb = memory.getByte(HL());
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(HL(), tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 27
+      case 0x27: {
+	if ((A & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = (A << 1) & 0xff;
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 28
+      case 0x28: {
+	if ((B & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	B = (B & 0x80) | (B >> 1);
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 29
+      case 0x29: {
+	if ((C & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	C = (C & 0x80) | (C >> 1);
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 2a
+      case 0x2a: {
+	if ((D & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	D = (D & 0x80) | (D >> 1);
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 2b
+      case 0x2b: {
+	if ((E & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	E = (E & 0x80) | (E >> 1);
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 2c
+      case 0x2c: {
+	if ((H & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	H = (H & 0x80) | (H >> 1);
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 2d
+      case 0x2d: {
+	if ((L & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	L = (L & 0x80) | (L >> 1);
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 2e
+      case 0x2e: {
+	int tb = memory.getByte(HL());
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(HL(), tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 2f
+      case 0x2f: {
+	if ((A & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = (A & 0x80) | (A >> 1);
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 30
+      case 0x30: {
+	if ((B & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	B = ((B << 1) & 0xff) | 1;
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 31
+      case 0x31: {
+	if ((C & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	C = ((C << 1) & 0xff) | 1;
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 32
+      case 0x32: {
+	if ((D & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	D = ((D << 1) & 0xff) | 1;
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 33
+      case 0x33: {
+	if ((E & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	E = ((E << 1) & 0xff) | 1;
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 34
+      case 0x34: {
+	if ((H & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	H = ((H << 1) & 0xff) | 1;
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 35
+      case 0x35: {
+	if ((L & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	L = ((L << 1) & 0xff) | 1;
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 36
+      case 0x36: {
+	int tb = memory.getByte(HL());
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(HL(), tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 37
+      case 0x37: {
+	if ((A & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = ((A << 1) & 0xff) | 1;
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 38
+      case 0x38: {
+	if ((B & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	B >>= 1;
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 39
+      case 0x39: {
+	if ((C & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	C >>= 1;
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 3a
+      case 0x3a: {
+	if ((D & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	D >>= 1;
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 3b
+      case 0x3b: {
+	if ((E & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	E >>= 1;
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 3c
+      case 0x3c: {
+	if ((H & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	H >>= 1;
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 3d
+      case 0x3d: {
+	if ((L & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	L >>= 1;
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 3e
+      case 0x3e: {
+	int tb = memory.getByte(HL());
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(HL(), tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // cb 3f
+      case 0x3f: {
+	if ((A & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A >>= 1;
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions cb 40-cb 7f
+  private int executeCB1(final int opcode) {
+    switch (opcode) {
+
+      // cb 40
+      case 0x40: {
+	F4(B);
+	if ((B & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 41
+      case 0x41: {
+	F4(C);
+	if ((C & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 42
+      case 0x42: {
+	F4(D);
+	if ((D & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 43
+      case 0x43: {
+	F4(E);
+	if ((E & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 44
+      case 0x44: {
+	F4(H);
+	if ((H & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 45
+      case 0x45: {
+	F4(L);
+	if ((L & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 46
+      case 0x46: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 47
+      case 0x47: {
+	F4(A);
+	if ((A & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 48
+      case 0x48: {
+	F4(B);
+	if ((B & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 49
+      case 0x49: {
+	F4(C);
+	if ((C & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 4a
+      case 0x4a: {
+	F4(D);
+	if ((D & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 4b
+      case 0x4b: {
+	F4(E);
+	if ((E & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 4c
+      case 0x4c: {
+	F4(H);
+	if ((H & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 4d
+      case 0x4d: {
+	F4(L);
+	if ((L & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 4e
+      case 0x4e: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 4f
+      case 0x4f: {
+	F4(A);
+	if ((A & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 50
+      case 0x50: {
+	F4(B);
+	if ((B & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 51
+      case 0x51: {
+	F4(C);
+	if ((C & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 52
+      case 0x52: {
+	F4(D);
+	if ((D & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 53
+      case 0x53: {
+	F4(E);
+	if ((E & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 54
+      case 0x54: {
+	F4(H);
+	if ((H & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 55
+      case 0x55: {
+	F4(L);
+	if ((L & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 56
+      case 0x56: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 57
+      case 0x57: {
+	F4(A);
+	if ((A & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 58
+      case 0x58: {
+	F4(B);
+	if ((B & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 59
+      case 0x59: {
+	F4(C);
+	if ((C & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 5a
+      case 0x5a: {
+	F4(D);
+	if ((D & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 5b
+      case 0x5b: {
+	F4(E);
+	if ((E & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 5c
+      case 0x5c: {
+	F4(H);
+	if ((H & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 5d
+      case 0x5d: {
+	F4(L);
+	if ((L & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 5e
+      case 0x5e: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 5f
+      case 0x5f: {
+	F4(A);
+	if ((A & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 60
+      case 0x60: {
+	F4(B);
+	if ((B & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 61
+      case 0x61: {
+	F4(C);
+	if ((C & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 62
+      case 0x62: {
+	F4(D);
+	if ((D & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 63
+      case 0x63: {
+	F4(E);
+	if ((E & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 64
+      case 0x64: {
+	F4(H);
+	if ((H & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 65
+      case 0x65: {
+	F4(L);
+	if ((L & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 66
+      case 0x66: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 67
+      case 0x67: {
+	F4(A);
+	if ((A & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 68
+      case 0x68: {
+	F4(B);
+	if ((B & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 69
+      case 0x69: {
+	F4(C);
+	if ((C & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 6a
+      case 0x6a: {
+	F4(D);
+	if ((D & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 6b
+      case 0x6b: {
+	F4(E);
+	if ((E & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 6c
+      case 0x6c: {
+	F4(H);
+	if ((H & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 6d
+      case 0x6d: {
+	F4(L);
+	if ((L & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 6e
+      case 0x6e: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 6f
+      case 0x6f: {
+	F4(A);
+	if ((A & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 70
+      case 0x70: {
+	F4(B);
+	if ((B & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 71
+      case 0x71: {
+	F4(C);
+	if ((C & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 72
+      case 0x72: {
+	F4(D);
+	if ((D & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 73
+      case 0x73: {
+	F4(E);
+	if ((E & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 74
+      case 0x74: {
+	F4(H);
+	if ((H & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 75
+      case 0x75: {
+	F4(L);
+	if ((L & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 76
+      case 0x76: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 77
+      case 0x77: {
+	F4(A);
+	if ((A & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 78
+      case 0x78: {
+	F4(B);
+	if ((B & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 79
+      case 0x79: {
+	F4(C);
+	if ((C & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 7a
+      case 0x7a: {
+	F4(D);
+	if ((D & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 7b
+      case 0x7b: {
+	F4(E);
+	if ((E & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 7c
+      case 0x7c: {
+	F4(H);
+	if ((H & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 7d
+      case 0x7d: {
+	F4(L);
+	if ((L & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+
+      // cb 7e
+      case 0x7e: {
+	final int tb = memory.getByte(HL());
+	F22(tb, WZ >> 8);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // cb 7f
+      case 0x7f: {
+	F4(A);
+	if ((A & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC();
+	return 8;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions cb 80-cb bf
+  private int executeCB2(final int opcode) {
+    switch (opcode) {
+
+      // cb 80
+      case 0x80: {
+	B &= 0xfe;
+	incPC();
+	return 8;
+      }
+
+      // cb 81
+      case 0x81: {
+	C &= 0xfe;
+	incPC();
+	return 8;
+      }
+
+      // cb 82
+      case 0x82: {
+	D &= 0xfe;
+	incPC();
+	return 8;
+      }
+
+      // cb 83
+      case 0x83: {
+	E &= 0xfe;
+	incPC();
+	return 8;
+      }
+
+      // cb 84
+      case 0x84: {
+	H &= 0xfe;
+	incPC();
+	return 8;
+      }
+
+      // cb 85
+      case 0x85: {
+	L &= 0xfe;
+	incPC();
+	return 8;
+      }
+
+      // cb 86
+      case 0x86: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0xfe);
+	incPC();
+	return 15;
+      }
+
+      // cb 87
+      case 0x87: {
+	A &= 0xfe;
+	incPC();
+	return 8;
+      }
+
+      // cb 88
+      case 0x88: {
+	B &= 0xfd;
+	incPC();
+	return 8;
+      }
+
+      // cb 89
+      case 0x89: {
+	C &= 0xfd;
+	incPC();
+	return 8;
+      }
+
+      // cb 8a
+      case 0x8a: {
+	D &= 0xfd;
+	incPC();
+	return 8;
+      }
+
+      // cb 8b
+      case 0x8b: {
+	E &= 0xfd;
+	incPC();
+	return 8;
+      }
+
+      // cb 8c
+      case 0x8c: {
+	H &= 0xfd;
+	incPC();
+	return 8;
+      }
+
+      // cb 8d
+      case 0x8d: {
+	L &= 0xfd;
+	incPC();
+	return 8;
+      }
+
+      // cb 8e
+      case 0x8e: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0xfd);
+	incPC();
+	return 15;
+      }
+
+      // cb 8f
+      case 0x8f: {
+	A &= 0xfd;
+	incPC();
+	return 8;
+      }
+
+      // cb 90
+      case 0x90: {
+	B &= 0xfb;
+	incPC();
+	return 8;
+      }
+
+      // cb 91
+      case 0x91: {
+	C &= 0xfb;
+	incPC();
+	return 8;
+      }
+
+      // cb 92
+      case 0x92: {
+	D &= 0xfb;
+	incPC();
+	return 8;
+      }
+
+      // cb 93
+      case 0x93: {
+	E &= 0xfb;
+	incPC();
+	return 8;
+      }
+
+      // cb 94
+      case 0x94: {
+	H &= 0xfb;
+	incPC();
+	return 8;
+      }
+
+      // cb 95
+      case 0x95: {
+	L &= 0xfb;
+	incPC();
+	return 8;
+      }
+
+      // cb 96
+      case 0x96: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0xfb);
+	incPC();
+	return 15;
+      }
+
+      // cb 97
+      case 0x97: {
+	A &= 0xfb;
+	incPC();
+	return 8;
+      }
+
+      // cb 98
+      case 0x98: {
+	B &= 0xf7;
+	incPC();
+	return 8;
+      }
+
+      // cb 99
+      case 0x99: {
+	C &= 0xf7;
+	incPC();
+	return 8;
+      }
+
+      // cb 9a
+      case 0x9a: {
+	D &= 0xf7;
+	incPC();
+	return 8;
+      }
+
+      // cb 9b
+      case 0x9b: {
+	E &= 0xf7;
+	incPC();
+	return 8;
+      }
+
+      // cb 9c
+      case 0x9c: {
+	H &= 0xf7;
+	incPC();
+	return 8;
+      }
+
+      // cb 9d
+      case 0x9d: {
+	L &= 0xf7;
+	incPC();
+	return 8;
+      }
+
+      // cb 9e
+      case 0x9e: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0xf7);
+	incPC();
+	return 15;
+      }
+
+      // cb 9f
+      case 0x9f: {
+	A &= 0xf7;
+	incPC();
+	return 8;
+      }
+
+      // cb a0
+      case 0xa0: {
+	B &= 0xef;
+	incPC();
+	return 8;
+      }
+
+      // cb a1
+      case 0xa1: {
+	C &= 0xef;
+	incPC();
+	return 8;
+      }
+
+      // cb a2
+      case 0xa2: {
+	D &= 0xef;
+	incPC();
+	return 8;
+      }
+
+      // cb a3
+      case 0xa3: {
+	E &= 0xef;
+	incPC();
+	return 8;
+      }
+
+      // cb a4
+      case 0xa4: {
+	H &= 0xef;
+	incPC();
+	return 8;
+      }
+
+      // cb a5
+      case 0xa5: {
+	L &= 0xef;
+	incPC();
+	return 8;
+      }
+
+      // cb a6
+      case 0xa6: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0xef);
+	incPC();
+	return 15;
+      }
+
+      // cb a7
+      case 0xa7: {
+	A &= 0xef;
+	incPC();
+	return 8;
+      }
+
+      // cb a8
+      case 0xa8: {
+	B &= 0xdf;
+	incPC();
+	return 8;
+      }
+
+      // cb a9
+      case 0xa9: {
+	C &= 0xdf;
+	incPC();
+	return 8;
+      }
+
+      // cb aa
+      case 0xaa: {
+	D &= 0xdf;
+	incPC();
+	return 8;
+      }
+
+      // cb ab
+      case 0xab: {
+	E &= 0xdf;
+	incPC();
+	return 8;
+      }
+
+      // cb ac
+      case 0xac: {
+	H &= 0xdf;
+	incPC();
+	return 8;
+      }
+
+      // cb ad
+      case 0xad: {
+	L &= 0xdf;
+	incPC();
+	return 8;
+      }
+
+      // cb ae
+      case 0xae: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0xdf);
+	incPC();
+	return 15;
+      }
+
+      // cb af
+      case 0xaf: {
+	A &= 0xdf;
+	incPC();
+	return 8;
+      }
+
+      // cb b0
+      case 0xb0: {
+	B &= 0xbf;
+	incPC();
+	return 8;
+      }
+
+      // cb b1
+      case 0xb1: {
+	C &= 0xbf;
+	incPC();
+	return 8;
+      }
+
+      // cb b2
+      case 0xb2: {
+	D &= 0xbf;
+	incPC();
+	return 8;
+      }
+
+      // cb b3
+      case 0xb3: {
+	E &= 0xbf;
+	incPC();
+	return 8;
+      }
+
+      // cb b4
+      case 0xb4: {
+	H &= 0xbf;
+	incPC();
+	return 8;
+      }
+
+      // cb b5
+      case 0xb5: {
+	L &= 0xbf;
+	incPC();
+	return 8;
+      }
+
+      // cb b6
+      case 0xb6: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0xbf);
+	incPC();
+	return 15;
+      }
+
+      // cb b7
+      case 0xb7: {
+	A &= 0xbf;
+	incPC();
+	return 8;
+      }
+
+      // cb b8
+      case 0xb8: {
+	B &= 0x7f;
+	incPC();
+	return 8;
+      }
+
+      // cb b9
+      case 0xb9: {
+	C &= 0x7f;
+	incPC();
+	return 8;
+      }
+
+      // cb ba
+      case 0xba: {
+	D &= 0x7f;
+	incPC();
+	return 8;
+      }
+
+      // cb bb
+      case 0xbb: {
+	E &= 0x7f;
+	incPC();
+	return 8;
+      }
+
+      // cb bc
+      case 0xbc: {
+	H &= 0x7f;
+	incPC();
+	return 8;
+      }
+
+      // cb bd
+      case 0xbd: {
+	L &= 0x7f;
+	incPC();
+	return 8;
+      }
+
+      // cb be
+      case 0xbe: {
+	memory.setByte(HL(), memory.getByte(HL()) & 0x7f);
+	incPC();
+	return 15;
+      }
+
+      // cb bf
+      case 0xbf: {
+	A &= 0x7f;
+	incPC();
+	return 8;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions cb c0-cb ff
+  private int executeCB3(final int opcode) {
+    switch (opcode) {
+
+      // cb c0
+      case 0xc0: {
+	B |= 0x01;
+	incPC();
+	return 8;
+      }
+
+      // cb c1
+      case 0xc1: {
+	C |= 0x01;
+	incPC();
+	return 8;
+      }
+
+      // cb c2
+      case 0xc2: {
+	D |= 0x01;
+	incPC();
+	return 8;
+      }
+
+      // cb c3
+      case 0xc3: {
+	E |= 0x01;
+	incPC();
+	return 8;
+      }
+
+      // cb c4
+      case 0xc4: {
+	H |= 0x01;
+	incPC();
+	return 8;
+      }
+
+      // cb c5
+      case 0xc5: {
+	L |= 0x01;
+	incPC();
+	return 8;
+      }
+
+      // cb c6
+      case 0xc6: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x01);
+	incPC();
+	return 15;
+      }
+
+      // cb c7
+      case 0xc7: {
+	A |= 0x01;
+	incPC();
+	return 8;
+      }
+
+      // cb c8
+      case 0xc8: {
+	B |= 0x02;
+	incPC();
+	return 8;
+      }
+
+      // cb c9
+      case 0xc9: {
+	C |= 0x02;
+	incPC();
+	return 8;
+      }
+
+      // cb ca
+      case 0xca: {
+	D |= 0x02;
+	incPC();
+	return 8;
+      }
+
+      // cb cb
+      case 0xcb: {
+	E |= 0x02;
+	incPC();
+	return 8;
+      }
+
+      // cb cc
+      case 0xcc: {
+	H |= 0x02;
+	incPC();
+	return 8;
+      }
+
+      // cb cd
+      case 0xcd: {
+	L |= 0x02;
+	incPC();
+	return 8;
+      }
+
+      // cb ce
+      case 0xce: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x02);
+	incPC();
+	return 15;
+      }
+
+      // cb cf
+      case 0xcf: {
+	A |= 0x02;
+	incPC();
+	return 8;
+      }
+
+      // cb d0
+      case 0xd0: {
+	B |= 0x04;
+	incPC();
+	return 8;
+      }
+
+      // cb d1
+      case 0xd1: {
+	C |= 0x04;
+	incPC();
+	return 8;
+      }
+
+      // cb d2
+      case 0xd2: {
+	D |= 0x04;
+	incPC();
+	return 8;
+      }
+
+      // cb d3
+      case 0xd3: {
+	E |= 0x04;
+	incPC();
+	return 8;
+      }
+
+      // cb d4
+      case 0xd4: {
+	H |= 0x04;
+	incPC();
+	return 8;
+      }
+
+      // cb d5
+      case 0xd5: {
+	L |= 0x04;
+	incPC();
+	return 8;
+      }
+
+      // cb d6
+      case 0xd6: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x04);
+	incPC();
+	return 15;
+      }
+
+      // cb d7
+      case 0xd7: {
+	A |= 0x04;
+	incPC();
+	return 8;
+      }
+
+      // cb d8
+      case 0xd8: {
+	B |= 0x08;
+	incPC();
+	return 8;
+      }
+
+      // cb d9
+      case 0xd9: {
+	C |= 0x08;
+	incPC();
+	return 8;
+      }
+
+      // cb da
+      case 0xda: {
+	D |= 0x08;
+	incPC();
+	return 8;
+      }
+
+      // cb db
+      case 0xdb: {
+	E |= 0x08;
+	incPC();
+	return 8;
+      }
+
+      // cb dc
+      case 0xdc: {
+	H |= 0x08;
+	incPC();
+	return 8;
+      }
+
+      // cb dd
+      case 0xdd: {
+	L |= 0x08;
+	incPC();
+	return 8;
+      }
+
+      // cb de
+      case 0xde: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x08);
+	incPC();
+	return 15;
+      }
+
+      // cb df
+      case 0xdf: {
+	A |= 0x08;
+	incPC();
+	return 8;
+      }
+
+      // cb e0
+      case 0xe0: {
+	B |= 0x10;
+	incPC();
+	return 8;
+      }
+
+      // cb e1
+      case 0xe1: {
+	C |= 0x10;
+	incPC();
+	return 8;
+      }
+
+      // cb e2
+      case 0xe2: {
+	D |= 0x10;
+	incPC();
+	return 8;
+      }
+
+      // cb e3
+      case 0xe3: {
+	E |= 0x10;
+	incPC();
+	return 8;
+      }
+
+      // cb e4
+      case 0xe4: {
+	H |= 0x10;
+	incPC();
+	return 8;
+      }
+
+      // cb e5
+      case 0xe5: {
+	L |= 0x10;
+	incPC();
+	return 8;
+      }
+
+      // cb e6
+      case 0xe6: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x10);
+	incPC();
+	return 15;
+      }
+
+      // cb e7
+      case 0xe7: {
+	A |= 0x10;
+	incPC();
+	return 8;
+      }
+
+      // cb e8
+      case 0xe8: {
+	B |= 0x20;
+	incPC();
+	return 8;
+      }
+
+      // cb e9
+      case 0xe9: {
+	C |= 0x20;
+	incPC();
+	return 8;
+      }
+
+      // cb ea
+      case 0xea: {
+	D |= 0x20;
+	incPC();
+	return 8;
+      }
+
+      // cb eb
+      case 0xeb: {
+	E |= 0x20;
+	incPC();
+	return 8;
+      }
+
+      // cb ec
+      case 0xec: {
+	H |= 0x20;
+	incPC();
+	return 8;
+      }
+
+      // cb ed
+      case 0xed: {
+	L |= 0x20;
+	incPC();
+	return 8;
+      }
+
+      // cb ee
+      case 0xee: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x20);
+	incPC();
+	return 15;
+      }
+
+      // cb ef
+      case 0xef: {
+	A |= 0x20;
+	incPC();
+	return 8;
+      }
+
+      // cb f0
+      case 0xf0: {
+	B |= 0x40;
+	incPC();
+	return 8;
+      }
+
+      // cb f1
+      case 0xf1: {
+	C |= 0x40;
+	incPC();
+	return 8;
+      }
+
+      // cb f2
+      case 0xf2: {
+	D |= 0x40;
+	incPC();
+	return 8;
+      }
+
+      // cb f3
+      case 0xf3: {
+	E |= 0x40;
+	incPC();
+	return 8;
+      }
+
+      // cb f4
+      case 0xf4: {
+	H |= 0x40;
+	incPC();
+	return 8;
+      }
+
+      // cb f5
+      case 0xf5: {
+	L |= 0x40;
+	incPC();
+	return 8;
+      }
+
+      // cb f6
+      case 0xf6: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x40);
+	incPC();
+	return 15;
+      }
+
+      // cb f7
+      case 0xf7: {
+	A |= 0x40;
+	incPC();
+	return 8;
+      }
+
+      // cb f8
+      case 0xf8: {
+	B |= 0x80;
+	incPC();
+	return 8;
+      }
+
+      // cb f9
+      case 0xf9: {
+	C |= 0x80;
+	incPC();
+	return 8;
+      }
+
+      // cb fa
+      case 0xfa: {
+	D |= 0x80;
+	incPC();
+	return 8;
+      }
+
+      // cb fb
+      case 0xfb: {
+	E |= 0x80;
+	incPC();
+	return 8;
+      }
+
+      // cb fc
+      case 0xfc: {
+	H |= 0x80;
+	incPC();
+	return 8;
+      }
+
+      // cb fd
+      case 0xfd: {
+	L |= 0x80;
+	incPC();
+	return 8;
+      }
+
+      // cb fe
+      case 0xfe: {
+	memory.setByte(HL(), memory.getByte(HL()) | 0x80);
+	incPC();
+	return 15;
+      }
+
+      // cb ff
+      case 0xff: {
+	A |= 0x80;
+	incPC();
+	return 8;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd 00-dd 3f
+  private int executeDD0(final int opcode) {
+    switch (opcode) {
+
+      // dd 09
+      case 0x09: {
+	WZ = (IX + 1) & 0xffff;
+	final int ti = IX + BC();
+	if ((((IX >> 8) ^ B ^ (ti >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IX = ti & 0xffff;
+	F2(IX >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // dd 19
+      case 0x19: {
+	WZ = (IX + 1) & 0xffff;
+	final int ti = IX + DE();
+	if ((((IX >> 8) ^ D ^ (ti >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IX = ti & 0xffff;
+	F2(IX >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // dd 21
+      case 0x21: {
+	incPC();
+	IX = memory.getByte(PC);
+	incPC();
+	IX += memory.getByte(PC) << 8;
+	incPC();
+	return 10;
+      }
+
+      // dd 22
+      case 0x22: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	memory.setByte(WZ, IX & 0xff);
+	incWZ();
+	memory.setByte(WZ, IX >> 8);
+	incPC();
+	return 16;
+      }
+
+      // dd 23
+      case 0x23: {
+	IX = (IX + 1) & 0xffff;
+	incPC();
+	return 6;
+      }
+
+      // dd 24
+      case 0x24: {
+	final int tb = ((IX >> 8) + 1) & 0xff;
+	IX = (tb << 8) + (IX & 0xff);
+	F4(tb);
+	if (tb == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 25
+      case 0x25: {
+	final int tb = ((IX >> 8) - 1) & 0xff;
+	IX = (tb << 8) + (IX & 0xff);
+	F4(tb);
+	if (tb == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 26
+      case 0x26: {
+	incPC();
+	IX = (memory.getByte(PC) << 8) + (IX & 0xff);
+	incPC();
+	return 7;
+      }
+
+      // dd 29
+      case 0x29: {
+	WZ = (IX + 1) & 0xffff;
+	final int ti = IX << 1;
+	if (((ti >> 8) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IX = ti & 0xffff;
+	F2(IX >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // dd 2a
+      case 0x2a: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	IX = memory.getByte(WZ);
+	incWZ();
+	IX += memory.getByte(WZ) << 8;
+	incPC();
+	return 16;
+      }
+
+      // dd 2b
+      case 0x2b: {
+	IX = (IX - 1) & 0xffff;
+	incPC();
+	return 6;
+      }
+
+      // dd 2c
+      case 0x2c: {
+	final int tb = (IX + 1) & 0xff;
+	IX = tb + (IX & 0xff00);
+	F4(tb);
+	if (tb == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 2d
+      case 0x2d: {
+	final int tb = (IX - 1) & 0xff;
+	IX = tb + (IX & 0xff00);
+	F4(tb);
+	if (tb == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 2e
+      case 0x2e: {
+	incPC();
+	IX = memory.getByte(PC) + (IX & 0xff00);
+	incPC();
+	return 7;
+      }
+
+      // dd 34
+      case 0x34: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = (memory.getByte(WZ) + 1) & 0xff;
+	memory.setByte(WZ, tb);
+	F4(tb);
+	if (tb == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 19;
+      }
+
+      // dd 35
+      case 0x35: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = (memory.getByte(WZ) - 1) & 0xff;
+	memory.setByte(WZ, tb);
+	F4(tb);
+	if (tb == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 19;
+      }
+
+      // dd 36
+      case 0x36: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	incPC();
+	memory.setByte(WZ, memory.getByte(PC));
+	incPC();
+	return 15;
+      }
+
+      // dd 39
+      case 0x39: {
+	WZ = (IX + 1) & 0xffff;
+	final int ti = IX + SP;
+	if ((((IX >> 8) ^ ((SP ^ ti) >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IX = ti & 0xffff;
+	F2(IX >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd 40-dd 7f
+  private int executeDD1(final int opcode) {
+    switch (opcode) {
+
+      // dd 44 (undocumented)
+      case 0x44: {
+	B = IX >> 8;
+	incPC();
+	return 4;
+      }
+
+      // dd 45 (undocumented)
+      case 0x45: {
+	B = IX & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // dd 46
+      case 0x46: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // dd 4c (undocumented)
+      case 0x4c: {
+	C = IX >> 8;
+	incPC();
+	return 4;
+      }
+
+      // dd 4d (undocumented)
+      case 0x4d: {
+	C = IX & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // dd 4e
+      case 0x4e: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // dd 54 (undocumented)
+      case 0x54: {
+	D = IX >> 8;
+	incPC();
+	return 4;
+      }
+
+      // dd 55 (undocumented)
+      case 0x55: {
+	D = IX & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // dd 56
+      case 0x56: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // dd 5c (undocumented)
+      case 0x5c: {
+	E = IX >> 8;
+	incPC();
+	return 4;
+      }
+
+      // dd 5d (undocumented)
+      case 0x5d: {
+	E = IX & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // dd 5e
+      case 0x5e: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // dd 60 (undocumented)
+      case 0x60: {
+	IX = (B << 8) + (IX & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // dd 61 (undocumented)
+      case 0x61: {
+	IX = (C << 8) + (IX & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // dd 62 (undocumented)
+      case 0x62: {
+	IX = (D << 8) + (IX & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // dd 63 (undocumented)
+      case 0x63: {
+	IX = (E << 8) + (IX & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // dd 64 (undocumented)
+      case 0x64: {
+	incPC();
+	return 4;
+      }
+
+      // dd 65 (undocumented)
+      case 0x65: {
+	IX = ((IX & 0xff) << 8) + (IX & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // dd 66
+      case 0x66: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // dd 67 (undocumented)
+      case 0x67: {
+	IX = (A << 8) + (IX & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // dd 68 (undocumented)
+      case 0x68: {
+	IX = (IX & 0xff00) + B;
+	incPC();
+	return 4;
+      }
+
+      // dd 69 (undocumented)
+      case 0x69: {
+	IX = (IX & 0xff00) + C;
+	incPC();
+	return 4;
+      }
+
+      // dd 6a (undocumented)
+      case 0x6a: {
+	IX = (IX & 0xff00) + D;
+	incPC();
+	return 4;
+      }
+
+      // dd 6b (undocumented)
+      case 0x6b: {
+	IX = (IX & 0xff00) + E;
+	incPC();
+	return 4;
+      }
+
+      // dd 6c (undocumented)
+      case 0x6c: {
+	IX = (IX & 0xff00) + (IX >> 8);
+	incPC();
+	return 4;
+      }
+
+      // dd 6d (undocumented)
+      case 0x6d: {
+	incPC();
+	return 4;
+      }
+
+      // dd 6e
+      case 0x6e: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // dd 6f (undocumented)
+      case 0x6f: {
+	IX = (IX & 0xff00) + A;
+	incPC();
+	return 4;
+      }
+
+      // dd 70
+      case 0x70: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, B);
+	incPC();
+	return 15;
+      }
+
+      // dd 71
+      case 0x71: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, C);
+	incPC();
+	return 15;
+      }
+
+      // dd 72
+      case 0x72: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, D);
+	incPC();
+	return 15;
+      }
+
+      // dd 73
+      case 0x73: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, E);
+	incPC();
+	return 15;
+      }
+
+      // dd 74
+      case 0x74: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, H);
+	incPC();
+	return 15;
+      }
+
+      // dd 75
+      case 0x75: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, L);
+	incPC();
+	return 15;
+      }
+
+      // dd 77
+      case 0x77: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, A);
+	incPC();
+	return 15;
+      }
+
+      // dd 7c (undocumented)
+      case 0x7c: {
+	A = IX >> 8;
+	incPC();
+	return 4;
+      }
+
+      // dd 7d (undocumented)
+      case 0x7d: {
+	A = IX & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // dd 7e
+      case 0x7e: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd 80-dd bf
+  private int executeDD2(final int opcode) {
+    switch (opcode) {
+
+      // dd 84 (undocumented)
+      case 0x84: {
+	final int tw = A + (IX >> 8);
+	final int cb = A ^ (IX >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 85 (undocumented)
+      case 0x85: {
+	final int tw = A + (IX & 0xff);
+	final int cb = A ^ (IX & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 86
+      case 0x86: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A + tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // dd 8c (undocumented)
+      case 0x8c: {
+	final int tw = A + (IX >> 8) + (F & CF);
+	final int cb = A ^ (IX >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 8d (undocumented)
+      case 0x8d: {
+	final int tw = A + (IX & 0xff) + (F & CF);
+	final int cb = A ^ (IX & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 8e
+      case 0x8e: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A + tb + (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // dd 94 (undocumented)
+      case 0x94: {
+	final int tw = A - (IX >> 8);
+	final int cb = A ^ (IX >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 95 (undocumented)
+      case 0x95: {
+	final int tw = A - (IX & 0xff);
+	final int cb = A ^ (IX & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 96
+      case 0x96: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // dd 9c (undocumented)
+      case 0x9c: {
+	final int tw = A - (IX >> 8) - (F & CF);
+	final int cb = A ^ (IX >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 9d (undocumented)
+      case 0x9d: {
+	final int tw = A - (IX & 0xff) - (F & CF);
+	final int cb = A ^ (IX & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd 9e
+      case 0x9e: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A - tb - (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // dd a4 (undocumented)
+      case 0xa4: {
+	A &= IX >> 8;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // dd a5 (undocumented)
+      case 0xa5: {
+	A &= IX & 0xff;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // dd a6
+      case 0xa6: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	A &= memory.getByte(WZ);
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 15;
+      }
+
+      // dd ac (undocumented)
+      case 0xac: {
+	A ^= IX >> 8;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // dd ad (undocumented)
+      case 0xad: {
+	A ^= IX & 0xff;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // dd ae
+      case 0xae: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	A ^= memory.getByte(WZ);
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 15;
+      }
+
+      // dd b4 (undocumented)
+      case 0xb4: {
+	A |= IX >> 8;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // dd b5 (undocumented)
+      case 0xb5: {
+	A |= IX & 0xff;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // dd b6
+      case 0xb6: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	A |= memory.getByte(WZ);
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 15;
+      }
+
+      // dd bc (undocumented)
+      case 0xbc: {
+	final int tw = A - (IX >> 8);
+	final int cb = A ^ (IX >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, IX >> 8);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd bd (undocumented)
+      case 0xbd: {
+	final int tw = A - (IX & 0xff);
+	final int cb = A ^ (IX & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, IX & 0xff);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // dd be
+      case 0xbe: {
+	incPC();
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, tb);
+	SETNF();
+	incPC();
+	return 15;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd c0-dd ff
+  private int executeDD3(final int opcode) {
+    switch (opcode) {
+
+      // dd e1
+      case 0xe1: {
+	IX = memory.getByte(SP);
+	incSP();
+	IX |= memory.getByte(SP) << 8;
+	incSP();
+	incPC();
+	return 10;
+      }
+
+      // dd e3
+      case 0xe3: {
+	final int tb = memory.getByte(SP);
+	memory.setByte(SP, IX & 0xff);
+	final int tw = (SP + 1) & 0xffff;
+	final int ti = memory.getByte(tw);
+	memory.setByte(tw, IX >> 8);
+	WZ = IX = tb + (ti << 8);
+	incPC();
+	return 19;
+      }
+
+      // dd e5
+      case 0xe5: {
+	decSP();
+	memory.setByte(SP, IX >> 8);
+	decSP();
+	memory.setByte(SP, IX & 0xff);
+	incPC();
+	return 11;
+      }
+
+      // dd e9
+      case 0xe9: {
+	PC = IX;
+	return 4;
+      }
+
+      // dd f9
+      case 0xf9: {
+	SP = IX;
+	incPC();
+	return 6;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions ed 40-ed 7f
+  private int executeED1(final int opcode) {
+    switch (opcode) {
+
+      // ed 40
+      case 0x40: {
+	B = ioBus.input((B << 8) + C);
+	F5(B);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // ed 41
+      case 0x41: {
+	ioBus.output((B << 8) + C, B);
+	incPC();
+	return 12;
+      }
+
+      // ed 42
+      case 0x42: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = (H << 8) + L - (B << 8) - C - (F & CF);
+	final int cb = H ^ B ^ (tw >> 8);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((cb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 43
+      case 0x43: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	memory.setByte(WZ, C);
+	incWZ();
+	memory.setByte(WZ, B);
+	incPC();
+	return 20;
+      }
+
+      // ed 44
+      case 0x44: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 45
+      case 0x45: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 46
+      case 0x46: {
+	IM = 0;
+	incPC();
+	return 8;
+      }
+
+      // ed 47
+      case 0x47: {
+	I = A;
+	incPC();
+	return 9;
+      }
+
+      // ed 48
+      case 0x48: {
+	C = ioBus.input((B << 8) + C);
+	F5(C);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // ed 49
+      case 0x49: {
+	ioBus.output((B << 8) + C, C);
+	incPC();
+	return 12;
+      }
+
+      // ed 4a
+      case 0x4a: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = (H << 8) + L + (B << 8) + C + (F & CF);
+	final int cb = H ^ B ^ (tw >> 8);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((cb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 4b
+      case 0x4b: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	C = memory.getByte(WZ);
+	incWZ();
+	B = memory.getByte(WZ);
+	incPC();
+	return 20;
+      }
+
+      // ed 4c (undocumented)
+      case 0x4c: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 4d
+      case 0x4d: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 4e (undocumented)
+      case 0x4e: {
+	IM = 0;
+	incPC();
+	return 8;
+      }
+
+      // ed 4f
+      case 0x4f: {
+	R = R7 = A;
+	incPC();
+	return 9;
+      }
+
+      // ed 50
+      case 0x50: {
+	D = ioBus.input((B << 8) + C);
+	F5(D);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // ed 51
+      case 0x51: {
+	ioBus.output((B << 8) + C, D);
+	incPC();
+	return 12;
+      }
+
+      // ed 52
+      case 0x52: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = (H << 8) + L - (D << 8) - E - (F & CF);
+	final int cb = H ^ D ^ (tw >> 8);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((cb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 53
+      case 0x53: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	memory.setByte(WZ, E);
+	incWZ();
+	memory.setByte(WZ, D);
+	incPC();
+	return 20;
+      }
+
+      // ed 54 (undocumented)
+      case 0x54: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 55 (undocumented)
+      case 0x55: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 56
+      case 0x56: {
+	IM = 1;
+	incPC();
+	return 8;
+      }
+
+      // ed 57
+      case 0x57: {
+	A = I;
+	F4(A);
+	if (IFF2) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 9;
+      }
+
+      // ed 58
+      case 0x58: {
+	E = ioBus.input((B << 8) + C);
+	F5(E);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // ed 59
+      case 0x59: {
+	ioBus.output((B << 8) + C, E);
+	incPC();
+	return 12;
+      }
+
+      // ed 5a
+      case 0x5a: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = (H << 8) + L + (D << 8) + E + (F & CF);
+	final int cb = H ^ D ^ (tw >> 8);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((cb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 5b
+      case 0x5b: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	E = memory.getByte(WZ);
+	incWZ();
+	D = memory.getByte(WZ);
+	incPC();
+	return 20;
+      }
+
+      // ed 5c (undocumented)
+      case 0x5c: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 5d (undocumented)
+      case 0x5d: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 5e
+      case 0x5e: {
+	IM = 2;
+	incPC();
+	return 8;
+      }
+
+      // ed 5f
+      case 0x5f: {
+	A = (R & 0x7f) | (R7 & 0x80);
+	F4(A);
+	if (IFF2) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 9;
+      }
+
+      // ed 60
+      case 0x60: {
+	H = ioBus.input((B << 8) + C);
+	F5(H);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // ed 61
+      case 0x61: {
+	ioBus.output((B << 8) + C, H);
+	incPC();
+	return 12;
+      }
+
+      // ed 62
+      case 0x62: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = -(F & CF);
+	if ((tw & 0x1000) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x10000) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((tw ^ (tw >> 1)) & 0x8000) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 63
+      case 0x63: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	memory.setByte(WZ, L);
+	incWZ();
+	memory.setByte(WZ, H);
+	incPC();
+	return 20;
+      }
+
+      // ed 64 (undocumented)
+      case 0x64: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 65 (undocumented)
+      case 0x65: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 66 (undocumented)
+      case 0x66: {
+	IM = 0;
+	incPC();
+	return 8;
+      }
+
+      // ed 67
+      case 0x67: {
+	final int tb = memory.getByte(HL());
+	memory.setByte(HL(), (tb >> 4) | ((A & 0x0f) << 4));
+	A = (A & 0xf0) | (tb & 0x0f);
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	WZ = (HL() + 1) & 0xffff;
+	incPC();
+	return 18;
+      }
+
+      // ed 68
+      case 0x68: {
+	L = ioBus.input((B << 8) + C);
+	F5(L);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // ed 69
+      case 0x69: {
+	ioBus.output((B << 8) + C, L);
+	incPC();
+	return 12;
+      }
+
+      // ed 6a
+      case 0x6a: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = (H << 9) + (L << 1) + (F & CF);
+	if ((tw & 0x1000) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x10000) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((tw ^ (tw >> 1)) & 0x8000) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 6b
+      case 0x6b: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	L = memory.getByte(WZ);
+	incWZ();
+	H = memory.getByte(WZ);
+	incPC();
+	return 20;
+      }
+
+      // ed 6c (undocumented)
+      case 0x6c: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 6d (undocumented)
+      case 0x6d: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 6e (undocumented)
+      case 0x6e: {
+	IM = 0;
+	incPC();
+	return 8;
+      }
+
+      // ed 6f
+      case 0x6f: {
+	final int tb = memory.getByte(HL());
+	memory.setByte(HL(), ((tb & 0x0f) << 4) | (A & 0x0f));
+	A = (A & 0xf0) | ((tb >> 4) & 0x0f);
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	WZ = (HL() + 1) & 0xffff;
+	incPC();
+	return 18;
+      }
+
+      // ed 70
+      case 0x70: {
+	int tb = ioBus.input((B << 8) + C);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 12;
+      }
+
+      // ed 71
+      case 0x71: {
+	ioBus.output((B << 8) + C, 0);
+	incPC();
+	return 12;
+      }
+
+      // ed 72
+      case 0x72: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = (H << 8) + L - SP - (F & CF);
+	final int cb = H ^ (SP >> 8) ^ (tw >> 8);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((cb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 73
+      case 0x73: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	memory.setByte(WZ, SP & 0xff);
+	incWZ();
+	memory.setByte(WZ, SP >> 8);
+	incPC();
+	return 20;
+      }
+
+      // ed 74 (undocumented)
+      case 0x74: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 75 (undocumented)
+      case 0x75: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 76 (undocumented)
+      case 0x76: {
+	IM = 1;
+	incPC();
+	return 8;
+      }
+
+      // ed 78
+      case 0x78: {
+	A = ioBus.input((B << 8) + C);
+	F5(A);
+	CLEARHF();
+	CLEARNF();
+	WZ = (BC() + 1) & 0xffff;
+	incPC();
+	return 12;
+      }
+
+      // ed 79
+      case 0x79: {
+	ioBus.output((B << 8) + C, A);
+	WZ = (BC() + 1) & 0xffff;
+	incPC();
+	return 12;
+      }
+
+      // ed 7a
+      case 0x7a: {
+	WZ = (HL() + 1) & 0xffff;
+	final int tw = (H << 8) + L + SP + (F & CF);
+	final int cb = H ^ (SP >> 8) ^ (tw >> 8);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((cb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	L = tw & 0xff;
+	H = (tw >> 8) & 0xff;
+	F4(H);
+	if ((H | L) == 0) {
+	  SETZF();
+	} else {
+	  CLEARZF();
+	}
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // ed 7b
+      case 0x7b: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	final int tb = memory.getByte(WZ);
+	incWZ();
+	SP = (memory.getByte(WZ) << 8) + tb;
+	incPC();
+	return 20;
+      }
+
+      // ed 7c (undocumented)
+      case 0x7c: {
+	if (A != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if ((A & 0x0f) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if (A == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = (-A) & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 8;
+      }
+
+      // ed 7d (undocumented)
+      case 0x7d: {
+	IFF1 = IFF2;
+	WZ = memory.getByte(SP);
+	incSP();
+	WZ += memory.getByte(SP) << 8;
+	incSP();
+	PC = WZ;
+	return 14;
+      }
+
+      // ed 7e (undocumented)
+      case 0x7e: {
+	IM = 2;
+	incPC();
+	return 8;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions ed 80-ed bf
+  private int executeED2(final int opcode) {
+    switch (opcode) {
+
+      // ed a0
+      case 0xa0: {
+	int tb = memory.getByte(HL());
+	memory.setByte(DE(), tb);
+	incHL();
+	incDE();
+	decBC();
+	tb += A;
+	if ((tb & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tb & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	if ((B | C) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 16;
+      }
+
+      // ed a1
+      case 0xa1: {
+	incWZ();
+	final int tb = memory.getByte(HL());
+	int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	incHL();
+	decBC();
+	F4(tw & 0xff);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	  tw--;
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tw & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	if ((B | C) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	SETNF();
+	incPC();
+	return 16;
+      }
+
+      // ed a2
+      case 0xa2: {
+	WZ = (BC() + 1) & 0xffff;
+	B--;
+	int tb = ioBus.input((B << 8) + C);
+	memory.setByte(HL(), tb);
+	incHL();
+	F4(B);
+	final int tw = ((C + 1) & 0xff) + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	incPC();
+	return 16;
+      }
+
+      // ed a3
+      case 0xa3: {
+	int tb = memory.getByte(HL());
+	ioBus.output((B << 8) + C, tb);
+	incHL();
+	B--;
+	WZ = (BC() + 1) & 0xffff;
+	F4(B);
+	final int tw = L + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	incPC();
+	return 16;
+      }
+
+      // ed a8
+      case 0xa8: {
+	int tb = memory.getByte(HL());
+	memory.setByte(DE(), tb);
+	decHL();
+	decDE();
+	decBC();
+	tb += A;
+	if ((tb & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tb & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	if ((B | C) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	CLEARHF();
+	CLEARNF();
+	incPC();
+	return 16;
+      }
+
+      // ed a9
+      case 0xa9: {
+	decWZ();
+	final int tb = memory.getByte(HL());
+	int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	decHL();
+	decBC();
+	F4(tw & 0xff);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	  tw--;
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tw & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	if ((B | C) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	SETNF();
+	incPC();
+	return 16;
+      }
+
+      // ed aa
+      case 0xaa: {
+	WZ = (BC() - 1) & 0xffff;
+	B--;
+	int tb = ioBus.input((B << 8) + C);
+	memory.setByte(HL(), tb);
+	decHL();
+	F4(B);
+	final int tw = ((C - 1) & 0xff) + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	incPC();
+	return 16;
+      }
+
+      // ed ab
+      case 0xab: {
+	int tb = memory.getByte(HL());
+	ioBus.output((B << 8) + C, tb);
+	decHL();
+	B--;
+	WZ = (BC() - 1) & 0xffff;
+	F4(B);
+	final int tw = L + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	incPC();
+	return 16;
+      }
+
+      // ed b0
+      case 0xb0: {
+	int tb = memory.getByte(HL());
+	memory.setByte(DE(), tb);
+	incHL();
+	incDE();
+	decBC();
+	tb += A;
+	if ((tb & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tb & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	CLEARHF();
+	CLEARNF();
+	if ((B | C) != 0) {
+	  SETPF();
+	  WZ = PC;
+	  decPC();
+	  return 21;
+	} else {
+	  CLEARPF();
+	  incPC();
+	  return 16;
+	}
+      }
+
+      // ed b1
+      case 0xb1: {
+	incWZ();
+	final int tb = memory.getByte(HL());
+	int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	incHL();
+	decBC();
+	F4(tw & 0xff);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	  tw--;
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tw & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	SETNF();
+	if ((B | C) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if (!ZFSET() && PFSET()) {
+	  WZ = PC;
+	  decPC();
+	  return 21;
+	} else {
+	  incPC();
+	  return 16;
+	}
+      }
+
+      // ed b2
+      case 0xb2: {
+	WZ = (BC() + 1) & 0xffff;
+	B--;
+	int tb = ioBus.input((B << 8) + C);
+	memory.setByte(HL(), tb);
+	incHL();
+	F4(B);
+	final int tw = ((C + 1) & 0xff) + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if (B != 0) {
+	  decPC();
+	  return 21;
+	} else {
+	  incPC();
+	  return 16;
+	}
+      }
+
+      // ed b3
+      case 0xb3: {
+	int tb = memory.getByte(HL());
+	ioBus.output((B << 8) + C, tb);
+	incHL();
+	B--;
+	WZ = (BC() + 1) & 0xffff;
+	F4(B);
+	final int tw = L + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if (B != 0) {
+	  decPC();
+	  return 21;
+	} else {
+	  incPC();
+	  return 16;
+	}
+      }
+
+      // ed b8
+      case 0xb8: {
+	int tb = memory.getByte(HL());
+	memory.setByte(DE(), tb);
+	decHL();
+	decDE();
+	decBC();
+	tb += A;
+	if ((tb & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tb & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	CLEARHF();
+	CLEARNF();
+	if ((B | C) != 0) {
+	  SETPF();
+	  WZ = PC;
+	  decPC();
+	  return 21;
+	} else {
+	  CLEARPF();
+	  incPC();
+	  return 16;
+	}
+      }
+
+      // ed b9
+      case 0xb9: {
+	decWZ();
+	final int tb = memory.getByte(HL());
+	int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	decHL();
+	decBC();
+	F4(tw & 0xff);
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	  tw--;
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x02) != 0) {
+	  SETYF();
+	} else {
+	  CLEARYF();
+	}
+	if ((tw & 0x08) != 0) {
+	  SETXF();
+	} else {
+	  CLEARXF();
+	}
+	SETNF();
+	if ((B | C) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if (!ZFSET() && PFSET()) {
+	  WZ = PC;
+	  decPC();
+	  return 21;
+	} else {
+	  incPC();
+	  return 16;
+	}
+      }
+
+      // ed ba
+      case 0xba: {
+	WZ = (BC() - 1) & 0xffff;
+	B--;
+	int tb = ioBus.input((B << 8) + C);
+	memory.setByte(HL(), tb);
+	decHL();
+	F4(B);
+	final int tw = ((C - 1) & 0xff) + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if (B != 0) {
+	  decPC();
+	  return 21;
+	} else {
+	  incPC();
+	  return 16;
+	}
+      }
+
+      // ed bb
+      case 0xbb: {
+	int tb = memory.getByte(HL());
+	ioBus.output((B << 8) + C, tb);
+	decHL();
+	B--;
+	WZ = (BC() - 1) & 0xffff;
+	F4(B);
+	final int tw = L + tb;
+	if ((tb & SF) != 0) {
+	  SETNF();
+	} else {
+	  CLEARNF();
+	}
+	if ((tw & 0x100) != 0) {
+	  SETHF();
+	  SETCF();
+	} else {
+	  CLEARHF();
+	  CLEARCF();
+	}
+	if ((TBL5[(tw & 0x07) ^ B] & PF) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if (B != 0) {
+	  decPC();
+	  return 21;
+	} else {
+	  incPC();
+	  return 16;
+	}
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions fd 00-fd 3f
+  private int executeFD0(final int opcode) {
+    switch (opcode) {
+
+      // fd 09
+      case 0x09: {
+	WZ = (IY + 1) & 0xffff;
+	final int ti = IY + BC();
+	if ((((IY >> 8) ^ B ^ (ti >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IY = ti & 0xffff;
+	F2(IY >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // fd 19
+      case 0x19: {
+	WZ = (IY + 1) & 0xffff;
+	final int ti = IY + DE();
+	if ((((IY >> 8) ^ D ^ (ti >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IY = ti & 0xffff;
+	F2(IY >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // fd 21
+      case 0x21: {
+	incPC();
+	IY = memory.getByte(PC);
+	incPC();
+	IY += memory.getByte(PC) << 8;
+	incPC();
+	return 10;
+      }
+
+      // fd 22
+      case 0x22: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	memory.setByte(WZ, IY & 0xff);
+	incWZ();
+	memory.setByte(WZ, IY >> 8);
+	incPC();
+	return 16;
+      }
+
+      // fd 23
+      case 0x23: {
+	IY = (IY + 1) & 0xffff;
+	incPC();
+	return 6;
+      }
+
+      // fd 24
+      case 0x24: {
+	final int tb = ((IY >> 8) + 1) & 0xff;
+	IY = (tb << 8) + (IY & 0xff);
+	F4(tb);
+	if (tb == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 25
+      case 0x25: {
+	final int tb = ((IY >> 8) - 1) & 0xff;
+	IY = (tb << 8) + (IY & 0xff);
+	F4(tb);
+	if (tb == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 26
+      case 0x26: {
+	incPC();
+	IY = (memory.getByte(PC) << 8) + (IY & 0xff);
+	incPC();
+	return 7;
+      }
+
+      // fd 29
+      case 0x29: {
+	WZ = (IY + 1) & 0xffff;
+	final int ti = IY << 1;
+	if (((ti >> 8) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IY = ti & 0xffff;
+	F2(IY >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+
+      // fd 2a
+      case 0x2a: {
+	incPC();
+	WZ = memory.getByte(PC);
+	incPC();
+	WZ += memory.getByte(PC) << 8;
+	IY = memory.getByte(WZ);
+	incWZ();
+	IY += memory.getByte(WZ) << 8;
+	incPC();
+	return 16;
+      }
+
+      // fd 2b
+      case 0x2b: {
+	IY = (IY - 1) & 0xffff;
+	incPC();
+	return 6;
+      }
+
+      // fd 2c
+      case 0x2c: {
+	final int tb = (IY + 1) & 0xff;
+	IY = tb + (IY & 0xff00);
+	F4(tb);
+	if (tb == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 2d
+      case 0x2d: {
+	final int tb = (IY - 1) & 0xff;
+	IY = tb + (IY & 0xff00);
+	F4(tb);
+	if (tb == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 2e
+      case 0x2e: {
+	incPC();
+	IY = memory.getByte(PC) + (IY & 0xff00);
+	incPC();
+	return 7;
+      }
+
+      // fd 34
+      case 0x34: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = (memory.getByte(WZ) + 1) & 0xff;
+	memory.setByte(WZ, tb);
+	F4(tb);
+	if (tb == 0x80) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	CLEARNF();
+	incPC();
+	return 19;
+      }
+
+      // fd 35
+      case 0x35: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = (memory.getByte(WZ) - 1) & 0xff;
+	memory.setByte(WZ, tb);
+	F4(tb);
+	if (tb == 0x7f) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	if ((tb & 0x0f) == 0x0f) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	SETNF();
+	incPC();
+	return 19;
+      }
+
+      // fd 36
+      case 0x36: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	incPC();
+	memory.setByte(WZ, memory.getByte(PC));
+	incPC();
+	return 15;
+      }
+
+      // fd 39
+      case 0x39: {
+	WZ = (IY + 1) & 0xffff;
+	final int ti = IY + SP;
+	if ((((IY >> 8) ^ ((SP ^ ti) >> 8)) & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	IY = ti & 0xffff;
+	F2(IY >> 8);
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	CLEARNF();
+	incPC();
+	return 11;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions fd 40-fd 7f
+  private int executeFD1(final int opcode) {
+    switch (opcode) {
+
+      // fd 44 (undocumented)
+      case 0x44: {
+	B = IY >> 8;
+	incPC();
+	return 4;
+      }
+
+      // fd 45 (undocumented)
+      case 0x45: {
+	B = IY & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // fd 46
+      case 0x46: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // fd 4c (undocumented)
+      case 0x4c: {
+	C = IY >> 8;
+	incPC();
+	return 4;
+      }
+
+      // fd 4d (undocumented)
+      case 0x4d: {
+	C = IY & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // fd 4e
+      case 0x4e: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // fd 54 (undocumented)
+      case 0x54: {
+	D = IY >> 8;
+	incPC();
+	return 4;
+      }
+
+      // fd 55 (undocumented)
+      case 0x55: {
+	D = IY & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // fd 56
+      case 0x56: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // fd 5c (undocumented)
+      case 0x5c: {
+	E = IY >> 8;
+	incPC();
+	return 4;
+      }
+
+      // fd 5d (undocumented)
+      case 0x5d: {
+	E = IY & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // fd 5e
+      case 0x5e: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // fd 60 (undocumented)
+      case 0x60: {
+	IY = (B << 8) + (IY & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // fd 61 (undocumented)
+      case 0x61: {
+	IY = (C << 8) + (IY & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // fd 62 (undocumented)
+      case 0x62: {
+	IY = (D << 8) + (IY & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // fd 63 (undocumented)
+      case 0x63: {
+	IY = (E << 8) + (IY & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // fd 64 (undocumented)
+      case 0x64: {
+	incPC();
+	return 4;
+      }
+
+      // fd 65 (undocumented)
+      case 0x65: {
+	IY = ((IY & 0xff) << 8) + (IY & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // fd 66
+      case 0x66: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // fd 67 (undocumented)
+      case 0x67: {
+	IY = (A << 8) + (IY & 0xff);
+	incPC();
+	return 4;
+      }
+
+      // fd 68 (undocumented)
+      case 0x68: {
+	IY = (IY & 0xff00) + B;
+	incPC();
+	return 4;
+      }
+
+      // fd 69 (undocumented)
+      case 0x69: {
+	IY = (IY & 0xff00) + C;
+	incPC();
+	return 4;
+      }
+
+      // fd 6a (undocumented)
+      case 0x6a: {
+	IY = (IY & 0xff00) + D;
+	incPC();
+	return 4;
+      }
+
+      // fd 6b (undocumented)
+      case 0x6b: {
+	IY = (IY & 0xff00) + E;
+	incPC();
+	return 4;
+      }
+
+      // fd 6c (undocumented)
+      case 0x6c: {
+	IY = (IY & 0xff00) + (IY >> 8);
+	incPC();
+	return 4;
+      }
+
+      // fd 6d (undocumented)
+      case 0x6d: {
+	incPC();
+	return 4;
+      }
+
+      // fd 6e
+      case 0x6e: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+
+      // fd 6f (undocumented)
+      case 0x6f: {
+	IY = (IY & 0xff00) + A;
+	incPC();
+	return 4;
+      }
+
+      // fd 70
+      case 0x70: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, B);
+	incPC();
+	return 15;
+      }
+
+      // fd 71
+      case 0x71: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, C);
+	incPC();
+	return 15;
+      }
+
+      // fd 72
+      case 0x72: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, D);
+	incPC();
+	return 15;
+      }
+
+      // fd 73
+      case 0x73: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, E);
+	incPC();
+	return 15;
+      }
+
+      // fd 74
+      case 0x74: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, H);
+	incPC();
+	return 15;
+      }
+
+      // fd 75
+      case 0x75: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, L);
+	incPC();
+	return 15;
+      }
+
+      // fd 77
+      case 0x77: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, A);
+	incPC();
+	return 15;
+      }
+
+      // fd 7c (undocumented)
+      case 0x7c: {
+	A = IY >> 8;
+	incPC();
+	return 4;
+      }
+
+      // fd 7d (undocumented)
+      case 0x7d: {
+	A = IY & 0xff;
+	incPC();
+	return 4;
+      }
+
+      // fd 7e
+      case 0x7e: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ);
+	incPC();
+	return 15;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions fd 80-fd bf
+  private int executeFD2(final int opcode) {
+    switch (opcode) {
+
+      // fd 84 (undocumented)
+      case 0x84: {
+	final int tw = A + (IY >> 8);
+	final int cb = A ^ (IY >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 85 (undocumented)
+      case 0x85: {
+	final int tw = A + (IY & 0xff);
+	final int cb = A ^ (IY & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 86
+      case 0x86: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A + tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // fd 8c (undocumented)
+      case 0x8c: {
+	final int tw = A + (IY >> 8) + (F & CF);
+	final int cb = A ^ (IY >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 8d (undocumented)
+      case 0x8d: {
+	final int tw = A + (IY & 0xff) + (F & CF);
+	final int cb = A ^ (IY & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 8e
+      case 0x8e: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A + tb + (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	CLEARNF();
+	incPC();
+	return 15;
+      }
+
+      // fd 94 (undocumented)
+      case 0x94: {
+	final int tw = A - (IY >> 8);
+	final int cb = A ^ (IY >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 95 (undocumented)
+      case 0x95: {
+	final int tw = A - (IY & 0xff);
+	final int cb = A ^ (IY & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 96
+      case 0x96: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // fd 9c (undocumented)
+      case 0x9c: {
+	final int tw = A - (IY >> 8) - (F & CF);
+	final int cb = A ^ (IY >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 9d (undocumented)
+      case 0x9d: {
+	final int tw = A - (IY & 0xff) - (F & CF);
+	final int cb = A ^ (IY & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd 9e
+      case 0x9e: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A - tb - (F & CF);
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	A = tw & 0xff;
+	F4(A);
+	SETNF();
+	incPC();
+	return 15;
+      }
+
+      // fd a4 (undocumented)
+      case 0xa4: {
+	A &= IY >> 8;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // fd a5 (undocumented)
+      case 0xa5: {
+	A &= IY & 0xff;
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // fd a6
+      case 0xa6: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	A &= memory.getByte(WZ);
+	SETHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 15;
+      }
+
+      // fd ac (undocumented)
+      case 0xac: {
+	A ^= IY >> 8;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // fd ad (undocumented)
+      case 0xad: {
+	A ^= IY & 0xff;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // fd ae
+      case 0xae: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	A ^= memory.getByte(WZ);
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 15;
+      }
+
+      // fd b4 (undocumented)
+      case 0xb4: {
+	A |= IY >> 8;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // fd b5 (undocumented)
+      case 0xb5: {
+	A |= IY & 0xff;
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 4;
+      }
+
+      // fd b6
+      case 0xb6: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	A |= memory.getByte(WZ);
+	CLEARHF();
+	CLEARCF();
+	CLEARNF();
+	F5(A);
+	incPC();
+	return 15;
+      }
+
+      // fd bc (undocumented)
+      case 0xbc: {
+	final int tw = A - (IY >> 8);
+	final int cb = A ^ (IY >> 8) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, IY >> 8);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd bd (undocumented)
+      case 0xbd: {
+	final int tw = A - (IY & 0xff);
+	final int cb = A ^ (IY & 0xff) ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, IY & 0xff);
+	SETNF();
+	incPC();
+	return 4;
+      }
+
+      // fd be
+      case 0xbe: {
+	incPC();
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	final int tw = A - tb;
+	final int cb = A ^ tb ^ tw;
+	if ((cb & 0x10) != 0) {
+	  SETHF();
+	} else {
+	  CLEARHF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	if (((cb ^ (cb >> 1)) & 0x80) != 0) {
+	  SETPF();
+	} else {
+	  CLEARPF();
+	}
+	F22(tw & 0xff, tb);
+	SETNF();
+	incPC();
+	return 15;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions fd c0-fd ff
+  private int executeFD3(final int opcode) {
+    switch (opcode) {
+
+      // fd e1
+      case 0xe1: {
+	IY = memory.getByte(SP);
+	incSP();
+	IY |= memory.getByte(SP) << 8;
+	incSP();
+	incPC();
+	return 10;
+      }
+
+      // fd e3
+      case 0xe3: {
+	final int tb = memory.getByte(SP);
+	memory.setByte(SP, IY & 0xff);
+	final int tw = (SP + 1) & 0xffff;
+	final int ti = memory.getByte(tw);
+	memory.setByte(tw, IY >> 8);
+	WZ = IY = tb + (ti << 8);
+	incPC();
+	return 19;
+      }
+
+      // fd e5
+      case 0xe5: {
+	decSP();
+	memory.setByte(SP, IY >> 8);
+	decSP();
+	memory.setByte(SP, IY & 0xff);
+	incPC();
+	return 11;
+      }
+
+      // fd e9
+      case 0xe9: {
+	PC = IY;
+	return 4;
+      }
+
+      // fd f9
+      case 0xf9: {
+	SP = IY;
+	incPC();
+	return 6;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd cb 00-dd cb 3f
+  private int executeDDCB0(final int opcode) {
+    switch (opcode) {
+
+      // dd cb 00 (undocumented)
+      case 0x00: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 01 (undocumented)
+      case 0x01: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 02 (undocumented)
+      case 0x02: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 03 (undocumented)
+      case 0x03: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 04 (undocumented)
+      case 0x04: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 05 (undocumented)
+      case 0x05: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 06
+      case 0x06: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 07 (undocumented)
+      case 0x07: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 08 (undocumented)
+      case 0x08: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 09 (undocumented)
+      case 0x09: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 0a (undocumented)
+      case 0x0a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 0b (undocumented)
+      case 0x0b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 0c (undocumented)
+      case 0x0c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 0d (undocumented)
+      case 0x0d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 0e
+      case 0x0e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 0f (undocumented)
+      case 0x0f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 10 (undocumented)
+      case 0x10: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 11 (undocumented)
+      case 0x11: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 12 (undocumented)
+      case 0x12: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 13 (undocumented)
+      case 0x13: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 14 (undocumented)
+      case 0x14: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 15 (undocumented)
+      case 0x15: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 16
+      case 0x16: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 17 (undocumented)
+      case 0x17: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 18 (undocumented)
+      case 0x18: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	B = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 19 (undocumented)
+      case 0x19: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	C = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 1a (undocumented)
+      case 0x1a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	D = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 1b (undocumented)
+      case 0x1b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	E = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 1c (undocumented)
+      case 0x1c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	H = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 1d (undocumented)
+      case 0x1d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	L = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 1e
+      case 0x1e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 1f (undocumented)
+      case 0x1f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	A = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 20 (undocumented)
+      case 0x20: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 21 (undocumented)
+      case 0x21: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 22 (undocumented)
+      case 0x22: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 23 (undocumented)
+      case 0x23: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 24 (undocumented)
+      case 0x24: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 25 (undocumented)
+      case 0x25: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 26
+      case 0x26: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 27 (undocumented)
+      case 0x27: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 28 (undocumented)
+      case 0x28: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 29 (undocumented)
+      case 0x29: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 2a (undocumented)
+      case 0x2a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 2b (undocumented)
+      case 0x2b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 2c (undocumented)
+      case 0x2c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 2d (undocumented)
+      case 0x2d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 2e
+      case 0x2e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 2f (undocumented)
+      case 0x2f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 30 (undocumented)
+      case 0x30: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 31 (undocumented)
+      case 0x31: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 32 (undocumented)
+      case 0x32: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 33 (undocumented)
+      case 0x33: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 34 (undocumented)
+      case 0x34: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 35 (undocumented)
+      case 0x35: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 36
+      case 0x36: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 37 (undocumented)
+      case 0x37: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 38 (undocumented)
+      case 0x38: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 39 (undocumented)
+      case 0x39: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 3a (undocumented)
+      case 0x3a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 3b (undocumented)
+      case 0x3b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 3c (undocumented)
+      case 0x3c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 3d (undocumented)
+      case 0x3d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 3e
+      case 0x3e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 3f (undocumented)
+      case 0x3f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd cb 40-dd cb 7f
+  private int executeDDCB1(final int opcode) {
+    switch (opcode) {
+
+      // dd cb 40 (undocumented)
+      case 0x40: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 41 (undocumented)
+      case 0x41: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 42 (undocumented)
+      case 0x42: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 43 (undocumented)
+      case 0x43: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 44 (undocumented)
+      case 0x44: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 45 (undocumented)
+      case 0x45: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 46
+      case 0x46: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 47 (undocumented)
+      case 0x47: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 48 (undocumented)
+      case 0x48: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 49 (undocumented)
+      case 0x49: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 4a (undocumented)
+      case 0x4a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 4b (undocumented)
+      case 0x4b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 4c (undocumented)
+      case 0x4c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 4d (undocumented)
+      case 0x4d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 4e
+      case 0x4e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 4f (undocumented)
+      case 0x4f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 50 (undocumented)
+      case 0x50: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 51 (undocumented)
+      case 0x51: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 52 (undocumented)
+      case 0x52: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 53 (undocumented)
+      case 0x53: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 54 (undocumented)
+      case 0x54: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 55 (undocumented)
+      case 0x55: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 56
+      case 0x56: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 57 (undocumented)
+      case 0x57: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 58 (undocumented)
+      case 0x58: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 59 (undocumented)
+      case 0x59: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 5a (undocumented)
+      case 0x5a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 5b (undocumented)
+      case 0x5b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 5c (undocumented)
+      case 0x5c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 5d (undocumented)
+      case 0x5d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 5e
+      case 0x5e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 5f (undocumented)
+      case 0x5f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 60 (undocumented)
+      case 0x60: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 61 (undocumented)
+      case 0x61: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 62 (undocumented)
+      case 0x62: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 63 (undocumented)
+      case 0x63: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 64 (undocumented)
+      case 0x64: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 65 (undocumented)
+      case 0x65: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 66
+      case 0x66: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 67 (undocumented)
+      case 0x67: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 68 (undocumented)
+      case 0x68: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 69 (undocumented)
+      case 0x69: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 6a (undocumented)
+      case 0x6a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 6b (undocumented)
+      case 0x6b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 6c (undocumented)
+      case 0x6c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 6d (undocumented)
+      case 0x6d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 6e
+      case 0x6e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 6f (undocumented)
+      case 0x6f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 70 (undocumented)
+      case 0x70: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 71 (undocumented)
+      case 0x71: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 72 (undocumented)
+      case 0x72: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 73 (undocumented)
+      case 0x73: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 74 (undocumented)
+      case 0x74: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 75 (undocumented)
+      case 0x75: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 76
+      case 0x76: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 77 (undocumented)
+      case 0x77: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 78 (undocumented)
+      case 0x78: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 79 (undocumented)
+      case 0x79: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 7a (undocumented)
+      case 0x7a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 7b (undocumented)
+      case 0x7b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 7c (undocumented)
+      case 0x7c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 7d (undocumented)
+      case 0x7d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 7e
+      case 0x7e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // dd cb 7f (undocumented)
+      case 0x7f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd cb 80-dd cb bf
+  private int executeDDCB2(final int opcode) {
+    switch (opcode) {
+
+      // dd cb 80 (undocumented)
+      case 0x80: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 81 (undocumented)
+      case 0x81: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 82 (undocumented)
+      case 0x82: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 83 (undocumented)
+      case 0x83: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 84 (undocumented)
+      case 0x84: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 85 (undocumented)
+      case 0x85: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 86
+      case 0x86: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xfe);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 87 (undocumented)
+      case 0x87: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 88 (undocumented)
+      case 0x88: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 89 (undocumented)
+      case 0x89: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 8a (undocumented)
+      case 0x8a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 8b (undocumented)
+      case 0x8b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 8c (undocumented)
+      case 0x8c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 8d (undocumented)
+      case 0x8d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 8e
+      case 0x8e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xfd);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 8f (undocumented)
+      case 0x8f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 90 (undocumented)
+      case 0x90: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 91 (undocumented)
+      case 0x91: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 92 (undocumented)
+      case 0x92: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 93 (undocumented)
+      case 0x93: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 94 (undocumented)
+      case 0x94: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 95 (undocumented)
+      case 0x95: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 96
+      case 0x96: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xfb);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 97 (undocumented)
+      case 0x97: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 98 (undocumented)
+      case 0x98: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 99 (undocumented)
+      case 0x99: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 9a (undocumented)
+      case 0x9a: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 9b (undocumented)
+      case 0x9b: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 9c (undocumented)
+      case 0x9c: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 9d (undocumented)
+      case 0x9d: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 9e
+      case 0x9e: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xf7);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb 9f (undocumented)
+      case 0x9f: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a0 (undocumented)
+      case 0xa0: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a1 (undocumented)
+      case 0xa1: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a2 (undocumented)
+      case 0xa2: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a3 (undocumented)
+      case 0xa3: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a4 (undocumented)
+      case 0xa4: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a5 (undocumented)
+      case 0xa5: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a6
+      case 0xa6: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xef);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a7 (undocumented)
+      case 0xa7: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a8 (undocumented)
+      case 0xa8: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb a9 (undocumented)
+      case 0xa9: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb aa (undocumented)
+      case 0xaa: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ab (undocumented)
+      case 0xab: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ac (undocumented)
+      case 0xac: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ad (undocumented)
+      case 0xad: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ae
+      case 0xae: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xdf);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb af (undocumented)
+      case 0xaf: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b0 (undocumented)
+      case 0xb0: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b1 (undocumented)
+      case 0xb1: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b2 (undocumented)
+      case 0xb2: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b3 (undocumented)
+      case 0xb3: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b4 (undocumented)
+      case 0xb4: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b5 (undocumented)
+      case 0xb5: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b6
+      case 0xb6: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xbf);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b7 (undocumented)
+      case 0xb7: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b8 (undocumented)
+      case 0xb8: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb b9 (undocumented)
+      case 0xb9: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ba (undocumented)
+      case 0xba: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb bb (undocumented)
+      case 0xbb: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb bc (undocumented)
+      case 0xbc: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb bd (undocumented)
+      case 0xbd: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb be
+      case 0xbe: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0x7f);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb bf (undocumented)
+      case 0xbf: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions dd cb c0-dd cb ff
+  private int executeDDCB3(final int opcode) {
+    switch (opcode) {
+
+      // dd cb c0 (undocumented)
+      case 0xc0: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c1 (undocumented)
+      case 0xc1: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c2 (undocumented)
+      case 0xc2: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c3 (undocumented)
+      case 0xc3: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c4 (undocumented)
+      case 0xc4: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c5 (undocumented)
+      case 0xc5: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c6
+      case 0xc6: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x01);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c7 (undocumented)
+      case 0xc7: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c8 (undocumented)
+      case 0xc8: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb c9 (undocumented)
+      case 0xc9: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ca (undocumented)
+      case 0xca: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb cb (undocumented)
+      case 0xcb: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb cc (undocumented)
+      case 0xcc: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb cd (undocumented)
+      case 0xcd: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ce
+      case 0xce: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x02);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb cf (undocumented)
+      case 0xcf: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d0 (undocumented)
+      case 0xd0: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d1 (undocumented)
+      case 0xd1: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d2 (undocumented)
+      case 0xd2: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d3 (undocumented)
+      case 0xd3: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d4 (undocumented)
+      case 0xd4: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d5 (undocumented)
+      case 0xd5: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d6
+      case 0xd6: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x04);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d7 (undocumented)
+      case 0xd7: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d8 (undocumented)
+      case 0xd8: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb d9 (undocumented)
+      case 0xd9: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb da (undocumented)
+      case 0xda: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb db (undocumented)
+      case 0xdb: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb dc (undocumented)
+      case 0xdc: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb dd (undocumented)
+      case 0xdd: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb de
+      case 0xde: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x08);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb df (undocumented)
+      case 0xdf: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e0 (undocumented)
+      case 0xe0: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e1 (undocumented)
+      case 0xe1: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e2 (undocumented)
+      case 0xe2: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e3 (undocumented)
+      case 0xe3: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e4 (undocumented)
+      case 0xe4: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e5 (undocumented)
+      case 0xe5: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e6
+      case 0xe6: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x10);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e7 (undocumented)
+      case 0xe7: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e8 (undocumented)
+      case 0xe8: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb e9 (undocumented)
+      case 0xe9: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ea (undocumented)
+      case 0xea: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb eb (undocumented)
+      case 0xeb: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ec (undocumented)
+      case 0xec: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ed (undocumented)
+      case 0xed: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ee
+      case 0xee: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x20);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ef (undocumented)
+      case 0xef: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f0 (undocumented)
+      case 0xf0: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f1 (undocumented)
+      case 0xf1: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f2 (undocumented)
+      case 0xf2: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f3 (undocumented)
+      case 0xf3: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f4 (undocumented)
+      case 0xf4: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f5 (undocumented)
+      case 0xf5: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f6
+      case 0xf6: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x40);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f7 (undocumented)
+      case 0xf7: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f8 (undocumented)
+      case 0xf8: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb f9 (undocumented)
+      case 0xf9: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb fa (undocumented)
+      case 0xfa: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb fb (undocumented)
+      case 0xfb: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb fc (undocumented)
+      case 0xfc: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb fd (undocumented)
+      case 0xfd: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb fe
+      case 0xfe: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x80);
+	incPC(2);
+	return 19;
+      }
+
+      // dd cb ff (undocumented)
+      case 0xff: {
+	incPC(-1);
+	WZ = IX + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions fd cb 00-fd cb 3f
+  private int executeFDCB0(final int opcode) {
+    switch (opcode) {
+
+      // fd cb 00 (undocumented)
+      case 0x00: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 01 (undocumented)
+      case 0x01: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 02 (undocumented)
+      case 0x02: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 03 (undocumented)
+      case 0x03: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 04 (undocumented)
+      case 0x04: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 05 (undocumented)
+      case 0x05: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 06
+      case 0x06: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 07 (undocumented)
+      case 0x07: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) | (F & 1)) & 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 08 (undocumented)
+      case 0x08: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 09 (undocumented)
+      case 0x09: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 0a (undocumented)
+      case 0x0a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 0b (undocumented)
+      case 0x0b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 0c (undocumented)
+      case 0x0c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 0d (undocumented)
+      case 0x0d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 0e
+      case 0x0e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 0f (undocumented)
+      case 0x0f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb >> 1) | (F << 7)) & 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 10 (undocumented)
+      case 0x10: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 11 (undocumented)
+      case 0x11: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 12 (undocumented)
+      case 0x12: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 13 (undocumented)
+      case 0x13: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 14 (undocumented)
+      case 0x14: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 15 (undocumented)
+      case 0x15: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 16
+      case 0x16: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 17 (undocumented)
+      case 0x17: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	tb = (tb << 1) | (F & 1);
+	if ((tb & 0x100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb &= 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 18 (undocumented)
+      case 0x18: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	B = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 19 (undocumented)
+      case 0x19: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	C = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 1a (undocumented)
+      case 0x1a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	D = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 1b (undocumented)
+      case 0x1b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	E = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 1c (undocumented)
+      case 0x1c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	H = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 1d (undocumented)
+      case 0x1d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	L = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 1e
+      case 0x1e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 1f (undocumented)
+      case 0x1f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	final int ti = tb;
+	tb = (tb >> 1) | ((F & 1) << 7);
+	memory.setByte(WZ, tb);
+	A = tb;
+	if ((ti & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 20 (undocumented)
+      case 0x20: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 21 (undocumented)
+      case 0x21: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 22 (undocumented)
+      case 0x22: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 23 (undocumented)
+      case 0x23: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 24 (undocumented)
+      case 0x24: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 25 (undocumented)
+      case 0x25: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 26
+      case 0x26: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 27 (undocumented)
+      case 0x27: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb << 1) & 0xff;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 28 (undocumented)
+      case 0x28: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 29 (undocumented)
+      case 0x29: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 2a (undocumented)
+      case 0x2a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 2b (undocumented)
+      case 0x2b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 2c (undocumented)
+      case 0x2c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 2d (undocumented)
+      case 0x2d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 2e
+      case 0x2e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 2f (undocumented)
+      case 0x2f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = (tb & 0x80) | (tb >> 1);
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 30 (undocumented)
+      case 0x30: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 31 (undocumented)
+      case 0x31: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 32 (undocumented)
+      case 0x32: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 33 (undocumented)
+      case 0x33: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 34 (undocumented)
+      case 0x34: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 35 (undocumented)
+      case 0x35: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 36
+      case 0x36: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 37 (undocumented)
+      case 0x37: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb = ((tb << 1) & 0xff) | 1;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 38 (undocumented)
+      case 0x38: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	B = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 39 (undocumented)
+      case 0x39: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	C = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 3a (undocumented)
+      case 0x3a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	D = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 3b (undocumented)
+      case 0x3b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	E = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 3c (undocumented)
+      case 0x3c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	H = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 3d (undocumented)
+      case 0x3d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	L = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 3e
+      case 0x3e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 3f (undocumented)
+      case 0x3f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	int tb = memory.getByte(WZ);
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	tb >>= 1;
+	memory.setByte(WZ, tb);
+	A = tb;
+	F5(tb);
+	CLEARHF();
+	CLEARNF();
+	incPC(2);
+	return 19;
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions fd cb 40-fd cb 7f
+  private int executeFDCB1(final int opcode) {
+    switch (opcode) {
+
+      // fd cb 40 (undocumented)
+      case 0x40: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 41 (undocumented)
+      case 0x41: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 42 (undocumented)
+      case 0x42: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 43 (undocumented)
+      case 0x43: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 44 (undocumented)
+      case 0x44: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 45 (undocumented)
+      case 0x45: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 46
+      case 0x46: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 47 (undocumented)
+      case 0x47: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x01) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 48 (undocumented)
+      case 0x48: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 49 (undocumented)
+      case 0x49: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 4a (undocumented)
+      case 0x4a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 4b (undocumented)
+      case 0x4b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 4c (undocumented)
+      case 0x4c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 4d (undocumented)
+      case 0x4d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 4e
+      case 0x4e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 4f (undocumented)
+      case 0x4f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x02) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 50 (undocumented)
+      case 0x50: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 51 (undocumented)
+      case 0x51: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 52 (undocumented)
+      case 0x52: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 53 (undocumented)
+      case 0x53: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 54 (undocumented)
+      case 0x54: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 55 (undocumented)
+      case 0x55: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 56
+      case 0x56: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 57 (undocumented)
+      case 0x57: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x04) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 58 (undocumented)
+      case 0x58: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 59 (undocumented)
+      case 0x59: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 5a (undocumented)
+      case 0x5a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 5b (undocumented)
+      case 0x5b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 5c (undocumented)
+      case 0x5c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 5d (undocumented)
+      case 0x5d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 5e
+      case 0x5e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 5f (undocumented)
+      case 0x5f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x08) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 60 (undocumented)
+      case 0x60: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 61 (undocumented)
+      case 0x61: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 62 (undocumented)
+      case 0x62: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 63 (undocumented)
+      case 0x63: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 64 (undocumented)
+      case 0x64: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 65 (undocumented)
+      case 0x65: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 66
+      case 0x66: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 67 (undocumented)
+      case 0x67: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x10) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 68 (undocumented)
+      case 0x68: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 69 (undocumented)
+      case 0x69: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 6a (undocumented)
+      case 0x6a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 6b (undocumented)
+      case 0x6b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 6c (undocumented)
+      case 0x6c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
+	}
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 6d (undocumented)
+      case 0x6d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb eb (undocumented)
-    new Opcode("SET", "5,(IY<d>),E",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 6e
+      case 0x6e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb ec (undocumented)
-    new Opcode("SET", "5,(IY<d>),H",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 6f (undocumented)
+      case 0x6f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x20) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb ed (undocumented)
-    new Opcode("SET", "5,(IY<d>),L",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 70 (undocumented)
+      case 0x70: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb ee
-    new Opcode("SET", "5,(IY<d>)",
-	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x20);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 71 (undocumented)
+      case 0x71: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb ef (undocumented)
-    new Opcode("SET", "5,(IY<d>),A",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x20;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 72 (undocumented)
+      case 0x72: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f0 (undocumented)
-    new Opcode("SET", "6,(IY<d>),B",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 73 (undocumented)
+      case 0x73: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f1 (undocumented)
-    new Opcode("SET", "6,(IY<d>),C",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 74 (undocumented)
+      case 0x74: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f2 (undocumented)
-    new Opcode("SET", "6,(IY<d>),D",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 75 (undocumented)
+      case 0x75: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f3 (undocumented)
-    new Opcode("SET", "6,(IY<d>),E",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 76
+      case 0x76: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f4 (undocumented)
-    new Opcode("SET", "6,(IY<d>),H",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 77 (undocumented)
+      case 0x77: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x40) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f5 (undocumented)
-    new Opcode("SET", "6,(IY<d>),L",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
+	CLEARSF();
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 78 (undocumented)
+      case 0x78: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f6
-    new Opcode("SET", "6,(IY<d>)",
-	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x40);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 79 (undocumented)
+      case 0x79: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f7 (undocumented)
-    new Opcode("SET", "6,(IY<d>),A",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x40;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 7a (undocumented)
+      case 0x7a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f8 (undocumented)
-    new Opcode("SET", "7,(IY<d>),B",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  B = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, B);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 7b (undocumented)
+      case 0x7b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb f9 (undocumented)
-    new Opcode("SET", "7,(IY<d>),C",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  C = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, C);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 7c (undocumented)
+      case 0x7c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb fa (undocumented)
-    new Opcode("SET", "7,(IY<d>),D",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  D = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, D);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 7d (undocumented)
+      case 0x7d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb fb (undocumented)
-    new Opcode("SET", "7,(IY<d>),E",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  E = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, E);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 7e
+      case 0x7e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F22(tb, WZ >> 8);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb fc (undocumented)
-    new Opcode("SET", "7,(IY<d>),H",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  H = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, H);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
+	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
+      }
+
+      // fd cb 7f (undocumented)
+      case 0x7f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	final int tb = memory.getByte(WZ);
+	F4(tb);
+	if ((tb & 0x80) == 0) {
+	  SETZF();
+	  SETPF();
+	} else {
+	  CLEARZF();
+	  CLEARPF();
 	}
-      }
-      ),
-
-    // fd cb fd (undocumented)
-    new Opcode("SET", "7,(IY<d>),L",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  L = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, L);
-	  incPC(2);
-	  return 19;
+	if (ZFSET()) {
+	  CLEARSF();
+	} else {
+	  SETSF();
 	}
+	SETHF();
+	CLEARNF();
+	incPC(2);
+	return 16;
       }
-      ),
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
 
-    // fd cb fe
-    new Opcode("SET", "7,(IY<d>)",
-	       2,
-	       Processor.INS_MW | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  memory.setByte(WZ, memory.getByte(WZ) | 0x80);
-	  incPC(2);
-	  return 19;
-	}
+  // executes instructions fd cb 80-fd cb bf
+  private int executeFDCB2(final int opcode) {
+    switch (opcode) {
+
+      // fd cb 80 (undocumented)
+      case 0x80: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 81 (undocumented)
+      case 0x81: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 82 (undocumented)
+      case 0x82: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 83 (undocumented)
+      case 0x83: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 84 (undocumented)
+      case 0x84: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 85 (undocumented)
+      case 0x85: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 86
+      case 0x86: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xfe);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 87 (undocumented)
+      case 0x87: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xfe;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 88 (undocumented)
+      case 0x88: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 89 (undocumented)
+      case 0x89: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 8a (undocumented)
+      case 0x8a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 8b (undocumented)
+      case 0x8b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 8c (undocumented)
+      case 0x8c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 8d (undocumented)
+      case 0x8d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 8e
+      case 0x8e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xfd);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 8f (undocumented)
+      case 0x8f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xfd;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 90 (undocumented)
+      case 0x90: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 91 (undocumented)
+      case 0x91: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 92 (undocumented)
+      case 0x92: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 93 (undocumented)
+      case 0x93: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 94 (undocumented)
+      case 0x94: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 95 (undocumented)
+      case 0x95: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 96
+      case 0x96: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xfb);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 97 (undocumented)
+      case 0x97: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xfb;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 98 (undocumented)
+      case 0x98: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 99 (undocumented)
+      case 0x99: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 9a (undocumented)
+      case 0x9a: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 9b (undocumented)
+      case 0x9b: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 9c (undocumented)
+      case 0x9c: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 9d (undocumented)
+      case 0x9d: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 9e
+      case 0x9e: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xf7);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb 9f (undocumented)
+      case 0x9f: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xf7;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a0 (undocumented)
+      case 0xa0: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a1 (undocumented)
+      case 0xa1: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a2 (undocumented)
+      case 0xa2: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a3 (undocumented)
+      case 0xa3: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a4 (undocumented)
+      case 0xa4: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a5 (undocumented)
+      case 0xa5: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a6
+      case 0xa6: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xef);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a7 (undocumented)
+      case 0xa7: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xef;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a8 (undocumented)
+      case 0xa8: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb a9 (undocumented)
+      case 0xa9: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb aa (undocumented)
+      case 0xaa: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ab (undocumented)
+      case 0xab: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ac (undocumented)
+      case 0xac: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ad (undocumented)
+      case 0xad: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ae
+      case 0xae: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xdf);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb af (undocumented)
+      case 0xaf: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xdf;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b0 (undocumented)
+      case 0xb0: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b1 (undocumented)
+      case 0xb1: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b2 (undocumented)
+      case 0xb2: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b3 (undocumented)
+      case 0xb3: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b4 (undocumented)
+      case 0xb4: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b5 (undocumented)
+      case 0xb5: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b6
+      case 0xb6: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0xbf);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b7 (undocumented)
+      case 0xb7: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0xbf;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b8 (undocumented)
+      case 0xb8: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb b9 (undocumented)
+      case 0xb9: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ba (undocumented)
+      case 0xba: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb bb (undocumented)
+      case 0xbb: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb bc (undocumented)
+      case 0xbc: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb bd (undocumented)
+      case 0xbd: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb be
+      case 0xbe: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) & 0x7f);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb bf (undocumented)
+      case 0xbf: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) & 0x7f;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
       }
-      ),
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
 
-    // fd cb ff (undocumented)
-    new Opcode("SET", "7,(IY<d>),A",
-	       2,
-	       Processor.INS_UND | Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC(-1);
-	  WZ = IY + ((byte)memory.getByte(PC));
-	  A = memory.getByte(WZ) | 0x80;
-	  memory.setByte(WZ, A);
-	  incPC(2);
-	  return 19;
-	}
+  // executes instructions fd cb c0-fd cb ff
+  private int executeFDCB3(final int opcode) {
+    switch (opcode) {
+
+      // fd cb c0 (undocumented)
+      case 0xc0: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c1 (undocumented)
+      case 0xc1: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c2 (undocumented)
+      case 0xc2: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c3 (undocumented)
+      case 0xc3: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c4 (undocumented)
+      case 0xc4: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c5 (undocumented)
+      case 0xc5: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c6
+      case 0xc6: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x01);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c7 (undocumented)
+      case 0xc7: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x01;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c8 (undocumented)
+      case 0xc8: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb c9 (undocumented)
+      case 0xc9: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ca (undocumented)
+      case 0xca: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb cb (undocumented)
+      case 0xcb: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb cc (undocumented)
+      case 0xcc: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb cd (undocumented)
+      case 0xcd: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ce
+      case 0xce: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x02);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb cf (undocumented)
+      case 0xcf: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x02;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d0 (undocumented)
+      case 0xd0: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d1 (undocumented)
+      case 0xd1: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d2 (undocumented)
+      case 0xd2: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d3 (undocumented)
+      case 0xd3: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d4 (undocumented)
+      case 0xd4: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d5 (undocumented)
+      case 0xd5: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d6
+      case 0xd6: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x04);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d7 (undocumented)
+      case 0xd7: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x04;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d8 (undocumented)
+      case 0xd8: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb d9 (undocumented)
+      case 0xd9: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb da (undocumented)
+      case 0xda: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb db (undocumented)
+      case 0xdb: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb dc (undocumented)
+      case 0xdc: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb dd (undocumented)
+      case 0xdd: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb de
+      case 0xde: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x08);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb df (undocumented)
+      case 0xdf: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x08;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e0 (undocumented)
+      case 0xe0: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e1 (undocumented)
+      case 0xe1: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e2 (undocumented)
+      case 0xe2: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e3 (undocumented)
+      case 0xe3: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e4 (undocumented)
+      case 0xe4: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e5 (undocumented)
+      case 0xe5: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e6
+      case 0xe6: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x10);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e7 (undocumented)
+      case 0xe7: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x10;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e8 (undocumented)
+      case 0xe8: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb e9 (undocumented)
+      case 0xe9: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ea (undocumented)
+      case 0xea: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb eb (undocumented)
+      case 0xeb: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ec (undocumented)
+      case 0xec: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ed (undocumented)
+      case 0xed: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ee
+      case 0xee: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x20);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ef (undocumented)
+      case 0xef: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x20;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f0 (undocumented)
+      case 0xf0: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f1 (undocumented)
+      case 0xf1: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f2 (undocumented)
+      case 0xf2: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f3 (undocumented)
+      case 0xf3: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f4 (undocumented)
+      case 0xf4: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f5 (undocumented)
+      case 0xf5: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f6
+      case 0xf6: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x40);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f7 (undocumented)
+      case 0xf7: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x40;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f8 (undocumented)
+      case 0xf8: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	B = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, B);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb f9 (undocumented)
+      case 0xf9: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	C = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, C);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb fa (undocumented)
+      case 0xfa: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	D = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, D);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb fb (undocumented)
+      case 0xfb: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	E = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, E);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb fc (undocumented)
+      case 0xfc: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	H = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, H);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb fd (undocumented)
+      case 0xfd: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	L = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, L);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb fe
+      case 0xfe: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	memory.setByte(WZ, memory.getByte(WZ) | 0x80);
+	incPC(2);
+	return 19;
+      }
+
+      // fd cb ff (undocumented)
+      case 0xff: {
+	incPC(-1);
+	WZ = IY + ((byte)memory.getByte(PC));
+	A = memory.getByte(WZ) | 0x80;
+	memory.setByte(WZ, A);
+	incPC(2);
+	return 19;
       }
-      )
-  };
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
 
   /**
    * Gets an Opcode.
@@ -26997,142 +25397,114 @@ public class ZilogZ80 extends Device implements Processor, SystemClockSource {
   @Override
   public void exec(final long minCycles,
 		   final int mask,
-		   final List<Integer> breakpoints) {
+		   final Breakpoints breakpoints) {
     assert minCycles >= 0;
     final long endCycleCounter = cycleCounter + minCycles;
+    final CPUEventQueue schedule = CPUScheduler.getSchedule();
+    final AbstractMemory unwatchedMemory = memory;
+    if (breakpoints != null) {
+      memory = breakpoints.attach(this, memory);
+    }
 
-    while (!suspended) {
-      CPUScheduler.runSchedule(cycleCounter);
-      if (nmiPending) {
-	nmiPending = false;
-	R++;
-	IFF2 = IFF1;
-	IFF1 = false;
-	if (HALTED) {
-	  HALTED = false;
-	  incPC();
-	}
-	decSP();
-	memory.setByte(SP, PC >> 8);
-	decSP();
-	memory.setByte(SP, PC & 0xff);
-	PC = WZ = 0x0066;
-	cycleCounter += 11;
-      } else if ((interruptPending >= 0) && IFF1 && !TID) {
-	R++;
-	IFF1 = IFF2 = false;
-	if (HALTED) {
-	  HALTED = false;
-	  incPC();
-	}
-	switch (IM) {
-	  case 0:
-	    if ((interruptPending & 0xc7) == 0xc7) {  // RST
-	      PC = WZ = interruptPending & 0x38;
+    try {
+      while (!suspended) {
+	schedule.run(cycleCounter);
+	if (nmiPending) {
+	  nmiPending = false;
+	  R++;
+	  IFF2 = IFF1;
+	  IFF1 = false;
+	  if (HALTED) {
+	    HALTED = false;
+	    incPC();
+	  }
+	  decSP();
+	  memory.setByte(SP, PC >> 8);
+	  decSP();
+	  memory.setByte(SP, PC & 0xff);
+	  PC = WZ = 0x0066;
+	  cycleCounter += 11;
+	} else if ((interruptPending >= 0) && IFF1 && !TID) {
+	  R++;
+	  IFF1 = IFF2 = false;
+	  if (HALTED) {
+	    HALTED = false;
+	    incPC();
+	  }
+	  switch (IM) {
+	    case 0:
+	      if ((interruptPending & 0xc7) == 0xc7) {  // RST
+		PC = WZ = interruptPending & 0x38;
+		cycleCounter += 13;
+	      } else if ((interruptPending & 0xff) == 0xcd) {  // CALL
+		WZ = (interruptPending >> 8) & 0xffff;
+		decSP();
+		memory.setByte(SP, PC >> 8);
+		decSP();
+		memory.setByte(SP, PC & 0xff);
+		PC = WZ;
+		cycleCounter += 19;
+	      } else {  // something else, ignored
+		log.finer(String.format("Unsupported interrupt vector: 0x%x",
+					interruptPending));
+		cycleCounter += 6;
+	      }
+	      break;
+	    case 1:
+	      decSP();
+	      memory.setByte(SP, PC >> 8);
+	      decSP();
+	      memory.setByte(SP, PC & 0xff);
+	      PC = WZ = 0x38;
 	      cycleCounter += 13;
-	    } else if ((interruptPending & 0xff) == 0xcd) {  // CALL
-	      WZ = (interruptPending >> 8) & 0xffff;
+	      break;
+	    case 2:
 	      decSP();
 	      memory.setByte(SP, PC >> 8);
 	      decSP();
 	      memory.setByte(SP, PC & 0xff);
-	      PC = WZ;
+	      WZ = (I << 8) + (interruptPending & 0xff);  // documented: 0xfe
+	      PC = memory.getByte(WZ);
+	      incWZ();
+	      PC = WZ = PC + (memory.getByte(WZ) << 8);
 	      cycleCounter += 19;
-	    } else {  // something else, ignored
-	      log.finer(String.format("Unsupported interrupt vector: 0x%x",
-				      interruptPending));
-	      cycleCounter += 6;
-	    }
-	    break;
-	  case 1:
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = WZ = 0x38;
-	    cycleCounter += 13;
-	    break;
-	  case 2:
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    WZ = (I << 8) + (interruptPending & 0xff);  // documented: 0xfe
-	    PC = memory.getByte(WZ);
-	    incWZ();
-	    PC = WZ = PC + (memory.getByte(WZ) << 8);
-	    cycleCounter += 19;
-	    break;
-	}
-	interruptPending = -1;
-      } else if (HALTED) {
-	R++;
-	cycleCounter++;
-      } else {
-	TID = false;
-	int prefix = 0;
-	Opcode[] table = null;
-	int tb;
-	for (;;) {
-	  R++;
-	  tb = memory.getByte(PC);
-	  if ((tb == 0xdd) || (tb == 0xfd)) {
-	    prefix = tb;
-	    cycleCounter += 4;
-	    incPC();
-	    continue;
-	  }
-	  if (tb == 0xcb) {
-	    if (prefix == 0xdd) {
-	      incPC();
-	      table = opcodesDDCB;
-	    } else if (prefix == 0xfd) {
-	      incPC();
-	      table = opcodesFDCB;
-	    } else {
-	      R++;
-	      table = opcodesCB;
-	    }
-	    incPC();
-	    tb = memory.getByte(PC);
-	    break;
+	      break;
 	  }
-	  if (tb == 0xed) {
-	    table = opcodesED;
+	  interruptPending = -1;
+	} else if (HALTED) {
+	  R++;
+	  cycleCounter++;
+	} else {
+	  TID = false;
+	  R++;
+	  final int tb = memory.getByte(PC);
+	  final int index =
+	    ((tb == 0xcb) || (tb == 0xdd) || (tb == 0xed) || (tb == 0xfd)) ?
+	    decodePrefixed(tb) :
+	    tb;
+	  final Opcode opcode = decodeTable[index];
+	  if (opcode == null) {
 	    R++;
+	    cycleCounter += 4;
 	    incPC();
-	    tb = memory.getByte(PC);
-	    break;
-	  }
-	  if ((prefix == 0xdd) && (opcodesDD[tb] != null)) {
-	    table = opcodesDD;
-	  } else if ((prefix == 0xfd) && (opcodesFD[tb] != null)) {
-	    table = opcodesFD;
 	  } else {
-	    table = opcodes;
+	    if ((opcode.getType() & mask) != 0)
+	      break;
+	    if (Trace.ENABLED) {
+	      Trace.instruction(PC, index & 0xff, index >> 8);
+	    }
+	    cycleCounter += execute(index);
 	  }
-	  break;
 	}
-	final Opcode opcode = table[tb];
-	if (opcode == null) {
-	  R++;
-	  cycleCounter += 4;
-	  incPC();
-	} else {
-	  if ((opcode.getType() & mask) != 0)
-	    break;
-	  if (log.isLoggable(Level.FINER)) {
-	    log.finer(String.format("%s: executing '%s'",
-				    name,
-				    getDisassembly(PC).getSimplified()));
-	    log.finest(String.format("%s: state '%s'", name, CPUState()));
-	  }
-	  cycleCounter += opcode.exec();
+	if ((cycleCounter >= endCycleCounter) ||
+	    ((breakpoints != null) && breakpoints.isHit(PC))) {
+	  break;
 	}
       }
-      if ((cycleCounter >= endCycleCounter) ||
-	  ((breakpoints != null) && breakpoints.contains(PC))) {
-	break;
+    } finally {
+      if (breakpoints != null) {
+	memory = unwatchedMemory;
+	breakpoints.detach(this);
       }
     }
   }
@@ -118,7 +118,7 @@ public class DACAnalogHardware implements IOElement {
 			OUTER_COLOR,
 			INITIAL_ANGLE);
     timer = new Timer(READOUT_PERIOD, new TimerListener());
-    start = Parameters.systemClockSource.getSystemClock();
+    start = Parameters.getSystemClockSource().getSystemClock();
     timer.start();
     connect();
     log.fine("New DAC analog hardware created");
@@ -135,13 +135,13 @@ public class DACAnalogHardware implements IOElement {
 
   // connect to port
   private void connect() {
-    Parameters.cpu.addIOOutput(basePort, this);
+    Parameters.getCPU().addIOOutput(basePort, this);
     log.fine("Port connected");
   }
 
   // disconnect from port
   private void disconnect() {
-    Parameters.cpu.removeIOOutput(basePort, this);
+    Parameters.getCPU().removeIOOutput(basePort, this);
     log.fine("Port disconnected");
   }
 
@@ -176,7 +176,7 @@ public class DACAnalogHardware implements IOElement {
   // for description see IOElement
   @Override
   public synchronized void portOutput(final int port, final int data) {
-    long time = Parameters.systemClockSource.getSystemClock();
+    long time = Parameters.getSystemClockSource().getSystemClock();
     accumulator += currentValue * (time - lastChange);
     currentValue = data;
     lastChange = time;
@@ -184,7 +184,7 @@ public class DACAnalogHardware implements IOElement {
 
   // process timer tick
   private synchronized void timerTick() {
-    final long time = Parameters.systemClockSource.getSystemClock();
+    final long time = Parameters.getSystemClockSource().getSystemClock();
     assert time >= start;
     if (time != start) {
       accumulator += currentValue * (time - lastChange);
@@ -319,13 +319,13 @@ public class DACDigitalHardware implements IOElement {
 
   // connect to port
   private void connect() {
-    Parameters.cpu.addIOOutput(basePort, this);
+    Parameters.getCPU().addIOOutput(basePort, this);
     log.fine("Port connected");
   }
 
   // disconnect from port
   private void disconnect() {
-    Parameters.cpu.removeIOOutput(basePort, this);
+    Parameters.getCPU().removeIOOutput(basePort, this);
     log.fine("Port disconnected");
   }
 
@@ -360,7 +360,7 @@ public class DACDigitalHardware implements IOElement {
   // for description see IOElement
   @Override
   public synchronized void portOutput(final int port, final int data) {
-    long time = Parameters.systemClockSource.getSystemClock();
+    long time = Parameters.getSystemClockSource().getSystemClock();
     int q = 0;
     if (getButton(DACDigitalButtonsLayout.BUTTON_POSITION_AC).isPressed()) {
       final double t = (double)(time - lastChange) / Parameters.CPUFrequency;
@@ -379,13 +379,13 @@ public class DACDigitalHardware implements IOElement {
   private synchronized void startMeasurement() {
     accumulator = 0;
     altAccumulator = 0.0;
-    start = lastChange = Parameters.systemClockSource.getSystemClock();
+    start = lastChange = Parameters.getSystemClockSource().getSystemClock();
     log.finest("Voltage measurement started");
   }
 
   // end measurement
   private synchronized void endMeasurement() {
-    final long time = Parameters.systemClockSource.getSystemClock();
+    final long time = Parameters.getSystemClockSource().getSystemClock();
     assert time >= start;
     if (getButton(DACDigitalButtonsLayout.BUTTON_POSITION_AC).isPressed()) {
       final double t = (double)(time - lastChange) / Parameters.CPUFrequency;
@@ -35,6 +35,7 @@ import cz.pecina.retro.common.Parameters;
 import cz.pecina.retro.common.Application;
 
 import cz.pecina.retro.cpu.Intel8080A;
+import cz.pecina.retro.cpu.Breakpoints;
 
 import cz.pecina.retro.gui.BlockModel;
 import cz.pecina.retro.gui.PushButton;
@@ -178,6 +179,9 @@ public class DebuggerHardware {
    * List of breakpoints.
    */
   public final List<Integer> breakpointValues = new ArrayList<>();
+
+  // breakpoints passed to the CPU, kept in sync with breakpointValues
+  private final Breakpoints breakpointSet = new Breakpoints();
     
   /**
    * Lookup button for the register pair BC.
@@ -289,6 +293,7 @@ public class DebuggerHardware {
       breakpoints[i] = new SiSDBlock(blockModel, 4, false, true);
       breakpointValues.add(0xffff);
     }
+    breakpointSet.add(0xffff);
     lookUpBCButton.addMouseListener(new LookUpBC());
     lookUpDEButton.addMouseListener(new LookUpDE());
     lookUpHLButton.addMouseListener(new LookUpHL());
@@ -306,6 +311,25 @@ public class DebuggerHardware {
     return breakpointValues;
   }
 
+  /**
+   * Gets the breakpoints to be passed to the CPU.
+   *
+   * @return the breakpoints
+   */
+  public Breakpoints getBreakpoints() {
+    return breakpointSet;
+  }
+
+  /**
+   * Adds a temporary breakpoint.
+   *
+   * @param address address of the breakpoint
+   */
+  public void addTemporaryBreakpoint(final int address) {
+    breakpointValues.add(address);
+    breakpointSet.add(address);
+  }
+
   // converts Long to 16-bit unsigned integer
   private static int longTo16BitInt(final Object l) {
     return (int)((long)l & 0xffff);
@@ -315,8 +339,13 @@ public class DebuggerHardware {
    * Removes any temporary breakpoints.
    */
   public void removeTemporaryBreakpoints() {
-    while (breakpointValues.size() > NUMBER_BREAKPOINTS) {
-      breakpointValues.remove(NUMBER_BREAKPOINTS);
+    if (breakpointValues.size() > NUMBER_BREAKPOINTS) {
+      while (breakpointValues.size() > NUMBER_BREAKPOINTS) {
+	breakpointSet.remove(breakpointValues.remove(NUMBER_BREAKPOINTS));
+      }
+      for (int address: breakpointValues) {
+	breakpointSet.add(address);
+      }
     }
   }
 
@@ -377,9 +406,15 @@ public class DebuggerHardware {
    */
   public void update() {
     memoryAddressValue = longTo16BitInt(memoryAddress.getState());
+    for (int address: breakpointValues) {
+      breakpointSet.remove(address);
+    }
     for (int i = 0; i < NUMBER_BREAKPOINTS; i++) {
       breakpointValues.set(i, longTo16BitInt(breakpoints[i].getState()));
     }
+    for (int address: breakpointValues) {
+      breakpointSet.add(address);
+    }
     cpu.setPC(longTo16BitInt(programCounter.getState()));
     log.fine("Debugger display updated");
   }
@@ -391,7 +426,7 @@ public class DebuggerHardware {
       if (!memoryAddress.isBlank()) {
 	final int address = longTo16BitInt(memoryAddress.getState());
 	for (int column = 0; column < NUMBER_MEMORY_DATA; column++) {
-	  memoryData[column].setState(Parameters.memoryObject
+	  memoryData[column].setState(Parameters.getMemoryObject()
 	    .getByte((address + column) & 0xffff));
 	}
       }
@@ -0,0 +1,302 @@
+/* FrameBuffer.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.pecina.retro.gui;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+import java.util.Arrays;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import javax.swing.JComponent;
+
+/**
+ * Double-buffered framebuffer of an emulated display.
+ * <p>
+ * The emulation renders into the back buffer, an array of RGB
+ * pixels, recording the damaged span of each line.  At the frame
+ * boundary, which is a call to {@link #refresh}, the damaged spans
+ * are copied to the front buffer and the damaged areas, coalesced
+ * into rectangles, are repainted.  The event dispatch thread paints
+ * only the front buffer, so it always sees a complete frame and never
+ * touches the data the emulation writes.  If the previous frame has
+ * not been painted yet, the frame is skipped and its damage carried
+ * over to the next one, up to {@code MAX_SKIPPED_FRAMES} frames in
+ * a row.
+ * <p>
+ * A {@link FrameCapture} may be attached to receive every frame,
+ * painted or not.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class FrameBuffer extends JComponent implements Resizeable {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(FrameBuffer.class.getName());
+
+  // maximum number of frames skipped in a row
+  private static final int MAX_SKIPPED_FRAMES = 4;
+
+  // width in pixels
+  private final int frameWidth;
+
+  // height in pixels
+  private final int frameHeight;
+
+  /**
+   * The back buffer, to be written by the emulation.
+   */
+  protected final int[] pixels;
+
+  // the front buffer, painted on the event dispatch thread
+  private final BufferedImage image;
+
+  // pixels of the front buffer
+  private final int[] frontPixels;
+
+  // damaged pixels of each line, empty if first > last
+  private final int[] first;
+  private final int[] last;
+
+  // true if any line is damaged
+  private boolean damaged;
+
+  // true if a published frame is waiting to be painted
+  private volatile boolean pending;
+
+  // number of frames skipped in a row
+  private int skipped;
+
+  // the frame capture, null if none
+  private FrameCapture capture;
+
+  /**
+   * Creates a framebuffer.
+   *
+   * @param width  width in pixels
+   * @param height height in pixels
+   */
+  public FrameBuffer(final int width, final int height) {
+    assert (width > 0) && (height > 0);
+    frameWidth = width;
+    frameHeight = height;
+    pixels = new int[width * height];
+    image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    frontPixels = ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+    first = new int[height];
+    last = new int[height];
+    Arrays.fill(first, width);
+    Arrays.fill(last, -1);
+    redrawOnPixelResize();
+    GUI.addResizeable(this);
+    log.fine("New framebuffer created, size: " + width + "x" + height);
+  }
+
+  /**
+   * Marks pixels of a line as damaged.
+   *
+   * @param line   the line
+   * @param start  the first damaged pixel
+   * @param number the number of damaged pixels
+   */
+  protected void damage(final int line, final int start, final int number) {
+    assert (line >= 0) && (line < frameHeight);
+    assert (start >= 0) && (number > 0) && ((start + number) <= frameWidth);
+    if (start < first[line]) {
+      first[line] = start;
+    }
+    if ((start + number - 1) > last[line]) {
+      last[line] = start + number - 1;
+    }
+    damaged = true;
+  }
+
+  /**
+   * Ends the frame: publishes the damaged areas of the back buffer
+   * to the front buffer and repaints them.
+   */
+  public void refresh() {
+    if (capture != null) {
+      capture.capture(pixels);
+    }
+    if (!damaged) {
+      log.finest("Framebuffer not damaged");
+      return;
+    }
+    if (pending && isShowing() && (skipped < MAX_SKIPPED_FRAMES)) {
+      skipped++;
+      log.finer("Frame skipped");
+      return;
+    }
+    skipped = 0;
+    synchronized (image) {
+      for (int line = 0; line < frameHeight; line++) {
+	if (first[line] <= last[line]) {
+	  final int start = (line * frameWidth) + first[line];
+	  System.arraycopy(pixels,
+			   start,
+			   frontPixels,
+			   start,
+			   last[line] - first[line] + 1);
+	}
+      }
+    }
+    pending = true;
+    int top = -1;
+    int left = 0;
+    int right = 0;
+    for (int line = 0; line <= frameHeight; line++) {
+      final boolean clean =
+	(line == frameHeight) || (first[line] > last[line]);
+      if ((top >= 0) &&
+	  (clean ||
+	   (first[line] > (right + 1)) ||
+	   (last[line] < (left - 1)))) {
+	repaintRectangle(left, top, right - left + 1, line - top);
+	top = -1;
+      }
+      if (!clean) {
+	if (top < 0) {
+	  top = line;
+	  left = first[line];
+	  right = last[line];
+	} else {
+	  left = Math.min(left, first[line]);
+	  right = Math.max(right, last[line]);
+	}
+	first[line] = frameWidth;
+	last[line] = -1;
+      }
+    }
+    damaged = false;
+    log.finest("Frame published");
+  }
+
+  // repaints a rectangle, in base-size pixels
+  private void repaintRectangle(final int x,
+				final int y,
+				final int w,
+				final int h) {
+    if (log.isLoggable(Level.FINER)) {
+      log.finer("Repainting rectangle (" + x + "," + y + "," + w + "," +
+		h + ")");
+    }
+    final int pixelSize = GUI.getPixelSize();
+    repaint(x * pixelSize, y * pixelSize, w * pixelSize, h * pixelSize);
+  }
+
+  /**
+   * Attaches a frame capture, replacing any previous one.
+   *
+   * @param capture the frame capture, {@code null} to detach
+   */
+  public void setCapture(final FrameCapture capture) {
+    this.capture = capture;
+    log.fine("Frame capture " + ((capture == null) ? "detached" : "attached"));
+  }
+
+  /**
+   * Gets the width of the frame.
+   *
+   * @return the width in pixels
+   */
+  public int getFrameWidth() {
+    return frameWidth;
+  }
+
+  /**
+   * Gets the height of the frame.
+   *
+   * @return the height in pixels
+   */
+  public int getFrameHeight() {
+    return frameHeight;
+  }
+
+  /**
+   * Gets the front buffer, containing the last frame published.
+   * The image must not be modified and should be read only while
+   * synchronized on it.
+   *
+   * @return the front buffer
+   */
+  public BufferedImage getImage() {
+    return image;
+  }
+
+  /**
+   * Places the framebuffer on the panel.
+   *
+   * @param container container where the bitmap will be placed
+   * @param positionX x-coordinate, in base-size pixels
+   * @param positionY y-coordinate, in base-size pixels
+   */
+  public void place(final JComponent container,
+		    final int positionX,
+		    final int positionY) {
+    assert container != null;
+    log.fine("Placing framebuffer, position: (" +
+	      positionX + "," + positionY + ")");
+    final int pixelSize = GUI.getPixelSize();
+    setBounds(positionX * pixelSize,
+	      positionY * pixelSize,
+	      frameWidth * pixelSize,
+	      frameHeight * pixelSize);
+    container.add(this);
+    log.finer("Framebuffer placed");
+  }
+
+  // for description see JComponent
+  @Override
+  protected void paintComponent(final Graphics graphics) {
+    log.finest("Repainting framebuffer");
+    final int pixelSize = GUI.getPixelSize();
+    synchronized (image) {
+      graphics.drawImage(image,
+			 0,
+			 0,
+			 frameWidth * pixelSize,
+			 frameHeight * pixelSize,
+			 null);
+    }
+    pending = false;
+    log.finest("Framebuffer repainted");
+  }
+
+  // for description see Resizeable
+  @Override
+  public void redrawOnPixelResize() {
+    log.finest("Framebuffer redraw started");
+    final int pixelSize = GUI.getPixelSize();
+    final Dimension dim =
+      new Dimension(frameWidth * pixelSize, frameHeight * pixelSize);
+    setMinimumSize(dim);
+    setPreferredSize(dim);
+    setMaximumSize(dim);
+    log.finest("Framebuffer redraw completed");
+  }
+}
@@ -0,0 +1,309 @@
+/* FrameCapture.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.pecina.retro.gui;
+
+import java.util.logging.Logger;
+
+import java.util.Locale;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Capture of the frames of a {@link FrameBuffer}, working with or
+ * without a display.
+ * <p>
+ * Every {@code interval}-th frame is copied into one of a few reusable
+ * pixel arrays and handed over to a background encoder thread, which
+ * writes it either as a PNG file or, if the name of the file ends with
+ * {@code .rgb}, appends it to a raw stream of 24-bit RGB pixels,
+ * without any header.  PNG files are numbered: {@code frame.png}
+ * is written as {@code frame-000000.png}, {@code frame-000001.png},
+ * etc.  If the encoder falls behind, the emulation waits for it, so no
+ * frames are lost.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class FrameCapture {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(FrameCapture.class.getName());
+
+  // number of pixel arrays
+  private static final int NUMBER_BUFFERS = 3;
+
+  // the output file
+  private final File file;
+
+  // true if writing a raw RGB stream
+  private final boolean raw;
+
+  // capture interval in frames
+  private final int interval;
+
+  // width and height of the frames in pixels
+  private final int width;
+  private final int height;
+
+  // pixel arrays ready to be filled
+  private final BlockingQueue<int[]> free;
+
+  // pixel arrays waiting to be encoded
+  private final BlockingQueue<int[]> filled;
+
+  // the encoder thread
+  private final Encoder encoder;
+
+  // number of frames seen so far
+  private long frames;
+
+  // the first error encountered by the encoder, null if none;
+  // unchecked exceptions and errors are wrapped
+  private volatile IOException error;
+
+  // empty array terminating the encoder
+  private static final int[] END = new int[0];
+
+  /**
+   * Creates a frame capture and starts the encoder thread.
+   *
+   * @param file     the output file
+   * @param interval capture interval, every {@code interval}-th
+   *                 frame is written
+   * @param width    width of the frames in pixels
+   * @param height   height of the frames in pixels
+   */
+  public FrameCapture(final File file,
+		      final int interval,
+		      final int width,
+		      final int height) {
+    assert file != null;
+    assert (interval > 0) && (width > 0) && (height > 0);
+    this.file = file;
+    this.interval = interval;
+    this.width = width;
+    this.height = height;
+    raw = file.getName().toLowerCase(Locale.ROOT).endsWith(".rgb");
+    free = new ArrayBlockingQueue<>(NUMBER_BUFFERS);
+    filled = new ArrayBlockingQueue<>(NUMBER_BUFFERS + 1);
+    for (int i = 0; i < NUMBER_BUFFERS; i++) {
+      free.add(new int[width * height]);
+    }
+    encoder = new Encoder();
+    encoder.start();
+    log.fine("New frame capture created, file: " + file +
+	     ", interval: " + interval);
+  }
+
+  /**
+   * Processes one frame.
+   *
+   * @param pixels the pixels of the frame
+   */
+  public void capture(final int[] pixels) {
+    assert pixels.length == (width * height);
+    checkError();
+    if ((frames++ % interval) != 0) {
+      return;
+    }
+    final int[] buffer = take(free);
+    System.arraycopy(pixels, 0, buffer, 0, buffer.length);
+    put(buffer);
+    log.finer("Frame captured");
+  }
+
+  /**
+   * Writes the remaining frames and stops the encoder thread.
+   */
+  public void close() {
+    put(END);
+    boolean interrupted = false;
+    while (true) {
+      try {
+	encoder.join();
+	break;
+      } catch (final InterruptedException exception) {
+	interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    checkError();
+    log.fine("Frame capture closed, frames: " + frames);
+  }
+
+  /**
+   * Gets the number of frames seen so far.
+   *
+   * @return the number of frames
+   */
+  public long getFrames() {
+    return frames;
+  }
+
+  // rethrows an error of the encoder
+  private void checkError() {
+    if (error != null) {
+      throw new UncheckedIOException("Error writing frames: " + file, error);
+    }
+  }
+
+  // takes a pixel array from a queue, without being interrupted
+  private static int[] take(final BlockingQueue<int[]> queue) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+	try {
+	  return queue.take();
+	} catch (final InterruptedException exception) {
+	  interrupted = true;
+	}
+      }
+    } finally {
+      if (interrupted) {
+	Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  // hands a pixel array over to the encoder
+  private void put(final int[] buffer) {
+    if (!filled.offer(buffer)) {
+      throw new IllegalStateException("Frame queue overflow");
+    }
+  }
+
+  // the encoder thread
+  private class Encoder extends Thread {
+
+    // image the frames are encoded from
+    private final BufferedImage image;
+
+    // pixels of the image
+    private final int[] imagePixels;
+
+    // creates the encoder thread
+    private Encoder() {
+      super("Frame encoder");
+      setDaemon(true);
+      if (raw) {
+	image = null;
+	imagePixels = null;
+      } else {
+	image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+	imagePixels =
+	  ((DataBufferInt)image.getRaster().getDataBuffer()).getData();
+      }
+    }
+
+    // for description see Thread
+    @Override
+    public void run() {
+      log.fine("Frame encoder started");
+      OutputStream stream = null;
+      final byte[] line = new byte[width * 3];
+      long index = 0;
+      int[] buffer = null;
+      try {
+	if (raw) {
+	  stream = new BufferedOutputStream(new FileOutputStream(file));
+	}
+	for (buffer = take(filled); buffer != END; buffer = take(filled)) {
+	  if (raw) {
+	    writeRaw(stream, buffer, line);
+	  } else {
+	    System.arraycopy(buffer, 0, imagePixels, 0, buffer.length);
+	    if (!ImageIO.write(image, "PNG", getFile(index))) {
+	      throw new IOException("Error writing the frame");
+	    }
+	  }
+	  free.add(buffer);
+	  buffer = null;
+	  index++;
+	}
+      } catch (final IOException | RuntimeException | Error exception) {
+	log.fine("Error, exception: " + exception);
+	error = (exception instanceof IOException) ?
+	  (IOException)exception :
+	  new IOException(exception);
+
+	// keep releasing the arrays until the capture is closed, so that
+	// capture() never waits for an array that is not coming back
+	if (buffer != null) {
+	  free.add(buffer);
+	}
+	for (buffer = take(filled); buffer != END; buffer = take(filled)) {
+	  free.add(buffer);
+	}
+      } finally {
+	if (stream != null) {
+	  try {
+	    stream.close();
+	  } catch (final IOException exception) {
+	    if (error == null) {
+	      error = exception;
+	    }
+	  }
+	}
+      }
+      log.fine("Frame encoder stopped, frames written: " + index);
+    }
+  }
+
+  // writes one frame to the raw stream
+  private void writeRaw(final OutputStream stream,
+			final int[] buffer,
+			final byte[] line) throws IOException {
+    for (int y = 0, i = 0; y < height; y++) {
+      for (int x = 0, j = 0; x < width; x++, i++) {
+	final int rgb = buffer[i];
+	line[j++] = (byte)(rgb >> 16);
+	line[j++] = (byte)(rgb >> 8);
+	line[j++] = (byte)rgb;
+      }
+      stream.write(line);
+    }
+  }
+
+  // gets the name of a numbered PNG file
+  private File getFile(final long index) {
+    final String name = file.getName();
+    final int dot = name.lastIndexOf('.');
+    final String base = (dot < 0) ? name : name.substring(0, dot);
+    final String extension = (dot < 0) ? ".png" : name.substring(dot);
+    return new File(file.getParentFile(),
+		    String.format("%s-%06d%s", base, index, extension));
+  }
+}
@@ -29,6 +29,8 @@ import java.awt.Image;
 
 import javax.swing.JFrame;
 
+import cz.pecina.retro.common.MachineContext;
+
 /**
  * Main package class.
  *
@@ -91,11 +93,15 @@ public class GUI {
 
   /**
    * Adds an item to the list of objects that must be redrawn
-   * on pixel size change.
+   * on pixel size change.  Items created for headless machines
+   * are ignored.
    *
    * @param item item to be added
    */
   public static void addResizeable(final Resizeable item) {
+    if (MachineContext.getCurrent().isHeadless()) {
+      return;
+    }
     resizeables.add(item);
     if (item instanceof JFrame) {
       ((JFrame)item).setResizable(false);
@@ -90,8 +90,8 @@ public class LEDMatrixHardware implements IOElement {
   // connect to ports
   private void connect() {
     for (int i = 0; i < 3; i++) {
-      Parameters.cpu.addIOOutput((basePort + i) & 0xff, this);
-      Parameters.cpu.addIOInput((basePort + i) & 0xff, this);
+      Parameters.getCPU().addIOOutput((basePort + i) & 0xff, this);
+      Parameters.getCPU().addIOInput((basePort + i) & 0xff, this);
     }
     log.fine("Ports connected");
   }
@@ -99,8 +99,8 @@ public class LEDMatrixHardware implements IOElement {
   // disconnect from ports
   private void disconnect() {
     for (int i = 0; i < 3; i++) {
-      Parameters.cpu.removeIOOutput((basePort + i) & 0xff, this);
-      Parameters.cpu.removeIOInput((basePort + i) & 0xff, this);
+      Parameters.getCPU().removeIOOutput((basePort + i) & 0xff, this);
+      Parameters.getCPU().removeIOInput((basePort + i) & 0xff, this);
     }
     log.fine("Ports disconnected");
   }
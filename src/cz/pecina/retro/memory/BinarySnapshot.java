@@ -0,0 +1,586 @@
+/* BinarySnapshot.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.util.logging.Logger;
+
+import java.util.List;
+import java.util.Locale;
+
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.DataFormatException;
+
+import java.io.File;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.StandardOpenOption;
+
+import org.jdom2.Element;
+
+import cz.pecina.retro.common.Application;
+
+import cz.pecina.retro.cpu.Hardware;
+import cz.pecina.retro.cpu.Device;
+import cz.pecina.retro.cpu.Descriptor;
+import cz.pecina.retro.cpu.Register;
+import cz.pecina.retro.cpu.Block;
+import cz.pecina.retro.cpu.SaveState;
+
+/**
+ * Binary hardware snapshot reader/writer.
+ * <p>
+ * The binary snapshot holds the same information as the XML snapshot
+ * written by {@link Snapshot}, but is much faster to write and read.
+ * The file is a sequence of big-endian fields:
+ * <pre>
+ *   int    magic number ({@link #MAGIC})
+ *   short  format version
+ *   string name of the hardware set
+ *   short  number of devices
+ *   for each device:
+ *     string name of the device
+ *     short  number of descriptors
+ *     for each descriptor:
+ *       byte   kind (register or block)
+ *       string name of the descriptor
+ *       register: byte type, followed by an int, a long or a string
+ *       block:    int size, byte encoding, int length, length bytes
+ * </pre>
+ * Strings are stored as a short length followed by UTF-8 bytes.
+ * Block contents are stored either raw or deflated, whichever
+ * is shorter.  As with XML snapshots, the state of the hardware is
+ * saved before loading and restored if the snapshot turns out to be
+ * invalid.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class BinarySnapshot extends MemoryProcessor {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(BinarySnapshot.class.getName());
+
+  /**
+   * The magic number identifying binary snapshots ("RSNP").
+   */
+  public static final int MAGIC = 0x52534e50;
+
+  /**
+   * The default extension of binary snapshot files.
+   */
+  public static final String EXTENSION = "snp";
+
+  // binary file version
+  private static final int SNAPSHOT_BINARY_FILE_VERSION = 1;
+
+  // descriptor kinds
+  private static final int KIND_REGISTER = 1;
+  private static final int KIND_BLOCK = 2;
+
+  // register value types
+  private static final int TYPE_INT = 1;
+  private static final int TYPE_LONG = 2;
+  private static final int TYPE_STRING = 3;
+
+  // block encodings
+  private static final int ENCODING_RAW = 0;
+  private static final int ENCODING_DEFLATED = 1;
+
+  /**
+   * Creates an instance of {@code BinarySnapshot} reader/writer.
+   *
+   * @param hardware hardware set
+   */
+  public BinarySnapshot(final Hardware hardware) {
+    super(hardware);
+    log.fine("New BinarySnapshot created");
+  }
+
+  /**
+   * Checks if a file name has the binary snapshot extension.
+   *
+   * @param  file the file
+   * @return      {@code true} if the name ends with {@link #EXTENSION}
+   */
+  public static boolean hasExtension(final File file) {
+    return file.getName().toLowerCase(Locale.ROOT).endsWith("." + EXTENSION);
+  }
+
+  /**
+   * Checks if a file is a binary snapshot, i.e., if it starts with
+   * the magic number.
+   *
+   * @param  file the file
+   * @return      {@code true} if the file is a binary snapshot
+   */
+  public static boolean isBinary(final File file) {
+    try (final FileChannel channel =
+	 FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final ByteBuffer buffer = ByteBuffer.allocate(4);
+      while (buffer.hasRemaining() && (channel.read(buffer) >= 0));
+      buffer.flip();
+      return (buffer.remaining() == 4) && (buffer.getInt() == MAGIC);
+    } catch (final IOException exception) {
+      return false;
+    }
+  }
+
+  /**
+   * Writes a hardware snapshot to a byte array.
+   *
+   * @return the snapshot
+   */
+  public byte[] save() {
+    log.fine("Saving binary snapshot");
+    final Output output = new Output();
+    try {
+      output.start(hardware.getName(), hardware.size());
+      for (Device device: hardware) {
+	device.preMarshal();
+	output.device(device.getName(), device.size());
+	for (Descriptor descriptor: device) {
+	  if (descriptor instanceof Block) {
+	    final byte[] memory = ((Block)descriptor).getReadOnlyMemory();
+	    output.block(descriptor.getName(), memory, memory.length);
+	  } else {
+	    output.register(descriptor.getName(),
+			    ((Register)descriptor).getValue());
+	  }
+	}
+	device.postMarshal();
+      }
+      return output.finish();
+    } catch (final IOException exception) {
+      log.fine("Error, saving failed, exception: " + exception.getMessage());
+      throw Application.createError(this, "binaryWrite");
+    } finally {
+      output.end();
+    }
+  }
+
+  /**
+   * Sets hardware according to a snapshot.  As with XML snapshots,
+   * devices and descriptors the hardware does not have are ignored.
+   * If the snapshot is invalid, the hardware is left unchanged.
+   *
+   * @param buffer the snapshot
+   */
+  public void load(final ByteBuffer buffer) {
+    log.fine("Loading binary snapshot");
+    final SaveState state = hardware.saveState();
+    try {
+      apply(buffer);
+    } catch (final RuntimeException exception) {
+      log.fine("Loading failed, restoring the previous state");
+      hardware.restoreState(state);
+      throw exception;
+    }
+    log.fine("Loading completed");
+  }
+
+  // applies a snapshot to the hardware
+  private void apply(final ByteBuffer buffer) {
+    parse(buffer, new Sink() {
+	private Device device;
+	@Override
+	public void device(final String name) {
+	  device = hardware.getDeviceByName(name);
+	  if (device != null) {
+	    device.preUnmarshal();
+	  }
+	}
+	@Override
+	public void register(final String name, final String value) {
+	  final Descriptor descriptor = find(name);
+	  if (descriptor instanceof Register) {
+	    ((Register)descriptor).processValue(value);
+	  }
+	}
+	@Override
+	public void block(final String name,
+			  final byte[] data,
+			  final int length) {
+	  final Descriptor descriptor = find(name);
+	  if (descriptor instanceof Block) {
+	    final Block block = (Block)descriptor;
+	    block.update(data,
+			 Math.min(length, block.getReadOnlyMemory().length));
+	  }
+	}
+	@Override
+	public void endDevice() {
+	  if (device != null) {
+	    device.postUnmarshal();
+	  }
+	}
+	private Descriptor find(final String name) {
+	  return (device == null) ? null : device.getDescriptorByName(name);
+	}
+      });
+  }
+
+  /**
+   * Writes a hardware snapshot to a file.
+   *
+   * @param file output file
+   */
+  public void write(final File file) {
+    log.fine("Writing binary snapshot to a file, file: " + file.getName());
+    writeFile(save(), file);
+    log.fine("Writing completed");
+  }
+
+  /**
+   * Reads a snapshot from a file and sets hardware accordingly.
+   *
+   * @param file input file
+   */
+  public void read(final File file) {
+    log.fine("Reading binary snapshot from a file, file: " + file.getName());
+    load(readFile(file));
+    log.fine("Reading completed");
+  }
+
+  /**
+   * Converts a binary snapshot to a JDOM tree identical to
+   * the one produced by {@link Snapshot}.
+   *
+   * @param buffer the snapshot
+   * @param root   the {@code <snapshot>} element to be filled in
+   */
+  public static void toElement(final ByteBuffer buffer, final Element root) {
+    log.fine("Converting binary snapshot to XML");
+    final String name = parse(buffer, new Sink() {
+	private Element device;
+	@Override
+	public void device(final String name) {
+	  device = new Element("device");
+	  device.setAttribute("name", name);
+	  root.addContent(device);
+	}
+	@Override
+	public void register(final String name, final String value) {
+	  final Element register = new Element("register");
+	  register.setAttribute("name", name);
+	  register.addContent(value);
+	  device.addContent(register);
+	}
+	@Override
+	public void block(final String name,
+			  final byte[] data,
+			  final int length) {
+	  final Element block = new Element("block");
+	  block.setAttribute("name", name);
+	  Snapshot.buildBlockElement(data, block, 0, length);
+	  device.addContent(block);
+	}
+      });
+    root.setAttribute("name", name);
+  }
+
+  /**
+   * Converts a JDOM tree read by {@link Snapshot} to a binary snapshot.
+   *
+   * @param  root the {@code <snapshot>} element
+   * @return      the snapshot
+   */
+  public static byte[] fromElement(final Element root) {
+    log.fine("Converting XML snapshot to binary");
+    final Output output = new Output();
+    final byte[] memory = new byte[0x10000];
+    try {
+      final List<Element> devices = root.getChildren("device");
+      output.start(root.getAttributeValue("name"), devices.size());
+      for (Element device: devices) {
+	final List<Element> descriptors = device.getChildren();
+	output.device(device.getAttributeValue("name"), descriptors.size());
+	for (Element descriptor: descriptors) {
+	  final String name = descriptor.getAttributeValue("name");
+	  if (descriptor.getName().equals("block")) {
+	    final Info info = Snapshot.processBlockElement(memory, descriptor, 0);
+	    output.block(name, memory,
+			 (info.number == 0) ? 0 : (info.maxAddress + 1));
+	  } else {
+	    output.register(name, descriptor.getTextTrim());
+	  }
+	}
+      }
+      return output.finish();
+    } catch (final IOException exception) {
+      log.fine("Error, conversion failed, exception: " +
+	       exception.getMessage());
+      throw Application.createError(BinarySnapshot.class, "binaryWrite");
+    } finally {
+      output.end();
+    }
+  }
+
+  /**
+   * Writes a binary snapshot to a file.
+   *
+   * @param snapshot the snapshot
+   * @param file     output file
+   */
+  public static void writeFile(final byte[] snapshot, final File file) {
+    try (final FileChannel channel =
+	 FileChannel.open(file.toPath(),
+			  StandardOpenOption.CREATE,
+			  StandardOpenOption.WRITE,
+			  StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+      while (buffer.hasRemaining()) {
+	channel.write(buffer);
+      }
+    } catch (final IOException exception) {
+      log.fine("Error, writing failed, exception: " + exception.getMessage());
+      throw Application.createError(BinarySnapshot.class, "binaryWrite");
+    }
+  }
+
+  /**
+   * Reads a binary snapshot from a file.
+   *
+   * @param  file input file
+   * @return      the snapshot
+   */
+  public static ByteBuffer readFile(final File file) {
+    try (final FileChannel channel =
+	 FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+	throw Application.createError(BinarySnapshot.class, "binaryFormat");
+      }
+      final ByteBuffer buffer = ByteBuffer.allocate((int)size);
+      while (buffer.hasRemaining() && (channel.read(buffer) >= 0));
+      buffer.flip();
+      return buffer;
+    } catch (final IOException exception) {
+      log.fine("Error, reading failed, exception: " + exception.getMessage());
+      throw Application.createError(BinarySnapshot.class, "binaryRead");
+    }
+  }
+
+  // receiver of parsed snapshot contents
+  private static abstract class Sink {
+    public abstract void device(String name);
+    public abstract void register(String name, String value);
+    public abstract void block(String name, byte[] data, int length);
+    public void endDevice() {
+    }
+  }
+
+  // parses a snapshot, returns the name of the hardware set
+  private static String parse(final ByteBuffer buffer, final Sink sink) {
+    final Inflater inflater = new Inflater();
+    try {
+      if (buffer.getInt() != MAGIC) {
+	log.fine("Error, not a binary snapshot");
+	throw Application.createError(BinarySnapshot.class, "binaryFormat");
+      }
+      if (buffer.getShort() != SNAPSHOT_BINARY_FILE_VERSION) {
+	log.fine("Version mismatch");
+	throw Application.createError(BinarySnapshot.class, "version");
+      }
+      final String hardwareName = getString(buffer);
+      byte[] data = new byte[0];
+      for (int numberDevices = buffer.getShort() & 0xffff;
+	   numberDevices > 0;
+	   numberDevices--) {
+	sink.device(getString(buffer));
+	for (int numberDescriptors = buffer.getShort() & 0xffff;
+	     numberDescriptors > 0;
+	     numberDescriptors--) {
+	  final int kind = buffer.get();
+	  final String name = getString(buffer);
+	  if (kind == KIND_REGISTER) {
+	    final int type = buffer.get();
+	    switch (type) {
+	      case TYPE_INT:
+		sink.register(name, String.valueOf(buffer.getInt()));
+		break;
+	      case TYPE_LONG:
+		sink.register(name, String.valueOf(buffer.getLong()));
+		break;
+	      case TYPE_STRING:
+		sink.register(name, getString(buffer));
+		break;
+	      default:
+		throw new DataFormatException("Unknown register type");
+	    }
+	  } else if (kind == KIND_BLOCK) {
+	    final int size = buffer.getInt();
+	    final int encoding = buffer.get();
+	    final int length = buffer.getInt();
+	    if ((size < 0) || (length < 0) || (length > buffer.remaining())) {
+	      throw new DataFormatException("Invalid block size");
+	    }
+	    if (data.length < size) {
+	      data = new byte[size];
+	    }
+	    if (encoding == ENCODING_RAW) {
+	      if (length != size) {
+		throw new DataFormatException("Invalid block size");
+	      }
+	      buffer.get(data, 0, size);
+	    } else if (encoding == ENCODING_DEFLATED) {
+	      final byte[] deflated = new byte[length];
+	      buffer.get(deflated);
+	      inflater.reset();
+	      inflater.setInput(deflated);
+	      if ((inflater.inflate(data, 0, size) != size) ||
+		  !inflater.finished()) {
+		throw new DataFormatException("Invalid block size");
+	      }
+	    } else {
+	      throw new DataFormatException("Unknown block encoding");
+	    }
+	    sink.block(name, data, size);
+	  } else {
+	    throw new DataFormatException("Unknown descriptor kind");
+	  }
+	}
+	sink.endDevice();
+      }
+      return hardwareName;
+    } catch (final BufferUnderflowException |
+	     IllegalArgumentException |
+	     DataFormatException exception) {
+      log.fine("Error, parsing failed, exception: " + exception.getMessage());
+      throw Application.createError(BinarySnapshot.class, "binaryFormat");
+    } finally {
+      inflater.end();
+    }
+  }
+
+  // reads a string
+  private static String getString(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.getShort() & 0xffff];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // snapshot builder
+  private static class Output {
+
+    // the underlying streams
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream stream = new DataOutputStream(bytes);
+
+    // the compressor
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    // compression buffer
+    private byte[] deflated = new byte[0];
+
+    // writes a string
+    private void putString(final String string) throws IOException {
+      final byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+      stream.writeShort(encoded.length);
+      stream.write(encoded);
+    }
+
+    // writes the header
+    private void start(final String name,
+		       final int numberDevices) throws IOException {
+      stream.writeInt(MAGIC);
+      stream.writeShort(SNAPSHOT_BINARY_FILE_VERSION);
+      putString((name == null) ? "" : name);
+      stream.writeShort(numberDevices);
+    }
+
+    // writes a device header
+    private void device(final String name,
+			final int numberDescriptors) throws IOException {
+      putString(name);
+      stream.writeShort(numberDescriptors);
+    }
+
+    // writes a register, typed according to its value
+    private void register(final String name,
+			  final String value) throws IOException {
+      stream.writeByte(KIND_REGISTER);
+      putString(name);
+      try {
+	final long number = Long.parseLong(value);
+	if (String.valueOf(number).equals(value)) {
+	  if (number == (int)number) {
+	    stream.writeByte(TYPE_INT);
+	    stream.writeInt((int)number);
+	  } else {
+	    stream.writeByte(TYPE_LONG);
+	    stream.writeLong(number);
+	  }
+	  return;
+	}
+      } catch (final NumberFormatException exception) {
+      }
+      stream.writeByte(TYPE_STRING);
+      putString(value);
+    }
+
+    // writes a block, deflated if it helps
+    private void block(final String name,
+		       final byte[] data,
+		       final int length) throws IOException {
+      stream.writeByte(KIND_BLOCK);
+      putString(name);
+      stream.writeInt(length);
+      if (deflated.length < length) {
+	deflated = new byte[length];
+      }
+      deflater.reset();
+      deflater.setInput(data, 0, length);
+      deflater.finish();
+      final int deflatedLength = deflater.deflate(deflated);
+      if (deflater.finished() && (deflatedLength < length)) {
+	stream.writeByte(ENCODING_DEFLATED);
+	stream.writeInt(deflatedLength);
+	stream.write(deflated, 0, deflatedLength);
+      } else {
+	stream.writeByte(ENCODING_RAW);
+	stream.writeInt(length);
+	stream.write(data, 0, length);
+      }
+    }
+
+    // completes the snapshot
+    private byte[] finish() throws IOException {
+      stream.flush();
+      return bytes.toByteArray();
+    }
+
+    // releases the compressor, must be called even if writing failed
+    private void end() {
+      deflater.end();
+    }
+  }
+}
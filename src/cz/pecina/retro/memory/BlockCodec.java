@@ -0,0 +1,234 @@
+/* BlockCodec.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+
+import org.jdom2.Element;
+
+import cz.pecina.retro.common.Application;
+
+/**
+ * Run-length codec of memory blocks in XML, used by snapshots and
+ * memory XML files.
+ * <p>
+ * A block is a sequence of {@code <bytes>} tags, each holding either
+ * a string of hexadecimal digits or, with a {@code count} attribute,
+ * one byte repeated {@code count} times.  Runs of at least
+ * {@code COUNT_LIMIT} equal bytes are written as repeated bytes.
+ * The encoder finds runs in a single pass over the memory; the decoder
+ * converts each tag at once and stores runs with {@code Arrays.fill}.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+final class BlockCodec {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(BlockCodec.class.getName());
+
+  // name of the <bytes> tag
+  private static final String SUBTAG_NAME = "bytes";
+
+  // cut-off number of equal bytes
+  private static final int COUNT_LIMIT = 7;
+
+  /**
+   * Encodes a memory range, with wrap-around, as {@code <bytes>} tags.
+   *
+   * @param memory       memory array
+   * @param tag          tag the {@code <bytes>} tags are added to
+   * @param startAddress starting address
+   * @param number       number of bytes
+   */
+  static void encode(final byte[] memory,
+		     final Element tag,
+		     final int startAddress,
+		     final int number) {
+    final int size = memory.length;
+    final char[] digits = new char[2 * number];
+    int length = 0;
+    int index = startAddress % size;
+    for (int i = 0; i < number;) {
+
+      // measure the run starting at i
+      final byte data = memory[index];
+      int run = 1;
+      if (++index == size) {
+	index = 0;
+      }
+      while (((i + run) < number) && (memory[index] == data)) {
+	run++;
+	if (++index == size) {
+	  index = 0;
+	}
+      }
+      if (run >= COUNT_LIMIT) {
+	if (length > 0) {
+	  addBytes(tag, new String(digits, 0, length));
+	  length = 0;
+	}
+	final Element bytes =
+	  addBytes(tag, new String(digits, 0, HexCodec.encodeByte(data, digits, 0)));
+	bytes.setAttribute("count", String.valueOf(run));
+      } else {
+	for (int j = 0; j < run; j++) {
+	  length = HexCodec.encodeByte(data, digits, length);
+	}
+      }
+      i += run;
+    }
+    if (length > 0) {
+      addBytes(tag, new String(digits, 0, length));
+    }
+  }
+
+  // adds a <bytes> tag
+  private static Element addBytes(final Element tag, final String text) {
+    final Element bytes = new Element(SUBTAG_NAME);
+    bytes.addContent(text);
+    tag.addContent(bytes);
+    return bytes;
+  }
+
+  /**
+   * Decodes {@code <bytes>} tags into memory.
+   *
+   * @param  memory       memory array
+   * @param  tag          tag containing the {@code <bytes>} tags
+   * @param  startAddress starting address
+   * @return              info record
+   */
+  static Info decode(final byte[] memory,
+		     final Element tag,
+		     final int startAddress) {
+    final Info info = new Info();
+    char[] digits = new char[0x100];
+    byte[] data = new byte[0x80];
+    int address = startAddress & 0xffff;
+    for (Element bytes: tag.getChildren(SUBTAG_NAME)) {
+      final String string = bytes.getTextTrim();
+      final int length = string.length() / 2;
+      if (length > data.length) {
+	digits = new char[2 * length];
+	data = new byte[length];
+      }
+      string.getChars(0, 2 * length, digits, 0);
+      if (!HexCodec.decode(digits, 0, length, data)) {
+	log.fine("Error, parsing failed, invalid data");
+	throw Application.createError(Snapshot.class, "parsing");
+      }
+      address = store(memory,
+		      address,
+		      data,
+		      length,
+		      getCount(bytes.getAttributeValue("count")),
+		      info);
+    }
+    return info;
+  }
+
+  /**
+   * Parses the {@code count} attribute.
+   *
+   * @param  count the value of the attribute or {@code null}
+   *               if not present
+   * @return       the repeat count
+   */
+  static int getCount(final String count) {
+    if (count == null) {
+      return 1;
+    }
+    try {
+      return Integer.parseInt(count.trim());
+    } catch (final NumberFormatException exception) {
+      log.fine("Error in count, exception: " + exception.getMessage());
+      throw Application.createError(Snapshot.class, "parsing");
+    }
+  }
+
+  /**
+   * Stores bytes repeatedly in memory.  Addresses wrap around
+   * at {@code 0x10000} and are taken modulo the size of memory.
+   *
+   * @param  memory  memory array
+   * @param  address the first address
+   * @param  data    the bytes
+   * @param  length  the number of bytes in {@code data}
+   * @param  count   the number of repetitions
+   * @param  info    the info record to be updated, or {@code null}
+   * @return         the address following the bytes stored
+   */
+  static int store(final byte[] memory,
+		   int address,
+		   final byte[] data,
+		   final int length,
+		   final int count,
+		   final Info info) {
+    final int size = memory.length;
+    if (length == 0) {
+      return address;
+    }
+    if (length == 1) {
+      for (int remaining = count; remaining > 0;) {
+	final int index = address % size;
+	final int chunk = Math.min(remaining,
+				   Math.min(size - index, 0x10000 - address));
+	Arrays.fill(memory, index, index + chunk, data[0]);
+	update(info, address, chunk);
+	address = (address + chunk) & 0xffff;
+	remaining -= chunk;
+      }
+    } else {
+      for (int n = 0; n < count; n++) {
+	for (int position = 0; position < length;) {
+	  final int index = address % size;
+	  final int chunk =
+	    Math.min(length - position,
+		     Math.min(size - index, 0x10000 - address));
+	  System.arraycopy(data, position, memory, index, chunk);
+	  update(info, address, chunk);
+	  address = (address + chunk) & 0xffff;
+	  position += chunk;
+	}
+      }
+    }
+    return address;
+  }
+
+  // updates an info record with a range of addresses, not wrapping
+  // around
+  private static void update(final Info info,
+			     final int address,
+			     final int number) {
+    if (info != null) {
+      info.minAddress = Math.min(info.minAddress, address);
+      info.maxAddress = Math.max(info.maxAddress, address + number - 1);
+      info.number += number;
+    }
+  }
+
+  // default constructor disabled
+  private BlockCodec() {}
+}
@@ -369,7 +369,8 @@ public class DumpEdit extends MemoryTab {
       }
     }
     final byte[] sourceBank =
-      Parameters.memoryDevice.getBlockByName(sourceMemoryBank).getMemory();
+      Parameters.getMemoryDevice().getBlockByName(sourceMemoryBank)
+      .getReadOnlyMemory();
     size = sourceBank.length;
     
     final JPanel dumpDataPane = new JPanel(new GridBagLayout());
@@ -463,7 +464,7 @@ public class DumpEdit extends MemoryTab {
       for (int i = 0; i < NUMBER_DIS_LINES; i++) {
 	
 	final Disassembly disassembly =
-	  Parameters.cpu.getDisassembly(sourceBank, address);
+	  Parameters.getCPU().getDisassembly(sourceBank, address);
 	final int[] bytes = disassembly.getBytes();
 	final int length = disassembly.getLength();
 	if (increment == 0) {
@@ -635,8 +636,10 @@ public class DumpEdit extends MemoryTab {
   	  }
   	}
       }
-      final byte[] destinationBank = Parameters.memoryDevice.getBlockByName(
-        destinationMemoryBank).getMemory();
+      final Block destinationBlock = Parameters.getMemoryDevice()
+	.getBlockByName(destinationMemoryBank);
+      final byte[] destinationBank = destinationBlock.getMemory();
+      destinationBlock.markDirty();
       final String syntaxError =
 	Application.getString(this, "error.editLine.syntax");
       final List<Byte> data = new ArrayList<>();
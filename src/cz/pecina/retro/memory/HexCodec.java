@@ -0,0 +1,149 @@
+/* HexCodec.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.util.Arrays;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Table-driven conversion between bytes and hexadecimal digits.
+ * Digits are written in upper case into byte arrays and in lower
+ * case into character arrays, as used by Intel HEX and XML files,
+ * respectively.  Both cases are accepted on input.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public final class HexCodec {
+
+  // hexadecimal digits, as ASCII codes
+  private static final byte[] DIGITS = {
+    '0', '1', '2', '3', '4', '5', '6', '7',
+    '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+
+  // hexadecimal digits in lower case
+  private static final char[] LOWER_CASE_DIGITS =
+    "0123456789abcdef".toCharArray();
+
+  // values of ASCII codes, -1 if not a hexadecimal digit
+  private static final byte[] VALUES = new byte[0x100];
+
+  static {
+    Arrays.fill(VALUES, (byte)-1);
+    for (int i = 0; i < 10; i++) {
+      VALUES['0' + i] = (byte)i;
+    }
+    for (int i = 0; i < 6; i++) {
+      VALUES['A' + i] = VALUES['a' + i] = (byte)(10 + i);
+    }
+  }
+
+  /**
+   * Gets the value of a hexadecimal digit.
+   *
+   * @param  c the character
+   * @return   the value of {@code c} or {@code -1} if {@code c} is not
+   *           a hexadecimal digit
+   */
+  public static int value(final int c) {
+    return VALUES[c & 0xff];
+  }
+
+  /**
+   * Decodes a byte from two hexadecimal digits at the current
+   * position of a buffer.
+   *
+   * @param  buffer the buffer
+   * @return        the byte or {@code -1} if the characters are not
+   *                hexadecimal digits
+   * @throws java.nio.BufferUnderflowException if fewer than two
+   *         characters remain
+   */
+  public static int decodeByte(final ByteBuffer buffer) {
+    final int high = VALUES[buffer.get() & 0xff];
+    final int low = VALUES[buffer.get() & 0xff];
+    return ((high | low) < 0) ? -1 : ((high << 4) | low);
+  }
+
+  /**
+   * Encodes a byte as two hexadecimal digits.
+   *
+   * @param  data        the byte
+   * @param  destination the destination array
+   * @param  offset      the offset in {@code destination}
+   * @return             the offset following the digits
+   */
+  public static int encodeByte(final int data,
+			       final byte[] destination,
+			       final int offset) {
+    destination[offset] = DIGITS[(data >> 4) & 0x0f];
+    destination[offset + 1] = DIGITS[data & 0x0f];
+    return offset + 2;
+  }
+
+  /**
+   * Encodes a byte as two lower-case hexadecimal digits.
+   *
+   * @param  data        the byte
+   * @param  destination the destination array
+   * @param  offset      the offset in {@code destination}
+   * @return             the offset following the digits
+   */
+  public static int encodeByte(final int data,
+			       final char[] destination,
+			       final int offset) {
+    destination[offset] = LOWER_CASE_DIGITS[(data >> 4) & 0x0f];
+    destination[offset + 1] = LOWER_CASE_DIGITS[data & 0x0f];
+    return offset + 2;
+  }
+
+  /**
+   * Decodes pairs of hexadecimal digits.
+   *
+   * @param  source      the source array
+   * @param  offset      the offset in {@code source}
+   * @param  number      the number of bytes to be decoded
+   * @param  destination the destination array
+   * @return             {@code true} if all characters were
+   *                     hexadecimal digits
+   */
+  public static boolean decode(final char[] source,
+			       final int offset,
+			       final int number,
+			       final byte[] destination) {
+    int invalid = 0;
+    for (int i = 0, j = offset; i < number; i++, j += 2) {
+      final char high = source[j];
+      final char low = source[j + 1];
+      final int value = (VALUES[high & 0xff] << 4) | VALUES[low & 0xff];
+
+      // negative for non-digits, including characters above 0x7f
+      invalid |= value | -((high | low) >> 7);
+      destination[i] = (byte)value;
+    }
+    return invalid >= 0;
+  }
+
+  // default constructor disabled
+  private HexCodec() {}
+}
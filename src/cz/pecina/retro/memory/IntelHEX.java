@@ -23,9 +23,14 @@ package cz.pecina.retro.memory;
 import java.util.logging.Logger;
 
 import java.io.File;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.PrintWriter;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.StandardOpenOption;
 
 import cz.pecina.retro.common.Application;
 
@@ -33,6 +38,18 @@ import cz.pecina.retro.cpu.Hardware;
 
 /**
  * Intel HEX format reader/writer.
+ * <p>
+ * Files are read into a heap buffer and written through a buffered
+ * file channel; hexadecimal digits are converted by {@link HexCodec}.
+ * Only files larger than {@code MAPPING_THRESHOLD} are memory-mapped.
+ * Such a file stays mapped until the buffer is garbage-collected,
+ * and on some platforms (notably Windows) cannot be overwritten
+ * until then.  Extended segment and extended linear address
+ * records are supported on input, so images of banks larger than
+ * 64KB or produced by generic tools can be loaded; addresses are
+ * taken modulo the size of the destination bank.  On output, extended
+ * linear address records are written only if the range crosses
+ * a 64KB boundary.
  *
  * @author @AUTHOR@
  * @version @VERSION@
@@ -47,8 +64,20 @@ public class IntelHEX extends MemoryProcessor {
   private static final int INTEL_HEX_MAX_BYTES_PER_LINE = 16;
   private static final int DATA_RECORD = 0x00;
   private static final int END_RECORD = 0x01;
+  private static final int EXTENDED_SEGMENT_RECORD = 0x02;
   private static final int START_RECORD = 0x03;
-  private static final int MAX_RECORD_TYPE = 0x05;
+  private static final int EXTENDED_LINEAR_RECORD = 0x04;
+  private static final int START_LINEAR_RECORD = 0x05;
+
+  // size of the output buffer
+  private static final int BUFFER_SIZE = 0x10000;
+
+  // size of the largest file read into a heap buffer
+  private static final long MAPPING_THRESHOLD = 0x100000;
+
+  // line separator, as ASCII codes
+  private static final byte[] LINE_SEPARATOR =
+    System.lineSeparator().getBytes();
 
   /**
    * Creates an instance of IntelHEX format reader/writer.
@@ -98,25 +127,44 @@ public class IntelHEX extends MemoryProcessor {
       number,
       destinationAddress));
     final int sourceSize = sourceMemory.length;
-    try (final PrintWriter writer = new PrintWriter(file)) {
+    final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    final byte[] line = new byte[(INTEL_HEX_MAX_BYTES_PER_LINE * 2) + 11];
+    try (final FileChannel channel =
+	 FileChannel.open(file.toPath(),
+			  StandardOpenOption.CREATE,
+			  StandardOpenOption.WRITE,
+			  StandardOpenOption.TRUNCATE_EXISTING)) {
+      int segment = destinationAddress >> 16;
+      if (segment != 0) {
+	writeRecord(channel, buffer, line, EXTENDED_LINEAR_RECORD, 0,
+		    new byte[] {(byte)(segment >> 8), (byte)segment}, 0, 2);
+      }
+      final byte[] data = new byte[INTEL_HEX_MAX_BYTES_PER_LINE];
       for (int i = number, address = destinationAddress, count;
 	   i > 0;
 	   i -= count) {
-	count = Math.min(INTEL_HEX_MAX_BYTES_PER_LINE, i);
-	writer.printf(":%02X%04X%02X", count, address, DATA_RECORD);
-	int checkSum = count + (address & 0xff) + (address >> 8);
+	if ((address >> 16) != segment) {
+	  segment = address >> 16;
+	  writeRecord(channel, buffer, line, EXTENDED_LINEAR_RECORD, 0,
+		      new byte[] {(byte)(segment >> 8), (byte)segment}, 0, 2);
+	}
+	count = Math.min(Math.min(INTEL_HEX_MAX_BYTES_PER_LINE, i),
+			 0x10000 - (address & 0xffff));
+	final int sourceAddress = startAddress + number - i;
 	for (int j = 0; j < count; j++) {
-	  final int dataByte = sourceMemory[address % sourceSize] & 0xff;
-	  checkSum += dataByte;
-	  writer.printf("%02X", dataByte);
-	  address++;
+	  data[j] = sourceMemory[(sourceAddress + j) % sourceSize];
 	}
-	writer.printf("%02X%n", (-checkSum) & 0xff);
-	log.finest("One data record written, length: " + count);
+	writeRecord(channel, buffer, line, DATA_RECORD, address & 0xffff,
+		    data, 0, count);
+	address += count;
       }
-      writer.printf(":000000%02XFF%n", END_RECORD);
+      writeRecord(channel, buffer, line, END_RECORD, 0, null, 0, 0);
       log.finer("End record written");
-    } catch (final Exception exception) {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+	channel.write(buffer);
+      }
+    } catch (final IOException exception) {
       log.fine("Error, writing failed, exception: " +
 	       exception.getMessage());
       throw Application.createError(this, "HEXWrite");
@@ -148,82 +196,102 @@ public class IntelHEX extends MemoryProcessor {
       ", destination address: %04x",
       file.getName(),
       destinationAddress));
-    final int destinationSize = destinationMemory.length;
     final Info info = new Info();
+    final byte[] record = new byte[0x100];
     int number = 0;
-    try (final BufferedReader reader =
-	 new BufferedReader(new FileReader(file))) {
-      int recordType = 0, offset = 0;
+    try (final FileChannel channel =
+	 FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final ByteBuffer buffer = readFile(channel);
+      int recordType, offset = 0;
+      long base = 0;
       do {
-	final String line = reader.readLine();
-	if (line.length() == 0) {
-	  log.finer("Empty line skipped");
-	  continue;
-	}
-	if (line.charAt(0) != ':') {
+	int c;
+	do {
+	  c = buffer.get();
+	} while ((c == '\n') || (c == '\r') || (c == ' ') || (c == '\t'));
+	if (c != ':') {
 	  log.fine("Format error, bad leading character");
 	  throw Application.createError(this, "HEX");
 	}
-	final int recordLength = Integer.parseInt(line.substring(1, 3), 16);
-	log.finest("Record length: " + recordLength);
-	if (((recordLength * 2) + 11) > line.length()) {
-	  log.fine("Format error, record length/line length mismatch");
+	final int recordLength = HexCodec.decodeByte(buffer);
+	final int addressHigh = HexCodec.decodeByte(buffer);
+	final int addressLow = HexCodec.decodeByte(buffer);
+	recordType = HexCodec.decodeByte(buffer);
+	if ((recordLength | addressHigh | addressLow | recordType) < 0) {
+	  log.fine("Format error, bad record header");
 	  throw Application.createError(this, "HEX");
 	}
-	final int recordAddress = Integer.parseInt(line.substring(3, 7), 16);
-	log.finest(String.format("Record address: %04x", recordAddress));
-	recordType = Integer.parseInt(line.substring(7, 9), 16);
-	log.finest(String.format("Record type: %02x", recordType));
-	if (recordType > MAX_RECORD_TYPE) {
-	  log.fine("Illegal record type");
-	  throw Application.createError(this, "HEX");
-	}
-	if (recordType == START_RECORD) {
-	  log.finer(String.format("Start record, address: %04x",
-				  recordAddress));
-	  info.startAddress = recordAddress;
-	  continue;
-	}
-	if ((recordType != DATA_RECORD) && (recordType != END_RECORD)) {
-	  log.fine("Unsupported record type");
-	  throw Application.createError(this, "unsupportedRecord",
-					recordType);
-	}
-	if ((destinationAddress != -1) && (recordType == DATA_RECORD)) {
-	  offset = destinationAddress - recordAddress;
-	  destinationAddress = -1;
-	  log.finest(String.format("Offset: %04x", offset));
-	}
-	int checkSum =
-	  recordLength + recordAddress + (recordAddress >> 8) + recordType;
-	for (int i = 0;; i++) {
-	  final int data =
-	    Integer.parseInt(line.substring(9 + (i * 2), 11 + (i * 2)), 16);
-	  checkSum += data;
-	  if (i == recordLength) {
-	    break;
-	  }
-	  final int address = (recordAddress + offset + i) & 0xffff;
-	  if (address < info.minAddress) {
-	    info.minAddress = address;
+	final int recordAddress = (addressHigh << 8) | addressLow;
+	int checkSum = recordLength + addressHigh + addressLow + recordType;
+	for (int i = 0; i < recordLength; i++) {
+	  final int data = HexCodec.decodeByte(buffer);
+	  if (data < 0) {
+	    log.fine("Format error, bad data");
+	    throw Application.createError(this, "HEX");
 	  }
-	  if (address > info.maxAddress) {
-	    info.maxAddress = address;
-	  }
-	  destinationMemory[address % destinationSize] = (byte)data;
-	  log.finest(String.format("Read: %02x -> (%04x)", data, address));
-	  number++;
+	  record[i] = (byte)data;
+	  checkSum += data;
 	}
-	if ((checkSum & 0xff) != 0) {
+	final int recordCheckSum = HexCodec.decodeByte(buffer);
+	if ((recordCheckSum < 0) ||
+	    (((checkSum + recordCheckSum) & 0xff) != 0)) {
 	  log.fine("Bad check sum");
 	  throw Application.createError(this, "HEX");
 	}
+	switch (recordType) {
+	  case DATA_RECORD:
+	    if (destinationAddress != -1) {
+	      offset = destinationAddress - recordAddress;
+	      destinationAddress = -1;
+	      log.finest(String.format("Offset: %04x", offset));
+	    }
+	    final int address = (recordAddress + offset) & 0xffff;
+	    final int head = Math.min(recordLength, 0x10000 - address);
+	    store(bankAddress(base + address), record, 0, head, info);
+	    if (head < recordLength) {
+	      store(bankAddress(base), record, head, recordLength - head, info);
+	    }
+	    number += recordLength;
+	    break;
+	  case END_RECORD:
+	    break;
+	  case EXTENDED_SEGMENT_RECORD:
+	  case EXTENDED_LINEAR_RECORD:
+	    if (recordLength != 2) {
+	      log.fine("Format error, bad extended address record");
+	      throw Application.createError(this, "HEX");
+	    }
+	    base = ((record[0] & 0xffL) << 8) | (record[1] & 0xff);
+	    base <<= (recordType == EXTENDED_SEGMENT_RECORD) ? 4 : 16;
+	    log.finer(String.format("Extended address: %x", base));
+	    break;
+	  case START_RECORD:
+	    info.startAddress = (recordLength == 4) ?
+	      (((((record[0] & 0xff) << 8) | (record[1] & 0xff)) << 4) +
+	       (((record[2] & 0xff) << 8) | (record[3] & 0xff))) & 0xffff :
+	      recordAddress;
+	    log.finer(String.format("Start record, address: %04x",
+				    info.startAddress));
+	    break;
+	  case START_LINEAR_RECORD:
+	    if (recordLength != 4) {
+	      log.fine("Format error, bad start linear address record");
+	      throw Application.createError(this, "HEX");
+	    }
+	    info.startAddress =
+	      ((record[2] & 0xff) << 8) | (record[3] & 0xff);
+	    log.finer(String.format("Start linear record, address: %04x",
+				    info.startAddress));
+	    break;
+	  default:
+	    log.fine("Illegal record type");
+	    throw Application.createError(this, "unsupportedRecord", recordType);
+	}
       } while (recordType != END_RECORD);
-    } catch (final NumberFormatException exception) {
-      log.fine("Error, bad number format, exception: " +
-	       exception.getMessage());
+    } catch (final BufferUnderflowException exception) {
+      log.fine("Error, unexpected end of file");
       throw Application.createError(this, "HEX");
-    } catch (final Exception exception) {
+    } catch (final IOException exception) {
       log.fine("Error, reading failed, exception: " +
 	       exception.getMessage());
       throw Application.createError(this, "HEXRead");
@@ -249,4 +317,58 @@ public class IntelHEX extends MemoryProcessor {
     }
     return info;
   }
+
+  // reduces an address modulo the size of the destination bank
+  private int bankAddress(final long address) {
+    return (int)(address % destinationMemory.length);
+  }
+
+  // reads the whole file into a buffer, mapping only large files
+  private static ByteBuffer readFile(final FileChannel channel)
+    throws IOException {
+    final long size = channel.size();
+    if (size > MAPPING_THRESHOLD) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate((int)size);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+	break;
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  // formats a record and appends it to the output buffer
+  private static void writeRecord(final FileChannel channel,
+				  final ByteBuffer buffer,
+				  final byte[] line,
+				  final int recordType,
+				  final int address,
+				  final byte[] data,
+				  final int offset,
+				  final int length) throws IOException {
+    int checkSum = length + (address >> 8) + (address & 0xff) + recordType;
+    line[0] = ':';
+    int position = HexCodec.encodeByte(length, line, 1);
+    position = HexCodec.encodeByte(address >> 8, line, position);
+    position = HexCodec.encodeByte(address, line, position);
+    position = HexCodec.encodeByte(recordType, line, position);
+    for (int i = 0; i < length; i++) {
+      final int dataByte = data[offset + i] & 0xff;
+      checkSum += dataByte;
+      position = HexCodec.encodeByte(dataByte, line, position);
+    }
+    position = HexCodec.encodeByte(-checkSum, line, position);
+    if (buffer.remaining() < (position + LINE_SEPARATOR.length)) {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+	channel.write(buffer);
+      }
+      buffer.clear();
+    }
+    buffer.put(line, 0, position);
+    buffer.put(LINE_SEPARATOR);
+  }
 }
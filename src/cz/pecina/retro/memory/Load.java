@@ -412,7 +412,10 @@ public class Load extends MemoryTab {
 	filter = rawFilter;
       } else if (loadRadioHEX.isSelected()) {
 	filter = HEXFilter;
-      } else if (loadRadioXML.isSelected() || loadRadioSnapshot.isSelected()) {
+      } else if (loadRadioXML.isSelected()) {
+	filter = XMLFilter;
+      } else if (loadRadioSnapshot.isSelected()) {
+	fileChooser.addChoosableFileFilter(snapshotFilter);
 	filter = XMLFilter;
       } else {
 	filter = plugins[pluginIndex].getFilter();
@@ -22,9 +22,12 @@ package cz.pecina.retro.memory;
 
 import java.util.logging.Logger;
 
+import java.util.Arrays;
+
 import cz.pecina.retro.common.Parameters;
 
 import cz.pecina.retro.cpu.Hardware;
+import cz.pecina.retro.cpu.Block;
 
 /**
  * Memory processor.  Read/write functions are provided by
@@ -88,10 +91,19 @@ public class MemoryProcessor {
     this.hardware = hardware;
     this.sourceMemoryBank = sourceMemoryBank;
     this.destinationMemoryBank = destinationMemoryBank;
+    final Block destinationBlock =
+      Parameters.getMemoryDevice().getBlockByName(destinationMemoryBank);
+    destinationMemory = destinationBlock.getMemory();
+
+    // the destination array is modified directly, bypassing
+    // the dirty-page tracking of the memory device
+    destinationBlock.markDirty();
+
+    // obtained after the destination, which may have been copied
+    // from a shared image
     sourceMemory =
-      Parameters.memoryDevice.getBlockByName(sourceMemoryBank).getMemory();
-    destinationMemory =
-      Parameters.memoryDevice.getBlockByName(destinationMemoryBank).getMemory();
+      Parameters.getMemoryDevice().getBlockByName(sourceMemoryBank)
+      .getReadOnlyMemory();
     log.fine("New memory processor created: " + sourceMemoryBank + " -> " +
 	     destinationMemoryBank);
   }
@@ -118,13 +130,28 @@ public class MemoryProcessor {
     final int sourceSize = sourceMemory.length;
     final int destinationSize = destinationMemory.length;
     final int number = endAddress - startAddress + 1;
-    for (int i = 0; i < number; i++) {
-      final int sourceAddress = (startAddress + i) % sourceSize;
-      final int targetAddress = (destinationAddress + i) % destinationSize;
-      final int data = sourceMemory[sourceAddress] & 0xff;
-      destinationMemory[targetAddress] = (byte)data;
-      log.finest(String.format("Copying one byte: (%04x) -> %02x -> (%04x)",
-			       sourceAddress, data, targetAddress));
+    int sourceAddress = startAddress % sourceSize;
+    int targetAddress = destinationAddress % destinationSize;
+    for (int remaining = number; remaining > 0;) {
+      int chunk = Math.min(remaining,
+			   Math.min(sourceSize - sourceAddress,
+				    destinationSize - targetAddress));
+
+      // within one bank, the result must be the same as if copied
+      // byte by byte, so a chunk must not overlap its own source
+      if (sourceMemory == destinationMemory) {
+	final int distance =
+	  (targetAddress - sourceAddress + sourceSize) % sourceSize;
+	if (distance > 0) {
+	  chunk = Math.min(chunk, distance);
+	}
+      }
+      System.arraycopy(sourceMemory, sourceAddress,
+		       destinationMemory, targetAddress,
+		       chunk);
+      sourceAddress = (sourceAddress + chunk) % sourceSize;
+      targetAddress = (targetAddress + chunk) % destinationSize;
+      remaining -= chunk;
     }
     log.fine("Copying completed, " + number + " byte(s) copied");
     return number;
@@ -150,12 +177,15 @@ public class MemoryProcessor {
     assert (data >= 0) && (data < 0x100);
     final int destinationSize = destinationMemory.length;
     final int number = endAddress - startAddress + 1;
-    for (int i = 0; i < number; i++) {
-      final int targetAddress = (startAddress + i) % destinationSize;
-      destinationMemory[targetAddress] = (byte)data;
-      log.finest(String.format("Writing one byte: %02x -> (%04x)",
-			       data,
-			       targetAddress));
+    int targetAddress = startAddress % destinationSize;
+    for (int remaining = number; remaining > 0;) {
+      final int chunk = Math.min(remaining, destinationSize - targetAddress);
+      Arrays.fill(destinationMemory,
+		  targetAddress,
+		  targetAddress + chunk,
+		  (byte)data);
+      targetAddress = (targetAddress + chunk) % destinationSize;
+      remaining -= chunk;
     }
     log.fine("Filling completed, " + number + " byte(s) filled");
     return number;
@@ -182,23 +212,62 @@ public class MemoryProcessor {
     final int sourceSize = sourceMemory.length;
     final int destinationSize = destinationMemory.length;
     final int number = endAddress - startAddress + 1;
-    for (int i = 0; i < number; i++) {
-      final int sourceAddress = (startAddress + i) % sourceSize;
-      final int targetAddress = (destinationAddress + i) % destinationSize;
-      final byte sourceData = sourceMemory[sourceAddress];
-      final byte targetData = destinationMemory[targetAddress];
-      log.finest(String.format(
-        "Comparing one byte: (%04x) = %02x, (%04x) = %02x",
-	sourceAddress,
-	sourceData,
-	targetAddress,
-	targetData));
-      if (sourceData != targetData) {
-	log.fine(String.format("First mismatch at: %04x", sourceAddress));
-	return sourceAddress;
+    int sourceAddress = startAddress % sourceSize;
+    int targetAddress = destinationAddress % destinationSize;
+    for (int remaining = number; remaining > 0;) {
+      final int chunk = Math.min(remaining,
+				 Math.min(sourceSize - sourceAddress,
+					  destinationSize - targetAddress));
+      for (int i = 0; i < chunk; i++) {
+	if (sourceMemory[sourceAddress + i] !=
+	    destinationMemory[targetAddress + i]) {
+	  log.fine(String.format("First mismatch at: %04x",
+				 sourceAddress + i));
+	  return sourceAddress + i;
+	}
       }
+      sourceAddress = (sourceAddress + chunk) % sourceSize;
+      targetAddress = (targetAddress + chunk) % destinationSize;
+      remaining -= chunk;
     }
     log.fine("Blocks are equal");
     return -1;
   }
+
+  /**
+   * Stores bytes in the destination memory, with wrap-around, and
+   * updates the lowest and highest addresses written in an info
+   * record.
+   *
+   * @param address the first address
+   * @param data    the bytes to be stored
+   * @param offset  the offset in {@code data}
+   * @param length  the number of bytes
+   * @param info    the info record, or {@code null} if none
+   */
+  protected void store(final int address,
+		       final byte[] data,
+		       final int offset,
+		       final int length,
+		       final Info info) {
+    final int destinationSize = destinationMemory.length;
+    int targetAddress = address % destinationSize;
+    if (info != null) {
+      if ((targetAddress + length) > destinationSize) {
+	info.minAddress = 0;
+	info.maxAddress = destinationSize - 1;
+      } else if (length > 0) {
+	info.minAddress = Math.min(info.minAddress, targetAddress);
+	info.maxAddress =
+	  Math.max(info.maxAddress, targetAddress + length - 1);
+      }
+    }
+    for (int position = offset, remaining = length; remaining > 0;) {
+      final int chunk = Math.min(remaining, destinationSize - targetAddress);
+      System.arraycopy(data, position, destinationMemory, targetAddress, chunk);
+      targetAddress = (targetAddress + chunk) % destinationSize;
+      position += chunk;
+      remaining -= chunk;
+    }
+  }
 }
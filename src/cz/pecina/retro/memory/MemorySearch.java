@@ -0,0 +1,485 @@
+/* MemorySearch.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.util.logging.Logger;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+
+import java.nio.ByteBuffer;
+
+import cz.pecina.retro.common.Parameters;
+
+import cz.pecina.retro.cpu.Hardware;
+
+/**
+ * Memory search engine.  Finds byte patterns, differences between
+ * two memory areas and changes since a mark, i.e., a copy of
+ * the memory taken earlier.  Memory is only read, never modified.
+ * <p>
+ * The areas are copied to linear arrays first and then compared
+ * eight bytes at a time.  Large areas are split into slices
+ * searched in parallel.  All operations wrap around the end
+ * of the bank and scan at most the whole bank; the addresses
+ * found are returned in ascending order of their offsets from
+ * the start address.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class MemorySearch extends MemoryProcessor {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(MemorySearch.class.getName());
+
+  // minimum number of bytes searched by one task
+  private static final int MIN_SLICE = 0x2000;
+
+  // maximum number of tasks
+  private static final int MAX_SLICES =
+    Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Relation of the current value to the marked one.
+   */
+  public enum Relation {
+
+    /**
+     * The value has changed.
+     */
+    CHANGED,
+
+    /**
+     * The value has not changed.
+     */
+    UNCHANGED,
+
+    /**
+     * The value has increased (unsigned).
+     */
+    INCREASED,
+
+    /**
+     * The value has decreased (unsigned).
+     */
+    DECREASED;
+
+    // checks if the relation holds
+    private boolean holds(final int marked, final int current) {
+      switch (this) {
+	case CHANGED:
+	  return current != marked;
+	case UNCHANGED:
+	  return current == marked;
+	case INCREASED:
+	  return current > marked;
+	default:
+	  return current < marked;
+      }
+    }
+  }
+
+  /**
+   * Byte pattern with wildcards.
+   */
+  public static final class Pattern {
+
+    // the bytes and their masks, 0 for wildcards
+    private final byte[] bytes, masks;
+
+    /**
+     * Creates a pattern from its textual representation.  The pattern
+     * consists of pairs of hexadecimal digits, each pair can be
+     * replaced by {@code ??} matching any byte.  Spaces are ignored.
+     *
+     * @param  pattern the textual representation
+     * @throws NumberFormatException if {@code pattern} is empty or
+     *         malformed
+     */
+    public Pattern(final String pattern) {
+      final String s = pattern.replace(" ", "");
+      if ((s.length() == 0) || ((s.length() & 1) != 0)) {
+	throw new NumberFormatException("Invalid pattern: " + pattern);
+      }
+      final int length = s.length() / 2;
+      bytes = new byte[length];
+      masks = new byte[length];
+      for (int i = 0; i < length; i++) {
+	final char high = s.charAt(2 * i);
+	final char low = s.charAt((2 * i) + 1);
+	if ((high == '?') && (low == '?')) {
+	  continue;
+	}
+	final int h = (high < 0x100) ? HexCodec.value(high) : -1;
+	final int l = (low < 0x100) ? HexCodec.value(low) : -1;
+	if ((h | l) < 0) {
+	  throw new NumberFormatException("Invalid pattern: " + pattern);
+	}
+	bytes[i] = (byte)((h << 4) | l);
+	masks[i] = (byte)0xff;
+      }
+    }
+
+    /**
+     * Gets the length of the pattern.
+     *
+     * @return the length of the pattern (in bytes)
+     */
+    public int getLength() {
+      return bytes.length;
+    }
+  }
+
+  /**
+   * Creates an instance of memory search engine and sets memory banks.
+   *
+   * @param hardware              hardware set
+   * @param sourceMemoryBank      source memory bank, the one searched
+   *                              or compared
+   * @param destinationMemoryBank destination memory bank, the one
+   *                              compared with
+   */
+  public MemorySearch(final Hardware hardware,
+		      final String sourceMemoryBank,
+		      final String destinationMemoryBank) {
+    super(hardware);
+    this.sourceMemoryBank = sourceMemoryBank;
+    this.destinationMemoryBank = destinationMemoryBank;
+
+    // both arrays are only read, so shared images are not copied
+    sourceMemory =
+      Parameters.getMemoryDevice().getBlockByName(sourceMemoryBank)
+      .getReadOnlyMemory();
+    destinationMemory =
+      Parameters.getMemoryDevice().getBlockByName(destinationMemoryBank)
+      .getReadOnlyMemory();
+    log.fine("New memory search created: " + sourceMemoryBank + ", " +
+	     destinationMemoryBank);
+  }
+
+  /**
+   * Takes a mark, i.e., a copy of the source memory bank.
+   *
+   * @return the mark
+   */
+  public byte[] mark() {
+    return sourceMemory.clone();
+  }
+
+  /**
+   * Finds all occurrences of a pattern in the source memory.
+   * A pattern starting near the end address may extend beyond it.
+   *
+   * @param  startAddress start address
+   * @param  endAddress   end address
+   * @param  pattern      the pattern
+   * @return              the addresses where the pattern starts
+   */
+  public int[] find(final int startAddress,
+		    final int endAddress,
+		    final Pattern pattern) {
+    log.fine(String.format(
+      "Searching memory: start address: %04x, end address: %04x," +
+      " pattern length: %d",
+      startAddress,
+      endAddress,
+      pattern.getLength()));
+    final int size = sourceMemory.length;
+    final int number = getNumber(startAddress, endAddress, size);
+    final int length = pattern.getLength();
+    final ByteBuffer data = ByteBuffer.wrap(
+      linearize(sourceMemory, startAddress, number + length - 1));
+
+    // the first eight bytes of the pattern are compared as one word
+    final int head = Math.min(length, 8);
+    long headBytes = 0, headMask = 0;
+    for (int i = 0; i < 8; i++) {
+      headBytes <<= 8;
+      headMask <<= 8;
+      if (i < head) {
+	headBytes |= pattern.bytes[i] & 0xff;
+	headMask |= pattern.masks[i] & 0xff;
+      }
+    }
+    final long bytes = headBytes, mask = headMask;
+    final int[] found = scan(number, new Scanner() {
+	@Override
+	public void scan(final int from, final int to, final Matches matches) {
+	  for (int i = from; i < to; i++) {
+	    if ((data.getLong(i) & mask) == bytes) {
+	      int j = head;
+	      while ((j < length) &&
+		     (((data.get(i + j) ^ pattern.bytes[j]) &
+		       pattern.masks[j]) == 0)) {
+		j++;
+	      }
+	      if (j == length) {
+		matches.add(i);
+	      }
+	    }
+	  }
+	}
+      });
+    log.fine("Searching completed, " + found.length + " match(es) found");
+    return toAddresses(found, startAddress, size);
+  }
+
+  /**
+   * Finds all differences between two memory areas.  Unlike
+   * {@link MemoryProcessor#compare}, the search does not stop
+   * at the first mismatch.
+   *
+   * @param  startAddress       start address
+   * @param  endAddress         end address
+   * @param  destinationAddress destination address
+   * @return                    the source addresses of the mismatches
+   */
+  public int[] diff(final int startAddress,
+		    final int endAddress,
+		    final int destinationAddress) {
+    log.fine(String.format(
+      "Diffing memory blocks: start address: %04x, end address: %04x," +
+      " destination address: %04x",
+      startAddress,
+      endAddress,
+      destinationAddress));
+    final int size = sourceMemory.length;
+    final int number = getNumber(startAddress,
+				 endAddress,
+				 Math.min(size, destinationMemory.length));
+    final int[] found = compare(
+      linearize(sourceMemory, startAddress, number),
+      linearize(destinationMemory, destinationAddress, number),
+      number,
+      Relation.CHANGED);
+    log.fine("Diffing completed, " + found.length + " mismatch(es) found");
+    return toAddresses(found, startAddress, size);
+  }
+
+  /**
+   * Finds all values in the source memory in the given relation
+   * to the values in a mark.
+   *
+   * @param  mark         the mark, as returned by {@link #mark}
+   * @param  startAddress start address
+   * @param  endAddress   end address
+   * @param  relation     the relation
+   * @return              the addresses found
+   */
+  public int[] changes(final byte[] mark,
+		       final int startAddress,
+		       final int endAddress,
+		       final Relation relation) {
+    log.fine(String.format(
+      "Comparing memory with mark: start address: %04x," +
+      " end address: %04x, relation: %s",
+      startAddress,
+      endAddress,
+      relation));
+    assert mark.length == sourceMemory.length;
+    final int size = sourceMemory.length;
+    final int number = getNumber(startAddress, endAddress, size);
+    final int[] found = compare(
+      linearize(mark, startAddress, number),
+      linearize(sourceMemory, startAddress, number),
+      number,
+      relation);
+    log.fine("Comparing completed, " + found.length + " address(es) found");
+    return toAddresses(found, startAddress, size);
+  }
+
+  /**
+   * Narrows a list of addresses to those whose values in the source
+   * memory are in the given relation to the values in a mark.
+   *
+   * @param  mark       the mark, as returned by {@link #mark}
+   * @param  candidates the addresses to be checked
+   * @param  relation   the relation
+   * @return            the addresses found, a subset of
+   *                    {@code candidates}
+   */
+  public int[] changes(final byte[] mark,
+		       final int[] candidates,
+		       final Relation relation) {
+    assert mark.length == sourceMemory.length;
+    final int size = sourceMemory.length;
+    final Matches matches = new Matches();
+    for (int address: candidates) {
+      final int offset = address % size;
+      if (relation.holds(mark[offset] & 0xff, sourceMemory[offset] & 0xff)) {
+	matches.add(address);
+      }
+    }
+    log.fine("Candidates narrowed from " + candidates.length + " to " +
+	     matches.number);
+    return matches.toArray();
+  }
+
+  // compares two linearized arrays, word by word, and gets offsets
+  // of the bytes in the relation
+  private int[] compare(final byte[] marked,
+			final byte[] current,
+			final int number,
+			final Relation relation) {
+    final ByteBuffer a = ByteBuffer.wrap(marked);
+    final ByteBuffer b = ByteBuffer.wrap(current);
+    return scan(number, new Scanner() {
+	@Override
+	public void scan(final int from, final int to, final Matches matches) {
+	  for (int i = from; i < to; i += 8) {
+	    final int end = Math.min(i + 8, to);
+	    if (a.getLong(i) == b.getLong(i)) {
+	      if (relation == Relation.UNCHANGED) {
+		for (int j = i; j < end; j++) {
+		  matches.add(j);
+		}
+	      }
+	    } else {
+	      for (int j = i; j < end; j++) {
+		if (relation.holds(marked[j] & 0xff, current[j] & 0xff)) {
+		  matches.add(j);
+		}
+	      }
+	    }
+	  }
+	}
+      });
+  }
+
+  // gets the number of bytes in a range, limited to the bank size
+  private static int getNumber(final int startAddress,
+			       final int endAddress,
+			       final int size) {
+    return Math.max(0, Math.min(endAddress - startAddress + 1, size));
+  }
+
+  // copies a range of memory, with wrap-around, to a new array
+  // with eight more bytes, so that words can be read at any offset
+  private static byte[] linearize(final byte[] memory,
+				  final int address,
+				  final int length) {
+    final int size = memory.length;
+    final byte[] data = new byte[length + 8];
+    int sourceAddress = address % size;
+    for (int position = 0; position < length;) {
+      final int chunk = Math.min(length - position, size - sourceAddress);
+      System.arraycopy(memory, sourceAddress, data, position, chunk);
+      sourceAddress = (sourceAddress + chunk) % size;
+      position += chunk;
+    }
+    return data;
+  }
+
+  // converts offsets to addresses
+  private static int[] toAddresses(final int[] offsets,
+				   final int startAddress,
+				   final int size) {
+    final int base = startAddress % size;
+    for (int i = 0; i < offsets.length; i++) {
+      offsets[i] = (base + offsets[i]) % size;
+    }
+    return offsets;
+  }
+
+  // scans offsets 0 to number - 1, in parallel slices if the range
+  // is large enough, and concatenates the matches
+  private int[] scan(final int number, final Scanner scanner) {
+    final int numberSlices =
+      Math.max(1, Math.min(number / MIN_SLICE, MAX_SLICES));
+    if (numberSlices == 1) {
+      final Matches matches = new Matches();
+      scanner.scan(0, number, matches);
+      return matches.toArray();
+    }
+
+    // slice boundaries are aligned to words
+    final int sliceSize = ((number / numberSlices) + 7) & ~7;
+    final List<Callable<Matches>> tasks = new ArrayList<>();
+    for (int from = 0; from < number; from += sliceSize) {
+      final int start = from;
+      final int end = Math.min(from + sliceSize, number);
+      tasks.add(new Callable<Matches>() {
+	  @Override
+	  public Matches call() {
+	    final Matches matches = new Matches();
+	    scanner.scan(start, end, matches);
+	    return matches;
+	  }
+	});
+    }
+    final Matches result = new Matches();
+    try {
+      for (Future<Matches> future: ForkJoinPool.commonPool().invokeAll(tasks)) {
+	result.add(future.get());
+      }
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Memory search interrupted");
+    } catch (final ExecutionException exception) {
+      throw new IllegalStateException(exception.getCause());
+    }
+    log.finer("Scanned in " + tasks.size() + " slices");
+    return result.toArray();
+  }
+
+  // scanner of a slice
+  private interface Scanner {
+
+    // adds offsets matching in [from, to) to matches
+    void scan(int from, int to, Matches matches);
+  }
+
+  // growable list of offsets
+  private static class Matches {
+
+    private int[] offsets = new int[0x100];
+    private int number;
+
+    private void add(final int offset) {
+      if (number == offsets.length) {
+	offsets = Arrays.copyOf(offsets, 2 * number);
+      }
+      offsets[number++] = offset;
+    }
+
+    private void add(final Matches matches) {
+      if ((number + matches.number) > offsets.length) {
+	offsets = Arrays.copyOf(offsets,
+				Math.max(2 * offsets.length,
+					 number + matches.number));
+      }
+      System.arraycopy(matches.offsets, 0, offsets, number, matches.number);
+      number += matches.number;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(offsets, number);
+    }
+  }
+}
@@ -101,6 +101,14 @@ public abstract class MemoryTab extends JPanel {
   protected static final FileNameExtensionFilter XMLFilter =
     new FileNameExtensionFilter(
       Application.getString(MemoryTab.class, "fileFilter.XML"), "xml");
+
+  /**
+   * Binary snapshot extension filter used by Save and Load panels.
+   */
+  protected static final FileNameExtensionFilter snapshotFilter =
+    new FileNameExtensionFilter(
+      Application.getString(MemoryTab.class, "fileFilter.snapshot"),
+      BinarySnapshot.EXTENSION);
 	
   /**
    * The default button.
@@ -116,7 +124,7 @@ public abstract class MemoryTab extends JPanel {
     super(new GridBagLayout());
     assert panel != null;
     this.panel = panel;
-    banks = Parameters.memoryDevice.getBlocks();
+    banks = Parameters.getMemoryDevice().getBlocks();
     numberBanks = banks.size();
   }
 
@@ -44,6 +44,9 @@ public class Raw extends MemoryProcessor {
   private static final Logger log =
     Logger.getLogger(Raw.class.getName());
 
+  // size of the read buffer
+  private static final int BUFFER_SIZE = 0x1000;
+
   /**
    * Creates an instance of raw format reader/writer.
    *
@@ -76,11 +79,12 @@ public class Raw extends MemoryProcessor {
       number));
     final int sourceSize = sourceMemory.length;
     try (final OutputStream outputStream = new FileOutputStream(file)) {
-      for (int i = 0; i < number; i++) {
-	final int address = (startAddress + i) % sourceSize;
-	final int data = sourceMemory[address] & 0xff;
-	outputStream.write(data);
-	log.finest(String.format("Write: %04x -> %02x", address, data));
+      int address = startAddress % sourceSize;
+      for (int remaining = number; remaining > 0;) {
+	final int chunk = Math.min(remaining, sourceSize - address);
+	outputStream.write(sourceMemory, address, chunk);
+	address = (address + chunk) % sourceSize;
+	remaining -= chunk;
       }
     } catch (final Exception exception) {
       log.fine("Error, writing failed, exception: " + exception.getMessage());
@@ -101,24 +105,13 @@ public class Raw extends MemoryProcessor {
       "Reading raw data from a file, file: %s, destination address: %04x",
       file.getName(),
       destinationAddress));
-    final int destinationSize = destinationMemory.length;
     final Info info = new Info();
     try (final InputStream inputStream = new FileInputStream(file)) {
-      int data;
-      while ((data = inputStream.read()) != -1) {
-	destinationAddress %= destinationSize;
-	if (destinationAddress < info.minAddress) {
-	  info.minAddress = destinationAddress;
-	}
-	if (destinationAddress > info.maxAddress) {
-	  info.maxAddress = destinationAddress;
-	}
-	destinationMemory[destinationAddress] = (byte)data;
-	log.finest(String.format("Read: %02x -> (%04x)",
-				 data,
-				 destinationAddress));
-	destinationAddress++;
-	info.number++;
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int length;
+      while ((length = inputStream.read(buffer)) != -1) {
+	store(destinationAddress + info.number, buffer, 0, length, info);
+	info.number += length;
       }
     } catch (final Exception exception) {
       log.fine("Error, reading failed, exception: " + exception.getMessage());
@@ -541,7 +541,10 @@ public class Save extends MemoryTab {
 	filter = rawFilter;
       } else if (saveRadioHEX.isSelected()) {
 	filter = HEXFilter;
-      } else if (saveRadioXML.isSelected() || saveRadioSnapshot.isSelected()) {
+      } else if (saveRadioXML.isSelected()) {
+	filter = XMLFilter;
+      } else if (saveRadioSnapshot.isSelected()) {
+	fileChooser.addChoosableFileFilter(snapshotFilter);
 	filter = XMLFilter;
       } else {
 	filter = plugins[pluginIndex].getFilter();
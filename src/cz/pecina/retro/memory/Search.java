@@ -0,0 +1,662 @@
+/* Search.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.util.logging.Logger;
+
+import java.util.List;
+import java.util.ArrayList;
+
+import java.awt.GridBagLayout;
+import java.awt.GridBagConstraints;
+import java.awt.Insets;
+import java.awt.FlowLayout;
+import java.awt.Font;
+
+import java.awt.event.ActionListener;
+import java.awt.event.ActionEvent;
+
+import javax.swing.JLabel;
+import javax.swing.JRadioButton;
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+import javax.swing.JTextArea;
+import javax.swing.JScrollPane;
+import javax.swing.JComboBox;
+import javax.swing.JCheckBox;
+import javax.swing.ButtonGroup;
+import javax.swing.BorderFactory;
+
+import cz.pecina.retro.common.Application;
+
+import cz.pecina.retro.cpu.Block;
+
+import cz.pecina.retro.gui.RadioClick;
+import cz.pecina.retro.gui.HexField;
+import cz.pecina.retro.gui.InfoBox;
+
+/**
+ * Memory/Search panel.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class Search extends MemoryTab {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(Search.class.getName());
+
+  // monospaced font used for the results
+  private static final Font FONT_MONOSPACED =
+    new Font(Font.MONOSPACED, Font.PLAIN, 13);
+
+  // maximum number of results displayed
+  private static final int MAX_RESULTS = 0x400;
+
+  // number of results per line
+  private static final int RESULTS_PER_LINE = 8;
+
+  // components holding values used by listeners
+  private JRadioButton findRadio, diffRadio, changesRadio;
+  private HexField findStartField, findEndField,
+    diffStartField, diffEndField, diffDestinationField,
+    changesStartField, changesEndField;
+  private JTextField findPatternField;
+  private JComboBox<String> changesRelationBox;
+  private JCheckBox changesNarrowBox;
+  private JTextArea resultsArea;
+
+  // lists of bank selection radio buttons
+  private List<JRadioButton> sourceBankRadioButtons = new ArrayList<>();
+  private List<JRadioButton> destinationBankRadioButtons = new ArrayList<>();
+
+  // the mark, its memory bank and the results of the last search
+  // for changes
+  private byte[] mark;
+  private String markMemoryBank;
+  private int[] candidates;
+
+  /**
+   * Creates Memory/Search panel.
+   *
+   * @param panel enclosing panel
+   */
+  public Search(final MemoryPanel panel) {
+    super(panel);
+    log.fine("New Memory/Search creation started");
+
+    setBorder(BorderFactory.createEmptyBorder(5, 8, 0, 8));
+    final ButtonGroup searchGroup = new ButtonGroup();
+    int line = 0;
+
+    if (numberBanks > 1) {
+
+      final GridBagConstraints banksPaneConstraints =
+	new GridBagConstraints();
+      final JPanel banksPane =
+	new JPanel(new GridBagLayout());
+      banksPaneConstraints.gridx = 0;
+      banksPaneConstraints.gridy = line;
+      banksPaneConstraints.insets = new Insets(0, 3, 0, 0);
+      banksPaneConstraints.gridwidth = GridBagConstraints.REMAINDER;
+      banksPaneConstraints.anchor = GridBagConstraints.LINE_START;
+      banksPaneConstraints.weightx = 0.0;
+      banksPaneConstraints.weighty = 0.0;
+
+      final GridBagConstraints sourceBankLabelConstraints =
+	new GridBagConstraints();
+      final JLabel sourceBankLabel =
+	new JLabel(Application.getString(this, "bank.search") + ":");
+      sourceBankLabelConstraints.gridx = 0;
+      sourceBankLabelConstraints.gridy = 0;
+      sourceBankLabelConstraints.insets = new Insets(0, 3, 0, 0);
+      sourceBankLabelConstraints.anchor = GridBagConstraints.LINE_END;
+      sourceBankLabelConstraints.weightx = 0.0;
+      sourceBankLabelConstraints.weighty = 0.0;
+      banksPane.add(sourceBankLabel, sourceBankLabelConstraints);
+
+      final GridBagConstraints sourceBankPanelConstraints =
+	new GridBagConstraints();
+      final JPanel sourceBankPanel =
+	new JPanel(new FlowLayout(FlowLayout.LEADING, 3, 0));
+      sourceBankPanelConstraints.gridx = 1;
+      sourceBankPanelConstraints.gridy = 0;
+      sourceBankPanelConstraints.gridwidth = GridBagConstraints.REMAINDER;
+      sourceBankPanelConstraints.anchor = GridBagConstraints.LINE_START;
+      sourceBankPanelConstraints.weightx = 0.0;
+      sourceBankPanelConstraints.weighty = 0.0;
+
+      final ButtonGroup sourceBankGroup = new ButtonGroup();
+      for (Block bank: banks) {
+	final JRadioButton sourceBankRadioButton =
+	  new JRadioButton(bank.getName());
+	sourceBankRadioButtons.add(sourceBankRadioButton);
+	sourceBankPanel.add(sourceBankRadioButton);
+	sourceBankGroup.add(sourceBankRadioButton);
+      }
+      sourceBankRadioButtons.get(0).setSelected(true);
+
+      banksPane.add(sourceBankPanel, sourceBankPanelConstraints);
+
+      final GridBagConstraints destinationBankLabelConstraints =
+	new GridBagConstraints();
+      final JLabel destinationBankLabel =
+	new JLabel(Application.getString(this, "bank.diff") + ":");
+      destinationBankLabelConstraints.gridx = 0;
+      destinationBankLabelConstraints.gridy = 1;
+      destinationBankLabelConstraints.insets = new Insets(0, 3, 0, 0);
+      destinationBankLabelConstraints.anchor = GridBagConstraints.LINE_END;
+      destinationBankLabelConstraints.weightx = 0.0;
+      destinationBankLabelConstraints.weighty = 0.0;
+      banksPane.add(destinationBankLabel, destinationBankLabelConstraints);
+
+      final GridBagConstraints destinationBankPanelConstraints =
+	new GridBagConstraints();
+      final JPanel destinationBankPanel =
+	new JPanel(new FlowLayout(FlowLayout.LEADING, 3, 0));
+      destinationBankPanelConstraints.gridx = 1;
+      destinationBankPanelConstraints.gridy = 1;
+      destinationBankPanelConstraints.gridwidth = GridBagConstraints.REMAINDER;
+      destinationBankPanelConstraints.anchor = GridBagConstraints.LINE_START;
+      destinationBankPanelConstraints.weightx = 0.0;
+      destinationBankPanelConstraints.weighty = 0.0;
+
+      final ButtonGroup destinationBankGroup = new ButtonGroup();
+      for (Block bank: banks) {
+	final JRadioButton destinationBankRadioButton =
+	  new JRadioButton(bank.getName());
+	destinationBankRadioButtons.add(destinationBankRadioButton);
+	destinationBankPanel.add(destinationBankRadioButton);
+	destinationBankGroup.add(destinationBankRadioButton);
+      }
+      destinationBankRadioButtons.get(0).setSelected(true);
+      banksPane.add(destinationBankPanel, destinationBankPanelConstraints);
+
+      add(banksPane, banksPaneConstraints);
+      line++;
+    }
+
+    final GridBagConstraints findRadioConstraints =
+      new GridBagConstraints();
+    findRadio = new JRadioButton(Application.getString(this, "find"));
+    findRadio.setSelected(true);
+    findRadioConstraints.gridx = 0;
+    findRadioConstraints.gridy = line;
+    findRadioConstraints.insets = new Insets(2, 0, 0, 0);
+    findRadioConstraints.anchor = GridBagConstraints.LINE_START;
+    findRadioConstraints.weightx = 0.0;
+    findRadioConstraints.weighty = 0.0;
+    add(findRadio, findRadioConstraints);
+    searchGroup.add(findRadio);
+
+    final GridBagConstraints findStartConstraints =
+      new GridBagConstraints();
+    final JLabel findStart =
+      new JLabel(Application.getString(this, "find.start") + ":");
+    findStartConstraints.gridx = 1;
+    findStartConstraints.gridy = line;
+    findStartConstraints.insets = new Insets(2, 10, 0, 0);
+    findStartConstraints.anchor = GridBagConstraints.LINE_END;
+    findStartConstraints.weightx = 0.0;
+    findStartConstraints.weighty = 0.0;
+    add(findStart, findStartConstraints);
+
+    final GridBagConstraints findStartFieldConstraints =
+      new GridBagConstraints();
+    findStartField = new HexField(4);
+    findStart.setLabelFor(findStartField);
+    findStartField.addMouseListener(new RadioClick(findRadio));
+    findStartFieldConstraints.gridx = 2;
+    findStartFieldConstraints.gridy = line;
+    findStartFieldConstraints.insets = new Insets(2, 3, 0, 10);
+    findStartFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    findStartFieldConstraints.weightx = 0.0;
+    findStartFieldConstraints.weighty = 0.0;
+    add(findStartField, findStartFieldConstraints);
+
+    final GridBagConstraints findEndConstraints =
+      new GridBagConstraints();
+    final JLabel findEnd =
+      new JLabel(Application.getString(this, "find.end") + ":");
+    findEndConstraints.gridx = 3;
+    findEndConstraints.gridy = line;
+    findEndConstraints.insets = new Insets(2, 10, 0, 0);
+    findEndConstraints.anchor = GridBagConstraints.LINE_END;
+    findEndConstraints.weightx = 0.0;
+    findEndConstraints.weighty = 0.0;
+    add(findEnd, findEndConstraints);
+
+    final GridBagConstraints findEndFieldConstraints =
+      new GridBagConstraints();
+    findEndField = new HexField(4);
+    findEnd.setLabelFor(findEndField);
+    findEndField.addMouseListener(new RadioClick(findRadio));
+    findEndFieldConstraints.gridx = 4;
+    findEndFieldConstraints.gridy = line;
+    findEndFieldConstraints.insets = new Insets(2, 3, 0, 10);
+    findEndFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    findEndFieldConstraints.weightx = 0.0;
+    findEndFieldConstraints.weighty = 0.0;
+    add(findEndField, findEndFieldConstraints);
+
+    final GridBagConstraints findPatternConstraints =
+      new GridBagConstraints();
+    final JLabel findPattern =
+      new JLabel(Application.getString(this, "find.pattern") + ":");
+    findPatternConstraints.gridx = 5;
+    findPatternConstraints.gridy = line;
+    findPatternConstraints.insets = new Insets(2, 10, 0, 0);
+    findPatternConstraints.anchor = GridBagConstraints.LINE_END;
+    findPatternConstraints.weightx = 0.0;
+    findPatternConstraints.weighty = 0.0;
+    add(findPattern, findPatternConstraints);
+
+    final GridBagConstraints findPatternFieldConstraints =
+      new GridBagConstraints();
+    findPatternField = new JTextField(16);
+    findPattern.setLabelFor(findPatternField);
+    findPatternField.addMouseListener(new RadioClick(findRadio));
+    findPatternFieldConstraints.gridx = 6;
+    findPatternFieldConstraints.gridy = line;
+    findPatternFieldConstraints.gridwidth = GridBagConstraints.REMAINDER;
+    findPatternFieldConstraints.insets = new Insets(2, 3, 0, 0);
+    findPatternFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    findPatternFieldConstraints.weightx = 1.0;
+    findPatternFieldConstraints.weighty = 0.0;
+    add(findPatternField, findPatternFieldConstraints);
+
+    line++;
+
+    final GridBagConstraints diffRadioConstraints =
+      new GridBagConstraints();
+    diffRadio = new JRadioButton(Application.getString(this, "diff"));
+    diffRadioConstraints.gridx = 0;
+    diffRadioConstraints.gridy = line;
+    diffRadioConstraints.anchor = GridBagConstraints.LINE_START;
+    diffRadioConstraints.weightx = 0.0;
+    diffRadioConstraints.weighty = 0.0;
+    add(diffRadio, diffRadioConstraints);
+    searchGroup.add(diffRadio);
+
+    final GridBagConstraints diffStartConstraints =
+      new GridBagConstraints();
+    final JLabel diffStart =
+      new JLabel(Application.getString(this, "diff.start") + ":");
+    diffStartConstraints.gridx = 1;
+    diffStartConstraints.gridy = line;
+    diffStartConstraints.insets = new Insets(0, 10, 0, 0);
+    diffStartConstraints.anchor = GridBagConstraints.LINE_END;
+    diffStartConstraints.weightx = 0.0;
+    diffStartConstraints.weighty = 0.0;
+    add(diffStart, diffStartConstraints);
+
+    final GridBagConstraints diffStartFieldConstraints =
+      new GridBagConstraints();
+    diffStartField = new HexField(4);
+    diffStart.setLabelFor(diffStartField);
+    diffStartField.addMouseListener(new RadioClick(diffRadio));
+    diffStartFieldConstraints.gridx = 2;
+    diffStartFieldConstraints.gridy = line;
+    diffStartFieldConstraints.insets = new Insets(0, 3, 0, 10);
+    diffStartFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    diffStartFieldConstraints.weightx = 0.0;
+    diffStartFieldConstraints.weighty = 0.0;
+    add(diffStartField, diffStartFieldConstraints);
+
+    final GridBagConstraints diffEndConstraints =
+      new GridBagConstraints();
+    final JLabel diffEnd =
+      new JLabel(Application.getString(this, "diff.end") + ":");
+    diffEndConstraints.gridx = 3;
+    diffEndConstraints.gridy = line;
+    diffEndConstraints.insets = new Insets(0, 10, 0, 0);
+    diffEndConstraints.anchor = GridBagConstraints.LINE_END;
+    diffEndConstraints.weightx = 0.0;
+    diffEndConstraints.weighty = 0.0;
+    add(diffEnd, diffEndConstraints);
+
+    final GridBagConstraints diffEndFieldConstraints =
+      new GridBagConstraints();
+    diffEndField = new HexField(4);
+    diffEnd.setLabelFor(diffEndField);
+    diffEndField.addMouseListener(new RadioClick(diffRadio));
+    diffEndFieldConstraints.gridx = 4;
+    diffEndFieldConstraints.gridy = line;
+    diffEndFieldConstraints.insets = new Insets(0, 3, 0, 10);
+    diffEndFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    diffEndFieldConstraints.weightx = 0.0;
+    diffEndFieldConstraints.weighty = 0.0;
+    add(diffEndField, diffEndFieldConstraints);
+
+    final GridBagConstraints diffDestinationConstraints =
+      new GridBagConstraints();
+    final JLabel diffDestination =
+      new JLabel(Application.getString(this, "diff.destination") + ":");
+    diffDestinationConstraints.gridx = 5;
+    diffDestinationConstraints.gridy = line;
+    diffDestinationConstraints.insets = new Insets(0, 10, 0, 0);
+    diffDestinationConstraints.anchor = GridBagConstraints.LINE_END;
+    diffDestinationConstraints.weightx = 0.0;
+    diffDestinationConstraints.weighty = 0.0;
+    add(diffDestination, diffDestinationConstraints);
+
+    final GridBagConstraints diffDestinationFieldConstraints =
+      new GridBagConstraints();
+    diffDestinationField = new HexField(4);
+    diffDestination.setLabelFor(diffDestinationField);
+    diffDestinationField.addMouseListener(new RadioClick(diffRadio));
+    diffDestinationFieldConstraints.gridx = 6;
+    diffDestinationFieldConstraints.gridy = line;
+    diffDestinationFieldConstraints.gridwidth = GridBagConstraints.REMAINDER;
+    diffDestinationFieldConstraints.insets = new Insets(0, 3, 0, 0);
+    diffDestinationFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    diffDestinationFieldConstraints.weightx = 1.0;
+    diffDestinationFieldConstraints.weighty = 0.0;
+    add(diffDestinationField, diffDestinationFieldConstraints);
+
+    line++;
+
+    final GridBagConstraints changesRadioConstraints =
+      new GridBagConstraints();
+    changesRadio = new JRadioButton(Application.getString(this, "changes"));
+    changesRadioConstraints.gridx = 0;
+    changesRadioConstraints.gridy = line;
+    changesRadioConstraints.anchor = GridBagConstraints.LINE_START;
+    changesRadioConstraints.weightx = 0.0;
+    changesRadioConstraints.weighty = 0.0;
+    add(changesRadio, changesRadioConstraints);
+    searchGroup.add(changesRadio);
+
+    final GridBagConstraints changesStartConstraints =
+      new GridBagConstraints();
+    final JLabel changesStart =
+      new JLabel(Application.getString(this, "changes.start") + ":");
+    changesStartConstraints.gridx = 1;
+    changesStartConstraints.gridy = line;
+    changesStartConstraints.insets = new Insets(0, 10, 0, 0);
+    changesStartConstraints.anchor = GridBagConstraints.LINE_END;
+    changesStartConstraints.weightx = 0.0;
+    changesStartConstraints.weighty = 0.0;
+    add(changesStart, changesStartConstraints);
+
+    final GridBagConstraints changesStartFieldConstraints =
+      new GridBagConstraints();
+    changesStartField = new HexField(4);
+    changesStart.setLabelFor(changesStartField);
+    changesStartField.addMouseListener(new RadioClick(changesRadio));
+    changesStartFieldConstraints.gridx = 2;
+    changesStartFieldConstraints.gridy = line;
+    changesStartFieldConstraints.insets = new Insets(0, 3, 0, 10);
+    changesStartFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    changesStartFieldConstraints.weightx = 0.0;
+    changesStartFieldConstraints.weighty = 0.0;
+    add(changesStartField, changesStartFieldConstraints);
+
+    final GridBagConstraints changesEndConstraints =
+      new GridBagConstraints();
+    final JLabel changesEnd =
+      new JLabel(Application.getString(this, "changes.end") + ":");
+    changesEndConstraints.gridx = 3;
+    changesEndConstraints.gridy = line;
+    changesEndConstraints.insets = new Insets(0, 10, 0, 0);
+    changesEndConstraints.anchor = GridBagConstraints.LINE_END;
+    changesEndConstraints.weightx = 0.0;
+    changesEndConstraints.weighty = 0.0;
+    add(changesEnd, changesEndConstraints);
+
+    final GridBagConstraints changesEndFieldConstraints =
+      new GridBagConstraints();
+    changesEndField = new HexField(4);
+    changesEnd.setLabelFor(changesEndField);
+    changesEndField.addMouseListener(new RadioClick(changesRadio));
+    changesEndFieldConstraints.gridx = 4;
+    changesEndFieldConstraints.gridy = line;
+    changesEndFieldConstraints.insets = new Insets(0, 3, 0, 10);
+    changesEndFieldConstraints.anchor = GridBagConstraints.LINE_START;
+    changesEndFieldConstraints.weightx = 0.0;
+    changesEndFieldConstraints.weighty = 0.0;
+    add(changesEndField, changesEndFieldConstraints);
+
+    final GridBagConstraints changesRelationConstraints =
+      new GridBagConstraints();
+    final JLabel changesRelation =
+      new JLabel(Application.getString(this, "changes.relation") + ":");
+    changesRelationConstraints.gridx = 5;
+    changesRelationConstraints.gridy = line;
+    changesRelationConstraints.insets = new Insets(0, 10, 0, 0);
+    changesRelationConstraints.anchor = GridBagConstraints.LINE_END;
+    changesRelationConstraints.weightx = 0.0;
+    changesRelationConstraints.weighty = 0.0;
+    add(changesRelation, changesRelationConstraints);
+
+    final GridBagConstraints changesRelationBoxConstraints =
+      new GridBagConstraints();
+    changesRelationBox = new JComboBox<>();
+    for (MemorySearch.Relation relation: MemorySearch.Relation.values()) {
+      changesRelationBox.addItem(Application.getString(
+        this,
+	"changes.relation." + relation.name().toLowerCase()));
+    }
+    changesRelation.setLabelFor(changesRelationBox);
+    changesRelationBox.addMouseListener(new RadioClick(changesRadio));
+    changesRelationBoxConstraints.gridx = 6;
+    changesRelationBoxConstraints.gridy = line;
+    changesRelationBoxConstraints.gridwidth = GridBagConstraints.REMAINDER;
+    changesRelationBoxConstraints.insets = new Insets(0, 3, 0, 0);
+    changesRelationBoxConstraints.anchor = GridBagConstraints.LINE_START;
+    changesRelationBoxConstraints.weightx = 1.0;
+    changesRelationBoxConstraints.weighty = 0.0;
+    add(changesRelationBox, changesRelationBoxConstraints);
+
+    line++;
+
+    final GridBagConstraints changesNarrowBoxConstraints =
+      new GridBagConstraints();
+    changesNarrowBox =
+      new JCheckBox(Application.getString(this, "changes.narrow"));
+    changesNarrowBox.addMouseListener(new RadioClick(changesRadio));
+    changesNarrowBoxConstraints.gridx = 1;
+    changesNarrowBoxConstraints.gridy = line;
+    changesNarrowBoxConstraints.gridwidth = GridBagConstraints.REMAINDER;
+    changesNarrowBoxConstraints.insets = new Insets(0, 7, 0, 0);
+    changesNarrowBoxConstraints.anchor = GridBagConstraints.LINE_START;
+    changesNarrowBoxConstraints.weightx = 0.0;
+    changesNarrowBoxConstraints.weighty = 0.0;
+    add(changesNarrowBox, changesNarrowBoxConstraints);
+
+    line++;
+
+    final GridBagConstraints resultsConstraints =
+      new GridBagConstraints();
+    resultsArea = new JTextArea(8, 0);
+    resultsArea.setFont(FONT_MONOSPACED);
+    resultsArea.setEditable(false);
+    final JScrollPane resultsPane = new JScrollPane(resultsArea);
+    resultsConstraints.gridx = 0;
+    resultsConstraints.gridy = line;
+    resultsConstraints.gridwidth = GridBagConstraints.REMAINDER;
+    resultsConstraints.insets = new Insets(5, 3, 0, 0);
+    resultsConstraints.fill = GridBagConstraints.BOTH;
+    resultsConstraints.weightx = 1.0;
+    resultsConstraints.weighty = 1.0;
+    add(resultsPane, resultsConstraints);
+
+    line++;
+
+    final GridBagConstraints searchButtonsConstraints =
+      new GridBagConstraints();
+    final JPanel searchButtonsPanel =
+      new JPanel(new FlowLayout(FlowLayout.TRAILING));
+    searchButtonsConstraints.gridx = 0;
+    searchButtonsConstraints.gridy = line;
+    searchButtonsConstraints.gridwidth = GridBagConstraints.REMAINDER;
+    searchButtonsConstraints.anchor = GridBagConstraints.LAST_LINE_END;
+    searchButtonsConstraints.weightx = 0.0;
+    searchButtonsConstraints.weighty = 0.0;
+    final JButton markButton =
+      new JButton(Application.getString(this, "search.button.mark"));
+    markButton.addActionListener(new MarkListener());
+    searchButtonsPanel.add(markButton);
+    final JButton searchButton =
+      new JButton(Application.getString(this, "search.button.search"));
+    defaultButton = searchButton;
+    searchButton.addActionListener(new SearchListener());
+    searchButtonsPanel.add(searchButton);
+    final JButton searchCloseButton =
+      new JButton(Application.getString(this, "search.button.close"));
+    searchCloseButton.addActionListener(new CloseListener());
+    searchButtonsPanel.add(searchCloseButton);
+    add(searchButtonsPanel, searchButtonsConstraints);
+
+    log.fine("Memory/Search panel set up");
+  }
+
+  // gets the selected memory banks
+  private void selectBanks() {
+    if (numberBanks > 1) {
+      for (JRadioButton button: sourceBankRadioButtons) {
+	if (button.isSelected()) {
+	  sourceMemoryBank = button.getText();
+	  log.fine("Source memory bank selected: " + sourceMemoryBank);
+	  break;
+	}
+      }
+      for (JRadioButton button: destinationBankRadioButtons) {
+	if (button.isSelected()) {
+	  destinationMemoryBank = button.getText();
+	  log.fine("Destination memory bank selected: " +
+		   destinationMemoryBank);
+	  break;
+	}
+      }
+    }
+  }
+
+  // creates the search engine
+  private MemorySearch getMemorySearch() {
+    return new MemorySearch(panel.getHardware(),
+			    sourceMemoryBank,
+			    destinationMemoryBank);
+  }
+
+  // displays the results, with the values at the addresses found
+  private void displayResults(final int[] addresses,
+			      final byte[] memory,
+			      final byte[] otherMemory) {
+    final StringBuilder results = new StringBuilder();
+    final int number = Math.min(addresses.length, MAX_RESULTS);
+    for (int i = 0; i < number; i++) {
+      final int address = addresses[i];
+      results.append(
+        String.format("%04X:%02X", address, memory[address] & 0xff));
+      if (otherMemory != null) {
+	results.append(String.format(
+	  "/%02X",
+	  otherMemory[address % otherMemory.length] & 0xff));
+      }
+      results.append(
+        (((i % RESULTS_PER_LINE) == (RESULTS_PER_LINE - 1)) ||
+	 (i == (number - 1))) ? '\n' : ' ');
+    }
+    if (addresses.length > number) {
+      results.append(String.format(
+	Application.getString(this, "search.more"),
+	addresses.length - number));
+    }
+    resultsArea.setText(results.toString());
+    resultsArea.setCaretPosition(0);
+  }
+
+  // mark listener
+  private class MarkListener implements ActionListener {
+
+    // for description see ActionListener
+    @Override
+    public void actionPerformed(final ActionEvent event) {
+      log.finer("Mark listener action started");
+      selectBanks();
+      mark = getMemorySearch().mark();
+      markMemoryBank = sourceMemoryBank;
+      candidates = null;
+      changesRadio.setSelected(true);
+      InfoBox.display(panel, Application.getString(this, "marked"));
+    }
+  }
+
+  // search listener
+  private class SearchListener implements ActionListener {
+
+    // for description see ActionListener
+    @Override
+    public void actionPerformed(final ActionEvent event) {
+      log.finer("Search listener action started");
+      selectBanks();
+      final MemorySearch memorySearch = getMemorySearch();
+      final byte[] memory = memorySearch.mark();
+      int[] found;
+      try {
+	if (findRadio.isSelected()) {
+	  found = memorySearch.find(
+	    findStartField.getValue(),
+	    findEndField.getValue(),
+	    new MemorySearch.Pattern(findPatternField.getText()));
+	  displayResults(found, memory, null);
+	} else if (diffRadio.isSelected()) {
+	  found = memorySearch.diff(
+	    diffStartField.getValue(),
+	    diffEndField.getValue(),
+	    diffDestinationField.getValue());
+	  displayResults(found, memory, null);
+	} else {
+	  if ((mark == null) || !sourceMemoryBank.equals(markMemoryBank)) {
+	    InfoBox.display(panel, Application.getString(this, "noMark"));
+	    return;
+	  }
+	  final MemorySearch.Relation relation =
+	    MemorySearch.Relation.values()[
+	      changesRelationBox.getSelectedIndex()];
+	  if (changesNarrowBox.isSelected() && (candidates != null)) {
+	    found = memorySearch.changes(mark, candidates, relation);
+	  } else {
+	    found = memorySearch.changes(
+	      mark,
+	      changesStartField.getValue(),
+	      changesEndField.getValue(),
+	      relation);
+	  }
+	  displayResults(found, memory, mark);
+
+	  // the next search compares with the current values
+	  mark = memory;
+	  candidates = found;
+	}
+      } catch (final NumberFormatException exception) {
+	InfoBox.display(panel, Application.getString(this, "incompleteForm"));
+	return;
+      }
+      InfoBox.display(
+	panel,
+	String.format(Application.getString(this, "searched"), found.length));
+    }
+  }
+}
@@ -49,6 +49,12 @@ import cz.pecina.retro.cpu.Hardware;
 
 /**
  * Hardware snapshot reader/writer.
+ * <p>
+ * Snapshots are written in XML, unless the file name has
+ * the extension of binary snapshots, in which case the work is
+ * delegated to {@link BinarySnapshot}.  Binary snapshots are
+ * recognized on reading by their magic number.  XML snapshots are
+ * read by the streaming {@link SnapshotReader}.
  *
  * @author @AUTHOR@
  * @version @VERSION@
@@ -60,13 +66,10 @@ public class Snapshot extends MemoryProcessor {
     Logger.getLogger(Snapshot.class.getName());
 
   // XML file version
-  private static final String SNAPSHOT_XML_FILE_VERSION = "2.0";
+  static final String SNAPSHOT_XML_FILE_VERSION = "2.0";
 
-  // name of the <bytes> tag
-  private static final String subtagName = "bytes";
-
-  // cut-off number of equal bytes
-  private static final int COUNT_LIMIT = 7;
+  // true if XML snapshots are validated on reading
+  private boolean validating = true;
 
   /**
    * Creates an instance of {@code Snapshot} reader/writer.
@@ -78,13 +81,83 @@ public class Snapshot extends MemoryProcessor {
     log.fine("New Snapshot created");
   }
 
+  /**
+   * Sets whether XML snapshots are validated against the schema
+   * on reading.  Validation is on by default.
+   *
+   * @param validating {@code true} if snapshots are to be validated
+   */
+  public void setValidating(final boolean validating) {
+    this.validating = validating;
+  }
+
   /**
    * Writes a hardware shapshot to a file.
    *
    * @param file output file
    */
   public void write(final File file) {
+    if (BinarySnapshot.hasExtension(file)) {
+      new BinarySnapshot(hardware).write(file);
+      return;
+    }
     log.fine("Writing snapshot to a file, file: " + file.getName());
+    final Element snapshot = createRoot();
+    hardware.marshal(snapshot);
+    writeXML(snapshot, file);
+    log.fine("Writing completed");
+  }
+	
+  /**
+   * Reads snapshot from a file and sets hardware accordingly.
+   *
+   * @param file input file
+   */
+  public void read(final File file) {
+    if (BinarySnapshot.isBinary(file)) {
+      new BinarySnapshot(hardware).read(file);
+      return;
+    }
+    log.fine("Reading snapshot from a file, file: " + file.getName());
+    new SnapshotReader(hardware).read(file, validating);
+    log.fine("Reading completed");
+  }	    
+
+  /**
+   * Converts a snapshot file between the XML and the binary format.
+   * The format of the source file is detected from its contents,
+   * the format of the destination file is selected by its extension.
+   * The conversion does not require any hardware.
+   *
+   * @param source      the source file
+   * @param destination the destination file
+   */
+  public static void convert(final File source, final File destination) {
+    log.fine("Converting snapshot: " + source.getName() + " -> " +
+	     destination.getName());
+    if (BinarySnapshot.isBinary(source)) {
+      if (BinarySnapshot.hasExtension(destination)) {
+	BinarySnapshot.writeFile(BinarySnapshot.readFile(source).array(),
+				 destination);
+      } else {
+	final Element snapshot = createRoot();
+	BinarySnapshot.toElement(BinarySnapshot.readFile(source), snapshot);
+	writeXML(snapshot, destination);
+      }
+    } else {
+      final Element snapshot = readXML(source);
+      if (BinarySnapshot.hasExtension(destination)) {
+	BinarySnapshot.writeFile(BinarySnapshot.fromElement(snapshot),
+				 destination);
+      } else {
+	writeXML(snapshot, destination);
+      }
+    }
+    log.fine("Conversion completed");
+  }
+
+  // creates an empty <snapshot> tag
+  private static Element createRoot() {
     final Element snapshot = new Element("snapshot");
     final Namespace namespace =
       Namespace.getNamespace("xsi",
@@ -95,33 +168,31 @@ public class Snapshot extends MemoryProcessor {
       Application.XSD_PREFIX + "snapshot-" + SNAPSHOT_XML_FILE_VERSION + ".xsd",
       namespace);
     snapshot.setAttribute("version", SNAPSHOT_XML_FILE_VERSION);
-    hardware.marshal(snapshot);
+    return snapshot;
+  }
+
+  // writes a <snapshot> tag to an XML file
+  private static void writeXML(final Element snapshot, final File file) {
     final Document doc = new Document(snapshot);
     try (final PrintWriter writer = new PrintWriter(file)) {
       new XMLOutputter(Format.getPrettyFormat()).output(doc, writer);
     } catch (final Exception exception) {
       log.fine("Error, writing failed, exception: " + exception.getMessage());
-      throw Application.createError(this, "XMLWrite");
+      throw Application.createError(Snapshot.class, "XMLWrite");
     }
-    log.fine("Writing completed");
   }
-	
-  /**
-   * Reads snapshot from a file and sets hardware accordingly.
-   *
-   * @param file input file
-   */
-  public void read(final File file) {
-    log.fine("Reading snapshot from a file, file: " + file.getName());
+
+  // reads and validates an XML file, returns the <snapshot> tag
+  private static Element readXML(final File file) {
     try {
       SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
-	.newSchema(new StreamSource(getClass()
+	.newSchema(new StreamSource(Snapshot.class
 	.getResourceAsStream("snapshot-" + SNAPSHOT_XML_FILE_VERSION + ".xsd")))
 	.newValidator().validate(new StreamSource(file));
     } catch (final Exception exception) {
       log.fine("Error, validation failed, exception: " +
 	       exception.getMessage());
-      throw Application.createError(this, "validation");
+      throw Application.createError(Snapshot.class, "validation");
     }
     Document doc;
     Element snapshot;
@@ -129,29 +200,28 @@ public class Snapshot extends MemoryProcessor {
       doc = new SAXBuilder().build(file);
     } catch (final JDOMException exception) {
       log.fine("Error, parsing failed, exception: " + exception.getMessage());
-      throw Application.createError(this, "parsing");
+      throw Application.createError(Snapshot.class, "parsing");
     } catch (final Exception exception) {
       log.fine("Error, reading failed, exception: " + exception.getMessage());
-      throw Application.createError(this, "XMLRead");
+      throw Application.createError(Snapshot.class, "XMLRead");
     }
     try {
       snapshot = doc.getRootElement();
     } catch (final Exception exception) {
       log.fine("Error, parsing failed, exception: " + exception.getMessage());
-      throw Application.createError(this, "parsing");
+      throw Application.createError(Snapshot.class, "parsing");
     }
     if (!snapshot.getName().equals("snapshot")) {
       log.fine("Error, parsing failed, no <snapshot> tag");
-      throw Application.createError(this, "parsing");
+      throw Application.createError(Snapshot.class, "parsing");
     }
     if (!SNAPSHOT_XML_FILE_VERSION
 	.equals(snapshot.getAttributeValue("version"))) {
       log.fine("Version mismatch");
-      throw Application.createError(this, "version");
+      throw Application.createError(Snapshot.class, "version");
     }
-    hardware.unmarshal(snapshot);
-    log.fine("Reading completed");
-  }	    
+    return snapshot;
+  }
 
   /**
    * Builds a block tag.
@@ -170,63 +240,7 @@ public class Snapshot extends MemoryProcessor {
       " number of bytes: %d",
       startAddress,
       number));
-    final int size = memory.length;
-    boolean inSequence = false;
-    StringBuilder data = new StringBuilder();
-    Element bytes;
-    for (int i = 0, j = 0; i < number;) {
-      final int memoryI = memory[(startAddress + i) % size] & 0xff;
-      final int remain = number - i;	
-      boolean compress = false;
-      if (remain >= COUNT_LIMIT) {
-	compress = true;
-	for (j = 0; j < COUNT_LIMIT; j++) {
-	  if (memoryI != (memory[(startAddress + i + j) % size] & 0xff)) {
-	    compress = false;
-	    break;
-	  }
-	}
-      }
-      if (compress) {
-	for (; j < remain; j++) {
-	  if (memoryI != (memory[(startAddress + i + j) % size] & 0xff)) {
-	    break;
-	  }
-	}
-	if (inSequence) {
-	  bytes = new Element(subtagName);
-	  bytes.addContent(data.toString());
-	  tag.addContent(bytes);
-	  data = new StringBuilder();
-	  log.finest("Data sequence closed");
-	}
-	inSequence = false;
-	bytes = new Element(subtagName);
-	bytes.setAttribute("count", String.valueOf(j));
-	bytes.addContent(String.format("%02x", memoryI));
-	tag.addContent(bytes);
-	log.finest(String.format(
-	  "Repeated data sequence written, count: %d, data: %02x",
-	  j,
-	  memoryI));
-	i += j;
-      } else {
-	if (!inSequence) {
-	  data = new StringBuilder();
-	  log.finest("Unique data sequence started");
-	}
-	data.append(String.format("%02x", memoryI));
-	log.finest(String.format("One byte written: %02x", memoryI));
-	inSequence = true;
-	i++;
-      }
-    }
-    if (inSequence) {
-      bytes = new Element(subtagName);
-      bytes.addContent(data.toString());
-      tag.addContent(bytes);
-      log.finest("Final data sequence closed");
-    }
+    BlockCodec.encode(memory, tag, startAddress, number);
     log.finer("Method buildMemoryElement finished");
   }
 
@@ -245,8 +259,6 @@ public class Snapshot extends MemoryProcessor {
       "Method processMemoryElement called: destination address: %04x",
       destinationAddress));
     assert (destinationAddress >= -1) && (destinationAddress <= 0xffff);
-    final int size = memory.length;
-    final Info info = new Info();
     int startAddress = 0;
     if (destinationAddress == -1) {
       try {
@@ -262,47 +274,7 @@ public class Snapshot extends MemoryProcessor {
       log.finer(String.format("Destination address used instead: %04x",
 			      startAddress));
     }
-    for (Element bytes: tag.getChildren(subtagName)) {
-      int count;
-      String string;
-      if ((string = bytes.getAttributeValue("count")) != null) {
-	try {
-	  count = Integer.parseInt(string);
-	} catch (final Exception exception) {
-	  log.fine("Error in count, exception: " +
-		   exception.getMessage());
-	  throw Application.createError(Snapshot.class, "parsing");
-	}
-      } else {
-	count = 1;
-      }
-      string = bytes.getTextTrim();
-      try {
-	for (; count > 0; count--) {
-	  for (int i = 0; i < (string.length() / 2); i++) {
-	    startAddress &= 0xffff;
-	    if (startAddress < info.minAddress) {
-	      info.minAddress = startAddress;
-	    }
-	    if (startAddress > info.maxAddress) {
-	      info.maxAddress = startAddress;
-	    }
-	    final int dataByte = Integer.parseInt(
-	      string.substring(i * 2, (i + 1) * 2), 16);
-	    memory[startAddress % size] = (byte)dataByte;
-	    log.finest(String.format("Read: %02x -> (%04x)",
-				     dataByte,
-				     startAddress));
-	    startAddress++;
-	    info.number++;
-	  }
-	}
-      } catch (final Exception exception) {
-	log.fine("Error, parsing failed, exception: " +
-		 exception.getMessage());
-	throw Application.createError(Snapshot.class, "parsing");
-      }
-    }
+    final Info info = BlockCodec.decode(memory, tag, startAddress);
     log.finer("Method processMemoryElement finished");
     return info;
   }
@@ -0,0 +1,348 @@
+/* SnapshotReader.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.util.logging.Logger;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import javax.xml.XMLConstants;
+
+import javax.xml.namespace.QName;
+import javax.xml.namespace.NamespaceContext;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLStreamException;
+
+import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.Attribute;
+
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stax.StAXResult;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.xml.sax.SAXException;
+
+import cz.pecina.retro.common.Application;
+
+import cz.pecina.retro.cpu.Hardware;
+import cz.pecina.retro.cpu.Device;
+import cz.pecina.retro.cpu.Descriptor;
+import cz.pecina.retro.cpu.Register;
+import cz.pecina.retro.cpu.Block;
+import cz.pecina.retro.cpu.SaveState;
+
+/**
+ * Streaming reader of XML snapshots.
+ * <p>
+ * The snapshot is parsed with StAX and applied to the hardware as
+ * it is read, without building a document tree.  If validation is
+ * requested, the events pass through the schema validator first, so
+ * the file is still read only once.  The state of the hardware is
+ * saved before reading and restored if the file turns out to be
+ * invalid, so a failed read leaves the hardware unchanged.  Devices
+ * are applied in the order of the file, which is the order of
+ * the hardware for snapshots written by the emulator.  Blocks are
+ * decoded into a copy of their contents and updated page by page,
+ * as in binary snapshots.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+class SnapshotReader {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(SnapshotReader.class.getName());
+
+  // the schema, loaded on first use
+  private static Schema schema;
+
+  // names of the attributes used
+  private static final QName NAME = new QName("name");
+  private static final QName COUNT = new QName("count");
+  private static final QName VERSION = new QName("version");
+
+  // the hardware set
+  private final Hardware hardware;
+
+  // depth of the current element, 1 for <snapshot>
+  private int depth;
+
+  // the current device and descriptor, null if unknown
+  private Device device;
+  private Descriptor descriptor;
+
+  // contents of the current block and the address in it
+  private byte[] image;
+  private int address;
+
+  // repeat count of the current <bytes> tag
+  private int count;
+
+  // text of the current element
+  private final StringBuilder text = new StringBuilder();
+
+  /**
+   * Creates a snapshot reader.
+   *
+   * @param hardware hardware set
+   */
+  SnapshotReader(final Hardware hardware) {
+    assert hardware != null;
+    this.hardware = hardware;
+    log.fine("New SnapshotReader created");
+  }
+
+  /**
+   * Reads a snapshot from a file and sets hardware accordingly.
+   *
+   * @param file       input file
+   * @param validating {@code true} if the file is to be validated
+   *                   against the schema
+   */
+  void read(final File file, final boolean validating) {
+    log.fine("Reading snapshot, file: " + file.getName() +
+	     ", validating: " + validating);
+    final SaveState state = hardware.saveState();
+    try {
+      readEvents(file, validating);
+    } catch (final RuntimeException exception) {
+      log.fine("Reading failed, restoring the previous state");
+      hardware.restoreState(state);
+      throw exception;
+    }
+    log.fine("Reading completed");
+  }
+
+  // reads the events of a snapshot file and applies them
+  private void readEvents(final File file, final boolean validating) {
+    try (final InputStream stream =
+	   new BufferedInputStream(new FileInputStream(file))) {
+      final XMLEventReader reader =
+	XMLInputFactory.newInstance().createXMLEventReader(stream);
+      if (validating) {
+	getSchema().newValidator()
+	  .validate(new StAXSource(reader), new StAXResult(new Sink()));
+      } else {
+	while (reader.hasNext()) {
+	  process(reader.nextEvent());
+	}
+      }
+    } catch (final SAXException exception) {
+      log.fine("Error, validation failed, exception: " +
+	       exception.getMessage());
+      throw Application.createError(Snapshot.class, "validation");
+    } catch (final XMLStreamException exception) {
+      log.fine("Error, parsing failed, exception: " + exception.getMessage());
+      throw Application.createError(Snapshot.class, "parsing");
+    } catch (final IOException exception) {
+      log.fine("Error, reading failed, exception: " + exception.getMessage());
+      throw Application.createError(Snapshot.class, "XMLRead");
+    }
+    if (depth != 0) {
+      log.fine("Error, parsing failed, file truncated");
+      throw Application.createError(Snapshot.class, "parsing");
+    }
+  }
+
+  // gets the schema
+  private static synchronized Schema getSchema() throws SAXException {
+    if (schema == null) {
+      schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+	.newSchema(new StreamSource(Snapshot.class.getResourceAsStream(
+	  "snapshot-" + Snapshot.SNAPSHOT_XML_FILE_VERSION + ".xsd")));
+    }
+    return schema;
+  }
+
+  // gets the value of an attribute or null if not present
+  private static String getAttribute(final StartElement element,
+				     final QName name) {
+    final Attribute attribute = element.getAttributeByName(name);
+    return (attribute == null) ? null : attribute.getValue();
+  }
+
+  // processes one event
+  private void process(final XMLEvent event) {
+    switch (event.getEventType()) {
+      case XMLEvent.START_ELEMENT:
+	startElement(event.asStartElement());
+	break;
+      case XMLEvent.CHARACTERS:
+      case XMLEvent.CDATA:
+	if ((depth == 4) ||
+	    ((depth == 3) && (descriptor instanceof Register))) {
+	  text.append(event.asCharacters().getData());
+	}
+	break;
+      case XMLEvent.END_ELEMENT:
+	endElement();
+	break;
+      default:
+	break;
+    }
+  }
+
+  // processes a start tag
+  private void startElement(final StartElement element) {
+    depth++;
+    text.setLength(0);
+    switch (depth) {
+      case 1:
+	if (!element.getName().getLocalPart().equals("snapshot")) {
+	  log.fine("Error, parsing failed, no <snapshot> tag");
+	  throw Application.createError(Snapshot.class, "parsing");
+	}
+	if (!Snapshot.SNAPSHOT_XML_FILE_VERSION
+	    .equals(getAttribute(element, VERSION))) {
+	  log.fine("Version mismatch");
+	  throw Application.createError(Snapshot.class, "version");
+	}
+	break;
+      case 2:
+	device = hardware.getDeviceByName(getAttribute(element, NAME));
+	if (device != null) {
+	  log.fine("Unmarshalling device: " + device.getName());
+	  device.preUnmarshal();
+	}
+	break;
+      case 3:
+	descriptor = (device == null) ? null :
+	  device.getDescriptorByName(getAttribute(element, NAME));
+	if (descriptor instanceof Block) {
+	  image = ((Block)descriptor).getReadOnlyMemory().clone();
+	  address = 0;
+	}
+	break;
+      case 4:
+	count = BlockCodec.getCount(getAttribute(element, COUNT));
+	break;
+      default:
+	break;
+    }
+  }
+
+  // processes an end tag
+  private void endElement() {
+    switch (depth) {
+      case 2:
+	if (device != null) {
+	  device.postUnmarshal();
+	}
+	device = null;
+	break;
+      case 3:
+	if (descriptor instanceof Register) {
+	  final String value = text.toString().trim();
+	  ((Register)descriptor).processValue(value);
+	  log.finest("Register '" + descriptor.getName() +
+		     "' unmarshalled to value '" + value + "'");
+	} else if (descriptor instanceof Block) {
+	  ((Block)descriptor).update(image, image.length);
+	  log.finest("Block '" + descriptor.getName() + "' processed");
+	}
+	descriptor = null;
+	image = null;
+	break;
+      case 4:
+	if (image != null) {
+	  decodeBytes();
+	}
+	break;
+      default:
+	break;
+    }
+    text.setLength(0);
+    depth--;
+  }
+
+  // decodes the contents of a <bytes> tag into the block image
+  private void decodeBytes() {
+    final String string = text.toString().trim();
+    final int length = string.length() / 2;
+    final char[] digits = new char[2 * length];
+    final byte[] data = new byte[length];
+    string.getChars(0, 2 * length, digits, 0);
+    if (!HexCodec.decode(digits, 0, length, data)) {
+      log.fine("Error, parsing failed, invalid data");
+      throw Application.createError(Snapshot.class, "parsing");
+    }
+    address = BlockCodec.store(image, address, data, length, count, null);
+  }
+
+  // adapter receiving the events passed through the validator
+  private class Sink implements XMLEventWriter {
+
+    @Override
+    public void add(final XMLEvent event) {
+      process(event);
+    }
+
+    @Override
+    public void add(final XMLEventReader reader) throws XMLStreamException {
+      while (reader.hasNext()) {
+	process(reader.nextEvent());
+      }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String getPrefix(final String uri) {
+      return null;
+    }
+
+    @Override
+    public void setPrefix(final String prefix, final String uri) {
+    }
+
+    @Override
+    public void setDefaultNamespace(final String uri) {
+    }
+
+    @Override
+    public void setNamespaceContext(final NamespaceContext context) {
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+      return null;
+    }
+  }
+}
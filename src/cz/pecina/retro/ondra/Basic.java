@@ -347,7 +347,7 @@ public class Basic {
     ram[END_ADDRESS] = (byte)(a & 0xff);
     ram[END_ADDRESS + 1] = (byte)(a >> 8);
 
-    Parameters.cpu.setPC(WARM_START);
+    Parameters.getCPU().setPC(WARM_START);
     
     log.fine("Pointers and variables reset");
   }
@@ -33,6 +33,7 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 import cz.pecina.retro.common.Parameters;
 import cz.pecina.retro.common.Application;
 
+import cz.pecina.retro.cpu.Block;
 import cz.pecina.retro.cpu.Hardware;
 
 import cz.pecina.retro.memory.MemoryPlugin;
@@ -80,8 +81,10 @@ public class BasicMemoryPlugin implements MemoryPlugin {
   @Override
   public void read(final Hardware hardware, final File file) {
     log.fine("Reading BASIC program from a file: " + file.getName());
-    final byte[] ram =
-      Parameters.memoryDevice.getBlockByName("RAM").getMemory();
+    final Block block =
+      Parameters.getMemoryDevice().getBlockByName("RAM");
+    final byte[] ram = block.getMemory();
+    block.markDirty();
     try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
       Basic.encode(reader, ram);
     } catch (final IOException | BasicException exception) {
@@ -96,7 +99,7 @@ public class BasicMemoryPlugin implements MemoryPlugin {
   public void write(final Hardware hardware, final File file) {
     log.fine("Writing BASIC program to a file: " + file.getName());
     final byte[] ram =
-      Parameters.memoryDevice.getBlockByName("RAM").getMemory();
+      Parameters.getMemoryDevice().getBlockByName("RAM").getMemory();
     if ((ram[START_ADDRESS] | ram[START_ADDRESS + 1]) == (byte)0) {
       throw Application.createError(this, "BAS.noProgram");
     }
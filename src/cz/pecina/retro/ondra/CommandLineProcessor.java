@@ -24,7 +24,10 @@ import java.util.logging.Logger;
 
 import java.util.Arrays;
 
+import java.util.function.Supplier;
+
 import java.io.File;
+import java.io.IOException;
 
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -44,6 +47,10 @@ import cz.pecina.retro.memory.IntelHEX;
 import cz.pecina.retro.memory.XML;
 import cz.pecina.retro.memory.Snapshot;
 
+import cz.pecina.retro.batch.BatchMachine;
+import cz.pecina.retro.batch.BatchRunner;
+import cz.pecina.retro.batch.ScreenOracle;
+
 /**
  * Command line arguments processor.  Before processing the command
  * line options, it loads the default snapshot (if exists).
@@ -70,6 +77,27 @@ public class CommandLineProcessor {
   // hardware object to operate on
   private Hardware hardware;
 
+  // batch file, null if none
+  private File batchFile;
+
+  // number of threads running batch jobs
+  private int numberThreads = Runtime.getRuntime().availableProcessors();
+
+  // file with the expected screen hashes, null if none
+  private File screenHashesFile;
+
+  // checking interval of screen hashes in frames
+  private int screenHashesInterval = 1;
+
+  // the hash waited for, null if none
+  private Long waitScreenHash;
+
+  /**
+   * The screen oracle checking the display at the end of each frame,
+   * or {@code null} if none.
+   */
+  public static ScreenOracle screenOracle;
+
   /**
    * The name of the file containing the initial ROM contents.
    */
@@ -173,6 +201,15 @@ public class CommandLineProcessor {
       .argName("FILE")
       .desc(Application.getString(this, "option.writeSnapshot"))
       .build());
+    options.addOption(
+      Option.builder("C")
+      .longOpt("convert-snapshot")
+      .hasArgs()
+      .numberOfArgs(2)
+      .argName("SRC>,<DST")
+      .valueSeparator(',')
+      .desc(Application.getString(this, "option.convertSnapshot"))
+      .build());
     options.addOption(
       Option.builder("S")
       .longOpt("speed-up")
@@ -190,6 +227,36 @@ public class CommandLineProcessor {
       .longOpt("no-opengl")
       .desc(Application.getString(this, "option.noOpenGL"))
       .build());
+    options.addOption(
+      Option.builder("B")
+      .longOpt("batch")
+      .hasArg()
+      .argName("FILE")
+      .desc(Application.getString(this, "option.batch"))
+      .build());
+    options.addOption(
+      Option.builder("j")
+      .longOpt("jobs")
+      .hasArg()
+      .argName("N")
+      .desc(Application.getString(this, "option.jobs"))
+      .build());
+    options.addOption(
+      Option.builder("H")
+      .longOpt("screen-hashes")
+      .hasArgs()
+      .numberOfArgs(2)
+      .argName("FILE>,<N")
+      .valueSeparator(',')
+      .desc(Application.getString(this, "option.screenHashes"))
+      .build());
+    options.addOption(
+      Option.builder("Y")
+      .longOpt("wait-screen")
+      .hasArg()
+      .argName("HASH")
+      .desc(Application.getString(this, "option.waitScreen"))
+      .build());
     log.finer("Options set up");
 	
     // parse the command line
@@ -294,7 +361,7 @@ public class CommandLineProcessor {
 	        this, "error.invalidAddress"));
 	      error();
 	    }
-	    Parameters.cpu.setPC(address);
+	    Parameters.getCPU().setPC(address);
 	    break;
 	  case "b":
 	    log.finer("Processing -b");
@@ -328,6 +395,12 @@ public class CommandLineProcessor {
 	    new Snapshot(hardware).write(file);
 	    System.exit(0);
 	    break;
+	  case "C":
+	    log.finer("Processing -C");
+	    Snapshot.convert(new File(option.getValue(0)),
+			     new File(option.getValue(1)));
+	    System.exit(0);
+	    break;
 	  case "S":
 	    log.finer("Processing -S");
 	    Parameters.speedUp = Integer.parseInt(option.getValue());
@@ -345,6 +418,33 @@ public class CommandLineProcessor {
 	    log.finer("Processing -G");
 	    Parameters.openGL = false;
 	    break;
+	  case "B":
+	    log.finer("Processing -B");
+	    batchFile = new File(option.getValue());
+	    break;
+	  case "j":
+	    log.finer("Processing -j");
+	    numberThreads = Integer.parseInt(option.getValue());
+	    if (numberThreads < 1) {
+	      System.out.println(Application.getString(
+	        this, "error.nonPositiveJobs"));
+	      error();
+	    }
+	    break;
+	  case "H":
+	    log.finer("Processing -H");
+	    screenHashesFile = new File(option.getValue(0));
+	    screenHashesInterval = Integer.parseInt(option.getValue(1));
+	    if (screenHashesInterval < 1) {
+	      System.out.println(Application.getString(
+	        this, "error.nonPositiveInterval"));
+	      error();
+	    }
+	    break;
+	  case "Y":
+	    log.finer("Processing -Y");
+	    waitScreenHash = ScreenOracle.parse(option.getValue());
+	    break;
 	}
       }
     } catch (final Exception exception) {
@@ -352,6 +452,50 @@ public class CommandLineProcessor {
       error();
     }
 
+    // set up the screen oracle
+    if ((screenHashesFile != null) || (waitScreenHash != null)) {
+      screenOracle = new ScreenOracle(screenHashesInterval);
+      if (screenHashesFile != null) {
+	long[] expected = null;
+	try {
+	  expected = ScreenOracle.read(screenHashesFile);
+	} catch (final IllegalArgumentException exception) {
+	  System.out.println(Application.getString(
+	    this, "error.screenHashesRead"));
+	  error();
+	}
+
+	// an empty sequence would never be matched
+	if (expected.length == 0) {
+	  System.out.println(Application.getString(
+	    this, "error.noScreenHashes"));
+	  error();
+	}
+	screenOracle.setExpected(expected);
+      }
+      if (waitScreenHash != null) {
+	screenOracle.setStopHash(waitScreenHash);
+      }
+    }
+
+    // run batch jobs and exit
+    if (batchFile != null) {
+      log.fine("Running batch jobs");
+      int failed = 0;
+      try {
+	failed = new BatchRunner(new Supplier<BatchMachine>() {
+	    @Override
+	    public BatchMachine get() {
+	      return new BatchComputer();
+	    }
+	  }, numberThreads).run(batchFile);
+      } catch (final IOException exception) {
+	System.out.println(Application.getString(this, "error.batchRead"));
+	error();
+      }
+      System.exit((failed == 0) ? 0 : 1);
+    }
+
     log.fine("New CommandLineProcessor creation completed");
   }
 }
@@ -22,6 +22,8 @@ package cz.pecina.retro.ondra;
 
 import java.util.logging.Logger;
 
+import java.util.function.LongSupplier;
+
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
 
@@ -32,9 +34,12 @@ import cz.pecina.retro.common.Application;
 
 import cz.pecina.retro.cpu.Processor;
 import cz.pecina.retro.cpu.Opcode;
+import cz.pecina.retro.cpu.RewindBuffer;
 
 import cz.pecina.retro.gui.GUI;
 
+import cz.pecina.retro.batch.ScreenOracle;
+
 /**
  * Tesla Ondra SPO 186 control object.
  *
@@ -86,6 +91,12 @@ public class Computer implements Runnable {
   // the CPU
   private Processor cpu;
 
+  // recent states of the hardware
+  private RewindBuffer rewindBuffer;
+
+  // true if rewinding requested by the user
+  private volatile boolean rewindRequested;
+
   /**
    * Creates a new computer control object.
    */
@@ -121,6 +132,11 @@ public class Computer implements Runnable {
     // set the ROM version and reset all stateful hardware
     computerHardware.setVersion(this, UserPreferences.getVersion());
 
+    // set up the rewind buffer
+    rewindBuffer = new RewindBuffer(computerHardware.getHardware(),
+				    Constants.REWIND_STATES,
+				    Constants.REWIND_INTERVAL);
+
     // start emulation
     new Timer(Parameters.timerPeriod, new TimerListener()).start();
 
@@ -142,11 +158,16 @@ public class Computer implements Runnable {
 	
     if (busy) {
       log.fine("Processing took too long, timer event dismissed");
-      Parameters.sound.update();
+      Parameters.getSound().update();
       return;
     }
     busy = true;
 
+    if (rewindRequested) {
+      rewindRequested = false;
+      rewindBuffer.rewind(1);
+    }
+
     cpu.requestInterrupt(0);
     final long cycles =
       (312 - (computerHardware.getDisplayHardware().getEnableFlag() ?
@@ -157,6 +178,7 @@ public class Computer implements Runnable {
     if (Parameters.timerCycles != cycles) {
       cpu.idle((Parameters.timerCycles - cycles) * Parameters.speedUp);
     }
+    rewindBuffer.frame();
 
     // switch (debuggerState) {
     //   case HIDDEN:
@@ -299,9 +321,10 @@ public class Computer implements Runnable {
     // 	break;
     // }
     computerHardware.getTapeRecorderHardware().process();
-    Parameters.sound.update();
+    Parameters.getSound().update();
     computerHardware.getKeyboardHardware().update();
     computerHardware.getDisplayHardware().refresh();
+    checkScreen();
 
     // // update LEDs
     // final float yellowLEDState =
@@ -318,6 +341,30 @@ public class Computer implements Runnable {
     busy = false;
   }
 
+  // checks the screen hashes requested on the command line
+  private void checkScreen() {
+    final ScreenOracle oracle = CommandLineProcessor.screenOracle;
+    if (oracle != null) {
+      oracle.checkSession(new LongSupplier() {
+	  @Override
+	  public long getAsLong() {
+	    return computerHardware.getDisplayHardware().getDisplay()
+	      .getScreenHash();
+	  }
+	},
+	this);
+    }
+  }
+
+  /**
+   * Requests rewinding the emulation by one state of the rewind
+   * buffer.  The request is processed on the next timer tick.
+   */
+  public void requestRewind() {
+    rewindRequested = true;
+    log.fine("Rewind requested");
+  }
+
   /**
    * Gets the computer hardware.
    *
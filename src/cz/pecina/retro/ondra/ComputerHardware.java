@@ -33,10 +33,12 @@ import java.nio.file.Paths;
 import java.net.URISyntaxException;
 
 import cz.pecina.retro.common.Parameters;
+import cz.pecina.retro.common.MachineContext;
 import cz.pecina.retro.common.Application;
 import cz.pecina.retro.common.Util;
 import cz.pecina.retro.common.Sound;
 
+import cz.pecina.retro.cpu.ImageStore;
 import cz.pecina.retro.cpu.IONode;
 import cz.pecina.retro.cpu.Hardware;
 import cz.pecina.retro.cpu.ZilogZ80;
@@ -123,8 +125,8 @@ public class ComputerHardware {
     // set up CPU
     cpu = new ZilogZ80("CPU");
     hardware.add(cpu);
-    Parameters.systemClockSource = cpu;
-    Parameters.cpu = cpu;
+    Parameters.setSystemClockSource(cpu);
+    Parameters.setCPU(cpu);
 
     // set up the display hardware
     displayHardware = new DisplayHardware("DISPLAY", this);
@@ -157,8 +159,8 @@ public class ComputerHardware {
 			     joystickHardware,
 			     tapeRecorderHardware);
     hardware.add(memory);
-    Parameters.memoryDevice = memory;
-    Parameters.memoryObject = memory;
+    Parameters.setMemoryDevice(memory);
+    Parameters.setMemoryObject(memory);
 	
     // connect CPU and memory
     cpu.setMemory(memory);
@@ -205,13 +207,13 @@ public class ComputerHardware {
 
     // set up the sound interface
     new Sound(Constants.SOUND_SAMPLING_RATE, 2);
-    Parameters.sound.setVolume(Sound.TAPE_RECORDER_CHANNEL,
+    Parameters.getSound().setVolume(Sound.TAPE_RECORDER_CHANNEL,
       UserPreferences.getTapeRecorderVolume() / 100f);
-    Parameters.sound.setMute(Sound.TAPE_RECORDER_CHANNEL,
+    Parameters.getSound().setMute(Sound.TAPE_RECORDER_CHANNEL,
       UserPreferences.isTapeRecorderMute());
-    Parameters.sound.setVolume(Sound.SPEAKER_CHANNEL,
+    Parameters.getSound().setVolume(Sound.SPEAKER_CHANNEL,
       UserPreferences.getSpeakerVolume() / 100f);
-    Parameters.sound.setMute(Sound.SPEAKER_CHANNEL,
+    Parameters.getSound().setMute(Sound.SPEAKER_CHANNEL,
       UserPreferences.isSpeakerMute());
     
     // connect LEDs
@@ -242,7 +244,9 @@ public class ComputerHardware {
     hardware.reset();
     
     // load any startup images and snapshots
-    new CommandLineProcessor(hardware);
+    if (!MachineContext.getCurrent().isHeadless()) {
+      new CommandLineProcessor(hardware);
+    }
 
     log.fine("New Computer hardware object created");
   }
@@ -268,11 +272,7 @@ public class ComputerHardware {
       if (size > 0x4000) {
 	throw new IOException("Wrong size");
       }
-      final byte[] memoryArray =
-	Parameters.memoryDevice.getBlockByName("ROM").getMemory();
-      for (int addr = 0; addr < 0x4000; addr++) {
-	memoryArray[addr] = ((addr < size) ? buffer[addr] : (byte)0xff);
-      }
+      memory.setROM(ImageStore.intern(buffer, 0x4000));
       log.fine(String.format("ROM contents read, size: 0x%04x", size));
     } catch (final NullPointerException |
 	     URISyntaxException |
@@ -287,7 +287,8 @@ public class ComputerHardware {
    * Clears the RAM.
    */
   public void clearRAM() {
-    Arrays.fill(memory.getRAM(), (byte)0);
+    memory.getBlockByName("RAM").fill((byte)0);
+    memory.refreshVideoRAM();
     displayHardware.refresh();
   }
   
@@ -298,6 +299,15 @@ public class ComputerHardware {
    * @param version  the ROM version
    */
   public void setVersion(final Computer computer, final int version) {
+    setVersion(version);
+  }
+
+  /**
+   * Sets ROM version, without any user interface.
+   *
+   * @param version the ROM version
+   */
+  public void setVersion(final int version) {
     log.fine("Setting ROM version: " + version);
     assert (version >= 0) && (version < Constants.NUMBER_VERSIONS);
     this.version = version;
@@ -22,6 +22,9 @@ package cz.pecina.retro.ondra;
 
 import java.util.logging.Logger;
 
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+
 import cz.pecina.retro.gui.BackgroundFixedPane;
 import cz.pecina.retro.gui.GUI;
 import cz.pecina.retro.gui.Shortcut;
@@ -39,6 +42,9 @@ public class ComputerPanel extends BackgroundFixedPane {
   private static final Logger log =
     Logger.getLogger(ComputerPanel.class.getName());
     
+  // key rewinding the emulation
+  private static final int REWIND_KEY = KeyEvent.VK_PAUSE;
+
   // display position
   private static final int DISPLAY_OFFSET_X = 12;
   private static final int DISPLAY_OFFSET_Y = 12;
@@ -92,6 +98,18 @@ public class ComputerPanel extends BackgroundFixedPane {
     // set up keyboard shortcuts
     setShortcuts();
 
+    // set up rewinding
+    computerFrame.addKeyListener(new KeyAdapter() {
+	@Override
+	public void keyPressed(final KeyEvent event) {
+	  if (event.getKeyCode() == REWIND_KEY) {
+	    computer.requestRewind();
+	    event.consume();
+	  }
+	}
+      });
+    log.finer("Rewinding set up");
+
     // set up display
     displayHardware.getDisplay().place(this,
     				       DISPLAY_OFFSET_X,
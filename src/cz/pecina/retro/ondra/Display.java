@@ -24,15 +24,20 @@ import java.util.logging.Logger;
 import java.util.logging.Level;
 
 import java.awt.Color;
-import java.awt.Dimension;
-
-import java.awt.event.ActionListener;
-import java.awt.event.ActionEvent;
 
 import javax.swing.JComponent;
 
+import cz.pecina.retro.common.Util;
+
 /**
  * Display of the Tesla Ondra SPO 186 computer.
+ * <p>
+ * Video RAM writes are rendered into the back buffer of the
+ * framebuffer immediately, each byte being expanded to eight pixels
+ * using a table indexed by the byte, and published to the screen at
+ * the frame boundary, i.e., on {@link #refresh}.  A change of the
+ * number of scan lines, of the enable flag or of the color
+ * re-renders the whole screen at the next frame boundary.
  *
  * @author @AUTHOR@
  * @version @VERSION@
@@ -89,17 +94,23 @@ public class Display {
   private byte[][] pixels =
     new byte[Display.DISPLAY_HEIGHT][Display.DISPLAY_WIDTH_CELLS];
 
-  // changed flag
-  private boolean changed[] = new boolean[NUMBER_STRIPES];
-  
+  // contents of a blank line
+  private static final byte[] BLANK_ROW = new byte[DISPLAY_WIDTH_CELLS];
+
   /**
    * The current color.
    */
   public Color color;
 
-  // display stripes
-  private DisplayStripe[] stripes = new DisplayStripe[NUMBER_STRIPES];
-  
+  // the framebuffer
+  private final DisplayBuffer buffer = new DisplayBuffer();
+
+  // the pixel-expansion table, eight pixels for each byte
+  private final int[] table = new int[0x100 * 8];
+
+  // true if the whole screen is to be re-rendered
+  private boolean invalid = true;
+
   // set the active color
   public void setActiveColor() {
     switch (colorMode) {
@@ -113,6 +124,13 @@ public class Display {
 	color = customColor;
 	break;
     }
+    final int rgb = color.getRGB() & 0xffffff;
+    for (int data = 0; data < 0x100; data++) {
+      for (int i = 0; i < 8; i++) {
+	table[(data * 8) + i] = (((data << i) & 0x80) != 0) ? rgb : 0;
+      }
+    }
+    invalid = true;
   }
   
   /**
@@ -128,9 +146,6 @@ public class Display {
     assert displayHardware != null;
     this.computerHardware = computerHardware;
     this.displayHardware = displayHardware;
-    for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-      stripes[stripe] = new DisplayStripe(this, pixels, stripe * STRIPE_HEIGHT);
-    }
     colorMode = UserPreferences.getColorMode();
     customColor = UserPreferences.getCustomColor();
     setActiveColor();
@@ -139,27 +154,37 @@ public class Display {
   }
 
   /**
-   * Repaints any changed stripes.
+   * Ends the frame: re-renders the display if needed and publishes
+   * the changes to the framebuffer.
    */
   public void refresh() {
-    for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-      if (changed[stripe]) {
-	stripes[stripe].repaint();
-	changed[stripe] = false;
-      }
+    if (invalid) {
+      render();
     }
+    buffer.refresh();
     log.finest("Display refreshed");
   }
 
   /**
-   * Repaints all stripes.
+   * Marks the whole display for re-rendering on the next refresh.
    */
   public void repaint() {
-    for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-      stripes[stripe].repaint();
-      changed[stripe] = false;
+    invalid = true;
+    log.finest("Display invalidated");
+  }
+
+  // renders the whole screen; line y shows the row scanLines - y
+  private void render() {
+    final int scanLines = displayHardware.getScanLines();
+    final boolean enableFlag = displayHardware.getEnableFlag();
+    for (int line = 0; line < DISPLAY_HEIGHT; line++) {
+      final int row = scanLines - line;
+      buffer.setLine(line,
+		     (enableFlag && (row >= 0)) ? pixels[row] : null,
+		     table);
     }
-    log.finest("Display repainted");
+    invalid = false;
+    log.finer("Display rendered");
   }
 
   /**
@@ -180,14 +205,34 @@ public class Display {
     }
     if (pixels[row][column] != (byte)data) {
       pixels[row][column] = (byte)data;
-      final int stripe =
-	(row + DISPLAY_HEIGHT - 1 - displayHardware.getScanLines()) >> 4;
-      if (stripe < NUMBER_STRIPES) {
-	changed[stripe] = true;
+      final int line = displayHardware.getScanLines() - row;
+      if (!invalid && (line >= 0) && displayHardware.getEnableFlag()) {
+	buffer.setCell(line, column, table, data * 8);
       }
     }
   }
 
+  /**
+   * Gets the hash of the logical screen, i.e., of the rows displayed
+   * after the {@code scanLines} offset is applied, regardless of
+   * colors.  Blank lines are hashed as zero bytes.
+   *
+   * @return the 64-bit hash
+   */
+  public long getScreenHash() {
+    final int scanLines = displayHardware.getScanLines();
+    final boolean enableFlag = displayHardware.getEnableFlag();
+    long hash = Util.HASH_SEED;
+    for (int line = 0; line < DISPLAY_HEIGHT; line++) {
+      final int row = scanLines - line;
+      hash = Util.hash(hash,
+		       (enableFlag && (row >= 0)) ? pixels[row] : BLANK_ROW,
+		       0,
+		       DISPLAY_WIDTH_CELLS);
+    }
+    return hash;
+  }
+
   /**
    * Sets the color mode.
    *
@@ -230,6 +275,15 @@ public class Display {
     return customColor;
   }
 
+  /**
+   * Gets the framebuffer.
+   *
+   * @return the framebuffer
+   */
+  public DisplayBuffer getBuffer() {
+    return buffer;
+  }
+
   /**
    * Places the display on the panel.
    *
@@ -243,12 +297,7 @@ public class Display {
     assert container != null;
     log.fine("Placing display, position: (" +
 	      positionX + "," + positionY + ")");
-    for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-      stripes[NUMBER_STRIPES - 1 - stripe].place(
-        container,
-	positionX,
-	positionY + (STRIPE_HEIGHT * stripe));
-    }
+    buffer.place(container, positionX, positionY);
     log.finer("Display placed");
   }
 
@@ -0,0 +1,94 @@
+/* DisplayBuffer.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.pecina.retro.ondra;
+
+import java.util.logging.Logger;
+
+import java.util.Arrays;
+
+import cz.pecina.retro.gui.FrameBuffer;
+
+/**
+ * Framebuffer of the display.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class DisplayBuffer extends FrameBuffer {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(DisplayBuffer.class.getName());
+
+  /**
+   * Creates the framebuffer.
+   */
+  public DisplayBuffer() {
+    super(Display.DISPLAY_WIDTH, Display.DISPLAY_HEIGHT);
+    log.fine("New display buffer created");
+  }
+
+  /**
+   * Writes one cell of eight pixels.
+   *
+   * @param line   the line on the screen, {@code 0-0xff}
+   * @param column the column, {@code 0-0x27}
+   * @param table  the pixel-expansion table
+   * @param offset offset of the eight pixels in {@code table}
+   */
+  public void setCell(final int line,
+		      final int column,
+		      final int[] table,
+		      final int offset) {
+    assert (line >= 0) && (line < Display.DISPLAY_HEIGHT);
+    assert (column >= 0) && (column < Display.DISPLAY_WIDTH_CELLS);
+    System.arraycopy(table,
+		     offset,
+		     pixels,
+		     (line * Display.DISPLAY_WIDTH) + (column * 8),
+		     8);
+    damage(line, column * 8, 8);
+  }
+
+  /**
+   * Writes one line.
+   *
+   * @param line   the line on the screen, {@code 0-0xff}
+   * @param data   the packed pixels, one byte per cell, bit 7 being
+   *               the leftmost pixel, or {@code null} for a blank line
+   * @param table  the pixel-expansion table
+   */
+  public void setLine(final int line, final byte[] data, final int[] table) {
+    assert (line >= 0) && (line < Display.DISPLAY_HEIGHT);
+    final int start = line * Display.DISPLAY_WIDTH;
+    if (data == null) {
+      Arrays.fill(pixels, start, start + Display.DISPLAY_WIDTH, 0);
+    } else {
+      for (int column = 0; column < Display.DISPLAY_WIDTH_CELLS; column++) {
+	System.arraycopy(table,
+			 (data[column] & 0xff) * 8,
+			 pixels,
+			 start + (column * 8),
+			 8);
+      }
+    }
+    damage(line, 0, Display.DISPLAY_WIDTH);
+  }
+}
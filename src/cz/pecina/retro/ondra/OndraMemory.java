@@ -21,15 +21,14 @@
 package cz.pecina.retro.ondra;
 
 import java.util.logging.Logger;
-import java.util.logging.Level;
 
 import org.jdom2.Element;
 
-import cz.pecina.retro.cpu.Device;
-import cz.pecina.retro.cpu.AbstractMemory;
+import cz.pecina.retro.cpu.PagedMemory;
 import cz.pecina.retro.cpu.IOElement;
 import cz.pecina.retro.cpu.Register;
 import cz.pecina.retro.cpu.Block;
+import cz.pecina.retro.cpu.DirtyMap;
 import cz.pecina.retro.cpu.IOPin;
 import cz.pecina.retro.cpu.IONode;
 
@@ -41,19 +40,30 @@ import cz.pecina.retro.jstick.JoystickHardware;
 import cz.pecina.retro.trec.TapeRecorderHardware;
 
 /**
- * Tesla Ondra SPO 186 memory.
+ * Tesla Ondra SPO 186 memory.  The mapping of ROM, RAM and the input
+ * port area, which depends on the AllRAM and InPort flags, is kept
+ * in page tables rebuilt on every change of these.
  *
  * @author @AUTHOR@
  * @version @VERSION@
  */
 public class OndraMemory
-  extends Device
-  implements AbstractMemory, IOElement {
+  extends PagedMemory
+  implements IOElement {
 
   // memory sizes
   private static final int ROM_SIZE = 0x4000;
   private static final int RAM_SIZE = 0x10000;
 
+  // the first page of ROM above the ROM area
+  private static final int END_ROM_PAGE = ROM_SIZE >> PAGE_SHIFT;
+
+  // the first page of the input port area
+  private static final int IN_PORT_PAGE = 0xe000 >> PAGE_SHIFT;
+
+  // the first page of video RAM
+  private static final int VIDEO_PAGE = Display.START_VIDEO >> PAGE_SHIFT;
+
   // dynamic logger, per device
   private Logger log;
 
@@ -80,15 +90,22 @@ public class OndraMemory
   private TapeRecorderHardware tapeRecorderHardware;
 
   /**
-   * ROM as an array of bytes.
+   * ROM as an array of bytes, possibly shared with other instances.
    */
-  protected final byte[] rom;
+  protected byte[] rom;
+
+  // true if the ROM array is a shared image
+  private boolean romShared;
 
   /**
    * RAM as an array of bytes.
    */
   protected final byte[] ram;
 
+  // dirty maps of the arrays
+  private final DirtyMap ramDirtyMap = new DirtyMap(RAM_SIZE);
+  private final DirtyMap romDirtyMap = new DirtyMap(ROM_SIZE);
+
   /**
    * Constructor of Ondra memory object.
    *
@@ -115,7 +132,7 @@ public class OndraMemory
     this.tapeRecorderHardware = tapeRecorderHardware;
     rom = new byte[ROM_SIZE];
     ram = new byte[RAM_SIZE];
-    add(new Block("RAM") {
+    add(new Block("RAM", ramDirtyMap) {
 	@Override
 	public byte[] getMemory() {
 	  return ram;
@@ -129,9 +146,19 @@ public class OndraMemory
 	  Snapshot.processBlockElement(ram, block, 0);
 	}
       });
-    add(new Block("ROM") {
+    add(new Block("ROM", romDirtyMap) {
 	@Override
 	public byte[] getMemory() {
+	  if (romShared) {
+	    rom = rom.clone();
+	    romShared = false;
+	    remap();
+	    log.fine("Shared ROM image copied");
+	  }
+	  return rom;
+	}
+	@Override
+	public byte[] getReadOnlyMemory() {
 	  return rom;
 	}
 	@Override
@@ -140,9 +167,15 @@ public class OndraMemory
 	}
 	@Override
 	public void processContent(final Element block) {
-	  Snapshot.processBlockElement(rom, block, 0);
+	  final byte[] image = rom.clone();
+	  Snapshot.processBlockElement(image, block, 0);
+	  update(image, image.length);
 	}
       });
+    for (int page = VIDEO_PAGE; page < NUMBER_PAGES; page++) {
+      setWriteSideEffects(page, true);
+    }
+    remap();
     log.fine(String.format("New OndraMemory created, name: %s", name));
   }
 
@@ -155,6 +188,22 @@ public class OndraMemory
     return rom;
   }
 
+  /**
+   * Sets the ROM to a shared image.  The image is copied before
+   * the first modification.
+   *
+   * @param image the image, as returned by {@code ImageStore},
+   *              of the size of ROM
+   */
+  public void setROM(final byte[] image) {
+    assert image.length == ROM_SIZE;
+    rom = image;
+    romShared = true;
+    romDirtyMap.markAll();
+    remap();
+    log.fine("ROM set to a shared image");
+  }
+
   /**
    * Gets the RAM.
    *
@@ -171,6 +220,12 @@ public class OndraMemory
     inPortPin.notifyChange();
   }
   
+  // for description see Device
+  @Override
+  public void postUnmarshal() {
+    refreshVideoRAM();
+  }
+
   // for description see IOElement
   @Override
   public int portInput(final int port) {
@@ -190,6 +245,7 @@ public class OndraMemory
       if (newAllRAMFlag != allRAMFlag) {
 	allRAMFlag = newAllRAMFlag;
 	log.finer("allRAMFlag: " + allRAMFlag);
+	remap();
       }
     }
   }
@@ -216,6 +272,7 @@ public class OndraMemory
       if (newInPortFlag != inPortFlag) {
 	inPortFlag = newInPortFlag;
 	log.finer("inPortFlag: " + inPortFlag);
+	remap();
       }
     }
   }
@@ -233,64 +290,50 @@ public class OndraMemory
    * Refreshes the Video RAM.
    */
   public void refreshVideoRAM() {
-    for (int address = Display.START_VIDEO; address < RAM_SIZE; address++) {
-      setByte(address, ram[address] & 0xff);
-    }
+    write(Display.START_VIDEO,
+	  ram,
+	  Display.START_VIDEO,
+	  RAM_SIZE - Display.START_VIDEO);
     log.fine("Video RAM refreshed");
   }
 
-  // for description see AbstractMemory
-  @Override
-  public int getByte(final int address) {
-    assert (address >= 0) && (address < RAM_SIZE);
-    int  data;
-
-    if (!allRAMFlag && (address < 0x4000)) {
-      data = rom[address];
-    } else if (inPortFlag && (address >= 0xe000)) {
-      data = ~tapeRecorderHardware.getOutPin().query() << 7;
-      if ((address & 0x0f) == 0x0b) {
-	data |=
-	  (IONode.normalize(joystickHardware.getUpPin().query()) << 2) |
-	  IONode.normalize(joystickHardware.getRightPin().query()) |
-	  (IONode.normalize(joystickHardware.getDownPin().query()) << 3) |
-	  (IONode.normalize(joystickHardware.getLeftPin().query()) << 1) |
-	  (IONode.normalize(joystickHardware.getFirePin().query()) << 4);
+  // rebuilds the page tables
+  private void remap() {
+    for (int page = 0; page < NUMBER_PAGES; page++) {
+      if (!allRAMFlag && (page < END_ROM_PAGE)) {
+	mapRead(page, rom, page * PAGE_SIZE);
+	unmapWrite(page);
+      } else if (inPortFlag && (page >= IN_PORT_PAGE)) {
+	unmapWrite(page);
       } else {
-	data |= keyboardHardware.getState(address & 0x0f);
-      }
-    } else {
-	data = ram[address];
+	mapRead(page, ram, page * PAGE_SIZE);
+	mapWrite(page, ram, page * PAGE_SIZE, ramDirtyMap);
       }
-
-    if (log.isLoggable(Level.FINEST))
-      log.finest(String.format("Memory '%s' read: (%04x) -> %02x",
-			       name,
-			       address,
-			       data & 0xff));
-    return data & 0xff;
+      setReadSideEffects(page, inPortFlag && (page >= IN_PORT_PAGE));
+    }
+    log.finer("Page tables rebuilt");
   }
 
-  // for description see AbstractMemory
+  // for description see PagedMemory
   @Override
-  public void setByte(final int address, final int data) {
-    assert (address >= 0) && (address < RAM_SIZE);
-    assert (data >= 0) && (data < 0x100);
-
-    if ((allRAMFlag || (address >= 0x4000)) &&
-	(!inPortFlag || (address < 0xe000))) {
-      ram[address] = (byte)data;
-    }
-
-    if (address >= Display.START_VIDEO) {
-      displayHardware.getDisplay().setByte(address, data);
+  protected int readSideEffects(final int address) {
+    int data = ~tapeRecorderHardware.getOutPin().query() << 7;
+    if ((address & 0x0f) == 0x0b) {
+      data |=
+	(IONode.normalize(joystickHardware.getUpPin().query()) << 2) |
+	IONode.normalize(joystickHardware.getRightPin().query()) |
+	(IONode.normalize(joystickHardware.getDownPin().query()) << 3) |
+	(IONode.normalize(joystickHardware.getLeftPin().query()) << 1) |
+	(IONode.normalize(joystickHardware.getFirePin().query()) << 4);
+    } else {
+      data |= keyboardHardware.getState(address & 0x0f);
     }
+    return data & 0xff;
+  }
 
-    if (log.isLoggable(Level.FINEST)) {
-      log.finest(String.format("Memory '%s' written: %02x -> (%04x)",
-			       name,
-			       (byte)data,
-			       address));
-    }
+  // for description see PagedMemory
+  @Override
+  protected void writeSideEffects(final int address, final int data) {
+    displayHardware.getDisplay().setByte(address, data);
   }
 }
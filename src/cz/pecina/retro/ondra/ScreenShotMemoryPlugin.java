@@ -26,9 +26,9 @@ import java.io.File;
 import java.io.IOException;
 
 import java.awt.Color;
-import java.awt.Graphics2D;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
 
@@ -94,14 +94,15 @@ public class ScreenShotMemoryPlugin implements MemoryPlugin {
   public void write(final Hardware hardware, final File file) {
     log.fine("Writing screenshot to a file: " + file.getName());
     final byte[] ram =
-      Parameters.memoryDevice.getBlockByName("RAM").getMemory();
+      Parameters.getMemoryDevice().getBlockByName("RAM").getMemory();
     final int scanLines =
       ((computerHardware.getDisplayHardware().getScanLines() + 0xff) & 0xff) + 1;
     final BufferedImage bi = new BufferedImage(
       Display.DISPLAY_WIDTH,
       scanLines,
       BufferedImage.TYPE_INT_RGB);
-    final Graphics2D graphics = bi.createGraphics();
+    final int[] pixels =
+      ((DataBufferInt)bi.getRaster().getDataBuffer()).getData();
     switch (UserPreferences.getColorMode()) {
       case 0:
 	color = OndraColor.WOB_COLOR;
@@ -113,19 +114,16 @@ public class ScreenShotMemoryPlugin implements MemoryPlugin {
 	color = UserPreferences.getCustomColor();
 	break;
     }
+    final int rgb = color.getRGB() & 0xffffff;
+    int j = 0;
     for (int row = Display.DISPLAY_HEIGHT - scanLines;
 	 row < Display.DISPLAY_HEIGHT;
 	 row++) {
       for (int column = 0; column < Display.DISPLAY_WIDTH_CELLS; column++) {
-	int b =
+	final int b =
 	  ram[0xffff - (row >> 1) - ((row & 1) << 7) - (column << 8)];
 	for (int i = 0; i < 8; i++) {
-	  graphics.setColor(((b & 0x80) != 0) ? color : Color.BLACK);
-	  graphics.fillRect((column * 8) + i,
-			    row - Display.DISPLAY_HEIGHT + scanLines,
-			    1,
-			    1);
-	  b <<= 1;
+	  pixels[j++] = (((b << i) & 0x80) != 0) ? rgb : 0;
 	}
       }
     }
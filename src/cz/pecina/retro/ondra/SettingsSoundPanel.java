@@ -200,7 +200,7 @@ public class SettingsSoundPanel extends JPanel {
     // for description see ChangeListener
     @Override
     public void stateChanged(final ChangeEvent event) {
-      Parameters.sound.setVolume(
+      Parameters.getSound().setVolume(
         channel,
 	((JSlider)(event.getSource())).getValue() / 100f);
     }
@@ -219,7 +219,7 @@ public class SettingsSoundPanel extends JPanel {
     // for description see ChangeListener
     @Override
     public void stateChanged(final ChangeEvent event) {
-      Parameters.sound.setMute(channel,
+      Parameters.getSound().setMute(channel,
 			       ((JCheckBox)(event.getSource())).isSelected());
     }
   }
@@ -267,13 +267,13 @@ public class SettingsSoundPanel extends JPanel {
     @Override
     public void actionPerformed(final ActionEvent event) {
       log.finer("Cancel button event detected");
-      Parameters.sound.setVolume(Sound.TAPE_RECORDER_CHANNEL,
+      Parameters.getSound().setVolume(Sound.TAPE_RECORDER_CHANNEL,
         UserPreferences.getTapeRecorderVolume() / 100f);
-      Parameters.sound.setMute(Sound.TAPE_RECORDER_CHANNEL,
+      Parameters.getSound().setMute(Sound.TAPE_RECORDER_CHANNEL,
         UserPreferences.isTapeRecorderMute());
-      Parameters.sound.setVolume(Sound.SPEAKER_CHANNEL,
+      Parameters.getSound().setVolume(Sound.SPEAKER_CHANNEL,
 	UserPreferences.getSpeakerVolume() / 100f);
-      Parameters.sound.setMute(Sound.SPEAKER_CHANNEL,
+      Parameters.getSound().setMute(Sound.SPEAKER_CHANNEL,
         UserPreferences.isSpeakerMute());
       log.fine("Partial changes cancelled");
     }
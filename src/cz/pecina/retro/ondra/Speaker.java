@@ -120,10 +120,10 @@ public class Speaker implements CPUEventOwner {
 	value = (inPins[2].level << 2) | (inPins[1].level << 1) | level;
 	CPUScheduler.removeAllEvents(Speaker.this);
 	if (value > 0) {
-	  Parameters.sound.write(Sound.SPEAKER_CHANNEL, true);
+	  Parameters.getSound().write(Sound.SPEAKER_CHANNEL, true);
 	  CPUScheduler.addEventRelative(Speaker.this, PULSE);
 	} else {
-	  Parameters.sound.write(Sound.SPEAKER_CHANNEL, false);
+	  Parameters.getSound().write(Sound.SPEAKER_CHANNEL, false);
 	}
       }
     }
@@ -133,10 +133,10 @@ public class Speaker implements CPUEventOwner {
   @Override
   public void performEvent(final int parameter, final long delay) {
     if ((parameter != 0) && (value != 0)) {
-      Parameters.sound.write(Sound.SPEAKER_CHANNEL, true);
+      Parameters.getSound().write(Sound.SPEAKER_CHANNEL, true);
       CPUScheduler.addEventRelative(this, PULSE);
     } else {
-      Parameters.sound.write(Sound.SPEAKER_CHANNEL, false);
+      Parameters.getSound().write(Sound.SPEAKER_CHANNEL, false);
       if (value != 0) {
 	CPUScheduler.addEventRelative(this, PAUSE[value - 1], 1);
       }
@@ -156,15 +156,15 @@ public class PCKeyboardHardware implements IOElement, CPUEventOwner {
 
   // connect to ports
   private void connect() {
-    Parameters.cpu.addIOInput(basePort, this);
-    Parameters.cpu.addIOOutput(basePort, this);
+    Parameters.getCPU().addIOInput(basePort, this);
+    Parameters.getCPU().addIOOutput(basePort, this);
     log.fine("Ports connected");
   }
 
   // disconnect from ports
   private void disconnect() {
-    Parameters.cpu.removeIOInput(basePort, this);
-    Parameters.cpu.removeIOOutput(basePort, this);
+    Parameters.getCPU().removeIOInput(basePort, this);
+    Parameters.getCPU().removeIOOutput(basePort, this);
     log.fine("Ports disconnected");
   }
 
@@ -200,7 +200,7 @@ public class PCKeyboardHardware implements IOElement, CPUEventOwner {
       interruptMask = interruptFlag = false;
       CPUScheduler.removeAllEvents(this);
       queue.clear();
-      timeout = Parameters.systemClockSource.getSystemClock();
+      timeout = Parameters.getSystemClockSource().getSystemClock();
       log.fine("PC keyboard reset");
     } else {
       resetFlag = false;
@@ -271,8 +271,9 @@ public class PCKeyboardHardware implements IOElement, CPUEventOwner {
     assert scanCode > 0;
     log.finer("Scheduling scan code: " + scanCode + ", released: " + released);
     if (!resetFlag) {
-      long startTime = Math.max(Parameters.systemClockSource.getSystemClock(),
-				timeout) + timingTimeout;
+      long startTime =
+	Math.max(Parameters.getSystemClockSource().getSystemClock(),
+		 timeout) + timingTimeout;
       CPUScheduler.addEvent(this, startTime);
       CPUScheduler.addEvent(this, startTime + timingPreStart, BITMASK_DATA);
       startTime += timingStart;
@@ -307,8 +308,8 @@ public class PCKeyboardHardware implements IOElement, CPUEventOwner {
     portData = parameter;
     log.finer(String.format("Output data set to %02x", parameter));
     if (((parameter & BITMASK_CLOCK) == 0) && interruptMask) {
-      if ((vector != -1) && Parameters.cpu.isIE()) {
-	Parameters.cpu.requestInterrupt(vector);
+      if ((vector != -1) && Parameters.getCPU().isIE()) {
+	Parameters.getCPU().requestInterrupt(vector);
 	log.finer("Interrupt requested");
       } else {
 	interruptFlag = true;
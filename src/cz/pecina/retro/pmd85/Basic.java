@@ -26,8 +26,6 @@ import java.util.regex.Pattern;
 import java.util.regex.Matcher;
 import java.util.regex.MatchResult;
 
-import java.util.ArrayList;
-
 import java.io.BufferedReader;
 import java.io.PrintWriter;
 import java.io.IOException;
@@ -38,6 +36,8 @@ import java.nio.charset.Charset;
 
 import cz.pecina.retro.common.Parameters;
 
+import cz.pecina.retro.cpu.Breakpoints;
+
 /**
  * BASIG-G programs utilities.
  *
@@ -357,14 +357,14 @@ public class Basic {
     ram[a++] = (byte)0x04;
     ram[a++] = (byte)0x1e;
 
-    final int pc = Parameters.cpu.getPC();
-    Parameters.cpu.setPC(runAddress);
-    Parameters.cpu.resume();
-    Parameters.cpu.exec(Integer.MAX_VALUE,
+    final int pc = Parameters.getCPU().getPC();
+    Parameters.getCPU().setPC(runAddress);
+    Parameters.getCPU().resume();
+    Parameters.getCPU().exec(Integer.MAX_VALUE,
 			0,
-			new ArrayList<Integer>() {{add(breakPoint);}});
-    Parameters.cpu.suspend();
-    Parameters.cpu.setPC(pc);
+			new Breakpoints(breakPoint));
+    Parameters.getCPU().suspend();
+    Parameters.getCPU().setPC(pc);
 			
     log.fine("Variables reset");
   }
@@ -0,0 +1,129 @@
+/* BatchComputer.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.pmd85;
+
+import java.util.logging.Logger;
+
+import java.io.File;
+
+import cz.pecina.retro.common.Parameters;
+
+import cz.pecina.retro.cpu.Hardware;
+import cz.pecina.retro.cpu.Processor;
+import cz.pecina.retro.cpu.Breakpoints;
+
+import cz.pecina.retro.trec.TapeRecorderHardware;
+
+import cz.pecina.retro.gui.FrameBuffer;
+
+import cz.pecina.retro.batch.BatchMachine;
+
+/**
+ * Tesla PMD 85 control object for headless batch execution.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class BatchComputer implements BatchMachine {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(BatchComputer.class.getName());
+
+  // the computer hardware object
+  private final ComputerHardware computerHardware;
+
+  // the screenshot writer
+  private final ScreenShotMemoryPlugin screenShot;
+
+  /**
+   * Creates a new headless computer control object, in the current
+   * machine context.
+   */
+  public BatchComputer() {
+    log.fine("New BatchComputer creation started");
+    computerHardware = new ComputerHardware();
+    computerHardware.setModel(UserPreferences.getModel());
+    screenShot = new ScreenShotMemoryPlugin(computerHardware);
+    log.fine("New BatchComputer created");
+  }
+
+  /**
+   * Gets the computer hardware.
+   *
+   * @return the computer hardware
+   */
+  public ComputerHardware getComputerHardware() {
+    return computerHardware;
+  }
+
+  // for description see BatchMachine
+  @Override
+  public Hardware getHardware() {
+    return computerHardware.getHardware();
+  }
+
+  // for description see BatchMachine
+  @Override
+  public Processor getCPU() {
+    return computerHardware.getCPU();
+  }
+
+  // for description see BatchMachine
+  @Override
+  public TapeRecorderHardware getTapeRecorderHardware() {
+    return computerHardware.getTapeRecorderHardware();
+  }
+
+  // for description see BatchMachine
+  @Override
+  public String getMemoryBank() {
+    return "RAM";
+  }
+
+  // for description see BatchMachine
+  @Override
+  public void exec(final Breakpoints breakpoints) {
+    computerHardware.getCPU().exec(Parameters.timerCycles, 0, breakpoints);
+    computerHardware.getTapeRecorderHardware().process();
+    computerHardware.getKeyboardHardware().update();
+    computerHardware.getDisplayHardware().refresh();
+  }
+
+  // for description see BatchMachine
+  @Override
+  public void writeScreenShot(final File file) {
+    screenShot.write(computerHardware.getHardware(), file);
+  }
+
+  // for description see BatchMachine
+  @Override
+  public FrameBuffer getFrameBuffer() {
+    return computerHardware.getDisplayHardware().getDisplay().getBuffer();
+  }
+
+  // for description see BatchMachine
+  @Override
+  public long getScreenHash() {
+    return computerHardware.getDisplayHardware().getDisplay()
+      .getScreenHash();
+  }
+}
@@ -21,6 +21,16 @@
 package cz.pecina.retro.pmd85;
 
 import java.util.logging.Logger;
+import java.util.logging.Level;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import java.util.function.LongSupplier;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
 
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
@@ -29,14 +39,30 @@ import javax.swing.Timer;
 
 import cz.pecina.retro.common.Parameters;
 import cz.pecina.retro.common.Application;
+import cz.pecina.retro.common.MachineContext;
 
 import cz.pecina.retro.cpu.Processor;
 import cz.pecina.retro.cpu.Opcode;
+import cz.pecina.retro.cpu.RewindBuffer;
 
 import cz.pecina.retro.gui.GUI;
 
+import cz.pecina.retro.batch.ScreenOracle;
+
 /**
  * Tesla PMD 85 control object.
+ * <p>
+ * Normally, the CPU is run from the Swing timer, a fixed number of
+ * cycles per timer tick.  In turbo mode, which is toggled by the user
+ * or entered automatically while the tape is being replayed, the CPU
+ * is run on a dedicated thread as fast as the host allows, while
+ * the timer ticks only refresh the display, sample the keyboard and
+ * feed the sound system at the wall-clock frame rate.  The turbo
+ * thread and the event dispatch thread are serialized by a fair
+ * lock, which is held while a block of instructions is being
+ * executed or a Swing event is being dispatched.  Should the turbo
+ * thread fail, the CPU is run from the timer again until turbo mode
+ * is requested anew.
  *
  * @author @AUTHOR@
  * @version @VERSION@
@@ -102,11 +128,38 @@ public class Computer implements Runnable {
   // true if run() running
   private boolean busy;
 
+  // the machine context the computer runs in
+  private MachineContext context;
+
+  // lock serializing the turbo thread and the event dispatch thread
+  private final ReentrantLock turboLock = new ReentrantLock(true);
+
+  // condition signalled when the turbo thread should run
+  private final Condition turboCondition = turboLock.newCondition();
+
+  // true if turbo mode requested by the user
+  private volatile boolean turbo;
+
+  // true if the CPU is currently run by the turbo thread
+  private volatile boolean turboActive;
+
+  // true if the turbo thread failed, turbo mode is then not entered
+  // until requested by the user again
+  private volatile boolean turboFailed;
+
+  // recent states of the hardware
+  private RewindBuffer rewindBuffer;
+
+  // true if rewinding requested by the user
+  private volatile boolean rewindRequested;
+
   /**
    * Creates a new computer control object.
    */
   public Computer() {
     log.fine("New Computer creation started");
+
+    context = MachineContext.getCurrent();
     
     // set up the computer hardware
     computerHardware = new ComputerHardware();
@@ -152,7 +205,17 @@ public class Computer implements Runnable {
     // set the model and reset all stateful hardware
     computerHardware.setModel(this, UserPreferences.getModel());
 
+    // set up the rewind buffer
+    rewindBuffer = new RewindBuffer(computerHardware.getHardware(),
+				    Constants.REWIND_STATES,
+				    Constants.REWIND_INTERVAL);
+
+    // serialize Swing events with the turbo thread
+    Toolkit.getDefaultToolkit().getSystemEventQueue()
+      .push(new TurboEventQueue());
+
     // start emulation
+    new TurboThread().start();
     new Timer(Parameters.timerPeriod, new TimerListener()).start();
 
     log.fine("New Computer created");
@@ -168,16 +231,92 @@ public class Computer implements Runnable {
     }
   };
 
+  // event queue holding the turbo lock while dispatching events
+  private class TurboEventQueue extends EventQueue {
+
+    // for description see EventQueue
+    @Override
+    protected void dispatchEvent(final AWTEvent event) {
+      turboLock.lock();
+      try {
+	super.dispatchEvent(event);
+      } finally {
+	turboLock.unlock();
+      }
+    }
+  }
+
+  // thread running the CPU in turbo mode
+  private class TurboThread extends Thread {
+
+    // creates the turbo thread
+    private TurboThread() {
+      super("Turbo");
+      setDaemon(true);
+    }
+
+    // for description see Thread
+    @Override
+    public void run() {
+      context.bind();
+      log.fine("Turbo thread started");
+      turboLock.lock();
+      try {
+	while (true) {
+	  while (!turboActive) {
+	    turboCondition.awaitUninterruptibly();
+	  }
+	  try {
+	    computerHardware.getCPU().exec(Parameters.timerCycles, 0, null);
+	  } catch (final RuntimeException exception) {
+	    log.log(Level.WARNING,
+		    "Turbo thread failed, falling back to timer mode",
+		    exception);
+	    turboFailed = true;
+	    turboActive = false;
+	  }
+
+	  // let the event dispatch thread in, the lock is fair
+	  turboLock.unlock();
+	  turboLock.lock();
+	}
+      } finally {
+	turboLock.unlock();
+      }
+    }
+  }
+
   // the main emulation method
   public void run() {
+    turboLock.lock();
+    try {
+      runLocked();
+    } finally {
+      turboLock.unlock();
+    }
+  }
+
+  // the main emulation method, called with the turbo lock held
+  private void runLocked() {
 	
     if (busy) {
       log.fine("Processing took too long, timer event dismissed");
-      Parameters.sound.update();
+      Parameters.getSound().update();
       return;
     }
     busy = true;
 
+    final boolean newTurboActive =
+      (debuggerState == DebuggerState.HIDDEN) && !turboFailed &&
+      (turbo || computerHardware.getTapeRecorderHardware().isPlaying());
+    if (newTurboActive != turboActive) {
+      turboActive = newTurboActive;
+      if (turboActive) {
+	turboCondition.signal();
+      }
+      log.fine("Turbo " + (turboActive ? "started" : "stopped"));
+    }
+
     switch (debuggerState) {
       case HIDDEN:
     	computerHardware.getDebuggerHardware().removeTemporaryBreakpoints();
@@ -202,10 +341,17 @@ public class Computer implements Runnable {
     	// } else {
     	//   interruptButtonPressed = false;
 	// }
-    	computerHardware.getCPU().exec(
-          Parameters.timerCycles * Parameters.speedUp,
-  	  0,
-  	  null);
+	if (rewindRequested) {
+	  rewindRequested = false;
+	  rewindBuffer.rewind(1);
+	}
+	if (!turboActive) {
+	  computerHardware.getCPU().exec(
+            Parameters.timerCycles * Parameters.speedUp,
+	    0,
+	    null);
+	}
+	rewindBuffer.frame();
     	// computerHardware.getDisplayHardware().display();
     	break;
       case STOPPED:
@@ -253,8 +399,8 @@ public class Computer implements Runnable {
     	      computerHardware.getCPU().exec();
     	      computerHardware.getDebuggerHardware().activate();
     	    } else {
-    	      computerHardware.getDebuggerHardware().getBreakpointValues()
-    		.add((pc + opcode.getLength()) & 0xffff);
+    	      computerHardware.getDebuggerHardware().addTemporaryBreakpoint(
+    		(pc + opcode.getLength()) & 0xffff);
     	      computerHardware.getDebuggerHardware().deactivate();
     	      debuggerState = DebuggerState.RUNNING;
     	    }
@@ -309,19 +455,20 @@ public class Computer implements Runnable {
     	  runStopButtonPressed = false;
     	}
     	computerHardware.getCPU().exec(Parameters.timerCycles, 0,
-    	  computerHardware.getDebuggerHardware().getBreakpointValues());
+    	  computerHardware.getDebuggerHardware().getBreakpoints());
     	// computerHardware.getDisplayHardware().display();
-    	if (computerHardware.getDebuggerHardware().getBreakpointValues()
-    	    .contains(computerHardware.getCPU().getPC())) {
+    	if (computerHardware.getDebuggerHardware().getBreakpoints()
+    	    .isHit(computerHardware.getCPU().getPC())) {
     	  computerHardware.getDebuggerHardware().activate();
     	  debuggerState = DebuggerState.STOPPED;
     	}
     	break;
     }
     computerHardware.getTapeRecorderHardware().process();
-    Parameters.sound.update();
+    Parameters.getSound().update();
     computerHardware.getKeyboardHardware().update();
     computerHardware.getDisplayHardware().refresh();
+    checkScreen();
 
     // update LEDs
     final float yellowLEDState =
@@ -374,10 +521,56 @@ public class Computer implements Runnable {
     return keyboardFrame;
   }
 
+  /**
+   * Sets the turbo mode.
+   *
+   * @param turbo if {@code true}, the CPU will be run as fast as
+   *              the host allows
+   */
+  public void setTurbo(final boolean turbo) {
+    this.turbo = turbo;
+    turboFailed = false;
+    log.fine("Turbo mode set to: " + turbo);
+  }
+
+  /**
+   * Gets the turbo mode.
+   *
+   * @return {@code true} if turbo mode requested by the user
+   */
+  public boolean isTurbo() {
+    return turbo;
+  }
+
+  // checks the screen hashes requested on the command line
+  private void checkScreen() {
+    final ScreenOracle oracle = CommandLineProcessor.screenOracle;
+    if (oracle != null) {
+      oracle.checkSession(new LongSupplier() {
+	  @Override
+	  public long getAsLong() {
+	    return computerHardware.getDisplayHardware().getDisplay()
+	      .getScreenHash();
+	  }
+	},
+	this);
+    }
+  }
+
+  /**
+   * Requests rewinding the emulation by one state of the rewind
+   * buffer.  The request is processed on the next timer tick.
+   */
+  public void requestRewind() {
+    rewindRequested = true;
+    log.fine("Rewind requested");
+  }
+
   /**
    * Stops the debugger.
    */
   public void debuggerStop() {
+    turboActive = false;
     debuggerState = DebuggerState.STOPPED;
   }
 
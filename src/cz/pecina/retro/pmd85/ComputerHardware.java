@@ -33,10 +33,12 @@ import java.nio.file.Paths;
 import java.net.URISyntaxException;
 
 import cz.pecina.retro.common.Parameters;
+import cz.pecina.retro.common.MachineContext;
 import cz.pecina.retro.common.Application;
 import cz.pecina.retro.common.Util;
 import cz.pecina.retro.common.Sound;
 
+import cz.pecina.retro.cpu.ImageStore;
 import cz.pecina.retro.cpu.IONode;
 import cz.pecina.retro.cpu.Hardware;
 import cz.pecina.retro.cpu.Intel8080A;
@@ -165,14 +167,14 @@ public class ComputerHardware {
     // set up memory
     memory = new PMDMemory("MEMORY", 8, 64, 32, displayHardware);
     hardware.add(memory);
-    Parameters.memoryDevice = memory;
-    Parameters.memoryObject = memory;
+    Parameters.setMemoryDevice(memory);
+    Parameters.setMemoryObject(memory);
 	
     // set up CPU
     cpu = new PMDIntel8080A("CPU");
     hardware.add(cpu);
-    Parameters.systemClockSource = cpu;
-    Parameters.cpu = cpu;
+    Parameters.setSystemClockSource(cpu);
+    Parameters.setCPU(cpu);
 
     // connect CPU and memory
     cpu.setMemory(memory);
@@ -304,13 +306,13 @@ public class ComputerHardware {
 
     // set up the sound interface
     new Sound(Constants.SOUND_SAMPLING_RATE, 2);
-    Parameters.sound.setVolume(Sound.TAPE_RECORDER_CHANNEL,
+    Parameters.getSound().setVolume(Sound.TAPE_RECORDER_CHANNEL,
       UserPreferences.getTapeRecorderVolume() / 100f);
-    Parameters.sound.setMute(Sound.TAPE_RECORDER_CHANNEL,
+    Parameters.getSound().setMute(Sound.TAPE_RECORDER_CHANNEL,
       UserPreferences.isTapeRecorderMute());
-    Parameters.sound.setVolume(Sound.SPEAKER_CHANNEL,
+    Parameters.getSound().setVolume(Sound.SPEAKER_CHANNEL,
       UserPreferences.getSpeakerVolume() / 100f);
-    Parameters.sound.setMute(Sound.SPEAKER_CHANNEL,
+    Parameters.getSound().setMute(Sound.SPEAKER_CHANNEL,
       UserPreferences.isSpeakerMute());
     
     // set up fixed frequency source and related logic
@@ -370,7 +372,9 @@ public class ComputerHardware {
       .add(redLEDMeter.getInPin());
       
     // load any startup images and snapshots
-    new CommandLineProcessor(hardware);
+    if (!MachineContext.getCurrent().isHeadless()) {
+      new CommandLineProcessor(hardware);
+    }
     
     log.fine("New Computer hardware object created");
   }
@@ -397,11 +401,11 @@ public class ComputerHardware {
       if (size > modelSize) {
 	throw new IOException("Wrong size");
       }
-      final byte[] memoryArray =
-	Parameters.memoryDevice.getBlockByName("ROM").getMemory();
+      final byte[] image = memory.getROM().clone();
       for (int addr = 0; addr < modelSize; addr++) {
-	memoryArray[addr] = ((addr < size) ? buffer[addr] : (byte)0xff);
+	image[addr] = ((addr < size) ? buffer[addr] : (byte)0xff);
       }
+      memory.setROM(ImageStore.intern(image));
       log.fine(String.format("ROM contents read, size: 0x%04x", size));
     } catch (final NullPointerException |
 	     URISyntaxException |
@@ -433,11 +437,7 @@ public class ComputerHardware {
       if (size > 0x8000) {
 	throw new IOException("Wrong size");
       }
-      final byte[] memoryArray =
-	Parameters.memoryDevice.getBlockByName("RMM").getMemory();
-      for (int addr = 0; addr < 0x8000; addr++) {
-	memoryArray[addr] = ((addr < size) ? buffer[addr] : (byte)0xff);
-      }
+      memory.setRMM(ImageStore.intern(buffer, memory.getRMM().length));
       log.fine(String.format("RMM contents read, size: 0x%04x", size));
     } catch (final NullPointerException |
 	     URISyntaxException |
@@ -452,7 +452,8 @@ public class ComputerHardware {
    * Clears the RAM.
    */
   public void clearRAM() {
-    Arrays.fill(memory.getRAM(), (byte)0);
+    memory.getBlockByName("RAM").fill((byte)0);
+    memory.refreshVideoRAM();
     displayHardware.refresh();
   }
   
@@ -465,11 +466,21 @@ public class ComputerHardware {
   public void setModel(final Computer computer, final int model) {
     log.fine("Setting model: " + model);
     assert (model >= 0) && (model < Constants.NUMBER_MODELS);
+    keyboardHardware.getKeyboardLayout().modify(model);
+    computer.getKeyboardFrame().getKeyboardPanel().replaceKeys();
+    setModel(model);
+  }
+
+  /**
+   * Sets the model, without any user interface.
+   *
+   * @param model the model
+   */
+  public void setModel(final int model) {
+    log.fine("Setting hardware model: " + model);
+    assert (model >= 0) && (model < Constants.NUMBER_MODELS);
     this.model = model;
     marking.setState(model);
-    computer.getComputerHardware().getKeyboardHardware()
-      .getKeyboardLayout().modify(model);
-    computer.getKeyboardFrame().getKeyboardPanel().replaceKeys();
     memory.setModel(model);
     clearRAM();
     loadROM();
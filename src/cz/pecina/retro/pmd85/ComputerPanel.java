@@ -22,6 +22,9 @@ package cz.pecina.retro.pmd85;
 
 import java.util.logging.Logger;
 
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+
 import cz.pecina.retro.gui.BackgroundFixedPane;
 import cz.pecina.retro.gui.GUI;
 import cz.pecina.retro.gui.Shortcut;
@@ -39,6 +42,12 @@ public class ComputerPanel extends BackgroundFixedPane {
   private static final Logger log =
     Logger.getLogger(ComputerPanel.class.getName());
     
+  // key toggling the turbo mode
+  private static final int TURBO_KEY = KeyEvent.VK_SCROLL_LOCK;
+
+  // key rewinding the emulation
+  private static final int REWIND_KEY = KeyEvent.VK_PAUSE;
+
   // display position
   private static final int DISPLAY_OFFSET_X = 12;
   private static final int DISPLAY_OFFSET_Y = 12;
@@ -89,6 +98,21 @@ public class ComputerPanel extends BackgroundFixedPane {
     // set up keyboard shortcuts
     setShortcuts();
 
+    // set up turbo toggle and rewinding
+    computerFrame.addKeyListener(new KeyAdapter() {
+	@Override
+	public void keyPressed(final KeyEvent event) {
+	  if (event.getKeyCode() == TURBO_KEY) {
+	    computer.setTurbo(!computer.isTurbo());
+	    event.consume();
+	  } else if (event.getKeyCode() == REWIND_KEY) {
+	    computer.requestRewind();
+	    event.consume();
+	  }
+	}
+      });
+    log.finer("Turbo toggle and rewinding set up");
+
     // set up display
     displayHardware.getDisplay().place(this,
 				       DISPLAY_OFFSET_X,
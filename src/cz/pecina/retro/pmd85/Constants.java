@@ -54,6 +54,16 @@ public final class Constants {
   public static final long TIMER_CYCLES =
     Math.round(TIMER_PERIOD * CPU_FREQUENCY / 1e3);
 
+  /**
+   * The number of states kept for rewinding.
+   */
+  public static final int REWIND_STATES = 60;
+
+  /**
+   * The number of timer periods between rewind states (one second).
+   */
+  public static final int REWIND_INTERVAL = 1000 / TIMER_PERIOD;
+
   public static final String RES_PREFIX = "cz/pecina/retro/pmd85/";
 
   public static final int TAPE_SAMPLE_RATE = 2048000;
@@ -23,17 +23,25 @@ package cz.pecina.retro.pmd85;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
-import java.awt.Color;
-import java.awt.Dimension;
-
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
 
 import javax.swing.JComponent;
 import javax.swing.Timer;
 
+import cz.pecina.retro.common.MachineContext;
+import cz.pecina.retro.common.Util;
+
 /**
  * Display of the Tesla PMD 85 computer.
+ * <p>
+ * The contents of the video RAM are rendered into the back buffer of
+ * the framebuffer as they are written, and published to the screen
+ * at the frame boundary, i.e., on {@link #refresh}.  Each byte is
+ * expanded to six pixels using a table indexed by the byte, i.e., by
+ * the 64 pixel patterns and the 4 attributes, which is rebuilt when
+ * the colors change or, at the frame boundary, when the blinking
+ * cells are toggled.
  *
  * @author @AUTHOR@
  * @version @VERSION@
@@ -74,10 +82,11 @@ public class Display extends Timer {
    */
   public static final int START_VIDEO = 0xc000;
 
-  /**
-   * Static blinking flag.
-   */
-  public static boolean blink;
+  // true if the blinking cells are off
+  private boolean blink;
+
+  // true if the blinking cells are to be toggled on the next refresh
+  private volatile boolean blinkRequested;
   
   // blinking period in msec
   private static final int BLINK_PERIOD = 500;
@@ -94,9 +103,22 @@ public class Display extends Timer {
   // active colors
   private PMDColor[] colors;
 
-  // display stripes
-  private DisplayStripe[] stripes = new DisplayStripe[NUMBER_STRIPES];
-  
+  // the framebuffer
+  private final DisplayBuffer buffer = new DisplayBuffer();
+
+  // the bytes written to the display
+  private final byte[] cells =
+    new byte[DISPLAY_HEIGHT * DISPLAY_WIDTH_CELLS];
+
+  // number of blinking cells in each row
+  private final int[] numberBlinking = new int[DISPLAY_HEIGHT];
+
+  // blinking flags of the attributes
+  private final boolean[] blinkFlags = new boolean[4];
+
+  // the pixel-expansion table, six pixels for each byte
+  private final int[] table = new int[0x100 * 6];
+
   // set the active colors
   private void setActiveColors() {
     switch (colorMode) {
@@ -121,6 +143,43 @@ public class Display extends Timer {
 	colors = customColors;
 	break;
     }
+    for (int attribute = 0; attribute < 4; attribute++) {
+      blinkFlags[attribute] = colors[attribute].getBlinkFlag();
+    }
+    buildTable();
+    for (int row = 0; row < DISPLAY_HEIGHT; row++) {
+      numberBlinking[row] = 0;
+      for (int column = 0; column < DISPLAY_WIDTH_CELLS; column++) {
+	final int data = cells[(row * DISPLAY_WIDTH_CELLS) + column];
+	if (blinkFlags[(data >> 6) & 3]) {
+	  numberBlinking[row]++;
+	}
+      }
+      renderRow(row);
+    }
+  }
+
+  // build the pixel-expansion table
+  private void buildTable() {
+    for (int data = 0; data < 0x100; data++) {
+      final int attribute = data >> 6;
+      final int rgb = (blink && blinkFlags[attribute]) ?
+	0 : (colors[attribute].getColor().getRGB() & 0xffffff);
+      for (int i = 0; i < 6; i++) {
+	table[(data * 6) + i] = (((data >> i) & 1) == 1) ? rgb : 0;
+      }
+    }
+    log.finer("Pixel-expansion table built");
+  }
+
+  // render one row to the framebuffer
+  private void renderRow(final int row) {
+    for (int column = 0; column < DISPLAY_WIDTH_CELLS; column++) {
+      buffer.setCell(row,
+		     column,
+		     table,
+		     (cells[(row * DISPLAY_WIDTH_CELLS) + column] & 0xff) * 6);
+    }
   }
   
   /**
@@ -133,14 +192,13 @@ public class Display extends Timer {
     log.fine("Display creation started");
     assert computerHardware != null;
     this.computerHardware = computerHardware;
-    for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-      stripes[stripe] = new DisplayStripe();
-    }
     colorMode = UserPreferences.getColorMode();
     customColors = UserPreferences.getCustomColors();
     setActiveColors();
     addActionListener(new BlinkListener());
-    start();
+    if (!MachineContext.getCurrent().isHeadless()) {
+      start();
+    }
     log.fine("Display created");
   }
 
@@ -149,20 +207,26 @@ public class Display extends Timer {
     @Override
     public void actionPerformed(final ActionEvent event) {
       log.finest("Blink listener running");
-      blink = !blink;
-      for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-	stripes[stripe].refreshBlink();
-      }
+      blinkRequested = true;
     }
   }
 
   /**
-   * Repaints any changed stripes.
+   * Ends the frame: toggles the blinking cells if requested and
+   * publishes the changes to the framebuffer.
    */
   public void refresh() {
-    for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-	stripes[stripe].refresh();
+    if (blinkRequested) {
+      blinkRequested = false;
+      blink = !blink;
+      buildTable();
+      for (int row = 0; row < DISPLAY_HEIGHT; row++) {
+	if (numberBlinking[row] > 0) {
+	  renderRow(row);
+	}
+      }
     }
+    buffer.refresh();
     log.finest("Display refreshed");
   }
 
@@ -174,21 +238,35 @@ public class Display extends Timer {
    */
   public void setByte(final int address, final int data) {
     assert (address >= 0xc000) && (address < 0x10000);
-    final int stripe = (address >> 10) & 0x0f;
-    final int row = (address >> 6) & 0x0f;
+    final int row = (address >> 6) & 0xff;
     final int column = address & 0x3f;
     if (column < 0x30) {
-      if (log.isLoggable(Level.FINEST)) {
-	log.finest(String.format(
-          "Writing byte, address: 0x%04x, data: 0x%02x", address, data));
+      final int index = (row * DISPLAY_WIDTH_CELLS) + column;
+      final byte previous = cells[index];
+      if (previous != (byte)data) {
+	if (log.isLoggable(Level.FINEST)) {
+	  log.finest(String.format(
+            "Writing byte, address: 0x%04x, data: 0x%02x", address, data));
+	}
+	cells[index] = (byte)data;
+	numberBlinking[row] += (blinkFlags[(data >> 6) & 3] ? 1 : 0) -
+	  (blinkFlags[(previous >> 6) & 3] ? 1 : 0);
+	buffer.setCell(row, column, table, (data & 0xff) * 6);
       }
-      final byte p = (byte)(data & 0x3f);
-      final byte a = (byte)(data >> 6);
-      final Color color = colors[a].getColor();
-      stripes[stripe].setByte(row, column, p, color, colors[a].getBlinkFlag());
     }
   }
 
+  /**
+   * Gets the hash of the logical screen, i.e., of the visible part
+   * of the video RAM starting at {@code START_VIDEO}, regardless of
+   * colors and blinking.
+   *
+   * @return the 64-bit hash
+   */
+  public long getScreenHash() {
+    return Util.hash(Util.HASH_SEED, cells, 0, cells.length);
+  }
+
   /**
    * Sets the color mode.
    *
@@ -231,6 +309,15 @@ public class Display extends Timer {
     return customColors;
   }
 
+  /**
+   * Gets the framebuffer.
+   *
+   * @return the framebuffer
+   */
+  public DisplayBuffer getBuffer() {
+    return buffer;
+  }
+
   /**
    * Places the display on the panel.
    *
@@ -244,11 +331,7 @@ public class Display extends Timer {
     assert container != null;
     log.fine("Placing display, position: (" +
 	      positionX + "," + positionY + ")");
-    for (int stripe = 0; stripe < NUMBER_STRIPES; stripe++) {
-      stripes[stripe].place(container,
-			    positionX,
-			    positionY + (STRIPE_HEIGHT * stripe));
-    }
+    buffer.place(container, positionX, positionY);
     log.finer("Display placed");
   }
 }
@@ -0,0 +1,67 @@
+/* DisplayBuffer.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.pecina.retro.pmd85;
+
+import java.util.logging.Logger;
+
+import cz.pecina.retro.gui.FrameBuffer;
+
+/**
+ * Framebuffer of the display.
+ *
+ * @author @AUTHOR@
+ * @version @VERSION@
+ */
+public class DisplayBuffer extends FrameBuffer {
+
+  // static logger
+  private static final Logger log =
+    Logger.getLogger(DisplayBuffer.class.getName());
+
+  /**
+   * Creates the framebuffer.
+   */
+  public DisplayBuffer() {
+    super(Display.DISPLAY_WIDTH, Display.DISPLAY_HEIGHT);
+    log.fine("New display buffer created");
+  }
+
+  /**
+   * Writes one cell of six pixels.
+   *
+   * @param row    the row, {@code 0-0xff}
+   * @param column the column, {@code 0-0x2f}
+   * @param table  the pixel-expansion table
+   * @param offset offset of the six pixels in {@code table}
+   */
+  public void setCell(final int row,
+		      final int column,
+		      final int[] table,
+		      final int offset) {
+    assert (row >= 0) && (row < Display.DISPLAY_HEIGHT);
+    assert (column >= 0) && (column < Display.DISPLAY_WIDTH_CELLS);
+    System.arraycopy(table,
+		     offset,
+		     pixels,
+		     (row * Display.DISPLAY_WIDTH) + (column * 6),
+		     6);
+    damage(row, column * 6, 6);
+  }
+}
@@ -191,10 +191,12 @@ public class ManchesterDecoder extends Device implements CPUEventOwner {
   @Override
   public void postUnmarshal() {
     CPUScheduler.removeAllEvents(this);
-    CPUScheduler.addEvent(
-      this,
-      Parameters.systemClockSource.getSystemClock() + counter,
-      0);
+    if (counter != -1) {
+      CPUScheduler.addEvent(
+        this,
+	Parameters.getSystemClockSource().getSystemClock() + counter,
+	0);
+    }
     clockPin.notifyChangeNode();
     dataPin.notifyChangeNode();
     log.fine("Post-unmarshal on Manchester decoder completed");
@@ -216,7 +218,8 @@ public class ManchesterDecoder extends Device implements CPUEventOwner {
       trigger = 0;
       CPUScheduler.addEvent(
         this,
-	Parameters.systemClockSource.getSystemClock() +	SAMPLING_DELAY_RESET,
+	Parameters.getSystemClockSource().getSystemClock() +
+	SAMPLING_DELAY_RESET,
 	0);
     }
     trigger++;
@@ -237,7 +240,7 @@ public class ManchesterDecoder extends Device implements CPUEventOwner {
 	  clockPin.notifyChangeNode();
 	  CPUScheduler.addEvent(
 	    ManchesterDecoder.this,
-	    Parameters.systemClockSource.getSystemClock() + SAMPLING_DELAY,
+	    Parameters.getSystemClockSource().getSystemClock() + SAMPLING_DELAY,
 	    0);
 	} else {
 	  log.finest("Pulse not yet ended, edge ignored");
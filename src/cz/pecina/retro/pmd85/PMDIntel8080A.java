@@ -21,16 +21,15 @@
 package cz.pecina.retro.pmd85;
 
 import java.util.logging.Logger;
-import java.util.logging.Level;
-
-import java.util.List;
 
 import cz.pecina.retro.cpu.Intel8080A;
 import cz.pecina.retro.cpu.Opcode;
-import cz.pecina.retro.cpu.Executable;
 import cz.pecina.retro.cpu.Processor;
-import cz.pecina.retro.cpu.IOElement;
 import cz.pecina.retro.cpu.CPUScheduler;
+import cz.pecina.retro.cpu.CPUEventQueue;
+import cz.pecina.retro.cpu.AbstractMemory;
+import cz.pecina.retro.cpu.Breakpoints;
+import cz.pecina.retro.cpu.Trace;
 
 /**
  * Intel 8080A CPU, with modified timing used in Tesla PMD 85.
@@ -79,3136 +78,3045 @@ public class PMDIntel8080A extends Intel8080A {
   protected final Opcode[] opcodes = new Opcode[] {
 
     // 00 NOP
-    new Opcode("NOP", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("NOP", "", 1, 0),
 
     // 01 LXIB
-    new Opcode("LXI", "B,", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  C = memory.getByte(PC);
-	  incPC();
-	  B = memory.getByte(PC);
-	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LXI", "B,", 3, 0),
 
     // 02 STAXB
-    new Opcode("STAX", "B", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(BC(), A);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("STAX", "B", 1, Processor.INS_MW),
 
     // 03 INXB
-    new Opcode("INX", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = (C + 1) & 0xff;
-	  if (C == 0) {
-	    B = (B + 1) & 0xff;
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INX", "B", 1, 0),
 
     // 04 INRB
-    new Opcode("INR", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = (B + 1) & 0xff;
-	  F3(B);
-	  if ((B & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INR", "B", 1, 0),
 
     // 05 DCRB
-    new Opcode("DCR", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = (B - 1) & 0xff;
-	  F3(B);
-	  if ((B & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCR", "B", 1, 0),
 
     // 06 MVIB
-    new Opcode("MVI", "B,", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  B = memory.getByte(PC);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "B,", 2, 0),
 
     // 07 RLC
-    new Opcode("RLC", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = ((A << 1) | (F & 1)) & 0xff;
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("RLC", "", 1, 0),
 
     // 08 undefined (NOP)
-    new Opcode("UND", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("UND", "", 1, Processor.INS_UND),
 
     // 09 DADB
-    new Opcode("DAD", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = (H << 8) + L + (B << 8) + C;
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  incPC();
-	  return TR4N3N3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DAD", "B", 1, 0),
 
     // 0a LDAXB
-    new Opcode("LDAX", "B", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A = memory.getByte(BC());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LDAX", "B", 1, Processor.INS_MR),
 
     // 0b DCXB
-    new Opcode("DCX", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (--C < 0) {
-	    C = 0xff;
-	    B = (B - 1) & 0xff;
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCX", "B", 1, 0),
 
     // 0c INRC
-    new Opcode("INR", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = (C + 1) & 0xff;
-	  F3(C);
-	  if ((C & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INR", "C", 1, 0),
 
     // 0d DCRC
-    new Opcode("DCR", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = (C - 1) & 0xff;
-	  F3(C);
-	  if ((C & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCR", "C", 1, 0),
 
     // 0e MVIC
-    new Opcode("MVI", "C,", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  C = memory.getByte(PC);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "C,", 2, 0),
 
     // 0f RRC
-    new Opcode("RRC", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = ((A >> 1) | (F << 7)) & 0xff;
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("RRC", "", 1, 0),
 
     // 10 undefined (NOP)
-    new Opcode("UND", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("UND", "", 1, Processor.INS_UND),
 
     // 11 LXID
-    new Opcode("LXI", "D,", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  E = memory.getByte(PC);
-	  incPC();
-	  D = memory.getByte(PC);
-	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LXI", "D,", 3, 0),
 
     // 12 STAXD
-    new Opcode("STAX", "D", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  memory.setByte(DE(), A);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("STAX", "D", 1, Processor.INS_MW),
 
     // 13 INXD
-    new Opcode("INX", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = (E + 1) & 0xff;
-	  if (E == 0) {
-	    D = (D + 1) & 0xff;
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INX", "D", 1, 0),
 
     // 14 INRD
-    new Opcode("INR", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = (D + 1) & 0xff;
-	  F3(D);
-	  if ((D & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INR", "D", 1, 0),
 
     // 15 DCRD
-    new Opcode("DCR", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = (D - 1) & 0xff;
-	  F3(D);
-	  if ((D & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCR", "D", 1, 0),
 
     // 16 MVID
-    new Opcode("MVI", "D,", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  D = memory.getByte(PC);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "D,", 2, 0),
 
     // 17 RAL
-    new Opcode("RAL", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = A;
-	  A = ((A << 1) | (F & 1)) & 0xff;
-	  if ((tb & 0x80) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("RAL", "", 1, 0),
 
     // 18 undefined (NOP)
-    new Opcode("UND", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("UND", "", 1, Processor.INS_UND),
 
     // 19 DADD
-    new Opcode("DAD", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = (H << 8) + L + (D << 8) + E;
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  incPC();
-	  return TR4N3N3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DAD", "D", 1, 0),
 
     // 1a LDAXD
-    new Opcode("LDAX", "D", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A = memory.getByte(DE());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LDAX", "D", 1, Processor.INS_MR),
 
     // 1b DCXD
-    new Opcode("DCX", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (--E < 0) {
-	    E = 0xff;
-	    D = (D - 1) & 0xff;
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCX", "D", 1, 0),
 
     // 1c INRE
-    new Opcode("INR", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = (E + 1) & 0xff;
-	  F3(E);
-	  if ((E & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INR", "E", 1, 0),
 
     // 1d DCRE
-    new Opcode("DCR", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = (E - 1) & 0xff;
-	  F3(E);
-	  if ((E & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCR", "E", 1, 0),
 
     // 1e MVIE
-    new Opcode("MVI", "E,", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  E = memory.getByte(PC);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "E,", 2, 0),
 
     // 1f RAR
-    new Opcode("RAR", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = A;
-	  A = ((A >> 1) | (F << 7)) & 0xff;
-	  if ((tb & 1) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("RAR", "", 1, 0),
 
     // 20 undefined (NOP)
-    new Opcode("UND", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("UND", "", 1, Processor.INS_UND),
 
     // 21 LXIH
-    new Opcode("LXI", "H,", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  L = memory.getByte(PC);
-	  incPC();
-	  H = memory.getByte(PC);
-	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LXI", "H,", 3, 0),
 
     // 22 SHLD
-    new Opcode("SHLD", "", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = memory.getByte((PC + 1) & 0xffff) +
-	    (memory.getByte((PC + 2) & 0xffff) << 8);
-	  memory.setByte(tw, L);
-	  memory.setByte((tw + 1) & 0xffff, H);
-	  incPC(3);
-	  return TR4R3R3W3W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("SHLD", "", 3, Processor.INS_MW),
 
     // 23 INXH
-    new Opcode("INX", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = (L + 1) & 0xff;
-	  if (L == 0) {
-	    H = (H + 1) & 0xff;
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INX", "H", 1, 0),
 
     // 24 INRH
-    new Opcode("INR", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = (H + 1) & 0xff;
-	  F3(H);
-	  if ((H & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INR", "H", 1, 0),
 
     // 25 DCRH
-    new Opcode("DCR", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = (H - 1) & 0xff;
-	  F3(H);
-	  if ((H & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCR", "H", 1, 0),
 
     // 26 MVIH
-    new Opcode("MVI", "H,", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  H = memory.getByte(PC);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "H,", 2, 0),
 
     // 27 DAA
-    new Opcode("DAA", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  int tw = A;
-	  if (((tw & 0x0f) > 0x09) || ACFSET()) {
-	    if ((tw & 0x0f) > 0x09) {
-	      SETACF();
-	    } else {
-	      CLEARACF();
-	    }
-	    tw += 0x06;
-	  }
-	  if ((tw > 0x9f) || CFSET()) {
-	    tw += 0x60;
-	    SETCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DAA", "", 1, 0),
 
     // 28 undefined (NOP)
-    new Opcode("UND", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("UND", "", 1, Processor.INS_UND),
 
     // 29 DADH
-    new Opcode("DAD", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = (H << 9) + (L << 1);
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  incPC();
-	  return TR4N3N3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DAD", "H", 1, 0),
 
     // 2a LHLD
-    new Opcode("LHLD", "", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = memory.getByte((PC + 1) & 0xffff) +
-	    (memory.getByte((PC + 2) & 0xffff) << 8);
-	  L = memory.getByte(tw);
-	  H = memory.getByte((tw + 1) & 0xffff);
-	  incPC(3);
-	  return TR4R3R3R3R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LHLD", "", 3, Processor.INS_MR),
 
     // 2b DCXH
-    new Opcode("DCX", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (--L < 0) {
-	    L = 0xff;
-	    H = (H - 1) & 0xff;
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCX", "H", 1, 0),
 
     // 2c INRL
-    new Opcode("INR", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = (L + 1) & 0xff;
-	  F3(L);
-	  if ((L & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INR", "L", 1, 0),
 
     // 2d DCRL
-    new Opcode("DCR", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = (L - 1) & 0xff;
-	  F3(L);
-	  if ((L & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCR", "L", 1, 0),
 
     // 2e MVIL
-    new Opcode("MVI", "L,", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  L = memory.getByte(PC);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "L,", 2, 0),
 
     // 2f CMA
-    new Opcode("CMA", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (~A) & 0xff;
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("CMA", "", 1, 0),
 
     // 30 undefined (NOP)
-    new Opcode("UND", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("UND", "", 1, Processor.INS_UND),
 
     // 31 LXISP
-    new Opcode("LXI", "SP,", 3, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  incPC();
-	  SP = tb + (memory.getByte(PC) << 8);
-	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LXI", "SP,", 3, 0),
 
     // 32 STA
-    new Opcode("STA", "", 3, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = memory.getByte((PC + 1) & 0xffff) +
-	    (memory.getByte((PC + 2) & 0xffff) << 8);
-	  memory.setByte(tw, A);
-	  incPC(3);
-	  return TR4R3R3W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("STA", "", 3, Processor.INS_MW),
 
     // 33 INXSP
-    new Opcode("INX", "SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incSP();
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INX", "SP", 1, 0),
 
     // 34 INRM
     new Opcode("INR", "M",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  final int tb = (memory.getByte(tw) + 1) & 0xff;
-	  memory.setByte(tw, tb);
-	  F3(tb);
-	  if ((tb & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR4R3W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // 35 DCRM
     new Opcode("DCR", "M",
 	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  final int tb = (memory.getByte(tw) - 1) & 0xff;
-	  memory.setByte(tw, tb);
-	  F3(tb);
-	  if ((tb & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR4R3W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+	       Processor.INS_MR | Processor.INS_MW),
 
     // 36 MVIM
-    new Opcode("MVI", "M,", 2, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  incPC();
-	  memory.setByte(tw, memory.getByte(PC));
-	  incPC();
-	  return TR4R3W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "M,", 2, Processor.INS_MW),
 
     // 37 STC
-    new Opcode("STC", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  SETCF();
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("STC", "", 1, 0),
 
     // 38 undefined (NOP)
-    new Opcode("UND", "", 1, Processor.INS_UND, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("UND", "", 1, Processor.INS_UND),
 
     // 39 DADSP
-    new Opcode("DAD", "SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int ti = (H << 8) + L + SP;
-	  L = ti & 0xff;
-	  H = (ti >> 8) & 0xff;
-	  if (ti > 0xffff) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  incPC();
-	  return TR4N3N3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DAD", "SP", 1, 0),
 
     // 3a LDA
-    new Opcode("LDA", "", 3, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A = memory.getByte((memory.getByte((PC + 1) & 0xffff)) +
-			     (memory.getByte((PC + 2) & 0xffff) << 8));
-	  incPC(3);
-	  return TR4R3R3R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("LDA", "", 3, Processor.INS_MR),
 
     // 3b DCXSP
-    new Opcode("DCX", "SP", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCX", "SP", 1, 0),
 
     // 3c INRA
-    new Opcode("INR", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (A + 1) & 0xff;
-	  F3(A);
-	  if ((A & 0x0f) != 0) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("INR", "A", 1, 0),
 
     // 3d DCRA
-    new Opcode("DCR", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = (A - 1) & 0xff;
-	  F3(A);
-	  if ((A & 0x0f) == 0x0f) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("DCR", "A", 1, 0),
 
     // 3e MVIA
-    new Opcode("MVI", "A,", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  A = memory.getByte(PC);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MVI", "A,", 2, 0),
 
     // 3f CMC
-    new Opcode("CMC", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F ^= CF;
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("CMC", "", 1, 0),
 
     // 40 MOVBB
-    new Opcode("MOV", "B,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,B", 1, 0),
 
     // 41 MOVBC
-    new Opcode("MOV", "B,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = C;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,C", 1, 0),
 
     // 42 MOVBD
-    new Opcode("MOV", "B,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = D;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,D", 1, 0),
 
     // 43 MOVBE
-    new Opcode("MOV", "B,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = E;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,E", 1, 0),
 
     // 44 MOVBH
-    new Opcode("MOV", "B,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = H;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,H", 1, 0),
 
     // 45 MOVBL
-    new Opcode("MOV", "B,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = L;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,L", 1, 0),
 
     // 46 MOVBM
-    new Opcode("MOV", "B,M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  B = memory.getByte(HL());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,M", 1, Processor.INS_MR),
 
     // 47 MOVBA
-    new Opcode("MOV", "B,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  B = A;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "B,A", 1, 0),
 
     // 48 MOVCB
-    new Opcode("MOV", "C,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = B;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "C,B", 1, 0),
 
     // 49 MOVCC
-    new Opcode("MOV", "C,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "C,C", 1, 0),
 
     // 4a MOVCD
-    new Opcode("MOV", "C,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = D;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "C,D", 1, 0),
 
     // 4b MOVCE
-    new Opcode("MOV", "C,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = E;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "C,E", 1, 0),
 
     // 4c MOVCH
-    new Opcode("MOV", "C,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = H;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "C,H", 1, 0),
 
     // 4d MOVCL
-    new Opcode("MOV", "C,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = L;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
-
+    new Opcode("MOV", "C,L", 1, 0),
 
     // 4e MOVCM
-    new Opcode("MOV", "C,M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  C = memory.getByte(HL());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "C,M", 1, Processor.INS_MR),
 
     // 4f MOVCA
-    new Opcode("MOV", "C,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  C = A;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "C,A", 1, 0),
 
     // 50 MOVDB
-    new Opcode("MOV", "D,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = B;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,B", 1, 0),
 
     // 51 MOVDC
-    new Opcode("MOV", "D,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = C;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,C", 1, 0),
 
     // 52 MOVDD
-    new Opcode("MOV", "D,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,D", 1, 0),
 
     // 53 MOVDE
-    new Opcode("MOV", "D,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = E;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,E", 1, 0),
 
     // 54 MOVDH
-    new Opcode("MOV", "D,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = H;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,H", 1, 0),
 
     // 55 MOVDL
-    new Opcode("MOV", "D,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = L;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,L", 1, 0),
 
     // 56 MOVDM
-    new Opcode("MOV", "D,M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  D = memory.getByte(HL());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,M", 1, Processor.INS_MR),
 
     // 57 MOVDA
-    new Opcode("MOV", "D,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  D = A;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "D,A", 1, 0),
 
     // 58 MOVEB
-    new Opcode("MOV", "E,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = B;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,B", 1, 0),
 
     // 59 MOVEC
-    new Opcode("MOV", "E,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = C;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,C", 1, 0),
 
     // 5a MOVED
-    new Opcode("MOV", "E,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = D;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,D", 1, 0),
 
     // 5b MOVEE
-    new Opcode("MOV", "E,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,E", 1, 0),
 
     // 5c MOVEH
-    new Opcode("MOV", "E,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = H;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,H", 1, 0),
 
     // 5d MOVEL
-    new Opcode("MOV", "E,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = L;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,L", 1, 0),
 
     // 5e MOVEM
-    new Opcode("MOV", "E,M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  E = memory.getByte(HL());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,M", 1, Processor.INS_MR),
 
     // 5f MOVEA
-    new Opcode("MOV", "E,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  E = A;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "E,A", 1, 0),
 
     // 60 MOVHB
-    new Opcode("MOV", "H,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = B;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,B", 1, 0),
 
     // 61 MOVHC
-    new Opcode("MOV", "H,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = C;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,C", 1, 0),
 
     // 62 MOVHD
-    new Opcode("MOV", "H,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = D;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,D", 1, 0),
 
     // 63 MOVHE
-    new Opcode("MOV", "H,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = E;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,E", 1, 0),
 
     // 64 MOVHH
-    new Opcode("MOV", "H,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,H", 1, 0),
 
     // 65 MOVHL
-    new Opcode("MOV", "H,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = L;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,L", 1, 0),
 
     // 66 MOVHM
-    new Opcode("MOV", "H,M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  H = memory.getByte(HL());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,M", 1, Processor.INS_MR),
 
     // 67 MOVHA
-    new Opcode("MOV", "H,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  H = A;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "H,A", 1, 0),
 
     // 68 MOVLB
-    new Opcode("MOV", "L,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = B;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,B", 1, 0),
 
     // 69 MOVLC
-    new Opcode("MOV", "L,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = C;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,C", 1, 0),
 
     // 6a MOVLD
-    new Opcode("MOV", "L,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = D;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,D", 1, 0),
 
     // 6b MOVLE
-    new Opcode("MOV", "L,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = E;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,E", 1, 0),
 
     // 6c MOVLH
-    new Opcode("MOV", "L,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = H;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,H", 1, 0),
 
     // 6d MOVLL
-    new Opcode("MOV", "L,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,L", 1, 0),
 
     // 6e MOVLM
-    new Opcode("MOV", "L,M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  L = memory.getByte(HL());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,M", 1, Processor.INS_MR),
 
     // 6f MOVLA
-    new Opcode("MOV", "L,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  L = A;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "L,A", 1, 0),
 
     // 70 MOVMB
-    new Opcode("MOV", "M,B", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, B);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "M,B", 1, Processor.INS_MW),
 
     // 71 MOVMC
-    new Opcode("MOV", "M,C", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, C);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "M,C", 1, Processor.INS_MW),
 
     // 72 MOVMD
-    new Opcode("MOV", "M,D", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, D);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "M,D", 1, Processor.INS_MW),
 
     // 73 MOVME
-    new Opcode("MOV", "M,E", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, E);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "M,E", 1, Processor.INS_MW),
 
     // 74 MOVMH
-    new Opcode("MOV", "M,H", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, H);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "M,H", 1, Processor.INS_MW),
 
     // 75 MOVML
-    new Opcode("MOV", "M,L", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, L);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "M,L", 1, Processor.INS_MW),
 
     // 76 HLT
-    new Opcode("HLT", "", 1, Processor.INS_HLT, new Executable() {
-	@Override
-	public int exec() {
-	  HALTED = true;
-	  return TR4N1 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("HLT", "", 1, Processor.INS_HLT),
 
     // 77 MOVMA
-    new Opcode("MOV", "M,A", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = HL();
-	  memory.setByte(tw, A);
-	  incPC();
-	  return TR4W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "M,A", 1, Processor.INS_MW),
 
     // 78 MOVAB
-    new Opcode("MOV", "A,B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = B;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,B", 1, 0),
 
     // 79 MOVAC
-    new Opcode("MOV", "A,C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = C;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,C", 1, 0),
 
     // 7a MOVAD
-    new Opcode("MOV", "A,D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = D;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,D", 1, 0),
 
     // 7b MOVAE
-    new Opcode("MOV", "A,E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = E;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,E", 1, 0),
 
     // 7c MOVAH
-    new Opcode("MOV", "A,H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = H;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,H", 1, 0),
 
     // 7d MOVAL
-    new Opcode("MOV", "A,L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = L;
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,L", 1, 0),
 
     // 7e MOVAM
-    new Opcode("MOV", "A,M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A = memory.getByte(HL());
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,M", 1, Processor.INS_MR),
 
     // 7f MOVAA
-    new Opcode("MOV", "A,A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  return TR5 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("MOV", "A,A", 1, 0),
 
     // 80 ADDB
-    new Opcode("ADD", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + B;
-	  if (((A & 0x0f) + (B & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "B", 1, 0),
 
     // 81 ADDC
-    new Opcode("ADD", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + C;
-	  if (((A & 0x0f) + (C & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "C", 1, 0),
 
     // 82 ADDD
-    new Opcode("ADD", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + D;
-	  if (((A & 0x0f) + (D & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "D", 1, 0),
 
     // 83 ADDE
-    new Opcode("ADD", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + E;
-	  if (((A & 0x0f) + (E & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "E", 1, 0),
 
     // 84 ADDH
-    new Opcode("ADD", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + H;
-	  if (((A & 0x0f) + (H & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "H", 1, 0),
 
     // 85 ADDL
-    new Opcode("ADD", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + L;
-	  if (((A & 0x0f) + (L & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "L", 1, 0),
 
     // 86 ADDM
-    new Opcode("ADD", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A + tb;
-	  if (((A & 0x0f) + (tb & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "M", 1, Processor.INS_MR),
 
     // 87 ADDA
-    new Opcode("ADD", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A << 1;
-	  if (((A & 0x0f) << 1) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADD", "A", 1, 0),
 
     // 88 ADCB
-    new Opcode("ADC", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + B + (F & CF);
-	  if (((A & 0x0f) + (B & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "B", 1, 0),
 
     // 89 ADCC
-    new Opcode("ADC", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + C + (F & CF);
-	  if (((A & 0x0f) + (C & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "C", 1, 0),
 
     // 8a ADCD
-    new Opcode("ADC", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + D + (F & CF);
-	  if (((A & 0x0f) + (D & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "D", 1, 0),
 
     // 8b ADCE
-    new Opcode("ADC", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + E + (F & CF);
-	  if (((A & 0x0f) + (E & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "E", 1, 0),
 
     // 8c ADCH
-    new Opcode("ADC", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + H + (F & CF);
-	  if (((A & 0x0f) + (H & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "H", 1, 0),
 
     // 8d ADCL
-    new Opcode("ADC", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A + L + (F & CF);
-	  if (((A & 0x0f) + (L & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "L", 1, 0),
 
     // 8e ADCM
-    new Opcode("ADC", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A + tb + (F & CF);
-	  if (((A & 0x0f) + (tb & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "M", 1, Processor.INS_MR),
 
     // 8f ADCA
-    new Opcode("ADC", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = (A << 1) + (F & CF);
-	  if ((((A & 0x0f) << 1) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("ADC", "A", 1, 0),
 
     // 90 SUBB
-    new Opcode("SUB", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - B;
-	  if (((A & 0x0f) - (B & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("SUB", "B", 1, 0),
 
     // 91 SUBC
-    new Opcode("SUB", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - C;
-	  if (((A & 0x0f) - (C & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("SUB", "C", 1, 0),
 
     // 92 SUBD
-    new Opcode("SUB", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - D;
-	  if (((A & 0x0f) - (D & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("SUB", "D", 1, 0),
 
     // 93 SUBE
-    new Opcode("SUB", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - E;
-	  if (((A & 0x0f) - (E & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("SUB", "E", 1, 0),
 
     // 94 SUBH
-    new Opcode("SUB", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - H;
-	  if (((A & 0x0f) - (H & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("SUB", "H", 1, 0),
 
     // 95 SUBL
-    new Opcode("SUB", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - L;
-	  if (((A & 0x0f) - (L & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
+    new Opcode("SUB", "L", 1, 0),
 
     // 96 SUBM
-    new Opcode("SUB", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+    new Opcode("SUB", "M", 1, Processor.INS_MR),
+
+    // 97 SUBA
+    new Opcode("SUB", "A", 1, 0),
+
+    // 98 SBBB
+    new Opcode("SBB", "B", 1, 0),
+
+    // 99 SBBC
+    new Opcode("SBB", "C", 1, 0),
+
+    // 9a SBBD
+    new Opcode("SBB", "D", 1, 0),
+
+    // 9b SBBE
+    new Opcode("SBB", "E", 1, 0),
+
+    // 9c SBBH
+    new Opcode("SBB", "H", 1, 0),
+
+    // 9d SBBL
+    new Opcode("SBB", "L", 1, 0),
+
+    // 9e SBBM
+    new Opcode("SBB", "M", 1, Processor.INS_MR),
+
+    // 9f SBBA
+    new Opcode("SBB", "A", 1, 0),
+
+    // a0 ANAB
+    new Opcode("ANA", "B", 1, 0),
+
+    // a1 ANAC
+    new Opcode("ANA", "C", 1, 0),
+
+    // a2 ANAD
+    new Opcode("ANA", "D", 1, 0),
+
+    // a3 ANAE
+    new Opcode("ANA", "E", 1, 0),
+
+    // a4 ANAH
+    new Opcode("ANA", "H", 1, 0),
+
+    // a5 ANAL
+    new Opcode("ANA", "L", 1, 0),
+
+    // a6 ANAM
+    new Opcode("ANA", "M", 1, Processor.INS_MR),
+
+    // a7 ANAA
+    new Opcode("ANA", "A", 1, 0),
+
+    // a8 XRAB
+    new Opcode("XRA", "B", 1, 0),
+
+    // a9 XRAC
+    new Opcode("XRA", "C", 1, 0),
+
+    // aa XRAD
+    new Opcode("XRA", "D", 1, 0),
+
+    // ab XRAE
+    new Opcode("XRA", "E", 1, 0),
+
+    // ac XRAH
+    new Opcode("XRA", "H", 1, 0),
+
+    // ad XRAL
+    new Opcode("XRA", "L", 1, 0),
+
+    // ae XRAM
+    new Opcode("XRA", "M", 1, Processor.INS_MR),
+
+    // af XRAA
+    new Opcode("XRA", "A", 1, 0),
+
+    // b0 ORAB
+    new Opcode("ORA", "B", 1, 0),
+
+    // b1 ORAC
+    new Opcode("ORA", "C", 1, 0),
+
+    // b2 ORAD
+    new Opcode("ORA", "D", 1, 0),
+
+    // b3 ORAE
+    new Opcode("ORA", "E", 1, 0),
+
+    // b4 ORAH
+    new Opcode("ORA", "H", 1, 0),
+
+    // b5 ORAL
+    new Opcode("ORA", "L", 1, 0),
+
+    // b6 ORAM
+    new Opcode("ORA", "M", 1, Processor.INS_MR),
+
+    // b7 ORAA
+    new Opcode("ORA", "A", 1, 0),
+
+    // b8 CMPB
+    new Opcode("CMP", "B", 1, 0),
+
+    // b9 CMPC
+    new Opcode("CMP", "C", 1, 0),
+
+    // ba CMPD
+    new Opcode("CMP", "D", 1, 0),
+
+    // bb CMPE
+    new Opcode("CMP", "E", 1, 0),
+
+    // bc CMPH
+    new Opcode("CMP", "H", 1, 0),
+
+    // bd CMPL
+    new Opcode("CMP", "L", 1, 0),
+
+    // be CMPM
+    new Opcode("CMP", "M", 1, Processor.INS_MR),
+
+    // bf CMPA
+    new Opcode("CMP", "A", 1, 0),
+
+    // c0 RNZ
+    new Opcode("RNZ", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // c1 POPB
+    new Opcode("POP", "B", 1, Processor.INS_MR),
+
+    // c2 JNZ
+    new Opcode("JNZ", "", 3, Processor.INS_JMP),
+
+    // c3 JMP
+    new Opcode("JMP", "", 3, Processor.INS_JMP),
+
+    // c4 CNZ
+    new Opcode("CNZ", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // c5 PUSHB
+    new Opcode("PUSH", "B", 1, Processor.INS_MW),
+
+    // c6 ADI
+    new Opcode("ADI", "", 2, 0),
+
+    // c7 RST0
+    new Opcode("RST", "0",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // c8 RZ
+    new Opcode("RZ", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // c9 RET
+    new Opcode("RET", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // ca JZ
+    new Opcode("JZ", "", 3, Processor.INS_JMP),
+
+    // cb undefined (JMP)
+    new Opcode("UND", "", 3, Processor.INS_UND |
+	       Processor.INS_JMP),
+
+    // cc CZ
+    new Opcode("CZ", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // cd CALL
+    new Opcode("CALL", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // ce ACI
+    new Opcode("ACI", "", 2, 0),
+
+    // cf RST1
+    new Opcode("RST", "1",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // d0 RNC
+    new Opcode("RNC", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // d1 POPD
+    new Opcode("POP", "D", 1, Processor.INS_MR),
+
+    // d2 JNC
+    new Opcode("JNC", "", 3, Processor.INS_JMP),
+
+    // d3 OUT
+    new Opcode("OUT", "", 2, Processor.INS_IOW),
+
+    // d4 CNC
+    new Opcode("CNC", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // d5 PUSHD
+    new Opcode("PUSH", "D", 1, Processor.INS_MW),
+
+    // d6 SUI
+    new Opcode("SUI", "", 2, 0),
+
+    // d7 RST2
+    new Opcode("RST", "2",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // d8 RC
+    new Opcode("RC", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // d9 undefined (RET)
+    new Opcode("UND", "",
+	       1,
+	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR),
+
+    // da JC
+    new Opcode("JC", "", 3, Processor.INS_JMP),
+
+    // db IN
+    new Opcode("IN", "", 2, Processor.INS_IOR),
+
+    // dc CC
+    new Opcode("CC", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // dd undefined (CALL)
+    new Opcode("UND", "",
+	       3,
+	       Processor.INS_UND | Processor.INS_CALL | Processor.INS_MW),
+
+    // de SBI
+    new Opcode("SBI", "", 2, 0),
+
+    // df RST3
+    new Opcode("RST", "3",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // e0 RPO
+    new Opcode("RPO", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // e1 POPH
+    new Opcode("POP", "H", 1, Processor.INS_MR),
+
+    // e2 JPO
+    new Opcode("JPO", "", 3, Processor.INS_JMP),
+
+    // e3 XTHL
+    new Opcode("XTHL", "",
+	       1,
+	       Processor.INS_MR | Processor.INS_MW),
+
+    // e4 CPO
+    new Opcode("CPO", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // e5 PUSHH
+    new Opcode("PUSH", "H", 1, Processor.INS_MW),
+
+    // e6 ANI
+    new Opcode("ANI", "", 2, 0),
+
+    // e7 RST4
+    new Opcode("RST", "4",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // e8 RPE
+    new Opcode("RPE", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // e9 PCHL
+    new Opcode("PCHL", "", 1, Processor.INS_JMP),
+
+    // ea JPE
+    new Opcode("JPE", "", 3, Processor.INS_JMP),
+
+    // eb XCHG
+    new Opcode("XCHG", "", 1, 0),
+
+    // ec CPE
+    new Opcode("CPE", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // ed undefined (CALL)
+    new Opcode("UND", "",
+	       3,
+	       Processor.INS_UND | Processor.INS_CALL | Processor.INS_MW),
+
+    // ee XRI
+    new Opcode("XRI", "", 2, 0),
+
+    // ef RST5
+    new Opcode("RST", "5",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // f0 RP
+    new Opcode("RP", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // f1 POPPSW
+    new Opcode("POP", "PSW", 1, Processor.INS_MR),
+
+    // f2 JP
+    new Opcode("JP", "",
+	       3,
+	       Processor.INS_JMP),
+
+    // f3 DI
+    new Opcode("DI", "", 1, 0),
+
+    // f4 CP
+    new Opcode("CP", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // f5 PUSHPSW
+    new Opcode("PUSH", "PSW", 1, Processor.INS_MW),
+
+    // f6 ORI
+    new Opcode("ORI", "", 2, 0),
+
+    // f7 RST6
+    new Opcode("RST", "6",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // f8 RM
+    new Opcode("RM", "",
+	       1,
+	       Processor.INS_RET | Processor.INS_MR),
+
+    // f9 SPHL
+    new Opcode("SPHL", "", 1, 0),
+
+    // fa JM
+    new Opcode("JM", "", 3, Processor.INS_JMP),
+
+    // fb EI
+    new Opcode("EI", "", 1, 0),
+
+    // fc CM
+    new Opcode("CM", "",
+	       3,
+	       Processor.INS_CALL | Processor.INS_MW),
+
+    // fd undefined (CALL)
+    new Opcode("UND", "",
+	       3,
+	       Processor.INS_UND | Processor.INS_CALL | Processor.INS_MW),
+
+    // fe CPI
+    new Opcode("CPI", "", 2, 0),
+
+    // ff RST7
+    new Opcode("RST", "7",
+	       1,
+	       Processor.INS_CALL | Processor.INS_MW)
+  };
+
+  // for description see Intel8080A
+  @Override
+  protected int execute(final int opcode) {
+    switch (opcode >> 6) {
+      case 0:
+	return executeMisc(opcode);
+      case 1:
+	return executeMove(opcode);
+      case 2:
+	return executeArithmetic(opcode);
+      default:
+	return executeControl(opcode);
+    }
+  }
+
+  // executes instructions 0x00-0x3f
+  private int executeMisc(final int opcode) {
+    switch (opcode) {
+
+      // 00 NOP
+      case 0x00: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 01 LXIB
+      case 0x01: {
+	incPC();
+	C = memory.getByte(PC);
+	incPC();
+	B = memory.getByte(PC);
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // 02 STAXB
+      case 0x02: {
+	memory.setByte(BC(), A);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 03 INXB
+      case 0x03: {
+	C = (C + 1) & 0xff;
+	if (C == 0) {
+	  B = (B + 1) & 0xff;
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 04 INRB
+      case 0x04: {
+	B = (B + 1) & 0xff;
+	F3(B);
+	if ((B & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 05 DCRB
+      case 0x05: {
+	B = (B - 1) & 0xff;
+	F3(B);
+	if ((B & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 06 MVIB
+      case 0x06: {
+	incPC();
+	B = memory.getByte(PC);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 07 RLC
+      case 0x07: {
+	if ((A & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = ((A << 1) | (F & 1)) & 0xff;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 08 undefined (NOP)
+      case 0x08: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 09 DADB
+      case 0x09: {
+	final int ti = (H << 8) + L + (B << 8) + C;
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	incPC();
+	return TR4N3N3 + (int)(cycleCounter & 1);
+      }
+
+      // 0a LDAXB
+      case 0x0a: {
+	A = memory.getByte(BC());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 0b DCXB
+      case 0x0b: {
+	if (--C < 0) {
+	  C = 0xff;
+	  B = (B - 1) & 0xff;
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 0c INRC
+      case 0x0c: {
+	C = (C + 1) & 0xff;
+	F3(C);
+	if ((C & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 0d DCRC
+      case 0x0d: {
+	C = (C - 1) & 0xff;
+	F3(C);
+	if ((C & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 0e MVIC
+      case 0x0e: {
+	incPC();
+	C = memory.getByte(PC);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 0f RRC
+      case 0x0f: {
+	if ((A & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = ((A >> 1) | (F << 7)) & 0xff;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 10 undefined (NOP)
+      case 0x10: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 11 LXID
+      case 0x11: {
+	incPC();
+	E = memory.getByte(PC);
+	incPC();
+	D = memory.getByte(PC);
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // 12 STAXD
+      case 0x12: {
+	memory.setByte(DE(), A);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 13 INXD
+      case 0x13: {
+	E = (E + 1) & 0xff;
+	if (E == 0) {
+	  D = (D + 1) & 0xff;
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 14 INRD
+      case 0x14: {
+	D = (D + 1) & 0xff;
+	F3(D);
+	if ((D & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 15 DCRD
+      case 0x15: {
+	D = (D - 1) & 0xff;
+	F3(D);
+	if ((D & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 16 MVID
+      case 0x16: {
+	incPC();
+	D = memory.getByte(PC);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 17 RAL
+      case 0x17: {
+	final int tb = A;
+	A = ((A << 1) | (F & 1)) & 0xff;
+	if ((tb & 0x80) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 18 undefined (NOP)
+      case 0x18: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 19 DADD
+      case 0x19: {
+	final int ti = (H << 8) + L + (D << 8) + E;
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	incPC();
+	return TR4N3N3 + (int)(cycleCounter & 1);
+      }
+
+      // 1a LDAXD
+      case 0x1a: {
+	A = memory.getByte(DE());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 1b DCXD
+      case 0x1b: {
+	if (--E < 0) {
+	  E = 0xff;
+	  D = (D - 1) & 0xff;
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 1c INRE
+      case 0x1c: {
+	E = (E + 1) & 0xff;
+	F3(E);
+	if ((E & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 1d DCRE
+      case 0x1d: {
+	E = (E - 1) & 0xff;
+	F3(E);
+	if ((E & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 1e MVIE
+      case 0x1e: {
+	incPC();
+	E = memory.getByte(PC);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 1f RAR
+      case 0x1f: {
+	final int tb = A;
+	A = ((A >> 1) | (F << 7)) & 0xff;
+	if ((tb & 1) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 20 undefined (NOP)
+      case 0x20: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 21 LXIH
+      case 0x21: {
+	incPC();
+	L = memory.getByte(PC);
+	incPC();
+	H = memory.getByte(PC);
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // 22 SHLD
+      case 0x22: {
+	final int tw = memory.getByte((PC + 1) & 0xffff) +
+	  (memory.getByte((PC + 2) & 0xffff) << 8);
+	memory.setByte(tw, L);
+	memory.setByte((tw + 1) & 0xffff, H);
+	incPC(3);
+	return TR4R3R3W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // 23 INXH
+      case 0x23: {
+	L = (L + 1) & 0xff;
+	if (L == 0) {
+	  H = (H + 1) & 0xff;
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 24 INRH
+      case 0x24: {
+	H = (H + 1) & 0xff;
+	F3(H);
+	if ((H & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 25 DCRH
+      case 0x25: {
+	H = (H - 1) & 0xff;
+	F3(H);
+	if ((H & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 26 MVIH
+      case 0x26: {
+	incPC();
+	H = memory.getByte(PC);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 27 DAA
+      case 0x27: {
+	int tw = A;
+	if (((tw & 0x0f) > 0x09) || ACFSET()) {
+	  if ((tw & 0x0f) > 0x09) {
 	    SETACF();
 	  } else {
 	    CLEARACF();
 	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
+	  tw += 0x06;
+	}
+	if ((tw > 0x9f) || CFSET()) {
+	  tw += 0x60;
+	  SETCF();
+	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 28 undefined (NOP)
+      case 0x28: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 29 DADH
+      case 0x29: {
+	final int ti = (H << 9) + (L << 1);
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	incPC();
+	return TR4N3N3 + (int)(cycleCounter & 1);
+      }
+
+      // 2a LHLD
+      case 0x2a: {
+	final int tw = memory.getByte((PC + 1) & 0xffff) +
+	  (memory.getByte((PC + 2) & 0xffff) << 8);
+	L = memory.getByte(tw);
+	H = memory.getByte((tw + 1) & 0xffff);
+	incPC(3);
+	return TR4R3R3R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // 2b DCXH
+      case 0x2b: {
+	if (--L < 0) {
+	  L = 0xff;
+	  H = (H - 1) & 0xff;
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 2c INRL
+      case 0x2c: {
+	L = (L + 1) & 0xff;
+	F3(L);
+	if ((L & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 2d DCRL
+      case 0x2d: {
+	L = (L - 1) & 0xff;
+	F3(L);
+	if ((L & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 2e MVIL
+      case 0x2e: {
+	incPC();
+	L = memory.getByte(PC);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 2f CMA
+      case 0x2f: {
+	A = (~A) & 0xff;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 30 undefined (NOP)
+      case 0x30: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 31 LXISP
+      case 0x31: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	incPC();
+	SP = tb + (memory.getByte(PC) << 8);
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // 32 STA
+      case 0x32: {
+	final int tw = memory.getByte((PC + 1) & 0xffff) +
+	  (memory.getByte((PC + 2) & 0xffff) << 8);
+	memory.setByte(tw, A);
+	incPC(3);
+	return TR4R3R3W3 + (int)(cycleCounter & 1);
+      }
+
+      // 33 INXSP
+      case 0x33: {
+	incSP();
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 34 INRM
+      case 0x34: {
+	final int tw = HL();
+	final int tb = (memory.getByte(tw) + 1) & 0xff;
+	memory.setByte(tw, tb);
+	F3(tb);
+	if ((tb & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
 	}
+	incPC();
+	return TR4R3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 97 SUBA
-    new Opcode("SUB", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = 0;
-	  F = FMASK_OR | ZF | PF | ACF;
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 35 DCRM
+      case 0x35: {
+	final int tw = HL();
+	final int tb = (memory.getByte(tw) - 1) & 0xff;
+	memory.setByte(tw, tb);
+	F3(tb);
+	if ((tb & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
 	}
+	incPC();
+	return TR4R3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 98 SBBB
-    new Opcode("SBB", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - B - (F & CF);
-	  if (((A & 0x0f) - (B & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
+      // 36 MVIM
+      case 0x36: {
+	final int tw = HL();
+	incPC();
+	memory.setByte(tw, memory.getByte(PC));
+	incPC();
+	return TR4R3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 99 SBBC
-    new Opcode("SBB", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - C - (F & CF);
-	  if (((A & 0x0f) - (C & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
+      // 37 STC
+      case 0x37: {
+	SETCF();
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 9a SBBD
-    new Opcode("SBB", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - D - (F & CF);
-	  if (((A & 0x0f) - (D & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 38 undefined (NOP)
+      case 0x38: {
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 39 DADSP
+      case 0x39: {
+	final int ti = (H << 8) + L + SP;
+	L = ti & 0xff;
+	H = (ti >> 8) & 0xff;
+	if (ti > 0xffff) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	incPC();
+	return TR4N3N3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 9b SBBE
-    new Opcode("SBB", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - E - (F & CF);
-	  if (((A & 0x0f) - (E & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 3a LDA
+      case 0x3a: {
+	A = memory.getByte((memory.getByte((PC + 1) & 0xffff)) +
+			   (memory.getByte((PC + 2) & 0xffff) << 8));
+	incPC(3);
+	return TR4R3R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // 3b DCXSP
+      case 0x3b: {
+	decSP();
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 3c INRA
+      case 0x3c: {
+	A = (A + 1) & 0xff;
+	F3(A);
+	if ((A & 0x0f) != 0) {
+	  CLEARACF();
+	} else {
+	  SETACF();
 	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 9c SBBH
-    new Opcode("SBB", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - H - (F & CF);
-	  if (((A & 0x0f) - (H & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 3d DCRA
+      case 0x3d: {
+	A = (A - 1) & 0xff;
+	F3(A);
+	if ((A & 0x0f) == 0x0f) {
+	  CLEARACF();
+	} else {
+	  SETACF();
 	}
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 9d SBBL
-    new Opcode("SBB", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = A - L - (F & CF);
-	  if (((A & 0x0f) - (L & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 3e MVIA
+      case 0x3e: {
+	incPC();
+	A = memory.getByte(PC);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 3f CMC
+      case 0x3f: {
+	F ^= CF;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions 0x40-0x7f (moves and HLT)
+  private int executeMove(final int opcode) {
+    switch (opcode) {
+
+      // 40 MOVBB
+      case 0x40: {
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 41 MOVBC
+      case 0x41: {
+	B = C;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 42 MOVBD
+      case 0x42: {
+	B = D;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 43 MOVBE
+      case 0x43: {
+	B = E;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 44 MOVBH
+      case 0x44: {
+	B = H;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 45 MOVBL
+      case 0x45: {
+	B = L;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 46 MOVBM
+      case 0x46: {
+	B = memory.getByte(HL());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 47 MOVBA
+      case 0x47: {
+	B = A;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 48 MOVCB
+      case 0x48: {
+	C = B;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 49 MOVCC
+      case 0x49: {
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 4a MOVCD
+      case 0x4a: {
+	C = D;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 4b MOVCE
+      case 0x4b: {
+	C = E;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 4c MOVCH
+      case 0x4c: {
+	C = H;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 4d MOVCL
+      case 0x4d: {
+	C = L;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 4e MOVCM
+      case 0x4e: {
+	C = memory.getByte(HL());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 4f MOVCA
+      case 0x4f: {
+	C = A;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 50 MOVDB
+      case 0x50: {
+	D = B;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 51 MOVDC
+      case 0x51: {
+	D = C;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 52 MOVDD
+      case 0x52: {
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 53 MOVDE
+      case 0x53: {
+	D = E;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 54 MOVDH
+      case 0x54: {
+	D = H;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 55 MOVDL
+      case 0x55: {
+	D = L;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 56 MOVDM
+      case 0x56: {
+	D = memory.getByte(HL());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 57 MOVDA
+      case 0x57: {
+	D = A;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 58 MOVEB
+      case 0x58: {
+	E = B;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 59 MOVEC
+      case 0x59: {
+	E = C;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 5a MOVED
+      case 0x5a: {
+	E = D;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 5b MOVEE
+      case 0x5b: {
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 5c MOVEH
+      case 0x5c: {
+	E = H;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 5d MOVEL
+      case 0x5d: {
+	E = L;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 5e MOVEM
+      case 0x5e: {
+	E = memory.getByte(HL());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 5f MOVEA
+      case 0x5f: {
+	E = A;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 60 MOVHB
+      case 0x60: {
+	H = B;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 61 MOVHC
+      case 0x61: {
+	H = C;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 62 MOVHD
+      case 0x62: {
+	H = D;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 63 MOVHE
+      case 0x63: {
+	H = E;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 64 MOVHH
+      case 0x64: {
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 65 MOVHL
+      case 0x65: {
+	H = L;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 66 MOVHM
+      case 0x66: {
+	H = memory.getByte(HL());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 67 MOVHA
+      case 0x67: {
+	H = A;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 68 MOVLB
+      case 0x68: {
+	L = B;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 69 MOVLC
+      case 0x69: {
+	L = C;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 6a MOVLD
+      case 0x6a: {
+	L = D;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 6b MOVLE
+      case 0x6b: {
+	L = E;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 6c MOVLH
+      case 0x6c: {
+	L = H;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 6d MOVLL
+      case 0x6d: {
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 6e MOVLM
+      case 0x6e: {
+	L = memory.getByte(HL());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 6f MOVLA
+      case 0x6f: {
+	L = A;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 70 MOVMB
+      case 0x70: {
+	final int tw = HL();
+	memory.setByte(tw, B);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 71 MOVMC
+      case 0x71: {
+	final int tw = HL();
+	memory.setByte(tw, C);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 72 MOVMD
+      case 0x72: {
+	final int tw = HL();
+	memory.setByte(tw, D);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 73 MOVME
+      case 0x73: {
+	final int tw = HL();
+	memory.setByte(tw, E);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 74 MOVMH
+      case 0x74: {
+	final int tw = HL();
+	memory.setByte(tw, H);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 75 MOVML
+      case 0x75: {
+	final int tw = HL();
+	memory.setByte(tw, L);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 76 HLT
+      case 0x76: {
+	HALTED = true;
+	return TR4N1 + (int)(cycleCounter & 1);
+      }
+
+      // 77 MOVMA
+      case 0x77: {
+	final int tw = HL();
+	memory.setByte(tw, A);
+	incPC();
+	return TR4W3 + (int)(cycleCounter & 1);
+      }
+
+      // 78 MOVAB
+      case 0x78: {
+	A = B;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 79 MOVAC
+      case 0x79: {
+	A = C;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 7a MOVAD
+      case 0x7a: {
+	A = D;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 7b MOVAE
+      case 0x7b: {
+	A = E;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 7c MOVAH
+      case 0x7c: {
+	A = H;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 7d MOVAL
+      case 0x7d: {
+	A = L;
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // 7e MOVAM
+      case 0x7e: {
+	A = memory.getByte(HL());
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // 7f MOVAA
+      case 0x7f: {
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions 0x80-0xbf (register arithmetic and logic)
+  private int executeArithmetic(final int opcode) {
+    switch (opcode) {
+
+      // 80 ADDB
+      case 0x80: {
+	final int tw = A + B;
+	if (((A & 0x0f) + (B & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 9e SBBM
-    new Opcode("SBB", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A - tb - (F & CF);
-	  if (((A & 0x0f) - (tb & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
+      // 81 ADDC
+      case 0x81: {
+	final int tw = A + C;
+	if (((A & 0x0f) + (C & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // 9f SBBA
-    new Opcode("SBB", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tw = -(F & CF);
-	  if (CFSET()) {
-	    CLEARACF();
-	  } else {
-	    SETACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 82 ADDD
+      case 0x82: {
+	final int tw = A + D;
+	if (((A & 0x0f) + (D & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a0 ANAB
-    new Opcode("ANA", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (((A | B) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= B;
+      // 83 ADDE
+      case 0x83: {
+	final int tw = A + E;
+	if (((A & 0x0f) + (E & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a1 ANAC
-    new Opcode("ANA", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (((A | C) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= C;
+      // 84 ADDH
+      case 0x84: {
+	final int tw = A + H;
+	if (((A & 0x0f) + (H & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a2 ANAD
-    new Opcode("ANA", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (((A | D) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= D;
+      // 85 ADDL
+      case 0x85: {
+	final int tw = A + L;
+	if (((A & 0x0f) + (L & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a3 ANAE
-    new Opcode("ANA", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (((A | E) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= E;
+      // 86 ADDM
+      case 0x86: {
+	final int tb = memory.getByte(HL());
+	final int tw = A + tb;
+	if (((A & 0x0f) + (tb & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a4 ANAH
-    new Opcode("ANA", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (((A | H) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= H;
+      // 87 ADDA
+      case 0x87: {
+	final int tw = A << 1;
+	if (((A & 0x0f) << 1) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a5 ANAL
-    new Opcode("ANA", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if (((A | L) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= L;
+      // 88 ADCB
+      case 0x88: {
+	final int tw = A + B + (F & CF);
+	if (((A & 0x0f) + (B & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a6 ANAM
-    new Opcode("ANA", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  if (((A | tb) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= tb;
+      // 89 ADCC
+      case 0x89: {
+	final int tw = A + C + (F & CF);
+	if (((A & 0x0f) + (C & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a7 ANAA
-    new Opcode("ANA", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  if ((A & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
+      // 8a ADCD
+      case 0x8a: {
+	final int tw = A + D + (F & CF);
+	if (((A & 0x0f) + (D & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a8 XRAB
-    new Opcode("XRA", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= B;
+      // 8b ADCE
+      case 0x8b: {
+	final int tw = A + E + (F & CF);
+	if (((A & 0x0f) + (E & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // a9 XRAC
-    new Opcode("XRA", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= C;
+      // 8c ADCH
+      case 0x8c: {
+	final int tw = A + H + (F & CF);
+	if (((A & 0x0f) + (H & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // aa XRAD
-    new Opcode("XRA", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= D;
+      // 8d ADCL
+      case 0x8d: {
+	final int tw = A + L + (F & CF);
+	if (((A & 0x0f) + (L & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ab XRAE
-    new Opcode("XRA", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= E;
+      // 8e ADCM
+      case 0x8e: {
+	final int tb = memory.getByte(HL());
+	final int tw = A + tb + (F & CF);
+	if (((A & 0x0f) + (tb & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ac XRAH
-    new Opcode("XRA", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= H;
+      // 8f ADCA
+      case 0x8f: {
+	final int tw = (A << 1) + (F & CF);
+	if ((((A & 0x0f) << 1) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ad XRAL
-    new Opcode("XRA", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= L;
+      // 90 SUBB
+      case 0x90: {
+	final int tw = A - B;
+	if (((A & 0x0f) - (B & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ae XRAM
-    new Opcode("XRA", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A ^= memory.getByte(HL());
+      // 91 SUBC
+      case 0x91: {
+	final int tw = A - C;
+	if (((A & 0x0f) - (C & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // af XRAA
-    new Opcode("XRA", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A = 0;
-	  F = FMASK_OR | ZF | PF;
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 92 SUBD
+      case 0x92: {
+	final int tw = A - D;
+	if (((A & 0x0f) - (D & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b0 ORAB
-    new Opcode("ORA", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= B;
+      // 93 SUBE
+      case 0x93: {
+	final int tw = A - E;
+	if (((A & 0x0f) - (E & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b1 ORAC
-    new Opcode("ORA", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= C;
+      // 94 SUBH
+      case 0x94: {
+	final int tw = A - H;
+	if (((A & 0x0f) - (H & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b2 ORAD
-    new Opcode("ORA", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= D;
+      // 95 SUBL
+      case 0x95: {
+	final int tw = A - L;
+	if (((A & 0x0f) - (L & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b3 ORAE
-    new Opcode("ORA", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= E;
+      // 96 SUBM
+      case 0x96: {
+	final int tb = memory.getByte(HL());
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b4 ORAH
-    new Opcode("ORA", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= H;
+      // 97 SUBA
+      case 0x97: {
+	A = 0;
+	F = FMASK_OR | ZF | PF | ACF;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // 98 SBBB
+      case 0x98: {
+	final int tw = A - B - (F & CF);
+	if (((A & 0x0f) - (B & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b5 ORAL
-    new Opcode("ORA", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  A |= L;
+      // 99 SBBC
+      case 0x99: {
+	final int tw = A - C - (F & CF);
+	if (((A & 0x0f) - (C & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b6 ORAM
-    new Opcode("ORA", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  A |= memory.getByte(HL());
+      // 9a SBBD
+      case 0x9a: {
+	final int tw = A - D - (F & CF);
+	if (((A & 0x0f) - (D & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b7 ORAA
-    new Opcode("ORA", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
+      // 9b SBBE
+      case 0x9b: {
+	final int tw = A - E - (F & CF);
+	if (((A & 0x0f) - (E & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
 	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
 	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b8 CMPB
-    new Opcode("CMP", "B", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = B;
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 9c SBBH
+      case 0x9c: {
+	final int tw = A - H - (F & CF);
+	if (((A & 0x0f) - (H & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // b9 CMPC
-    new Opcode("CMP", "C", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = C;
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 9d SBBL
+      case 0x9d: {
+	final int tw = A - L - (F & CF);
+	if (((A & 0x0f) - (L & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ba CMPD
-    new Opcode("CMP", "D", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = D;
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 9e SBBM
+      case 0x9e: {
+	final int tb = memory.getByte(HL());
+	final int tw = A - tb - (F & CF);
+	if (((A & 0x0f) - (tb & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // bb CMPE
-    new Opcode("CMP", "E", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = E;
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // 9f SBBA
+      case 0x9f: {
+	final int tw = -(F & CF);
+	if (CFSET()) {
+	  CLEARACF();
+	} else {
+	  SETACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // bc CMPH
-    new Opcode("CMP", "H", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = H;
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // a0 ANAB
+      case 0xa0: {
+	if (((A | B) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= B;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // bd CMPL
-    new Opcode("CMP", "L", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = L;
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // a1 ANAC
+      case 0xa1: {
+	if (((A | C) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= C;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // be CMPM
-    new Opcode("CMP", "M", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  final int tb = memory.getByte(HL());
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
+      // a2 ANAD
+      case 0xa2: {
+	if (((A | D) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= D;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // bf CMPA
-    new Opcode("CMP", "A", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  F = FMASK_OR | ZF | PF | ACF;
-	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+      // a3 ANAE
+      case 0xa3: {
+	if (((A | E) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= E;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c0 RNZ
-    new Opcode("RNZ", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  } else {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
+      // a4 ANAH
+      case 0xa4: {
+	if (((A | H) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= H;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c1 POPB
-    new Opcode("POP", "B", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  C = memory.getByte(SP);
-	  incSP();
-	  B = memory.getByte(SP);
-	  incSP();
-	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+      // a5 ANAL
+      case 0xa5: {
+	if (((A | L) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= L;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c2 JNZ
-    new Opcode("JNZ", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    incPC(3);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+      // a6 ANAM
+      case 0xa6: {
+	final int tb = memory.getByte(HL());
+	if (((A | tb) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= tb;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c3 JMP
-    new Opcode("JMP", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+      // a7 ANAA
+      case 0xa7: {
+	if ((A & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // a8 XRAB
+      case 0xa8: {
+	A ^= B;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // a9 XRAC
+      case 0xa9: {
+	A ^= C;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // aa XRAD
+      case 0xaa: {
+	A ^= D;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // ab XRAE
+      case 0xab: {
+	A ^= E;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // ac XRAH
+      case 0xac: {
+	A ^= H;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // ad XRAL
+      case 0xad: {
+	A ^= L;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // ae XRAM
+      case 0xae: {
+	A ^= memory.getByte(HL());
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // af XRAA
+      case 0xaf: {
+	A = 0;
+	F = FMASK_OR | ZF | PF;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b0 ORAB
+      case 0xb0: {
+	A |= B;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b1 ORAC
+      case 0xb1: {
+	A |= C;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b2 ORAD
+      case 0xb2: {
+	A |= D;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b3 ORAE
+      case 0xb3: {
+	A |= E;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b4 ORAH
+      case 0xb4: {
+	A |= H;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b5 ORAL
+      case 0xb5: {
+	A |= L;
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b6 ORAM
+      case 0xb6: {
+	A |= memory.getByte(HL());
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // b7 ORAA
+      case 0xb7: {
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // b8 CMPB
+      case 0xb8: {
+	final int tb = B;
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c4 CNZ
-    new Opcode("CNZ", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  }
+      // b9 CMPC
+      case 0xb9: {
+	final int tb = C;
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c5 PUSHB
-    new Opcode("PUSH", "B", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, B);
-	  decSP();
-	  memory.setByte(SP, C);
-	  incPC();
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+      // ba CMPD
+      case 0xba: {
+	final int tb = D;
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c6 ADI
-    new Opcode("ADI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A + tb;
-	  if (((A & 0x0f) + (tb & 0x0f)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
+      // bb CMPE
+      case 0xbb: {
+	final int tb = E;
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c7 RST0
-    new Opcode("RST", "0",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0000;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+      // bc CMPH
+      case 0xbc: {
+	final int tb = H;
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c8 RZ
-    new Opcode("RZ", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  }
+      // bd CMPL
+      case 0xbd: {
+	final int tb = L;
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // c9 RET
-    new Opcode("RET", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // be CMPM
+      case 0xbe: {
+	final int tb = memory.getByte(HL());
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // bf CMPA
+      case 0xbf: {
+	F = FMASK_OR | ZF | PF | ACF;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
+
+  // executes instructions 0xc0-0xff (jumps, stack, I/O and immediate operations)
+  private int executeControl(final int opcode) {
+    switch (opcode) {
+
+      // c0 RNZ
+      case 0xc0: {
+	if (ZFSET()) {
+	  incPC();
+	  return TR5 + (int)(cycleCounter & 1);
+	} else {
 	  final int tb = memory.getByte(SP);
 	  incSP();
 	  PC = tb + (memory.getByte(SP) << 8);
 	  incSP();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // ca JZ
-    new Opcode("JZ", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  } else {
-	    incPC(3);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
+      // c1 POPB
+      case 0xc1: {
+	C = memory.getByte(SP);
+	incSP();
+	B = memory.getByte(SP);
+	incSP();
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // cb undefined (JMP)
-    new Opcode("UND", "", 3, Processor.INS_UND |
-	       Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
+      // c2 JNZ
+      case 0xc2: {
+	if (ZFSET()) {
+	  incPC(3);
+	} else {
 	  incPC();
 	  final int tb = memory.getByte(PC);
 	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  return TR4R3R3 + (int)(cycleCounter & 1);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // cc CZ
-    new Opcode("CZ", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (ZFSET()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
-	}
+      // c3 JMP
+      case 0xc3: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // cd CALL
-    new Opcode("CALL", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // c4 CNZ
+      case 0xc4: {
+	if (ZFSET()) {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
 	  final int tb = memory.getByte(PC);
 	  incPC();
@@ -3222,304 +3130,210 @@ public class PMDIntel8080A extends Intel8080A {
 	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // ce ACI
-    new Opcode("ACI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A + tb + (F & CF);
-	  if (((A & 0x0f) + (tb & 0x0f) + (F & CF)) > 0x0f) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
+      // c5 PUSHB
+      case 0xc5: {
+	decSP();
+	memory.setByte(SP, B);
+	decSP();
+	memory.setByte(SP, C);
+	incPC();
+	return TR5W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // cf RST1
-    new Opcode("RST", "1",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0008;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+      // c6 ADI
+      case 0xc6: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A + tb;
+	if (((A & 0x0f) + (tb & 0x0f)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
+	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // d0 RNC
-    new Opcode("RNC", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  } else {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
-	}
+      // c7 RST0
+      case 0xc7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0000;
+	return TR5W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // d1 POPD
-    new Opcode("POP", "D", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  E = memory.getByte(SP);
+      // c8 RZ
+      case 0xc8: {
+	if (ZFSET()) {
+	  final int tb = memory.getByte(SP);
 	  incSP();
-	  D = memory.getByte(SP);
+	  PC = tb + (memory.getByte(SP) << 8);
 	  incSP();
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+	  return TR5 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // d2 JNC
-    new Opcode("JNC", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    incPC(3);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
+      // c9 RET
+      case 0xc9: {
+	final int tb = memory.getByte(SP);
+	incSP();
+	PC = tb + (memory.getByte(SP) << 8);
+	incSP();
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // d3 OUT
-    new Opcode("OUT", "", 2, Processor.INS_IOW, new Executable() {
-	@Override
-	public int exec() {
+      // ca JZ
+      case 0xca: {
+	if (ZFSET()) {
 	  incPC();
-	  final int port = memory.getByte(PC);
-	  for (IOElement t: outputPorts.get(port)) {
-	    t.portOutput(port, A);
-	  }
-	  incPC();
-	  return TR4R3W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
-
-    // d4 CNC
-    new Opcode("CNC", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  }
+	  final int tb = memory.getByte(PC);
+	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
+	} else {
+	  incPC(3);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // d5 PUSHD
-    new Opcode("PUSH", "D", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, D);
-	  decSP();
-	  memory.setByte(SP, E);
-	  incPC();
-	  return TR5W3W3 + (int)(cycleCounter & 1);
-	}
+      // cb undefined (JMP)
+      case 0xcb: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // d6 SUI
-    new Opcode("SUI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
+      // cc CZ
+      case 0xcc: {
+	if (ZFSET()) {
 	  incPC();
 	  final int tb = memory.getByte(PC);
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
 	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
-
-    // d7 RST2
-    new Opcode("RST", "2",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+	  final int tw = tb + (memory.getByte(PC) << 8);
 	  incPC();
 	  decSP();
 	  memory.setByte(SP, PC >> 8);
 	  decSP();
 	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0010;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+	  PC = tw;
+	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
+	} else {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	}
+      }
+
+      // cd CALL
+      case 0xcd: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	incPC();
+	final int tw = tb + (memory.getByte(PC) << 8);
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = tw;
+	return TR5R3R3W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // ce ACI
+      case 0xce: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A + tb + (F & CF);
+	if (((A & 0x0f) + (tb & 0x0f) + (F & CF)) > 0x0f) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // d8 RC
-    new Opcode("RC", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  }
-	}
+      // cf RST1
+      case 0xcf: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0008;
+	return TR5W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // d9 undefined (RET)
-    new Opcode("UND", "",
-	       1,
-	       Processor.INS_UND | Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // d0 RNC
+      case 0xd0: {
+	if (CFSET()) {
+	  incPC();
+	  return TR5 + (int)(cycleCounter & 1);
+	} else {
 	  final int tb = memory.getByte(SP);
 	  incSP();
 	  PC = tb + (memory.getByte(SP) << 8);
 	  incSP();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // da JC
-    new Opcode("JC", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  } else {
-	    incPC(3);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
+      // d1 POPD
+      case 0xd1: {
+	E = memory.getByte(SP);
+	incSP();
+	D = memory.getByte(SP);
+	incSP();
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // db IN
-    new Opcode("IN", "", 2, Processor.INS_IOR, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int port = memory.getByte(PC);
-	  A = 0xff;
-	  for (IOElement t: inputPorts.get(port)) {
-	    A &= t.portInput(port);
-	  }
+      // d2 JNC
+      case 0xd2: {
+	if (CFSET()) {
+	  incPC(3);
+	} else {
 	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+	  final int tb = memory.getByte(PC);
+	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // dc CC
-    new Opcode("CC", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (CFSET()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
-	}
+      // d3 OUT
+      case 0xd3: {
+	incPC();
+	final int port = memory.getByte(PC);
+	ioBus.output(port, A);
+	incPC();
+	return TR4R3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // dd undefined (CALL)
-    new Opcode("UND", "",
-	       3,
-	       Processor.INS_UND | Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // d4 CNC
+      case 0xd4: {
+	if (CFSET()) {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
 	  final int tb = memory.getByte(PC);
 	  incPC();
@@ -3533,298 +3347,215 @@ public class PMDIntel8080A extends Intel8080A {
 	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
-
-    // de SBI
-    new Opcode("SBI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A - tb - (F & CF);
-	  if (((A & 0x0f) - (tb & 0x0f) - (F & CF)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  A = tw & 0xff;
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
-
-    // df RST3
-    new Opcode("RST", "3",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0018;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
-
-    // e0 RPO
-    new Opcode("RPO", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (PE()) {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  } else {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
-	}
-      }
-      ),
-
-    // e1 POPH
-    new Opcode("POP", "H", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  L = memory.getByte(SP);
-	  incSP();
-	  H = memory.getByte(SP);
-	  incSP();
-	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
 
-    // e2 JPO
-    new Opcode("JPO", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (PE()) {
-	    incPC(3);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
+      // d5 PUSHD
+      case 0xd5: {
+	decSP();
+	memory.setByte(SP, D);
+	decSP();
+	memory.setByte(SP, E);
+	incPC();
+	return TR5W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // e3 XTHL
-    new Opcode("XTHL", "",
-	       1,
-	       Processor.INS_MR | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  int tb = memory.getByte(SP);
-	  memory.setByte(SP, L);
-	  L = tb;
-	  final int tw = (SP + 1) & 0xffff;
-	  tb = memory.getByte(tw);
-	  memory.setByte(tw, H);
-	  H = tb;
-	  incPC();
-	  return TR4R3R3W3W5 + (int)(cycleCounter & 1);
+      // d6 SUI
+      case 0xd6: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
-      }
-      ),
-
-    // e4 CPO
-    new Opcode("CPO", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (PE()) {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  }
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // e5 PUSHH
-    new Opcode("PUSH", "H", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, H);
-	  decSP();
-	  memory.setByte(SP, L);
+      // d7 RST2
+      case 0xd7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0010;
+	return TR5W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // d8 RC
+      case 0xd8: {
+	if (CFSET()) {
+	  final int tb = memory.getByte(SP);
+	  incSP();
+	  PC = tb + (memory.getByte(SP) << 8);
+	  incSP();
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+	  return TR5 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // e6 ANI
-    new Opcode("ANI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
+      // d9 undefined (RET)
+      case 0xd9: {
+	final int tb = memory.getByte(SP);
+	incSP();
+	PC = tb + (memory.getByte(SP) << 8);
+	incSP();
+	return TR4R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // da JC
+      case 0xda: {
+	if (CFSET()) {
 	  incPC();
 	  final int tb = memory.getByte(PC);
-	  if (((A | tb) & 0x08) != 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  A &= tb & 0xff;
-	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
+	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
+	} else {
+	  incPC(3);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // e7 RST4
-    new Opcode("RST", "4",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // db IN
+      case 0xdb: {
+	incPC();
+	final int port = memory.getByte(PC);
+	A = ioBus.input(port);
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
+      }
+
+      // dc CC
+      case 0xdc: {
+	if (CFSET()) {
+	  incPC();
+	  final int tb = memory.getByte(PC);
+	  incPC();
+	  final int tw = tb + (memory.getByte(PC) << 8);
 	  incPC();
 	  decSP();
 	  memory.setByte(SP, PC >> 8);
 	  decSP();
 	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0020;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+	  PC = tw;
+	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
+	} else {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	}
+      }
+
+      // dd undefined (CALL)
+      case 0xdd: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	incPC();
+	final int tw = tb + (memory.getByte(PC) << 8);
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = tw;
+	return TR5R3R3W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // de SBI
+      case 0xde: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A - tb - (F & CF);
+	if (((A & 0x0f) - (tb & 0x0f) - (F & CF)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	A = tw & 0xff;
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // e8 RPE
-    new Opcode("RPE", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (PE()) {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  }
-	}
+      // df RST3
+      case 0xdf: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0018;
+	return TR5W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // e9 PCHL
-    new Opcode("PCHL", "", 1, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  PC = HL();
+      // e0 RPO
+      case 0xe0: {
+	if (PE()) {
+	  incPC();
 	  return TR5 + (int)(cycleCounter & 1);
+	} else {
+	  final int tb = memory.getByte(SP);
+	  incSP();
+	  PC = tb + (memory.getByte(SP) << 8);
+	  incSP();
+	  return TR5R3R3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // ea JPE
-    new Opcode("JPE", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (PE()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  } else {
-	    incPC(3);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
+      // e1 POPH
+      case 0xe1: {
+	L = memory.getByte(SP);
+	incSP();
+	H = memory.getByte(SP);
+	incSP();
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // eb XCHG
-    new Opcode("XCHG", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  int tb = H;
-	  H = D;
-	  D = tb;
-	  tb = L;
-	  L = E;
-	  E = tb;
+      // e2 JPO
+      case 0xe2: {
+	if (PE()) {
+	  incPC(3);
+	} else {
 	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+	  final int tb = memory.getByte(PC);
+	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ec CPE
-    new Opcode("CPE", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (PE()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
-	}
+      // e3 XTHL
+      case 0xe3: {
+	int tb = memory.getByte(SP);
+	memory.setByte(SP, L);
+	L = tb;
+	final int tw = (SP + 1) & 0xffff;
+	tb = memory.getByte(tw);
+	memory.setByte(tw, H);
+	H = tb;
+	incPC();
+	return TR4R3R3W3W5 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ed undefined (CALL)
-    new Opcode("UND", "",
-	       3,
-	       Processor.INS_UND | Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // e4 CPO
+      case 0xe4: {
+	if (PE()) {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
 	  final int tb = memory.getByte(PC);
 	  incPC();
@@ -3838,273 +3569,194 @@ public class PMDIntel8080A extends Intel8080A {
 	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // ee XRI
-    new Opcode("XRI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  A ^= memory.getByte(PC);
-	  CLEARACF();
-	  CLEARCF();
-	  F3(A);
-	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
+      // e5 PUSHH
+      case 0xe5: {
+	decSP();
+	memory.setByte(SP, H);
+	decSP();
+	memory.setByte(SP, L);
+	incPC();
+	return TR5W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ef RST5
-    new Opcode("RST", "5",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  incPC();
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0028;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+      // e6 ANI
+      case 0xe6: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	if (((A | tb) & 0x08) != 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
 	}
+	A &= tb & 0xff;
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // f0 RP
-    new Opcode("RP", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (SFSET()) {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  } else {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
-	}
+      // e7 RST4
+      case 0xe7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0020;
+	return TR5W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // f1 POPPSW
-    new Opcode("POP", "PSW", 1, Processor.INS_MR, new Executable() {
-	@Override
-	public int exec() {
-	  F = fixF(memory.getByte(SP));
+      // e8 RPE
+      case 0xe8: {
+	if (PE()) {
+	  final int tb = memory.getByte(SP);
 	  incSP();
-	  A = memory.getByte(SP);
+	  PC = tb + (memory.getByte(SP) << 8);
 	  incSP();
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
-	  return TR4R3R3 + (int)(cycleCounter & 1);
+	  return TR5 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // f2 JP
-    new Opcode("JP", "",
-	       3,
-	       Processor.INS_JMP,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (SFSET()) {
-	    incPC(3);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
+      // e9 PCHL
+      case 0xe9: {
+	PC = HL();
+	return TR5 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // f3 DI
-    new Opcode("DI", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IE = false;
+      // ea JPE
+      case 0xea: {
+	if (PE()) {
 	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
-
-    // f4 CP
-    new Opcode("CP", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (SFSET()) {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  }
+	  final int tb = memory.getByte(PC);
+	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
+	} else {
+	  incPC(3);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // f5 PUSHPSW
-    new Opcode("PUSH", "PSW", 1, Processor.INS_MW, new Executable() {
-	@Override
-	public int exec() {
-	  decSP();
-	  memory.setByte(SP, A);
-	  decSP();
-	  memory.setByte(SP, F);
-	  incPC();
-	  return TR5W3W3 + (int)(cycleCounter & 1);
-	}
+      // eb XCHG
+      case 0xeb: {
+	int tb = H;
+	H = D;
+	D = tb;
+	tb = L;
+	L = E;
+	E = tb;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // f6 ORI
-    new Opcode("ORI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
+      // ec CPE
+      case 0xec: {
+	if (PE()) {
 	  incPC();
-	  A |= memory.getByte(PC);
-	  CLEARACF();
-	  CLEARCF();
-	  F3(A);
+	  final int tb = memory.getByte(PC);
 	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
-	}
-      }
-      ),
-
-    // f7 RST6
-    new Opcode("RST", "6",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+	  final int tw = tb + (memory.getByte(PC) << 8);
 	  incPC();
 	  decSP();
 	  memory.setByte(SP, PC >> 8);
 	  decSP();
 	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0030;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+	  PC = tw;
+	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
+	} else {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // f8 RM
-    new Opcode("RM", "",
-	       1,
-	       Processor.INS_RET | Processor.INS_MR,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (SFSET()) {
-	    final int tb = memory.getByte(SP);
-	    incSP();
-	    PC = tb + (memory.getByte(SP) << 8);
-	    incSP();
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC();
-	    return TR5 + (int)(cycleCounter & 1);
-	  }
-	}
+      // ed undefined (CALL)
+      case 0xed: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	incPC();
+	final int tw = tb + (memory.getByte(PC) << 8);
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = tw;
+	return TR5R3R3W3W3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // f9 SPHL
-    new Opcode("SPHL", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  SP = HL();
+      // ee XRI
+      case 0xee: {
+	incPC();
+	A ^= memory.getByte(PC);
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // ef RST5
+      case 0xef: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0028;
+	return TR5W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // f0 RP
+      case 0xf0: {
+	if (SFSET()) {
 	  incPC();
 	  return TR5 + (int)(cycleCounter & 1);
+	} else {
+	  final int tb = memory.getByte(SP);
+	  incSP();
+	  PC = tb + (memory.getByte(SP) << 8);
+	  incSP();
+	  return TR5R3R3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // fa JM
-    new Opcode("JM", "", 3, Processor.INS_JMP, new Executable() {
-	@Override
-	public int exec() {
-	  if (SFSET()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
-	  } else {
-	    incPC(3);
-	  }
-	  return TR4R3R3 + (int)(cycleCounter & 1);
-	}
+      // f1 POPPSW
+      case 0xf1: {
+	F = fixF(memory.getByte(SP));
+	incSP();
+	A = memory.getByte(SP);
+	incSP();
+	incPC();
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // fb EI
-    new Opcode("EI", "", 1, 0, new Executable() {
-	@Override
-	public int exec() {
-	  IE = TID = true;
+      // f2 JP
+      case 0xf2: {
+	if (SFSET()) {
+	  incPC(3);
+	} else {
 	  incPC();
-	  return TR4 + (int)(cycleCounter & 1);
+	  final int tb = memory.getByte(PC);
+	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // fc CM
-    new Opcode("CM", "",
-	       3,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
-	  if (SFSET()) {
-	    incPC();
-	    final int tb = memory.getByte(PC);
-	    incPC();
-	    final int tw = tb + (memory.getByte(PC) << 8);
-	    incPC();
-	    decSP();
-	    memory.setByte(SP, PC >> 8);
-	    decSP();
-	    memory.setByte(SP, PC & 0xff);
-	    PC = tw;
-	    return TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	  } else {
-	    incPC(3);
-	    return TR5R3R3 + (int)(cycleCounter & 1);
-	  }
-	}
+      // f3 DI
+      case 0xf3: {
+	IE = false;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // fd undefined (CALL)
-    new Opcode("UND", "",
-	       3,
-	       Processor.INS_UND | Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // f4 CP
+      case 0xf4: {
+	if (SFSET()) {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
 	  final int tb = memory.getByte(PC);
 	  incPC();
@@ -4118,104 +3770,211 @@ public class PMDIntel8080A extends Intel8080A {
 	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
 	}
       }
-      ),
 
-    // fe CPI
-    new Opcode("CPI", "", 2, 0, new Executable() {
-	@Override
-	public int exec() {
+      // f5 PUSHPSW
+      case 0xf5: {
+	decSP();
+	memory.setByte(SP, A);
+	decSP();
+	memory.setByte(SP, F);
+	incPC();
+	return TR5W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // f6 ORI
+      case 0xf6: {
+	incPC();
+	A |= memory.getByte(PC);
+	CLEARACF();
+	CLEARCF();
+	F3(A);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
+      }
+
+      // f7 RST6
+      case 0xf7: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0030;
+	return TR5W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // f8 RM
+      case 0xf8: {
+	if (SFSET()) {
+	  final int tb = memory.getByte(SP);
+	  incSP();
+	  PC = tb + (memory.getByte(SP) << 8);
+	  incSP();
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	} else {
 	  incPC();
-	  final int tb = memory.getByte(PC);
-	  final int tw = A - tb;
-	  if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
-	    SETACF();
-	  } else {
-	    CLEARACF();
-	  }
-	  if ((tw & 0x0100) != 0) {
-	    SETCF();
-	  } else {
-	    CLEARCF();
-	  }
-	  F3(tw & 0xff);
+	  return TR5 + (int)(cycleCounter & 1);
+	}
+      }
+
+      // f9 SPHL
+      case 0xf9: {
+	SP = HL();
+	incPC();
+	return TR5 + (int)(cycleCounter & 1);
+      }
+
+      // fa JM
+      case 0xfa: {
+	if (SFSET()) {
 	  incPC();
-	  return TR4R3 + (int)(cycleCounter & 1);
+	  final int tb = memory.getByte(PC);
+	  PC = tb + (memory.getByte((PC + 1) & 0xffff) << 8);
+	} else {
+	  incPC(3);
 	}
+	return TR4R3R3 + (int)(cycleCounter & 1);
       }
-      ),
 
-    // ff RST7
-    new Opcode("RST", "7",
-	       1,
-	       Processor.INS_CALL | Processor.INS_MW,
-	       new Executable() {
-	@Override
-	public int exec() {
+      // fb EI
+      case 0xfb: {
+	IE = TID = true;
+	incPC();
+	return TR4 + (int)(cycleCounter & 1);
+      }
+
+      // fc CM
+      case 0xfc: {
+	if (SFSET()) {
+	  incPC();
+	  final int tb = memory.getByte(PC);
+	  incPC();
+	  final int tw = tb + (memory.getByte(PC) << 8);
 	  incPC();
 	  decSP();
 	  memory.setByte(SP, PC >> 8);
 	  decSP();
 	  memory.setByte(SP, PC & 0xff);
-	  PC = 0x0038;
-	  return TR5W3W3 + (int)(cycleCounter & 1);
+	  PC = tw;
+	  return TR5R3R3W3W3 + (int)(cycleCounter & 1);
+	} else {
+	  incPC(3);
+	  return TR5R3R3 + (int)(cycleCounter & 1);
+	}
+      }
+
+      // fd undefined (CALL)
+      case 0xfd: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	incPC();
+	final int tw = tb + (memory.getByte(PC) << 8);
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = tw;
+	return TR5R3R3W3W3 + (int)(cycleCounter & 1);
+      }
+
+      // fe CPI
+      case 0xfe: {
+	incPC();
+	final int tb = memory.getByte(PC);
+	final int tw = A - tb;
+	if (((A & 0x0f) - (tb & 0x0f)) >= 0) {
+	  SETACF();
+	} else {
+	  CLEARACF();
+	}
+	if ((tw & 0x0100) != 0) {
+	  SETCF();
+	} else {
+	  CLEARCF();
 	}
+	F3(tw & 0xff);
+	incPC();
+	return TR4R3 + (int)(cycleCounter & 1);
       }
-      )
-  };
+
+      // ff RST7
+      case 0xff: {
+	incPC();
+	decSP();
+	memory.setByte(SP, PC >> 8);
+	decSP();
+	memory.setByte(SP, PC & 0xff);
+	PC = 0x0038;
+	return TR5W3W3 + (int)(cycleCounter & 1);
+      }
+    }
+    throw new IllegalArgumentException(
+      String.format("Invalid opcode: 0x%02x", opcode));
+  }
 
   // for description see Processor
   @Override
   public void exec(final long minCycles,
 		   final int mask,
-		   final List<Integer> breakpoints) {
+		   final Breakpoints breakpoints) {
     assert minCycles >= 0;
     final long endCycleCounter = cycleCounter + minCycles;
+    final CPUEventQueue schedule = CPUScheduler.getSchedule();
+    final AbstractMemory unwatchedMemory = memory;
+    if (breakpoints != null) {
+      memory = breakpoints.attach(this, memory);
+    }
 
-    while (!suspended) {
-      CPUScheduler.runSchedule(cycleCounter);
-      if (resetPending) {
-	reset();
-	break;
-      } else if ((interruptPending >= 0) && IE && !TID) {
-	IE = false;
-	if (HALTED) {
-	  HALTED = false;
-	  incPC();
-	}
-	if ((interruptPending & 0xc7) == 0xc7) {  // RST
-	  PC = interruptPending & 0x38;
-	  cycleCounter += TR5W3W3 + (int)(cycleCounter & 1);
-	} else if ((interruptPending & 0xff) == 0xcd) {  // CALL
-	  decSP();
-	  memory.setByte(SP, PC >> 8);
-	  decSP();
-	  memory.setByte(SP, PC & 0xff);
-	  PC = (interruptPending >> 8) & 0xffff;
-	  cycleCounter += TR5R3R3W3W3 + (int)(cycleCounter & 1);
-	} else {  // something else, ignored
-	  log.finer(String.format("Unsupported interrupt vector: 0x%x",
-				  interruptPending));
-	  cycleCounter += TR4 + (int)(cycleCounter & 1);
-	}
-	interruptPending = -1;
-      } else if (HALTED) {
-	cycleCounter++;
-      } else {
-	TID = false;
-	final Opcode opcode = opcodes[memory.getByte(PC)];
-	if ((opcode.getType() & mask) != 0)
+    try {
+      while (!suspended) {
+	schedule.run(cycleCounter);
+	if (resetPending) {
+	  reset();
+	  break;
+	} else if ((interruptPending >= 0) && IE && !TID) {
+	  IE = false;
+	  if (HALTED) {
+	    HALTED = false;
+	    incPC();
+	  }
+	  if ((interruptPending & 0xc7) == 0xc7) {  // RST
+	    PC = interruptPending & 0x38;
+	    cycleCounter += TR5W3W3 + (int)(cycleCounter & 1);
+	  } else if ((interruptPending & 0xff) == 0xcd) {  // CALL
+	    decSP();
+	    memory.setByte(SP, PC >> 8);
+	    decSP();
+	    memory.setByte(SP, PC & 0xff);
+	    PC = (interruptPending >> 8) & 0xffff;
+	    cycleCounter += TR5R3R3W3W3 + (int)(cycleCounter & 1);
+	  } else {  // something else, ignored
+	    log.finer(String.format("Unsupported interrupt vector: 0x%x",
+				    interruptPending));
+	    cycleCounter += TR4 + (int)(cycleCounter & 1);
+	  }
+	  interruptPending = -1;
+	} else if (HALTED) {
+	  cycleCounter++;
+	} else {
+	  TID = false;
+	  final int opcode = memory.getByte(PC);
+	  if ((mask != 0) && ((opcodes[opcode].getType() & mask) != 0))
+	    break;
+	  if (Trace.ENABLED) {
+	    Trace.instruction(PC, opcode, 0);
+	  }
+	  cycleCounter += execute(opcode);
+	}
+	if ((cycleCounter >= endCycleCounter) ||
+	    ((breakpoints != null) && breakpoints.isHit(PC))) {
 	  break;
-	if (log.isLoggable(Level.FINER)) {
-	  log.finer(String.format("%s: executing '%s'",
-				  name,
-				  getDisassembly(PC).getSimplified()));
-	  log.finest(String.format("%s: state '%s'", name, CPUState()));
 	}
-	cycleCounter += opcode.exec();
       }
-      if ((cycleCounter >= endCycleCounter) ||
-	  ((breakpoints != null) && breakpoints.contains(PC))) {
-	break;
+    } finally {
+      if (breakpoints != null) {
+	memory = unwatchedMemory;
+	breakpoints.detach(this);
       }
     }
   }
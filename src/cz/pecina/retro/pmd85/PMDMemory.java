@@ -21,29 +21,30 @@
 package cz.pecina.retro.pmd85;
 
 import java.util.logging.Logger;
-import java.util.logging.Level;
 
 import org.jdom2.Element;
 
-import cz.pecina.retro.cpu.Device;
-import cz.pecina.retro.cpu.AbstractMemory;
+import cz.pecina.retro.cpu.PagedMemory;
 import cz.pecina.retro.cpu.IOElement;
 import cz.pecina.retro.cpu.Register;
 import cz.pecina.retro.cpu.Block;
+import cz.pecina.retro.cpu.DirtyMap;
 import cz.pecina.retro.cpu.IOPin;
 
 import cz.pecina.retro.memory.Snapshot;
 import cz.pecina.retro.memory.Info;
 
 /**
- * Tesla PMD 85 memory.
+ * Tesla PMD 85 memory.  The mapping of ROM and RAM, which depends on
+ * the model and on the reset and AllRAM flags, is kept in page tables
+ * rebuilt on every change of these.
  *
  * @author @AUTHOR@
  * @version @VERSION@
  */
 public class PMDMemory
-  extends Device
-  implements AbstractMemory, IOElement {
+  extends PagedMemory
+  implements IOElement {
 
   // dynamic logger, per device
   private Logger log;
@@ -61,10 +62,13 @@ public class PMDMemory
   // the display hardware
   private DisplayHardware displayHardware;
 
+  // the first page of video RAM
+  private static final int VIDEO_PAGE = 0xc000 >> PAGE_SHIFT;
+
   /**
-   * ROM as an array of bytes.
+   * ROM as an array of bytes, possibly shared with other instances.
    */
-  protected final byte[] rom;
+  protected byte[] rom;
 
   /**
    * RAM as an array of bytes.
@@ -72,9 +76,18 @@ public class PMDMemory
   protected final byte[] ram;
 
   /**
-   * ROM module as an array of bytes or {@code null} if not present.
+   * ROM module as an array of bytes or {@code null} if not present,
+   * possibly shared with other instances.
    */
-  protected final byte[] rmm;
+  protected byte[] rmm;
+
+  // true if the arrays are shared images
+  private boolean romShared, rmmShared;
+
+  // dirty maps of the arrays
+  private final DirtyMap ramDirtyMap;
+  private final DirtyMap romDirtyMap;
+  private final DirtyMap rmmDirtyMap;
 
   /**
    * The size of ROM (in KiB).
@@ -118,6 +131,9 @@ public class PMDMemory
     rom = new byte[sizeROM * 0x400];
     ram = new byte[sizeRAM * 0x400];
     rmm = (sizeRMM > 0) ? new byte[sizeRMM * 0x400] : null;
+    ramDirtyMap = new DirtyMap(ram.length);
+    romDirtyMap = new DirtyMap(rom.length);
+    rmmDirtyMap = (sizeRMM > 0) ? new DirtyMap(rmm.length) : null;
     add(new Register("RAM_SIZE") {
 	@Override
 	public String getValue() {
@@ -148,7 +164,18 @@ public class PMDMemory
 	  PMDMemory.this.sizeRMM = Integer.parseInt(value);
 	}
       });
-    add(new Block("RAM") {
+    add(new Register("RESET") {
+	@Override
+	public String getValue() {
+	  return resetFlag ? "1" : "0";
+	}
+	@Override
+	public void processValue(final String value) {
+	  resetFlag = value.equals("1");
+	  remap();
+	}
+      });
+    add(new Block("RAM", ramDirtyMap) {
 	@Override
 	public byte[] getMemory() {
 	  return ram;
@@ -162,9 +189,19 @@ public class PMDMemory
 	  Snapshot.processBlockElement(ram, block, 0);
 	}
       });
-    add(new Block("ROM") {
+    add(new Block("ROM", romDirtyMap) {
 	@Override
 	public byte[] getMemory() {
+	  if (romShared) {
+	    rom = rom.clone();
+	    romShared = false;
+	    remap();
+	    log.fine("Shared ROM image copied");
+	  }
+	  return rom;
+	}
+	@Override
+	public byte[] getReadOnlyMemory() {
 	  return rom;
 	}
 	@Override
@@ -173,13 +210,24 @@ public class PMDMemory
 	}
 	@Override
 	public void processContent(final Element block) {
-	  Snapshot.processBlockElement(rom, block, 0);
+	  final byte[] image = rom.clone();
+	  Snapshot.processBlockElement(image, block, 0);
+	  update(image, image.length);
 	}
       });
     if (sizeRMM > 0) {
-      add(new Block("RMM") {
+      add(new Block("RMM", rmmDirtyMap) {
 	  @Override
 	  public byte[] getMemory() {
+	    if (rmmShared) {
+	      rmm = rmm.clone();
+	      rmmShared = false;
+	      log.fine("Shared RMM image copied");
+	    }
+	    return rmm;
+	  }
+	  @Override
+	  public byte[] getReadOnlyMemory() {
 	    return rmm;
 	  }
 	  @Override
@@ -188,10 +236,16 @@ public class PMDMemory
 	  }
 	  @Override
 	  public void processContent(final Element block) {
-	    Snapshot.processBlockElement(rmm, block, 0);
+	    final byte[] image = rmm.clone();
+	    Snapshot.processBlockElement(image, block, 0);
+	    update(image, image.length);
 	  }
 	});
     }
+    for (int page = VIDEO_PAGE; page < NUMBER_PAGES; page++) {
+      setWriteSideEffects(page, true);
+    }
+    remap();
     log.fine(String.format("New PMDMemory created, name: %s", name));
   }
 
@@ -204,6 +258,22 @@ public class PMDMemory
     return rom;
   }
 
+  /**
+   * Sets the ROM to a shared image.  The image is copied before
+   * the first modification.
+   *
+   * @param image the image, as returned by {@code ImageStore},
+   *              of the size of ROM
+   */
+  public void setROM(final byte[] image) {
+    assert image.length == rom.length;
+    rom = image;
+    romShared = true;
+    romDirtyMap.markAll();
+    remap();
+    log.fine("ROM set to a shared image");
+  }
+
   /**
    * Gets the RAM.
    *
@@ -222,6 +292,21 @@ public class PMDMemory
     return rmm;
   }
 
+  /**
+   * Sets the ROM module to a shared image.  The image is copied
+   * before the first modification.
+   *
+   * @param image the image, as returned by {@code ImageStore},
+   *              of the size of the ROM module
+   */
+  public void setRMM(final byte[] image) {
+    assert (rmm != null) && (image.length == rmm.length);
+    rmm = image;
+    rmmShared = true;
+    rmmDirtyMap.markAll();
+    log.fine("ROM module set to a shared image");
+  }
+
   /**
    * Gets the size of ROM.
    *
@@ -287,18 +372,30 @@ public class PMDMemory
   public void setModel(final int model) {
     log.fine("Setting model: " + model);
     this.model = model;
+    remap();
   }
 
   // for description see Device
   @Override
   public void reset() {
     resetFlag = true;
+    remap();
   }
   
+  // for description see Device
+  @Override
+  public void postUnmarshal() {
+    remap();
+    refreshVideoRAM();
+  }
+
   // for description see IOElement
   @Override
   public void portOutput(final int port, int data) {
-    resetFlag = false;
+    if (resetFlag) {
+      resetFlag = false;
+      remap();
+    }
   }
 
   // for description see IOElement
@@ -318,6 +415,7 @@ public class PMDMemory
     public void notifyChange() {
       allRAMFlag = (queryNode() == 0);
       log.fine("AllRAM flag set to: " + allRAMFlag);
+      remap();
     }
   }
 
@@ -358,99 +456,79 @@ public class PMDMemory
    * of the color scheme.
    */
   public void refreshVideoRAM() {
-    for (int address = 0xc000; address < 0x10000; address++) {
-      if ((address & 0x3f) < 0x30) {
-	setByte(address, ram[address] & 0xff);
-      }
-    }
+    write(0xc000, ram, 0xc000, 0x4000);
     log.fine("Video RAM refreshed");
   }
 
-  // for description see AbstractMemory
-  @Override
-  public int getByte(final int address) {
-    assert (address >= 0) && (address < 0x10000);
-    int  data;
-    switch (model) {
-      
-      case 0:  // PMD 85-1
-      case 1:  // PMD 85-2
-	if (resetFlag) {
-	  if (address < 0x2000) {
-	    data = rom[address & 0x0fff];
-	  } else if ((address >= 0x8000) && (address < 0xa000)) {
-	    data = rom[(address - 0x8000) & 0x0fff];
+  // maps a page of ROM for reading
+  private void mapROM(final int page, final int romPage) {
+    mapRead(page, rom, romPage * PAGE_SIZE);
+  }
+
+  // maps a page of RAM for reading
+  private void mapRAM(final int page) {
+    mapRead(page, ram, page * PAGE_SIZE);
+  }
+
+  // rebuilds the page tables
+  private void remap() {
+    for (int page = 0; page < NUMBER_PAGES; page++) {
+      switch (model) {
+
+	case 0:  // PMD 85-1
+	case 1:  // PMD 85-2
+	  if ((page >= 0x20) && (page < 0x28)) {
+	    mapROM(page, page & 0x03);
+	  } else if (resetFlag) {
+	    if (page < 0x08) {
+	      mapROM(page, page & 0x03);
+	    } else {
+	      unmapRead(page);
+	    }
+	  } else if ((page < 0x20) || (page >= 0x30)) {
+	    mapRAM(page);
 	  } else {
-	    data = 0xff;
+	    unmapRead(page);
 	  }
-	} else {
-	  if ((address >= 0x8000) && (address < 0xa000)) {
-	    data = rom[(address - 0x8000) & 0x0fff];
-	  } else if ((address < 0x8000) || (address >= 0xc000)) {
-	    data = ram[address];
+	  if (resetFlag) {
+	    unmapWrite(page);
 	  } else {
-	    data = 0xff;
+	    mapWrite(page, ram, page * PAGE_SIZE, ramDirtyMap);
 	  }
-	}
-	break;
-	
-      case 2:  // PMD 85-2A
-	if (allRAMFlag) {
-	  data = ram[address];
-	} else if (resetFlag) {
-	  if (address < 0x4000) {
-	    data = rom[address & 0x0fff];
-	  } else if ((address >= 0x8000) && (address < 0x9000)) {
-	    data = rom[(address - 0x8000) & 0x0fff];
+	  break;
+
+	case 2:  // PMD 85-2A
+	  if (allRAMFlag) {
+	    mapRAM(page);
+	  } else if ((page >= 0x20) && (page < 0x24)) {
+	    mapROM(page, page & 0x03);
+	  } else if (resetFlag && (page < 0x10)) {
+	    mapROM(page, page & 0x03);
 	  } else {
-	    data = ram[address];
+	    mapRAM(page);
 	  }
-	} else {
-	  if ((address >= 0x8000) && (address < 0x9000)) {
-	    data = rom[(address - 0x8000) & 0x0fff];
+	  mapWrite(page, ram, page * PAGE_SIZE, ramDirtyMap);
+	  break;
+
+	case 3:  // PMD 85-3
+	default:
+	  if (allRAMFlag) {
+	    mapRAM(page);
+	  } else if (resetFlag || (page >= 0x38)) {
+	    mapROM(page, page & 0x07);
 	  } else {
-	    data = ram[address];
+	    mapRAM(page);
 	  }
-	}
-	break;
-	
-      case 3:  // PMD 85-3
-      default:
-	if (allRAMFlag) {
-	  data = ram[address];
-	} else if (resetFlag) {
-	  data = rom[address & 0x1fff];
-	} else if (address >= 0xe000) {
-	  data = rom[address - 0xe000];
-	} else {
-	  data = ram[address];
-	}
-	break;
+	  mapWrite(page, ram, page * PAGE_SIZE, ramDirtyMap);
+	  break;
+      }
     }
-    if (log.isLoggable(Level.FINEST))
-      log.finest(String.format("Memory '%s' read: (%04x) -> %02x",
-			       name,
-			       address,
-			       data & 0xff));
-    return data & 0xff;
+    log.finer("Page tables rebuilt");
   }
 
-  // for description see AbstractMemory
+  // for description see PagedMemory
   @Override
-  public void setByte(final int address, final int data) {
-    assert (address >= 0) && (address < 0x10000);
-    assert (data >= 0) && (data < 0x100);
-    if ((model > 1) || (!resetFlag)) {
-      ram[address] = (byte)data;
-    }
-    if (address >= 0xc000) {
-      displayHardware.getDisplay().setByte(address, data);
-    }
-    if (log.isLoggable(Level.FINEST)) {
-      log.finest(String.format("Memory '%s' written: %02x -> (%04x)",
-			       name,
-			       (byte)data,
-			       address));
-    }
+  protected void writeSideEffects(final int address, final int data) {
+    displayHardware.getDisplay().setByte(address, data);
   }
 }
@@ -22,9 +22,6 @@ package cz.pecina.retro.pmd85;
 
 import java.util.logging.Logger;
 
-import java.util.List;
-import java.util.ArrayList;
-
 import java.io.BufferedReader;
 import java.io.PrintWriter;
 import java.io.IOException;
@@ -37,6 +34,7 @@ import cz.pecina.retro.common.ASCII;
 import cz.pecina.retro.common.Parameters;
 
 import cz.pecina.retro.cpu.Intel8080A;
+import cz.pecina.retro.cpu.Breakpoints;
 
 /**
  * Pascal programs utilities.
@@ -107,14 +105,14 @@ public class Pascal {
     if (version < 0) {
       throw new PascalException("Pascal not loaded");
     }
-    final Intel8080A cpu = (Intel8080A)Parameters.cpu;
+    final Intel8080A cpu = (Intel8080A)Parameters.getCPU();
     final int pc = cpu.getPC();
     final int a = cpu.getA();
     final int f = cpu.getF();
     final int bc = cpu.getBC();
     final int de = cpu.getDE();
     final int hl = cpu.getHL();
-    final List<Integer> breakPoints = new ArrayList<>();
+    final Breakpoints breakPoints = new Breakpoints();
     breakPoints.add(ENCODE_NEW[version] + 3);
     breakPoints.add(ENCODE_PREP_STOP[version]);
     breakPoints.add(ENCODE_TOK_STOP[version]);
@@ -178,14 +176,14 @@ public class Pascal {
     if (version < 0) {
       throw new PascalException("Pascal not loaded");
     }
-    final Intel8080A cpu = (Intel8080A)Parameters.cpu;
+    final Intel8080A cpu = (Intel8080A)Parameters.getCPU();
     final int pc = cpu.getPC();
     final int a = cpu.getA();
     final int f = cpu.getF();
     final int bc = cpu.getBC();
     final int de = cpu.getDE();
     final int hl = cpu.getHL();
-    final List<Integer> breakPoints = new ArrayList<>();
+    final Breakpoints breakPoints = new Breakpoints();
     breakPoints.add(DECODE_CALLS[version] + 3);
     breakPoints.add(DECODE_CALLBACKS[version]);
     cpu.setPC(DECODE_CALLS[version]);
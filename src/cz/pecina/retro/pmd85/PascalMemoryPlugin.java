@@ -33,6 +33,7 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 import cz.pecina.retro.common.Parameters;
 import cz.pecina.retro.common.Application;
 
+import cz.pecina.retro.cpu.Block;
 import cz.pecina.retro.cpu.Hardware;
 
 import cz.pecina.retro.memory.MemoryPlugin;
@@ -77,8 +78,10 @@ public class PascalMemoryPlugin implements MemoryPlugin {
   @Override
   public void read(final Hardware hardware, final File file) {
     log.fine("Reading Pascal program from a file: " + file.getName());
-    final byte[] ram =
-      Parameters.memoryDevice.getBlockByName("RAM").getMemory();
+    final Block block =
+      Parameters.getMemoryDevice().getBlockByName("RAM");
+    final byte[] ram = block.getMemory();
+    block.markDirty();
     try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
       Pascal.encode(reader, ram);
     } catch (final IOException | PascalException exception) {
@@ -93,7 +96,7 @@ public class PascalMemoryPlugin implements MemoryPlugin {
   public void write(final Hardware hardware, final File file) {
     log.fine("Writing Pascal program to a file: " + file.getName());
     final byte[] ram =
-      Parameters.memoryDevice.getBlockByName("RAM").getMemory();
+      Parameters.getMemoryDevice().getBlockByName("RAM").getMemory();
     try (PrintWriter writer = new PrintWriter(file)) {
       Pascal.decode(ram, writer);
     } catch (final IOException | PascalException exception) {
@@ -25,10 +25,8 @@ import java.util.logging.Logger;
 import java.io.File;
 import java.io.IOException;
 
-import java.awt.Color;
-import java.awt.Graphics2D;
-
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
 
@@ -94,12 +92,13 @@ public class ScreenShotMemoryPlugin implements MemoryPlugin {
   public void write(final Hardware hardware, final File file) {
     log.fine("Writing screenshot to a file: " + file.getName());
     final byte[] ram =
-      Parameters.memoryDevice.getBlockByName("RAM").getMemory();
+      Parameters.getMemoryDevice().getBlockByName("RAM").getMemory();
     final BufferedImage bi = new BufferedImage(
       Display.DISPLAY_WIDTH,
       Display.DISPLAY_HEIGHT,
       BufferedImage.TYPE_INT_RGB);
-    final Graphics2D graphics = bi.createGraphics();
+    final int[] pixels =
+      ((DataBufferInt)bi.getRaster().getDataBuffer()).getData();
     switch (UserPreferences.getColorMode()) {
       case 0:
 	if (computerHardware.getModel() < 3) {
@@ -122,15 +121,15 @@ public class ScreenShotMemoryPlugin implements MemoryPlugin {
 	colors = UserPreferences.getCustomColors();
 	break;
     }
-    for (int row = 0; row < Display.DISPLAY_HEIGHT; row++) {
+    final int[] rgb = new int[4];
+    for (int i = 0; i < 4; i++) {
+      rgb[i] = colors[i].getColor().getRGB() & 0xffffff;
+    }
+    for (int row = 0, j = 0; row < Display.DISPLAY_HEIGHT; row++) {
       for (int column = 0; column < Display.DISPLAY_WIDTH_CELLS; column++) {
-	int b = ram[Display.START_VIDEO + (row * 64) + column];
+	final int b = ram[Display.START_VIDEO + (row * 64) + column] & 0xff;
 	for (int i = 0; i < 6; i++) {
-	  graphics.setColor(((b & 1) == 1) ?
-			    colors[b >> 6].getColor() :
-			    Color.BLACK);
-	  graphics.fillRect((column * 6) + i, row, 1, 1);
-	  b >>= 1;
+	  pixels[j++] = (((b >> i) & 1) == 1) ? rgb[b >> 6] : 0;
 	}
       }
     }
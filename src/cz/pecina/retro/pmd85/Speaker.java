@@ -98,7 +98,7 @@ public class Speaker implements CPUEventOwner {
     public void notifyChange() {
       final boolean newLevel = (queryNode() != 0);
       if (newLevel != level) {
-	Parameters.sound.write(Sound.SPEAKER_CHANNEL, newLevel);
+	Parameters.getSound().write(Sound.SPEAKER_CHANNEL, newLevel);
 	level = newLevel;
 	if (level) {
 	  CPUScheduler.addEventRelative(Speaker.this, LIMIT);
@@ -112,7 +112,7 @@ public class Speaker implements CPUEventOwner {
   // for description see CPUEventOwner
   @Override
   public void performEvent(final int parameter, final long delay) {
-    Parameters.sound.write(Sound.SPEAKER_CHANNEL, false);
+    Parameters.getSound().write(Sound.SPEAKER_CHANNEL, false);
     log.finer("Too long true, sound interface reset");
   }
 }
@@ -189,7 +189,7 @@ public final class UserPreferences extends GeneralUserPreferences {
     getPreferences();
     tapeRecorderMute = mute;
     Parameters.preferences.putBoolean("tapeRecorder.mute", mute);
-    Parameters.sound.setMute(Sound.TAPE_RECORDER_CHANNEL, mute);
+    Parameters.getSound().setMute(Sound.TAPE_RECORDER_CHANNEL, mute);
     log.fine("Tape recorder mute set to: " + mute);
   }
 
@@ -215,7 +215,8 @@ public final class UserPreferences extends GeneralUserPreferences {
     getPreferences();
     tapeRecorderVolume = volume;
     Parameters.preferences.putInt("tapeRecorder.volume", volume);
-    Parameters.sound.setVolume(Sound.TAPE_RECORDER_CHANNEL, volume / 100f);
+    Parameters.getSound().setVolume(Sound.TAPE_RECORDER_CHANNEL,
+				    volume / 100f);
     log.fine("Tape recorder volume set to: " + volume);
   }
 
@@ -240,7 +241,7 @@ public final class UserPreferences extends GeneralUserPreferences {
     getPreferences();
     speakerMute = mute;
     Parameters.preferences.putBoolean("speaker.mute", mute);
-    Parameters.sound.setMute(Sound.SPEAKER_CHANNEL, mute);
+    Parameters.getSound().setMute(Sound.SPEAKER_CHANNEL, mute);
     log.fine("Speaker mute set to: " + mute);
   }
 
@@ -266,7 +267,7 @@ public final class UserPreferences extends GeneralUserPreferences {
     getPreferences();
     speakerVolume = volume;
     Parameters.preferences.putInt("speaker.volume", volume);
-    Parameters.sound.setVolume(Sound.SPEAKER_CHANNEL, volume / 100f);
+    Parameters.getSound().setVolume(Sound.SPEAKER_CHANNEL, volume / 100f);
     log.fine("Speaker volume set to: " + volume);
   }
 
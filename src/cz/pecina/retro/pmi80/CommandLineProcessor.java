@@ -23,7 +23,10 @@ package cz.pecina.retro.pmi80;
 import java.util.logging.Logger;
 import java.util.Arrays;
 
+import java.util.function.Supplier;
+
 import java.io.File;
+import java.io.IOException;
 
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -43,6 +46,9 @@ import cz.pecina.retro.memory.IntelHEX;
 import cz.pecina.retro.memory.XML;
 import cz.pecina.retro.memory.Snapshot;
 
+import cz.pecina.retro.batch.BatchMachine;
+import cz.pecina.retro.batch.BatchRunner;
+
 /**
  * Command line arguments processor.  Before processing the command
  * line options, it loads the default snapshot (if exists).
@@ -69,6 +75,12 @@ public class CommandLineProcessor {
   // hardware object to operate on
   private Hardware hardware;
 
+  // batch file, null if none
+  private File batchFile;
+
+  // number of threads running batch jobs
+  private int numberThreads = Runtime.getRuntime().availableProcessors();
+
   // prints usage information
   private void usage() {
     final HelpFormatter usage = new HelpFormatter();
@@ -174,6 +186,15 @@ public class CommandLineProcessor {
       .argName("FILE")
       .desc(Application.getString(this, "option.writeSnapshot"))
       .build());
+    options.addOption(
+      Option.builder("C")
+      .longOpt("convert-snapshot")
+      .hasArgs()
+      .numberOfArgs(2)
+      .argName("SRC>,<DST")
+      .valueSeparator(',')
+      .desc(Application.getString(this, "option.convertSnapshot"))
+      .build());
     options.addOption(
       Option.builder("S")
       .longOpt("speed-up")
@@ -191,6 +212,20 @@ public class CommandLineProcessor {
       .longOpt("no-opengl")
       .desc(Application.getString(this, "option.noOpenGL"))
       .build());
+    options.addOption(
+      Option.builder("B")
+      .longOpt("batch")
+      .hasArg()
+      .argName("FILE")
+      .desc(Application.getString(this, "option.batch"))
+      .build());
+    options.addOption(
+      Option.builder("j")
+      .longOpt("jobs")
+      .hasArg()
+      .argName("N")
+      .desc(Application.getString(this, "option.jobs"))
+      .build());
     log.finer("Options set up");
 	
     // parse the command line
@@ -291,7 +326,7 @@ public class CommandLineProcessor {
 	        this, "error.invalidAddress"));
 	      error();
 	    }
-	    Parameters.cpu.setPC(address);
+	    Parameters.getCPU().setPC(address);
 	    break;
 	  case "O":
 	    log.finer("Processing -O");
@@ -345,6 +380,12 @@ public class CommandLineProcessor {
 	    new Snapshot(hardware).write(file);
 	    System.exit(0);
 	    break;
+	  case "C":
+	    log.finer("Processing -C");
+	    Snapshot.convert(new File(option.getValue(0)),
+			     new File(option.getValue(1)));
+	    System.exit(0);
+	    break;
 	  case "S":
 	    log.finer("Processing -S");
 	    Parameters.speedUp = Integer.parseInt(option.getValue());
@@ -362,6 +403,19 @@ public class CommandLineProcessor {
 	    log.finer("Processing -G");
 	    Parameters.openGL = false;
 	    break;
+	  case "B":
+	    log.finer("Processing -B");
+	    batchFile = new File(option.getValue());
+	    break;
+	  case "j":
+	    log.finer("Processing -j");
+	    numberThreads = Integer.parseInt(option.getValue());
+	    if (numberThreads < 1) {
+	      System.out.println(Application.getString(
+	        this, "error.nonPositiveJobs"));
+	      error();
+	    }
+	    break;
 	}
       }
     } catch (final Exception exception) {
@@ -369,6 +423,24 @@ public class CommandLineProcessor {
       error();
     }
 
+    // run batch jobs and exit
+    if (batchFile != null) {
+      log.fine("Running batch jobs");
+      int failed = 0;
+      try {
+	failed = new BatchRunner(new Supplier<BatchMachine>() {
+	    @Override
+	    public BatchMachine get() {
+	      return new BatchComputer();
+	    }
+	  }, numberThreads).run(batchFile);
+      } catch (final IOException exception) {
+	System.out.println(Application.getString(this, "error.batchRead"));
+	error();
+      }
+      System.exit((failed == 0) ? 0 : 1);
+    }
+
     log.fine("New CommandLineProcessor creation completed");
   }
 }
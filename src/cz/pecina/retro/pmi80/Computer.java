@@ -280,8 +280,8 @@ public class Computer {
     	      computerHardware.getCPU().exec();
     	      computerHardware.getDebuggerHardware().activate();
     	    } else {
-    	      computerHardware.getDebuggerHardware().getBreakpointValues()
-    		.add((pc + opcode.getLength()) & 0xffff);
+    	      computerHardware.getDebuggerHardware().addTemporaryBreakpoint(
+    		(pc + opcode.getLength()) & 0xffff);
     	      computerHardware.getDebuggerHardware().deactivate();
     	      debuggerState = DebuggerState.RUNNING;
     	    }
@@ -333,10 +333,10 @@ public class Computer {
     	  runStopButtonPressed = false;
     	}
     	computerHardware.getCPU().exec(Parameters.timerCycles, 0,
-    	  computerHardware.getDebuggerHardware().getBreakpointValues());
+    	  computerHardware.getDebuggerHardware().getBreakpoints());
     	computerHardware.getDisplayHardware().display();
-    	if (computerHardware.getDebuggerHardware().getBreakpointValues()
-    	    .contains(computerHardware.getCPU().getPC())) {
+    	if (computerHardware.getDebuggerHardware().getBreakpoints()
+    	    .isHit(computerHardware.getCPU().getPC())) {
     	  computerHardware.getDebuggerHardware().activate();
     	  debuggerState = DebuggerState.STOPPED;
     	}
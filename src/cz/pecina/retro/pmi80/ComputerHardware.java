@@ -28,8 +28,10 @@ import java.io.InputStream;
 import java.io.IOException;
 
 import cz.pecina.retro.common.Parameters;
+import cz.pecina.retro.common.MachineContext;
 import cz.pecina.retro.common.Application;
 
+import cz.pecina.retro.cpu.Block;
 import cz.pecina.retro.cpu.IONode;
 import cz.pecina.retro.cpu.Hardware;
 import cz.pecina.retro.cpu.Intel8080A;
@@ -96,14 +98,14 @@ public class ComputerHardware {
 			      UserPreferences.getStartROM(),
 			      UserPreferences.getStartRAM());
     hardware.add(memory);
-    Parameters.memoryDevice = memory;
-    Parameters.memoryObject = memory;
+    Parameters.setMemoryDevice(memory);
+    Parameters.setMemoryObject(memory);
 	
     // set up CPU
     cpu = new Intel8080A("CPU");
     hardware.add(cpu);
-    Parameters.systemClockSource = cpu;
-    Parameters.cpu = cpu;
+    Parameters.setSystemClockSource(cpu);
+    Parameters.setCPU(cpu);
 
     // connect CPU and memory
     cpu.setMemory(memory);
@@ -116,8 +118,10 @@ public class ComputerHardware {
       if (n < 1) {
 	throw Application.createError(this, "monitorLoad");
       }
-      final byte[] memoryArray =
-	Parameters.memoryDevice.getBlockByName("COMBINED").getMemory();
+      final Block block =
+	Parameters.getMemoryDevice().getBlockByName("COMBINED");
+      final byte[] memoryArray = block.getMemory();
+      block.markDirty();
       for (int addr = 0; addr < n; addr++) {
 	memoryArray[addr] = buffer[addr];
       }
@@ -195,7 +199,9 @@ public class ComputerHardware {
     hardware.reset();
 
     // load any startup images and snapshots
-    new CommandLineProcessor(hardware);
+    if (!MachineContext.getCurrent().isHeadless()) {
+      new CommandLineProcessor(hardware);
+    }
 
     log.fine("New Computer hardware object created");
   }
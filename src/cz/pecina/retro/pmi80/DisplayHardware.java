@@ -168,7 +168,7 @@ public class DisplayHardware {
    * Updates the array of counters.
    */
   public void update() {
-    final long clock = Parameters.systemClockSource.getSystemClock();
+    final long clock = Parameters.getSystemClockSource().getSystemClock();
     final int period = (int)(clock - lastUpdate);
     final int position = selectToPosition(select);
     if (position != -1) {
@@ -191,7 +191,8 @@ public class DisplayHardware {
 	counters[position][segment] = 0;
       }
     }
-    lastUpdate = startPeriod = Parameters.systemClockSource.getSystemClock();
+    lastUpdate = startPeriod =
+      Parameters.getSystemClockSource().getSystemClock();
     log.finer("Counters reset");
   }
 
@@ -214,7 +215,7 @@ public class DisplayHardware {
    */
   public void display() {
     final int limit =
-      ((int)(Parameters.systemClockSource.getSystemClock() - startPeriod))
+      ((int)(Parameters.getSystemClockSource().getSystemClock() - startPeriod))
       / SSD_RATIO;
     update();
     for (int position = 0; position < NUMBER_SSD; position++) {
@@ -99,7 +99,7 @@ public class MemoryFrame extends HidingFrame {
   // for description see HidingFrame
   @Override
   protected void tearDown() {
-    final SimpleMemory memory = (SimpleMemory)Parameters.memoryObject;
+    final SimpleMemory memory = (SimpleMemory)Parameters.getMemoryObject();
     UserPreferences.setStartROM(memory.getStartROM());
     UserPreferences.setStartRAM(memory.getStartRAM());
     hardware.resume();
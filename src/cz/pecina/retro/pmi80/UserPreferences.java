@@ -138,7 +138,7 @@ public final class UserPreferences extends GeneralUserPreferences {
     getPreferences();
     UserPreferences.startROM = startROM;
     Parameters.preferences.putInt("startROM", startROM);
-    ((SimpleMemory)Parameters.memoryObject).setStartROM(startROM);
+    ((SimpleMemory)Parameters.getMemoryObject()).setStartROM(startROM);
     log.fine("Start ROM in user preferences set to: " + startROM);
   }
 
@@ -163,7 +163,7 @@ public final class UserPreferences extends GeneralUserPreferences {
     getPreferences();
     UserPreferences.startRAM = startRAM;
     Parameters.preferences.putInt("startRAM", startRAM);
-    ((SimpleMemory)Parameters.memoryObject).setStartRAM(startRAM);
+    ((SimpleMemory)Parameters.getMemoryObject()).setStartRAM(startRAM);
     log.fine("Start RAM in user preferences set to: " + startRAM);
   }
 
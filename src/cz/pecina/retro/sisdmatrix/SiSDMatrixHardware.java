@@ -107,7 +107,7 @@ public class SiSDMatrixHardware implements IOElement {
   // connect to ports
   private void connect() {
     for (int i = 0; i < 3; i++) {
-      Parameters.cpu.addIOOutput((basePort + i) & 0xff, this);
+      Parameters.getCPU().addIOOutput((basePort + i) & 0xff, this);
     }
     log.fine("Ports connected");
   }
@@ -115,7 +115,7 @@ public class SiSDMatrixHardware implements IOElement {
   // disconnect from ports
   private void disconnect() {
     for (int i = 0; i < 3; i++) {
-      Parameters.cpu.removeIOOutput((basePort + i) & 0xff, this);
+      Parameters.getCPU().removeIOOutput((basePort + i) & 0xff, this);
     }
     log.fine("Ports disconnected");
   }
@@ -246,7 +246,7 @@ public class TapeRecorderHardware implements CPUEventOwner {
 
   // get system clock
   private long getTime() {
-    return Parameters.systemClockSource.getSystemClock();
+    return Parameters.getSystemClockSource().getSystemClock();
   }
 
   // resets the tape recorder counter
@@ -304,7 +304,7 @@ public class TapeRecorderHardware implements CPUEventOwner {
 	  }
 	}
 	outPulseCount++;
-	Parameters.sound.write(Sound.TAPE_RECORDER_CHANNEL, newLevel == 1);
+	Parameters.getSound().write(Sound.TAPE_RECORDER_CHANNEL, newLevel == 1);
       }
       level = newLevel;
     }
@@ -371,7 +371,7 @@ public class TapeRecorderHardware implements CPUEventOwner {
   public void performEvent(final int parameter, final long delay) {
     output = parameter;
     outPin.notifyChangeNode();
-    Parameters.sound.write(Sound.TAPE_RECORDER_CHANNEL, parameter == 1);
+    Parameters.getSound().write(Sound.TAPE_RECORDER_CHANNEL, parameter == 1);
     if ((tapeRecorderState == TapeRecorderState.PLAY) &&
 	!pauseButton.isPressed() &&
 	!remotePause &&
@@ -441,31 +441,65 @@ public class TapeRecorderHardware implements CPUEventOwner {
       rewindButton.setPressed(false);
       ffButton.setPressed(false);
       recordingLED.setState(false);
-      Parameters.sound.write(Sound.TAPE_RECORDER_CHANNEL, false);
+      Parameters.getSound().write(Sound.TAPE_RECORDER_CHANNEL, false);
       tapeRecorderState = TapeRecorderState.STOPPED;
       log.finer("Tape recorder stopped");
     }
   }
 
+  /**
+   * Starts recording, unless already recording.
+   */
+  public void record() {
+    if (tapeRecorderState != TapeRecorderState.RECORD) {
+      stop();
+      speed = 1;
+      recordButton.setPressed(true);
+      playButton.setPressed(true);
+      if (pauseButton.isPressed() || remotePause) {
+	recordingLED.setState(BLINK_ON, BLINK_OFF);
+      } else {
+	recordingLED.setState(true);
+      }
+      tapeRecorderState = TapeRecorderState.RECORD;
+      log.finer("Tape recorder recording");
+    }
+  }
+
+  /**
+   * Starts replay, unless already playing or recording.
+   */
+  public void play() {
+    if ((tapeRecorderState != TapeRecorderState.PLAY) &&
+	(tapeRecorderState != TapeRecorderState.RECORD)) {
+      stop();
+      speed = 1;
+      schedule();
+      playButton.setPressed(true);
+      tapeRecorderState = TapeRecorderState.PLAY;
+      log.finer("Tape recorder playing");
+    }
+  }
+
+  /**
+   * Checks if the tape recorder is replaying the tape.
+   *
+   * @return {@code true} if in PLAY state and not paused
+   */
+  public boolean isPlaying() {
+    return (tapeRecorderState == TapeRecorderState.PLAY) &&
+      !pauseButton.isPressed() &&
+      !remotePause;
+  }
+
   // record button listener
   private class RecordListener extends MouseAdapter {
 
     // for description see MouseListener
     @Override
     public void mousePressed(final MouseEvent event) {
-      if (tapeRecorderState != TapeRecorderState.RECORD) {
-	stop();
-	speed = 1;
-	recordButton.setPressed(true);
-	playButton.setPressed(true);
-	if (pauseButton.isPressed() || remotePause) {
-	  recordingLED.setState(BLINK_ON, BLINK_OFF);
-	} else {
-	  recordingLED.setState(true);
-	}
-	tapeRecorderState = TapeRecorderState.RECORD;
-	log.fine("Record button pressed");
-      }
+      record();
+      log.fine("Record button pressed");
     }
   }
   
@@ -475,15 +509,8 @@ public class TapeRecorderHardware implements CPUEventOwner {
     // for description see MouseListener
     @Override
     public void mousePressed(final MouseEvent event) {
-      if ((tapeRecorderState != TapeRecorderState.PLAY) &&
-	  (tapeRecorderState != TapeRecorderState.RECORD)) {
-	stop();
-	speed = 1;
-	schedule();
-	playButton.setPressed(true);
-	tapeRecorderState = TapeRecorderState.PLAY;
-	log.fine("Play button pressed");
-      }
+      play();
+      log.fine("Play button pressed");
     }
   }
   
@@ -0,0 +1,56 @@
+/* TestBatchJob.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.batch;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class TestBatchJob extends TestCase {
+
+  void split(final String line, final String... arguments) {
+    assertEquals(Arrays.asList(arguments),
+		 Arrays.asList(BatchJob.split(line)));
+  }
+
+  public void testSplit() {
+    split("");
+    split("  \t ");
+    split("-c 100", "-c", "100");
+    split("  -c\t100  ", "-c", "100");
+    split("-s \"my snapshot.xml\"", "-s", "my snapshot.xml");
+    split("-d \"a b\",0,100", "-d", "a b,0,100");
+    split("-s my\\ snapshot.xml", "-s", "my snapshot.xml");
+    split("-s \"a \\\"b\\\" c\"", "-s", "a \"b\" c");
+    split("-s \"\"", "-s", "");
+    split("-s C:\\dir\\file.xml", "-s", "C:\\dir\\file.xml");
+    split("-s a\\\\", "-s", "a\\");
+  }
+
+  public void testUnterminated() {
+    try {
+      BatchJob.split("-s \"a b");
+      fail("Unterminated quote accepted");
+    } catch (final IllegalArgumentException exception) {
+      assertEquals("Unterminated quote", exception.getMessage());
+    }
+  }
+}
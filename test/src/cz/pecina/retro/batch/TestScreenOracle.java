@@ -0,0 +1,144 @@
+/* TestScreenOracle.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.batch;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.Arrays;
+
+import java.util.function.LongSupplier;
+
+import junit.framework.TestCase;
+
+public class TestScreenOracle extends TestCase {
+
+  // supplies hash n on the n-th call, counting the calls
+  static class Screen implements LongSupplier {
+    int calls;
+
+    @Override
+    public long getAsLong() {
+      return ++calls;
+    }
+  }
+
+  // supplies the frame number as the hash
+  static class Frames implements LongSupplier {
+    final ScreenOracle oracle;
+
+    Frames(final ScreenOracle oracle) {
+      this.oracle = oracle;
+    }
+
+    @Override
+    public long getAsLong() {
+      return oracle.getFrame();
+    }
+  }
+
+  public void testInterval() {
+    final ScreenOracle oracle = new ScreenOracle(3);
+    final Screen screen = new Screen();
+    for (int i = 0; i < 9; i++) {
+      assertEquals(ScreenOracle.State.RUNNING, oracle.frame(screen));
+    }
+    assertEquals(0, screen.calls);
+    oracle.setRecording(true);
+    for (int i = 0; i < 9; i++) {
+      oracle.frame(screen);
+    }
+    assertEquals(18, oracle.getFrame());
+    assertEquals(3, screen.calls);
+  }
+
+  public void testRecording() {
+    final ScreenOracle oracle = new ScreenOracle(2);
+    oracle.setRecording(true);
+    final Frames screen = new Frames(oracle);
+    for (int i = 0; i < 7; i++) {
+      oracle.frame(screen);
+    }
+    assertTrue(Arrays.equals(new long[] {2, 4, 6}, oracle.getRecorded()));
+  }
+
+  public void testMatched() {
+    final ScreenOracle oracle = new ScreenOracle(2);
+    oracle.setExpected(new long[] {2, 4});
+    final Frames screen = new Frames(oracle);
+    assertFalse(oracle.isComplete());
+    for (int i = 0; i < 3; i++) {
+      assertEquals(ScreenOracle.State.RUNNING, oracle.frame(screen));
+    }
+    assertFalse(oracle.isComplete());
+    assertEquals(ScreenOracle.State.MATCHED, oracle.frame(screen));
+    assertTrue(oracle.isComplete());
+    assertEquals(ScreenOracle.State.RUNNING, oracle.frame(screen));
+  }
+
+  public void testMismatch() {
+    final ScreenOracle oracle = new ScreenOracle(1);
+    oracle.setExpected(new long[] {1, 3});
+    final Frames screen = new Frames(oracle);
+    assertEquals(ScreenOracle.State.RUNNING, oracle.frame(screen));
+    try {
+      oracle.frame(screen);
+      fail("Mismatch accepted");
+    } catch (final IllegalStateException exception) {
+      assertEquals("Screen hash mismatch at frame 2: 0000000000000002, " +
+		   "expected 0000000000000003", exception.getMessage());
+    }
+    assertFalse(oracle.isComplete());
+  }
+
+  public void testFound() {
+    final ScreenOracle oracle = new ScreenOracle(4);
+    oracle.setStopHash(3);
+    assertTrue(oracle.hasStopHash());
+    final Screen screen = new Screen();
+    assertEquals(ScreenOracle.State.RUNNING, oracle.frame(screen));
+    assertEquals(ScreenOracle.State.RUNNING, oracle.frame(screen));
+    assertEquals(ScreenOracle.State.FOUND, oracle.frame(screen));
+    assertEquals(3, screen.calls);
+  }
+
+  public void testFoundSampled() {
+    final ScreenOracle oracle = new ScreenOracle(2);
+    oracle.setRecording(true);
+    oracle.setStopHash(2);
+    final Screen screen = new Screen();
+    assertEquals(ScreenOracle.State.RUNNING, oracle.frame(screen));
+    assertEquals(ScreenOracle.State.FOUND, oracle.frame(screen));
+    assertEquals(2, screen.calls);
+    assertTrue(Arrays.equals(new long[] {2}, oracle.getRecorded()));
+  }
+
+  public void testReadWrite() throws IOException {
+    final File file = File.createTempFile("test", ".txt");
+    try {
+      final long[] hashes = new long[] {0, 1, -1, 0x123456789abcdefL};
+      ScreenOracle.write(file, hashes);
+      assertTrue(Arrays.equals(hashes, ScreenOracle.read(file)));
+    } finally {
+      file.delete();
+    }
+  }
+}
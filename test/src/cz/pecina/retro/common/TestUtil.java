@@ -143,4 +143,13 @@ public class TestUtil extends TestCase {
 	for (double[] value: values)
 	    assertEquals(value[3], Util.limit(value[0], value[1], value[2]), 0.0);
     }
+
+    public void testHash() {
+	final byte[] data = "xfoobar".getBytes();
+	assertEquals(0xcbf29ce484222325L, Util.hash(Util.HASH_SEED, data, 1, 0));
+	assertEquals(0xaf63dc4c8601ec8cL, Util.hash(Util.HASH_SEED, data, 5, 1));
+	assertEquals(0x85944171f73967e8L, Util.hash(Util.HASH_SEED, data, 1, 6));
+	assertEquals(Util.hash(Util.HASH_SEED, data, 1, 6),
+		     Util.hash(Util.hash(Util.HASH_SEED, data, 1, 2), data, 3, 4));
+    }
 }
@@ -0,0 +1,179 @@
+/* TestBreakpoints.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import junit.framework.TestCase;
+
+import cz.pecina.retro.common.MachineContext;
+
+public class TestBreakpoints extends TestCase {
+
+  // number of cycles run if no breakpoint is hit
+  private static final long CYCLES = 1000;
+
+  private SimpleMemory mem;
+  private byte[] ram;
+  private Intel8080A cpu;
+  private Breakpoints breakpoints;
+
+  @Override
+  protected void setUp() {
+    new MachineContext("TEST").bind();
+    mem = new SimpleMemory("TEST_MEM", 0, 0);
+    ram = mem.memory;
+    cpu = new Intel8080A("TEST_CPU");
+    cpu.setMemory(mem);
+    breakpoints = new Breakpoints();
+  }
+
+  @Override
+  protected void tearDown() {
+    MachineContext.unbind();
+  }
+
+  // stores code at address 0
+  private void load(final int... code) {
+    for (int i = 0; i < code.length; i++) {
+      ram[i] = (byte)code[i];
+    }
+  }
+
+  // runs the processor from address 0
+  private void runFrom0(final Breakpoints breakpoints) {
+    cpu.setPC(0);
+    cpu.exec(CYCLES, 0, breakpoints);
+  }
+
+  public void testExecute() {
+    breakpoints.add(3);
+    assertTrue(breakpoints.contains(3));
+    runFrom0(breakpoints);
+    assertEquals(3, cpu.getPC());
+    assertFalse(breakpoints.isTriggered());
+    breakpoints.remove(3);
+    assertFalse(breakpoints.contains(3));
+    runFrom0(breakpoints);
+    assertTrue(cpu.getPC() > 3);
+  }
+
+  public void testMemoryRead() {
+    load(0x3a, 0x00, 0x10, 0x32, 0x00, 0x20);  // LDA 1000h; STA 2000h
+    breakpoints.addMemoryWatchpoint(0x2000, Breakpoints.READ);
+    runFrom0(breakpoints);
+    assertFalse(breakpoints.isTriggered());
+    breakpoints.addMemoryWatchpoint(0x1000, Breakpoints.READ);
+    runFrom0(breakpoints);
+    assertTrue(breakpoints.isTriggered());
+    assertEquals(0x1000, breakpoints.getTriggerAddress());
+    assertEquals(3, cpu.getPC());
+  }
+
+  public void testMemoryWrite() {
+    ram[0x1000] = 0x42;
+    load(0x3a, 0x00, 0x10, 0x32, 0x00, 0x20);  // LDA 1000h; STA 2000h
+    breakpoints.addMemoryWatchpoint(0x1000, Breakpoints.WRITE);
+    breakpoints.addMemoryWatchpoint(0x2000, Breakpoints.WRITE);
+    runFrom0(breakpoints);
+    assertTrue(breakpoints.isTriggered());
+    assertEquals(0x2000, breakpoints.getTriggerAddress());
+    assertEquals(6, cpu.getPC());
+    assertEquals(0x42, ram[0x2000]);
+  }
+
+  public void testFetch() {
+    breakpoints.addMemoryWatchpoint(2, Breakpoints.READ);
+    runFrom0(breakpoints);
+    assertTrue(breakpoints.isTriggered());
+    assertEquals(2, breakpoints.getTriggerAddress());
+    assertEquals(3, cpu.getPC());
+  }
+
+  public void testRemoveMemoryWatchpoint() {
+    breakpoints.addMemoryWatchpoint(2, Breakpoints.READ | Breakpoints.WRITE);
+    breakpoints.removeMemoryWatchpoint(2, Breakpoints.READ);
+    runFrom0(breakpoints);
+    assertFalse(breakpoints.isTriggered());
+    breakpoints.removeMemoryWatchpoint(2, Breakpoints.WRITE);
+    breakpoints.add(2);
+    breakpoints.removeMemoryWatchpoint(2, Breakpoints.READ);
+    assertTrue(breakpoints.contains(2));
+  }
+
+  public void testPorts() {
+    load(0xd3, 0x20, 0xdb, 0x21);  // OUT 20h; IN 21h
+    breakpoints.addPortWatchpoint(0x20, Breakpoints.READ);
+    breakpoints.addPortWatchpoint(0x21, Breakpoints.WRITE);
+    runFrom0(breakpoints);
+    assertFalse(breakpoints.isTriggered());
+    breakpoints.addPortWatchpoint(0x20, Breakpoints.WRITE);
+    runFrom0(breakpoints);
+    assertTrue(breakpoints.isTriggered());
+    assertEquals(0x20, breakpoints.getTriggerAddress());
+    assertEquals(2, cpu.getPC());
+    breakpoints.removePortWatchpoint(0x20, Breakpoints.WRITE);
+    breakpoints.addPortWatchpoint(0x21, Breakpoints.READ);
+    runFrom0(breakpoints);
+    assertTrue(breakpoints.isTriggered());
+    assertEquals(0x21, breakpoints.getTriggerAddress());
+    assertEquals(4, cpu.getPC());
+    assertEquals(0xff, cpu.getA());
+  }
+
+  public void testDetach() {
+    load(0xd3, 0x20, 0x3a, 0x00, 0x10);  // OUT 20h; LDA 1000h
+    breakpoints.addPortWatchpoint(0x20, Breakpoints.WRITE);
+    breakpoints.addMemoryWatchpoint(0x1000, Breakpoints.READ);
+    runFrom0(breakpoints);
+    assertTrue(breakpoints.isTriggered());
+    assertSame(mem, cpu.memory);
+    breakpoints.clear();
+    runFrom0(null);
+    assertFalse(breakpoints.isTriggered());
+    assertEquals(-1, breakpoints.getTriggerAddress());
+  }
+
+  public void testDetachOnException() {
+    load(0xd3, 0x10, 0xd3, 0x20);  // OUT 10h; OUT 20h
+    final IOElement failing = new IOElement() {
+	@Override
+	public int portInput(final int port) {
+	  return 0xff;
+	}
+	@Override
+	public void portOutput(final int port, final int data) {
+	  throw new IllegalStateException("Failing port");
+	}
+      };
+    cpu.addIOOutput(0x10, failing);
+    breakpoints.addPortWatchpoint(0x20, Breakpoints.WRITE);
+    breakpoints.addMemoryWatchpoint(0x1000, Breakpoints.READ);
+    try {
+      runFrom0(breakpoints);
+      fail("Exception not propagated");
+    } catch (final IllegalStateException exception) {
+    }
+    assertSame(mem, cpu.memory);
+    cpu.removeIOOutput(0x10, failing);
+    breakpoints.clear();
+    runFrom0(null);
+    assertFalse(breakpoints.isTriggered());
+  }
+}
@@ -0,0 +1,159 @@
+/* TestCPUEventQueue.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.         
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import java.util.List;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import cz.pecina.retro.common.MachineContext;
+
+public class TestCPUEventQueue extends TestCase {
+
+  CPUEventQueue queue;
+  List<String> fired;
+
+  // event owner recording the fired events
+  private class Owner implements CPUEventOwner {
+    final String name;
+    Owner(final String name) {
+      this.name = name;
+    }
+    @Override
+    public void performEvent(final int parameter, final long delay) {
+      fired.add(name + parameter + "/" + delay);
+    }
+  }
+
+  @Override
+  protected void setUp() {
+    queue = new CPUEventQueue();
+    fired = new ArrayList<>();
+  }
+
+  public void testOrder() {
+    final Owner a = new Owner("a");
+    queue.add(a, 30, 3);
+    queue.add(a, 10, 1);
+    queue.add(a, 20, 2);
+    assertEquals(10, queue.getNextDeadline());
+    queue.run(9);
+    assertTrue(fired.isEmpty());
+    queue.run(25);
+    assertEquals(Arrays.asList("a1/15", "a2/5"), fired);
+    assertEquals(30, queue.getNextDeadline());
+    queue.run(30);
+    assertEquals(3, fired.size());
+    assertEquals(0, queue.size());
+    assertEquals(Long.MAX_VALUE, queue.getNextDeadline());
+  }
+
+  public void testFifo() {
+    final Owner a = new Owner("a"), b = new Owner("b");
+    for (int i = 0; i < 100; i++) {
+      queue.add(((i & 1) == 0) ? a : b, 5, i);
+    }
+    queue.run(5);
+    assertEquals(100, fired.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals((((i & 1) == 0) ? "a" : "b") + i + "/0", fired.get(i));
+    }
+  }
+
+  public void testRemoveAll() {
+    final Owner a = new Owner("a"), b = new Owner("b");
+    queue.add(a, 10, 0);
+    queue.add(b, 5, 0);
+    queue.add(a, 3, 0);
+    queue.add(b, 7, 0);
+    assertEquals(3, queue.getNextTime(a));
+    assertEquals(5, queue.getNextTime(b));
+    queue.removeAll(a);
+    assertEquals(-1, queue.getNextTime(a));
+    assertEquals(5, queue.getNextDeadline());
+    queue.run(100);
+    assertEquals(Arrays.asList("b0/95", "b0/93"), fired);
+  }
+
+  public void testRandom() {
+    final Random random = new Random(1);
+    final Owner a = new Owner("a");
+    final CPUEventOwner checker = new CPUEventOwner() {
+	long last = -1;
+	@Override
+	public void performEvent(final int parameter, final long delay) {
+	  assertTrue(parameter >= last);
+	  last = parameter;
+	}
+      };
+    for (int i = 0; i < 10000; i++) {
+      final int time = random.nextInt(1000) + 1;
+      queue.add(checker, time, time);
+      if ((i % 7) == 0) {
+	queue.add(a, time, 0);
+      }
+    }
+    queue.removeAll(a);
+    queue.run(1000);
+    assertEquals(0, queue.size());
+  }
+
+  public void testReschedule() {
+    final Owner a = new Owner("a");
+    final CPUEventOwner b = new CPUEventOwner() {
+	long time = 0;
+	@Override
+	public void performEvent(final int parameter, final long delay) {
+	  fired.add("b" + parameter);
+	  queue.removeAll(a);
+	  time += 10;
+	  queue.add(this, time, parameter + 1);
+	  queue.add(a, time, 0);
+	}
+      };
+    queue.add(b, 0, 0);
+    queue.add(a, 5, 0);
+    queue.run(35);
+    assertEquals(Arrays.asList("b0", "b1", "b2", "b3"), fired);
+    assertEquals(40, queue.getNextTime(a));
+    assertEquals(2, queue.size());
+  }
+
+  public void testContexts() {
+    final Owner a = new Owner("a"), b = new Owner("b");
+    final MachineContext context1 = new MachineContext("1");
+    final MachineContext context2 = new MachineContext("2");
+    context1.setSystemClockSource(() -> 100);
+    context2.setSystemClockSource(() -> 200);
+    context1.run(() -> CPUScheduler.addEventRelative(a, 10));
+    context2.run(() -> CPUScheduler.addEventRelative(b, 10));
+    assertEquals(110, context1.getScheduler().getNextDeadline());
+    assertEquals(210, context2.getScheduler().getNextDeadline());
+    assertEquals(-1, context1.getScheduler().getNextTime(b));
+    assertSame(MachineContext.getDefault(), MachineContext.getCurrent());
+    context2.run(() -> CPUScheduler.runSchedule(210));
+    assertEquals(Arrays.asList("b0/0"), fired);
+    assertEquals(1, context1.getScheduler().size());
+  }
+}
@@ -0,0 +1,58 @@
+/* TestDirtyMap.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import junit.framework.TestCase;
+
+public class TestDirtyMap extends TestCase {
+
+  SimpleMemory mem;
+  DirtyMap map;
+
+  @Override
+  protected void setUp() {
+    mem = new SimpleMemory("TEST_MEM", 8, 16);
+    map = mem.getBlockByName("COMBINED").getDirtyMap();
+  }
+
+  public void testMark() {
+    assertNotNull(map);
+    assertEquals(PagedMemory.NUMBER_PAGES, map.getNumberPages());
+    assertEquals(PagedMemory.NUMBER_PAGES, map.countDirty(0));
+    final int since = map.newEpoch();
+    assertEquals(0, map.countDirty(since));
+    mem.setByte(0x0400, 0x12);
+    mem.setByte(0x07ff, 0x34);
+    mem.setByte(0x2000, 0x56);
+    mem.setByte(0xffff, 0x78);
+    assertEquals(2, map.countDirty(since));
+    assertTrue(map.isDirty(0x01, since));
+    assertFalse(map.isDirty(0x08, since));
+    assertTrue(map.isDirty(0x3f, since));
+    final int next = map.newEpoch();
+    assertEquals(0, map.countDirty(next));
+    assertEquals(2, map.countDirty(since));
+    map.mark(0x0bff, 2);
+    assertEquals(2, map.countDirty(next));
+    mem.getBlockByName("COMBINED").markDirty();
+    assertEquals(PagedMemory.NUMBER_PAGES, map.countDirty(next));
+  }
+}
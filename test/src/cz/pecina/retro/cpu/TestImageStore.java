@@ -0,0 +1,44 @@
+/* TestImageStore.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import junit.framework.TestCase;
+
+public class TestImageStore extends TestCase {
+
+  public void testIntern() {
+    final byte[] a = {1, 2, 3, 4};
+    final byte[] b = {1, 2, 3, 4};
+    final byte[] shared = ImageStore.intern(a);
+    assertSame(shared, ImageStore.intern(b));
+    assertSame(shared, ImageStore.intern(new byte[] {1, 2, 3, 4}));
+    assertNotSame(shared, ImageStore.intern(new byte[] {1, 2, 3, 5}));
+  }
+
+  public void testPad() {
+    final byte[] image = ImageStore.intern(new byte[] {0x12, 0x34}, 4);
+    assertEquals(4, image.length);
+    assertEquals(0x34, image[1]);
+    assertEquals((byte)0xff, image[2]);
+    assertEquals((byte)0xff, image[3]);
+    assertSame(image, ImageStore.intern(new byte[] {0x12, 0x34, -1, -1}));
+  }
+}
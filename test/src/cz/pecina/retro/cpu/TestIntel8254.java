@@ -43,7 +43,7 @@ public class TestIntel8254 extends TestCase {
       outs[i] = new IONode();
       outs[i].add(pit.getOutPin(i));
     }
-    Parameters.systemClockSource = clock;
+    Parameters.setSystemClockSource(clock);
   }
 
   // counter status
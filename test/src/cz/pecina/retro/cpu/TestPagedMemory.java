@@ -0,0 +1,96 @@
+/* TestPagedMemory.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import junit.framework.TestCase;
+
+public class TestPagedMemory extends TestCase {
+
+  byte[] backing;
+  int sideEffects;
+  PagedMemory mem;
+
+  @Override
+  protected void setUp() {
+    backing = new byte[0x10000];
+    sideEffects = 0;
+    mem = new PagedMemory("TEST_MEM") {
+	{
+	  for (int page = 0; page < NUMBER_PAGES; page++) {
+	    mapRead(page, backing, page * PAGE_SIZE);
+	    if (page != 1) {
+	      mapWrite(page, backing, page * PAGE_SIZE);
+	    }
+	  }
+	  setReadSideEffects(2, true);
+	  setWriteSideEffects(3, true);
+	}
+	@Override
+	protected int readSideEffects(final int address) {
+	  return address & 0xff;
+	}
+	@Override
+	protected void writeSideEffects(final int address, final int data) {
+	  assertEquals(address & 0xff, data);
+	  sideEffects++;
+	}
+      };
+  }
+
+  public void testWrite() {
+    final byte[] data = new byte[0x1000];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte)i;
+    }
+    mem.write(0x0000, data, 0, data.length);
+    assertEquals(0x00, backing[0x0400]);
+    assertEquals(0x01, backing[0x0001]);
+    assertEquals(0x01, backing[0x0c01]);
+    assertEquals(0x400, sideEffects);
+    mem.write(0xfff0, data, 0, 0x20);
+    assertEquals(0x0f, backing[0xffff]);
+    assertEquals(0x10, backing[0x0000]);
+  }
+
+  public void testRead() {
+    for (int i = 0; i < backing.length; i++) {
+      backing[i] = (byte)(i >> 8);
+    }
+    final byte[] data = new byte[0x1000];
+    mem.read(0xff00, data, 0, data.length);
+    assertEquals(0xff, data[0] & 0xff);
+    assertEquals(0x00, data[0x100]);
+    assertEquals(0x04, data[0x500]);
+    assertEquals(0x34, data[0x934]);
+    for (int i = 0; i < data.length; i++) {
+      assertEquals(mem.getByte((0xff00 + i) & 0xffff), data[i] & 0xff);
+    }
+  }
+
+  public void testFill() {
+    mem.fill(0x03f0, 0xa5, 0x20);
+    assertEquals(0xa5, backing[0x03ff] & 0xff);
+    assertEquals(0x00, backing[0x0400]);
+    assertEquals(0x00, backing[0x03ef]);
+    mem.fill(0x1000, 0xa5, 0x10);
+    assertEquals(0xa5, backing[0x100f] & 0xff);
+  }
+}
@@ -0,0 +1,90 @@
+/* TestRewindBuffer.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.cpu;
+
+import junit.framework.TestCase;
+
+public class TestRewindBuffer extends TestCase {
+
+  Hardware hardware;
+  SimpleMemory mem;
+
+  @Override
+  protected void setUp() {
+    hardware = new Hardware("TEST");
+    mem = new SimpleMemory("TEST_MEM", 0, 0);
+    hardware.add(mem);
+  }
+
+  public void testSaveState() {
+    mem.setByte(0x1234, 0x56);
+    mem.setStartROM(4);
+    final SaveState state = hardware.saveState();
+    mem.setByte(0x1234, 0x78);
+    mem.setStartROM(8);
+    hardware.restoreState(state);
+    assertEquals(0x56, mem.getByte(0x1234));
+    assertEquals(4, mem.getStartROM());
+  }
+
+  public void testFill() {
+    final SaveState state = new SaveState(hardware);
+    mem.setByte(0x1234, 0x56);
+    state.capture();
+    mem.getBlockByName("COMBINED").fill((byte)0);
+    state.capture();
+    for (byte[] buffer: state.buffers) {
+      if (buffer != null) {
+	for (byte b: buffer) {
+	  assertEquals(0, b);
+	}
+      }
+    }
+    mem.setByte(0x1234, 0x78);
+    state.restore();
+    assertEquals(0, mem.getByte(0x1234));
+  }
+
+  public void testRewind() {
+    final RewindBuffer buffer = new RewindBuffer(hardware, 3, 2);
+    assertEquals(0, buffer.getNumberStates());
+    for (int i = 0; i < 10; i++) {
+      mem.setByte(i * 0x1000, i + 1);
+      mem.setByte((i * 0x1000) + 0x20, i + 1);
+      mem.setStartROM(i);
+      buffer.frame();
+      buffer.frame();
+    }
+    assertEquals(3, buffer.getNumberStates());
+    assertFalse(buffer.rewind(3));
+    mem.setByte(0xffff, 0xaa);
+    assertTrue(buffer.rewind(0));
+    assertEquals(0, mem.getByte(0xffff));
+    assertEquals(10, mem.getByte(0x9000));
+    assertTrue(buffer.rewind(2));
+    assertEquals(1, buffer.getNumberStates());
+    assertEquals(7, mem.getStartROM());
+    assertEquals(8, mem.getByte(0x7000));
+    assertEquals(8, mem.getByte(0x7020));
+    assertEquals(0, mem.getByte(0x8000));
+    assertEquals(0, mem.getByte(0x9020));
+  }
+}
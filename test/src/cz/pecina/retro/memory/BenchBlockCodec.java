@@ -0,0 +1,165 @@
+/* BenchBlockCodec.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.pecina.retro.memory;
+
+import java.util.Random;
+
+import org.jdom2.Element;
+
+/**
+ * Throughput benchmark of the block codec on 64KB blocks, compared
+ * with the byte-by-byte encoder using {@code String.format} and
+ * the decoder using {@code Integer.parseInt}, as used previously.
+ * <p>
+ * Usage: {@code BenchBlockCodec [iterations]}
+ */
+public class BenchBlockCodec {
+
+  // cut-off number of equal bytes
+  private static final int COUNT_LIMIT = 7;
+
+  // byte-by-byte reference encoder
+  private static void encodeReference(final byte[] memory,
+				      final Element tag,
+				      final int startAddress,
+				      final int number) {
+    final int size = memory.length;
+    boolean inSequence = false;
+    StringBuilder data = new StringBuilder();
+    Element bytes;
+    for (int i = 0, j = 0; i < number;) {
+      final int memoryI = memory[(startAddress + i) % size] & 0xff;
+      final int remain = number - i;
+      boolean compress = false;
+      if (remain >= COUNT_LIMIT) {
+	compress = true;
+	for (j = 0; j < COUNT_LIMIT; j++) {
+	  if (memoryI != (memory[(startAddress + i + j) % size] & 0xff)) {
+	    compress = false;
+	    break;
+	  }
+	}
+      }
+      if (compress) {
+	for (; j < remain; j++) {
+	  if (memoryI != (memory[(startAddress + i + j) % size] & 0xff)) {
+	    break;
+	  }
+	}
+	if (inSequence) {
+	  bytes = new Element("bytes");
+	  bytes.addContent(data.toString());
+	  tag.addContent(bytes);
+	  data = new StringBuilder();
+	}
+	inSequence = false;
+	bytes = new Element("bytes");
+	bytes.setAttribute("count", String.valueOf(j));
+	bytes.addContent(String.format("%02x", memoryI));
+	tag.addContent(bytes);
+	i += j;
+      } else {
+	if (!inSequence) {
+	  data = new StringBuilder();
+	}
+	data.append(String.format("%02x", memoryI));
+	inSequence = true;
+	i++;
+      }
+    }
+    if (inSequence) {
+      bytes = new Element("bytes");
+      bytes.addContent(data.toString());
+      tag.addContent(bytes);
+    }
+  }
+
+  // byte-by-byte reference decoder
+  private static void decodeReference(final byte[] memory,
+				       final Element tag,
+				       int startAddress) {
+    final int size = memory.length;
+    for (Element bytes: tag.getChildren("bytes")) {
+      final String string = bytes.getTextTrim();
+      final String count = bytes.getAttributeValue("count");
+      for (int n = (count == null) ? 1 : Integer.parseInt(count); n > 0; n--) {
+	for (int i = 0; i < (string.length() / 2); i++) {
+	  startAddress &= 0xffff;
+	  memory[startAddress % size] = (byte)Integer.parseInt(
+	    string.substring(i * 2, (i + 1) * 2), 16);
+	  startAddress++;
+	}
+      }
+    }
+  }
+
+  public static void main(final String[] args) {
+    final int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 50;
+    final byte[] memory = new byte[0x10000];
+    final Random random = new Random(1);
+
+    // first half random, second half runs of random length
+    random.nextBytes(memory);
+    for (int i = 0x8000; i < memory.length; i += random.nextInt(0x20) + 1) {
+      memory[i] = (byte)random.nextInt(4);
+    }
+    for (int i = 0x8001; i < memory.length; i++) {
+      if (memory[i] != 0) {
+	memory[i] = memory[i - 1];
+      }
+    }
+    final byte[] copy = new byte[0x10000];
+
+    for (int pass = 0; pass < 2; pass++) {
+      Element tag = null;
+      long start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+	tag = new Element("block");
+	encodeReference(memory, tag, 0, 0x10000);
+      }
+      report("reference encode", iterations, System.nanoTime() - start);
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+	tag = new Element("block");
+	BlockCodec.encode(memory, tag, 0, 0x10000);
+      }
+      report("encode", iterations, System.nanoTime() - start);
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+	decodeReference(copy, tag, 0);
+      }
+      report("reference decode", iterations, System.nanoTime() - start);
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+	BlockCodec.decode(copy, tag, 0);
+      }
+      report("decode", iterations, System.nanoTime() - start);
+    }
+  }
+
+  // prints the throughput
+  private static void report(final String name,
+			     final int iterations,
+			     final long nanoseconds) {
+    System.out.printf("%-16s %8.1f MB/s%n",
+		      name,
+		      (iterations * (double)0x10000 * 1e3) / nanoseconds);
+  }
+}
@@ -0,0 +1,115 @@
+/* BenchIntelHEX.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.io.File;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+
+import java.util.Random;
+
+import cz.pecina.retro.common.Parameters;
+
+import cz.pecina.retro.cpu.SimpleMemory;
+
+/**
+ * Throughput benchmark of the Intel HEX reader, compared with
+ * a line-based reader parsing every byte with
+ * {@code Integer.parseInt}, as used previously.
+ * <p>
+ * Usage: {@code BenchIntelHEX [iterations]}
+ */
+public class BenchIntelHEX {
+
+  // line-based reference reader
+  private static int readReference(final File file, final byte[] memory)
+    throws IOException {
+    int number = 0;
+    try (final BufferedReader reader =
+	 new BufferedReader(new FileReader(file))) {
+      int recordType;
+      do {
+	final String line = reader.readLine();
+	final int recordLength = Integer.parseInt(line.substring(1, 3), 16);
+	final int recordAddress = Integer.parseInt(line.substring(3, 7), 16);
+	recordType = Integer.parseInt(line.substring(7, 9), 16);
+	int checkSum =
+	  recordLength + recordAddress + (recordAddress >> 8) + recordType;
+	for (int i = 0;; i++) {
+	  final int data =
+	    Integer.parseInt(line.substring(9 + (i * 2), 11 + (i * 2)), 16);
+	  checkSum += data;
+	  if (i == recordLength) {
+	    break;
+	  }
+	  memory[(recordAddress + i) & 0xffff] = (byte)data;
+	  number++;
+	}
+	if ((checkSum & 0xff) != 0) {
+	  throw new IOException("Bad check sum");
+	}
+      } while (recordType != 0x01);
+    }
+    return number;
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 200;
+    final SimpleMemory mem = new SimpleMemory("BENCH_MEM", 0, 0);
+    Parameters.setMemoryDevice(mem);
+    final byte[] memory = mem.getBlockByName("COMBINED").getMemory();
+    new Random(1).nextBytes(memory);
+    final File file = File.createTempFile("bench", ".hex");
+    file.deleteOnExit();
+    final IntelHEX hex = new IntelHEX(null, "COMBINED", "COMBINED");
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      hex.write(file, 0, 0x10000);
+    }
+    report("write", iterations, file.length(), System.nanoTime() - start);
+
+    for (int pass = 0; pass < 2; pass++) {
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+	readReference(file, memory);
+      }
+      report("reference read", iterations, file.length(),
+	     System.nanoTime() - start);
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+	hex.read(file);
+      }
+      report("read", iterations, file.length(), System.nanoTime() - start);
+    }
+  }
+
+  // prints the throughput
+  private static void report(final String name,
+			     final int iterations,
+			     final long size,
+			     final long nanoseconds) {
+    System.out.printf("%-16s %8.1f MB/s%n",
+		      name,
+		      (iterations * (double)size * 1e3) / nanoseconds);
+  }
+}
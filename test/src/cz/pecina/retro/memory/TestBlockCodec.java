@@ -0,0 +1,103 @@
+/* TestBlockCodec.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.pecina.retro.memory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.jdom2.Element;
+
+import cz.pecina.retro.common.Application;
+
+public class TestBlockCodec extends TestCase {
+
+  @Override
+  protected void setUp() {
+    Application.setLocale(Locale.ROOT);
+    Application.addModule(Snapshot.class);
+  }
+
+  public void testEncode() {
+    final byte[] memory = new byte[0x20];
+    Arrays.fill(memory, (byte)0xe5);
+    memory[0x10] = 1;
+    memory[0x11] = (byte)0xab;
+    final Element tag = new Element("block");
+    BlockCodec.encode(memory, tag, 0x18, 0x20);
+    final List<Element> bytes = tag.getChildren("bytes");
+    assertEquals(2, bytes.size());
+    assertEquals("e5", bytes.get(0).getText());
+    assertEquals("24", bytes.get(0).getAttributeValue("count"));
+    assertEquals("01abe5e5e5e5e5e5", bytes.get(1).getText());
+    assertNull(bytes.get(1).getAttributeValue("count"));
+  }
+
+  public void testRoundTrip() {
+    final Random random = new Random(1);
+    final byte[] memory = new byte[0x4000];
+    for (int i = 0; i < memory.length; i += random.nextInt(0x40)) {
+      Arrays.fill(memory,
+		  i,
+		  Math.min(i + random.nextInt(0x20), memory.length),
+		  (byte)random.nextInt());
+    }
+    final Element tag = new Element("block");
+    BlockCodec.encode(memory, tag, 0x1000, 0x4000);
+    final byte[] copy = new byte[0x4000];
+    final Info info = BlockCodec.decode(copy, tag, 0x1000);
+    assertTrue(Arrays.equals(memory, copy));
+    assertEquals(0x4000, info.number);
+    assertEquals(0x1000, info.minAddress);
+    assertEquals(0x4fff, info.maxAddress);
+  }
+
+  public void testWrapAround() {
+    final Element tag = new Element("block");
+    final Element bytes = new Element("bytes");
+    bytes.setAttribute("count", "3");
+    bytes.addContent("1234");
+    tag.addContent(bytes);
+    final byte[] memory = new byte[0x1000];
+    final Info info = BlockCodec.decode(memory, tag, 0xfffe);
+    assertEquals(0x12, memory[0xffe]);
+    assertEquals(0x34, memory[0xfff]);
+    assertEquals(0x12, memory[0]);
+    assertEquals(0x34, memory[3]);
+    assertEquals(6, info.number);
+    assertEquals(0, info.minAddress);
+    assertEquals(0xffff, info.maxAddress);
+  }
+
+  public void testInvalid() {
+    final Element tag = new Element("block");
+    final Element bytes = new Element("bytes");
+    bytes.addContent("12g4");
+    tag.addContent(bytes);
+    try {
+      BlockCodec.decode(new byte[0x100], tag, 0);
+      fail();
+    } catch (final RuntimeException exception) {
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/* TestIntelHEX.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import cz.pecina.retro.common.Application;
+import cz.pecina.retro.common.Parameters;
+
+import cz.pecina.retro.cpu.SimpleMemory;
+
+public class TestIntelHEX extends TestCase {
+
+  SimpleMemory mem;
+  byte[] memory;
+  File file;
+
+  @Override
+  protected void setUp() throws IOException {
+    Application.setLocale(Locale.ROOT);
+    Application.addModule(IntelHEX.class);
+    mem = new SimpleMemory("TEST_MEM", 0, 0);
+    Parameters.setMemoryDevice(mem);
+    memory = mem.getBlockByName("COMBINED").getMemory();
+    file = File.createTempFile("test", ".hex");
+  }
+
+  @Override
+  protected void tearDown() {
+    file.delete();
+  }
+
+  IntelHEX hex() {
+    return new IntelHEX(null, "COMBINED", "COMBINED");
+  }
+
+  void writeFile(final String... lines) throws IOException {
+    Files.write(file.toPath(), Arrays.asList(lines));
+  }
+
+  public void testRoundTrip() {
+    new Random(1).nextBytes(memory);
+    final byte[] copy = memory.clone();
+    hex().write(file, 0xfff8, 0x1234, 0x8000);
+    Arrays.fill(memory, (byte)0);
+    final Info info = hex().read(file);
+    assertEquals(0x1234, info.number);
+    assertEquals(0x8000, info.minAddress);
+    assertEquals(0x9233, info.maxAddress);
+    for (int i = 0; i < 0x1234; i++) {
+      assertEquals(copy[(0xfff8 + i) & 0xffff], memory[0x8000 + i]);
+    }
+    assertEquals(0, memory[0x7fff]);
+    assertEquals(0, memory[0x9234]);
+  }
+
+  public void testSegmentBoundary() throws IOException {
+    new Random(2).nextBytes(memory);
+    final byte[] copy = memory.clone();
+    hex().write(file, 0xfff0, 0x20, 0xfff0);
+    assertTrue(new String(Files.readAllBytes(file.toPath()))
+	       .contains(":020000040001F9"));
+    Arrays.fill(memory, (byte)0);
+    final Info info = hex().read(file);
+    assertEquals(0x20, info.number);
+    assertEquals(copy[0xffff], memory[0xffff]);
+    assertEquals(copy[0x000f], memory[0x000f]);
+  }
+
+  public void testExtendedRecords() throws IOException {
+    writeFile(":020000040001F9",
+	      ":0212340001020",
+	      ":00000001FF");
+    try {
+      hex().read(file);
+      fail();
+    } catch (final RuntimeException exception) {
+    }
+    writeFile(":020000040001F9",
+	      ":02123400abcd40",
+	      ":020000021000EC",
+	      ":010010007778",
+	      ":0400000500001C00DB",
+	      ":00000001FF");
+    final Info info = hex().read(file);
+    assertEquals(3, info.number);
+    assertEquals(0xab, memory[0x1234] & 0xff);
+    assertEquals(0xcd, memory[0x1235] & 0xff);
+    assertEquals(0x77, memory[0x0010] & 0xff);
+    assertEquals(0x1c00, info.startAddress);
+  }
+
+  public void testBadCheckSum() throws IOException {
+    writeFile(":0112340012B8", ":00000001FF");
+    try {
+      hex().read(file);
+      fail();
+    } catch (final RuntimeException exception) {
+    }
+    assertEquals(0, memory[0x1234]);
+  }
+
+  public void testUnsupportedRecord() throws IOException {
+    writeFile(":00000006FA", ":00000001FF");
+    try {
+      hex().read(file);
+      fail();
+    } catch (final RuntimeException exception) {
+      assertEquals("Unsupported record type 06", exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/* TestMemorySearch.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import cz.pecina.retro.common.Parameters;
+
+import cz.pecina.retro.cpu.SimpleMemory;
+
+public class TestMemorySearch extends TestCase {
+
+  SimpleMemory mem;
+  byte[] memory;
+
+  @Override
+  protected void setUp() {
+    mem = new SimpleMemory("TEST_MEM", 0, 0);
+    Parameters.setMemoryDevice(mem);
+    memory = mem.getBlockByName("COMBINED").getMemory();
+  }
+
+  MemorySearch search() {
+    return new MemorySearch(null, "COMBINED", "COMBINED");
+  }
+
+  public void testPattern() {
+    assertEquals(3, new MemorySearch.Pattern("3e ?? 32").getLength());
+    for (String pattern: new String[] {"", "3", "3g", "?3"}) {
+      try {
+	new MemorySearch.Pattern(pattern);
+	fail("Pattern accepted: " + pattern);
+      } catch (final NumberFormatException exception) {
+      }
+    }
+  }
+
+  public void testFind() {
+    final Random random = new Random(1);
+    for (int i = 0; i < memory.length; i++) {
+      memory[i] = (byte)random.nextInt(4);
+    }
+    for (String pattern:
+	   new String[] {"01", "01??0203", "0102??0300010203??"}) {
+      final MemorySearch.Pattern p = new MemorySearch.Pattern(pattern);
+      final int[] found = search().find(0xc000, 0xffff, p);
+      int j = 0;
+      for (int i = 0; i < 0x4000; i++) {
+	final int address = 0xc000 + i;
+	if (matches(address, pattern)) {
+	  assertEquals(address, found[j++]);
+	}
+      }
+      assertEquals(found.length, j);
+    }
+  }
+
+  boolean matches(final int address, final String pattern) {
+    for (int i = 0; i < (pattern.length() / 2); i++) {
+      final String s = pattern.substring(2 * i, (2 * i) + 2);
+      if (!s.equals("??") &&
+	  (memory[(address + i) & 0xffff] != Integer.parseInt(s, 16))) {
+	return false;
+      }
+    }
+    return true;
+  }
+
+  public void testDiff() {
+    new Random(2).nextBytes(memory);
+    System.arraycopy(memory, 0x0000, memory, 0x8000, 0x8000);
+    memory[0x0003] ^= 1;
+    memory[0x8004] ^= 1;
+    memory[0x7fff] ^= 1;
+    final int[] found = search().diff(0x0000, 0x7fff, 0x8000);
+    assertEquals(3, found.length);
+    assertEquals(0x0003, found[0]);
+    assertEquals(0x0004, found[1]);
+    assertEquals(0x7fff, found[2]);
+  }
+
+  public void testChanges() {
+    final MemorySearch search = search();
+    final byte[] mark = search.mark();
+    memory[0x1000] = 5;
+    memory[0x2000] = 7;
+    memory[0xffff] = (byte)0x80;
+    int[] found = search.changes(mark, 0, 0xffff,
+				 MemorySearch.Relation.CHANGED);
+    assertEquals(3, found.length);
+    assertEquals(0xffff - 3 + 1, search.changes(
+      mark, 0, 0xffff, MemorySearch.Relation.UNCHANGED).length);
+    final byte[] mark2 = search.mark();
+    memory[0x1000] = 4;
+    memory[0x2000] = 8;
+    memory[0xffff] = 0;
+    found = search.changes(mark2, found, MemorySearch.Relation.DECREASED);
+    assertEquals(2, found.length);
+    assertEquals(0x1000, found[0]);
+    assertEquals(0xffff, found[1]);
+  }
+}
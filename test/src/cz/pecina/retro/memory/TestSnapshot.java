@@ -0,0 +1,183 @@
+/* TestSnapshot.java
+ *
+ * Copyright (C) 2015, Tomáš Pecina <tomas@pecina.cz>
+ *
+ * This file is part of cz.pecina.retro, retro 8-bit computer emulators.
+ *
+ * This application is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This application is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package cz.pecina.retro.memory;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import cz.pecina.retro.common.Application;
+import cz.pecina.retro.common.Parameters;
+
+import cz.pecina.retro.cpu.Hardware;
+import cz.pecina.retro.cpu.SimpleMemory;
+
+public class TestSnapshot extends TestCase {
+
+  Hardware hardware;
+  SimpleMemory mem;
+  byte[] memory;
+  File file;
+
+  @Override
+  protected void setUp() throws IOException {
+    Application.setLocale(Locale.ROOT);
+    Application.addModule(Snapshot.class);
+    hardware = new Hardware("TEST");
+    mem = new SimpleMemory("TEST_MEM", 0, 0);
+    hardware.add(mem);
+    Parameters.setMemoryDevice(mem);
+    memory = mem.getBlockByName("COMBINED").getMemory();
+    file = File.createTempFile("test", ".xml");
+  }
+
+  @Override
+  protected void tearDown() {
+    file.delete();
+  }
+
+  void roundTrip(final boolean validating) {
+    final Random random = new Random(1);
+    for (int i = 0; i < memory.length; i += 0x100) {
+      memory[i + random.nextInt(0x100)] = (byte)random.nextInt();
+    }
+    mem.setStartROM(4);
+    final byte[] copy = memory.clone();
+    new Snapshot(hardware).write(file);
+    new Random(2).nextBytes(memory);
+    mem.setStartROM(8);
+    final Snapshot snapshot = new Snapshot(hardware);
+    snapshot.setValidating(validating);
+    snapshot.read(file);
+    assertTrue(Arrays.equals(copy, memory));
+    assertEquals(4, mem.getStartROM());
+  }
+
+  public void testRoundTrip() {
+    roundTrip(true);
+  }
+
+  public void testRoundTripNotValidating() {
+    roundTrip(false);
+  }
+
+  void truncated(final boolean validating) throws IOException {
+    new Random(5).nextBytes(memory);
+    new Snapshot(hardware).write(file);
+    final String xml =
+      new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    Files.write(file.toPath(),
+		xml.substring(0, xml.lastIndexOf("</device>"))
+		.getBytes(StandardCharsets.UTF_8));
+    new Random(6).nextBytes(memory);
+    mem.setStartROM(8);
+    final byte[] copy = memory.clone();
+    final Snapshot snapshot = new Snapshot(hardware);
+    snapshot.setValidating(validating);
+    try {
+      snapshot.read(file);
+      fail("Truncated file accepted");
+    } catch (final RuntimeException exception) {
+    }
+    assertTrue(Arrays.equals(copy, memory));
+    assertEquals(8, mem.getStartROM());
+  }
+
+  public void testTruncated() throws IOException {
+    truncated(true);
+  }
+
+  public void testTruncatedNotValidating() throws IOException {
+    truncated(false);
+  }
+
+  public void testTruncatedBinary() throws IOException {
+    final File binary = File.createTempFile("test", ".snp");
+    try {
+      new Random(7).nextBytes(memory);
+      new Snapshot(hardware).write(binary);
+      final byte[] bytes = Files.readAllBytes(binary.toPath());
+      Files.write(binary.toPath(),
+		  Arrays.copyOf(bytes, bytes.length - 0x10));
+      new Random(8).nextBytes(memory);
+      mem.setStartROM(8);
+      final byte[] copy = memory.clone();
+      try {
+	new Snapshot(hardware).read(binary);
+	fail("Truncated file accepted");
+      } catch (final RuntimeException exception) {
+      }
+      assertTrue(Arrays.equals(copy, memory));
+      assertEquals(8, mem.getStartROM());
+    } finally {
+      binary.delete();
+    }
+  }
+
+  public void testConvert() throws IOException {
+    final File binary = File.createTempFile("test", ".snp");
+    final File xml = File.createTempFile("test", ".xml");
+    try {
+      new Random(3).nextBytes(memory);
+      mem.setStartROM(4);
+      final byte[] copy = memory.clone();
+      new Snapshot(hardware).write(file);
+      Snapshot.convert(file, binary);
+      assertTrue(BinarySnapshot.isBinary(binary));
+      Snapshot.convert(binary, xml);
+      assertTrue(Arrays.equals(Files.readAllBytes(file.toPath()),
+			       Files.readAllBytes(xml.toPath())));
+      new Random(4).nextBytes(memory);
+      mem.setStartROM(8);
+      new Snapshot(hardware).read(binary);
+      assertTrue(Arrays.equals(copy, memory));
+      assertEquals(4, mem.getStartROM());
+    } finally {
+      binary.delete();
+      xml.delete();
+    }
+  }
+
+  public void testVersion() throws IOException {
+    new Snapshot(hardware).write(file);
+    final String xml =
+      new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    Files.write(file.toPath(),
+		xml.replace("version=\"2.0\"", "version=\"1.9\"")
+		.getBytes(StandardCharsets.UTF_8));
+    final Snapshot snapshot = new Snapshot(hardware);
+    snapshot.setValidating(false);
+    try {
+      snapshot.read(file);
+      fail("Wrong version accepted");
+    } catch (final RuntimeException exception) {
+      assertEquals("Wrong version", exception.getMessage());
+    }
+  }
+}